@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -306,12 +307,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInstances(attachInstancesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachInstancesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        attachInstances(attachInstancesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -354,19 +356,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest,
             final AsyncHandler<AttachInstancesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    attachInstances(attachInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachInstancesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachInstancesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        attachInstances(attachInstancesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -405,11 +401,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<AttachLoadBalancerTargetGroupsResult> attachLoadBalancerTargetGroupsAsync(
             final AttachLoadBalancerTargetGroupsRequest attachLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerTargetGroupsResult>() {
-            public AttachLoadBalancerTargetGroupsResult call() throws Exception {
-                return attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancerTargetGroupsRequest,
+                new Callable<AttachLoadBalancerTargetGroupsResult>() {
+                    public AttachLoadBalancerTargetGroupsResult call() throws Exception {
+                        return attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -449,19 +446,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final AttachLoadBalancerTargetGroupsRequest attachLoadBalancerTargetGroupsRequest,
             final AsyncHandler<AttachLoadBalancerTargetGroupsRequest, AttachLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerTargetGroupsResult>() {
-            public AttachLoadBalancerTargetGroupsResult call() throws Exception {
-                AttachLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancerTargetGroupsRequest, asyncHandler,
+                new Callable<AttachLoadBalancerTargetGroupsResult>() {
+                    public AttachLoadBalancerTargetGroupsResult call() throws Exception {
+                        return attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -502,11 +492,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<AttachLoadBalancersResult> attachLoadBalancersAsync(
             final AttachLoadBalancersRequest attachLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-                return attachLoadBalancers(attachLoadBalancersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancersRequest,
+                new Callable<AttachLoadBalancersResult>() {
+                    public AttachLoadBalancersResult call() throws Exception {
+                        return attachLoadBalancers(attachLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -548,19 +539,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final AttachLoadBalancersRequest attachLoadBalancersRequest,
             final AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-                AttachLoadBalancersResult result = null;
-                try {
-                    result = attachLoadBalancers(attachLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancersRequest, asyncHandler,
+                new Callable<AttachLoadBalancersResult>() {
+                    public AttachLoadBalancersResult call() throws Exception {
+                        return attachLoadBalancers(attachLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -585,11 +569,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<BatchDeleteScheduledActionResult> batchDeleteScheduledActionAsync(
             final BatchDeleteScheduledActionRequest batchDeleteScheduledActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDeleteScheduledActionResult>() {
-            public BatchDeleteScheduledActionResult call() throws Exception {
-                return batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDeleteScheduledActionRequest,
+                new Callable<BatchDeleteScheduledActionResult>() {
+                    public BatchDeleteScheduledActionResult call() throws Exception {
+                        return batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
+                    }
+                });
     }
 
     /**
@@ -615,19 +600,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final BatchDeleteScheduledActionRequest batchDeleteScheduledActionRequest,
             final AsyncHandler<BatchDeleteScheduledActionRequest, BatchDeleteScheduledActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDeleteScheduledActionResult>() {
-            public BatchDeleteScheduledActionResult call() throws Exception {
-                BatchDeleteScheduledActionResult result = null;
-                try {
-                    result = batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDeleteScheduledActionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDeleteScheduledActionRequest, asyncHandler,
+                new Callable<BatchDeleteScheduledActionResult>() {
+                    public BatchDeleteScheduledActionResult call() throws Exception {
+                        return batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
+                    }
+                });
     }
 
     /**
@@ -655,11 +633,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<BatchPutScheduledUpdateGroupActionResult> batchPutScheduledUpdateGroupActionAsync(
             final BatchPutScheduledUpdateGroupActionRequest batchPutScheduledUpdateGroupActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchPutScheduledUpdateGroupActionResult>() {
-            public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
-                return batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchPutScheduledUpdateGroupActionRequest,
+                new Callable<BatchPutScheduledUpdateGroupActionResult>() {
+                    public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
+                        return batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
+                    }
+                });
     }
 
     /**
@@ -688,19 +667,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final BatchPutScheduledUpdateGroupActionRequest batchPutScheduledUpdateGroupActionRequest,
             final AsyncHandler<BatchPutScheduledUpdateGroupActionRequest, BatchPutScheduledUpdateGroupActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchPutScheduledUpdateGroupActionResult>() {
-            public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
-                BatchPutScheduledUpdateGroupActionResult result = null;
-                try {
-                    result = batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchPutScheduledUpdateGroupActionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchPutScheduledUpdateGroupActionRequest, asyncHandler,
+                new Callable<BatchPutScheduledUpdateGroupActionResult>() {
+                    public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
+                        return batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
+                    }
+                });
     }
 
     /**
@@ -769,11 +741,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<CompleteLifecycleActionResult> completeLifecycleActionAsync(
             final CompleteLifecycleActionRequest completeLifecycleActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                return completeLifecycleAction(completeLifecycleActionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, completeLifecycleActionRequest,
+                new Callable<CompleteLifecycleActionResult>() {
+                    public CompleteLifecycleActionResult call() throws Exception {
+                        return completeLifecycleAction(completeLifecycleActionRequest);
+                    }
+                });
     }
 
     /**
@@ -843,19 +816,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final CompleteLifecycleActionRequest completeLifecycleActionRequest,
             final AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                CompleteLifecycleActionResult result = null;
-                try {
-                    result = completeLifecycleAction(completeLifecycleActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(completeLifecycleActionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, completeLifecycleActionRequest, asyncHandler,
+                new Callable<CompleteLifecycleActionResult>() {
+                    public CompleteLifecycleActionResult call() throws Exception {
+                        return completeLifecycleAction(completeLifecycleActionRequest);
+                    }
+                });
     }
 
     /**
@@ -891,12 +857,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> createAutoScalingGroupAsync(
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createAutoScalingGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createAutoScalingGroup(createAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -933,19 +900,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
             final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createAutoScalingGroup(createAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createAutoScalingGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createAutoScalingGroup(createAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -986,12 +947,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> createLaunchConfigurationAsync(
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLaunchConfigurationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createLaunchConfiguration(createLaunchConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1033,19 +995,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
             final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createLaunchConfiguration(createLaunchConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLaunchConfigurationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLaunchConfigurationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createLaunchConfiguration(createLaunchConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1083,12 +1039,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> createOrUpdateTagsAsync(
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createOrUpdateTagsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createOrUpdateTags(createOrUpdateTagsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1127,19 +1084,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
             final AsyncHandler<CreateOrUpdateTagsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createOrUpdateTags(createOrUpdateTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createOrUpdateTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createOrUpdateTagsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createOrUpdateTags(createOrUpdateTagsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1185,12 +1136,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deleteAutoScalingGroupAsync(
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteAutoScalingGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1237,19 +1189,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
             final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteAutoScalingGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1279,12 +1225,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deleteLaunchConfigurationAsync(
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLaunchConfigurationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1315,19 +1262,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
             final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLaunchConfigurationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLaunchConfigurationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1356,11 +1297,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DeleteLifecycleHookResult> deleteLifecycleHookAsync(
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                return deleteLifecycleHook(deleteLifecycleHookRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLifecycleHookRequest,
+                new Callable<DeleteLifecycleHookResult>() {
+                    public DeleteLifecycleHookResult call() throws Exception {
+                        return deleteLifecycleHook(deleteLifecycleHookRequest);
+                    }
+                });
     }
 
     /**
@@ -1390,19 +1332,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest,
             final AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                DeleteLifecycleHookResult result = null;
-                try {
-                    result = deleteLifecycleHook(deleteLifecycleHookRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLifecycleHookRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLifecycleHookRequest, asyncHandler,
+                new Callable<DeleteLifecycleHookResult>() {
+                    public DeleteLifecycleHookResult call() throws Exception {
+                        return deleteLifecycleHook(deleteLifecycleHookRequest);
+                    }
+                });
     }
 
     /**
@@ -1426,12 +1361,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deleteNotificationConfigurationAsync(
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteNotificationConfigurationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1456,19 +1392,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
             final AsyncHandler<DeleteNotificationConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteNotificationConfigurationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteNotificationConfigurationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1502,12 +1432,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deletePolicyRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePolicy(deletePolicyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1542,19 +1473,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePolicy(deletePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deletePolicyRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePolicy(deletePolicyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1578,12 +1503,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deleteScheduledActionAsync(
             final DeleteScheduledActionRequest deleteScheduledActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteScheduledAction(deleteScheduledActionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteScheduledActionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteScheduledAction(deleteScheduledActionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1608,19 +1534,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DeleteScheduledActionRequest deleteScheduledActionRequest,
             final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteScheduledAction(deleteScheduledActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteScheduledActionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteScheduledActionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteScheduledAction(deleteScheduledActionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1643,7 +1563,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, deleteTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTags(deleteTagsRequest);
                 return null;
@@ -1672,19 +1592,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTags(deleteTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTagsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTags(deleteTagsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1716,11 +1630,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAccountLimitsRequest,
+                new Callable<DescribeAccountLimitsResult>() {
+                    public DescribeAccountLimitsResult call() throws Exception {
+                        return describeAccountLimits(describeAccountLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -1753,19 +1668,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                DescribeAccountLimitsResult result = null;
-                try {
-                    result = describeAccountLimits(describeAccountLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAccountLimitsRequest, asyncHandler,
+                new Callable<DescribeAccountLimitsResult>() {
+                    public DescribeAccountLimitsResult call() throws Exception {
+                        return describeAccountLimits(describeAccountLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -1790,11 +1698,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAdjustmentTypesRequest,
+                new Callable<DescribeAdjustmentTypesResult>() {
+                    public DescribeAdjustmentTypesResult call() throws Exception {
+                        return describeAdjustmentTypes(describeAdjustmentTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -1820,19 +1729,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
             final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                DescribeAdjustmentTypesResult result = null;
-                try {
-                    result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAdjustmentTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAdjustmentTypesRequest, asyncHandler,
+                new Callable<DescribeAdjustmentTypesResult>() {
+                    public DescribeAdjustmentTypesResult call() throws Exception {
+                        return describeAdjustmentTypes(describeAdjustmentTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -1857,11 +1759,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingGroupsRequest,
+                new Callable<DescribeAutoScalingGroupsResult>() {
+                    public DescribeAutoScalingGroupsResult call() throws Exception {
+                        return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1887,19 +1790,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
             final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                DescribeAutoScalingGroupsResult result = null;
-                try {
-                    result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingGroupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingGroupsRequest, asyncHandler,
+                new Callable<DescribeAutoScalingGroupsResult>() {
+                    public DescribeAutoScalingGroupsResult call() throws Exception {
+                        return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1924,11 +1820,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingInstancesRequest,
+                new Callable<DescribeAutoScalingInstancesResult>() {
+                    public DescribeAutoScalingInstancesResult call() throws Exception {
+                        return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -1954,19 +1851,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
             final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                DescribeAutoScalingInstancesResult result = null;
-                try {
-                    result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingInstancesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingInstancesRequest, asyncHandler,
+                new Callable<DescribeAutoScalingInstancesResult>() {
+                    public DescribeAutoScalingInstancesResult call() throws Exception {
+                        return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -1991,11 +1881,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingNotificationTypesRequest,
+                new Callable<DescribeAutoScalingNotificationTypesResult>() {
+                    public DescribeAutoScalingNotificationTypesResult call() throws Exception {
+                        return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2021,19 +1912,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
             final AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                DescribeAutoScalingNotificationTypesResult result = null;
-                try {
-                    result = describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingNotificationTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAutoScalingNotificationTypesRequest, asyncHandler,
+                new Callable<DescribeAutoScalingNotificationTypesResult>() {
+                    public DescribeAutoScalingNotificationTypesResult call() throws Exception {
+                        return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2058,11 +1942,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLaunchConfigurationsRequest,
+                new Callable<DescribeLaunchConfigurationsResult>() {
+                    public DescribeLaunchConfigurationsResult call() throws Exception {
+                        return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
+                    }
+                });
     }
 
     /**
@@ -2088,19 +1973,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
             final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                DescribeLaunchConfigurationsResult result = null;
-                try {
-                    result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLaunchConfigurationsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLaunchConfigurationsRequest, asyncHandler,
+                new Callable<DescribeLaunchConfigurationsResult>() {
+                    public DescribeLaunchConfigurationsResult call() throws Exception {
+                        return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
+                    }
+                });
     }
 
     /**
@@ -2139,11 +2017,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLifecycleHookTypesRequest,
+                new Callable<DescribeLifecycleHookTypesResult>() {
+                    public DescribeLifecycleHookTypesResult call() throws Exception {
+                        return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2183,19 +2062,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest,
             final AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                DescribeLifecycleHookTypesResult result = null;
-                try {
-                    result = describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLifecycleHookTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLifecycleHookTypesRequest, asyncHandler,
+                new Callable<DescribeLifecycleHookTypesResult>() {
+                    public DescribeLifecycleHookTypesResult call() throws Exception {
+                        return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2219,11 +2091,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                return describeLifecycleHooks(describeLifecycleHooksRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLifecycleHooksRequest,
+                new Callable<DescribeLifecycleHooksResult>() {
+                    public DescribeLifecycleHooksResult call() throws Exception {
+                        return describeLifecycleHooks(describeLifecycleHooksRequest);
+                    }
+                });
     }
 
     /**
@@ -2248,19 +2121,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest,
             final AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                DescribeLifecycleHooksResult result = null;
-                try {
-                    result = describeLifecycleHooks(describeLifecycleHooksRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLifecycleHooksRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLifecycleHooksRequest, asyncHandler,
+                new Callable<DescribeLifecycleHooksResult>() {
+                    public DescribeLifecycleHooksResult call() throws Exception {
+                        return describeLifecycleHooks(describeLifecycleHooksRequest);
+                    }
+                });
     }
 
     /**
@@ -2284,11 +2150,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeLoadBalancerTargetGroupsResult> describeLoadBalancerTargetGroupsAsync(
             final DescribeLoadBalancerTargetGroupsRequest describeLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerTargetGroupsResult>() {
-            public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
-                return describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerTargetGroupsRequest,
+                new Callable<DescribeLoadBalancerTargetGroupsResult>() {
+                    public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
+                        return describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -2313,19 +2180,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeLoadBalancerTargetGroupsRequest describeLoadBalancerTargetGroupsRequest,
             final AsyncHandler<DescribeLoadBalancerTargetGroupsRequest, DescribeLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerTargetGroupsResult>() {
-            public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
-                DescribeLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerTargetGroupsRequest, asyncHandler,
+                new Callable<DescribeLoadBalancerTargetGroupsResult>() {
+                    public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
+                        return describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -2354,11 +2214,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancersRequest,
+                new Callable<DescribeLoadBalancersResult>() {
+                    public DescribeLoadBalancersResult call() throws Exception {
+                        return describeLoadBalancers(describeLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -2388,19 +2249,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                DescribeLoadBalancersResult result = null;
-                try {
-                    result = describeLoadBalancers(describeLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancersRequest, asyncHandler,
+                new Callable<DescribeLoadBalancersResult>() {
+                    public DescribeLoadBalancersResult call() throws Exception {
+                        return describeLoadBalancers(describeLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -2429,11 +2283,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeMetricCollectionTypesRequest,
+                new Callable<DescribeMetricCollectionTypesResult>() {
+                    public DescribeMetricCollectionTypesResult call() throws Exception {
+                        return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2463,19 +2318,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
             final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                DescribeMetricCollectionTypesResult result = null;
-                try {
-                    result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeMetricCollectionTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeMetricCollectionTypesRequest, asyncHandler,
+                new Callable<DescribeMetricCollectionTypesResult>() {
+                    public DescribeMetricCollectionTypesResult call() throws Exception {
+                        return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2501,11 +2349,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeNotificationConfigurationsRequest,
+                new Callable<DescribeNotificationConfigurationsResult>() {
+                    public DescribeNotificationConfigurationsResult call() throws Exception {
+                        return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
+                    }
+                });
     }
 
     /**
@@ -2532,19 +2381,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
             final AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                DescribeNotificationConfigurationsResult result = null;
-                try {
-                    result = describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeNotificationConfigurationsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeNotificationConfigurationsRequest, asyncHandler,
+                new Callable<DescribeNotificationConfigurationsResult>() {
+                    public DescribeNotificationConfigurationsResult call() throws Exception {
+                        return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
+                    }
+                });
     }
 
     /**
@@ -2570,11 +2412,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribePoliciesResult> describePoliciesAsync(
             final DescribePoliciesRequest describePoliciesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                return describePolicies(describePoliciesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describePoliciesRequest,
+                new Callable<DescribePoliciesResult>() {
+                    public DescribePoliciesResult call() throws Exception {
+                        return describePolicies(describePoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -2601,19 +2444,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribePoliciesRequest describePoliciesRequest,
             final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                DescribePoliciesResult result = null;
-                try {
-                    result = describePolicies(describePoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describePoliciesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describePoliciesRequest, asyncHandler,
+                new Callable<DescribePoliciesResult>() {
+                    public DescribePoliciesResult call() throws Exception {
+                        return describePolicies(describePoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -2639,11 +2475,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                return describeScalingActivities(describeScalingActivitiesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScalingActivitiesRequest,
+                new Callable<DescribeScalingActivitiesResult>() {
+                    public DescribeScalingActivitiesResult call() throws Exception {
+                        return describeScalingActivities(describeScalingActivitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -2670,19 +2507,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
             final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                DescribeScalingActivitiesResult result = null;
-                try {
-                    result = describeScalingActivities(describeScalingActivitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScalingActivitiesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScalingActivitiesRequest, asyncHandler,
+                new Callable<DescribeScalingActivitiesResult>() {
+                    public DescribeScalingActivitiesResult call() throws Exception {
+                        return describeScalingActivities(describeScalingActivitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -2707,11 +2537,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScalingProcessTypesRequest,
+                new Callable<DescribeScalingProcessTypesResult>() {
+                    public DescribeScalingProcessTypesResult call() throws Exception {
+                        return describeScalingProcessTypes(describeScalingProcessTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2737,19 +2568,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
             final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                DescribeScalingProcessTypesResult result = null;
-                try {
-                    result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScalingProcessTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScalingProcessTypesRequest, asyncHandler,
+                new Callable<DescribeScalingProcessTypesResult>() {
+                    public DescribeScalingProcessTypesResult call() throws Exception {
+                        return describeScalingProcessTypes(describeScalingProcessTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2776,11 +2600,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(
             final DescribeScheduledActionsRequest describeScheduledActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                return describeScheduledActions(describeScheduledActionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledActionsRequest,
+                new Callable<DescribeScheduledActionsResult>() {
+                    public DescribeScheduledActionsResult call() throws Exception {
+                        return describeScheduledActions(describeScheduledActionsRequest);
+                    }
+                });
     }
 
     /**
@@ -2808,19 +2633,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeScheduledActionsRequest describeScheduledActionsRequest,
             final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                DescribeScheduledActionsResult result = null;
-                try {
-                    result = describeScheduledActions(describeScheduledActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScheduledActionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledActionsRequest, asyncHandler,
+                new Callable<DescribeScheduledActionsResult>() {
+                    public DescribeScheduledActionsResult call() throws Exception {
+                        return describeScheduledActions(describeScheduledActionsRequest);
+                    }
+                });
     }
 
     /**
@@ -2855,11 +2673,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2895,19 +2714,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                DescribeTagsResult result = null;
-                try {
-                    result = describeTags(describeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest, asyncHandler,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2937,11 +2749,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTerminationPolicyTypesRequest,
+                new Callable<DescribeTerminationPolicyTypesResult>() {
+                    public DescribeTerminationPolicyTypesResult call() throws Exception {
+                        return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -2972,19 +2785,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
             final AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                DescribeTerminationPolicyTypesResult result = null;
-                try {
-                    result = describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTerminationPolicyTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTerminationPolicyTypesRequest, asyncHandler,
+                new Callable<DescribeTerminationPolicyTypesResult>() {
+                    public DescribeTerminationPolicyTypesResult call() throws Exception {
+                        return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -3029,11 +2835,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DetachInstancesResult> detachInstancesAsync(
             final DetachInstancesRequest detachInstancesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                return detachInstances(detachInstancesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachInstancesRequest,
+                new Callable<DetachInstancesResult>() {
+                    public DetachInstancesResult call() throws Exception {
+                        return detachInstances(detachInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -3079,19 +2886,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DetachInstancesRequest detachInstancesRequest,
             final AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                DetachInstancesResult result = null;
-                try {
-                    result = detachInstances(detachInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachInstancesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachInstancesRequest, asyncHandler,
+                new Callable<DetachInstancesResult>() {
+                    public DetachInstancesResult call() throws Exception {
+                        return detachInstances(detachInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -3115,11 +2915,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DetachLoadBalancerTargetGroupsResult> detachLoadBalancerTargetGroupsAsync(
             final DetachLoadBalancerTargetGroupsRequest detachLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerTargetGroupsResult>() {
-            public DetachLoadBalancerTargetGroupsResult call() throws Exception {
-                return detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancerTargetGroupsRequest,
+                new Callable<DetachLoadBalancerTargetGroupsResult>() {
+                    public DetachLoadBalancerTargetGroupsResult call() throws Exception {
+                        return detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -3144,19 +2945,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DetachLoadBalancerTargetGroupsRequest detachLoadBalancerTargetGroupsRequest,
             final AsyncHandler<DetachLoadBalancerTargetGroupsRequest, DetachLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerTargetGroupsResult>() {
-            public DetachLoadBalancerTargetGroupsResult call() throws Exception {
-                DetachLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancerTargetGroupsRequest, asyncHandler,
+                new Callable<DetachLoadBalancerTargetGroupsResult>() {
+                    public DetachLoadBalancerTargetGroupsResult call() throws Exception {
+                        return detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -3192,11 +2986,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<DetachLoadBalancersResult> detachLoadBalancersAsync(
             final DetachLoadBalancersRequest detachLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-                return detachLoadBalancers(detachLoadBalancersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancersRequest,
+                new Callable<DetachLoadBalancersResult>() {
+                    public DetachLoadBalancersResult call() throws Exception {
+                        return detachLoadBalancers(detachLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -3233,19 +3028,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DetachLoadBalancersRequest detachLoadBalancersRequest,
             final AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-                DetachLoadBalancersResult result = null;
-                try {
-                    result = detachLoadBalancers(detachLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancersRequest, asyncHandler,
+                new Callable<DetachLoadBalancersResult>() {
+                    public DetachLoadBalancersResult call() throws Exception {
+                        return detachLoadBalancers(detachLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -3269,12 +3057,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> disableMetricsCollectionAsync(
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disableMetricsCollectionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableMetricsCollection(disableMetricsCollectionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3299,19 +3088,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
             final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disableMetricsCollection(disableMetricsCollectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disableMetricsCollectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disableMetricsCollectionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableMetricsCollection(disableMetricsCollectionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3339,12 +3122,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> enableMetricsCollectionAsync(
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableMetricsCollectionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableMetricsCollection(enableMetricsCollectionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3373,19 +3157,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
             final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    enableMetricsCollection(enableMetricsCollectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableMetricsCollectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableMetricsCollectionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableMetricsCollection(enableMetricsCollectionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3425,11 +3203,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<EnterStandbyResult> enterStandbyAsync(
             final EnterStandbyRequest enterStandbyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                return enterStandby(enterStandbyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enterStandbyRequest,
+                new Callable<EnterStandbyResult>() {
+                    public EnterStandbyResult call() throws Exception {
+                        return enterStandby(enterStandbyRequest);
+                    }
+                });
     }
 
     /**
@@ -3470,19 +3249,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final EnterStandbyRequest enterStandbyRequest,
             final AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                EnterStandbyResult result = null;
-                try {
-                    result = enterStandby(enterStandbyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enterStandbyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enterStandbyRequest, asyncHandler,
+                new Callable<EnterStandbyResult>() {
+                    public EnterStandbyResult call() throws Exception {
+                        return enterStandby(enterStandbyRequest);
+                    }
+                });
     }
 
     /**
@@ -3505,12 +3277,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                executePolicy(executePolicyRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, executePolicyRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        executePolicy(executePolicyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3534,19 +3307,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest,
             final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    executePolicy(executePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(executePolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, executePolicyRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        executePolicy(executePolicyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3578,11 +3345,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                return exitStandby(exitStandbyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, exitStandbyRequest,
+                new Callable<ExitStandbyResult>() {
+                    public ExitStandbyResult call() throws Exception {
+                        return exitStandby(exitStandbyRequest);
+                    }
+                });
     }
 
     /**
@@ -3615,19 +3383,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest,
             final AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                ExitStandbyResult result = null;
-                try {
-                    result = exitStandby(exitStandbyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(exitStandbyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, exitStandbyRequest, asyncHandler,
+                new Callable<ExitStandbyResult>() {
+                    public ExitStandbyResult call() throws Exception {
+                        return exitStandby(exitStandbyRequest);
+                    }
+                });
     }
 
     /**
@@ -3710,11 +3471,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<PutLifecycleHookResult> putLifecycleHookAsync(
             final PutLifecycleHookRequest putLifecycleHookRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                return putLifecycleHook(putLifecycleHookRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putLifecycleHookRequest,
+                new Callable<PutLifecycleHookResult>() {
+                    public PutLifecycleHookResult call() throws Exception {
+                        return putLifecycleHook(putLifecycleHookRequest);
+                    }
+                });
     }
 
     /**
@@ -3798,19 +3560,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final PutLifecycleHookRequest putLifecycleHookRequest,
             final AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                PutLifecycleHookResult result = null;
-                try {
-                    result = putLifecycleHook(putLifecycleHookRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putLifecycleHookRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putLifecycleHookRequest, asyncHandler,
+                new Callable<PutLifecycleHookResult>() {
+                    public PutLifecycleHookResult call() throws Exception {
+                        return putLifecycleHook(putLifecycleHookRequest);
+                    }
+                });
     }
 
     /**
@@ -3847,12 +3602,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> putNotificationConfigurationAsync(
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putNotificationConfigurationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putNotificationConfiguration(putNotificationConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3890,19 +3646,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest,
             final AsyncHandler<PutNotificationConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putNotificationConfiguration(putNotificationConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putNotificationConfigurationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putNotificationConfigurationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putNotificationConfiguration(putNotificationConfigurationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3937,11 +3687,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(
             final PutScalingPolicyRequest putScalingPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putScalingPolicyRequest,
+                new Callable<PutScalingPolicyResult>() {
+                    public PutScalingPolicyResult call() throws Exception {
+                        return putScalingPolicy(putScalingPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -3977,19 +3728,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final PutScalingPolicyRequest putScalingPolicyRequest,
             final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                PutScalingPolicyResult result = null;
-                try {
-                    result = putScalingPolicy(putScalingPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putScalingPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putScalingPolicyRequest, asyncHandler,
+                new Callable<PutScalingPolicyResult>() {
+                    public PutScalingPolicyResult call() throws Exception {
+                        return putScalingPolicy(putScalingPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -4022,12 +3766,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> putScheduledUpdateGroupActionAsync(
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putScheduledUpdateGroupActionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4061,19 +3806,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
             final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putScheduledUpdateGroupActionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putScheduledUpdateGroupActionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4143,11 +3882,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, recordLifecycleActionHeartbeatRequest,
+                new Callable<RecordLifecycleActionHeartbeatResult>() {
+                    public RecordLifecycleActionHeartbeatResult call() throws Exception {
+                        return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
+                    }
+                });
     }
 
     /**
@@ -4218,19 +3958,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest,
             final AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                RecordLifecycleActionHeartbeatResult result = null;
-                try {
-                    result = recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(recordLifecycleActionHeartbeatRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, recordLifecycleActionHeartbeatRequest, asyncHandler,
+                new Callable<RecordLifecycleActionHeartbeatResult>() {
+                    public RecordLifecycleActionHeartbeatResult call() throws Exception {
+                        return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
+                    }
+                });
     }
 
     /**
@@ -4261,12 +3994,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resumeProcesses(resumeProcessesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, resumeProcessesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resumeProcesses(resumeProcessesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4298,19 +4032,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest,
             final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    resumeProcesses(resumeProcessesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(resumeProcessesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, resumeProcessesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resumeProcesses(resumeProcessesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4341,12 +4069,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> setDesiredCapacityAsync(
             final SetDesiredCapacityRequest setDesiredCapacityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDesiredCapacity(setDesiredCapacityRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setDesiredCapacityRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setDesiredCapacity(setDesiredCapacityRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4378,19 +4107,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final SetDesiredCapacityRequest setDesiredCapacityRequest,
             final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setDesiredCapacity(setDesiredCapacityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setDesiredCapacityRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setDesiredCapacityRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setDesiredCapacity(setDesiredCapacityRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4420,12 +4143,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> setInstanceHealthAsync(
             final SetInstanceHealthRequest setInstanceHealthRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setInstanceHealthRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setInstanceHealth(setInstanceHealthRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4456,19 +4180,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final SetInstanceHealthRequest setInstanceHealthRequest,
             final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setInstanceHealth(setInstanceHealthRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setInstanceHealthRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setInstanceHealthRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setInstanceHealth(setInstanceHealthRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4500,11 +4218,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<SetInstanceProtectionResult> setInstanceProtectionAsync(
             final SetInstanceProtectionRequest setInstanceProtectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-                return setInstanceProtection(setInstanceProtectionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setInstanceProtectionRequest,
+                new Callable<SetInstanceProtectionResult>() {
+                    public SetInstanceProtectionResult call() throws Exception {
+                        return setInstanceProtection(setInstanceProtectionRequest);
+                    }
+                });
     }
 
     /**
@@ -4537,19 +4256,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final SetInstanceProtectionRequest setInstanceProtectionRequest,
             final AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-                SetInstanceProtectionResult result = null;
-                try {
-                    result = setInstanceProtection(setInstanceProtectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setInstanceProtectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setInstanceProtectionRequest, asyncHandler,
+                new Callable<SetInstanceProtectionResult>() {
+                    public SetInstanceProtectionResult call() throws Exception {
+                        return setInstanceProtection(setInstanceProtectionRequest);
+                    }
+                });
     }
 
     /**
@@ -4588,12 +4300,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                suspendProcesses(suspendProcessesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, suspendProcessesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        suspendProcesses(suspendProcessesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4634,19 +4347,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final SuspendProcessesRequest suspendProcessesRequest,
             final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    suspendProcesses(suspendProcessesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(suspendProcessesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, suspendProcessesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        suspendProcesses(suspendProcessesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4676,11 +4383,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, terminateInstanceInAutoScalingGroupRequest,
+                new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+                    public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
+                        return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
+                    }
+                });
     }
 
     /**
@@ -4711,19 +4419,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
             final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                TerminateInstanceInAutoScalingGroupResult result = null;
-                try {
-                    result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(terminateInstanceInAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, terminateInstanceInAutoScalingGroupRequest, asyncHandler,
+                new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+                    public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
+                        return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
+                    }
+                });
     }
 
     /**
@@ -4806,12 +4507,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public Future<Void> updateAutoScalingGroupAsync(
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateAutoScalingGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateAutoScalingGroup(updateAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4895,19 +4597,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
             final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateAutoScalingGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateAutoScalingGroup(updateAutoScalingGroupRequest);
+                        return null;
+                    }
+                });
     }
 
 }
@@ -257,7 +257,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public AmazonAutoScalingClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
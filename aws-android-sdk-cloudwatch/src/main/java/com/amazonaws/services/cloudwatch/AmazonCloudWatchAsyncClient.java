@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -294,12 +295,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteAlarmsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAlarms(deleteAlarmsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -323,19 +325,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteAlarms(deleteAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteAlarmsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteAlarmsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAlarms(deleteAlarmsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -363,11 +359,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmHistoryRequest,
+                new Callable<DescribeAlarmHistoryResult>() {
+                    public DescribeAlarmHistoryResult call() throws Exception {
+                        return describeAlarmHistory(describeAlarmHistoryRequest);
+                    }
+                });
     }
 
     /**
@@ -396,19 +393,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                DescribeAlarmHistoryResult result = null;
-                try {
-                    result = describeAlarmHistory(describeAlarmHistoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmHistoryRequest, asyncHandler,
+                new Callable<DescribeAlarmHistoryResult>() {
+                    public DescribeAlarmHistoryResult call() throws Exception {
+                        return describeAlarmHistory(describeAlarmHistoryRequest);
+                    }
+                });
     }
 
     /**
@@ -433,11 +423,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmsRequest,
+                new Callable<DescribeAlarmsResult>() {
+                    public DescribeAlarmsResult call() throws Exception {
+                        return describeAlarms(describeAlarmsRequest);
+                    }
+                });
     }
 
     /**
@@ -463,19 +454,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                DescribeAlarmsResult result = null;
-                try {
-                    result = describeAlarms(describeAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmsRequest, asyncHandler,
+                new Callable<DescribeAlarmsResult>() {
+                    public DescribeAlarmsResult call() throws Exception {
+                        return describeAlarms(describeAlarmsRequest);
+                    }
+                });
     }
 
     /**
@@ -499,11 +483,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmsForMetricRequest,
+                new Callable<DescribeAlarmsForMetricResult>() {
+                    public DescribeAlarmsForMetricResult call() throws Exception {
+                        return describeAlarmsForMetric(describeAlarmsForMetricRequest);
+                    }
+                });
     }
 
     /**
@@ -528,19 +513,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                DescribeAlarmsForMetricResult result = null;
-                try {
-                    result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAlarmsForMetricRequest, asyncHandler,
+                new Callable<DescribeAlarmsForMetricResult>() {
+                    public DescribeAlarmsForMetricResult call() throws Exception {
+                        return describeAlarmsForMetric(describeAlarmsForMetricRequest);
+                    }
+                });
     }
 
     /**
@@ -566,12 +544,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disableAlarmActionsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableAlarmActions(disableAlarmActionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -598,19 +577,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disableAlarmActions(disableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disableAlarmActionsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableAlarmActions(disableAlarmActionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -633,12 +606,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableAlarmActionsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableAlarmActions(enableAlarmActionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -662,19 +636,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    enableAlarmActions(enableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableAlarmActionsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableAlarmActions(enableAlarmActionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -738,11 +706,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getMetricStatisticsRequest,
+                new Callable<GetMetricStatisticsResult>() {
+                    public GetMetricStatisticsResult call() throws Exception {
+                        return getMetricStatistics(getMetricStatisticsRequest);
+                    }
+                });
     }
 
     /**
@@ -807,19 +776,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                GetMetricStatisticsResult result = null;
-                try {
-                    result = getMetricStatistics(getMetricStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricStatisticsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getMetricStatisticsRequest, asyncHandler,
+                new Callable<GetMetricStatisticsResult>() {
+                    public GetMetricStatisticsResult call() throws Exception {
+                        return getMetricStatistics(getMetricStatisticsRequest);
+                    }
+                });
     }
 
     /**
@@ -851,11 +813,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listMetricsRequest,
+                new Callable<ListMetricsResult>() {
+                    public ListMetricsResult call() throws Exception {
+                        return listMetrics(listMetricsRequest);
+                    }
+                });
     }
 
     /**
@@ -888,19 +851,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                ListMetricsResult result = null;
-                try {
-                    result = listMetrics(listMetricsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMetricsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listMetricsRequest, asyncHandler,
+                new Callable<ListMetricsResult>() {
+                    public ListMetricsResult call() throws Exception {
+                        return listMetrics(listMetricsRequest);
+                    }
+                });
     }
 
     /**
@@ -966,12 +922,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putMetricAlarmRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putMetricAlarm(putMetricAlarmRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1038,19 +995,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricAlarm(putMetricAlarmRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricAlarmRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putMetricAlarmRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putMetricAlarm(putMetricAlarmRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1094,12 +1045,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putMetricDataRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putMetricData(putMetricDataRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1144,19 +1096,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricData(putMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricDataRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putMetricDataRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putMetricData(putMetricDataRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1188,12 +1134,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setAlarmStateRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setAlarmState(setAlarmStateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1226,19 +1173,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setAlarmState(setAlarmStateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setAlarmStateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setAlarmStateRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setAlarmState(setAlarmStateRequest);
+                        return null;
+                    }
+                });
     }
 
 }
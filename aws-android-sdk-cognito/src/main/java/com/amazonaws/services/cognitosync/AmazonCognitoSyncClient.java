@@ -228,7 +228,7 @@ public class AmazonCognitoSyncClient extends AmazonWebServiceClient implements A
      */
     public AmazonCognitoSyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -45,6 +45,7 @@ import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoAcce
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoIdToken;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoRefreshToken;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoDeviceHelper;
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoIdentityProviderClientConfig;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoSecretHash;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoServiceConstants;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.Hkdf;
@@ -116,6 +117,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -185,12 +192,13 @@ public class CognitoUser {
     private String secretHash;
 
     /**
-     * The current session.
+     * The current session. Read without locking when it is still valid.
      */
-    private CognitoUserSession cipSession;
+    private volatile CognitoUserSession cipSession;
 
     /**
-     * Lock for getCachedSession.
+     * Lock for getCachedSession, so that only one thread reads the stored
+     * tokens or refreshes them at a time.
      */
     private static final Object GET_CACHED_SESSION_LOCK = new Object();
 
@@ -219,6 +227,11 @@ public class CognitoUser {
         this.secretHash = secretHash;
         this.deviceKey = null;
         cipSession = null;
+
+        // Get ephemeral keys ready for signing in.
+        if (CognitoIdentityProviderClientConfig.isEphemeralKeyPrecomputationEnabled()) {
+            AuthenticationHelper.precomputeEphemeralKeys();
+        }
     }
 
     /**
@@ -953,11 +966,24 @@ public class CognitoUser {
      *         otherwise.
      */
     protected CognitoUserSession getCachedSession() {
+        if (userId == null) {
+            throw new CognitoNotAuthorizedException("User-ID is null");
+        }
+
+        // The session caches the expiration of its tokens, so checking it
+        // does not decode them again.
+        final CognitoUserSession currentSession = cipSession;
+        if (currentSession != null && currentSession.isValidForThreshold()) {
+            return currentSession;
+        }
+
         synchronized (GET_CACHED_SESSION_LOCK) {
             if (userId == null) {
                 throw new CognitoNotAuthorizedException("User-ID is null");
             }
 
+            // Another thread may have refreshed the session while this one
+            // was waiting for the lock.
             if (cipSession != null) {
                 if (cipSession.isValidForThreshold()) {
                     return cipSession;
@@ -3407,10 +3433,18 @@ public class CognitoUser {
         private String poolName;
 
         public AuthenticationHelper(String userPoolName) {
-            do {
-                a = new BigInteger(EPHEMERAL_KEY_LENGTH, SECURE_RANDOM).mod(N);
-                A = GG.modPow(a, N);
-            } while (A.mod(N).equals(BigInteger.ZERO));
+            BigInteger[] ephemeralKey = null;
+            if (CognitoIdentityProviderClientConfig.isEphemeralKeyPrecomputationEnabled()) {
+                // Taking the key out of the queue guarantees that no other
+                // authentication uses it.
+                ephemeralKey = PRECOMPUTED_EPHEMERAL_KEYS.poll();
+                precomputeEphemeralKeys();
+            }
+            if (ephemeralKey == null) {
+                ephemeralKey = generateEphemeralKey();
+            }
+            a = ephemeralKey[0];
+            A = ephemeralKey[1];
 
             if (userPoolName.contains("_")) {
                 poolName = userPoolName.split("_", 2)[1];
@@ -3419,6 +3453,47 @@ public class CognitoUser {
             }
         }
 
+        /**
+         * Generates a random private ephemeral key a and its public key A.
+         *
+         * @return a and A.
+         */
+        private static BigInteger[] generateEphemeralKey() {
+            BigInteger privateKey;
+            BigInteger publicKey;
+            do {
+                privateKey = new BigInteger(EPHEMERAL_KEY_LENGTH, SECURE_RANDOM).mod(N);
+                publicKey = GG.modPow(privateKey, N);
+            } while (publicKey.mod(N).equals(BigInteger.ZERO));
+            return new BigInteger[] {
+                    privateKey, publicKey
+            };
+        }
+
+        /**
+         * Fills the queue of precomputed ephemeral keys in background, unless
+         * it is full or already being filled.
+         */
+        static void precomputeEphemeralKeys() {
+            if (PRECOMPUTED_EPHEMERAL_KEYS.remainingCapacity() == 0
+                    || !PRECOMPUTING_EPHEMERAL_KEYS.compareAndSet(false, true)) {
+                return;
+            }
+            PRECOMPUTE_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        while (CognitoIdentityProviderClientConfig.isEphemeralKeyPrecomputationEnabled()
+                                && PRECOMPUTED_EPHEMERAL_KEYS.remainingCapacity() > 0) {
+                            PRECOMPUTED_EPHEMERAL_KEYS.offer(generateEphemeralKey());
+                        }
+                    } finally {
+                        PRECOMPUTING_EPHEMERAL_KEYS.set(false);
+                    }
+                }
+            });
+        }
+
         public BigInteger geta() {
             return a;
         }
@@ -3448,6 +3523,33 @@ public class CognitoUser {
         private static final BigInteger KK;
 
         private static final int EPHEMERAL_KEY_LENGTH = 1024;
+
+        /**
+         * Number of ephemeral keys computed ahead of authentication.
+         */
+        private static final int PRECOMPUTED_EPHEMERAL_KEY_COUNT = 2;
+
+        /**
+         * Ephemeral keys computed ahead of authentication, each one used once.
+         */
+        private static final BlockingQueue<BigInteger[]> PRECOMPUTED_EPHEMERAL_KEYS =
+                new ArrayBlockingQueue<BigInteger[]>(PRECOMPUTED_EPHEMERAL_KEY_COUNT);
+
+        private static final AtomicBoolean PRECOMPUTING_EPHEMERAL_KEYS = new AtomicBoolean(false);
+
+        /**
+         * Computes the keys on a daemon thread, which goes away when idle.
+         */
+        private static final ExecutorService PRECOMPUTE_EXECUTOR = Executors
+                .newCachedThreadPool(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        final Thread thread = new Thread(r);
+                        thread.setDaemon(true);
+                        thread.setName("CognitoEphemeralKeyThread");
+                        return thread;
+                    }
+                });
         private static final int DERIVED_KEY_SIZE = 16;
         private static final String DERIVED_KEY_INFO = "Caldera Derived Key";
 
@@ -51,6 +51,17 @@ public class CognitoUserSession {
      */
     private final CognitoRefreshToken refreshToken;
 
+    /**
+     * Earliest expiration of the id and access tokens, in milliseconds since
+     * the epoch. Decoded from the tokens on first use.
+     */
+    private volatile long expirationMillis = EXPIRATION_UNKNOWN;
+
+    /**
+     * Marks the expiration as not decoded yet.
+     */
+    private static final long EXPIRATION_UNKNOWN = Long.MIN_VALUE;
+
     /**
      * Constructs a new Cognito session.
      *
@@ -110,8 +121,7 @@ public class CognitoUserSession {
                 return false;
             }
 
-            return (currentTimeStamp.before(idToken.getExpiration())
-                    & currentTimeStamp.before(accessToken.getExpiration()));
+            return currentTimeStamp.getTime() < getExpirationMillis();
         } catch (final Exception e) {
             return false;
         }
@@ -144,14 +154,33 @@ public class CognitoUserSession {
 
             final long currentTime = System.currentTimeMillis()
                     - SDKGlobalConfiguration.getGlobalTimeOffset() * SECS_CONVERSION;
-            final long idTokenExpiresInMilliSeconds = idToken.getExpiration().getTime() - currentTime;
-            final long accessTokenExpiresInMilliSeconds = accessToken.getExpiration().getTime() - currentTime;
-            return (idTokenExpiresInMilliSeconds > CognitoIdentityProviderClientConfig.getRefreshThreshold()) &&
-                    (accessTokenExpiresInMilliSeconds > CognitoIdentityProviderClientConfig.getRefreshThreshold());
+            final long expiresInMilliSeconds = getExpirationMillis() - currentTime;
+            return expiresInMilliSeconds > CognitoIdentityProviderClientConfig.getRefreshThreshold();
         } catch (final Exception e) {
             return false;
         }
     }
+
+    /**
+     * Returns the earliest expiration of the id and access tokens, decoding
+     * them only the first time. Tokens that cannot be decoded are considered
+     * expired.
+     *
+     * @return the expiration in milliseconds since the epoch.
+     */
+    private long getExpirationMillis() {
+        long expiration = expirationMillis;
+        if (expiration == EXPIRATION_UNKNOWN) {
+            try {
+                expiration = Math.min(idToken.getExpiration().getTime(),
+                        accessToken.getExpiration().getTime());
+            } catch (final Exception e) {
+                expiration = 0;
+            }
+            expirationMillis = expiration;
+        }
+        return expiration;
+    }
     
     /**
      * Returns username contained in this session.
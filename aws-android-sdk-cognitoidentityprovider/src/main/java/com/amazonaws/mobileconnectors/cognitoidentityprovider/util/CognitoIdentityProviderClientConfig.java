@@ -45,6 +45,11 @@ public final class CognitoIdentityProviderClientConfig {
      */
     private static long refreshThreshold = REFRESH_THRESHOLD_DEFAULT;
 
+    /**
+     * Whether SRP ephemeral keys are computed ahead of authentication.
+     */
+    private static volatile boolean ephemeralKeyPrecomputationEnabled = false;
+
     /**
      * Set the threshold for token refresh.
      *
@@ -65,4 +70,23 @@ public final class CognitoIdentityProviderClientConfig {
     public static long getRefreshThreshold() {
         return refreshThreshold;
     }
+
+    /**
+     * Enable or disable computing SRP ephemeral keys in background, ahead of
+     * authentication. This takes the costliest computation of the sign-in
+     * off its critical path. Each key is used by one authentication only.
+     * Disabled by default.
+     *
+     * @param enabled whether to precompute ephemeral keys.
+     */
+    public static void setEphemeralKeyPrecomputationEnabled(boolean enabled) {
+        ephemeralKeyPrecomputationEnabled = enabled;
+    }
+
+    /**
+     * @return whether SRP ephemeral keys are computed ahead of authentication.
+     */
+    public static boolean isEphemeralKeyPrecomputationEnabled() {
+        return ephemeralKeyPrecomputationEnabled;
+    }
 }
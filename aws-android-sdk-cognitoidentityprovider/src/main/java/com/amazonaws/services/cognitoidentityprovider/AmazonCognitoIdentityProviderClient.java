@@ -263,7 +263,7 @@ public class AmazonCognitoIdentityProviderClient extends AmazonWebServiceClient
      */
     public AmazonCognitoIdentityProviderClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
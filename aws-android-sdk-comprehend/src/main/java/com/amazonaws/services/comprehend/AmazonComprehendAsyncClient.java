@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -288,11 +289,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectDominantLanguageRequest,
+                new Callable<BatchDetectDominantLanguageResult>() {
+                    public BatchDetectDominantLanguageResult call() throws Exception {
+                        return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
+                    }
+                });
     }
 
     /**
@@ -324,19 +326,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest,
             final AsyncHandler<BatchDetectDominantLanguageRequest, BatchDetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                BatchDetectDominantLanguageResult result = null;
-                try {
-                    result = batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectDominantLanguageRequest, asyncHandler,
+                new Callable<BatchDetectDominantLanguageResult>() {
+                    public BatchDetectDominantLanguageResult call() throws Exception {
+                        return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
+                    }
+                });
     }
 
     /**
@@ -366,11 +361,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                return batchDetectEntities(batchDetectEntitiesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectEntitiesRequest,
+                new Callable<BatchDetectEntitiesResult>() {
+                    public BatchDetectEntitiesResult call() throws Exception {
+                        return batchDetectEntities(batchDetectEntitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -401,19 +397,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest,
             final AsyncHandler<BatchDetectEntitiesRequest, BatchDetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                BatchDetectEntitiesResult result = null;
-                try {
-                    result = batchDetectEntities(batchDetectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectEntitiesRequest, asyncHandler,
+                new Callable<BatchDetectEntitiesResult>() {
+                    public BatchDetectEntitiesResult call() throws Exception {
+                        return batchDetectEntities(batchDetectEntitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -441,11 +430,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectKeyPhrasesRequest,
+                new Callable<BatchDetectKeyPhrasesResult>() {
+                    public BatchDetectKeyPhrasesResult call() throws Exception {
+                        return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
+                    }
+                });
     }
 
     /**
@@ -474,19 +464,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest,
             final AsyncHandler<BatchDetectKeyPhrasesRequest, BatchDetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                BatchDetectKeyPhrasesResult result = null;
-                try {
-                    result = batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectKeyPhrasesRequest, asyncHandler,
+                new Callable<BatchDetectKeyPhrasesResult>() {
+                    public BatchDetectKeyPhrasesResult call() throws Exception {
+                        return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
+                    }
+                });
     }
 
     /**
@@ -516,11 +499,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                return batchDetectSentiment(batchDetectSentimentRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectSentimentRequest,
+                new Callable<BatchDetectSentimentResult>() {
+                    public BatchDetectSentimentResult call() throws Exception {
+                        return batchDetectSentiment(batchDetectSentimentRequest);
+                    }
+                });
     }
 
     /**
@@ -551,19 +535,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectSentimentRequest batchDetectSentimentRequest,
             final AsyncHandler<BatchDetectSentimentRequest, BatchDetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                BatchDetectSentimentResult result = null;
-                try {
-                    result = batchDetectSentiment(batchDetectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSentimentRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectSentimentRequest, asyncHandler,
+                new Callable<BatchDetectSentimentResult>() {
+                    public BatchDetectSentimentResult call() throws Exception {
+                        return batchDetectSentiment(batchDetectSentimentRequest);
+                    }
+                });
     }
 
     /**
@@ -593,11 +570,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                return batchDetectSyntax(batchDetectSyntaxRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectSyntaxRequest,
+                new Callable<BatchDetectSyntaxResult>() {
+                    public BatchDetectSyntaxResult call() throws Exception {
+                        return batchDetectSyntax(batchDetectSyntaxRequest);
+                    }
+                });
     }
 
     /**
@@ -628,19 +606,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest,
             final AsyncHandler<BatchDetectSyntaxRequest, BatchDetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                BatchDetectSyntaxResult result = null;
-                try {
-                    result = batchDetectSyntax(batchDetectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchDetectSyntaxRequest, asyncHandler,
+                new Callable<BatchDetectSyntaxResult>() {
+                    public BatchDetectSyntaxResult call() throws Exception {
+                        return batchDetectSyntax(batchDetectSyntaxRequest);
+                    }
+                });
     }
 
     /**
@@ -669,11 +640,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                return classifyDocument(classifyDocumentRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, classifyDocumentRequest,
+                new Callable<ClassifyDocumentResult>() {
+                    public ClassifyDocumentResult call() throws Exception {
+                        return classifyDocument(classifyDocumentRequest);
+                    }
+                });
     }
 
     /**
@@ -703,19 +675,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ClassifyDocumentRequest classifyDocumentRequest,
             final AsyncHandler<ClassifyDocumentRequest, ClassifyDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                ClassifyDocumentResult result = null;
-                try {
-                    result = classifyDocument(classifyDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(classifyDocumentRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, classifyDocumentRequest, asyncHandler,
+                new Callable<ClassifyDocumentResult>() {
+                    public ClassifyDocumentResult call() throws Exception {
+                        return classifyDocument(classifyDocumentRequest);
+                    }
+                });
     }
 
     /**
@@ -751,11 +716,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                return createDocumentClassifier(createDocumentClassifierRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createDocumentClassifierRequest,
+                new Callable<CreateDocumentClassifierResult>() {
+                    public CreateDocumentClassifierResult call() throws Exception {
+                        return createDocumentClassifier(createDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -792,19 +758,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateDocumentClassifierRequest createDocumentClassifierRequest,
             final AsyncHandler<CreateDocumentClassifierRequest, CreateDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                CreateDocumentClassifierResult result = null;
-                try {
-                    result = createDocumentClassifier(createDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createDocumentClassifierRequest, asyncHandler,
+                new Callable<CreateDocumentClassifierResult>() {
+                    public CreateDocumentClassifierResult call() throws Exception {
+                        return createDocumentClassifier(createDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -835,11 +794,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                return createEndpoint(createEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createEndpointRequest,
+                new Callable<CreateEndpointResult>() {
+                    public CreateEndpointResult call() throws Exception {
+                        return createEndpoint(createEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -871,19 +831,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateEndpointRequest createEndpointRequest,
             final AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                CreateEndpointResult result = null;
-                try {
-                    result = createEndpoint(createEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createEndpointRequest, asyncHandler,
+                new Callable<CreateEndpointResult>() {
+                    public CreateEndpointResult call() throws Exception {
+                        return createEndpoint(createEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -916,11 +869,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                return createEntityRecognizer(createEntityRecognizerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createEntityRecognizerRequest,
+                new Callable<CreateEntityRecognizerResult>() {
+                    public CreateEntityRecognizerResult call() throws Exception {
+                        return createEntityRecognizer(createEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -954,19 +908,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateEntityRecognizerRequest createEntityRecognizerRequest,
             final AsyncHandler<CreateEntityRecognizerRequest, CreateEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                CreateEntityRecognizerResult result = null;
-                try {
-                    result = createEntityRecognizer(createEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createEntityRecognizerRequest, asyncHandler,
+                new Callable<CreateEntityRecognizerResult>() {
+                    public CreateEntityRecognizerResult call() throws Exception {
+                        return createEntityRecognizer(createEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -1006,11 +953,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                return deleteDocumentClassifier(deleteDocumentClassifierRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteDocumentClassifierRequest,
+                new Callable<DeleteDocumentClassifierResult>() {
+                    public DeleteDocumentClassifierResult call() throws Exception {
+                        return deleteDocumentClassifier(deleteDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -1051,19 +999,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest,
             final AsyncHandler<DeleteDocumentClassifierRequest, DeleteDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                DeleteDocumentClassifierResult result = null;
-                try {
-                    result = deleteDocumentClassifier(deleteDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteDocumentClassifierRequest, asyncHandler,
+                new Callable<DeleteDocumentClassifierResult>() {
+                    public DeleteDocumentClassifierResult call() throws Exception {
+                        return deleteDocumentClassifier(deleteDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -1091,11 +1032,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                return deleteEndpoint(deleteEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEndpointRequest,
+                new Callable<DeleteEndpointResult>() {
+                    public DeleteEndpointResult call() throws Exception {
+                        return deleteEndpoint(deleteEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -1124,19 +1066,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                DeleteEndpointResult result = null;
-                try {
-                    result = deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEndpointRequest, asyncHandler,
+                new Callable<DeleteEndpointResult>() {
+                    public DeleteEndpointResult call() throws Exception {
+                        return deleteEndpoint(deleteEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -1176,11 +1111,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                return deleteEntityRecognizer(deleteEntityRecognizerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEntityRecognizerRequest,
+                new Callable<DeleteEntityRecognizerResult>() {
+                    public DeleteEntityRecognizerResult call() throws Exception {
+                        return deleteEntityRecognizer(deleteEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -1221,19 +1157,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest,
             final AsyncHandler<DeleteEntityRecognizerRequest, DeleteEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                DeleteEntityRecognizerResult result = null;
-                try {
-                    result = deleteEntityRecognizer(deleteEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEntityRecognizerRequest, asyncHandler,
+                new Callable<DeleteEntityRecognizerResult>() {
+                    public DeleteEntityRecognizerResult call() throws Exception {
+                        return deleteEntityRecognizer(deleteEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -1261,11 +1190,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDocumentClassificationJobRequest,
+                new Callable<DescribeDocumentClassificationJobResult>() {
+                    public DescribeDocumentClassificationJobResult call() throws Exception {
+                        return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1294,19 +1224,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest,
             final AsyncHandler<DescribeDocumentClassificationJobRequest, DescribeDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                DescribeDocumentClassificationJobResult result = null;
-                try {
-                    result = describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDocumentClassificationJobRequest, asyncHandler,
+                new Callable<DescribeDocumentClassificationJobResult>() {
+                    public DescribeDocumentClassificationJobResult call() throws Exception {
+                        return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1333,11 +1256,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                return describeDocumentClassifier(describeDocumentClassifierRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDocumentClassifierRequest,
+                new Callable<DescribeDocumentClassifierResult>() {
+                    public DescribeDocumentClassifierResult call() throws Exception {
+                        return describeDocumentClassifier(describeDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -1365,19 +1289,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest,
             final AsyncHandler<DescribeDocumentClassifierRequest, DescribeDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                DescribeDocumentClassifierResult result = null;
-                try {
-                    result = describeDocumentClassifier(describeDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDocumentClassifierRequest, asyncHandler,
+                new Callable<DescribeDocumentClassifierResult>() {
+                    public DescribeDocumentClassifierResult call() throws Exception {
+                        return describeDocumentClassifier(describeDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -1405,11 +1322,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDominantLanguageDetectionJobRequest,
+                new Callable<DescribeDominantLanguageDetectionJobResult>() {
+                    public DescribeDominantLanguageDetectionJobResult call() throws Exception {
+                        return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1438,19 +1356,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest,
             final AsyncHandler<DescribeDominantLanguageDetectionJobRequest, DescribeDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                DescribeDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeDominantLanguageDetectionJobRequest, asyncHandler,
+                new Callable<DescribeDominantLanguageDetectionJobResult>() {
+                    public DescribeDominantLanguageDetectionJobResult call() throws Exception {
+                        return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1478,11 +1389,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                return describeEndpoint(describeEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEndpointRequest,
+                new Callable<DescribeEndpointResult>() {
+                    public DescribeEndpointResult call() throws Exception {
+                        return describeEndpoint(describeEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -1511,19 +1423,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEndpointRequest describeEndpointRequest,
             final AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                DescribeEndpointResult result = null;
-                try {
-                    result = describeEndpoint(describeEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEndpointRequest, asyncHandler,
+                new Callable<DescribeEndpointResult>() {
+                    public DescribeEndpointResult call() throws Exception {
+                        return describeEndpoint(describeEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -1551,11 +1456,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEntitiesDetectionJobRequest,
+                new Callable<DescribeEntitiesDetectionJobResult>() {
+                    public DescribeEntitiesDetectionJobResult call() throws Exception {
+                        return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1584,19 +1490,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest,
             final AsyncHandler<DescribeEntitiesDetectionJobRequest, DescribeEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                DescribeEntitiesDetectionJobResult result = null;
-                try {
-                    result = describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEntitiesDetectionJobRequest, asyncHandler,
+                new Callable<DescribeEntitiesDetectionJobResult>() {
+                    public DescribeEntitiesDetectionJobResult call() throws Exception {
+                        return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1624,11 +1523,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                return describeEntityRecognizer(describeEntityRecognizerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEntityRecognizerRequest,
+                new Callable<DescribeEntityRecognizerResult>() {
+                    public DescribeEntityRecognizerResult call() throws Exception {
+                        return describeEntityRecognizer(describeEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -1657,19 +1557,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest,
             final AsyncHandler<DescribeEntityRecognizerRequest, DescribeEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                DescribeEntityRecognizerResult result = null;
-                try {
-                    result = describeEntityRecognizer(describeEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEntityRecognizerRequest, asyncHandler,
+                new Callable<DescribeEntityRecognizerResult>() {
+                    public DescribeEntityRecognizerResult call() throws Exception {
+                        return describeEntityRecognizer(describeEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -1697,11 +1590,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeKeyPhrasesDetectionJobRequest,
+                new Callable<DescribeKeyPhrasesDetectionJobResult>() {
+                    public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
+                        return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1730,19 +1624,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest,
             final AsyncHandler<DescribeKeyPhrasesDetectionJobRequest, DescribeKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                DescribeKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeKeyPhrasesDetectionJobRequest, asyncHandler,
+                new Callable<DescribeKeyPhrasesDetectionJobResult>() {
+                    public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
+                        return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1770,11 +1657,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeSentimentDetectionJobRequest,
+                new Callable<DescribeSentimentDetectionJobResult>() {
+                    public DescribeSentimentDetectionJobResult call() throws Exception {
+                        return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1803,19 +1691,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest,
             final AsyncHandler<DescribeSentimentDetectionJobRequest, DescribeSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                DescribeSentimentDetectionJobResult result = null;
-                try {
-                    result = describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeSentimentDetectionJobRequest, asyncHandler,
+                new Callable<DescribeSentimentDetectionJobResult>() {
+                    public DescribeSentimentDetectionJobResult call() throws Exception {
+                        return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1843,11 +1724,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTopicsDetectionJobRequest,
+                new Callable<DescribeTopicsDetectionJobResult>() {
+                    public DescribeTopicsDetectionJobResult call() throws Exception {
+                        return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1876,19 +1758,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest,
             final AsyncHandler<DescribeTopicsDetectionJobRequest, DescribeTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                DescribeTopicsDetectionJobResult result = null;
-                try {
-                    result = describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTopicsDetectionJobRequest, asyncHandler,
+                new Callable<DescribeTopicsDetectionJobResult>() {
+                    public DescribeTopicsDetectionJobResult call() throws Exception {
+                        return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -1917,11 +1792,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                return detectDominantLanguage(detectDominantLanguageRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectDominantLanguageRequest,
+                new Callable<DetectDominantLanguageResult>() {
+                    public DetectDominantLanguageResult call() throws Exception {
+                        return detectDominantLanguage(detectDominantLanguageRequest);
+                    }
+                });
     }
 
     /**
@@ -1951,19 +1827,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectDominantLanguageRequest detectDominantLanguageRequest,
             final AsyncHandler<DetectDominantLanguageRequest, DetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                DetectDominantLanguageResult result = null;
-                try {
-                    result = detectDominantLanguage(detectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectDominantLanguageRequest, asyncHandler,
+                new Callable<DetectDominantLanguageResult>() {
+                    public DetectDominantLanguageResult call() throws Exception {
+                        return detectDominantLanguage(detectDominantLanguageRequest);
+                    }
+                });
     }
 
     /**
@@ -1990,11 +1859,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                return detectEntities(detectEntitiesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectEntitiesRequest,
+                new Callable<DetectEntitiesResult>() {
+                    public DetectEntitiesResult call() throws Exception {
+                        return detectEntities(detectEntitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -2022,19 +1892,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectEntitiesRequest detectEntitiesRequest,
             final AsyncHandler<DetectEntitiesRequest, DetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                DetectEntitiesResult result = null;
-                try {
-                    result = detectEntities(detectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectEntitiesRequest, asyncHandler,
+                new Callable<DetectEntitiesResult>() {
+                    public DetectEntitiesResult call() throws Exception {
+                        return detectEntities(detectEntitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -2061,11 +1924,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                return detectKeyPhrases(detectKeyPhrasesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectKeyPhrasesRequest,
+                new Callable<DetectKeyPhrasesResult>() {
+                    public DetectKeyPhrasesResult call() throws Exception {
+                        return detectKeyPhrases(detectKeyPhrasesRequest);
+                    }
+                });
     }
 
     /**
@@ -2093,19 +1957,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest,
             final AsyncHandler<DetectKeyPhrasesRequest, DetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                DetectKeyPhrasesResult result = null;
-                try {
-                    result = detectKeyPhrases(detectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectKeyPhrasesRequest, asyncHandler,
+                new Callable<DetectKeyPhrasesResult>() {
+                    public DetectKeyPhrasesResult call() throws Exception {
+                        return detectKeyPhrases(detectKeyPhrasesRequest);
+                    }
+                });
     }
 
     /**
@@ -2133,11 +1990,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                return detectSentiment(detectSentimentRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectSentimentRequest,
+                new Callable<DetectSentimentResult>() {
+                    public DetectSentimentResult call() throws Exception {
+                        return detectSentiment(detectSentimentRequest);
+                    }
+                });
     }
 
     /**
@@ -2166,19 +2024,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectSentimentRequest detectSentimentRequest,
             final AsyncHandler<DetectSentimentRequest, DetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                DetectSentimentResult result = null;
-                try {
-                    result = detectSentiment(detectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSentimentRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectSentimentRequest, asyncHandler,
+                new Callable<DetectSentimentResult>() {
+                    public DetectSentimentResult call() throws Exception {
+                        return detectSentiment(detectSentimentRequest);
+                    }
+                });
     }
 
     /**
@@ -2205,11 +2056,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                return detectSyntax(detectSyntaxRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectSyntaxRequest,
+                new Callable<DetectSyntaxResult>() {
+                    public DetectSyntaxResult call() throws Exception {
+                        return detectSyntax(detectSyntaxRequest);
+                    }
+                });
     }
 
     /**
@@ -2237,19 +2089,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectSyntaxRequest detectSyntaxRequest,
             final AsyncHandler<DetectSyntaxRequest, DetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                DetectSyntaxResult result = null;
-                try {
-                    result = detectSyntax(detectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectSyntaxRequest, asyncHandler,
+                new Callable<DetectSyntaxResult>() {
+                    public DetectSyntaxResult call() throws Exception {
+                        return detectSyntax(detectSyntaxRequest);
+                    }
+                });
     }
 
     /**
@@ -2277,11 +2122,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDocumentClassificationJobsRequest,
+                new Callable<ListDocumentClassificationJobsResult>() {
+                    public ListDocumentClassificationJobsResult call() throws Exception {
+                        return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2310,19 +2156,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest,
             final AsyncHandler<ListDocumentClassificationJobsRequest, ListDocumentClassificationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                ListDocumentClassificationJobsResult result = null;
-                try {
-                    result = listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassificationJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDocumentClassificationJobsRequest, asyncHandler,
+                new Callable<ListDocumentClassificationJobsResult>() {
+                    public ListDocumentClassificationJobsResult call() throws Exception {
+                        return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2349,11 +2188,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                return listDocumentClassifiers(listDocumentClassifiersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDocumentClassifiersRequest,
+                new Callable<ListDocumentClassifiersResult>() {
+                    public ListDocumentClassifiersResult call() throws Exception {
+                        return listDocumentClassifiers(listDocumentClassifiersRequest);
+                    }
+                });
     }
 
     /**
@@ -2381,19 +2221,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest,
             final AsyncHandler<ListDocumentClassifiersRequest, ListDocumentClassifiersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                ListDocumentClassifiersResult result = null;
-                try {
-                    result = listDocumentClassifiers(listDocumentClassifiersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassifiersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDocumentClassifiersRequest, asyncHandler,
+                new Callable<ListDocumentClassifiersResult>() {
+                    public ListDocumentClassifiersResult call() throws Exception {
+                        return listDocumentClassifiers(listDocumentClassifiersRequest);
+                    }
+                });
     }
 
     /**
@@ -2421,11 +2254,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDominantLanguageDetectionJobsRequest,
+                new Callable<ListDominantLanguageDetectionJobsResult>() {
+                    public ListDominantLanguageDetectionJobsResult call() throws Exception {
+                        return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2454,19 +2288,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest,
             final AsyncHandler<ListDominantLanguageDetectionJobsRequest, ListDominantLanguageDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                ListDominantLanguageDetectionJobsResult result = null;
-                try {
-                    result = listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDominantLanguageDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDominantLanguageDetectionJobsRequest, asyncHandler,
+                new Callable<ListDominantLanguageDetectionJobsResult>() {
+                    public ListDominantLanguageDetectionJobsResult call() throws Exception {
+                        return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2491,11 +2318,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                return listEndpoints(listEndpointsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEndpointsRequest,
+                new Callable<ListEndpointsResult>() {
+                    public ListEndpointsResult call() throws Exception {
+                        return listEndpoints(listEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -2521,19 +2349,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEndpointsRequest listEndpointsRequest,
             final AsyncHandler<ListEndpointsRequest, ListEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                ListEndpointsResult result = null;
-                try {
-                    result = listEndpoints(listEndpointsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEndpointsRequest, asyncHandler,
+                new Callable<ListEndpointsResult>() {
+                    public ListEndpointsResult call() throws Exception {
+                        return listEndpoints(listEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -2560,11 +2381,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEntitiesDetectionJobsRequest,
+                new Callable<ListEntitiesDetectionJobsResult>() {
+                    public ListEntitiesDetectionJobsResult call() throws Exception {
+                        return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2592,19 +2414,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest,
             final AsyncHandler<ListEntitiesDetectionJobsRequest, ListEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                ListEntitiesDetectionJobsResult result = null;
-                try {
-                    result = listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntitiesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEntitiesDetectionJobsRequest, asyncHandler,
+                new Callable<ListEntitiesDetectionJobsResult>() {
+                    public ListEntitiesDetectionJobsResult call() throws Exception {
+                        return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2639,11 +2454,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                return listEntityRecognizers(listEntityRecognizersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEntityRecognizersRequest,
+                new Callable<ListEntityRecognizersResult>() {
+                    public ListEntityRecognizersResult call() throws Exception {
+                        return listEntityRecognizers(listEntityRecognizersRequest);
+                    }
+                });
     }
 
     /**
@@ -2679,19 +2495,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEntityRecognizersRequest listEntityRecognizersRequest,
             final AsyncHandler<ListEntityRecognizersRequest, ListEntityRecognizersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                ListEntityRecognizersResult result = null;
-                try {
-                    result = listEntityRecognizers(listEntityRecognizersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntityRecognizersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEntityRecognizersRequest, asyncHandler,
+                new Callable<ListEntityRecognizersResult>() {
+                    public ListEntityRecognizersResult call() throws Exception {
+                        return listEntityRecognizers(listEntityRecognizersRequest);
+                    }
+                });
     }
 
     /**
@@ -2718,11 +2527,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listKeyPhrasesDetectionJobsRequest,
+                new Callable<ListKeyPhrasesDetectionJobsResult>() {
+                    public ListKeyPhrasesDetectionJobsResult call() throws Exception {
+                        return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2750,19 +2560,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest,
             final AsyncHandler<ListKeyPhrasesDetectionJobsRequest, ListKeyPhrasesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                ListKeyPhrasesDetectionJobsResult result = null;
-                try {
-                    result = listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listKeyPhrasesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listKeyPhrasesDetectionJobsRequest, asyncHandler,
+                new Callable<ListKeyPhrasesDetectionJobsResult>() {
+                    public ListKeyPhrasesDetectionJobsResult call() throws Exception {
+                        return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2789,11 +2592,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSentimentDetectionJobsRequest,
+                new Callable<ListSentimentDetectionJobsResult>() {
+                    public ListSentimentDetectionJobsResult call() throws Exception {
+                        return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2821,19 +2625,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest,
             final AsyncHandler<ListSentimentDetectionJobsRequest, ListSentimentDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                ListSentimentDetectionJobsResult result = null;
-                try {
-                    result = listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSentimentDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSentimentDetectionJobsRequest, asyncHandler,
+                new Callable<ListSentimentDetectionJobsResult>() {
+                    public ListSentimentDetectionJobsResult call() throws Exception {
+                        return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2859,11 +2656,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2890,19 +2688,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest, asyncHandler,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2929,11 +2720,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTopicsDetectionJobsRequest,
+                new Callable<ListTopicsDetectionJobsResult>() {
+                    public ListTopicsDetectionJobsResult call() throws Exception {
+                        return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -2961,19 +2753,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest,
             final AsyncHandler<ListTopicsDetectionJobsRequest, ListTopicsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                ListTopicsDetectionJobsResult result = null;
-                try {
-                    result = listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTopicsDetectionJobsRequest, asyncHandler,
+                new Callable<ListTopicsDetectionJobsResult>() {
+                    public ListTopicsDetectionJobsResult call() throws Exception {
+                        return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -3003,11 +2788,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                return startDocumentClassificationJob(startDocumentClassificationJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentClassificationJobRequest,
+                new Callable<StartDocumentClassificationJobResult>() {
+                    public StartDocumentClassificationJobResult call() throws Exception {
+                        return startDocumentClassificationJob(startDocumentClassificationJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3038,19 +2824,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest,
             final AsyncHandler<StartDocumentClassificationJobRequest, StartDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                StartDocumentClassificationJobResult result = null;
-                try {
-                    result = startDocumentClassificationJob(startDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentClassificationJobRequest, asyncHandler,
+                new Callable<StartDocumentClassificationJobResult>() {
+                    public StartDocumentClassificationJobResult call() throws Exception {
+                        return startDocumentClassificationJob(startDocumentClassificationJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3078,11 +2857,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDominantLanguageDetectionJobRequest,
+                new Callable<StartDominantLanguageDetectionJobResult>() {
+                    public StartDominantLanguageDetectionJobResult call() throws Exception {
+                        return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3111,19 +2891,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest,
             final AsyncHandler<StartDominantLanguageDetectionJobRequest, StartDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                StartDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDominantLanguageDetectionJobRequest, asyncHandler,
+                new Callable<StartDominantLanguageDetectionJobResult>() {
+                    public StartDominantLanguageDetectionJobResult call() throws Exception {
+                        return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3159,11 +2932,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startEntitiesDetectionJobRequest,
+                new Callable<StartEntitiesDetectionJobResult>() {
+                    public StartEntitiesDetectionJobResult call() throws Exception {
+                        return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3200,19 +2974,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest,
             final AsyncHandler<StartEntitiesDetectionJobRequest, StartEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                StartEntitiesDetectionJobResult result = null;
-                try {
-                    result = startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startEntitiesDetectionJobRequest, asyncHandler,
+                new Callable<StartEntitiesDetectionJobResult>() {
+                    public StartEntitiesDetectionJobResult call() throws Exception {
+                        return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3240,11 +3007,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startKeyPhrasesDetectionJobRequest,
+                new Callable<StartKeyPhrasesDetectionJobResult>() {
+                    public StartKeyPhrasesDetectionJobResult call() throws Exception {
+                        return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3273,19 +3041,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StartKeyPhrasesDetectionJobRequest, StartKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                StartKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startKeyPhrasesDetectionJobRequest, asyncHandler,
+                new Callable<StartKeyPhrasesDetectionJobResult>() {
+                    public StartKeyPhrasesDetectionJobResult call() throws Exception {
+                        return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3313,11 +3074,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                return startSentimentDetectionJob(startSentimentDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startSentimentDetectionJobRequest,
+                new Callable<StartSentimentDetectionJobResult>() {
+                    public StartSentimentDetectionJobResult call() throws Exception {
+                        return startSentimentDetectionJob(startSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3346,19 +3108,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest,
             final AsyncHandler<StartSentimentDetectionJobRequest, StartSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                StartSentimentDetectionJobResult result = null;
-                try {
-                    result = startSentimentDetectionJob(startSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startSentimentDetectionJobRequest, asyncHandler,
+                new Callable<StartSentimentDetectionJobResult>() {
+                    public StartSentimentDetectionJobResult call() throws Exception {
+                        return startSentimentDetectionJob(startSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3387,11 +3142,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                return startTopicsDetectionJob(startTopicsDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startTopicsDetectionJobRequest,
+                new Callable<StartTopicsDetectionJobResult>() {
+                    public StartTopicsDetectionJobResult call() throws Exception {
+                        return startTopicsDetectionJob(startTopicsDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3421,19 +3177,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest,
             final AsyncHandler<StartTopicsDetectionJobRequest, StartTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                StartTopicsDetectionJobResult result = null;
-                try {
-                    result = startTopicsDetectionJob(startTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startTopicsDetectionJobRequest, asyncHandler,
+                new Callable<StartTopicsDetectionJobResult>() {
+                    public StartTopicsDetectionJobResult call() throws Exception {
+                        return startTopicsDetectionJob(startTopicsDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3475,11 +3224,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopDominantLanguageDetectionJobRequest,
+                new Callable<StopDominantLanguageDetectionJobResult>() {
+                    public StopDominantLanguageDetectionJobResult call() throws Exception {
+                        return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3522,19 +3272,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest,
             final AsyncHandler<StopDominantLanguageDetectionJobRequest, StopDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                StopDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopDominantLanguageDetectionJobRequest, asyncHandler,
+                new Callable<StopDominantLanguageDetectionJobResult>() {
+                    public StopDominantLanguageDetectionJobResult call() throws Exception {
+                        return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3576,11 +3319,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopEntitiesDetectionJobRequest,
+                new Callable<StopEntitiesDetectionJobResult>() {
+                    public StopEntitiesDetectionJobResult call() throws Exception {
+                        return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3623,19 +3367,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest,
             final AsyncHandler<StopEntitiesDetectionJobRequest, StopEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                StopEntitiesDetectionJobResult result = null;
-                try {
-                    result = stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopEntitiesDetectionJobRequest, asyncHandler,
+                new Callable<StopEntitiesDetectionJobResult>() {
+                    public StopEntitiesDetectionJobResult call() throws Exception {
+                        return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3677,11 +3414,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopKeyPhrasesDetectionJobRequest,
+                new Callable<StopKeyPhrasesDetectionJobResult>() {
+                    public StopKeyPhrasesDetectionJobResult call() throws Exception {
+                        return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3724,19 +3462,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StopKeyPhrasesDetectionJobRequest, StopKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                StopKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopKeyPhrasesDetectionJobRequest, asyncHandler,
+                new Callable<StopKeyPhrasesDetectionJobResult>() {
+                    public StopKeyPhrasesDetectionJobResult call() throws Exception {
+                        return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3778,11 +3509,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopSentimentDetectionJobRequest,
+                new Callable<StopSentimentDetectionJobResult>() {
+                    public StopSentimentDetectionJobResult call() throws Exception {
+                        return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3825,19 +3557,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest,
             final AsyncHandler<StopSentimentDetectionJobRequest, StopSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                StopSentimentDetectionJobResult result = null;
-                try {
-                    result = stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopSentimentDetectionJobRequest, asyncHandler,
+                new Callable<StopSentimentDetectionJobResult>() {
+                    public StopSentimentDetectionJobResult call() throws Exception {
+                        return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -3872,11 +3597,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopTrainingDocumentClassifierRequest,
+                new Callable<StopTrainingDocumentClassifierResult>() {
+                    public StopTrainingDocumentClassifierResult call() throws Exception {
+                        return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -3912,19 +3638,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest,
             final AsyncHandler<StopTrainingDocumentClassifierRequest, StopTrainingDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                StopTrainingDocumentClassifierResult result = null;
-                try {
-                    result = stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopTrainingDocumentClassifierRequest, asyncHandler,
+                new Callable<StopTrainingDocumentClassifierResult>() {
+                    public StopTrainingDocumentClassifierResult call() throws Exception {
+                        return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
+                    }
+                });
     }
 
     /**
@@ -3959,11 +3678,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopTrainingEntityRecognizerRequest,
+                new Callable<StopTrainingEntityRecognizerResult>() {
+                    public StopTrainingEntityRecognizerResult call() throws Exception {
+                        return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -3999,19 +3719,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest,
             final AsyncHandler<StopTrainingEntityRecognizerRequest, StopTrainingEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                StopTrainingEntityRecognizerResult result = null;
-                try {
-                    result = stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopTrainingEntityRecognizerRequest, asyncHandler,
+                new Callable<StopTrainingEntityRecognizerResult>() {
+                    public StopTrainingEntityRecognizerResult call() throws Exception {
+                        return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
+                    }
+                });
     }
 
     /**
@@ -4040,11 +3753,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest,
+                new Callable<TagResourceResult>() {
+                    public TagResourceResult call() throws Exception {
+                        return tagResource(tagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -4074,19 +3788,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest, asyncHandler,
+                new Callable<TagResourceResult>() {
+                    public TagResourceResult call() throws Exception {
+                        return tagResource(tagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -4113,11 +3820,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest,
+                new Callable<UntagResourceResult>() {
+                    public UntagResourceResult call() throws Exception {
+                        return untagResource(untagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -4145,19 +3853,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest, asyncHandler,
+                new Callable<UntagResourceResult>() {
+                    public UntagResourceResult call() throws Exception {
+                        return untagResource(untagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -4186,11 +3887,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                return updateEndpoint(updateEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateEndpointRequest,
+                new Callable<UpdateEndpointResult>() {
+                    public UpdateEndpointResult call() throws Exception {
+                        return updateEndpoint(updateEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -4220,19 +3922,12 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final UpdateEndpointRequest updateEndpointRequest,
             final AsyncHandler<UpdateEndpointRequest, UpdateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                UpdateEndpointResult result = null;
-                try {
-                    result = updateEndpoint(updateEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateEndpointRequest, asyncHandler,
+                new Callable<UpdateEndpointResult>() {
+                    public UpdateEndpointResult call() throws Exception {
+                        return updateEndpoint(updateEndpointRequest);
+                    }
+                });
     }
 
 }
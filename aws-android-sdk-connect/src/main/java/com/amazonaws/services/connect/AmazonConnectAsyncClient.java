@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -295,11 +296,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                return createUser(createUserRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createUserRequest,
+                new Callable<CreateUserResult>() {
+                    public CreateUserResult call() throws Exception {
+                        return createUser(createUserRequest);
+                    }
+                });
     }
 
     /**
@@ -328,19 +330,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                CreateUserResult result = null;
-                try {
-                    result = createUser(createUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createUserRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createUserRequest, asyncHandler,
+                new Callable<CreateUserResult>() {
+                    public CreateUserResult call() throws Exception {
+                        return createUser(createUserRequest);
+                    }
+                });
     }
 
     /**
@@ -366,7 +361,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, deleteUserRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUser(deleteUserRequest);
                 return null;
@@ -398,19 +393,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteUser(deleteUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteUserRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteUserRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteUser(deleteUserRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -440,11 +429,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                return describeUser(describeUserRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserRequest,
+                new Callable<DescribeUserResult>() {
+                    public DescribeUserResult call() throws Exception {
+                        return describeUser(describeUserRequest);
+                    }
+                });
     }
 
     /**
@@ -475,19 +465,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserRequest describeUserRequest,
             final AsyncHandler<DescribeUserRequest, DescribeUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                DescribeUserResult result = null;
-                try {
-                    result = describeUser(describeUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserRequest, asyncHandler,
+                new Callable<DescribeUserResult>() {
+                    public DescribeUserResult call() throws Exception {
+                        return describeUser(describeUserRequest);
+                    }
+                });
     }
 
     /**
@@ -515,11 +498,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserHierarchyGroupRequest,
+                new Callable<DescribeUserHierarchyGroupResult>() {
+                    public DescribeUserHierarchyGroupResult call() throws Exception {
+                        return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
+                    }
+                });
     }
 
     /**
@@ -548,19 +532,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest,
             final AsyncHandler<DescribeUserHierarchyGroupRequest, DescribeUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                DescribeUserHierarchyGroupResult result = null;
-                try {
-                    result = describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyGroupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserHierarchyGroupRequest, asyncHandler,
+                new Callable<DescribeUserHierarchyGroupResult>() {
+                    public DescribeUserHierarchyGroupResult call() throws Exception {
+                        return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
+                    }
+                });
     }
 
     /**
@@ -589,11 +566,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserHierarchyStructureRequest,
+                new Callable<DescribeUserHierarchyStructureResult>() {
+                    public DescribeUserHierarchyStructureResult call() throws Exception {
+                        return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
+                    }
+                });
     }
 
     /**
@@ -623,19 +601,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest,
             final AsyncHandler<DescribeUserHierarchyStructureRequest, DescribeUserHierarchyStructureResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                DescribeUserHierarchyStructureResult result = null;
-                try {
-                    result = describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyStructureRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeUserHierarchyStructureRequest, asyncHandler,
+                new Callable<DescribeUserHierarchyStructureResult>() {
+                    public DescribeUserHierarchyStructureResult call() throws Exception {
+                        return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
+                    }
+                });
     }
 
     /**
@@ -661,11 +632,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                return getContactAttributes(getContactAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getContactAttributesRequest,
+                new Callable<GetContactAttributesResult>() {
+                    public GetContactAttributesResult call() throws Exception {
+                        return getContactAttributes(getContactAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -692,19 +664,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetContactAttributesRequest getContactAttributesRequest,
             final AsyncHandler<GetContactAttributesRequest, GetContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                GetContactAttributesResult result = null;
-                try {
-                    result = getContactAttributes(getContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getContactAttributesRequest, asyncHandler,
+                new Callable<GetContactAttributesResult>() {
+                    public GetContactAttributesResult call() throws Exception {
+                        return getContactAttributes(getContactAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -739,11 +704,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                return getCurrentMetricData(getCurrentMetricDataRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getCurrentMetricDataRequest,
+                new Callable<GetCurrentMetricDataResult>() {
+                    public GetCurrentMetricDataResult call() throws Exception {
+                        return getCurrentMetricData(getCurrentMetricDataRequest);
+                    }
+                });
     }
 
     /**
@@ -779,19 +745,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest,
             final AsyncHandler<GetCurrentMetricDataRequest, GetCurrentMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                GetCurrentMetricDataResult result = null;
-                try {
-                    result = getCurrentMetricData(getCurrentMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCurrentMetricDataRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getCurrentMetricDataRequest, asyncHandler,
+                new Callable<GetCurrentMetricDataResult>() {
+                    public GetCurrentMetricDataResult call() throws Exception {
+                        return getCurrentMetricData(getCurrentMetricDataRequest);
+                    }
+                });
     }
 
     /**
@@ -819,11 +778,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                return getFederationToken(getFederationTokenRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getFederationTokenRequest,
+                new Callable<GetFederationTokenResult>() {
+                    public GetFederationTokenResult call() throws Exception {
+                        return getFederationToken(getFederationTokenRequest);
+                    }
+                });
     }
 
     /**
@@ -852,19 +812,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                GetFederationTokenResult result = null;
-                try {
-                    result = getFederationToken(getFederationTokenRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getFederationTokenRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getFederationTokenRequest, asyncHandler,
+                new Callable<GetFederationTokenResult>() {
+                    public GetFederationTokenResult call() throws Exception {
+                        return getFederationToken(getFederationTokenRequest);
+                    }
+                });
     }
 
     /**
@@ -897,11 +850,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                return getMetricData(getMetricDataRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getMetricDataRequest,
+                new Callable<GetMetricDataResult>() {
+                    public GetMetricDataResult call() throws Exception {
+                        return getMetricData(getMetricDataRequest);
+                    }
+                });
     }
 
     /**
@@ -935,19 +889,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetMetricDataRequest getMetricDataRequest,
             final AsyncHandler<GetMetricDataRequest, GetMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                GetMetricDataResult result = null;
-                try {
-                    result = getMetricData(getMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricDataRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getMetricDataRequest, asyncHandler,
+                new Callable<GetMetricDataResult>() {
+                    public GetMetricDataResult call() throws Exception {
+                        return getMetricData(getMetricDataRequest);
+                    }
+                });
     }
 
     /**
@@ -975,11 +922,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                return listContactFlows(listContactFlowsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listContactFlowsRequest,
+                new Callable<ListContactFlowsResult>() {
+                    public ListContactFlowsResult call() throws Exception {
+                        return listContactFlows(listContactFlowsRequest);
+                    }
+                });
     }
 
     /**
@@ -1008,19 +956,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListContactFlowsRequest listContactFlowsRequest,
             final AsyncHandler<ListContactFlowsRequest, ListContactFlowsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                ListContactFlowsResult result = null;
-                try {
-                    result = listContactFlows(listContactFlowsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactFlowsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listContactFlowsRequest, asyncHandler,
+                new Callable<ListContactFlowsResult>() {
+                    public ListContactFlowsResult call() throws Exception {
+                        return listContactFlows(listContactFlowsRequest);
+                    }
+                });
     }
 
     /**
@@ -1049,11 +990,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                return listHoursOfOperations(listHoursOfOperationsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listHoursOfOperationsRequest,
+                new Callable<ListHoursOfOperationsResult>() {
+                    public ListHoursOfOperationsResult call() throws Exception {
+                        return listHoursOfOperations(listHoursOfOperationsRequest);
+                    }
+                });
     }
 
     /**
@@ -1083,19 +1025,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest,
             final AsyncHandler<ListHoursOfOperationsRequest, ListHoursOfOperationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                ListHoursOfOperationsResult result = null;
-                try {
-                    result = listHoursOfOperations(listHoursOfOperationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listHoursOfOperationsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listHoursOfOperationsRequest, asyncHandler,
+                new Callable<ListHoursOfOperationsResult>() {
+                    public ListHoursOfOperationsResult call() throws Exception {
+                        return listHoursOfOperations(listHoursOfOperationsRequest);
+                    }
+                });
     }
 
     /**
@@ -1123,11 +1058,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                return listPhoneNumbers(listPhoneNumbersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPhoneNumbersRequest,
+                new Callable<ListPhoneNumbersResult>() {
+                    public ListPhoneNumbersResult call() throws Exception {
+                        return listPhoneNumbers(listPhoneNumbersRequest);
+                    }
+                });
     }
 
     /**
@@ -1156,19 +1092,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListPhoneNumbersRequest listPhoneNumbersRequest,
             final AsyncHandler<ListPhoneNumbersRequest, ListPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                ListPhoneNumbersResult result = null;
-                try {
-                    result = listPhoneNumbers(listPhoneNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPhoneNumbersRequest, asyncHandler,
+                new Callable<ListPhoneNumbersResult>() {
+                    public ListPhoneNumbersResult call() throws Exception {
+                        return listPhoneNumbers(listPhoneNumbersRequest);
+                    }
+                });
     }
 
     /**
@@ -1195,11 +1124,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listQueuesRequest,
+                new Callable<ListQueuesResult>() {
+                    public ListQueuesResult call() throws Exception {
+                        return listQueues(listQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1227,19 +1157,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listQueuesRequest, asyncHandler,
+                new Callable<ListQueuesResult>() {
+                    public ListQueuesResult call() throws Exception {
+                        return listQueues(listQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1268,11 +1191,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                return listRoutingProfiles(listRoutingProfilesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listRoutingProfilesRequest,
+                new Callable<ListRoutingProfilesResult>() {
+                    public ListRoutingProfilesResult call() throws Exception {
+                        return listRoutingProfiles(listRoutingProfilesRequest);
+                    }
+                });
     }
 
     /**
@@ -1302,19 +1226,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListRoutingProfilesRequest listRoutingProfilesRequest,
             final AsyncHandler<ListRoutingProfilesRequest, ListRoutingProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                ListRoutingProfilesResult result = null;
-                try {
-                    result = listRoutingProfiles(listRoutingProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listRoutingProfilesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listRoutingProfilesRequest, asyncHandler,
+                new Callable<ListRoutingProfilesResult>() {
+                    public ListRoutingProfilesResult call() throws Exception {
+                        return listRoutingProfiles(listRoutingProfilesRequest);
+                    }
+                });
     }
 
     /**
@@ -1343,11 +1260,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                return listSecurityProfiles(listSecurityProfilesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSecurityProfilesRequest,
+                new Callable<ListSecurityProfilesResult>() {
+                    public ListSecurityProfilesResult call() throws Exception {
+                        return listSecurityProfiles(listSecurityProfilesRequest);
+                    }
+                });
     }
 
     /**
@@ -1377,19 +1295,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListSecurityProfilesRequest listSecurityProfilesRequest,
             final AsyncHandler<ListSecurityProfilesRequest, ListSecurityProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                ListSecurityProfilesResult result = null;
-                try {
-                    result = listSecurityProfiles(listSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSecurityProfilesRequest, asyncHandler,
+                new Callable<ListSecurityProfilesResult>() {
+                    public ListSecurityProfilesResult call() throws Exception {
+                        return listSecurityProfiles(listSecurityProfilesRequest);
+                    }
+                });
     }
 
     /**
@@ -1417,11 +1328,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -1450,19 +1362,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest, asyncHandler,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -1491,11 +1396,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listUserHierarchyGroupsRequest,
+                new Callable<ListUserHierarchyGroupsResult>() {
+                    public ListUserHierarchyGroupsResult call() throws Exception {
+                        return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1525,19 +1431,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest,
             final AsyncHandler<ListUserHierarchyGroupsRequest, ListUserHierarchyGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                ListUserHierarchyGroupsResult result = null;
-                try {
-                    result = listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUserHierarchyGroupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listUserHierarchyGroupsRequest, asyncHandler,
+                new Callable<ListUserHierarchyGroupsResult>() {
+                    public ListUserHierarchyGroupsResult call() throws Exception {
+                        return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1564,11 +1463,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                return listUsers(listUsersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listUsersRequest,
+                new Callable<ListUsersResult>() {
+                    public ListUsersResult call() throws Exception {
+                        return listUsers(listUsersRequest);
+                    }
+                });
     }
 
     /**
@@ -1596,19 +1496,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                ListUsersResult result = null;
-                try {
-                    result = listUsers(listUsersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUsersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listUsersRequest, asyncHandler,
+                new Callable<ListUsersResult>() {
+                    public ListUsersResult call() throws Exception {
+                        return listUsers(listUsersRequest);
+                    }
+                });
     }
 
     /**
@@ -1648,11 +1541,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                return startChatContact(startChatContactRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startChatContactRequest,
+                new Callable<StartChatContactResult>() {
+                    public StartChatContactResult call() throws Exception {
+                        return startChatContact(startChatContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1693,19 +1587,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartChatContactRequest startChatContactRequest,
             final AsyncHandler<StartChatContactRequest, StartChatContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                StartChatContactResult result = null;
-                try {
-                    result = startChatContact(startChatContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startChatContactRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startChatContactRequest, asyncHandler,
+                new Callable<StartChatContactResult>() {
+                    public StartChatContactResult call() throws Exception {
+                        return startChatContact(startChatContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1739,11 +1626,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                return startOutboundVoiceContact(startOutboundVoiceContactRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startOutboundVoiceContactRequest,
+                new Callable<StartOutboundVoiceContactResult>() {
+                    public StartOutboundVoiceContactResult call() throws Exception {
+                        return startOutboundVoiceContact(startOutboundVoiceContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1778,19 +1666,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest,
             final AsyncHandler<StartOutboundVoiceContactRequest, StartOutboundVoiceContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                StartOutboundVoiceContactResult result = null;
-                try {
-                    result = startOutboundVoiceContact(startOutboundVoiceContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startOutboundVoiceContactRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startOutboundVoiceContactRequest, asyncHandler,
+                new Callable<StartOutboundVoiceContactResult>() {
+                    public StartOutboundVoiceContactResult call() throws Exception {
+                        return startOutboundVoiceContact(startOutboundVoiceContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1816,11 +1697,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                return stopContact(stopContactRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopContactRequest,
+                new Callable<StopContactResult>() {
+                    public StopContactResult call() throws Exception {
+                        return stopContact(stopContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1847,19 +1729,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
             final AsyncHandler<StopContactRequest, StopContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                StopContactResult result = null;
-                try {
-                    result = stopContact(stopContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopContactRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, stopContactRequest, asyncHandler,
+                new Callable<StopContactResult>() {
+                    public StopContactResult call() throws Exception {
+                        return stopContact(stopContactRequest);
+                    }
+                });
     }
 
     /**
@@ -1888,12 +1763,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                tagResource(tagResourceRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        tagResource(tagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1923,19 +1799,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        tagResource(tagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1961,12 +1831,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                untagResource(untagResourceRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        untagResource(untagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1993,19 +1864,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        untagResource(untagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2056,11 +1921,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                return updateContactAttributes(updateContactAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateContactAttributesRequest,
+                new Callable<UpdateContactAttributesResult>() {
+                    public UpdateContactAttributesResult call() throws Exception {
+                        return updateContactAttributes(updateContactAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2112,19 +1978,12 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactAttributesRequest updateContactAttributesRequest,
             final AsyncHandler<UpdateContactAttributesRequest, UpdateContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                UpdateContactAttributesResult result = null;
-                try {
-                    result = updateContactAttributes(updateContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateContactAttributesRequest, asyncHandler,
+                new Callable<UpdateContactAttributesResult>() {
+                    public UpdateContactAttributesResult call() throws Exception {
+                        return updateContactAttributes(updateContactAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2152,12 +2011,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserHierarchy(updateUserHierarchyRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserHierarchyRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserHierarchy(updateUserHierarchyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2186,19 +2046,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserHierarchyRequest updateUserHierarchyRequest,
             final AsyncHandler<UpdateUserHierarchyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserHierarchy(updateUserHierarchyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserHierarchyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserHierarchyRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserHierarchy(updateUserHierarchyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2226,12 +2080,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserIdentityInfoRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserIdentityInfo(updateUserIdentityInfoRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2260,19 +2115,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest,
             final AsyncHandler<UpdateUserIdentityInfoRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserIdentityInfoRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserIdentityInfoRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserIdentityInfo(updateUserIdentityInfoRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2300,12 +2149,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserPhoneConfigRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserPhoneConfig(updateUserPhoneConfigRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2334,19 +2184,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest,
             final AsyncHandler<UpdateUserPhoneConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserPhoneConfigRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserPhoneConfigRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserPhoneConfig(updateUserPhoneConfigRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2374,12 +2218,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserRoutingProfileRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserRoutingProfile(updateUserRoutingProfileRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2408,19 +2253,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest,
             final AsyncHandler<UpdateUserRoutingProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserRoutingProfileRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserRoutingProfile(updateUserRoutingProfileRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2448,12 +2287,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserSecurityProfilesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2482,19 +2322,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest,
             final AsyncHandler<UpdateUserSecurityProfilesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateUserSecurityProfilesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
+                        return null;
+                    }
+                });
     }
 
 }
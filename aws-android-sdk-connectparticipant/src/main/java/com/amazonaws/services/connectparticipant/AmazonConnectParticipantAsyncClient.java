@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -188,11 +189,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                return createParticipantConnection(createParticipantConnectionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createParticipantConnectionRequest,
+                new Callable<CreateParticipantConnectionResult>() {
+                    public CreateParticipantConnectionResult call() throws Exception {
+                        return createParticipantConnection(createParticipantConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -242,19 +244,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final CreateParticipantConnectionRequest createParticipantConnectionRequest,
             final AsyncHandler<CreateParticipantConnectionRequest, CreateParticipantConnectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                CreateParticipantConnectionResult result = null;
-                try {
-                    result = createParticipantConnection(createParticipantConnectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createParticipantConnectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createParticipantConnectionRequest, asyncHandler,
+                new Callable<CreateParticipantConnectionResult>() {
+                    public CreateParticipantConnectionResult call() throws Exception {
+                        return createParticipantConnection(createParticipantConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -282,11 +277,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                return disconnectParticipant(disconnectParticipantRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disconnectParticipantRequest,
+                new Callable<DisconnectParticipantResult>() {
+                    public DisconnectParticipantResult call() throws Exception {
+                        return disconnectParticipant(disconnectParticipantRequest);
+                    }
+                });
     }
 
     /**
@@ -315,19 +311,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final DisconnectParticipantRequest disconnectParticipantRequest,
             final AsyncHandler<DisconnectParticipantRequest, DisconnectParticipantResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                DisconnectParticipantResult result = null;
-                try {
-                    result = disconnectParticipant(disconnectParticipantRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disconnectParticipantRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, disconnectParticipantRequest, asyncHandler,
+                new Callable<DisconnectParticipantResult>() {
+                    public DisconnectParticipantResult call() throws Exception {
+                        return disconnectParticipant(disconnectParticipantRequest);
+                    }
+                });
     }
 
     /**
@@ -355,11 +344,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                return getTranscript(getTranscriptRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTranscriptRequest,
+                new Callable<GetTranscriptResult>() {
+                    public GetTranscriptResult call() throws Exception {
+                        return getTranscript(getTranscriptRequest);
+                    }
+                });
     }
 
     /**
@@ -388,19 +378,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final GetTranscriptRequest getTranscriptRequest,
             final AsyncHandler<GetTranscriptRequest, GetTranscriptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                GetTranscriptResult result = null;
-                try {
-                    result = getTranscript(getTranscriptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTranscriptRequest, asyncHandler,
+                new Callable<GetTranscriptResult>() {
+                    public GetTranscriptResult call() throws Exception {
+                        return getTranscript(getTranscriptRequest);
+                    }
+                });
     }
 
     /**
@@ -426,11 +409,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      */
     public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                return sendEvent(sendEventRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendEventRequest,
+                new Callable<SendEventResult>() {
+                    public SendEventResult call() throws Exception {
+                        return sendEvent(sendEventRequest);
+                    }
+                });
     }
 
     /**
@@ -457,19 +441,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
             final AsyncHandler<SendEventRequest, SendEventResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                SendEventResult result = null;
-                try {
-                    result = sendEvent(sendEventRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEventRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendEventRequest, asyncHandler,
+                new Callable<SendEventResult>() {
+                    public SendEventResult call() throws Exception {
+                        return sendEvent(sendEventRequest);
+                    }
+                });
     }
 
     /**
@@ -495,11 +472,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      */
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageRequest,
+                new Callable<SendMessageResult>() {
+                    public SendMessageResult call() throws Exception {
+                        return sendMessage(sendMessageRequest);
+                    }
+                });
     }
 
     /**
@@ -526,19 +504,12 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageRequest, asyncHandler,
+                new Callable<SendMessageResult>() {
+                    public SendMessageResult call() throws Exception {
+                        return sendMessage(sendMessageRequest);
+                    }
+                });
     }
 
 }
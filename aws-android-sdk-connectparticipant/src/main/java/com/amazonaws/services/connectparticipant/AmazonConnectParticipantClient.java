@@ -78,7 +78,7 @@ public class AmazonConnectParticipantClient extends AmazonWebServiceClient imple
      *            proxy settings, retry counts, etc.).
      */
     public AmazonConnectParticipantClient(ClientConfiguration clientConfiguration) {
-        this(clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
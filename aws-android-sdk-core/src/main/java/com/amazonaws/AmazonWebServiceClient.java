@@ -23,6 +23,7 @@ import com.amazonaws.auth.SignerFactory;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpClient;
 import com.amazonaws.http.UrlHttpClient;
@@ -118,7 +119,7 @@ public abstract class AmazonWebServiceClient {
      */
     protected AmazonWebServiceClient(
             final ClientConfiguration clientConfiguration) {
-        this(clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -133,7 +134,7 @@ public abstract class AmazonWebServiceClient {
     protected AmazonWebServiceClient(
             final ClientConfiguration clientConfiguration,
             final RequestMetricCollector requestMetricCollector) {
-        this(clientConfiguration, new UrlHttpClient(clientConfiguration), null);
+        this(clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration), null);
     }
 
     /**
@@ -731,8 +732,19 @@ public abstract class AmazonWebServiceClient {
      */
     @Deprecated
     protected final void endClientExecution(
-            AWSRequestMetrics awsRequestMetrics, Request<?> request,
-            Response<?> response, boolean loggingAwsRequestMetrics) {
+            final AWSRequestMetrics awsRequestMetrics, final Request<?> request,
+            Response<?> response, final boolean loggingAwsRequestMetrics) {
+        if (request != null && AsyncRetryScheduler.deferCompletion(request,
+                new AsyncRetryScheduler.CompletionListener() {
+                    @Override
+                    public void onCompletion(Response<?> finalResponse) {
+                        endClientExecution(awsRequestMetrics, request, finalResponse,
+                                loggingAwsRequestMetrics);
+                    }
+                })) {
+            // the request waits to be retried, its execution ends once resumed
+            return;
+        }
         if (request != null) {
             awsRequestMetrics.endEvent(Field.ClientExecuteTime);
             awsRequestMetrics.getTimingInfo().endTiming();
@@ -16,6 +16,8 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.PooledHttpClient;
+import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -65,6 +67,14 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_USE_REAPER = true;
 
+    /**
+     * The default max time in milliseconds a pooled connection may stay idle
+     * before it's closed.
+     *
+     * @see PooledHttpClient
+     */
+    public static final long DEFAULT_CONNECTION_MAX_IDLE_MILLIS = 60 * 1000;
+
     /** The HTTP user agent header passed with all HTTP requests. */
     private String userAgent = DEFAULT_USER_AGENT;
 
@@ -184,6 +194,19 @@ public class ClientConfiguration {
      */
     private boolean enableGzip = false;
 
+    /**
+     * Optional whether to send requests through a {@link PooledHttpClient},
+     * which keeps connections alive and bounds them by max connections,
+     * instead of a {@link UrlHttpClient}.
+     */
+    private boolean useConnectionPool = false;
+
+    /**
+     * The max time in milliseconds a pooled connection may stay idle before
+     * it's closed. Only applies when the connection pool is used.
+     */
+    private long connectionMaxIdleMillis = DEFAULT_CONNECTION_MAX_IDLE_MILLIS;
+
     /**
      * Constructor.
      */
@@ -217,6 +240,8 @@ public class ClientConfiguration {
         this.trustManager = other.trustManager;
         this.curlLogging = other.curlLogging;
         this.enableGzip = other.enableGzip;
+        this.useConnectionPool = other.useConnectionPool;
+        this.connectionMaxIdleMillis = other.connectionMaxIdleMillis;
     }
 
     /**
@@ -1132,4 +1157,71 @@ public class ClientConfiguration {
         setEnableGzip(enableGzip);
         return this;
     }
+
+    /**
+     * @return whether requests are sent through a {@link PooledHttpClient}.
+     */
+    public boolean isUseConnectionPool() {
+        return useConnectionPool;
+    }
+
+    /**
+     * Sets whether requests should be sent through a {@link PooledHttpClient},
+     * which keeps connections alive per endpoint, bounds them in total by
+     * {@link #getMaxConnections()} and closes idle ones, instead of a
+     * {@link UrlHttpClient}. The pool isn't used when a proxy host is set.
+     * Takes effect for clients created afterwards.
+     *
+     * @param useConnectionPool whether to use the connection pool.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setUseConnectionPool(boolean useConnectionPool) {
+        this.useConnectionPool = useConnectionPool;
+    }
+
+    /**
+     * Sets whether requests should be sent through a {@link PooledHttpClient}.
+     *
+     * @param useConnectionPool whether to use the connection pool.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionPool(boolean useConnectionPool) {
+        setUseConnectionPool(useConnectionPool);
+        return this;
+    }
+
+    /**
+     * Returns the max time in milliseconds a pooled connection may stay idle
+     * before it's closed.
+     *
+     * @return the max idle time in milliseconds.
+     */
+    public long getConnectionMaxIdleMillis() {
+        return connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the max time in milliseconds a pooled connection may stay idle
+     * before it's closed. Only applies when the connection pool is used.
+     *
+     * @param connectionMaxIdleMillis the max idle time in milliseconds.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the max time in milliseconds a pooled connection may stay idle
+     * before it's closed.
+     *
+     * @param connectionMaxIdleMillis the max idle time in milliseconds.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        setConnectionMaxIdleMillis(connectionMaxIdleMillis);
+        return this;
+    }
 }
@@ -48,6 +48,13 @@ public class AWS4Signer extends AbstractAWSSigner
 
     /** Seconds in a week, which is the max expiration time Sig-v4 accepts */
     private static final long MAX_EXPIRATION_TIME_IN_SECONDS = 60 * 60 * 24 * 7;
+
+    /**
+     * Derived signing keys shared by all AWS4 signers. A signing key only
+     * changes once a day per credentials, region and service.
+     */
+    private static final SigningKeyCache SIGNING_KEY_CACHE = new SigningKeyCache();
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -294,20 +301,56 @@ public class AWS4Signer extends AbstractAWSSigner
         final String stringToSign = getStringToSign(algorithm, timeStamp, scope,
                 getCanonicalRequest(request, contentSha256));
 
-        // AWS4 uses a series of derived keys, formed by hashing different
-        // pieces of data
-        final byte[] kSecret = ("AWS4" + sanitizedCredentials.getAWSSecretKey())
-                .getBytes(StringUtils.UTF8);
-        final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
-        final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
-        final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
-        final byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+        final byte[] kSigning = getSigningKey(sanitizedCredentials, dateStamp,
+                regionName, serviceName);
 
         final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
                 SigningAlgorithm.HmacSHA256);
         return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
     }
 
+    /**
+     * Returns the AWS4 signing key for the given scope, deriving it only if
+     * it isn't already in the shared signing key cache.
+     *
+     * @param sanitizedCredentials the credentials used to sign the request.
+     * @param dateStamp the date stamp of the signing scope.
+     * @param regionName the region name of the signing scope.
+     * @param serviceName the service name of the signing scope.
+     * @return the derived signing key.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    protected final byte[] getSigningKey(AWSCredentials sanitizedCredentials,
+            String dateStamp, String regionName, String serviceName) {
+        final String accessKeyId = sanitizedCredentials.getAWSAccessKeyId();
+        final String secretKey = sanitizedCredentials.getAWSSecretKey();
+        byte[] kSigning = SIGNING_KEY_CACHE.get(accessKeyId, secretKey, dateStamp,
+                regionName, serviceName);
+        if (kSigning == null) {
+            // AWS4 uses a series of derived keys, formed by hashing different
+            // pieces of data
+            final byte[] kSecret = ("AWS4" + secretKey)
+                    .getBytes(StringUtils.UTF8);
+            final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
+            final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
+            final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
+            kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+            SIGNING_KEY_CACHE.put(accessKeyId, secretKey, dateStamp, regionName,
+                    serviceName, kSigning);
+        }
+        return kSigning;
+    }
+
+    /**
+     * Returns the signing key cache shared by all AWS4 signers, e.g. to
+     * inspect its hit and miss counters.
+     *
+     * @return the shared signing key cache.
+     */
+    public static SigningKeyCache getSigningKeyCache() {
+        return SIGNING_KEY_CACHE;
+    }
+
     protected final String getTimeStamp(long dateMilli) {
         return DateUtils.format(TIME_PATTERN, new Date(dateMilli));
     }
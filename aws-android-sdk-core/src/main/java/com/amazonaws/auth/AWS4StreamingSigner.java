@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpHeader;
+import com.amazonaws.util.BinaryUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AWS4 signer that signs large request payloads chunk by chunk while they are
+ * being sent (aws-chunked, or streaming SigV4), instead of reading the whole
+ * payload to hash it before sending it.
+ * <p>
+ * By default, a payload is chunk-signed when the service accepts aws-chunked
+ * payloads, the payload is mark-supported and its Content-Length header is at
+ * least the configured minimum; other payloads are signed like
+ * {@link AWS4Signer} does.
+ * <p>
+ * Only Amazon S3 accepts aws-chunked payloads, so this is the base of the
+ * Amazon S3 signer rather than a signer other clients can opt into; services
+ * such as Amazon Kinesis, AWS Lambda or Amazon Polly reject them. Subclasses
+ * may override {@link #useChunkEncoding(Request)} to chunk-sign the requests
+ * of other services that accept aws-chunked payloads.
+ */
+public class AWS4StreamingSigner extends AWS4Signer {
+
+    /** Default minimum Content-Length of the chunk-signed payloads. */
+    public static final long DEFAULT_MIN_STREAMING_CONTENT_LENGTH = 128 * 1024;
+
+    /** Content encoding of a chunk-signed payload. */
+    protected static final String AWS_CHUNKED_ENCODING = "aws-chunked";
+
+    /** Content hash of a chunk-signed payload. */
+    protected static final String STREAMING_CONTENT_SHA_256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+
+    private static final String X_AMZ_CONTENT_SHA256 = "x-amz-content-sha256";
+    private static final String X_AMZ_DECODED_CONTENT_LENGTH = "x-amz-decoded-content-length";
+    private static final int DEFAULT_BYTE_LENGTH = 4096;
+
+    /** Services known to accept aws-chunked payloads. */
+    private static final Set<String> CHUNK_ENCODING_SERVICES = Collections.singleton("s3");
+
+    private final long minStreamingContentLength;
+
+    /**
+     * Constructs a streaming signer that double url-encodes path elements and
+     * chunk-signs payloads of at least
+     * {@link #DEFAULT_MIN_STREAMING_CONTENT_LENGTH} bytes.
+     */
+    public AWS4StreamingSigner() {
+        this(true);
+    }
+
+    /**
+     * Constructs a streaming signer that chunk-signs payloads of at least
+     * {@link #DEFAULT_MIN_STREAMING_CONTENT_LENGTH} bytes.
+     *
+     * @param doubleUrlEncoding whether to double url-encode path elements.
+     */
+    public AWS4StreamingSigner(boolean doubleUrlEncoding) {
+        this(doubleUrlEncoding, DEFAULT_MIN_STREAMING_CONTENT_LENGTH);
+    }
+
+    /**
+     * Constructs a streaming signer.
+     *
+     * @param doubleUrlEncoding whether to double url-encode path elements.
+     * @param minStreamingContentLength the minimum Content-Length of the
+     *            payloads to chunk-sign.
+     */
+    public AWS4StreamingSigner(boolean doubleUrlEncoding, long minStreamingContentLength) {
+        super(doubleUrlEncoding);
+        this.minStreamingContentLength = minStreamingContentLength;
+    }
+
+    /**
+     * Wraps the payload of a chunk-signed request into an
+     * {@link AwsChunkedEncodingInputStream}, which signs each chunk with the
+     * signature of the previous one, starting from the header signature.
+     */
+    @Override
+    protected void processRequestPayload(Request<?> request,
+            HeaderSigningResult headerSigningResult) {
+        if (!STREAMING_CONTENT_SHA_256.equals(request.getHeaders().get(X_AMZ_CONTENT_SHA256))) {
+            return;
+        }
+        final InputStream payloadStream = request.getContent();
+        final String signature = BinaryUtils.toHex(headerSigningResult.getSignature());
+        request.setContent(new AwsChunkedEncodingInputStream(payloadStream,
+                headerSigningResult.getKSigning(), headerSigningResult.getDateTime(),
+                headerSigningResult.getScope(), signature, this));
+    }
+
+    /**
+     * Returns the pre-defined streaming content hash and sets the content
+     * length and encoding headers of the chunk-encoded payload if the request
+     * is to be chunk-signed. Otherwise calls the superclass method which calculates the
+     * hash of the whole content.
+     */
+    @Override
+    protected String calculateContentHash(Request<?> request) {
+        if (!useChunkEncoding(request)) {
+            return super.calculateContentHash(request);
+        }
+
+        final String contentLength = request.getHeaders().get(HttpHeader.CONTENT_LENGTH);
+        final long originalContentLength;
+        if (contentLength != null) {
+            originalContentLength = Long.parseLong(contentLength);
+        } else {
+            // The length is needed before sending to compute the length of
+            // the chunk-encoded stream.
+            try {
+                originalContentLength = getContentLength(request);
+            } catch (final IOException e) {
+                throw new AmazonClientException(
+                        "Cannot get the content-length of the request content.", e);
+            }
+        }
+        request.addHeader(X_AMZ_CONTENT_SHA256, "required");
+        request.addHeader(X_AMZ_DECODED_CONTENT_LENGTH, Long.toString(originalContentLength));
+        request.addHeader(HttpHeader.CONTENT_LENGTH, Long.toString(
+                AwsChunkedEncodingInputStream.calculateStreamContentLength(originalContentLength)));
+        addContentEncoding(request);
+        return STREAMING_CONTENT_SHA_256;
+    }
+
+    /**
+     * Adds aws-chunked to the Content-Encoding header of the request, ahead of
+     * the encodings the payload already has.
+     */
+    private static void addContentEncoding(Request<?> request) {
+        String encoding = null;
+        for (final Iterator<Map.Entry<String, String>> it = request.getHeaders().entrySet()
+                .iterator(); it.hasNext();) {
+            final Map.Entry<String, String> header = it.next();
+            if (HttpHeader.CONTENT_ENCODING.equalsIgnoreCase(header.getKey())) {
+                encoding = header.getValue();
+                it.remove();
+            }
+        }
+        if (encoding == null || encoding.trim().length() == 0) {
+            encoding = AWS_CHUNKED_ENCODING;
+        } else if (!encoding.toLowerCase(Locale.US).contains(AWS_CHUNKED_ENCODING)) {
+            encoding = AWS_CHUNKED_ENCODING + "," + encoding;
+        }
+        request.addHeader(HttpHeader.CONTENT_ENCODING, encoding);
+    }
+
+    /**
+     * Determines whether the payload of the request is to be chunk-signed.
+     * Only the requests of the services known to accept aws-chunked payloads
+     * are. Subclasses may override this method to select the requests of their
+     * service.
+     *
+     * @param request the request to sign.
+     * @return true to chunk-sign the payload of the request.
+     */
+    protected boolean useChunkEncoding(Request<?> request) {
+        if (!CHUNK_ENCODING_SERVICES.contains(extractServiceName(request.getEndpoint()))) {
+            return false;
+        }
+        final InputStream content = request.getContent();
+        final String contentLength = request.getHeaders().get(HttpHeader.CONTENT_LENGTH);
+        if (content == null || !content.markSupported() || contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength) >= minStreamingContentLength;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read the content of the request to get the length of the stream. The
+     * content must be mark-supported.
+     *
+     * @param request the request.
+     * @return the length of the content.
+     * @throws IOException if the content cannot be read.
+     */
+    public static long getContentLength(Request<?> request) throws IOException {
+        final InputStream content = request.getContent();
+        if (!content.markSupported()) {
+            throw new AmazonClientException("Failed to get content length");
+        }
+
+        long contentLength = 0;
+        final byte[] tmp = new byte[DEFAULT_BYTE_LENGTH];
+        int read;
+        content.mark(-1);
+        while ((read = content.read(tmp)) != -1) {
+            contentLength += read;
+        }
+        content.reset();
+
+        return contentLength;
+    }
+}
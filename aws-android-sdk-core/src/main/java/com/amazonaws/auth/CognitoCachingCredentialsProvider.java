@@ -460,6 +460,10 @@ public class CognitoCachingCredentialsProvider
 
     @Override
     public AWSSessionCredentials getCredentials() {
+        final AWSSessionCredentials credentials = getUnexpiredCredentials();
+        if (credentials != null) {
+            return credentials;
+        }
     	credentialsLock.writeLock().lock();
         try {
             // return only if the credentials are valid
@@ -468,6 +472,7 @@ public class CognitoCachingCredentialsProvider
         	}
 
         	if ((sessionCredentialsExpiration != null) && !needsNewSession()) {
+        		publishSession();
         		return sessionCredentials;
         	}
         	// super will validate loaded credentials
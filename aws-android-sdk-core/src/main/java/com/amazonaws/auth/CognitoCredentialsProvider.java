@@ -39,6 +39,11 @@ import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 import org.json.JSONObject;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.Date;
 import java.util.HashMap;
@@ -90,6 +95,41 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
 
     protected ReentrantReadWriteLock credentialsLock;
 
+    /**
+     * Executor running the background refreshes of all the providers. Its
+     * threads are daemons and go away once idle.
+     */
+    private static final ExecutorService REFRESH_EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "CognitoCredentialsRefresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /** Whether valid credentials are read without locking and refreshed in the background */
+    private volatile boolean backgroundRefreshEnabled;
+
+    /** Snapshot of the current session, read without locking */
+    private volatile Session session;
+
+    /** Whether a background refresh is in flight */
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /** Delay before the first retry of a failed background refresh */
+    private static final long MIN_REFRESH_RETRY_DELAY_MILLIS = 1000L;
+
+    /** Maximum delay between the retries of a failed background refresh */
+    private static final long MAX_REFRESH_RETRY_DELAY_MILLIS = 60 * 1000L;
+
+    /** Number of background refreshes that failed in a row, guarded by refreshing */
+    private int refreshFailures;
+
+    /** Time before which no background refresh is started, after a failure */
+    private volatile long nextRefreshMillis;
+
     /**
      * Constructs a new {@link CognitoCredentialsProvider}, which will use the
      * specified Amazon Cognito identity pool to make a request, using the basic
@@ -434,6 +474,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         credentialsLock.writeLock().lock();
         try {
             sessionCredentialsExpiration = expiration;
+            publishSession();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -459,11 +500,16 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
      */
     @Override
     public AWSSessionCredentials getCredentials() {
+        final AWSSessionCredentials credentials = getUnexpiredCredentials();
+        if (credentials != null) {
+            return credentials;
+        }
         credentialsLock.writeLock().lock();
         try {
             if (needsNewSession()) {
                 startSession();
             }
+            publishSession();
             return sessionCredentials;
         } finally {
             credentialsLock.writeLock().unlock();
@@ -552,6 +598,44 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         return this.refreshThreshold;
     }
 
+    /**
+     * Enables or disables the background refresh of the session credentials.
+     * When enabled, credentials that haven't expired are returned by
+     * {@link #getCredentials()} without locking, and once they are within the
+     * refresh threshold a single refresh is started in the background. Callers
+     * only wait for new credentials when the current ones have expired. It is
+     * disabled by default.
+     *
+     * @param backgroundRefreshEnabled whether to refresh the session
+     *            credentials in the background
+     */
+    public void setBackgroundRefreshEnabled(boolean backgroundRefreshEnabled) {
+        this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+    }
+
+    /**
+     * Enables or disables the background refresh of the session credentials.
+     * Returns a reference to the object so methods can be chained.
+     *
+     * @param backgroundRefreshEnabled whether to refresh the session
+     *            credentials in the background
+     * @return A reference to this updated object so that method calls can be
+     *         chained together.
+     * @see #setBackgroundRefreshEnabled(boolean)
+     */
+    public CognitoCredentialsProvider withBackgroundRefreshEnabled(
+            boolean backgroundRefreshEnabled) {
+        this.setBackgroundRefreshEnabled(backgroundRefreshEnabled);
+        return this;
+    }
+
+    /**
+     * @return whether the session credentials are refreshed in the background
+     */
+    public boolean isBackgroundRefreshEnabled() {
+        return backgroundRefreshEnabled;
+    }
+
     protected void setIdentityId(String identityId) {
         identityProvider.identityChanged(identityId);
     }
@@ -629,6 +713,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         credentialsLock.writeLock().lock();
         try {
             startSession();
+            publishSession();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -659,11 +744,84 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             sessionCredentials = null;
             sessionCredentialsExpiration = null;
+            publishSession();
         } finally {
             credentialsLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Returns the current session credentials without locking if the
+     * background refresh is enabled and they haven't expired. A background
+     * refresh is started when they are within the refresh threshold, unless
+     * one is already in flight.
+     *
+     * @return the session credentials, or null if the caller has to get them
+     *         under the credentials lock.
+     */
+    protected AWSSessionCredentials getUnexpiredCredentials() {
+        final Session current = session;
+        if (!backgroundRefreshEnabled || current == null) {
+            return null;
+        }
+        final long timeRemaining = current.expiration - (System.currentTimeMillis()
+                - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000);
+        if (timeRemaining <= 0) {
+            return null;
+        }
+        if (timeRemaining < (refreshThreshold * 1000L)) {
+            refreshInBackground();
+        }
+        return current.credentials;
+    }
+
+    /**
+     * Publishes the session credentials and their expiration to the readers
+     * that don't lock. Must be called with the credentials write lock held,
+     * after they change.
+     */
+    protected void publishSession() {
+        if (sessionCredentials == null || sessionCredentialsExpiration == null) {
+            session = null;
+        } else {
+            session = new Session(sessionCredentials, sessionCredentialsExpiration.getTime());
+        }
+    }
+
+    private void refreshInBackground() {
+        // back off after failures, so that being offline doesn't start a
+        // refresh on every call
+        if (System.currentTimeMillis() < nextRefreshMillis
+                || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            REFRESH_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        // callers blocked on expired credentials wait for
+                        // the write lock this takes, so the session isn't
+                        // started twice
+                        refresh();
+                        refreshFailures = 0;
+                        nextRefreshMillis = 0;
+                    } catch (final RuntimeException e) {
+                        log.warn("Failed to refresh the credentials in the background", e);
+                        final long delay = MIN_REFRESH_RETRY_DELAY_MILLIS
+                                << Math.min(refreshFailures++, 16);
+                        nextRefreshMillis = System.currentTimeMillis()
+                                + Math.min(delay, MAX_REFRESH_RETRY_DELAY_MILLIS);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
     /**
      * Starts a new session by getting short lived session credentials.
      */
@@ -854,6 +1012,19 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         return timeRemaining < (refreshThreshold * 1000);
     }
 
+    /**
+     * Session credentials with their expiration time, published together.
+     */
+    private static final class Session {
+        private final AWSSessionCredentials credentials;
+        private final long expiration;
+
+        private Session(AWSSessionCredentials credentials, long expiration) {
+            this.credentials = credentials;
+            this.expiration = expiration;
+        }
+    }
+
     /**
      * Append user agent string to the request. The final string is what is set
      * in the ClientCofniguration concatenated with the given userAgent string.
@@ -15,6 +15,12 @@
 
 package com.amazonaws.auth;
 
+import com.amazonaws.AmazonClientException;
+
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+
 /** Enum for the signing algorithm. */
 public enum SigningAlgorithm {
 
@@ -24,4 +30,32 @@ public enum SigningAlgorithm {
     /** HMAC SHA 256. */
     HmacSHA256;
 
+    private final ThreadLocal<Mac> macReference;
+
+    private SigningAlgorithm() {
+        final String algorithmName = this.toString();
+        macReference = new ThreadLocal<Mac>() {
+            @Override
+            protected Mac initialValue() {
+                try {
+                    return Mac.getInstance(algorithmName);
+                } catch (final NoSuchAlgorithmException e) {
+                    throw new AmazonClientException(
+                            "Unable to fetch Mac instance for Algorithm "
+                                    + algorithmName + ": " + e.getMessage(),
+                            e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the thread local reference for the crypto algorithm. Callers
+     * must (re-)initialize the returned instance with a key before use.
+     *
+     * @return the thread local Mac instance for this algorithm.
+     */
+    public Mac getMac() {
+        return macReference.get();
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.util.StringUtils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, thread-safe cache of derived AWS4 signing keys. A signing key only
+ * depends on the secret key, the date stamp, the region and the service, so
+ * it can be reused by every request signed with the same credentials for the
+ * same scope on the same day. Entries are keyed by access key id, date
+ * stamp, region and service; a SHA-256 digest of the secret key is checked
+ * on lookup so that rotated secrets never pick up a stale signing key, without
+ * keeping the secret key itself in the cache. Once the max size is reached,
+ * the least recently used entry is evicted.
+ */
+public class SigningKeyCache {
+
+    /** Default number of signing keys kept in the cache. */
+    public static final int DEFAULT_MAX_ENTRIES = 300;
+
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST =
+            new ThreadLocal<MessageDigest>() {
+                @Override
+                protected MessageDigest initialValue() {
+                    try {
+                        return MessageDigest.getInstance("SHA-256");
+                    } catch (final NoSuchAlgorithmException e) {
+                        throw new AmazonClientException(
+                                "Unable to get SHA256 Function" + e.getMessage(), e);
+                    }
+                }
+            };
+
+    private final InternalCache internalCache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a new cache that will contain at most
+     * {@link #DEFAULT_MAX_ENTRIES} entries.
+     */
+    public SigningKeyCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a new cache that will contain, at most the specified number of
+     * entries.
+     *
+     * @param maxEntries The maximum size of this cache.
+     */
+    public SigningKeyCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        internalCache = new InternalCache(maxEntries);
+    }
+
+    /**
+     * Returns the signing key cached for the given scope, or null if there is
+     * none. Updates the hit and miss counters accordingly.
+     *
+     * @param accessKeyId the AWS access key id of the signing credentials.
+     * @param secretKey the AWS secret key of the signing credentials.
+     * @param dateStamp the date stamp (yyyyMMdd) of the signing scope.
+     * @param regionName the region name of the signing scope.
+     * @param serviceName the service name of the signing scope.
+     * @return the cached signing key, or null.
+     */
+    public byte[] get(String accessKeyId, String secretKey, String dateStamp,
+            String regionName, String serviceName) {
+        final String key = cacheKey(accessKeyId, dateStamp, regionName, serviceName);
+        final SigningKey entry;
+        synchronized (internalCache) {
+            entry = internalCache.get(key);
+        }
+        final byte[] signingKey = entry != null && entry.isFor(digest(secretKey))
+                ? entry.signingKey : null;
+        if (signingKey == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return signingKey;
+    }
+
+    /**
+     * Adds a signing key to this cache, possibly evicting the least recently
+     * used entry if the cache is at its size limit.
+     *
+     * @param accessKeyId the AWS access key id of the signing credentials.
+     * @param secretKey the AWS secret key of the signing credentials.
+     * @param dateStamp the date stamp (yyyyMMdd) of the signing scope.
+     * @param regionName the region name of the signing scope.
+     * @param serviceName the service name of the signing scope.
+     * @param signingKey the derived signing key.
+     */
+    public void put(String accessKeyId, String secretKey, String dateStamp,
+            String regionName, String serviceName, byte[] signingKey) {
+        final String key = cacheKey(accessKeyId, dateStamp, regionName, serviceName);
+        final SigningKey entry = new SigningKey(digest(secretKey), signingKey);
+        synchronized (internalCache) {
+            internalCache.put(key, entry);
+        }
+    }
+
+    /**
+     * @return the number of lookups that found a cached signing key.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of lookups that had to derive a new signing key.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of signing keys currently cached.
+     */
+    public int size() {
+        synchronized (internalCache) {
+            return internalCache.size();
+        }
+    }
+
+    /**
+     * Removes all cached signing keys and resets the hit and miss counters.
+     */
+    public void clear() {
+        synchronized (internalCache) {
+            internalCache.clear();
+        }
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    private static String cacheKey(String accessKeyId, String dateStamp, String regionName,
+            String serviceName) {
+        return accessKeyId + "/" + dateStamp + "/" + regionName + "/" + serviceName;
+    }
+
+    /**
+     * @return the SHA-256 digest of the secret key, or null if it's null.
+     */
+    private static byte[] digest(String secretKey) {
+        if (secretKey == null) {
+            return null;
+        }
+        final MessageDigest md = SHA256_MESSAGE_DIGEST.get();
+        md.reset();
+        return md.digest(secretKey.getBytes(StringUtils.UTF8));
+    }
+
+    /**
+     * A derived signing key along with the digest of the secret key it was
+     * derived from.
+     */
+    private static final class SigningKey {
+        private final byte[] secretKeyDigest;
+        private final byte[] signingKey;
+
+        SigningKey(byte[] secretKeyDigest, byte[] signingKey) {
+            this.secretKeyDigest = secretKeyDigest;
+            this.signingKey = signingKey;
+        }
+
+        boolean isFor(byte[] otherSecretKeyDigest) {
+            return secretKeyDigest == null ? otherSecretKeyDigest == null
+                    : otherSecretKeyDigest != null
+                            && MessageDigest.isEqual(secretKeyDigest, otherSecretKeyDigest);
+        }
+    }
+
+    /**
+     * Access ordered LinkedHashMap that evicts the least recently used entry
+     * once the max size has been reached.
+     */
+    private static final class InternalCache extends LinkedHashMap<String, SigningKey> {
+        private static final long serialVersionUID = 1L;
+        private static final float LOAD_FACTOR = 0.75f;
+        private final int maxSize;
+
+        InternalCache(int maxSize) {
+            super(maxSize, LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SigningKey> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
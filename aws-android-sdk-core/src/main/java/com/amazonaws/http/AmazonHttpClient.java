@@ -34,7 +34,9 @@ import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.ClientSideRateLimiter;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryTokenBucket;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
@@ -109,7 +111,7 @@ public class AmazonHttpClient {
      *            communicate with AWS (ex: proxy settings, retry count, etc.).
      */
     public AmazonHttpClient(ClientConfiguration config) {
-        this(config, new UrlHttpClient(config));
+        this(config, createHttpClient(config));
     }
 
     /**
@@ -126,7 +128,7 @@ public class AmazonHttpClient {
     @Deprecated
     public AmazonHttpClient(ClientConfiguration config,
             RequestMetricCollector requestMetricCollector) {
-        this(config, new UrlHttpClient(config), requestMetricCollector);
+        this(config, createHttpClient(config), requestMetricCollector);
     }
 
     /**
@@ -164,6 +166,24 @@ public class AmazonHttpClient {
         this.requestMetricCollector = requestMetricCollector;
     }
 
+    /**
+     * Creates the HTTP client selected by the given configuration, a
+     * {@link PooledHttpClient} if the connection pool is enabled and no proxy
+     * is configured, or a {@link UrlHttpClient} otherwise.
+     *
+     * @param config the client configuration.
+     * @return a new HTTP client.
+     */
+    public static HttpClient createHttpClient(ClientConfiguration config) {
+        if (config.isUseConnectionPool()) {
+            if (config.getProxyHost() == null) {
+                return new PooledHttpClient(config);
+            }
+            log.warn("The connection pool doesn't support proxies, it is not used");
+        }
+        return new UrlHttpClient(config);
+    }
+
     /**
      * Returns additional response metadata for an executed request. Response
      * metadata isn't considered part of the standard results returned by an
@@ -206,18 +226,12 @@ public class AmazonHttpClient {
                     "Internal SDK Error: No execution context parameter specified.");
         }
         final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
-        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
-        Response<T> response = null;
-        try {
-            response = executeHelper(request, responseHandler, errorResponseHandler,
-                    executionContext);
-            final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
-            afterResponse(request, requestHandler2s, response, timingInfo);
-            return response;
-        } catch (final AmazonClientException e) {
-            afterError(request, response, requestHandler2s, e);
-            throw e;
-        }
+        // The requests of the calls submitted through AsyncRetryScheduler
+        // don't wait for their retries on the calling thread.
+        final RequestExecution<T> execution = new RequestExecution<T>(request, responseHandler,
+                errorResponseHandler, executionContext, requestHandler2s,
+                AsyncRetryScheduler.bind(request));
+        return execution.execute();
     }
 
     void afterError(Request<?> request, Response<?> response,
@@ -265,214 +279,354 @@ public class AmazonHttpClient {
      * @see AmazonHttpClient#execute(Request, HttpResponseHandler,
      *      HttpResponseHandler, ExecutionContext)
      */
-    @SuppressWarnings("checkstyle:methodlength")
     <T> Response<T> executeHelper(Request<?> request,
             HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext) {
-        /*
-         * Depending on which response handler we end up choosing to handle the
-         * HTTP response, it might require us to leave the underlying HTTP
-         * connection open, depending on whether or not it reads the complete
-         * HTTP response stream from the HTTP connection, or if delays reading
-         * any of the content until after a response is returned to the caller.
-         */
-        boolean leaveHttpConnectionOpen = false;
-        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
-        /*
-         * add the service endpoint to the logs. You can infer service name from
-         * service endpoint
-         */
-        awsRequestMetrics.addProperty(Field.ServiceName, request.getServiceName());
-        awsRequestMetrics.addProperty(Field.ServiceEndpoint, request.getEndpoint());
-
-        // Apply whatever request options we know how to handle, such as
-        // user-agent.
-        setUserAgent(request);
-        request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
-        int requestCount = 0;
-        long lastBackoffDelay = 0;
-        URI redirectedURI = null;
-        AmazonClientException retriedException = null;
-
-        // Make a copy of the original request params and headers so that we can
-        // permute it in this loop and start over with the original every time.
-        final Map<String, String> originalParameters = new LinkedHashMap<String, String>(
-                request.getParameters());
-        final Map<String, String> originalHeaders = new HashMap<String, String>(request.getHeaders());
-        // mark input stream if supported
-        final InputStream originalContent = request.getContent();
-        if (originalContent != null && originalContent.markSupported()) {
-            originalContent.mark(-1);
-        }
+        return new RequestExecution<T>(request, responseHandler, errorResponseHandler,
+                executionContext, null, null).executeAttempts();
+    }
 
-        final AWSCredentials credentials = executionContext.getCredentials();
-        Signer signer = null;
-        HttpResponse httpResponse = null;
-        HttpRequest httpRequest = null;
-
-        while (true) {
-            ++requestCount;
-            awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
-            if (requestCount > 1) { // retry
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
-            if (redirectedURI != null && request.getEndpoint() == null
-                    && request.getResourcePath() == null) {
-                request.setEndpoint(URI.create(
-                        redirectedURI.getScheme() + "://" + redirectedURI.getAuthority()));
-                request.setResourcePath(redirectedURI.getPath());
+    /**
+     * The execution of a request across its attempts. An execution bound to
+     * an asynchronous call is suspended instead of sleeping while it waits to
+     * be retried, and is resumed by {@link AsyncRetryScheduler} once the
+     * backoff delay has elapsed.
+     *
+     * @param <T> the response type.
+     */
+    private final class RequestExecution<T> implements AsyncRetryScheduler.Resumable {
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final List<RequestHandler2> requestHandler2s;
+        /** The asynchronous call the execution is bound to, or null. */
+        private final AsyncRetryScheduler.AsyncCall<?, ?> asyncCall;
+        private final AWSRequestMetrics awsRequestMetrics;
+
+        private final Map<String, String> originalParameters;
+        private final Map<String, String> originalHeaders;
+        private final InputStream originalContent;
+
+        private Signer signer;
+        private int requestCount;
+        private long lastBackoffDelay;
+        private URI redirectedURI;
+        private AmazonClientException retriedException;
+        /** Whether the backoff delay has elapsed while suspended. */
+        private boolean backoffElapsed;
+        /** Whether the rate limiter wait has elapsed while suspended. */
+        private boolean sendTokenAcquired;
+        /** Bytes sent and received by the attempts so far. */
+        private long bytesProcessed;
+
+        RequestExecution(Request<?> request,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext,
+                List<RequestHandler2> requestHandler2s,
+                AsyncRetryScheduler.AsyncCall<?, ?> asyncCall) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.requestHandler2s = requestHandler2s;
+            this.asyncCall = asyncCall;
+            awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            /*
+             * add the service endpoint to the logs. You can infer service name
+             * from service endpoint
+             */
+            awsRequestMetrics.addProperty(Field.ServiceName, request.getServiceName());
+            awsRequestMetrics.addProperty(Field.ServiceEndpoint, request.getEndpoint());
+
+            // Apply whatever request options we know how to handle, such as
+            // user-agent.
+            setUserAgent(request);
+            request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
+
+            // Make a copy of the original request params and headers so that
+            // we can permute it in the attempts and start over with the
+            // original every time.
+            originalParameters = new LinkedHashMap<String, String>(request.getParameters());
+            originalHeaders = new HashMap<String, String>(request.getHeaders());
+            // mark input stream if supported
+            originalContent = request.getContent();
+            if (originalContent != null && originalContent.markSupported()) {
+                originalContent.mark(-1);
             }
+        }
 
+        /**
+         * Executes the request, notifying the request handlers of its outcome.
+         *
+         * @return the response, or an empty response if the execution has
+         *         been suspended.
+         */
+        Response<T> execute() {
+            Response<T> response = null;
             try {
-                if (requestCount > 1) { // retry
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
-                    try {
-                        lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
-                                retriedException,
-                                requestCount,
-                                config.getRetryPolicy());
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
-                    }
-                    final InputStream content = request.getContent();
-                    if (content != null && content.markSupported()) {
-                        content.reset();
-                    }
+                response = executeAttempts();
+                if (response == null) {
+                    // suspended, the request handlers are notified once resumed
+                    return new Response<T>(null, null);
                 }
-                request.addHeader(HEADER_SDK_RETRY_INFO,
-                        (requestCount - 1) + "/" + lastBackoffDelay);
+                final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                afterResponse(request, requestHandler2s, response, timingInfo);
+                return response;
+            } catch (final AmazonClientException e) {
+                afterError(request, response, requestHandler2s, e);
+                throw e;
+            }
+        }
 
-                // Sign the request if a signer was provided
-                if (signer == null) {
-                    signer = executionContext.getSignerByURI(request.getEndpoint());
-                }
-                if (signer != null && credentials != null) {
-                    awsRequestMetrics.startEvent(Field.RequestSigningTime);
-                    try {
-                        signer.sign(request, credentials);
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RequestSigningTime);
+        @Override
+        public Response<?> resume() {
+            return execute();
+        }
+
+        @Override
+        public AmazonClientException abort(Throwable cause) {
+            awsRequestMetrics.endEvent(Field.RetryPauseTime);
+            final AmazonClientException e = retriedException != null ? retriedException
+                    : new AmazonClientException("Unable to resume the request: "
+                            + cause.getMessage(), cause);
+            afterError(request, null, requestHandler2s, e);
+            return e;
+        }
+
+        /**
+         * Sends the request until it succeeds or can't be retried anymore.
+         *
+         * @return the response, or null if the execution has been suspended.
+         */
+        @SuppressWarnings("checkstyle:methodlength")
+        Response<T> executeAttempts() {
+            /*
+             * Depending on which response handler we end up choosing to handle
+             * the HTTP response, it might require us to leave the underlying
+             * HTTP connection open, depending on whether or not it reads the
+             * complete HTTP response stream from the HTTP connection, or if
+             * delays reading any of the content until after a response is
+             * returned to the caller.
+             */
+            boolean leaveHttpConnectionOpen = false;
+            final AWSCredentials credentials = executionContext.getCredentials();
+            HttpResponse httpResponse = null;
+            HttpRequest httpRequest = null;
+
+            while (true) {
+                final ClientSideRateLimiter rateLimiter = config.getRetryPolicy()
+                        .getRateLimiter();
+                if (asyncCall != null && rateLimiter != null && !sendTokenAcquired) {
+                    // give the thread back while the request waits for its turn
+                    sendTokenAcquired = true;
+                    final long sendDelay = rateLimiter.reserve();
+                    if (sendDelay > 0) {
+                        asyncCall.suspend(sendDelay, this);
+                        return null;
                     }
                 }
-
-                if (REQUEST_LOG.isDebugEnabled()) {
-                    REQUEST_LOG.debug("Sending Request: " + request.toString());
+                ++requestCount;
+                awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
+                if (requestCount > 1) { // retry
+                    request.setParameters(originalParameters);
+                    request.setHeaders(originalHeaders);
+                    request.setContent(originalContent);
+                }
+                if (redirectedURI != null && request.getEndpoint() == null
+                        && request.getResourcePath() == null) {
+                    request.setEndpoint(URI.create(
+                            redirectedURI.getScheme() + "://" + redirectedURI.getAuthority()));
+                    request.setResourcePath(redirectedURI.getPath());
                 }
 
-                httpRequest = requestFactory.createHttpRequest(request, config,
-                        executionContext);
-
-                retriedException = null;
-                awsRequestMetrics.startEvent(Field.HttpRequestTime);
                 try {
-                    httpResponse = httpClient.execute(httpRequest);
-                } finally {
-                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
-                }
+                    if (requestCount > 1) { // retry
+                        if (backoffElapsed) {
+                            backoffElapsed = false;
+                            awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                        } else {
+                            awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                            try {
+                                lastBackoffDelay = pauseBeforeNextRetry(
+                                        request.getOriginalRequest(),
+                                        retriedException,
+                                        requestCount,
+                                        config.getRetryPolicy());
+                            } finally {
+                                awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                            }
+                        }
+                        final InputStream content = request.getContent();
+                        if (content != null && content.markSupported()) {
+                            content.reset();
+                        }
+                    }
+                    request.addHeader(HEADER_SDK_RETRY_INFO,
+                            (requestCount - 1) + "/" + lastBackoffDelay);
 
-                if (isRequestSuccessful(httpResponse)) {
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    /*
-                     * If we get back any 2xx status code, then we know we
-                     * should treat the service call as successful.
-                     */
-                    leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
-                    final T response = handleResponse(request, responseHandler,
-                            httpResponse,
+                    // Sign the request if a signer was provided
+                    if (signer == null) {
+                        signer = executionContext.getSignerByURI(request.getEndpoint());
+                    }
+                    if (signer != null && credentials != null) {
+                        awsRequestMetrics.startEvent(Field.RequestSigningTime);
+                        try {
+                            signer.sign(request, credentials);
+                        } finally {
+                            awsRequestMetrics.endEvent(Field.RequestSigningTime);
+                        }
+                    }
+
+                    if (REQUEST_LOG.isDebugEnabled()) {
+                        REQUEST_LOG.debug("Sending Request: " + request.toString());
+                    }
+
+                    httpRequest = requestFactory.createHttpRequest(request, config,
                             executionContext);
-                    return new Response<T>(response, httpResponse);
-                } else if (isTemporaryRedirect(httpResponse)) {
-                    /*
-                     * S3 sends 307 Temporary Redirects if you try to delete an
-                     * EU bucket from the US endpoint. If we get a 307, we'll
-                     * point the HTTP method to the redirected location, and let
-                     * the next retry deliver the request to the right location.
-                     */
-                    final String redirectedLocation = httpResponse.getHeaders().get("Location");
-                    log.debug("Redirecting to: " + redirectedLocation);
-                    // set redirect uri and retry
-                    redirectedURI = URI.create(redirectedLocation);
-                    request.setEndpoint(null);
-                    request.setResourcePath(null);
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
+
+                    retriedException = null;
+                    if (sendTokenAcquired) {
+                        sendTokenAcquired = false;
+                    } else if (rateLimiter != null) {
+                        rateLimiter.acquire();
+                    }
+                    awsRequestMetrics.startEvent(Field.HttpRequestTime);
+                    try {
+                        httpResponse = httpClient.execute(httpRequest);
+                    } finally {
+                        awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                    }
+                    bytesProcessed += httpRequest.getContentLength()
+                            + getContentLength(httpResponse);
+                    awsRequestMetrics.setCounter(Field.BytesProcessed, bytesProcessed);
+
+                    if (isRequestSuccessful(httpResponse)) {
+                        awsRequestMetrics.addProperty(Field.StatusCode,
+                                httpResponse.getStatusCode());
+                        updateAdaptiveRetryState(config.getRetryPolicy(), null, requestCount,
+                                awsRequestMetrics);
+                        /*
+                         * If we get back any 2xx status code, then we know we
+                         * should treat the service call as successful.
+                         */
+                        leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
+                        final T response = handleResponse(request, responseHandler,
+                                httpResponse,
+                                executionContext);
+                        return new Response<T>(response, httpResponse);
+                    } else if (isTemporaryRedirect(httpResponse)) {
+                        /*
+                         * S3 sends 307 Temporary Redirects if you try to delete
+                         * an EU bucket from the US endpoint. If we get a 307,
+                         * we'll point the HTTP method to the redirected
+                         * location, and let the next retry deliver the request
+                         * to the right location.
+                         */
+                        final String redirectedLocation = httpResponse.getHeaders()
+                                .get("Location");
+                        log.debug("Redirecting to: " + redirectedLocation);
+                        // set redirect uri and retry
+                        redirectedURI = URI.create(redirectedLocation);
+                        request.setEndpoint(null);
+                        request.setResourcePath(null);
+                        awsRequestMetrics.addProperty(Field.StatusCode,
+                                httpResponse.getStatusCode());
+                        awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
+                        awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+                    } else {
+                        leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
+                        final AmazonServiceException ase = handleErrorResponse(request,
+                                errorResponseHandler,
+                                httpResponse);
+                        awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
+                        awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
+                        awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
+                        updateAdaptiveRetryState(config.getRetryPolicy(), ase, requestCount,
+                                awsRequestMetrics);
+
+                        if (!shouldRetry(request.getOriginalRequest(),
+                                httpRequest.getContent(),
+                                ase,
+                                requestCount,
+                                config.getRetryPolicy())) {
+                            throw ase;
+                        }
+
+                        // Cache the retryable exception
+                        retriedException = ase;
+                        /*
+                         * Checking for clock skew error again because we don't
+                         * want to set the global time offset for every service
+                         * exception.
+                         */
+                        if (RetryUtils.isClockSkewError(ase)) {
+                            final int timeOffset = parseClockSkewOffset(httpResponse, ase);
+                            SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
+                        }
+                        resetRequestAfterError(request, ase);
+                    }
+                } catch (final IOException ioe) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+                    }
+                    awsRequestMetrics.incrementCounter(Field.Exception);
+                    awsRequestMetrics.addProperty(Field.Exception, ioe);
                     awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                } else {
-                    leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
-                    final AmazonServiceException ase = handleErrorResponse(request, errorResponseHandler,
-                            httpResponse);
-                    awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
-                    awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
-                    awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
 
+                    final AmazonClientException ace = new AmazonClientException(
+                            "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+                    updateAdaptiveRetryState(config.getRetryPolicy(), ace, requestCount,
+                            awsRequestMetrics);
                     if (!shouldRetry(request.getOriginalRequest(),
                             httpRequest.getContent(),
-                            ase,
+                            ace,
                             requestCount,
                             config.getRetryPolicy())) {
-                        throw ase;
+                        throw ace;
                     }
 
                     // Cache the retryable exception
-                    retriedException = ase;
+                    retriedException = ace;
+                    resetRequestAfterError(request, ioe);
+                } catch (final RuntimeException e) {
+                    throw handleUnexpectedFailure(e, awsRequestMetrics);
+                } catch (final Error e) {
+                    throw handleUnexpectedFailure(e, awsRequestMetrics);
+                } finally {
                     /*
-                     * Checking for clock skew error again because we don't want
-                     * to set the global time offset for every service
-                     * exception.
+                     * Some response handlers need to manually manage the HTTP
+                     * connection and will take care of releasing the
+                     * connection on their own, but if this response handler
+                     * doesn't need the connection left open, we go ahead and
+                     * release the it to free up resources.
                      */
-                    if (RetryUtils.isClockSkewError(ase)) {
-                        final int timeOffset = parseClockSkewOffset(httpResponse, ase);
-                        SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
+                    if (!leaveHttpConnectionOpen && httpResponse != null) {
+                        try {
+                            if (httpResponse.getRawContent() != null) {
+                                httpResponse.getRawContent().close();
+                            }
+                        } catch (final IOException e) {
+                            log.warn("Cannot close the response content.", e);
+                        }
                     }
-                    resetRequestAfterError(request, ase);
-                }
-            } catch (final IOException ioe) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
-                awsRequestMetrics.incrementCounter(Field.Exception);
-                awsRequestMetrics.addProperty(Field.Exception, ioe);
-                awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-
-                final AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                if (!shouldRetry(request.getOriginalRequest(),
-                        httpRequest.getContent(),
-                        ace,
-                        requestCount,
-                        config.getRetryPolicy())) {
-                    throw ace;
                 }
 
-                // Cache the retryable exception
-                retriedException = ace;
-                resetRequestAfterError(request, ioe);
-            } catch (final RuntimeException e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } catch (final Error e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } finally {
-                /*
-                 * Some response handlers need to manually manage the HTTP
-                 * connection and will take care of releasing the connection on
-                 * their own, but if this response handler doesn't need the
-                 * connection left open, we go ahead and release the it to free
-                 * up resources.
-                 */
-                if (!leaveHttpConnectionOpen && httpResponse != null) {
-                    try {
-                        if (httpResponse.getRawContent() != null) {
-                            httpResponse.getRawContent().close();
-                        }
-                    } catch (final IOException e) {
-                        log.warn("Cannot close the response content.", e);
-                    }
+                if (asyncCall != null && retriedException != null) {
+                    // give the thread back to the executor during the backoff
+                    lastBackoffDelay = delayBeforeNextRetry(request.getOriginalRequest(),
+                            retriedException,
+                            requestCount + 1,
+                            config.getRetryPolicy());
+                    backoffElapsed = true;
+                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                    asyncCall.suspend(lastBackoffDelay, this);
+                    return null;
                 }
-            }
-        } /* end while (true) */
+            } /* end while (true) */
+        }
     }
 
     /**
@@ -601,9 +755,52 @@ public class AmazonHttpClient {
 
         // Pass all the context information to the RetryCondition and let it
         // decide whether it should be retried.
-        return retryPolicy.getRetryCondition().shouldRetry(originalRequest,
+        if (!retryPolicy.getRetryCondition().shouldRetry(originalRequest,
                 exception,
-                retries);
+                retries)) {
+            return false;
+        }
+
+        // Adaptive retry policies only retry while their retry quota lasts
+        final RetryTokenBucket retryTokenBucket = retryPolicy.getRetryTokenBucket();
+        if (retryTokenBucket != null && !retryTokenBucket.tryAcquire(exception)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Retry quota exhausted, not retrying");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Feeds the outcome of an attempt to the retry token bucket and the rate
+     * limiter of an adaptive retry policy, and records their state in the
+     * request metrics.
+     *
+     * @param retryPolicy The retry policy configured in this http client.
+     * @param exception The error of the attempt, or null if it succeeded.
+     * @param requestCount The number of times the current request has been
+     *            attempted.
+     * @param awsRequestMetrics The metrics of the current request.
+     */
+    private void updateAdaptiveRetryState(RetryPolicy retryPolicy,
+            AmazonClientException exception,
+            int requestCount,
+            AWSRequestMetrics awsRequestMetrics) {
+        final RetryTokenBucket retryTokenBucket = retryPolicy.getRetryTokenBucket();
+        if (retryTokenBucket != null) {
+            if (exception == null) {
+                retryTokenBucket.release(requestCount > 1);
+            }
+            awsRequestMetrics.addProperty(Field.RetryCapacity,
+                    retryTokenBucket.getAvailableCapacity());
+        }
+        final ClientSideRateLimiter rateLimiter = retryPolicy.getRateLimiter();
+        if (rateLimiter != null) {
+            rateLimiter.updateSendingRate(exception instanceof AmazonServiceException
+                    && RetryUtils.isThrottlingException((AmazonServiceException) exception));
+            awsRequestMetrics.addProperty(Field.SendRate, rateLimiter.getSendRate());
+        }
     }
 
     private static boolean isTemporaryRedirect(HttpResponse response) {
@@ -613,6 +810,23 @@ public class AmazonHttpClient {
                 location != null && !location.isEmpty();
     }
 
+    /**
+     * @return the length of the response content declared by its
+     *         Content-Length header, 0 if unknown.
+     */
+    private static long getContentLength(HttpResponse response) {
+        for (final Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            if (HttpHeader.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                try {
+                    return Long.parseLong(header.getValue().trim());
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
     private boolean isRequestSuccessful(HttpResponse response) {
         final int statusCode = response.getStatusCode();
         return statusCode >= HTTP_STATUS_OK && statusCode < HTTP_STATUS_MULTIPLE_CHOICES;
@@ -732,8 +946,7 @@ public class AmazonHttpClient {
     }
 
     /**
-     * Sleep for a period of time on failed request to avoid flooding a service
-     * with retries.
+     * Computes the backoff delay before the next attempt of a failed request.
      *
      * @param originalRequest The original service request that is being
      *            executed.
@@ -742,8 +955,9 @@ public class AmazonHttpClient {
      * @param requestCount current request count (including the next attempt
      *            after the delay)
      * @param retryPolicy The retry policy configured in this http client.
+     * @return the delay in milliseconds.
      */
-    private long pauseBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+    private long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
             AmazonClientException previousException,
             int requestCount,
             RetryPolicy retryPolicy) {
@@ -758,6 +972,27 @@ public class AmazonHttpClient {
             log.debug("Retriable error detected, " +
                     "will retry in " + delay + "ms, attempt number: " + retries);
         }
+        return delay;
+    }
+
+    /**
+     * Sleep for a period of time on failed request to avoid flooding a service
+     * with retries.
+     *
+     * @param originalRequest The original service request that is being
+     *            executed.
+     * @param previousException Exception information for the previous attempt,
+     *            if any.
+     * @param requestCount current request count (including the next attempt
+     *            after the delay)
+     * @param retryPolicy The retry policy configured in this http client.
+     */
+    private long pauseBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+            AmazonClientException previousException,
+            int requestCount,
+            RetryPolicy retryPolicy) {
+        final long delay = delayBeforeNextRetry(originalRequest, previousException,
+                requestCount, retryPolicy);
 
         try {
             Thread.sleep(delay);
@@ -0,0 +1,442 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the service calls of the asynchronous clients on their executor
+ * without parking a worker thread during retry backoff, or while the client
+ * side rate limiter of an adaptive retry policy holds a request back.
+ * <p>
+ * A call submitted through
+ * {@link #submit(ExecutorService, AmazonWebServiceRequest, AsyncHandler, Callable)}
+ * is bound to its service request. When {@link AmazonHttpClient} has to wait
+ * before sending that request, it suspends the execution of the request
+ * instead of sleeping: the call returns, which gives the worker thread back
+ * to the executor, and a shared {@link ScheduledExecutorService} resumes the
+ * same execution on the executor once the delay has elapsed. The resumed
+ * execution keeps the marshalled request, its retry count, request handlers
+ * and metrics, so that the client's {@link com.amazonaws.retry.RetryPolicy}
+ * is still honored. The returned {@link Future} and the {@link AsyncHandler}
+ * receive the result of the final attempt.
+ * <p>
+ * Requests made for other service requests while the call runs, such as the
+ * credentials requests of a credentials provider, are not bound to the call
+ * and wait on the calling thread as usual.
+ */
+public final class AsyncRetryScheduler {
+
+    private static final Log log = LogFactory.getLog(AsyncRetryScheduler.class);
+
+    /** The asynchronous call running on the current thread, if any. */
+    private static final ThreadLocal<AsyncCall<?, ?>> CURRENT_CALL =
+            new ThreadLocal<AsyncCall<?, ?>>();
+
+    private static final AtomicLong SCHEDULED_RETRIES = new AtomicLong();
+
+    /** Shared scheduler that only hands retries back to the client executors. */
+    private static ScheduledExecutorService scheduler;
+
+    private AsyncRetryScheduler() {
+    }
+
+    /**
+     * Listener notified when the execution of a suspended request completes.
+     */
+    public interface CompletionListener {
+        /**
+         * Invoked once the execution of the request has completed.
+         *
+         * @param response the response of the request, or null if it failed.
+         */
+        void onCompletion(Response<?> response);
+    }
+
+    /**
+     * Execution of a request that can be suspended and resumed later on
+     * another thread.
+     */
+    interface Resumable {
+        /**
+         * Continues the execution of the request.
+         *
+         * @return the response of the request.
+         */
+        Response<?> resume();
+
+        /**
+         * Ends the execution of the request because it can't be resumed.
+         *
+         * @param cause the reason the execution can't be resumed.
+         * @return the exception the request fails with.
+         */
+        AmazonClientException abort(Throwable cause);
+    }
+
+    /**
+     * Submits a service call to the given executor. Retries of the call, and
+     * its waits for the rate limiter, are scheduled rather than slept through.
+     *
+     * @param executor the executor the call and its retries run on.
+     * @param request the service request of the call.
+     * @param callable the service call, making a single request for the given
+     *            service request.
+     * @param <RESULT> the result type of the call.
+     * @return a future for the result of the service call.
+     * @throws RejectedExecutionException if the executor does not accept the
+     *             call.
+     */
+    public static <RESULT> Future<RESULT> submit(ExecutorService executor,
+            AmazonWebServiceRequest request, Callable<RESULT> callable) {
+        return submit(executor, request, null, callable);
+    }
+
+    /**
+     * Submits a service call to the given executor, and notifies the given
+     * handler of its outcome. Retries of the call, and its waits for the rate
+     * limiter, are scheduled rather than slept through.
+     *
+     * @param executor the executor the call and its retries run on.
+     * @param request the service request of the call.
+     * @param asyncHandler the handler notified of the outcome of the call, or
+     *            null.
+     * @param callable the service call, making a single request for the given
+     *            service request.
+     * @param <REQUEST> the service request type of the call.
+     * @param <RESULT> the result type of the call.
+     * @return a future for the result of the service call.
+     * @throws RejectedExecutionException if the executor does not accept the
+     *             call.
+     */
+    public static <REQUEST extends AmazonWebServiceRequest, RESULT> Future<RESULT> submit(
+            ExecutorService executor, REQUEST request,
+            AsyncHandler<REQUEST, RESULT> asyncHandler, Callable<RESULT> callable) {
+        final AsyncCall<REQUEST, RESULT> call = new AsyncCall<REQUEST, RESULT>(executor,
+                request, asyncHandler, callable);
+        call.attempt.compareAndSet(null, executor.submit(call));
+        return call;
+    }
+
+    /**
+     * @return the number of times a request has been rescheduled instead of
+     *         blocking a thread since the class was loaded, to be retried or
+     *         to wait for the rate limiter.
+     */
+    public static long getScheduledRetryCount() {
+        return SCHEDULED_RETRIES.get();
+    }
+
+    /**
+     * Defers the given listener until the execution of the request completes
+     * if the execution has been suspended on the current thread. The service
+     * clients use it to end their client execution of a suspended request
+     * once it has actually completed.
+     *
+     * @param request the request whose execution has returned.
+     * @param listener the listener to notify once the execution completes.
+     * @return true if the execution is suspended and the listener will be
+     *         notified later, false if the execution has already completed.
+     */
+    public static boolean deferCompletion(Request<?> request, CompletionListener listener) {
+        final AsyncCall<?, ?> call = CURRENT_CALL.get();
+        if (call == null || call.boundRequest != request || call.suspended == null) {
+            return false;
+        }
+        call.completionListeners.add(listener);
+        return true;
+    }
+
+    /**
+     * Binds the execution of the given request to the asynchronous call
+     * running on the current thread if the request was made for the service
+     * request of that call. Only the first such request is bound.
+     *
+     * @param request the request about to be executed.
+     * @return the call the request is bound to, or null if the request is not
+     *         made by an asynchronous call and must wait on its thread.
+     */
+    static AsyncCall<?, ?> bind(Request<?> request) {
+        final AsyncCall<?, ?> call = CURRENT_CALL.get();
+        if (call == null || call.boundRequest != null
+                || call.request != request.getOriginalRequest()) {
+            return null;
+        }
+        call.boundRequest = request;
+        return call;
+    }
+
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "aws-sdk-retry-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return scheduler;
+    }
+
+    /**
+     * An asynchronous call, and the future of its result.
+     *
+     * @param <REQUEST> the service request type of the call.
+     * @param <RESULT> the result type of the call.
+     */
+    static final class AsyncCall<REQUEST extends AmazonWebServiceRequest, RESULT>
+            implements Runnable, Future<RESULT> {
+        private final ExecutorService executor;
+        private final REQUEST request;
+        private final AsyncHandler<REQUEST, RESULT> asyncHandler;
+        private final Callable<RESULT> callable;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final List<CompletionListener> completionListeners =
+                new ArrayList<CompletionListener>();
+
+        /** The request bound to this call. */
+        private Request<?> boundRequest;
+        /** The suspended execution of the bound request, until it is scheduled. */
+        private Resumable suspended;
+        private long suspendedDelay;
+        /** The latest execution or scheduled retry, used for cancellation. */
+        private final AtomicReference<Future<?>> attempt = new AtomicReference<Future<?>>();
+        private volatile boolean cancelled;
+        private RESULT result;
+        private Throwable failure;
+
+        AsyncCall(ExecutorService executor, REQUEST request,
+                AsyncHandler<REQUEST, RESULT> asyncHandler, Callable<RESULT> callable) {
+            this.executor = executor;
+            this.request = request;
+            this.asyncHandler = asyncHandler;
+            this.callable = callable;
+        }
+
+        /**
+         * Suspends the execution of the bound request until the given delay
+         * has elapsed. The execution is scheduled once it has returned, and is
+         * then resumed on the executor of the call.
+         *
+         * @param delayMillis the delay before resuming, in milliseconds.
+         * @param execution the execution to resume.
+         */
+        void suspend(long delayMillis, Resumable execution) {
+            suspended = execution;
+            suspendedDelay = delayMillis;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            CURRENT_CALL.set(this);
+            RESULT value = null;
+            Throwable t = null;
+            try {
+                value = callable.call();
+            } catch (final Throwable e) {
+                t = e;
+            } finally {
+                CURRENT_CALL.remove();
+            }
+            // once suspended, the outcome comes from the resumed execution
+            if (!scheduleResumption()) {
+                finish(value, t);
+            }
+        }
+
+        private boolean scheduleResumption() {
+            final Resumable execution = suspended;
+            if (execution == null) {
+                return false;
+            }
+            suspended = null;
+            SCHEDULED_RETRIES.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Resuming request in " + suspendedDelay + "ms");
+            }
+            try {
+                attempt.set(getScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        resubmit(execution);
+                    }
+                }, suspendedDelay, TimeUnit.MILLISECONDS));
+            } catch (final RejectedExecutionException e) {
+                completeExecution(null, execution.abort(e));
+                return true;
+            }
+            if (cancelled) {
+                attempt.get().cancel(false);
+            }
+            return true;
+        }
+
+        private void resubmit(final Resumable execution) {
+            if (isDone()) {
+                return;
+            }
+            final Future<?> scheduled = attempt.get();
+            try {
+                attempt.compareAndSet(scheduled, executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        resume(execution);
+                    }
+                }));
+            } catch (final RejectedExecutionException e) {
+                // the client has been shut down during the backoff
+                completeExecution(null, execution.abort(e));
+            }
+        }
+
+        private void resume(Resumable execution) {
+            if (isDone()) {
+                return;
+            }
+            Response<?> response = null;
+            Throwable t = null;
+            try {
+                response = execution.resume();
+            } catch (final Throwable e) {
+                t = e;
+            }
+            if (!scheduleResumption()) {
+                completeExecution(response, t);
+            }
+        }
+
+        /**
+         * Completes the call with the outcome of its resumed execution, as the
+         * service call would have if the execution hadn't been suspended.
+         */
+        @SuppressWarnings("unchecked")
+        private void completeExecution(Response<?> response, Throwable t) {
+            for (final CompletionListener listener : completionListeners) {
+                try {
+                    listener.onCompletion(t == null ? response : null);
+                } catch (final RuntimeException e) {
+                    if (t == null) {
+                        t = e;
+                    }
+                }
+            }
+            // the service calls return the AWS response of their request
+            finish(t == null ? (RESULT) response.getAwsResponse() : null, t);
+        }
+
+        private void finish(RESULT value, Throwable t) {
+            try {
+                if (asyncHandler != null && t == null) {
+                    asyncHandler.onSuccess(request, value);
+                } else if (asyncHandler != null && t instanceof Exception) {
+                    asyncHandler.onError((Exception) t);
+                }
+            } catch (final Throwable e) {
+                complete(null, e);
+                return;
+            }
+            complete(value, t);
+        }
+
+        private synchronized void complete(RESULT value, Throwable t) {
+            if (isDone()) {
+                return;
+            }
+            result = value;
+            failure = t;
+            done.countDown();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (this) {
+                if (isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                done.countDown();
+            }
+            final Future<?> current = attempt.get();
+            if (current != null) {
+                current.cancel(mayInterruptIfRunning);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        @Override
+        public RESULT get() throws InterruptedException, ExecutionException {
+            done.await();
+            return getResult();
+        }
+
+        @Override
+        public RESULT get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (!done.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            return getResult();
+        }
+
+        private synchronized RESULT getResult() throws ExecutionException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A pool of keep-alive HTTP connections, grouped by endpoint (scheme, host and
+ * port). The total number of connections, leased or idle, never exceeds the
+ * configured maximum. When the limit is reached, an idle connection to another
+ * endpoint is closed to make room, or callers wait for a connection to be
+ * released if there is none. Idle connections are closed once they have been
+ * idle longer than the configured max idle time, either lazily when the pool
+ * is used or periodically by the {@link IdleConnectionReaper}.
+ */
+public class HttpConnectionPool {
+
+    private static final Log log = LogFactory.getLog(HttpConnectionPool.class);
+
+    private static final int HTTP_PORT = 80;
+    private static final int HTTPS_PORT = 443;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Connections idle for longer than this are checked for a server side
+     * close before they are handed out again.
+     */
+    private static final long STALE_CHECK_THRESHOLD_MILLIS = 2 * 1000L;
+
+    private final int maxConnections;
+    private final long maxIdleMillis;
+    private final int connectionTimeout;
+    private final int socketTimeout;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+    private final SSLSocketFactory sslSocketFactory;
+    private final HostnameVerifier hostnameVerifier;
+
+    /** Guarded by this. */
+    private final Map<String, Endpoint> endpoints = new HashMap<String, Endpoint>();
+    /** Guarded by this. */
+    private boolean isShutdown;
+    /** Number of leased connections of all endpoints. Guarded by this. */
+    private int leasedCount;
+    /** Number of idle connections of all endpoints. Guarded by this. */
+    private int idleCount;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxConnections the max number of connections, leased or idle, to
+     *            all endpoints.
+     * @param maxIdleMillis the max time in milliseconds a connection may stay
+     *            idle in the pool before it's closed.
+     * @param connectionTimeout the connect timeout in milliseconds. It's also
+     *            used as the max time to wait for a connection to become
+     *            available.
+     * @param socketTimeout the socket read timeout in milliseconds.
+     * @param sendBufferSize the socket send buffer size hint, or 0 for the
+     *            system default.
+     * @param receiveBufferSize the socket receive buffer size hint, or 0 for
+     *            the system default.
+     * @param sslSocketFactory the factory used to layer TLS over https
+     *            connections.
+     */
+    public HttpConnectionPool(int maxConnections, long maxIdleMillis,
+            int connectionTimeout, int socketTimeout, int sendBufferSize,
+            int receiveBufferSize, SSLSocketFactory sslSocketFactory) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.maxIdleMillis = maxIdleMillis;
+        this.connectionTimeout = connectionTimeout;
+        this.socketTimeout = socketTimeout;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.sslSocketFactory = sslSocketFactory;
+        this.hostnameVerifier = HttpsURLConnection.getDefaultHostnameVerifier();
+    }
+
+    /**
+     * Leases a connection to the endpoint of the given URI, reusing an idle
+     * one if possible. The connection must be handed back with
+     * {@link #release(PooledConnection, boolean)}.
+     *
+     * @param uri the request URI.
+     * @return a connection to the endpoint of the URI.
+     * @throws IOException if no connection can be established, or if no
+     *             connection became available in time.
+     */
+    PooledConnection lease(URI uri) throws IOException {
+        final String key = endpointKey(uri);
+        final long deadline = System.currentTimeMillis() + connectionTimeout;
+        final List<PooledConnection> expired = new ArrayList<PooledConnection>();
+        PooledConnection connection = null;
+        boolean create = false;
+        try {
+            synchronized (this) {
+                final Endpoint endpoint = getEndpoint(key);
+                while (true) {
+                    if (isShutdown) {
+                        throw new IOException("Connection pool has been shut down");
+                    }
+                    final long now = System.currentTimeMillis();
+                    connection = pollIdle(endpoint);
+                    while (connection != null && connection.isExpired(now, maxIdleMillis)) {
+                        expired.add(connection);
+                        connection = pollIdle(endpoint);
+                    }
+                    if (connection != null) {
+                        endpoint.leased++;
+                        leasedCount++;
+                        break;
+                    }
+                    if (leasedCount + idleCount >= maxConnections) {
+                        // make room by closing the least recently used idle
+                        // connection to another endpoint
+                        final PooledConnection evicted = pollLeastRecentlyUsed();
+                        if (evicted != null) {
+                            expired.add(evicted);
+                        }
+                    }
+                    if (leasedCount + idleCount < maxConnections) {
+                        endpoint.leased++;
+                        leasedCount++;
+                        create = true;
+                        break;
+                    }
+                    final long remaining = deadline - now;
+                    if (connectionTimeout > 0 && remaining <= 0) {
+                        throw new IOException("Timeout waiting for connection from pool");
+                    }
+                    try {
+                        wait(connectionTimeout > 0 ? remaining : 0);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while waiting for connection");
+                    }
+                }
+            }
+        } finally {
+            closeAll(expired);
+        }
+
+        if (!create && connection.isStale(System.currentTimeMillis())) {
+            connection.close();
+            closedCount.incrementAndGet();
+            connection = null;
+            create = true;
+        }
+        if (!create) {
+            reusedCount.incrementAndGet();
+            return connection;
+        }
+
+        boolean success = false;
+        try {
+            connection = open(key, uri);
+            createdCount.incrementAndGet();
+            success = true;
+            return connection;
+        } finally {
+            if (!success) {
+                synchronized (this) {
+                    getEndpoint(key).leased--;
+                    leasedCount--;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands a leased connection back to the pool.
+     *
+     * @param connection the leased connection.
+     * @param reusable whether the connection can be kept alive and reused;
+     *            if false, it's closed.
+     */
+    void release(PooledConnection connection, boolean reusable) {
+        boolean close = !reusable;
+        synchronized (this) {
+            final Endpoint endpoint = getEndpoint(connection.endpointKey);
+            endpoint.leased--;
+            leasedCount--;
+            if (reusable && !isShutdown) {
+                connection.lastUsed = System.currentTimeMillis();
+                // LIFO, so that the most recently used connection is reused
+                // first and the others can expire
+                endpoint.idle.addFirst(connection);
+                idleCount++;
+            } else {
+                close = true;
+            }
+            notifyAll();
+        }
+        if (close) {
+            connection.close();
+            closedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle for longer than the given time.
+     *
+     * @param idleTime the idle time.
+     * @param unit the unit of the idle time.
+     */
+    public void closeIdleConnections(long idleTime, TimeUnit unit) {
+        final long now = System.currentTimeMillis();
+        final long idleMillis = unit.toMillis(idleTime);
+        final List<PooledConnection> expired = new ArrayList<PooledConnection>();
+        synchronized (this) {
+            for (final Endpoint endpoint : endpoints.values()) {
+                final Iterator<PooledConnection> iterator = endpoint.idle.iterator();
+                while (iterator.hasNext()) {
+                    final PooledConnection connection = iterator.next();
+                    if (connection.isExpired(now, idleMillis)) {
+                        iterator.remove();
+                        idleCount--;
+                        expired.add(connection);
+                    }
+                }
+            }
+            notifyAll();
+        }
+        closeAll(expired);
+    }
+
+    /**
+     * Closes connections that have been idle for longer than the max idle
+     * time of this pool.
+     */
+    public void closeExpiredConnections() {
+        closeIdleConnections(maxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes all idle connections and rejects further leases. Leased
+     * connections are closed when they are released.
+     */
+    public void shutdown() {
+        final List<PooledConnection> idle = new ArrayList<PooledConnection>();
+        synchronized (this) {
+            isShutdown = true;
+            for (final Endpoint endpoint : endpoints.values()) {
+                idle.addAll(endpoint.idle);
+                endpoint.idle.clear();
+            }
+            idleCount = 0;
+            notifyAll();
+        }
+        closeAll(idle);
+    }
+
+    /**
+     * @return true if this pool has been shut down.
+     */
+    public synchronized boolean isShutdown() {
+        return isShutdown;
+    }
+
+    /**
+     * @return the number of connections currently leased to requests.
+     */
+    public synchronized int getLeasedConnections() {
+        return leasedCount;
+    }
+
+    /**
+     * @return the number of idle connections kept alive in the pool.
+     */
+    public synchronized int getIdleConnections() {
+        return idleCount;
+    }
+
+    /**
+     * @return the total number of connections opened by this pool.
+     */
+    public long getCreatedConnections() {
+        return createdCount.get();
+    }
+
+    /**
+     * @return the total number of times an idle connection was reused.
+     */
+    public long getReusedConnections() {
+        return reusedCount.get();
+    }
+
+    /**
+     * @return the total number of connections closed by this pool, because
+     *         they expired, went stale or couldn't be kept alive.
+     */
+    public long getClosedConnections() {
+        return closedCount.get();
+    }
+
+    /**
+     * @return the max number of connections to all endpoints.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    private Endpoint getEndpoint(String key) {
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            endpoint = new Endpoint();
+            endpoints.put(key, endpoint);
+        }
+        return endpoint;
+    }
+
+    private PooledConnection pollIdle(Endpoint endpoint) {
+        final PooledConnection connection = endpoint.idle.pollFirst();
+        if (connection != null) {
+            idleCount--;
+        }
+        return connection;
+    }
+
+    /**
+     * Removes the idle connection that has been idle the longest, whatever
+     * its endpoint.
+     *
+     * @return the removed connection, or null if there is no idle connection.
+     */
+    private PooledConnection pollLeastRecentlyUsed() {
+        Endpoint oldest = null;
+        for (final Endpoint endpoint : endpoints.values()) {
+            final PooledConnection last = endpoint.idle.peekLast();
+            if (last != null
+                    && (oldest == null || last.lastUsed < oldest.idle.peekLast().lastUsed)) {
+                oldest = endpoint;
+            }
+        }
+        if (oldest == null) {
+            return null;
+        }
+        idleCount--;
+        return oldest.idle.pollLast();
+    }
+
+    private void closeAll(List<PooledConnection> connections) {
+        for (final PooledConnection connection : connections) {
+            connection.close();
+            closedCount.incrementAndGet();
+        }
+    }
+
+    private PooledConnection open(String key, URI uri) throws IOException {
+        final String host = uri.getHost();
+        final boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        final int port = getPort(uri);
+
+        Socket socket = new Socket();
+        boolean success = false;
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(socketTimeout);
+            if (sendBufferSize > 0) {
+                socket.setSendBufferSize(sendBufferSize);
+            }
+            if (receiveBufferSize > 0) {
+                socket.setReceiveBufferSize(receiveBufferSize);
+            }
+            socket.connect(new InetSocketAddress(host, port), connectionTimeout);
+            if (https) {
+                final SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
+                        host, port, true);
+                socket = sslSocket;
+                sslSocket.startHandshake();
+                if (!hostnameVerifier.verify(host, sslSocket.getSession())) {
+                    throw new SSLPeerUnverifiedException("Hostname " + host
+                            + " could not be verified");
+                }
+            }
+            final PooledConnection connection = new PooledConnection(key, socket);
+            success = true;
+            log.debug("Opened connection to " + key);
+            return connection;
+        } finally {
+            if (!success) {
+                try {
+                    socket.close();
+                } catch (final IOException e) {
+                    log.debug("Unable to close socket", e);
+                }
+            }
+        }
+    }
+
+    private static int getPort(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? HTTPS_PORT : HTTP_PORT;
+    }
+
+    static String endpointKey(URI uri) {
+        return uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase() + ":"
+                + getPort(uri);
+    }
+
+    /**
+     * Connections of a single endpoint. Guarded by the pool.
+     */
+    private static final class Endpoint {
+        private final Deque<PooledConnection> idle = new ArrayDeque<PooledConnection>();
+        private int leased;
+    }
+
+    /**
+     * A kept-alive connection owned by a {@link HttpConnectionPool}.
+     */
+    static final class PooledConnection {
+        private final String endpointKey;
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private volatile long lastUsed;
+
+        PooledConnection(String endpointKey, Socket socket) throws IOException {
+            this.endpointKey = endpointKey;
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+            this.out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        InputStream getInputStream() {
+            return in;
+        }
+
+        OutputStream getOutputStream() {
+            return out;
+        }
+
+        boolean isExpired(long now, long idleMillis) {
+            return socket.isClosed() || now - lastUsed >= idleMillis;
+        }
+
+        /**
+         * Checks whether the server closed a connection that has been idle for
+         * a while, by attempting a read with a minimal timeout.
+         */
+        boolean isStale(long now) {
+            if (socket.isClosed()) {
+                return true;
+            }
+            if (now - lastUsed < STALE_CHECK_THRESHOLD_MILLIS) {
+                return false;
+            }
+            int timeout = 0;
+            try {
+                timeout = socket.getSoTimeout();
+                socket.setSoTimeout(1);
+                // either EOF or unexpected data, neither can be reused
+                in.read();
+                return true;
+            } catch (final SocketTimeoutException e) {
+                return false;
+            } catch (final IOException e) {
+                return true;
+            } finally {
+                try {
+                    socket.setSoTimeout(timeout);
+                } catch (final IOException e) {
+                    log.debug("Unable to restore socket timeout", e);
+                }
+            }
+        }
+
+        /**
+         * Waits for the server to send data, for at most the given time.
+         *
+         * @param timeoutMillis the max time to wait, in milliseconds.
+         * @return true if data can be read, false if the time is up.
+         * @throws IOException if the connection is closed or fails.
+         */
+        boolean awaitData(int timeoutMillis) throws IOException {
+            final int timeout = socket.getSoTimeout();
+            try {
+                socket.setSoTimeout(timeoutMillis);
+                in.mark(1);
+                if (in.read() == -1) {
+                    throw new EOFException("Connection closed by the server");
+                }
+                in.reset();
+                return true;
+            } catch (final SocketTimeoutException e) {
+                return false;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (final IOException e) {
+                log.debug("Unable to close connection", e);
+            }
+        }
+    }
+}
@@ -12,6 +12,9 @@ public final class HttpHeader {
     /** HTTP header for Authorization. */
     public static final String AUTHORIZATION = "Authorization";
 
+    /** HTTP header for Content-Encoding. */
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+
     /** HTTP header for Content-Length. */
     public static final String CONTENT_LENGTH = "Content-Length";
 
@@ -115,8 +115,11 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             content = new GZIPInputStream(content);
         }
 
-        final AwsJsonReader jsonReader = JsonUtils.getJsonReader(new InputStreamReader(content,
-                StringUtils.UTF8));
+        // The reader is closed below unless the connection is left open, so
+        // only then it can be one reused by this thread.
+        final AwsJsonReader jsonReader = needsConnectionLeftOpen
+                ? JsonUtils.getJsonReader(new InputStreamReader(content, StringUtils.UTF8))
+                : JsonUtils.getJsonReader(content);
 
         try {
             final AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
@@ -0,0 +1,649 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.HttpConnectionPool.PooledConnection;
+import com.amazonaws.http.UrlHttpClient.CurlBuilder;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An implementation of {@link HttpClient} that speaks HTTP/1.1 over its own
+ * {@link HttpConnectionPool}. Unlike {@link UrlHttpClient}, connections are
+ * kept alive and reused per endpoint, bounded in total by
+ * {@link ClientConfiguration#getMaxConnections()}, evicted once idle for
+ * {@link ClientConfiguration#getConnectionMaxIdleMillis()}, and closed by
+ * {@link #shutdown()}. A connection is handed back to the pool once the
+ * response content has been fully read, and closed if the content is closed
+ * before that.
+ * <p>
+ * Proxies are not supported by the pool: requests that go through a proxy of
+ * the system are sent by a {@link UrlHttpClient}, and
+ * {@link AmazonHttpClient#createHttpClient(ClientConfiguration)} doesn't pick
+ * this client when the configuration has a proxy host. Enable this client with
+ * {@link ClientConfiguration#setUseConnectionPool(boolean)}.
+ */
+public class PooledHttpClient implements HttpClient {
+
+    private static final Log log = LogFactory.getLog(PooledHttpClient.class);
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+    private static final byte[] CRLF = new byte[] {
+            '\r', '\n'
+    };
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int HEX_RADIX = 16;
+    private static final int STATUS_CONTINUE = 100;
+    private static final int STATUS_SWITCHING_PROTOCOLS = 101;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_NO_CONTENT = 204;
+    private static final int STATUS_NOT_MODIFIED = 304;
+    private static final String EXPECT_CONTINUE = "100-continue";
+
+    /**
+     * Max time to wait for the 100 Continue response before sending the
+     * content anyway, in case the server ignores the expectation.
+     */
+    private static final int CONTINUE_TIMEOUT_MILLIS = 3 * 1000;
+
+    private final HttpConnectionPool pool;
+    private final boolean useReaper;
+    private final boolean curlLogging;
+    /** Sends the requests that go through a proxy, and formats curl logs. */
+    private final UrlHttpClient urlHttpClient;
+
+    /**
+     * Constructor.
+     *
+     * @param config the client config.
+     */
+    public PooledHttpClient(ClientConfiguration config) {
+        this.pool = new HttpConnectionPool(config.getMaxConnections(),
+                config.getConnectionMaxIdleMillis(),
+                config.getConnectionTimeout(),
+                config.getSocketTimeout(),
+                config.getSocketBufferSizeHints()[0],
+                config.getSocketBufferSizeHints()[1],
+                createSslSocketFactory(config));
+        this.useReaper = config.useReaper();
+        this.curlLogging = config.isCurlLogging();
+        this.urlHttpClient = new UrlHttpClient(config);
+        if (useReaper) {
+            IdleConnectionReaper.registerConnectionPool(pool);
+        }
+    }
+
+    /**
+     * @return the connection pool of this client, e.g. to inspect its
+     *         metrics.
+     */
+    public HttpConnectionPool getConnectionPool() {
+        return pool;
+    }
+
+    @Override
+    public HttpResponse execute(final HttpRequest request) throws IOException {
+        final URI uri = request.getUri();
+        if (isProxied(uri)) {
+            return urlHttpClient.execute(request);
+        }
+        final CurlBuilder curlBuilder = curlLogging
+                ? urlHttpClient.new CurlBuilder(uri.toURL()) : null;
+        final PooledConnection connection = pool.lease(uri);
+        boolean success = false;
+        try {
+            final OutputStream os = connection.getOutputStream();
+            final boolean expectContinue = writeHead(request, os, curlBuilder);
+            boolean sendContent = true;
+            if (expectContinue) {
+                os.flush();
+                sendContent = awaitContinue(connection);
+            }
+            if (sendContent) {
+                writeContent(request, os, curlBuilder);
+            }
+            logCurl(curlBuilder);
+            // if the server answered before the content was sent, the
+            // connection can't be reused
+            final HttpResponse response = readResponse(request, connection, sendContent);
+            success = true;
+            return response;
+        } finally {
+            if (!success) {
+                pool.release(connection, false);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a proxy of the system is set for the given URI.
+     */
+    private static boolean isProxied(URI uri) {
+        final ProxySelector selector = ProxySelector.getDefault();
+        if (selector == null) {
+            return false;
+        }
+        try {
+            for (final Proxy proxy : selector.select(uri)) {
+                if (proxy.type() != Proxy.Type.DIRECT) {
+                    return true;
+                }
+            }
+        } catch (final IllegalArgumentException e) {
+            log.debug("Unable to select the proxy of " + uri, e);
+        }
+        return false;
+    }
+
+    /**
+     * Waits for the interim 100 Continue response of a request sent with an
+     * Expect 100-continue header. The interim response is consumed, a final
+     * response is left to be read.
+     *
+     * @return true to send the content, false if the server sent the final
+     *         response already.
+     */
+    private boolean awaitContinue(PooledConnection connection) throws IOException {
+        if (!connection.awaitData(CONTINUE_TIMEOUT_MILLIS)) {
+            return true;
+        }
+        final InputStream in = connection.getInputStream();
+        in.mark(BUFFER_SIZE);
+        if (parseStatusCode(readLine(in)) == STATUS_CONTINUE) {
+            readHeaders(in);
+            return true;
+        }
+        in.reset();
+        return false;
+    }
+
+    private void logCurl(CurlBuilder curlBuilder) {
+        if (curlBuilder == null) {
+            return;
+        }
+        if (curlBuilder.isValid()) {
+            log.debug(curlBuilder.build());
+        } else {
+            log.debug("Failed to create curl, content too long");
+        }
+    }
+
+    /**
+     * Closes all pooled connections. Connections still in use are closed as
+     * soon as their responses are consumed.
+     */
+    @Override
+    public void shutdown() {
+        if (useReaper) {
+            IdleConnectionReaper.removeConnectionPool(pool);
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Writes the request line and headers.
+     *
+     * @return true if the content is to be sent once the server accepted an
+     *         Expect 100-continue header.
+     */
+    private boolean writeHead(HttpRequest request, OutputStream os, CurlBuilder curlBuilder)
+            throws IOException {
+        final URI uri = request.getUri();
+        final StringBuilder head = new StringBuilder();
+        final String path = uri.getRawPath();
+        head.append(request.getMethod()).append(' ')
+                .append(path == null || path.length() == 0 ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1\r\n");
+
+        final Map<String, String> headers = request.getHeaders();
+        if (curlBuilder != null) {
+            curlBuilder.setMethod(request.getMethod());
+            curlBuilder.setHeaders(headers);
+        }
+        if (!headers.containsKey(HttpHeader.HOST)) {
+            head.append(HttpHeader.HOST).append(": ").append(uri.getHost());
+            if (uri.getPort() != -1) {
+                head.append(':').append(uri.getPort());
+            }
+            head.append("\r\n");
+        }
+        final boolean hasContent = hasContent(request);
+        boolean expectContinue = false;
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            final String key = header.getKey();
+            // framing headers are written below
+            if (HttpHeader.CONTENT_LENGTH.equalsIgnoreCase(key)
+                    || "Transfer-Encoding".equalsIgnoreCase(key)
+                    || "Connection".equalsIgnoreCase(key)) {
+                continue;
+            }
+            // only expect 100-continue if there is content to hold back
+            if (HttpHeader.EXPECT.equalsIgnoreCase(key)) {
+                if (!hasContent || !EXPECT_CONTINUE.equalsIgnoreCase(header.getValue())) {
+                    continue;
+                }
+                expectContinue = true;
+            }
+            head.append(key).append(": ").append(header.getValue()).append("\r\n");
+        }
+
+        final boolean chunked = hasContent && request.isStreaming();
+        if (chunked) {
+            head.append("Transfer-Encoding: chunked\r\n");
+        } else if (hasContent) {
+            head.append(HttpHeader.CONTENT_LENGTH).append(": ")
+                    .append(request.getContentLength()).append("\r\n");
+        } else if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            head.append(HttpHeader.CONTENT_LENGTH).append(": 0\r\n");
+        }
+        head.append("\r\n");
+        os.write(head.toString().getBytes(StringUtils.UTF8));
+        return expectContinue;
+    }
+
+    /**
+     * Writes the content of the request, if any, and flushes the request.
+     */
+    private void writeContent(HttpRequest request, OutputStream os, CurlBuilder curlBuilder)
+            throws IOException {
+        if (hasContent(request)) {
+            final InputStream content = request.getContent();
+            final boolean chunked = request.isStreaming();
+            ByteBuffer curlBuffer = null;
+            if (curlBuilder != null) {
+                if (request.getContentLength() < Integer.MAX_VALUE) {
+                    curlBuffer = ByteBuffer.allocate((int) request.getContentLength());
+                } else {
+                    curlBuilder.setContentOverflow(true);
+                }
+            }
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = content.read(buffer)) != -1) {
+                if (curlBuffer != null) {
+                    try {
+                        curlBuffer.put(buffer, 0, len);
+                    } catch (final BufferOverflowException e) {
+                        curlBuilder.setContentOverflow(true);
+                        curlBuffer = null;
+                    }
+                }
+                if (chunked) {
+                    if (len == 0) {
+                        continue;
+                    }
+                    os.write(Integer.toHexString(len).getBytes(ISO_8859_1));
+                    os.write(CRLF);
+                    os.write(buffer, 0, len);
+                    os.write(CRLF);
+                } else {
+                    os.write(buffer, 0, len);
+                }
+            }
+            if (chunked) {
+                os.write('0');
+                os.write(CRLF);
+                os.write(CRLF);
+            }
+            if (curlBuffer != null && curlBuffer.position() != 0) {
+                curlBuilder.setContent(new String(curlBuffer.array(), 0, curlBuffer.position(),
+                        StringUtils.UTF8));
+            }
+        }
+        os.flush();
+    }
+
+    private static boolean hasContent(HttpRequest request) {
+        return request.getContent() != null && request.getContentLength() >= 0;
+    }
+
+    /**
+     * Reads the response of a request.
+     *
+     * @param reusable false if the connection can't be kept alive whatever
+     *            the response, e.g. because the request content wasn't sent.
+     */
+    HttpResponse readResponse(HttpRequest request, PooledConnection connection,
+            boolean reusable) throws IOException {
+        final InputStream in = connection.getInputStream();
+        String statusLine;
+        int statusCode;
+        String statusText;
+        Map<String, String> headers;
+        // skip interim 1xx responses
+        do {
+            statusLine = readLine(in);
+            statusCode = parseStatusCode(statusLine);
+            final String[] parts = statusLine.split(" ", 3);
+            statusText = parts.length > 2 ? parts[2] : "";
+            headers = readHeaders(in);
+        } while (statusCode >= STATUS_CONTINUE && statusCode < STATUS_OK
+                && statusCode != STATUS_SWITCHING_PROTOCOLS);
+
+        final HttpResponse.Builder builder = HttpResponse.builder()
+                .statusCode(statusCode)
+                .statusText(statusText);
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+
+        final String connectionHeader = getHeader(headers, "Connection");
+        boolean keepAlive = reusable && (statusLine.startsWith("HTTP/1.1")
+                ? !"close".equalsIgnoreCase(connectionHeader)
+                : "keep-alive".equalsIgnoreCase(connectionHeader));
+
+        final boolean noBody = "HEAD".equals(request.getMethod())
+                || statusCode == STATUS_NO_CONTENT || statusCode == STATUS_NOT_MODIFIED;
+        final String transferEncoding = getHeader(headers, "Transfer-Encoding");
+        final String contentLength = getHeader(headers, HttpHeader.CONTENT_LENGTH);
+
+        final InputStream body;
+        if (noBody) {
+            body = null;
+        } else if (transferEncoding != null && "chunked".equalsIgnoreCase(transferEncoding)) {
+            body = new ChunkedInputStream(in);
+        } else if (contentLength != null) {
+            final long length;
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid Content-Length: " + contentLength);
+            }
+            body = new FixedLengthInputStream(in, length);
+        } else {
+            // delimited by the end of the connection
+            keepAlive = false;
+            body = in;
+        }
+
+        if (body == null) {
+            pool.release(connection, keepAlive);
+        } else {
+            builder.content(new ResponseInputStream(body, connection, keepAlive));
+        }
+        return builder.build();
+    }
+
+    private static int parseStatusCode(String statusLine) throws IOException {
+        final String[] parts = statusLine.split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            throw new IOException("Invalid HTTP status line: " + statusLine);
+        }
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (final NumberFormatException e) {
+            throw new IOException("Invalid HTTP status line: " + statusLine);
+        }
+    }
+
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        final Map<String, String> headers = new LinkedHashMap<String, String>();
+        String line;
+        while ((line = readLine(in)).length() > 0) {
+            final int colon = line.indexOf(':');
+            if (colon <= 0) {
+                log.debug("Ignoring malformed header: " + line);
+                continue;
+            }
+            // No AWS service returns a list of header values, so it's safe to
+            // keep the first one.
+            final String name = line.substring(0, colon).trim();
+            if (!headers.containsKey(name)) {
+                headers.put(name, line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String getHeader(Map<String, String> headers, String name) {
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    static String readLine(InputStream in) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                final byte[] bytes = line.toByteArray();
+                final int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r'
+                        ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, ISO_8859_1);
+            }
+            line.write(b);
+        }
+        throw new EOFException("Connection closed before the end of line");
+    }
+
+    private static SSLSocketFactory createSslSocketFactory(ClientConfiguration config) {
+        if (config.getTrustManager() == null) {
+            return HttpsURLConnection.getDefaultSSLSocketFactory();
+        }
+        try {
+            final SSLContext sc = SSLContext.getInstance("TLS");
+            sc.init(null, new TrustManager[] {
+                    config.getTrustManager()
+            }, null);
+            return sc.getSocketFactory();
+        } catch (final GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Response content that hands the connection back to the pool once it has
+     * been fully read, or closes it if the content is closed early.
+     */
+    private final class ResponseInputStream extends InputStream {
+        private final InputStream body;
+        private final PooledConnection connection;
+        private final boolean keepAlive;
+        private boolean released;
+
+        ResponseInputStream(InputStream body, PooledConnection connection, boolean keepAlive) {
+            this.body = body;
+            this.connection = connection;
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (released) {
+                return -1;
+            }
+            return readOrRelease(body.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (released) {
+                return -1;
+            }
+            return readOrRelease(body.read(b, off, len));
+        }
+
+        @Override
+        public int available() throws IOException {
+            return released ? 0 : body.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            release(false);
+        }
+
+        private int readOrRelease(int result) {
+            if (result == -1) {
+                release(keepAlive);
+            }
+            return result;
+        }
+
+        private void release(boolean reusable) {
+            if (!released) {
+                released = true;
+                pool.release(connection, reusable);
+            }
+        }
+    }
+
+    /**
+     * Reads exactly the given number of bytes from the connection.
+     */
+    static final class FixedLengthInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        FixedLengthInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Connection closed with " + remaining
+                        + " bytes of content left");
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                throw new EOFException("Connection closed with " + remaining
+                        + " bytes of content left");
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+    }
+
+    /**
+     * Decodes a chunked transfer-encoded body.
+     */
+    static final class ChunkedInputStream extends InputStream {
+        private final InputStream in;
+        private long chunkRemaining;
+        private boolean firstChunk = true;
+        private boolean eof;
+
+        ChunkedInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureChunk()) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Connection closed in the middle of a chunk");
+            }
+            chunkRemaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (!ensureChunk()) {
+                return -1;
+            }
+            final int read = in.read(b, off, (int) Math.min(len, chunkRemaining));
+            if (read == -1) {
+                throw new EOFException("Connection closed in the middle of a chunk");
+            }
+            chunkRemaining -= read;
+            return read;
+        }
+
+        private boolean ensureChunk() throws IOException {
+            if (eof) {
+                return false;
+            }
+            if (chunkRemaining > 0) {
+                return true;
+            }
+            if (!firstChunk) {
+                // CRLF that terminates the previous chunk
+                readLine(in);
+            }
+            firstChunk = false;
+            String sizeLine = readLine(in);
+            final int extension = sizeLine.indexOf(';');
+            if (extension != -1) {
+                sizeLine = sizeLine.substring(0, extension);
+            }
+            try {
+                chunkRemaining = Long.parseLong(sizeLine.trim(), HEX_RADIX);
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid chunk size: " + sizeLine);
+            }
+            if (chunkRemaining == 0) {
+                // skip trailers
+                while (readLine(in).length() > 0) {
+                    continue;
+                }
+                eof = true;
+                return false;
+            }
+            return true;
+        }
+    }
+}
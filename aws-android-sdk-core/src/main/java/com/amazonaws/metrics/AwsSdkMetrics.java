@@ -764,6 +764,8 @@ public enum AwsSdkMetrics {
             // metricTypes.add(Field.RequestSigningTime);
             // metricTypes.add(Field.ResponseProcessingTime);
             metricTypes.add(Field.RetryCount);
+            metricTypes.add(Field.RetryCapacity);
+            metricTypes.add(Field.SendRate);
             metricTypes.add(Field.HttpClientSendRequestTime);
             metricTypes.add(Field.HttpClientReceiveResponseTime);
             metricTypes.add(Field.HttpClientPoolAvailableCount);
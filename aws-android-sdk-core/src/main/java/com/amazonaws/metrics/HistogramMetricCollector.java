@@ -0,0 +1,355 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.TimingInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A metric collector that keeps request metrics in memory, per service and
+ * operation: a {@link LatencyHistogram} of the client execution time, in
+ * microseconds, and the number of requests, retries, throttled attempts,
+ * failed requests and bytes processed. Nothing is sent anywhere; the metrics
+ * are read with {@link #getSnapshot()}, and can also be logged periodically.
+ * <p>
+ * To collect the metrics of all clients:
+ *
+ * <pre>
+ * HistogramMetricCollector collector = new HistogramMetricCollector();
+ * collector.start();
+ * AwsSdkMetrics.setMetricCollector(collector);
+ * </pre>
+ *
+ * The collector can also be given to a single client through
+ * {@link #getRequestMetricCollector()}.
+ */
+public class HistogramMetricCollector extends MetricCollector {
+    private static final Log log = LogFactory.getLog(HistogramMetricCollector.class);
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final ConcurrentMap<String, OperationMetrics> operations =
+            new ConcurrentHashMap<String, OperationMetrics>();
+    private final long logIntervalMillis;
+    private final RequestMetricCollector requestMetricCollector = new RequestMetricCollector() {
+        @Override
+        public void collectMetrics(Request<?> request, Response<?> response) {
+            collect(request, response);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+    };
+    private volatile boolean enabled;
+    private ScheduledExecutorService logExecutor;
+
+    /**
+     * Creates a collector that doesn't log the metrics.
+     */
+    public HistogramMetricCollector() {
+        this(0);
+    }
+
+    /**
+     * @param logIntervalMillis interval at which the metrics are logged
+     *            while the collector is started, in milliseconds; 0 to never
+     *            log them.
+     */
+    public HistogramMetricCollector(long logIntervalMillis) {
+        if (logIntervalMillis < 0) {
+            throw new IllegalArgumentException("logIntervalMillis cannot be negative");
+        }
+        this.logIntervalMillis = logIntervalMillis;
+    }
+
+    @Override
+    public synchronized boolean start() {
+        if (enabled) {
+            return false;
+        }
+        enabled = true;
+        if (logIntervalMillis > 0) {
+            logExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r);
+                    thread.setDaemon(true);
+                    thread.setName("HistogramMetricCollector");
+                    return thread;
+                }
+            });
+            logExecutor.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    logMetrics();
+                }
+            }, logIntervalMillis, logIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean stop() {
+        if (!enabled) {
+            return false;
+        }
+        enabled = false;
+        if (logExecutor != null) {
+            logExecutor.shutdownNow();
+            logExecutor = null;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public RequestMetricCollector getRequestMetricCollector() {
+        return requestMetricCollector;
+    }
+
+    @Override
+    public ServiceMetricCollector getServiceMetricCollector() {
+        return ServiceMetricCollector.NONE;
+    }
+
+    /**
+     * @return a copy of the metrics collected so far for each operation.
+     */
+    public List<OperationSnapshot> getSnapshot() {
+        final List<OperationSnapshot> snapshots = new ArrayList<OperationSnapshot>(
+                operations.size());
+        for (final OperationMetrics metrics : operations.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Clears the metrics collected so far.
+     */
+    public void reset() {
+        operations.clear();
+    }
+
+    /**
+     * Logs the metrics collected so far for each operation.
+     */
+    public void logMetrics() {
+        for (final OperationSnapshot snapshot : getSnapshot()) {
+            log.info(snapshot.toString());
+        }
+    }
+
+    private void collect(Request<?> request, Response<?> response) {
+        final AWSRequestMetrics awsRequestMetrics = request.getAWSRequestMetrics();
+        if (!(awsRequestMetrics instanceof AWSRequestMetricsFullSupport)) {
+            return;
+        }
+        final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo();
+        final OperationMetrics metrics = getOperationMetrics(request.getServiceName(),
+                operationName(request.getOriginalRequest()));
+
+        final TimingInfo clientExecution = timingInfo
+                .getLastSubMeasurement(Field.ClientExecuteTime.name());
+        final Double latencyMillis = clientExecution != null
+                ? clientExecution.getTimeTakenMillisIfKnown()
+                : timingInfo.getTimeTakenMillisIfKnown();
+        if (latencyMillis != null) {
+            metrics.latency.recordValue((long) (latencyMillis.doubleValue() * MICROS_PER_MILLI));
+        }
+
+        metrics.requests.incrementAndGet();
+        final Number requestCount = timingInfo.getCounter(Field.RequestCount.name());
+        if (requestCount != null && requestCount.longValue() > 1) {
+            metrics.retries.addAndGet(requestCount.longValue() - 1);
+        }
+        final Number bytesProcessed = timingInfo.getCounter(Field.BytesProcessed.name());
+        if (bytesProcessed != null) {
+            metrics.bytesProcessed.addAndGet(bytesProcessed.longValue());
+        }
+
+        final List<Object> errorCodes = ((AWSRequestMetricsFullSupport) awsRequestMetrics)
+                .getProperty(Field.AWSErrorCode);
+        if (errorCodes != null) {
+            for (final Object errorCode : errorCodes) {
+                if (errorCode instanceof String
+                        && RetryUtils.isThrottlingErrorCode((String) errorCode)) {
+                    metrics.throttles.incrementAndGet();
+                }
+            }
+        }
+        if (response == null) {
+            metrics.failures.incrementAndGet();
+        }
+    }
+
+    private OperationMetrics getOperationMetrics(String serviceName, String operationName) {
+        final String key = serviceName + "." + operationName;
+        OperationMetrics metrics = operations.get(key);
+        if (metrics == null) {
+            final OperationMetrics newMetrics = new OperationMetrics(serviceName, operationName);
+            metrics = operations.putIfAbsent(key, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+        return metrics;
+    }
+
+    private static String operationName(AmazonWebServiceRequest originalRequest) {
+        if (originalRequest == null) {
+            return "Unknown";
+        }
+        final String name = originalRequest.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) && name.length() > REQUEST_SUFFIX.length()
+                ? name.substring(0, name.length() - REQUEST_SUFFIX.length())
+                : name;
+    }
+
+    private static final class OperationMetrics {
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong throttles = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong bytesProcessed = new AtomicLong();
+
+        OperationMetrics(String serviceName, String operationName) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+        }
+
+        OperationSnapshot snapshot() {
+            return new OperationSnapshot(serviceName, operationName, latency.getSnapshot(),
+                    requests.get(), retries.get(), throttles.get(), failures.get(),
+                    bytesProcessed.get());
+        }
+    }
+
+    /**
+     * Copy of the metrics collected for an operation of a service.
+     */
+    public static final class OperationSnapshot {
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram.Snapshot latency;
+        private final long requestCount;
+        private final long retryCount;
+        private final long throttleCount;
+        private final long failureCount;
+        private final long bytesProcessed;
+
+        OperationSnapshot(String serviceName, String operationName,
+                LatencyHistogram.Snapshot latency, long requestCount, long retryCount,
+                long throttleCount, long failureCount, long bytesProcessed) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+            this.latency = latency;
+            this.requestCount = requestCount;
+            this.retryCount = retryCount;
+            this.throttleCount = throttleCount;
+            this.failureCount = failureCount;
+            this.bytesProcessed = bytesProcessed;
+        }
+
+        /** @return the name of the service, such as "AmazonS3". */
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /** @return the name of the operation, such as "GetObject". */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * @return the client execution times of the requests, retries
+         *         included, in microseconds.
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /** @return the number of requests. */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /** @return the number of retries of the requests. */
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /** @return the number of attempts rejected by throttling. */
+        public long getThrottleCount() {
+            return throttleCount;
+        }
+
+        /** @return the number of requests that failed. */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of content bytes sent and received by the
+         *         requests, retries included, as declared by their
+         *         Content-Length headers.
+         */
+        public long getBytesProcessed() {
+            return bytesProcessed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s.%s: requests=%d, p50=%.3fms, p90=%.3fms, p99=%.3fms, max=%.3fms,"
+                            + " retries=%d, throttles=%d, failures=%d, bytes=%d",
+                    serviceName, operationName, requestCount,
+                    latency.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    latency.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                    latency.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    latency.getMaxValue() / MICROS_PER_MILLI,
+                    retryCount, throttleCount, failureCount, bytesProcessed);
+        }
+    }
+}
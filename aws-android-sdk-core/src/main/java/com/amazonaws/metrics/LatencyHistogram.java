@@ -0,0 +1,176 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative values, such as latencies in microseconds, that
+ * can be recorded from many threads without locking and uses a fixed amount
+ * of memory. Values are counted in buckets whose width grows with the value,
+ * so that each value is known within about 3% of its magnitude. Values up to
+ * {@link #MAX_VALUE} are recorded, larger ones are recorded as
+ * {@link #MAX_VALUE}.
+ */
+public final class LatencyHistogram {
+
+    /** Number of buckets per power of two, for values past the first ones. */
+    private static final int SUB_BUCKET_HALF_COUNT = 32;
+    /** Values below this are counted exactly. */
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+    private static final int SUB_BUCKET_COUNT_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+    /** Largest value recorded. */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(MAX_VALUE) + 1);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param value the value; negative values are recorded as 0.
+     */
+    public void recordValue(long value) {
+        final long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(v));
+        totalCount.incrementAndGet();
+        sum.addAndGet(v);
+        long currentMax = max.get();
+        while (v > currentMax && !max.compareAndSet(currentMax, v)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded values.
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns a copy of the recorded values. Values recorded concurrently
+     * may or may not be included.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot getSnapshot() {
+        final long[] snapshotCounts = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshotCounts.length; i++) {
+            snapshotCounts[i] = counts.get(i);
+            count += snapshotCounts[i];
+        }
+        return new Snapshot(snapshotCounts, count, sum.get(), max.get());
+    }
+
+    /**
+     * Clears the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Keep the SUB_BUCKET_COUNT_BITS most significant bits of the value.
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_COUNT_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        final long subBucket = index - shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Immutable copy of the values recorded in a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long totalCount;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long totalCount, long sum, long max) {
+            this.counts = counts;
+            this.totalCount = totalCount;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of recorded values.
+         */
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        /**
+         * @return the largest recorded value, or 0 if none was recorded.
+         */
+        public long getMaxValue() {
+            return max;
+        }
+
+        /**
+         * @return the mean of the recorded values, or 0 if none was recorded.
+         */
+        public double getMean() {
+            return totalCount == 0 ? 0 : (double) sum / totalCount;
+        }
+
+        /**
+         * Returns the value that the given percentage of the recorded values
+         * are less than or equal to, within the precision of the histogram.
+         *
+         * @param percentile the percentage, between 0 and 100.
+         * @return the value at the percentile, or 0 if none was recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+            if (totalCount == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueInBucket(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Limits the rate at which a client sends requests once the service has
+ * started throttling it.
+ * <p>
+ * The limiter stays inactive until the first throttling response. From then
+ * on every request takes a token from a bucket refilled at the allowed send
+ * rate. Throttling responses cut the rate multiplicatively, and successful
+ * responses grow it back along a cubic curve towards, and then past, the rate
+ * at which throttling last happened.
+ */
+public class ClientSideRateLimiter {
+
+    /** Lowest allowed send rate, in requests per second. */
+    private static final double MIN_FILL_RATE = 0.5;
+
+    /** Lowest allowed bucket capacity, in requests. */
+    private static final double MIN_CAPACITY = 1;
+
+    /** Rate reduction factor applied on throttling. */
+    private static final double BETA = 0.7;
+
+    /** Scale of the cubic rate growth after throttling. */
+    private static final double SCALE_CONSTANT = 0.4;
+
+    /** Weight of the latest sample in the measured send rate. */
+    private static final double SMOOTH = 0.8;
+
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = -1;
+    private boolean started;
+    private boolean enabled;
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    /**
+     * Waits until the current send rate allows one more request. Returns
+     * immediately until the service has throttled the client.
+     */
+    public void acquire() {
+        final long waitMillis = reserve();
+        if (waitMillis > 0) {
+            try {
+                sleep(waitMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Takes the turn of one more request without waiting for it. The caller
+     * is responsible for sending the request once the returned time has
+     * elapsed.
+     *
+     * @return the time to wait before sending the request, in milliseconds,
+     *         which is 0 until the service has throttled the client.
+     */
+    public synchronized long reserve() {
+        if (!enabled) {
+            return 0;
+        }
+        refill();
+        currentCapacity -= 1;
+        return currentCapacity < 0
+                ? (long) Math.ceil(-currentCapacity / fillRate * MILLIS_PER_SECOND)
+                : 0;
+    }
+
+    /**
+     * Updates the send rate after a response from the service.
+     *
+     * @param throttled whether the response was a throttling error.
+     */
+    public synchronized void updateSendingRate(boolean throttled) {
+        if (!started) {
+            lastTxRateBucket = Math.floor(now());
+            lastThrottleTime = now();
+            started = true;
+        }
+        updateMeasuredRate();
+        final double calculatedRate;
+        if (throttled) {
+            final double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = now();
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            final double dt = now() - lastThrottleTime;
+            calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+        }
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+    }
+
+    /**
+     * @return whether the service has throttled the client and requests are
+     *         being rate limited.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the allowed send rate in requests per second, or the measured
+     *         send rate while the limiter is inactive.
+     */
+    public synchronized double getSendRate() {
+        return enabled ? fillRate : measuredTxRate;
+    }
+
+    /**
+     * @return the current time in seconds.
+     */
+    protected double now() {
+        return System.currentTimeMillis() / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Waits for the given time.
+     *
+     * @param millis the time to wait in milliseconds.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    protected void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    private void refill() {
+        final double timestamp = now();
+        if (lastTimestamp >= 0) {
+            final double fill = (timestamp - lastTimestamp) * fillRate;
+            currentCapacity = Math.min(maxCapacity, currentCapacity + fill);
+        }
+        lastTimestamp = timestamp;
+    }
+
+    private void updateRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private void updateMeasuredRate() {
+        final double timeBucket = Math.floor(now() * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            final double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+}
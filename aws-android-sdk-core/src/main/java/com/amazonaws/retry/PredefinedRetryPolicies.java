@@ -115,6 +115,27 @@ public class PredefinedRetryPolicies {
                 true);
     }
 
+    /**
+     * Returns a new adaptive retry policy. On top of the SDK default retry
+     * condition and back-off strategy, retries draw from a
+     * {@link RetryTokenBucket} that is refilled by successful requests, and a
+     * {@link ClientSideRateLimiter} slows down the requests once the service
+     * throttles them. Each call returns a policy with its own bucket and rate
+     * limiter; clients configured with the same policy share them. This policy
+     * will honor the maxErrorRetry set in ClientConfiguration.
+     *
+     * @return a new adaptive retry policy.
+     * @see ClientConfiguration#setMaxErrorRetry(int)
+     */
+    public static RetryPolicy getAdaptiveRetryPolicy() {
+        return new RetryPolicy(DEFAULT_RETRY_CONDITION,
+                DEFAULT_BACKOFF_STRATEGY,
+                DEFAULT_MAX_ERROR_RETRY,
+                true,
+                new RetryTokenBucket(),
+                new ClientSideRateLimiter());
+    }
+
     /**
      * @param maxErrorRetry the max error retry count.
      * @return the SDK default retry policy with the specified max retry count.
@@ -22,7 +22,9 @@ import com.amazonaws.ClientConfiguration;
 /**
  * Retry policy that can be configured on a specific service client using
  * {@link ClientConfiguration}. This class is immutable, therefore safe to be
- * shared by multiple clients.
+ * shared by multiple clients. An adaptive retry policy additionally holds a
+ * {@link RetryTokenBucket} and a {@link ClientSideRateLimiter}, whose state is
+ * shared by all the clients configured with it.
  *
  * @see ClientConfiguration
  * @see PredefinedRetryPolicies
@@ -54,6 +56,16 @@ public final class RetryPolicy {
      */
     private final boolean honorMaxErrorRetryInClientConfig;
 
+    /**
+     * Retry quota of the adaptive retry mode, or null.
+     */
+    private final RetryTokenBucket retryTokenBucket;
+
+    /**
+     * Send rate limiter of the adaptive retry mode, or null.
+     */
+    private final ClientSideRateLimiter rateLimiter;
+
     /**
      * Constructs a new retry policy. See {@link PredefinedRetryPolicies} for
      * some pre-defined policy components, and also the default policies used by
@@ -77,6 +89,36 @@ public final class RetryPolicy {
             BackoffStrategy backoffStrategy,
             int maxErrorRetry,
             boolean honorMaxErrorRetryInClientConfig) {
+        this(retryCondition, backoffStrategy, maxErrorRetry, honorMaxErrorRetryInClientConfig,
+                null, null);
+    }
+
+    /**
+     * Constructs a new adaptive retry policy, which only retries while the
+     * retry token bucket holds enough tokens and limits the send rate once the
+     * service throttles the client. See
+     * {@link PredefinedRetryPolicies#getAdaptiveRetryPolicy()}.
+     *
+     * @param retryCondition Retry condition on whether a specific request and
+     *            exception should be retried. If null value is specified, the
+     *            SDK' default retry condition is used.
+     * @param backoffStrategy Back-off strategy for controlling how long the
+     *            next retry should wait. If null value is specified, the SDK'
+     *            default exponential back-off strategy is used.
+     * @param maxErrorRetry Maximum number of retry attempts for failed
+     *            requests.
+     * @param honorMaxErrorRetryInClientConfig Whether this retry policy should
+     *            honor the max error retry set by
+     *            {@link ClientConfiguration#setMaxErrorRetry(int)}
+     * @param retryTokenBucket The retry quota, or null for no quota.
+     * @param rateLimiter The send rate limiter, or null for no rate limiting.
+     */
+    public RetryPolicy(RetryCondition retryCondition,
+            BackoffStrategy backoffStrategy,
+            int maxErrorRetry,
+            boolean honorMaxErrorRetryInClientConfig,
+            RetryTokenBucket retryTokenBucket,
+            ClientSideRateLimiter rateLimiter) {
         if (retryCondition == null) {
             retryCondition = PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION;
         }
@@ -92,7 +134,9 @@ public final class RetryPolicy {
         this.backoffStrategy = backoffStrategy;
         this.maxErrorRetry = maxErrorRetry;
         this.honorMaxErrorRetryInClientConfig = honorMaxErrorRetryInClientConfig;
-    };
+        this.retryTokenBucket = retryTokenBucket;
+        this.rateLimiter = rateLimiter;
+    }
 
     /**
      * Returns the retry condition included in this retry policy.
@@ -133,6 +177,26 @@ public final class RetryPolicy {
         return honorMaxErrorRetryInClientConfig;
     }
 
+    /**
+     * Returns the retry quota included in this retry policy.
+     *
+     * @return The retry token bucket, or null if retries are not limited by a
+     *         quota.
+     */
+    public RetryTokenBucket getRetryTokenBucket() {
+        return retryTokenBucket;
+    }
+
+    /**
+     * Returns the send rate limiter included in this retry policy.
+     *
+     * @return The client side rate limiter, or null if the send rate is not
+     *         limited.
+     */
+    public ClientSideRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
     /**
      * The hook for providing custom condition on whether a failed request
      * should be retried.
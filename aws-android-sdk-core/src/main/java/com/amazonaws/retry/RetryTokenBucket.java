@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+
+import java.io.IOException;
+
+/**
+ * Retry quota shared by all the requests of a client. Every retry draws
+ * tokens from the bucket and every successful request puts some back, so
+ * that once a service starts failing most of its requests the client stops
+ * retrying instead of multiplying the load on it.
+ */
+public class RetryTokenBucket {
+
+    /** Default number of tokens in a full bucket. */
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /** Tokens drawn by a retry after a service error. */
+    public static final int RETRY_COST = 5;
+
+    /** Tokens drawn by a retry after a connection or socket failure. */
+    public static final int TIMEOUT_RETRY_COST = 10;
+
+    /** Tokens returned by a request that succeeded on its first attempt. */
+    public static final int NO_RETRY_INCREMENT = 1;
+
+    private final int capacity;
+    private int available;
+
+    /**
+     * Constructs a full bucket with the {@link #DEFAULT_CAPACITY}.
+     */
+    public RetryTokenBucket() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a full bucket.
+     *
+     * @param capacity the maximum number of tokens in the bucket.
+     */
+    public RetryTokenBucket(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.available = capacity;
+    }
+
+    /**
+     * Draws the tokens needed to retry after the given exception.
+     *
+     * @param exception the exception of the failed attempt.
+     * @return true if the retry may proceed, false if the bucket does not
+     *         hold enough tokens.
+     */
+    public synchronized boolean tryAcquire(AmazonClientException exception) {
+        final int cost = exception.getCause() instanceof IOException
+                ? TIMEOUT_RETRY_COST
+                : RETRY_COST;
+        if (available < cost) {
+            return false;
+        }
+        available -= cost;
+        return true;
+    }
+
+    /**
+     * Returns tokens to the bucket after a successful request.
+     *
+     * @param retried whether the request succeeded on a retry, in which case
+     *            the cost of a retry is returned.
+     */
+    public synchronized void release(boolean retried) {
+        available = Math.min(capacity, available + (retried ? RETRY_COST : NO_RETRY_INCREMENT));
+    }
+
+    /**
+     * @return the number of tokens currently in the bucket.
+     */
+    public synchronized int getAvailableCapacity() {
+        return available;
+    }
+
+    /**
+     * @return the maximum number of tokens in the bucket.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -35,7 +35,17 @@ public class RetryUtils {
         if (ase == null)
             return false;
 
-        String errorCode = ase.getErrorCode();
+        return isThrottlingErrorCode(ase.getErrorCode());
+    }
+
+    /**
+     * Returns true if the specified error code is a throttling error code.
+     *
+     * @param errorCode The error code of a service exception.
+     * @return True if the error code is returned when a request is throttled,
+     *         otherwise false.
+     */
+    public static boolean isThrottlingErrorCode(String errorCode) {
         return "Throttling".equals(errorCode)
                 || "ThrottlingException".equals(errorCode)
                 || "ProvisionedThroughputExceededException".equals(errorCode);
@@ -276,7 +276,7 @@ public class AmazonCognitoIdentityClient extends AmazonWebServiceClient implemen
      */
     public AmazonCognitoIdentityClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
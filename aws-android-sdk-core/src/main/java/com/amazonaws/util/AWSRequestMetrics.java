@@ -141,6 +141,16 @@ public class AWSRequestMetrics {
 
         /** RetryPauseTime. */
         RetryPauseTime,
+        /**
+         * Number of tokens left in the retry token bucket of an adaptive retry
+         * policy.
+         */
+        RetryCapacity,
+        /**
+         * Send rate, in requests per second, of the client side rate limiter of
+         * an adaptive retry policy.
+         */
+        SendRate,
         // S3DownloadThroughput, // migrated to S3RequestMetric in the S3 clint
         // library
         // S3UploadThroughput, // migrated to S3RequestMetric in the S3 clint
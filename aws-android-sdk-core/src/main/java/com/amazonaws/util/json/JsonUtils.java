@@ -16,8 +16,11 @@
 package com.amazonaws.util.json;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -102,6 +105,27 @@ public class JsonUtils {
         return factory.getJsonReader(in);
     }
 
+    /**
+     * Gets a JSON reader of a UTF-8 encoded stream. With the default Gson
+     * engine, this is a {@link Utf8JsonReader} that reads the bytes without
+     * decoding them into characters first, and that is reused by the calling
+     * thread once closed. With other engines, it is the reader of the engine
+     * over an {@link InputStreamReader}.
+     *
+     * @param in input stream
+     * @return a JSON reader
+     */
+    public static AwsJsonReader getJsonReader(InputStream in) {
+        final AwsJsonFactory jsonFactory = factory;
+        if (jsonFactory == null) {
+            throw new IllegalStateException("Json engine is unavailable.");
+        }
+        if (jsonFactory instanceof GsonFactory) {
+            return Utf8JsonReader.obtain(in);
+        }
+        return jsonFactory.getJsonReader(new InputStreamReader(in, StringUtils.UTF8));
+    }
+
     /**
      * Gets a JSON writer. If no JSON engine is available, an
      * {@link AmazonClientException} will be thrown.
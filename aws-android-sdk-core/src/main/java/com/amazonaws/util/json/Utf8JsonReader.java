@@ -0,0 +1,686 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link AwsJsonReader} that reads a UTF-8 encoded JSON document straight
+ * from the bytes of an {@link InputStream}, without a
+ * {@link java.io.Reader} decoding them into characters first. Strings made of
+ * ASCII characters only are built directly from the bytes. It reads the
+ * documents the Gson reader accepts in its strict mode, and returns the same
+ * values.
+ * <p>
+ * {@link #obtain(InputStream)} reuses a reader per thread, with its buffers,
+ * once the previous one is closed.
+ */
+public final class Utf8JsonReader implements AwsJsonReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int CHARS_SIZE = 256;
+    /** Larger char buffers are not kept by a reader once closed. */
+    private static final int MAX_POOLED_CHARS_SIZE = 16 * 1024;
+    private static final int MAX_DEPTH_INITIAL = 32;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private static final ThreadLocal<Utf8JsonReader> READERS = new ThreadLocal<Utf8JsonReader>();
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+    private static final int CLOSED = 7;
+
+    private static final int PEEKED_NONE = 0;
+    private static final int PEEKED_BEGIN_OBJECT = 1;
+    private static final int PEEKED_END_OBJECT = 2;
+    private static final int PEEKED_BEGIN_ARRAY = 3;
+    private static final int PEEKED_END_ARRAY = 4;
+    private static final int PEEKED_TRUE = 5;
+    private static final int PEEKED_FALSE = 6;
+    private static final int PEEKED_NULL = 7;
+    /** The opening quote is consumed. */
+    private static final int PEEKED_STRING = 8;
+    /** The opening quote is consumed. */
+    private static final int PEEKED_NAME = 9;
+    /** The number is in {@link #chars}. */
+    private static final int PEEKED_NUMBER = 10;
+    private static final int PEEKED_EOF = 11;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private InputStream in;
+    private int pos;
+    private int limit;
+
+    private char[] chars = new char[CHARS_SIZE];
+    private int charsLength;
+
+    private int[] stack = new int[MAX_DEPTH_INITIAL];
+    private int stackSize;
+    private int peeked;
+
+    private volatile boolean inUse;
+
+    /**
+     * @param in the UTF-8 encoded JSON document.
+     */
+    public Utf8JsonReader(InputStream in) {
+        reset(in);
+    }
+
+    /**
+     * Returns a reader of the given stream, reusing the reader last
+     * obtained on this thread if it is closed.
+     *
+     * @param in the UTF-8 encoded JSON document.
+     * @return a reader of the document.
+     */
+    public static Utf8JsonReader obtain(InputStream in) {
+        final Utf8JsonReader pooled = READERS.get();
+        if (pooled == null || pooled.inUse) {
+            // A reader that is never closed is replaced, not waited for.
+            final Utf8JsonReader reader = new Utf8JsonReader(in);
+            READERS.set(reader);
+            return reader;
+        }
+        pooled.reset(in);
+        return pooled;
+    }
+
+    private void reset(InputStream input) {
+        if (input == null) {
+            throw new NullPointerException("in == null");
+        }
+        in = input;
+        pos = 0;
+        limit = 0;
+        stackSize = 0;
+        stack[stackSize++] = EMPTY_DOCUMENT;
+        peeked = PEEKED_NONE;
+        inUse = true;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        final int p = doPeekIfNone();
+        if (p != PEEKED_BEGIN_ARRAY) {
+            throw unexpected("BEGIN_ARRAY", p);
+        }
+        push(EMPTY_ARRAY);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        final int p = doPeekIfNone();
+        if (p != PEEKED_END_ARRAY) {
+            throw unexpected("END_ARRAY", p);
+        }
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        final int p = doPeekIfNone();
+        if (p != PEEKED_BEGIN_OBJECT) {
+            throw unexpected("BEGIN_OBJECT", p);
+        }
+        push(EMPTY_OBJECT);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        final int p = doPeekIfNone();
+        if (p != PEEKED_END_OBJECT) {
+            throw unexpected("END_OBJECT", p);
+        }
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public boolean isContainer() throws IOException {
+        final int p = doPeekIfNone();
+        return p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final int p = doPeekIfNone();
+        return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY && p != PEEKED_EOF;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        final int p = doPeekIfNone();
+        if (p != PEEKED_NAME) {
+            throw unexpected("a name", p);
+        }
+        peeked = PEEKED_NONE;
+        return readString();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final int p = doPeekIfNone();
+        final String result;
+        switch (p) {
+            case PEEKED_STRING:
+                result = readString();
+                break;
+            case PEEKED_NUMBER:
+                result = new String(chars, 0, charsLength);
+                break;
+            case PEEKED_TRUE:
+                result = "true";
+                break;
+            case PEEKED_FALSE:
+                result = "false";
+                break;
+            case PEEKED_NULL:
+                result = null;
+                break;
+            default:
+                throw unexpected("a string", p);
+        }
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    @Override
+    public AwsJsonToken peek() throws IOException {
+        final int p;
+        try {
+            p = doPeekIfNone();
+        } catch (final EOFException e) {
+            return null;
+        }
+        return toToken(p);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int count = 0;
+        do {
+            final int p = doPeekIfNone();
+            switch (p) {
+                case PEEKED_BEGIN_ARRAY:
+                    push(EMPTY_ARRAY);
+                    count++;
+                    break;
+                case PEEKED_BEGIN_OBJECT:
+                    push(EMPTY_OBJECT);
+                    count++;
+                    break;
+                case PEEKED_END_ARRAY:
+                case PEEKED_END_OBJECT:
+                    stackSize--;
+                    count--;
+                    break;
+                case PEEKED_STRING:
+                case PEEKED_NAME:
+                    skipString();
+                    break;
+                case PEEKED_EOF:
+                    throw new EOFException("End of input");
+                default:
+                    // literals and numbers are already consumed
+                    break;
+            }
+            peeked = PEEKED_NONE;
+        } while (count > 0);
+    }
+
+    /**
+     * Closes this reader and its stream. A reader returned by
+     * {@link #obtain(InputStream)} may then be reused by its thread.
+     */
+    @Override
+    public void close() throws IOException {
+        peeked = PEEKED_NONE;
+        stackSize = 1;
+        stack[0] = CLOSED;
+        final InputStream input = in;
+        in = null;
+        if (chars.length > MAX_POOLED_CHARS_SIZE) {
+            chars = new char[CHARS_SIZE];
+        }
+        inUse = false;
+        if (input != null) {
+            input.close();
+        }
+    }
+
+    private int doPeekIfNone() throws IOException {
+        final int p = peeked;
+        return p == PEEKED_NONE ? doPeek() : p;
+    }
+
+    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
+    private int doPeek() throws IOException {
+        final int peekStack = stack[stackSize - 1];
+        int c;
+        switch (peekStack) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace(true);
+                if (c == ']') {
+                    return peeked = PEEKED_END_ARRAY;
+                } else if (c != ',') {
+                    throw syntaxError("Unterminated array");
+                }
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                stack[stackSize - 1] = DANGLING_NAME;
+                if (peekStack == NONEMPTY_OBJECT) {
+                    c = nextNonWhitespace(true);
+                    if (c == '}') {
+                        return peeked = PEEKED_END_OBJECT;
+                    } else if (c != ',') {
+                        throw syntaxError("Unterminated object");
+                    }
+                }
+                c = nextNonWhitespace(true);
+                if (c == '"') {
+                    return peeked = PEEKED_NAME;
+                } else if (c == '}' && peekStack == EMPTY_OBJECT) {
+                    return peeked = PEEKED_END_OBJECT;
+                }
+                throw syntaxError("Expected name");
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace(true) != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                if (nextNonWhitespace(false) == -1) {
+                    return peeked = PEEKED_EOF;
+                }
+                throw syntaxError("Expected EOF");
+            default:
+                throw new IllegalStateException("JsonReader is closed");
+        }
+
+        c = nextNonWhitespace(true);
+        if (peekStack == EMPTY_DOCUMENT && c != '[' && c != '{') {
+            throw syntaxError("Expected JSON document to start with '[' or '{'");
+        }
+        switch (c) {
+            case ']':
+                if (peekStack == EMPTY_ARRAY) {
+                    return peeked = PEEKED_END_ARRAY;
+                }
+                throw syntaxError("Expected value");
+            case '"':
+                return peeked = PEEKED_STRING;
+            case '[':
+                return peeked = PEEKED_BEGIN_ARRAY;
+            case '{':
+                return peeked = PEEKED_BEGIN_OBJECT;
+            default:
+                pos--;
+                return peeked = readLiteral();
+        }
+    }
+
+    /**
+     * Reads a keyword or a number into {@link #chars}.
+     */
+    private int readLiteral() throws IOException {
+        charsLength = 0;
+        while (true) {
+            if (pos == limit && !fill()) {
+                break;
+            }
+            final int c = buffer[pos];
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == ':'
+                    || c == ']' || c == '}' || c == '[' || c == '{') {
+                break;
+            }
+            pos++;
+            appendChar((char) (c & 0xFF));
+        }
+        if (isKeyword("true")) {
+            return PEEKED_TRUE;
+        } else if (isKeyword("false")) {
+            return PEEKED_FALSE;
+        } else if (isKeyword("null")) {
+            return PEEKED_NULL;
+        } else if (isNumber()) {
+            return PEEKED_NUMBER;
+        }
+        throw syntaxError("Expected value");
+    }
+
+    private boolean isKeyword(String keyword) {
+        if (charsLength != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < charsLength; i++) {
+            if (chars[i] != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether {@link #chars} holds a JSON number:
+     *         -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+     */
+    private boolean isNumber() {
+        int i = 0;
+        if (i < charsLength && chars[i] == '-') {
+            i++;
+        }
+        if (i < charsLength && chars[i] == '0') {
+            i++;
+        } else {
+            final int start = i;
+            i = skipDigits(i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < charsLength && chars[i] == '.') {
+            final int start = ++i;
+            i = skipDigits(i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < charsLength && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            if (i < charsLength && (chars[i] == '+' || chars[i] == '-')) {
+                i++;
+            }
+            final int start = i;
+            i = skipDigits(i);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == charsLength;
+    }
+
+    private int skipDigits(int start) {
+        int i = start;
+        while (i < charsLength && chars[i] >= '0' && chars[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote is consumed.
+     */
+    private String readString() throws IOException {
+        // Fast path: ASCII characters without escapes, all in the buffer.
+        final byte[] b = buffer;
+        final int start = pos;
+        for (int p = start; p < limit; p++) {
+            final byte c = b[p];
+            if (c == '"') {
+                final int length = p - start;
+                ensureChars(length);
+                final char[] out = chars;
+                for (int i = 0; i < length; i++) {
+                    out[i] = (char) b[start + i];
+                }
+                pos = p + 1;
+                return new String(out, 0, length);
+            } else if (c == '\\' || c < 0) {
+                break;
+            }
+        }
+        charsLength = 0;
+        while (true) {
+            final int c = readByte();
+            if (c == '"') {
+                return new String(chars, 0, charsLength);
+            } else if (c == '\\') {
+                final int escaped = readByte();
+                if (escaped < 0x80) {
+                    appendChar(readEscapeCharacter(escaped));
+                } else {
+                    readMultiByteCharacter(escaped);
+                }
+            } else if (c < 0x80) {
+                appendChar((char) c);
+            } else {
+                readMultiByteCharacter(c);
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            final int c = readByte();
+            if (c == '"') {
+                return;
+            } else if (c == '\\' && readByte() == 'u') {
+                for (int i = 0; i < 4; i++) {
+                    readByte();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param escaped the ASCII character following a backslash.
+     */
+    private char readEscapeCharacter(int escaped) throws IOException {
+        switch (escaped) {
+            case 'u':
+                int result = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int c = readByte();
+                    result <<= 4;
+                    if (c >= '0' && c <= '9') {
+                        result += c - '0';
+                    } else if (c >= 'a' && c <= 'f') {
+                        result += c - 'a' + 10;
+                    } else if (c >= 'A' && c <= 'F') {
+                        result += c - 'A' + 10;
+                    } else {
+                        throw syntaxError("Malformed \\u escape");
+                    }
+                }
+                return (char) result;
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            default:
+                // '"', '\\', '/' and any other character stand for themselves
+                return (char) escaped;
+        }
+    }
+
+    /**
+     * Decodes the UTF-8 sequence starting with the given byte into
+     * {@link #chars}. Malformed sequences are replaced with U+FFFD.
+     */
+    private void readMultiByteCharacter(int first) throws IOException {
+        final int codePoint = decode(first);
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            // Character.highSurrogate() and lowSurrogate() need API level 19
+            final int offset = codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            appendChar((char) (Character.MIN_HIGH_SURROGATE + (offset >>> 10)));
+            appendChar((char) (Character.MIN_LOW_SURROGATE + (offset & 0x3FF)));
+        } else {
+            appendChar((char) codePoint);
+        }
+    }
+
+    private int decode(int first) throws IOException {
+        final int extra;
+        final int min;
+        int codePoint;
+        if (first >= 0xC2 && first <= 0xDF) {
+            extra = 1;
+            min = 0x80;
+            codePoint = first & 0x1F;
+        } else if (first >= 0xE0 && first <= 0xEF) {
+            extra = 2;
+            min = 0x800;
+            codePoint = first & 0x0F;
+        } else if (first >= 0xF0 && first <= 0xF4) {
+            extra = 3;
+            min = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            codePoint = first & 0x07;
+        } else {
+            return REPLACEMENT_CHAR;
+        }
+        for (int i = 0; i < extra; i++) {
+            final int c = readByte();
+            if ((c & 0xC0) != 0x80) {
+                // not a continuation byte, read it again on its own
+                pos--;
+                return REPLACEMENT_CHAR;
+            }
+            codePoint = (codePoint << 6) | (c & 0x3F);
+        }
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return REPLACEMENT_CHAR;
+        }
+        return codePoint;
+    }
+
+    private int nextNonWhitespace(boolean throwOnEof) throws IOException {
+        while (pos < limit || fill()) {
+            final int c = buffer[pos++];
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c & 0xFF;
+            }
+        }
+        if (throwOnEof) {
+            throw new EOFException("End of input");
+        }
+        return -1;
+    }
+
+    /**
+     * @return the next byte, from 0 to 255.
+     */
+    private int readByte() throws IOException {
+        if (pos == limit && !fill()) {
+            throw syntaxError("Unterminated string");
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    /**
+     * Replaces the content of the buffer with the next bytes of the stream.
+     *
+     * @return false at the end of the stream.
+     */
+    private boolean fill() throws IOException {
+        if (in == null) {
+            throw new IllegalStateException("JsonReader is closed");
+        }
+        pos = 0;
+        limit = 0;
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read == -1) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    private void appendChar(char c) {
+        if (charsLength == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[charsLength++] = c;
+    }
+
+    private void ensureChars(int length) {
+        if (length > chars.length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private IllegalStateException unexpected(String expected, int p) {
+        return new IllegalStateException("Expected " + expected + " but was " + toToken(p));
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message);
+    }
+
+    private static AwsJsonToken toToken(int p) {
+        switch (p) {
+            case PEEKED_BEGIN_ARRAY:
+                return AwsJsonToken.BEGIN_ARRAY;
+            case PEEKED_END_ARRAY:
+                return AwsJsonToken.END_ARRAY;
+            case PEEKED_BEGIN_OBJECT:
+                return AwsJsonToken.BEGIN_OBJECT;
+            case PEEKED_END_OBJECT:
+                return AwsJsonToken.END_OBJECT;
+            case PEEKED_NAME:
+                return AwsJsonToken.FIELD_NAME;
+            case PEEKED_TRUE:
+            case PEEKED_FALSE:
+                return AwsJsonToken.VALUE_BOOLEAN;
+            case PEEKED_NULL:
+                return AwsJsonToken.VALUE_NULL;
+            case PEEKED_NUMBER:
+                return AwsJsonToken.VALUE_NUMBER;
+            case PEEKED_STRING:
+                return AwsJsonToken.VALUE_STRING;
+            case PEEKED_EOF:
+                return null;
+            default:
+                return AwsJsonToken.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import com.amazonaws.util.Base64;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * An {@link AwsJsonWriter} that encodes the JSON document in UTF-8 as it is
+ * written, into a growing byte array that is then used as the content of a
+ * request without being copied. This skips the intermediate characters and
+ * string of a {@link java.io.Writer} based writer. The document is written in
+ * the same compact format as the Gson writer.
+ */
+public class Utf8JsonWriter implements AwsJsonWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NEGATIVE_THREE = -3;
+    private static final int MAX_DEPTH_INITIAL = 32;
+    /** Number of chars of a string encoded between capacity checks. */
+    private static final int STRING_CHUNK_SIZE = 1024;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private static final byte[] TRUE = {
+            't', 'r', 'u', 'e'
+    };
+    private static final byte[] FALSE = {
+            'f', 'a', 'l', 's', 'e'
+    };
+    private static final byte[] NULL = {
+            'n', 'u', 'l', 'l'
+    };
+    private static final byte[] HEX = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private byte[] buffer;
+    private int count;
+    private int[] stack = new int[MAX_DEPTH_INITIAL];
+    private int stackSize;
+
+    /**
+     * Creates a writer of an empty document.
+     */
+    public Utf8JsonWriter() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the initial size of the byte array, in bytes.
+     */
+    public Utf8JsonWriter(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        buffer = new byte[initialCapacity];
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    @Override
+    public AwsJsonWriter beginArray() throws IOException {
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    @Override
+    public AwsJsonWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public AwsJsonWriter beginObject() throws IOException {
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    @Override
+    public AwsJsonWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    @Override
+    public AwsJsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        final int context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            writeByte(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stack[stackSize - 1] = DANGLING_NAME;
+        writeString(name);
+        writeByte(':');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeAscii(Long.toString(value));
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        final String string = value.toString();
+        if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(string);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Date value) throws IOException {
+        final BigDecimal dateValue = BigDecimal.valueOf(value.getTime());
+        return value(dateValue.scaleByPowerOfTen(NEGATIVE_THREE));
+    }
+
+    @Override
+    public AwsJsonWriter value(ByteBuffer value) throws IOException {
+        value.mark();
+        final byte[] bytes = new byte[value.remaining()];
+        value.get(bytes, 0, bytes.length);
+        value.reset();
+        beforeValue();
+        writeByte('"');
+        // Base64 characters need no escaping.
+        writeBytes(Base64.encode(bytes));
+        writeByte('"');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value() throws IOException {
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Nothing to flush.
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stackSize > 1 || peek() != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+    }
+
+    /**
+     * @return the number of bytes of the document written so far.
+     */
+    public int getContentLength() {
+        return count;
+    }
+
+    /**
+     * Returns a stream of the document written so far, reading the bytes of
+     * this writer without copying them. Nothing should be written after this
+     * is called.
+     *
+     * @return the document encoded in UTF-8.
+     */
+    public InputStream getContent() {
+        return new ByteArrayInputStream(buffer, 0, count);
+    }
+
+    /**
+     * @return a copy of the document written so far, encoded in UTF-8.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private AwsJsonWriter open(int empty, char openBracket) {
+        beforeValue();
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = empty;
+        writeByte(openBracket);
+        return this;
+    }
+
+    private AwsJsonWriter close(int empty, int nonempty, char closeBracket) {
+        final int context = peek();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stackSize--;
+        writeByte(closeBracket);
+        return this;
+    }
+
+    private int peek() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void beforeValue() {
+        switch (peek()) {
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                writeByte(',');
+                break;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    /**
+     * Writes a quoted and escaped string, encoded in UTF-8. Unpaired
+     * surrogates are replaced with '?' as {@link String#getBytes} does.
+     */
+    private void writeString(String value) {
+        final int length = value.length();
+        writeByte('"');
+        int i = 0;
+        while (i < length) {
+            final int end = Math.min(length, i + STRING_CHUNK_SIZE);
+            // Each char takes at most 6 bytes, as an escape sequence, and the
+            // last one may be the start of a surrogate pair.
+            ensureCapacity((end - i + 1) * 6);
+            final byte[] b = buffer;
+            int pos = count;
+            for (; i < end; i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        b[pos++] = (byte) c;
+                    } else {
+                        pos = writeEscape(b, pos, c);
+                    }
+                } else if (c < 0x800) {
+                    b[pos++] = (byte) (0xC0 | (c >> 6));
+                    b[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (c == '\u2028' || c == '\u2029') {
+                    pos = writeUnicodeEscape(b, pos, c);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    b[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    b[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    b[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    b[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                    // unpaired, Character.isSurrogate() needs API level 19
+                    b[pos++] = '?';
+                } else {
+                    b[pos++] = (byte) (0xE0 | (c >> 12));
+                    b[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    b[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            count = pos;
+        }
+        writeByte('"');
+    }
+
+    private static int writeEscape(byte[] b, int pos, char c) {
+        final char escaped;
+        switch (c) {
+            case '"':
+                escaped = '"';
+                break;
+            case '\\':
+                escaped = '\\';
+                break;
+            case '\t':
+                escaped = 't';
+                break;
+            case '\b':
+                escaped = 'b';
+                break;
+            case '\n':
+                escaped = 'n';
+                break;
+            case '\r':
+                escaped = 'r';
+                break;
+            case '\f':
+                escaped = 'f';
+                break;
+            default:
+                return writeUnicodeEscape(b, pos, c);
+        }
+        b[pos] = '\\';
+        b[pos + 1] = (byte) escaped;
+        return pos + 2;
+    }
+
+    private static int writeUnicodeEscape(byte[] b, int pos, char c) {
+        b[pos] = '\\';
+        b[pos + 1] = 'u';
+        b[pos + 2] = HEX[(c >> 12) & 0xF];
+        b[pos + 3] = HEX[(c >> 8) & 0xF];
+        b[pos + 4] = HEX[(c >> 4) & 0xF];
+        b[pos + 5] = HEX[c & 0xF];
+        return pos + 6;
+    }
+
+    private void writeAscii(String value) {
+        final int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) c;
+    }
+
+    private void ensureCapacity(int extra) {
+        final int needed = count + extra;
+        if (needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+        }
+    }
+}
@@ -189,6 +189,37 @@ public class AWS4SignerTest {
         assertNull(request.getHeaders().get("Authorization"));
     }
 
+    @Test
+    public void testSigningKeyIsReusedAcrossRequests() {
+        final AWSCredentials credentials = new BasicAWSCredentials("cacheAccess", "secret");
+        final Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final AWS4Signer cachingSigner = new AWS4Signer();
+        cachingSigner.overrideDate(c.getTime());
+
+        final SigningKeyCache cache = AWS4Signer.getSigningKeyCache();
+        final long hits = cache.getHitCount();
+        final long misses = cache.getMissCount();
+
+        final Request<?> first = generateBasicRequest();
+        cachingSigner.sign(first, credentials);
+        final Request<?> second = generateBasicRequest();
+        cachingSigner.sign(second, credentials);
+
+        assertEquals(first.getHeaders().get("Authorization"),
+                second.getHeaders().get("Authorization"));
+        assertEquals(misses + 1, cache.getMissCount());
+        assertEquals(hits + 1, cache.getHitCount());
+
+        // A different secret for the same access key must not reuse the key.
+        final Request<?> third = generateBasicRequest();
+        cachingSigner.sign(third, new BasicAWSCredentials("cacheAccess", "rotated"));
+        assertFalse(first.getHeaders().get("Authorization")
+                .equals(third.getHeaders().get("Authorization")));
+        assertEquals(misses + 2, cache.getMissCount());
+    }
+
     private Request<?> generateBasicRequest() {
         final Request<?> request = new DefaultRequest<Void>("Foo");
         request.setContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}"
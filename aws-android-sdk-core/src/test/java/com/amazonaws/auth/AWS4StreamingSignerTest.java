@@ -0,0 +1,166 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpHeader;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Date;
+
+public class AWS4StreamingSignerTest {
+
+    private static final AWSCredentials CREDENTIALS = new BasicAWSCredentials("access", "secret");
+
+    @Test
+    public void testLargePayloadIsSignedWhileStreaming() throws IOException {
+        final int length = 300 * 1024;
+        final CountingInputStream content = new CountingInputStream(new byte[length]);
+        final Request<?> request = newRequest(content, length);
+
+        signer().sign(request, CREDENTIALS);
+
+        // the payload has not been read to sign the headers
+        assertEquals(0, content.bytesRead);
+        assertEquals("STREAMING-AWS4-HMAC-SHA256-PAYLOAD",
+                request.getHeaders().get("x-amz-content-sha256"));
+        assertEquals(String.valueOf(length),
+                request.getHeaders().get("x-amz-decoded-content-length"));
+        assertTrue(request.getContent() instanceof AwsChunkedEncodingInputStream);
+        assertEquals("aws-chunked", request.getHeaders().get(HttpHeader.CONTENT_ENCODING));
+        assertTrue(request.getHeaders().get("Authorization")
+                .contains("x-amz-content-sha256;x-amz-date;x-amz-decoded-content-length"));
+
+        final long encodedLength = Long.parseLong(
+                request.getHeaders().get(HttpHeader.CONTENT_LENGTH));
+        assertEquals(AwsChunkedEncodingInputStream.calculateStreamContentLength(length),
+                encodedLength);
+        final byte[] encoded = IOUtils.toByteArray(request.getContent());
+        assertEquals(encodedLength, encoded.length);
+        // the payload is read once, while sending
+        assertEquals(length, content.bytesRead);
+        assertTrue(new String(encoded, 0, 100, "UTF-8").startsWith("20000;chunk-signature="));
+    }
+
+    @Test
+    public void testSmallPayloadIsSignedAsAWhole() {
+        final InputStream content = new ByteArrayInputStream(new byte[1024]);
+        final Request<?> request = newRequest(content, 1024);
+
+        signer().sign(request, CREDENTIALS);
+
+        assertNull(request.getHeaders().get("x-amz-content-sha256"));
+        assertNull(request.getHeaders().get("x-amz-decoded-content-length"));
+        assertEquals("1024", request.getHeaders().get(HttpHeader.CONTENT_LENGTH));
+        assertSame(content, request.getContent());
+    }
+
+    @Test
+    public void testExistingContentEncodingIsKept() {
+        final Request<?> request = newRequest(new ByteArrayInputStream(new byte[300 * 1024]),
+                300 * 1024);
+        request.addHeader("content-encoding", "gzip");
+
+        signer().sign(request, CREDENTIALS);
+
+        assertNull(request.getHeaders().get("content-encoding"));
+        assertEquals("aws-chunked,gzip", request.getHeaders().get(HttpHeader.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testServiceWithoutChunkEncodingIsSignedAsAWhole() {
+        final AWS4StreamingSigner signer = new AWS4StreamingSigner();
+        signer.setServiceName("kinesis");
+        signer.setRegionName("us-east-1");
+        signer.overrideDate(new Date(1431114076667L));
+        final InputStream content = new ByteArrayInputStream(new byte[300 * 1024]);
+        final Request<?> request = newRequest(content, 300 * 1024);
+
+        signer.sign(request, CREDENTIALS);
+
+        assertNull(request.getHeaders().get("x-amz-content-sha256"));
+        assertNull(request.getHeaders().get(HttpHeader.CONTENT_ENCODING));
+        assertSame(content, request.getContent());
+    }
+
+    @Test
+    public void testMinimumStreamingContentLength() {
+        final AWS4StreamingSigner signer = new AWS4StreamingSigner(true, 512);
+        signer.setServiceName("s3");
+        signer.overrideDate(new Date(1431114076667L));
+        final Request<?> request = newRequest(new ByteArrayInputStream(new byte[1024]), 1024);
+
+        signer.sign(request, CREDENTIALS);
+
+        assertTrue(request.getContent() instanceof AwsChunkedEncodingInputStream);
+    }
+
+    private static AWS4StreamingSigner signer() {
+        final AWS4StreamingSigner signer = new AWS4StreamingSigner();
+        signer.setServiceName("s3");
+        signer.setRegionName("us-east-1");
+        signer.overrideDate(new Date(1431114076667L));
+        return signer;
+    }
+
+    private static Request<?> newRequest(InputStream content, int length) {
+        final Request<?> request = new DefaultRequest<Void>("s3");
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.setEndpoint(URI.create("https://s3.us-east-1.amazonaws.com"));
+        request.addHeader(HttpHeader.CONTENT_LENGTH, String.valueOf(length));
+        request.setContent(content);
+        return request;
+    }
+
+    private static final class CountingInputStream extends ByteArrayInputStream {
+        private long bytesRead;
+
+        CountingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read() {
+            final int b = super.read();
+            if (b != -1) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            final int count = super.read(b, off, len);
+            if (count > 0) {
+                bytesRead += count;
+            }
+            return count;
+        }
+    }
+}
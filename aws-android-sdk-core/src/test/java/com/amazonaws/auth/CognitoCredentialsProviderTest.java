@@ -0,0 +1,200 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.cognitoidentity.AmazonCognitoIdentityClient;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CognitoCredentialsProviderTest {
+
+    private static final int THREADS = 64;
+    private static final int CALLS_PER_THREAD = 10000;
+
+    @Test
+    public void testCredentialsAreRefreshedSynchronouslyByDefault() {
+        final TestProvider provider = new TestProvider();
+        provider.expiresIn = 100 * 1000L;
+        provider.getCredentials();
+        assertFalse(provider.isBackgroundRefreshEnabled());
+
+        // within the refresh threshold
+        provider.getCredentials();
+        assertEquals(2, provider.sessions.get());
+    }
+
+    @Test
+    public void testValidCredentialsAreReadWhileRefreshing() throws Exception {
+        final TestProvider provider = new TestProvider();
+        provider.setBackgroundRefreshEnabled(true);
+        provider.expiresIn = 100 * 1000L;
+        final AWSSessionCredentials first = provider.getCredentials();
+        assertEquals(1, provider.sessions.get());
+
+        // the background refresh holds the credentials lock until released
+        provider.release = new CountDownLatch(1);
+        provider.expiresIn = 3600 * 1000L;
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                            assertSame(first, provider.getCredentials());
+                        }
+                    } catch (final Throwable t) {
+                        failure.set(t);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse("reads are blocked by the refresh", thread.isAlive());
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertTrue(provider.started.await(10, TimeUnit.SECONDS));
+        // a single refresh is in flight
+        assertEquals(2, provider.sessions.get());
+
+        provider.release.countDown();
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (provider.getCredentials() == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("ak2", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals(2, provider.sessions.get());
+    }
+
+    @Test
+    public void testExpiredCredentialsAreRefreshedOnce() throws Exception {
+        final TestProvider provider = new TestProvider();
+        provider.setBackgroundRefreshEnabled(true);
+        provider.expiresIn = -1000L;
+        provider.getCredentials();
+        assertEquals(1, provider.sessions.get());
+
+        provider.expiresIn = 3600 * 1000L;
+        final Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    provider.getCredentials();
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(2, provider.sessions.get());
+        assertEquals("ak2", provider.getCredentials().getAWSAccessKeyId());
+    }
+
+    @Test
+    public void testFailedBackgroundRefreshIsNotRetriedImmediately() throws Exception {
+        final TestProvider provider = new TestProvider();
+        provider.setBackgroundRefreshEnabled(true);
+        provider.expiresIn = 100 * 1000L;
+        final AWSSessionCredentials first = provider.getCredentials();
+
+        // within the refresh threshold, the background refresh fails
+        provider.failure = new AmazonClientException("Unable to execute HTTP request");
+        assertSame(first, provider.getCredentials());
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (provider.sessions.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, provider.sessions.get());
+
+        // let the failed refresh finish, the next calls don't start another
+        Thread.sleep(200);
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, provider.getCredentials());
+        }
+        Thread.sleep(200);
+        assertEquals(2, provider.sessions.get());
+    }
+
+    @Test
+    public void testClearedCredentialsAreNotRead() {
+        final TestProvider provider = new TestProvider();
+        provider.setBackgroundRefreshEnabled(true);
+        provider.expiresIn = 3600 * 1000L;
+        provider.getCredentials();
+        provider.clearCredentials();
+        assertEquals("ak2", provider.getCredentials().getAWSAccessKeyId());
+    }
+
+    private static final class TestProvider extends CognitoCredentialsProvider {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+        private volatile long expiresIn;
+        private volatile RuntimeException failure;
+
+        TestProvider() {
+            super(new AWSEnhancedCognitoIdentityProvider("account", "pool", newClient()),
+                    newClient());
+        }
+
+        @Override
+        protected void startSession() {
+            final int session = sessions.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            final CountDownLatch latch = release;
+            if (latch != null) {
+                started.countDown();
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sessionCredentials = new BasicSessionCredentials("ak" + session, "sk", "st");
+            sessionCredentialsExpiration = new Date(System.currentTimeMillis() + expiresIn);
+        }
+
+        private static AmazonCognitoIdentityClient newClient() {
+            final AmazonCognitoIdentityClient client = new AmazonCognitoIdentityClient(
+                    new AnonymousAWSCredentials());
+            client.setRegion(Region.getRegion(Regions.US_EAST_1));
+            return client;
+        }
+    }
+}
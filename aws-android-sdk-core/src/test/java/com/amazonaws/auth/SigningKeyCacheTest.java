@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+
+    private static final byte[] KEY = new byte[] {
+            1, 2, 3
+    };
+
+    @Test
+    public void testHitAndMissCounters() {
+        final SigningKeyCache cache = new SigningKeyCache();
+        assertNull(cache.get("access", "secret", "20190101", "us-east-1", "dynamodb"));
+        cache.put("access", "secret", "20190101", "us-east-1", "dynamodb", KEY);
+        assertArrayEquals(KEY,
+                cache.get("access", "secret", "20190101", "us-east-1", "dynamodb"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testScopeIsPartOfTheKey() {
+        final SigningKeyCache cache = new SigningKeyCache();
+        cache.put("access", "secret", "20190101", "us-east-1", "dynamodb", KEY);
+
+        assertNull(cache.get("access", "secret", "20190102", "us-east-1", "dynamodb"));
+        assertNull(cache.get("access", "secret", "20190101", "us-west-2", "dynamodb"));
+        assertNull(cache.get("access", "secret", "20190101", "us-east-1", "kinesis"));
+        assertNull(cache.get("other", "secret", "20190101", "us-east-1", "dynamodb"));
+        assertNull(cache.get("access", "rotated", "20190101", "us-east-1", "dynamodb"));
+        assertEquals(5, cache.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        final SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put("a", "secret", "20190101", "us-east-1", "sqs", KEY);
+        cache.put("b", "secret", "20190101", "us-east-1", "sqs", KEY);
+        // touch "a" so that "b" becomes the eldest entry
+        cache.get("a", "secret", "20190101", "us-east-1", "sqs");
+        cache.put("c", "secret", "20190101", "us-east-1", "sqs", KEY);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b", "secret", "20190101", "us-east-1", "sqs"));
+        assertArrayEquals(KEY, cache.get("a", "secret", "20190101", "us-east-1", "sqs"));
+    }
+
+    @Test
+    public void testClear() {
+        final SigningKeyCache cache = new SigningKeyCache();
+        cache.put("access", "secret", "20190101", "us-east-1", "dynamodb", KEY);
+        cache.get("access", "secret", "20190101", "us-east-1", "dynamodb");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxEntries() {
+        new SigningKeyCache(0);
+    }
+}
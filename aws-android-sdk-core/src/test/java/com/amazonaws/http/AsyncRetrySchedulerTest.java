@@ -0,0 +1,406 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceClient;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.ClientSideRateLimiter;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncRetrySchedulerTest {
+
+    private static final long BACKOFF_MILLIS = 300;
+
+    private ExecutorService executor;
+    private FailingHttpClient httpClient;
+    private AmazonTestServiceClient client;
+    private RecordingRequestHandler requestHandler;
+    private TestRequest request;
+
+    @Before
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        httpClient = new FailingHttpClient();
+        final RetryPolicy retryPolicy = new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return BACKOFF_MILLIS;
+                    }
+                }, 3, false);
+        client = new AmazonTestServiceClient(
+                new ClientConfiguration().withRetryPolicy(retryPolicy), httpClient);
+        requestHandler = new RecordingRequestHandler();
+        client.addRequestHandler(requestHandler);
+        request = new TestRequest();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRetriesDoNotBlockTheExecutor() throws Exception {
+        httpClient.failures = 2;
+        final long scheduledRetries = AsyncRetryScheduler.getScheduledRetryCount();
+        final RecordingAsyncHandler asyncHandler = new RecordingAsyncHandler();
+
+        final Future<String> retried = AsyncRetryScheduler.submit(executor, request,
+                asyncHandler, new ServiceCall(request));
+        // let the first attempt fail before submitting the other call
+        Thread.sleep(BACKOFF_MILLIS / 3);
+        final Future<String> other = executor.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return "other";
+            }
+        });
+
+        // the single worker thread is free while the first call backs off
+        assertEquals("other", other.get(BACKOFF_MILLIS / 2, TimeUnit.MILLISECONDS));
+        assertTrue(!retried.isDone());
+        assertNull(request.collectedResponse);
+
+        assertEquals("result", retried.get(5, TimeUnit.SECONDS));
+        assertEquals(3, httpClient.requests.size());
+        assertEquals(2, AsyncRetryScheduler.getScheduledRetryCount() - scheduledRetries);
+        assertEquals("0/0", httpClient.requests.get(0).getHeaders().get("aws-sdk-retry"));
+        assertEquals("1/" + BACKOFF_MILLIS,
+                httpClient.requests.get(1).getHeaders().get("aws-sdk-retry"));
+        assertEquals("2/" + BACKOFF_MILLIS,
+                httpClient.requests.get(2).getHeaders().get("aws-sdk-retry"));
+
+        // the retries resume the execution of the original request
+        assertEquals(1, client.marshalledRequests);
+        final String invocationId = httpClient.requests.get(0).getHeaders()
+                .get("aws-sdk-invocation-id");
+        assertEquals(invocationId,
+                httpClient.requests.get(2).getHeaders().get("aws-sdk-invocation-id"));
+        assertEquals(1, requestHandler.beforeRequests);
+        assertEquals(1, requestHandler.afterResponses);
+        assertEquals(0, requestHandler.afterErrors);
+        assertEquals("result", request.collectedResponse.getAwsResponse());
+        assertEquals(3, request.collectedRequestCount);
+        assertEquals("result", asyncHandler.result);
+        assertEquals(1, asyncHandler.successes);
+    }
+
+    @Test
+    public void testMaxErrorRetryIsHonored() throws Exception {
+        httpClient.failures = Integer.MAX_VALUE;
+        final RecordingAsyncHandler asyncHandler = new RecordingAsyncHandler();
+
+        final Future<String> future = AsyncRetryScheduler.submit(executor, request,
+                asyncHandler, new ServiceCall(request));
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("expected the call to fail after exhausting its retries");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+            assertTrue(e.getCause().getCause() instanceof IOException);
+            assertSame(e.getCause(), asyncHandler.error);
+        }
+        assertEquals(4, httpClient.requests.size());
+        assertEquals(1, client.marshalledRequests);
+        assertEquals(1, requestHandler.afterErrors);
+        assertEquals(0, asyncHandler.successes);
+        assertEquals(4, request.collectedRequestCount);
+    }
+
+    @Test
+    public void testCancelDuringBackoff() throws Exception {
+        httpClient.failures = Integer.MAX_VALUE;
+
+        final Future<String> future = AsyncRetryScheduler.submit(executor, request,
+                new ServiceCall(request));
+        Thread.sleep(BACKOFF_MILLIS / 3);
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+        assertTrue(future.isDone());
+
+        Thread.sleep(BACKOFF_MILLIS * 2);
+        assertEquals(1, httpClient.requests.size());
+    }
+
+    @Test
+    public void testRateLimiterWaitDoesNotBlockTheExecutor() throws Exception {
+        final DelayingRateLimiter rateLimiter = new DelayingRateLimiter();
+        client = new AmazonTestServiceClient(new ClientConfiguration().withRetryPolicy(
+                new RetryPolicy(PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                        PredefinedRetryPolicies.DEFAULT_BACKOFF_STRATEGY, 3, false, null,
+                        rateLimiter)), httpClient);
+        final long scheduledRetries = AsyncRetryScheduler.getScheduledRetryCount();
+
+        final Future<String> limited = AsyncRetryScheduler.submit(executor, request,
+                new ServiceCall(request));
+        Thread.sleep(BACKOFF_MILLIS / 3);
+        final Future<String> other = executor.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return "other";
+            }
+        });
+
+        // the single worker thread is free while the first call waits its turn
+        assertEquals("other", other.get(BACKOFF_MILLIS / 2, TimeUnit.MILLISECONDS));
+        assertTrue(httpClient.requests.isEmpty());
+
+        assertEquals("result", limited.get(5, TimeUnit.SECONDS));
+        assertEquals(1, httpClient.requests.size());
+        assertEquals(1, AsyncRetryScheduler.getScheduledRetryCount() - scheduledRetries);
+        assertEquals(1, rateLimiter.reservations);
+        assertEquals(0, rateLimiter.sleeps);
+    }
+
+    @Test
+    public void testOtherRequestsOfTheCallStillSleep() throws Exception {
+        httpClient.failures = 1;
+        final long scheduledRetries = AsyncRetryScheduler.getScheduledRetryCount();
+
+        final Future<String> future = AsyncRetryScheduler.submit(executor, request,
+                new Callable<String>() {
+                    @Override
+                    public String call() {
+                        // like a credentials provider fetching credentials
+                        client.call(new TestRequest());
+                        return client.call(request);
+                    }
+                });
+
+        assertEquals("result", future.get(5, TimeUnit.SECONDS));
+        assertEquals(scheduledRetries, AsyncRetryScheduler.getScheduledRetryCount());
+        assertEquals(3, httpClient.requests.size());
+    }
+
+    @Test
+    public void testSynchronousCallsStillSleep() {
+        httpClient.failures = 1;
+        final long scheduledRetries = AsyncRetryScheduler.getScheduledRetryCount();
+
+        final long start = System.currentTimeMillis();
+        assertEquals("result", client.call(request));
+        assertTrue(System.currentTimeMillis() - start >= BACKOFF_MILLIS);
+        assertEquals(scheduledRetries, AsyncRetryScheduler.getScheduledRetryCount());
+        assertEquals(2, httpClient.requests.size());
+        assertEquals(2, request.collectedRequestCount);
+    }
+
+    private final class ServiceCall implements Callable<String> {
+        private final TestRequest serviceRequest;
+
+        ServiceCall(TestRequest serviceRequest) {
+            this.serviceRequest = serviceRequest;
+        }
+
+        @Override
+        public String call() {
+            return client.call(serviceRequest);
+        }
+    }
+
+    /**
+     * Executes its requests like the generated service clients.
+     */
+    private static final class AmazonTestServiceClient extends AmazonWebServiceClient {
+        private volatile int marshalledRequests;
+
+        AmazonTestServiceClient(ClientConfiguration config, HttpClient httpClient) {
+            super(config, httpClient);
+            setEndpoint("http://testsvc.region.amazonaws.com");
+        }
+
+        String call(TestRequest testRequest) {
+            final ExecutionContext executionContext = createExecutionContext(testRequest);
+            final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+            Request<TestRequest> request = null;
+            Response<String> response = null;
+            try {
+                request = marshall(testRequest);
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                response = client.execute(request, new StringResponseHandler(), null,
+                        executionContext);
+                return response.getAwsResponse();
+            } finally {
+                awsRequestMetrics.endEvent(Field.ClientExecuteTime);
+                endClientExecution(awsRequestMetrics, request, response);
+            }
+        }
+
+        private Request<TestRequest> marshall(TestRequest testRequest) {
+            marshalledRequests++;
+            final Request<TestRequest> request = new DefaultRequest<TestRequest>(testRequest,
+                    "testsvc");
+            request.setEndpoint(URI.create("http://testsvc.region.amazonaws.com"));
+            request.addHeader(HttpHeader.CONTENT_LENGTH, "0");
+            request.setContent(new ByteArrayInputStream(new byte[0]));
+            return request;
+        }
+    }
+
+    /**
+     * Collects the response and the attempt count of its executions.
+     */
+    private static final class TestRequest extends AmazonWebServiceRequest {
+        private volatile Response<?> collectedResponse;
+        private volatile int collectedRequestCount;
+
+        TestRequest() {
+            setRequestMetricCollector(new RequestMetricCollector() {
+                @Override
+                public void collectMetrics(Request<?> request, Response<?> response) {
+                    collectedResponse = response;
+                    collectedRequestCount = request.getAWSRequestMetrics().getTimingInfo()
+                            .getCounter(Field.RequestCount.name()).intValue();
+                }
+            });
+        }
+    }
+
+    /**
+     * Holds the first request back for the backoff delay.
+     */
+    private static final class DelayingRateLimiter extends ClientSideRateLimiter {
+        private volatile int reservations;
+        private volatile int sleeps;
+
+        @Override
+        public synchronized long reserve() {
+            return reservations++ == 0 ? BACKOFF_MILLIS : 0;
+        }
+
+        @Override
+        protected void sleep(long millis) {
+            sleeps++;
+        }
+    }
+
+    private static final class RecordingRequestHandler extends RequestHandler2 {
+        private volatile int beforeRequests;
+        private volatile int afterResponses;
+        private volatile int afterErrors;
+
+        @Override
+        public void beforeRequest(Request<?> request) {
+            beforeRequests++;
+        }
+
+        @Override
+        public void afterResponse(Request<?> request, Response<?> response) {
+            afterResponses++;
+        }
+
+        @Override
+        public void afterError(Request<?> request, Response<?> response, Exception e) {
+            afterErrors++;
+        }
+    }
+
+    private static final class RecordingAsyncHandler
+            implements AsyncHandler<TestRequest, String> {
+        private volatile int successes;
+        private volatile String result;
+        private volatile Exception error;
+
+        @Override
+        public void onError(Exception exception) {
+            error = exception;
+        }
+
+        @Override
+        public void onSuccess(TestRequest request, String result) {
+            successes++;
+            this.result = result;
+        }
+    }
+
+    private static final class StringResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            final AmazonWebServiceResponse<String> awsResponse =
+                    new AmazonWebServiceResponse<String>();
+            awsResponse.setResult("result");
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    /**
+     * Fails the given number of requests with an IOException, and records
+     * every request.
+     */
+    private static final class FailingHttpClient implements HttpClient {
+        private final List<HttpRequest> requests = Collections
+                .synchronizedList(new ArrayList<HttpRequest>());
+        private volatile int failures;
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            requests.add(request);
+            if (requests.size() <= failures) {
+                throw new IOException("throttled");
+            }
+            return HttpResponse.builder().statusCode(200).build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class PooledHttpClientTest {
+
+    private HttpServer server;
+    private URI endpoint;
+    private ClientConfiguration config;
+    private PooledHttpClient client;
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                final byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+                exchange.getResponseHeaders().add("x-amz-method",
+                        exchange.getRequestMethod());
+                exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+                final OutputStream os = exchange.getResponseBody();
+                os.write(body);
+                os.close();
+            }
+        });
+        server.createContext("/chunked", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.sendResponseHeaders(200, 0);
+                final OutputStream os = exchange.getResponseBody();
+                for (int i = 0; i < 3; i++) {
+                    os.write(("chunk" + i).getBytes(StringUtils.UTF8));
+                    os.flush();
+                }
+                os.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+
+        config = new ClientConfiguration()
+                .withConnectionPool(true)
+                .withReaper(false);
+        client = new PooledHttpClient(config);
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConnectionIsReused() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            final HttpResponse response = client.execute(post("/echo", "hello" + i, false));
+            assertEquals(200, response.getStatusCode());
+            assertEquals("hello" + i, IOUtils.toString(response.getContent()));
+        }
+
+        final HttpConnectionPool pool = client.getConnectionPool();
+        assertEquals(1, pool.getCreatedConnections());
+        assertEquals(2, pool.getReusedConnections());
+        assertEquals(0, pool.getLeasedConnections());
+        assertEquals(1, pool.getIdleConnections());
+    }
+
+    @Test
+    public void testChunkedRequestAndResponse() throws IOException {
+        HttpResponse response = client.execute(post("/echo", "streaming body", true));
+        assertEquals("streaming body", IOUtils.toString(response.getContent()));
+
+        response = client.execute(new HttpRequest("GET", endpoint.resolve("/chunked")));
+        assertEquals("chunk0chunk1chunk2", IOUtils.toString(response.getContent()));
+        assertEquals(1, client.getConnectionPool().getCreatedConnections());
+    }
+
+    @Test
+    public void testHeadRequestHasNoContent() throws IOException {
+        final HttpResponse response = client.execute(
+                new HttpRequest("HEAD", endpoint.resolve("/echo")));
+        assertEquals(200, response.getStatusCode());
+        assertEquals("HEAD", response.getHeaders().get("X-amz-method"));
+        assertNull(response.getContent());
+        assertEquals(1, client.getConnectionPool().getIdleConnections());
+    }
+
+    @Test
+    public void testConnectionsAreBoundedByMaxConnections() throws IOException {
+        client.shutdown();
+        config.setMaxConnections(1);
+        config.setConnectionTimeout(200);
+        client = new PooledHttpClient(config);
+
+        final HttpResponse first = client.execute(post("/echo", "first", false));
+        try {
+            client.execute(post("/echo", "second", false));
+            fail("expected to time out waiting for a connection");
+        } catch (final IOException e) {
+            assertTrue(e.getMessage().contains("Timeout waiting for connection"));
+        }
+
+        assertEquals("first", IOUtils.toString(first.getContent()));
+        final HttpResponse second = client.execute(post("/echo", "second", false));
+        assertEquals("second", IOUtils.toString(second.getContent()));
+        assertEquals(1, client.getConnectionPool().getCreatedConnections());
+    }
+
+    @Test
+    public void testMaxConnectionsIsSharedByEndpoints() throws IOException {
+        client.shutdown();
+        config.setMaxConnections(1);
+        config.setConnectionTimeout(200);
+        client = new PooledHttpClient(config);
+        final URI other = URI.create("http://localhost:" + endpoint.getPort());
+
+        final HttpResponse first = client.execute(post("/echo", "first", false));
+        try {
+            client.execute(post(other.resolve("/echo"), "second", false));
+            fail("expected to time out waiting for a connection");
+        } catch (final IOException e) {
+            assertTrue(e.getMessage().contains("Timeout waiting for connection"));
+        }
+
+        // the idle connection to the first endpoint makes room for the other
+        assertEquals("first", IOUtils.toString(first.getContent()));
+        final HttpResponse second = client.execute(post(other.resolve("/echo"), "second",
+                false));
+        assertEquals("second", IOUtils.toString(second.getContent()));
+        final HttpConnectionPool pool = client.getConnectionPool();
+        assertEquals(2, pool.getCreatedConnections());
+        assertEquals(1, pool.getClosedConnections());
+        assertEquals(1, pool.getIdleConnections());
+    }
+
+    @Test
+    public void testExpectContinue() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            final HttpRequest request = post(endpoint.resolve("/echo"), "continued" + i, true);
+            final HttpResponse response = client.execute(request);
+            assertEquals(200, response.getStatusCode());
+            assertEquals("continued" + i, IOUtils.toString(response.getContent()));
+        }
+        assertEquals(1, client.getConnectionPool().getCreatedConnections());
+    }
+
+    @Test
+    public void testRejectedExpectationDoesNotSendContent() throws Exception {
+        final ServerSocket serverSocket = new ServerSocket(0, 1,
+                InetAddress.getByName("127.0.0.1"));
+        final Thread rejecting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final Socket socket = serverSocket.accept();
+                    final InputStream in = socket.getInputStream();
+                    while (PooledHttpClient.readLine(in).length() > 0) {
+                        continue;
+                    }
+                    socket.getOutputStream().write(("HTTP/1.1 417 Expectation Failed\r\n"
+                            + "Content-Length: 0\r\n\r\n").getBytes(StringUtils.UTF8));
+                    socket.getOutputStream().flush();
+                    socket.close();
+                } catch (final IOException e) {
+                    // the client fails the test
+                }
+            }
+        });
+        rejecting.start();
+        try {
+            final HttpRequest request = post(URI.create("http://127.0.0.1:"
+                    + serverSocket.getLocalPort() + "/reject"), "rejected", true);
+
+            final HttpResponse response = client.execute(request);
+
+            assertEquals(417, response.getStatusCode());
+            assertEquals("rejected".length(), request.getContent().available());
+            // the content left unsent keeps the connection from being reused
+            IOUtils.toString(response.getContent());
+            assertEquals(0, client.getConnectionPool().getIdleConnections());
+            assertEquals(1, client.getConnectionPool().getClosedConnections());
+        } finally {
+            rejecting.join();
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    public void testUnconsumedContentClosesConnection() throws IOException {
+        final HttpResponse response = client.execute(post("/echo", "unread", false));
+        response.getContent().close();
+
+        final HttpConnectionPool pool = client.getConnectionPool();
+        assertEquals(0, pool.getIdleConnections());
+        assertEquals(1, pool.getClosedConnections());
+    }
+
+    @Test
+    public void testIdleConnectionsAreClosed() throws IOException {
+        final HttpResponse response = client.execute(post("/echo", "idle", false));
+        IOUtils.toString(response.getContent());
+        final HttpConnectionPool pool = client.getConnectionPool();
+        assertEquals(1, pool.getIdleConnections());
+
+        pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        assertEquals(0, pool.getIdleConnections());
+        assertEquals(1, pool.getClosedConnections());
+
+        client.execute(post("/echo", "again", false)).getContent().close();
+        assertEquals(2, pool.getCreatedConnections());
+    }
+
+    @Test
+    public void testShutdown() throws IOException {
+        final HttpResponse response = client.execute(post("/echo", "bye", false));
+        IOUtils.toString(response.getContent());
+        client.shutdown();
+
+        assertTrue(client.getConnectionPool().isShutdown());
+        assertEquals(0, client.getConnectionPool().getIdleConnections());
+        try {
+            client.execute(post("/echo", "rejected", false));
+            fail("expected the pool to reject requests after shutdown");
+        } catch (final IOException e) {
+            assertTrue(e.getMessage().contains("shut down"));
+        }
+    }
+
+    @Test
+    public void testReaperRegistration() {
+        final PooledHttpClient reaped = new PooledHttpClient(
+                new ClientConfiguration().withConnectionPool(true));
+        assertEquals(1, IdleConnectionReaper.poolCount());
+        reaped.shutdown();
+        assertEquals(0, IdleConnectionReaper.poolCount());
+    }
+
+    @Test
+    public void testClientSelection() {
+        assertTrue(AmazonHttpClient.createHttpClient(new ClientConfiguration())
+                instanceof UrlHttpClient);
+        final HttpClient pooled = AmazonHttpClient.createHttpClient(config);
+        assertTrue(pooled instanceof PooledHttpClient);
+        pooled.shutdown();
+        // the pool doesn't support proxies
+        assertTrue(AmazonHttpClient.createHttpClient(new ClientConfiguration(config)
+                .withProxyHost("proxy.example.com").withProxyPort(8080))
+                instanceof UrlHttpClient);
+    }
+
+    private HttpRequest post(String path, String body, boolean streaming) {
+        final HttpRequest request = post(endpoint.resolve(path), body, false);
+        request.setStreaming(streaming);
+        return request;
+    }
+
+    private static HttpRequest post(URI uri, String body, boolean expectContinue) {
+        final byte[] bytes = body.getBytes(StringUtils.UTF8);
+        final Map<String, String> headers = new HashMap<String, String>();
+        headers.put(HttpHeader.CONTENT_LENGTH, String.valueOf(bytes.length));
+        if (expectContinue) {
+            headers.put(HttpHeader.EXPECT, "100-continue");
+        }
+        final InputStream content = new ByteArrayInputStream(bytes);
+        return new HttpRequest("POST", uri, headers, content);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.StringUtils;
+
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.List;
+
+public class HistogramMetricCollectorTest {
+
+    private static class GetThingRequest extends AmazonWebServiceRequest {
+    }
+
+    @Test
+    public void testStartStop() {
+        final HistogramMetricCollector collector = new HistogramMetricCollector(60000);
+        assertFalse(collector.isEnabled());
+        assertFalse(collector.getRequestMetricCollector().isEnabled());
+        assertTrue(collector.start());
+        assertFalse(collector.start());
+        assertTrue(collector.getRequestMetricCollector().isEnabled());
+        assertTrue(collector.stop());
+        assertFalse(collector.stop());
+        assertFalse(collector.isEnabled());
+    }
+
+    @Test
+    public void testCollectsPerOperation() {
+        final HistogramMetricCollector collector = new HistogramMetricCollector();
+        collector.start();
+        final RequestMetricCollector requestMetricCollector = collector
+                .getRequestMetricCollector();
+
+        requestMetricCollector.collectMetrics(request(3, "ThrottlingException", "Throttling"),
+                new Response<Object>(null, null));
+        requestMetricCollector.collectMetrics(request(1), new Response<Object>(null, null));
+        requestMetricCollector.collectMetrics(request(2, "InternalError", "InternalError"), null);
+        // requests without full metrics are ignored
+        requestMetricCollector.collectMetrics(
+                new DefaultRequest<Object>(new GetThingRequest(), "Thing"), null);
+
+        final List<HistogramMetricCollector.OperationSnapshot> snapshots = collector
+                .getSnapshot();
+        assertEquals(1, snapshots.size());
+        final HistogramMetricCollector.OperationSnapshot snapshot = snapshots.get(0);
+        assertEquals("Thing", snapshot.getServiceName());
+        assertEquals("GetThing", snapshot.getOperationName());
+        assertEquals(3, snapshot.getRequestCount());
+        assertEquals(3, snapshot.getRetryCount());
+        assertEquals(2, snapshot.getThrottleCount());
+        assertEquals(1, snapshot.getFailureCount());
+        assertEquals(3, snapshot.getLatency().getTotalCount());
+        assertTrue(snapshot.toString().startsWith("Thing.GetThing: requests=3, p50="));
+
+        collector.reset();
+        assertTrue(collector.getSnapshot().isEmpty());
+    }
+
+    @Test
+    public void testCollectsBytesOfExecution() throws Exception {
+        final HttpClient httpClient = EasyMock.createMock(HttpClient.class);
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andReturn(HttpResponse.builder().statusCode(500).statusText("Internal Error")
+                        .header("Content-Length", "10").build())
+                .andReturn(HttpResponse.builder().statusCode(200).statusText("OK")
+                        .header("content-length", "20").build());
+        EasyMock.replay(httpClient);
+
+        final DefaultRequest<Object> request = new DefaultRequest<Object>(new GetThingRequest(),
+                "Thing");
+        request.setEndpoint(URI.create("http://thing.region.amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.addHeader("Content-Length", "5");
+        request.setContent(new ByteArrayInputStream("hello".getBytes(StringUtils.UTF8)));
+        final ExecutionContext context = new ExecutionContext(true);
+        request.setAWSRequestMetrics(context.getAwsRequestMetrics());
+        final Response<String> response = new AmazonHttpClient(new ClientConfiguration(),
+                httpClient).execute(request, new HttpResponseHandler<AmazonWebServiceResponse<String>>() {
+                    @Override
+                    public AmazonWebServiceResponse<String> handle(HttpResponse httpResponse) {
+                        final AmazonWebServiceResponse<String> awsResponse =
+                                new AmazonWebServiceResponse<String>();
+                        awsResponse.setResult("Result");
+                        return awsResponse;
+                    }
+
+                    @Override
+                    public boolean needsConnectionLeftOpen() {
+                        return false;
+                    }
+                }, new HttpResponseHandler<AmazonServiceException>() {
+                    @Override
+                    public AmazonServiceException handle(HttpResponse httpResponse) {
+                        final AmazonServiceException exception = new AmazonServiceException(
+                                "Internal Error");
+                        exception.setStatusCode(httpResponse.getStatusCode());
+                        exception.setErrorCode("InternalError");
+                        return exception;
+                    }
+
+                    @Override
+                    public boolean needsConnectionLeftOpen() {
+                        return false;
+                    }
+                }, context);
+        EasyMock.verify(httpClient);
+
+        final HistogramMetricCollector collector = new HistogramMetricCollector();
+        collector.start();
+        collector.getRequestMetricCollector().collectMetrics(request, response);
+
+        final HistogramMetricCollector.OperationSnapshot snapshot = collector.getSnapshot()
+                .get(0);
+        assertEquals(1, snapshot.getRetryCount());
+        // the request content is sent twice
+        assertEquals(2 * 5 + 10 + 20, snapshot.getBytesProcessed());
+        assertTrue(snapshot.toString().endsWith(", bytes=40"));
+    }
+
+    private static DefaultRequest<Object> request(int attempts, String... errorCodes) {
+        final DefaultRequest<Object> request = new DefaultRequest<Object>(new GetThingRequest(),
+                "Thing");
+        final AWSRequestMetrics metrics = new AWSRequestMetricsFullSupport();
+        metrics.startEvent(Field.ClientExecuteTime);
+        metrics.setCounter(Field.RequestCount, attempts);
+        for (final String errorCode : errorCodes) {
+            metrics.addProperty(Field.AWSErrorCode, errorCode);
+        }
+        metrics.endEvent(Field.ClientExecuteTime);
+        metrics.getTimingInfo().endTiming();
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+}
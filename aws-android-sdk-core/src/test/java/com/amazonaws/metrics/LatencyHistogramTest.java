@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long value = 1; value < 100000; value++) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            final int previousIndex = LatencyHistogram.bucketIndex(value - 1);
+            assertTrue(index == previousIndex || index == previousIndex + 1);
+            assertTrue(LatencyHistogram.highestValueInBucket(index) >= value);
+            assertTrue(LatencyHistogram.highestValueInBucket(previousIndex) >= value - 1);
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram
+                .highestValueInBucket(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.recordValue(i * 100L);
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(10000, snapshot.getTotalCount());
+        assertEquals(1000000, snapshot.getMaxValue());
+        assertEquals(500050.0, snapshot.getMean(), 0.001);
+        assertWithinPrecision(500000, snapshot.getValueAtPercentile(50));
+        assertWithinPrecision(990000, snapshot.getValueAtPercentile(99));
+        assertEquals(1000000, snapshot.getValueAtPercentile(100));
+        assertWithinPrecision(100, snapshot.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testEmptyAndReset() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getSnapshot().getValueAtPercentile(99));
+        histogram.recordValue(-5);
+        histogram.recordValue(Long.MAX_VALUE);
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getSnapshot().getMaxValue());
+        assertEquals(0, histogram.getSnapshot().getValueAtPercentile(50));
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getSnapshot().getMaxValue());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        histogram.recordValue(i);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(80000, snapshot.getTotalCount());
+        assertEquals(9999, snapshot.getMaxValue());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " isn't close to " + expected,
+                Math.abs(actual - expected) <= expected / 32);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AdaptiveRetryPolicyTest extends RetryPolicyTestBase {
+
+    @After
+    public void tearDown() {
+        clientConfiguration.setRetryPolicy(PredefinedRetryPolicies.DEFAULT);
+    }
+
+    @Test
+    public void testPresetIsAdaptive() {
+        final RetryPolicy policy = PredefinedRetryPolicies.getAdaptiveRetryPolicy();
+        assertNotNull(policy.getRetryTokenBucket());
+        assertNotNull(policy.getRateLimiter());
+        assertTrue(policy.isMaxErrorRetryInClientConfigHonored());
+        assertTrue(policy.getRetryTokenBucket() != PredefinedRetryPolicies
+                .getAdaptiveRetryPolicy().getRetryTokenBucket());
+
+        assertNull(PredefinedRetryPolicies.DEFAULT.getRetryTokenBucket());
+        assertNull(PredefinedRetryPolicies.DEFAULT.getRateLimiter());
+        assertTrue(AwsSdkMetrics.getPredefinedMetrics().contains(Field.RetryCapacity));
+        assertTrue(AwsSdkMetrics.getPredefinedMetrics().contains(Field.SendRate));
+    }
+
+    @Test
+    public void testTokenBucket() {
+        final RetryTokenBucket bucket = new RetryTokenBucket(12);
+        final AmazonClientException serviceError = new AmazonServiceException("error");
+        final AmazonClientException timeout = new AmazonClientException("timeout",
+                new IOException());
+
+        assertTrue(bucket.tryAcquire(timeout));
+        assertEquals(2, bucket.getAvailableCapacity());
+        assertFalse(bucket.tryAcquire(serviceError));
+
+        bucket.release(true);
+        assertEquals(7, bucket.getAvailableCapacity());
+        assertTrue(bucket.tryAcquire(serviceError));
+        bucket.release(false);
+        assertEquals(3, bucket.getAvailableCapacity());
+
+        for (int i = 0; i < 20; i++) {
+            bucket.release(true);
+        }
+        assertEquals(12, bucket.getAvailableCapacity());
+    }
+
+    @Test
+    public void testRetryQuotaStopsRetries() {
+        final RetryTokenBucket bucket = new RetryTokenBucket(12);
+        clientConfiguration.setRetryPolicy(new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                RetryPolicy.BackoffStrategy.NO_DELAY,
+                5, false, bucket, null));
+        final CountingHttpClient httpClient = new CountingHttpClient(500, "InternalFailure");
+        injectMockHttpClient(testedClient, httpClient);
+
+        final ExecutionContext context = new ExecutionContext(true);
+        try {
+            testedClient.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    null, errorResponseHandler, context);
+            fail("AmazonServiceException is expected.");
+        } catch (final AmazonServiceException ase) {
+            assertEquals("InternalFailure", ase.getErrorCode());
+        }
+
+        // two retries drained the bucket, the other three were not attempted
+        assertEquals(3, httpClient.requestCount);
+        assertEquals(2, bucket.getAvailableCapacity());
+        assertEquals(2, context.getAwsRequestMetrics().getTimingInfo()
+                .getCounter(Field.RequestCount.name()).intValue() - 1);
+    }
+
+    @Test
+    public void testThrottlingEnablesRateLimiter() {
+        final TestRateLimiter rateLimiter = new TestRateLimiter();
+        clientConfiguration.setRetryPolicy(new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                RetryPolicy.BackoffStrategy.NO_DELAY,
+                2, false, new RetryTokenBucket(), rateLimiter));
+        injectMockHttpClient(testedClient, new CountingHttpClient(400, "Throttling"));
+
+        final ExecutionContext context = new ExecutionContext(true);
+        try {
+            testedClient.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    null, errorResponseHandler, context);
+            fail("AmazonServiceException is expected.");
+        } catch (final AmazonServiceException ase) {
+            assertTrue(RetryUtils.isThrottlingException(ase));
+        }
+
+        assertTrue(rateLimiter.isEnabled());
+        // the retries waited for the rate limiter
+        assertEquals(2, rateLimiter.sleeps.size());
+        assertEquals(3, context.getAwsRequestMetrics().getProperty(Field.SendRate).size());
+        assertEquals(3, context.getAwsRequestMetrics().getProperty(Field.RetryCapacity).size());
+    }
+
+    @Test
+    public void testIOExceptionsUpdateAdaptiveRetryState() {
+        final TestRateLimiter rateLimiter = new TestRateLimiter();
+        final RetryTokenBucket bucket = new RetryTokenBucket();
+        clientConfiguration.setRetryPolicy(new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                RetryPolicy.BackoffStrategy.NO_DELAY,
+                2, false, bucket, rateLimiter));
+        injectMockHttpClient(testedClient, new ThrowingExceptionHttpClient(
+                new IOException("connection reset")));
+
+        final ExecutionContext context = new ExecutionContext(true);
+        try {
+            testedClient.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    null, errorResponseHandler, context);
+            fail("AmazonClientException is expected.");
+        } catch (final AmazonClientException ace) {
+            assertTrue(ace.getCause() instanceof IOException);
+        }
+
+        // every failed attempt is measured, without counting as throttling
+        assertFalse(rateLimiter.isEnabled());
+        assertEquals(3, context.getAwsRequestMetrics().getProperty(Field.SendRate).size());
+        assertEquals(3, context.getAwsRequestMetrics().getProperty(Field.RetryCapacity).size());
+        assertEquals(RetryTokenBucket.DEFAULT_CAPACITY - 2 * RetryTokenBucket.TIMEOUT_RETRY_COST,
+                bucket.getAvailableCapacity());
+    }
+
+    @Test
+    public void testReserveDoesNotWait() {
+        final TestRateLimiter rateLimiter = new TestRateLimiter();
+        assertEquals(0, rateLimiter.reserve());
+
+        rateLimiter.updateSendingRate(true);
+        final long delay = rateLimiter.reserve();
+        assertTrue(delay > 0);
+        assertTrue(rateLimiter.sleeps.isEmpty());
+        // the reserved turn is taken, the next request waits longer
+        assertTrue(rateLimiter.reserve() > delay);
+    }
+
+    @Test
+    public void testRateLimiterBacksOffAndRecovers() {
+        final TestRateLimiter rateLimiter = new TestRateLimiter();
+        assertFalse(rateLimiter.isEnabled());
+
+        // ten requests per second until the first throttling error
+        for (int i = 0; i < 50; i++) {
+            rateLimiter.acquire();
+            rateLimiter.updateSendingRate(false);
+            rateLimiter.time += 0.1;
+        }
+        assertTrue(rateLimiter.sleeps.isEmpty());
+        final double measuredRate = rateLimiter.getSendRate();
+        assertEquals(10.0, measuredRate, 1.0);
+
+        rateLimiter.updateSendingRate(true);
+        assertTrue(rateLimiter.isEnabled());
+        final double throttledRate = rateLimiter.getSendRate();
+        assertEquals(measuredRate * 0.7, throttledRate, 0.01);
+
+        // successes grow the rate back past the throttled one
+        for (int i = 0; i < 50; i++) {
+            rateLimiter.acquire();
+            rateLimiter.updateSendingRate(false);
+            rateLimiter.time += 0.1;
+        }
+        assertTrue(rateLimiter.getSendRate() > throttledRate);
+    }
+
+    private static final class TestRateLimiter extends ClientSideRateLimiter {
+        private double time = 1000;
+        private final List<Long> sleeps = new ArrayList<Long>();
+
+        @Override
+        protected double now() {
+            return time;
+        }
+
+        @Override
+        protected void sleep(long millis) {
+            sleeps.add(millis);
+            time += millis / 1000.0;
+        }
+    }
+
+    private static final class CountingHttpClient extends ReturnServiceErrorHttpClient {
+        private int requestCount;
+
+        CountingHttpClient(int statusCode, String reasonPhrase) {
+            super(statusCode, reasonPhrase);
+        }
+
+        @Override
+        public com.amazonaws.http.HttpResponse execute(com.amazonaws.http.HttpRequest request)
+                throws IOException {
+            requestCount++;
+            return super.execute(request);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+
+public class Utf8JsonReaderTest {
+
+    private static final String JSON_STRING = "{\"string\":\"string\","
+            + "\"long\":123,"
+            + "\"negative\":-1,"
+            + "\"double\":-123.45e-6,"
+            + "\"null\":null,"
+            + "\"true\":true,"
+            + "\"false\":false,"
+            + "\"encoding\":\"Chloë € 😀\","
+            + "\"escapes\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\u2028\","
+            + "\"array\":[\"string\",123,123.45,null,true,false,[],{}],"
+            + "\"object\":{\"Items\":[{\"id\":{\"S\":\"a\"}},{\"id\":{\"N\":\"1\"}}]}"
+            + "}";
+
+    @Test
+    public void testSameTokensAsGson() throws IOException {
+        assertSameTokens(JSON_STRING);
+        assertSameTokens(" \n\t{ \"a\" : [ 1 , \"b\" ] , \"c\" : { } }\r\n");
+        assertSameTokens("[]");
+    }
+
+    @Test
+    public void testStringsAcrossBuffers() throws IOException {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("\"ascii ").append(i).append("\",");
+            sb.append("\"é€😀\\n").append(i).append("\",");
+        }
+        final StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            large.append((char) ('a' + i % 26));
+        }
+        sb.append('"').append(large).append("\"]");
+        assertSameTokens(sb.toString());
+    }
+
+    @Test
+    public void testSupplementaryCharacters() throws IOException {
+        final String text = new String(Character.toChars(Character.MIN_SUPPLEMENTARY_CODE_POINT))
+                + new String(Character.toChars(0x1F600))
+                + new String(Character.toChars(Character.MAX_CODE_POINT));
+        final AwsJsonReader reader = reader("[\"" + text + "\"]");
+        reader.beginArray();
+        assertEquals(text, reader.nextString());
+        reader.endArray();
+        reader.close();
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        final AwsJsonReader reader = reader(JSON_STRING);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (name.equals("long")) {
+                assertEquals("123", reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        assertNull(reader.peek());
+        reader.close();
+    }
+
+    @Test
+    public void testEmptyDocument() throws IOException {
+        final AwsJsonReader reader = reader("");
+        assertNull(reader.peek());
+        reader.close();
+    }
+
+    @Test
+    public void testMalformedDocuments() throws IOException {
+        final String[] documents = {
+                "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "{a:1}", "[tru]", "[01]", "[1.]", "{}{}",
+                "\"top\"", "[\"unterminated"
+        };
+        for (final String document : documents) {
+            final AwsJsonReader reader = reader(document);
+            try {
+                readAll(reader, new StringBuilder());
+                fail("Expected " + document + " to be rejected");
+            } catch (final IOException e) {
+                // expected
+            }
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testUnexpectedToken() throws IOException {
+        final AwsJsonReader reader = reader("{\"a\":1}");
+        try {
+            reader.beginArray();
+            fail("Expected an exception");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        reader.close();
+    }
+
+    @Test
+    public void testObtainReusesClosedReader() throws IOException {
+        final Utf8JsonReader first = Utf8JsonReader.obtain(stream("[1]"));
+        first.beginArray();
+        assertEquals("1", first.nextString());
+        first.close();
+
+        final Utf8JsonReader second = Utf8JsonReader.obtain(stream("{\"a\":\"b\"}"));
+        assertSame(first, second);
+        assertNotSame(second, Utf8JsonReader.obtain(stream("[]")));
+        second.beginObject();
+        assertTrue(second.hasNext());
+        assertEquals("a", second.nextName());
+        assertEquals("b", second.nextString());
+        assertFalse(second.hasNext());
+        second.endObject();
+        second.close();
+    }
+
+    @Test
+    public void testGetJsonReaderOfStream() throws IOException {
+        final AwsJsonReader utf8Reader = JsonUtils.getJsonReader(stream("{}"));
+        assertTrue(utf8Reader instanceof Utf8JsonReader);
+        utf8Reader.close();
+        JsonUtils.setJsonEngine(JsonUtils.JsonEngine.Jackson);
+        try {
+            final AwsJsonReader reader = JsonUtils.getJsonReader(stream(JSON_STRING));
+            assertFalse(reader instanceof Utf8JsonReader);
+            final StringBuilder sb = new StringBuilder();
+            readAll(reader, sb);
+            reader.close();
+            assertEquals(gsonTokens(JSON_STRING), sb.toString());
+        } finally {
+            JsonUtils.setJsonEngine(JsonUtils.JsonEngine.Gson);
+        }
+    }
+
+    private static void assertSameTokens(String json) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final AwsJsonReader reader = reader(json);
+        readAll(reader, sb);
+        reader.close();
+        assertEquals(gsonTokens(json), sb.toString());
+    }
+
+    private static String gsonTokens(String json) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final AwsJsonReader reader = new GsonFactory().getJsonReader(new StringReader(json));
+        readAll(reader, sb);
+        reader.close();
+        return sb.toString();
+    }
+
+    private static void readAll(AwsJsonReader reader, StringBuilder sb) throws IOException {
+        readValue(reader, sb);
+        sb.append(reader.peek());
+    }
+
+    private static void readValue(AwsJsonReader reader, StringBuilder sb) throws IOException {
+        final AwsJsonToken token = reader.peek();
+        sb.append(token).append(' ');
+        if (token == AwsJsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                readValue(reader, sb);
+            }
+            reader.endArray();
+        } else if (token == AwsJsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                sb.append(reader.nextName()).append(':');
+                readValue(reader, sb);
+            }
+            reader.endObject();
+        } else {
+            sb.append(reader.nextString()).append(' ');
+        }
+    }
+
+    private static AwsJsonReader reader(String json) {
+        return new Utf8JsonReader(stream(json));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StringUtils.UTF8));
+    }
+}
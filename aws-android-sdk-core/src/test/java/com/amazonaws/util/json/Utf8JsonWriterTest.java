@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.util.IOUtils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+public class Utf8JsonWriterTest {
+
+    private static final String[] STRINGS = {
+            "", "string", "Chloë", "中文", "emoji 😀", "quote \" backslash \\",
+            "controls \t\b\n\r\f\u0000\u001f\u007f", "separators \u2028\u2029",
+            "unpaired \uD83D and \uDE00", "html <a href='x'>&amp;</a> =", "\uffff\u0800\u07ff"
+    };
+
+    @Test
+    public void testMatchesGsonWriter() throws IOException {
+        final StringWriter stringWriter = new StringWriter();
+        final AwsJsonWriter gsonWriter = new GsonFactory().getJsonWriter(stringWriter);
+        final Utf8JsonWriter utf8Writer = new Utf8JsonWriter(1);
+        writeDocument(gsonWriter);
+        writeDocument(utf8Writer);
+        gsonWriter.close();
+        utf8Writer.close();
+
+        final byte[] expected = stringWriter.toString().getBytes(UTF8);
+        assertEquals(new String(expected, UTF8), new String(utf8Writer.toByteArray(), UTF8));
+        assertEquals(expected.length, utf8Writer.getContentLength());
+        assertEquals(new String(expected, UTF8), IOUtils.toString(utf8Writer.getContent()));
+    }
+
+    @Test
+    public void testLongStrings() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(STRINGS[i % STRINGS.length]);
+        }
+        final String value = sb.toString();
+        final StringWriter stringWriter = new StringWriter();
+        final AwsJsonWriter gsonWriter = new GsonFactory().getJsonWriter(stringWriter);
+        gsonWriter.beginArray().value(value).endArray().close();
+        final Utf8JsonWriter utf8Writer = new Utf8JsonWriter();
+        utf8Writer.beginArray().value(value).endArray().close();
+        assertEquals(new String(stringWriter.toString().getBytes(UTF8), UTF8),
+                new String(utf8Writer.toByteArray(), UTF8));
+    }
+
+    @Test
+    public void testInvalidDocuments() throws IOException {
+        try {
+            new Utf8JsonWriter().beginObject().close();
+            fail("incomplete document is closed");
+        } catch (final IOException e) {
+            // expected
+        }
+        try {
+            new Utf8JsonWriter().beginArray().name("name");
+            fail("name is written in an array");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        try {
+            new Utf8JsonWriter().beginArray().value(Double.NaN);
+            fail("NaN is written");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void writeDocument(AwsJsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("strings").beginArray();
+        for (final String string : STRINGS) {
+            writer.value(string);
+        }
+        writer.endArray();
+        for (final String string : STRINGS) {
+            writer.name(string).value(string);
+        }
+        writer.name("long").value(-1234567890123L);
+        writer.name("double").value(123.45);
+        writer.name("small double").value(1.0E-10);
+        writer.name("number").value(new BigDecimal("1234.5678"));
+        writer.name("integer").value(Integer.valueOf(42));
+        writer.name("null number").value((Number) null);
+        writer.name("null string").value((String) null);
+        writer.name("null").value();
+        writer.name("true").value(true);
+        writer.name("false").value(false);
+        writer.name("date").value(new Date(1234567890123L));
+        writer.name("bytes").value(ByteBuffer.wrap("binary\u0000data".getBytes(UTF8)));
+        writer.name("empty object").beginObject().endObject();
+        writer.name("empty array").beginArray().endArray();
+        writer.name("nested").beginArray().beginObject().name("a").beginArray().value(1L)
+                .beginArray().endArray().endArray().endObject().beginObject().endObject()
+                .endArray();
+        writer.endObject();
+    }
+}
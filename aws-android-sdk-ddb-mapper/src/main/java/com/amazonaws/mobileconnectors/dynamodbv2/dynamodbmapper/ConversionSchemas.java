@@ -99,6 +99,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Pre-defined strategies for mapping between Java types and DynamoDB types.
@@ -203,6 +205,15 @@ public final class ConversionSchemas {
         private final DynamoDBReflector reflector;
         private final S3ClientCache s3cc;
 
+        /*
+         * Marshallers of mapped properties, by getter, and unmarshallers, by
+         * setter, once resolved. They are read without locking.
+         */
+        private final ConcurrentMap<Method, ArgumentMarshaller> marshallerCache =
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
+        private final ConcurrentMap<Method, ArgumentUnmarshaller> unmarshallerCache =
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
+
         public StandardItemConverter(
                 MarshallerSet marshallerSet,
                 UnmarshallerSet unmarshallerSet,
@@ -264,19 +275,24 @@ public final class ConversionSchemas {
                 return null;
             }
 
-            final Class<?> clazz = object.getClass();
+            final DynamoDBMapperTableModel tableModel =
+                    reflector.getTableModel(object.getClass());
+            final List<DynamoDBMapperTableModel.Property> properties =
+                    tableModel.getProperties();
             final Map<String, AttributeValue> result =
-                    new HashMap<String, AttributeValue>();
+                    new HashMap<String, AttributeValue>(properties.size() * 2);
 
-            for (final Method getter : reflector.getRelevantGetters(clazz)) {
+            for (int i = 0; i < properties.size(); i++) {
+                final DynamoDBMapperTableModel.Property property = properties.get(i);
+                final Method getter = property.getGetter();
                 final Object getterResult =
                         ReflectionUtils.safeInvoke(getter, object);
 
                 if (getterResult != null) {
-                    final AttributeValue value = convert(getter, getterResult);
+                    final AttributeValue value =
+                            getMarshaller(getter).marshall(getterResult);
                     if (value != null) {
-                        final String name = reflector.getAttributeName(getter);
-                        result.put(name, value);
+                        result.put(property.getAttributeName(), value);
                     }
                 }
             }
@@ -285,12 +301,18 @@ public final class ConversionSchemas {
         }
 
         private ArgumentMarshaller getMarshaller(Method getter) {
-            ArgumentMarshaller marshaller =
-                    marshallerSet.getMarshaller(getter);
+            ArgumentMarshaller marshaller = marshallerCache.get(getter);
+            if (marshaller != null) {
+                return marshaller;
+            }
+
+            marshaller = marshallerSet.getMarshaller(getter);
 
             marshaller = augment(getter.getGenericReturnType(), marshaller);
 
-            return marshaller;
+            final ArgumentMarshaller existing =
+                    marshallerCache.putIfAbsent(getter, marshaller);
+            return existing == null ? marshaller : existing;
         }
 
         private ArgumentMarshaller getMemberMarshaller(Type type) {
@@ -413,11 +435,13 @@ public final class ConversionSchemas {
                 return result;
             }
 
-            for (final Method m : reflector.getRelevantGetters(clazz)) {
-                final String attributeName = reflector.getAttributeName(m);
-                final AttributeValue av = value.get(attributeName);
+            final List<DynamoDBMapperTableModel.Property> properties =
+                    reflector.getTableModel(clazz).getProperties();
+            for (int i = 0; i < properties.size(); i++) {
+                final DynamoDBMapperTableModel.Property property = properties.get(i);
+                final AttributeValue av = value.get(property.getAttributeName());
                 if (av != null) {
-                    setValue(result, m, av);
+                    setValue(result, property.getGetter(), av);
                 }
             }
 
@@ -441,13 +465,20 @@ public final class ConversionSchemas {
                 Method getter,
                 Method setter) {
 
-            ArgumentUnmarshaller unmarshaller =
-                    unmarshallerSet.getUnmarshaller(getter, setter);
+            ArgumentUnmarshaller unmarshaller = unmarshallerCache.get(setter);
+            if (unmarshaller != null) {
+                return unmarshaller;
+            }
+
+            unmarshaller = unmarshallerSet.getUnmarshaller(getter, setter);
 
             unmarshaller = augment(
                     setter.getGenericParameterTypes()[0], unmarshaller);
 
-            return new NullableUnmarshaller(unmarshaller);
+            unmarshaller = new NullableUnmarshaller(unmarshaller);
+            final ArgumentUnmarshaller existing =
+                    unmarshallerCache.putIfAbsent(setter, unmarshaller);
+            return existing == null ? unmarshaller : existing;
         }
 
         private ArgumentUnmarshaller getMemberUnmarshaller(Type type) {
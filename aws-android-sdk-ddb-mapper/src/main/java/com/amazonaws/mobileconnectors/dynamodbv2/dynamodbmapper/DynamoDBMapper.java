@@ -75,9 +75,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Object mapper for domain-object interaction with DynamoDB.
@@ -182,6 +190,15 @@ public class DynamoDBMapper {
     private final DynamoDBTableSchemaParser schemaParser = new DynamoDBTableSchemaParser();
     private final VersionIncrementor incrementor = new VersionIncrementor();
 
+    /*
+     * Converters of the built-in conversion schemas only depend on this
+     * mapper, so they are kept with the marshallers they resolve. Only
+     * ConversionSchemas.V1, V2_COMPATIBLE and V2 are cached, which bounds the
+     * map whatever schemas the callers build.
+     */
+    private final ConcurrentMap<ConversionSchema, ItemConverter> converterCache =
+            new ConcurrentHashMap<ConversionSchema, ItemConverter>();
+
     private final AttributeTransformer transformer;
 
     /** The max back off time for batch write */
@@ -1708,12 +1725,15 @@ public class DynamoDBMapper {
      *            version checks are performed</b>, as required by the
      *            {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
-     *            considered; if specified, all objects in the two parameter
-     *            lists will be considered to belong to the given table
-     *            override. In particular, this method <b>always acts as if
-     *            SaveBehavior.CLOBBER was specified</b> regardless of the value
-     *            of the config parameter.
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} and
+     *            {@link DynamoDBMapperConfig#getBatchExecutor()} are
+     *            considered; if a table name override is specified, all
+     *            objects in the two parameter lists will be considered to
+     *            belong to the given table override. In particular, this
+     *            method <b>always acts as if SaveBehavior.CLOBBER was
+     *            specified</b> regardless of the value of the config
+     *            parameter.
      * @return A list of failed batches which includes the unprocessed items and
      *         the exceptions causing the failure.
      */
@@ -1783,6 +1803,8 @@ public class DynamoDBMapper {
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
+        final List<Map<String, List<WriteRequest>>> batches =
+                new ArrayList<Map<String, List<WriteRequest>>>();
         while (!requestItems.isEmpty()) {
 
             final HashMap<String, List<WriteRequest>> batch =
@@ -1812,21 +1834,34 @@ public class DynamoDBMapper {
                 }
             }
 
-            final List<FailedBatch> failedBatches = writeOneBatch(batch);
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
+            batches.add(batch);
+        }
 
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    try {
-                        Thread.sleep(THREAD_SLEEP_TWO_SECONDS);
-                    } catch (final InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new AmazonClientException(e.getMessage(), e);
+        final List<Runnable> tasks = new ArrayList<Runnable>(batches.size());
+        for (final Map<String, List<WriteRequest>> batch : batches) {
+            tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    final List<FailedBatch> failedBatches = writeOneBatch(batch);
+                    if (failedBatches != null) {
+                        synchronized (totalFailedBatches) {
+                            totalFailedBatches.addAll(failedBatches);
+                        }
+
+                        // If contains throttling exception, we do a backoff
+                        if (containsThrottlingException(failedBatches)) {
+                            try {
+                                Thread.sleep(THREAD_SLEEP_TWO_SECONDS);
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new AmazonClientException(e.getMessage(), e);
+                            }
+                        }
                     }
                 }
-            }
+            });
         }
+        runBatchTasks(tasks, config);
 
         // Once the entire batch is processed, update assigned keys in memory
         for (final ValueUpdate update : inMemoryUpdates) {
@@ -1978,8 +2013,10 @@ public class DynamoDBMapper {
      *
      * @param itemsToGet Key objects, corresponding to the class to fetch, with
      *            their primary key values set.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
-     *            and {@link DynamoDBMapperConfig#getConsistentReads()} are
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()},
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} and
+     *            {@link DynamoDBMapperConfig#getBatchExecutor()} are
      *            considered.
      * @return A map of the loaded objects. Each key in the map is the name of a
      *         DynamoDB table. Each value in the map is a list of objects that
@@ -1995,7 +2032,9 @@ public class DynamoDBMapper {
             return new HashMap<String, List<Object>>();
         }
 
-        final Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
+        final List<Map<String, KeysAndAttributes>> batches =
+                new ArrayList<Map<String, KeysAndAttributes>>();
         final Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
         final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
         int count = 0;
@@ -2022,17 +2061,41 @@ public class DynamoDBMapper {
             // Reach the maximum number which can be handled in a single
             // batchGet
             if (++count == MAX_BATCH_GET_COUNT) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config,
-                        converter);
-                requestItems.clear();
+                batches.add(requestItems);
+                requestItems = new HashMap<String, KeysAndAttributes>();
                 count = 0;
             }
         }
 
         if (count > 0) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config, converter);
+            batches.add(requestItems);
         }
 
+        final DynamoDBMapperConfig batchConfig = config;
+        final List<Runnable> tasks = new ArrayList<Runnable>(batches.size());
+        for (final Map<String, KeysAndAttributes> batch : batches) {
+            tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    final Map<String, List<Object>> batchResults =
+                            new HashMap<String, List<Object>>();
+                    processBatchGetRequest(classesByTableName, batch, batchResults, batchConfig,
+                            converter);
+                    synchronized (resultSet) {
+                        for (final Entry<String, List<Object>> entry : batchResults.entrySet()) {
+                            final List<Object> objects = resultSet.get(entry.getKey());
+                            if (objects == null) {
+                                resultSet.put(entry.getKey(), entry.getValue());
+                            } else {
+                                objects.addAll(entry.getValue());
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        runBatchTasks(tasks, config);
+
         return resultSet;
     }
 
@@ -2088,6 +2151,79 @@ public class DynamoDBMapper {
         return batchLoad(keys, config);
     }
 
+    /**
+     * Runs the tasks of a batch write or load. With a batch concurrency of 1,
+     * or a single task, they run one after another on the calling thread.
+     * Otherwise up to that many workers run them on the batch executor, and
+     * the first exception thrown by a task is rethrown once the workers are
+     * done.
+     *
+     * @param config never null, its batch settings may be unset
+     */
+    private void runBatchTasks(List<Runnable> tasks, DynamoDBMapperConfig config) {
+        // Configs built with the legacy constructors leave the batch settings
+        // null, fill them in with the defaults.
+        config = new DynamoDBMapperConfig(DynamoDBMapperConfig.DEFAULT, config);
+        final int concurrency = Math.min(config.getBatchConcurrency(), tasks.size());
+        if (concurrency <= 1) {
+            for (final Runnable task : tasks) {
+                task.run();
+            }
+            return;
+        }
+
+        final ExecutorService executor = config.getBatchExecutor() == null
+                ? Executors.newFixedThreadPool(concurrency)
+                : config.getBatchExecutor();
+        final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<Runnable>(tasks);
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                Runnable task;
+                while ((task = pendingTasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (final RuntimeException e) {
+                        // Stop the other workers after their current task.
+                        pendingTasks.clear();
+                        throw e;
+                    }
+                }
+            }
+        };
+
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(worker));
+            }
+            RuntimeException failure = null;
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : new AmazonClientException(e.getCause().getMessage(),
+                                        e.getCause());
+                    }
+                } catch (final InterruptedException e) {
+                    pendingTasks.clear();
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException(e.getMessage(), e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            if (config.getBatchExecutor() == null) {
+                executor.shutdown();
+            }
+        }
+    }
+
     /**
      * @param config never null
      */
@@ -2304,6 +2440,11 @@ public class DynamoDBMapper {
      * <p>
      * You can specify the pagination loading strategy for this parallel scan
      * operation. By default, the list returned is lazily loaded when possible.
+     * <p>
+     * The segments are scanned by the executor of
+     * {@link DynamoDBMapperConfig#getParallelScanExecutor()} when one is set,
+     * and the items are listed in the order given by
+     * {@link DynamoDBMapperConfig#getParallelScanOrder()}.
      *
      * @param <T> The type of the objects being returned.
      * @param clazz The class annotated with DynamoDB annotations describing how
@@ -2327,7 +2468,9 @@ public class DynamoDBMapper {
         // segment number.
         final List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz,
                 scanExpression, totalSegments, config);
-        final ParallelScanTask parallelScanTask = new ParallelScanTask(this, db, parallelScanRequests);
+        final ParallelScanTask parallelScanTask = new ParallelScanTask(db, parallelScanRequests,
+                config.getParallelScanExecutor(),
+                config.getParallelScanOrder() == DynamoDBMapperConfig.ParallelScanOrder.UNORDERED);
 
         return new PaginatedParallelScanList<T>(this, clazz, db, parallelScanTask,
                 config.getPaginationLoadingStrategy(), config);
@@ -3184,11 +3327,28 @@ public class DynamoDBMapper {
     ItemConverter getConverter(DynamoDBMapperConfig config) {
         final ConversionSchema schema = config.getConversionSchema();
 
+        final boolean isStandardSchema = schema == ConversionSchemas.V1
+                || schema == ConversionSchemas.V2_COMPATIBLE
+                || schema == ConversionSchemas.V2;
+        if (isStandardSchema) {
+            final ItemConverter converter = converterCache.get(schema);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
         final ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
                 .with(DynamoDBReflector.class, reflector)
                 .with(S3ClientCache.class, s3cc);
 
-        return schema.getConverter(params);
+        final ItemConverter converter = schema.getConverter(params);
+        if (isStandardSchema) {
+            final ItemConverter existing = converterCache.putIfAbsent(schema, converter);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return converter;
     }
 
     private void pauseExponentially(int retries) {
@@ -3202,6 +3362,9 @@ public class DynamoDBMapper {
                 + random.nextInt(EXPONENTIAL_BACKOFF_RANDOMIZATION_OFFSET);
         delay = (long) (Math.pow(2, retries) * scaleFactor);
         delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        // Spread the retries of concurrent batches over the second half of
+        // the delay, so they don't all come back at once.
+        delay -= (long) (random.nextDouble() * delay / 2);
 
         try {
             Thread.sleep(delay);
@@ -17,6 +17,8 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import com.amazonaws.metrics.RequestMetricCollector;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Immutable configuration object for service call behavior. An instance of this
  * configuration is supplied to every {@link DynamoDBMapper} at construction; if
@@ -52,6 +54,12 @@ public class DynamoDBMapperConfig {
         private PaginationLoadingStrategy paginationLoadingStrategy;
         private RequestMetricCollector requestMetricCollector;
         private ConversionSchema conversionSchema;
+        private ExecutorService parallelScanExecutor;
+        private ParallelScanOrder parallelScanOrder;
+        private Integer prefetchPageCount;
+        private Integer prefetchMaxItems;
+        private Integer batchConcurrency;
+        private ExecutorService batchExecutor;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -65,6 +73,12 @@ public class DynamoDBMapperConfig {
             paginationLoadingStrategy = DEFAULT.getPaginationLoadingStrategy();
             requestMetricCollector = DEFAULT.getRequestMetricCollector();
             conversionSchema = DEFAULT.getConversionSchema();
+            parallelScanExecutor = DEFAULT.getParallelScanExecutor();
+            parallelScanOrder = DEFAULT.getParallelScanOrder();
+            prefetchPageCount = DEFAULT.getPrefetchPageCount();
+            prefetchMaxItems = DEFAULT.getPrefetchMaxItems();
+            batchConcurrency = DEFAULT.getBatchConcurrency();
+            batchExecutor = DEFAULT.getBatchExecutor();
         }
 
         /**
@@ -255,6 +269,172 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the currently-configured parallel scan executor
+         */
+        public ExecutorService getParallelScanExecutor() {
+            return parallelScanExecutor;
+        }
+
+        /**
+         * @param value the executor running the scans of the segments of
+         *            parallel scans, or null to use a new thread pool for
+         *            each parallel scan
+         */
+        public void setParallelScanExecutor(ExecutorService value) {
+            parallelScanExecutor = value;
+        }
+
+        /**
+         * @param value the executor running the scans of the segments of
+         *            parallel scans, or null to use a new thread pool for
+         *            each parallel scan
+         * @return this builder
+         */
+        public Builder withParallelScanExecutor(ExecutorService value) {
+            setParallelScanExecutor(value);
+            return this;
+        }
+
+        /**
+         * @return the currently-configured parallel scan order
+         */
+        public ParallelScanOrder getParallelScanOrder() {
+            return parallelScanOrder;
+        }
+
+        /**
+         * @param value the new parallel scan order
+         */
+        public void setParallelScanOrder(ParallelScanOrder value) {
+            parallelScanOrder = value;
+        }
+
+        /**
+         * @param value the new parallel scan order
+         * @return this builder
+         */
+        public Builder withParallelScanOrder(ParallelScanOrder value) {
+            setParallelScanOrder(value);
+            return this;
+        }
+
+        /**
+         * @return the currently-configured number of pages fetched ahead in
+         *         PREFETCH mode
+         */
+        public Integer getPrefetchPageCount() {
+            return prefetchPageCount;
+        }
+
+        /**
+         * @param value the maximum number of pages fetched ahead of the
+         *            iteration in PREFETCH mode, at least 1
+         */
+        public void setPrefetchPageCount(Integer value) {
+            checkPositive(value, "prefetchPageCount");
+            prefetchPageCount = value;
+        }
+
+        /**
+         * @param value the maximum number of pages fetched ahead of the
+         *            iteration in PREFETCH mode, at least 1
+         * @return this builder
+         */
+        public Builder withPrefetchPageCount(Integer value) {
+            setPrefetchPageCount(value);
+            return this;
+        }
+
+        /**
+         * @return the currently-configured maximum number of items fetched
+         *         ahead in PREFETCH mode
+         */
+        public Integer getPrefetchMaxItems() {
+            return prefetchMaxItems;
+        }
+
+        /**
+         * @param value the number of items fetched ahead of the iteration
+         *            above which no more pages are fetched in PREFETCH mode,
+         *            at least 1
+         */
+        public void setPrefetchMaxItems(Integer value) {
+            checkPositive(value, "prefetchMaxItems");
+            prefetchMaxItems = value;
+        }
+
+        /**
+         * @param value the number of items fetched ahead of the iteration
+         *            above which no more pages are fetched in PREFETCH mode,
+         *            at least 1
+         * @return this builder
+         */
+        public Builder withPrefetchMaxItems(Integer value) {
+            setPrefetchMaxItems(value);
+            return this;
+        }
+
+        /**
+         * @return the currently-configured number of batch requests sent
+         *         concurrently
+         */
+        public Integer getBatchConcurrency() {
+            return batchConcurrency;
+        }
+
+        /**
+         * @param value the maximum number of batch requests sent
+         *            concurrently by a batch write or load, at least 1
+         */
+        public void setBatchConcurrency(Integer value) {
+            checkPositive(value, "batchConcurrency");
+            batchConcurrency = value;
+        }
+
+        /**
+         * @param value the maximum number of batch requests sent
+         *            concurrently by a batch write or load, at least 1
+         * @return this builder
+         */
+        public Builder withBatchConcurrency(Integer value) {
+            setBatchConcurrency(value);
+            return this;
+        }
+
+        /**
+         * @return the currently-configured batch executor
+         */
+        public ExecutorService getBatchExecutor() {
+            return batchExecutor;
+        }
+
+        /**
+         * @param value the executor sending the concurrent batch requests,
+         *            or null to use a new thread pool for each batch write or
+         *            load
+         */
+        public void setBatchExecutor(ExecutorService value) {
+            batchExecutor = value;
+        }
+
+        /**
+         * @param value the executor sending the concurrent batch requests,
+         *            or null to use a new thread pool for each batch write or
+         *            load
+         * @return this builder
+         */
+        public Builder withBatchExecutor(ExecutorService value) {
+            setBatchExecutor(value);
+            return this;
+        }
+
+        private static void checkPositive(Integer value, String name) {
+            if (value != null && value.intValue() < 1) {
+                throw new IllegalArgumentException(name + " must be at least 1");
+            }
+        }
+
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
          *
@@ -269,7 +449,13 @@ public class DynamoDBMapperConfig {
                     objectTableNameResolver,
                     paginationLoadingStrategy,
                     requestMetricCollector,
-                    conversionSchema);
+                    conversionSchema,
+                    parallelScanExecutor,
+                    parallelScanOrder,
+                    prefetchPageCount,
+                    prefetchMaxItems,
+                    batchConcurrency,
+                    batchExecutor);
         }
     }
 
@@ -366,7 +552,43 @@ public class DynamoDBMapperConfig {
          * Paginated list will eagerly load all the paginated results from
          * DynamoDB as soon as the list is initialized.
          */
-        EAGER_LOADING
+        EAGER_LOADING,
+
+        /**
+         * Like ITERATION_ONLY, but the next pages are fetched in the
+         * background while the current one is iterated, so the iteration
+         * doesn't wait for a round trip at each page boundary. At most
+         * {@link DynamoDBMapperConfig#getPrefetchPageCount()} pages are
+         * fetched ahead, and no more pages are fetched once
+         * {@link DynamoDBMapperConfig#getPrefetchMaxItems()} items are waiting
+         * to be iterated.
+         * <p>
+         * Use this configuration to stream large result sets.
+         */
+        PREFETCH
+    }
+
+    /**
+     * Enumeration of the orders in which a parallel scan returns the pages of
+     * its segments.
+     */
+    public static enum ParallelScanOrder {
+        /**
+         * All the segments are scanned one page at a time, and their pages
+         * are returned in segment order once every segment has returned its
+         * page.
+         * <p>
+         * By default, the mapper uses SEGMENT_ORDER.
+         */
+        SEGMENT_ORDER,
+
+        /**
+         * Each segment is scanned on its own, a bounded number of pages ahead
+         * of the results read from the list, and each page is returned as
+         * soon as it is scanned, whatever its segment. A slow segment then
+         * doesn't hold back the results of the others.
+         */
+        UNORDERED
     }
 
     /**
@@ -528,6 +750,12 @@ public class DynamoDBMapperConfig {
     private final PaginationLoadingStrategy paginationLoadingStrategy;
     private final RequestMetricCollector requestMetricCollector;
     private final ConversionSchema conversionSchema;
+    private final ExecutorService parallelScanExecutor;
+    private final ParallelScanOrder parallelScanOrder;
+    private final Integer prefetchPageCount;
+    private final Integer prefetchMaxItems;
+    private final Integer batchConcurrency;
+    private final ExecutorService batchExecutor;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -611,6 +839,38 @@ public class DynamoDBMapperConfig {
             RequestMetricCollector requestMetricCollector,
             ConversionSchema conversionSchema) {
 
+        this(saveBehavior,
+                consistentReads,
+                tableNameOverride,
+                tableNameResolver,
+                objectTableNameResolver,
+                paginationLoadingStrategy,
+                requestMetricCollector,
+                conversionSchema,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    private DynamoDBMapperConfig(
+            SaveBehavior saveBehavior,
+            ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride,
+            TableNameResolver tableNameResolver,
+            ObjectTableNameResolver objectTableNameResolver,
+            PaginationLoadingStrategy paginationLoadingStrategy,
+            RequestMetricCollector requestMetricCollector,
+            ConversionSchema conversionSchema,
+            ExecutorService parallelScanExecutor,
+            ParallelScanOrder parallelScanOrder,
+            Integer prefetchPageCount,
+            Integer prefetchMaxItems,
+            Integer batchConcurrency,
+            ExecutorService batchExecutor) {
+
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
         this.tableNameOverride = tableNameOverride;
@@ -619,6 +879,12 @@ public class DynamoDBMapperConfig {
         this.paginationLoadingStrategy = paginationLoadingStrategy;
         this.requestMetricCollector = requestMetricCollector;
         this.conversionSchema = conversionSchema;
+        this.parallelScanExecutor = parallelScanExecutor;
+        this.parallelScanOrder = parallelScanOrder;
+        this.prefetchPageCount = prefetchPageCount;
+        this.prefetchMaxItems = prefetchMaxItems;
+        this.batchConcurrency = batchConcurrency;
+        this.batchExecutor = batchExecutor;
     }
 
     /**
@@ -736,6 +1002,12 @@ public class DynamoDBMapperConfig {
                     defaults.getPaginationLoadingStrategy();
             this.requestMetricCollector = defaults.getRequestMetricCollector();
             this.conversionSchema = defaults.getConversionSchema();
+            this.parallelScanExecutor = defaults.getParallelScanExecutor();
+            this.parallelScanOrder = defaults.getParallelScanOrder();
+            this.prefetchPageCount = defaults.getPrefetchPageCount();
+            this.prefetchMaxItems = defaults.getPrefetchMaxItems();
+            this.batchConcurrency = defaults.getBatchConcurrency();
+            this.batchExecutor = defaults.getBatchExecutor();
 
         } else {
 
@@ -773,6 +1045,30 @@ public class DynamoDBMapperConfig {
                     ? defaults.getConversionSchema()
                     : overrides.getConversionSchema();
 
+            this.parallelScanExecutor = (overrides.getParallelScanExecutor() == null)
+                    ? defaults.getParallelScanExecutor()
+                    : overrides.getParallelScanExecutor();
+
+            this.parallelScanOrder = (overrides.getParallelScanOrder() == null)
+                    ? defaults.getParallelScanOrder()
+                    : overrides.getParallelScanOrder();
+
+            this.prefetchPageCount = (overrides.getPrefetchPageCount() == null)
+                    ? defaults.getPrefetchPageCount()
+                    : overrides.getPrefetchPageCount();
+
+            this.prefetchMaxItems = (overrides.getPrefetchMaxItems() == null)
+                    ? defaults.getPrefetchMaxItems()
+                    : overrides.getPrefetchMaxItems();
+
+            this.batchConcurrency = (overrides.getBatchConcurrency() == null)
+                    ? defaults.getBatchConcurrency()
+                    : overrides.getBatchConcurrency();
+
+            this.batchExecutor = (overrides.getBatchExecutor() == null)
+                    ? defaults.getBatchExecutor()
+                    : overrides.getBatchExecutor();
+
         }
     }
 
@@ -860,6 +1156,73 @@ public class DynamoDBMapperConfig {
         return conversionSchema;
     }
 
+    /**
+     * Returns the executor running the scans of the segments of parallel
+     * scans, or null if each parallel scan uses a new thread pool. The
+     * executor is not shut down by the mapper, so it can be shared, and
+     * bounded to limit the number of concurrent scan requests.
+     *
+     * @return the parallel scan {@link ExecutorService}
+     */
+    public ExecutorService getParallelScanExecutor() {
+        return parallelScanExecutor;
+    }
+
+    /**
+     * Returns the order in which parallel scans return the pages of their
+     * segments.
+     *
+     * @return the {@link ParallelScanOrder}
+     */
+    public ParallelScanOrder getParallelScanOrder() {
+        return parallelScanOrder;
+    }
+
+    /**
+     * Returns the maximum number of pages fetched ahead of the iteration of
+     * a list in {@link PaginationLoadingStrategy#PREFETCH} mode.
+     *
+     * @return the prefetch page count
+     */
+    public Integer getPrefetchPageCount() {
+        return prefetchPageCount;
+    }
+
+    /**
+     * Returns the number of items fetched ahead of the iteration of a list in
+     * {@link PaginationLoadingStrategy#PREFETCH} mode above which no more
+     * pages are fetched. The page that crosses it is kept whole, so this caps
+     * the memory used by the list to about this many items plus a page.
+     *
+     * @return the prefetch item cap
+     */
+    public Integer getPrefetchMaxItems() {
+        return prefetchMaxItems;
+    }
+
+    /**
+     * Returns the maximum number of requests a batch write or batch load
+     * sends concurrently. With 1, the batches are sent one after another
+     * from the calling thread.
+     *
+     * @return the batch concurrency
+     */
+    public Integer getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    /**
+     * Returns the executor sending the requests of batch writes and batch
+     * loads when the batch concurrency is above 1, or null if each batch
+     * write or load uses a new thread pool. The executor is not shut down by
+     * the mapper, so it can be shared.
+     *
+     * @return the batch {@link ExecutorService}
+     */
+    public ExecutorService getBatchExecutor() {
+        return batchExecutor;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -872,5 +1235,11 @@ public class DynamoDBMapperConfig {
             null, // ObjectTableNameResolver
             PaginationLoadingStrategy.LAZY_LOADING,
             null, // RequestMetricCollector
-            ConversionSchemas.DEFAULT);
+            ConversionSchemas.DEFAULT,
+            null, // ParallelScanExecutor
+            ParallelScanOrder.SEGMENT_ORDER,
+            1, // PrefetchPageCount
+            Integer.MAX_VALUE, // PrefetchMaxItems
+            1, // BatchConcurrency
+            null); // BatchExecutor
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2011-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The mapped properties of a class, in the order of
+ * {@link DynamoDBReflector#getRelevantGetters(Class)}. It is built once per
+ * class by {@link DynamoDBReflector#getTableModel(Class)} and never changes,
+ * so it can be read from any thread without locking.
+ */
+final class DynamoDBMapperTableModel {
+
+    private final Class<?> clazz;
+    private final List<Property> properties;
+    private final List<Method> getters;
+    private final List<Method> keyGetters;
+    private final Method hashKeyGetter;
+    private final Method rangeKeyGetter;
+
+    DynamoDBMapperTableModel(Class<?> clazz, List<Property> properties) {
+        this.clazz = clazz;
+        this.properties = Collections.unmodifiableList(new ArrayList<Property>(properties));
+
+        final List<Method> allGetters = new ArrayList<Method>(properties.size());
+        final List<Method> allKeyGetters = new ArrayList<Method>(2);
+        Method hashKey = null;
+        Method rangeKey = null;
+        for (final Property property : properties) {
+            final Method getter = property.getGetter();
+            allGetters.add(getter);
+            final boolean isHashKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                    DynamoDBHashKey.class);
+            final boolean isRangeKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                    DynamoDBRangeKey.class);
+            if (isHashKey || isRangeKey) {
+                allKeyGetters.add(getter);
+            }
+            if (isHashKey && hashKey == null) {
+                hashKey = getter;
+            }
+            if (isRangeKey && rangeKey == null) {
+                rangeKey = getter;
+            }
+        }
+        this.getters = Collections.unmodifiableList(allGetters);
+        this.keyGetters = Collections.unmodifiableList(allKeyGetters);
+        this.hashKeyGetter = hashKey;
+        this.rangeKeyGetter = rangeKey;
+    }
+
+    /**
+     * @return the class.
+     */
+    Class<?> getType() {
+        return clazz;
+    }
+
+    /**
+     * @return the mapped properties.
+     */
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return the getters of the mapped properties.
+     */
+    List<Method> getGetters() {
+        return getters;
+    }
+
+    /**
+     * @return the {@link DynamoDBHashKey} and {@link DynamoDBRangeKey}
+     *         getters.
+     */
+    List<Method> getKeyGetters() {
+        return keyGetters;
+    }
+
+    /**
+     * @return the {@link DynamoDBHashKey} getter, or null if there is none.
+     */
+    Method getHashKeyGetter() {
+        return hashKeyGetter;
+    }
+
+    /**
+     * @return the {@link DynamoDBRangeKey} getter, or null if there is none.
+     */
+    Method getRangeKeyGetter() {
+        return rangeKeyGetter;
+    }
+
+    /**
+     * A mapped property.
+     */
+    static final class Property {
+        private final Method getter;
+        private final String attributeName;
+
+        Property(Method getter, String attributeName) {
+            this.getter = getter;
+            this.attributeName = attributeName;
+        }
+
+        /**
+         * @return the getter of the property.
+         */
+        Method getGetter() {
+            return getter;
+        }
+
+        /**
+         * @return the name of the attribute the property is mapped to.
+         */
+        String getAttributeName() {
+            return attributeName;
+        }
+    }
+}
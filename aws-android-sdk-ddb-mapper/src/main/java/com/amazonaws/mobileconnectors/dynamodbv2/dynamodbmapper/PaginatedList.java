@@ -15,6 +15,7 @@
 
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 
@@ -26,6 +27,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unmodifiable list supporting paginated result sets from Amazon DynamoDB.
@@ -41,7 +46,7 @@ public abstract class PaginatedList<T> implements List<T> {
 
     private static final String UNMODIFIABLE_MESSAGE = "This is an unmodifiable list";
 
-    private static final String ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE = " is not supported when using ITERATION_ONLY configuration.";
+    private static final String ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE = " is not supported when using ITERATION_ONLY or PREFETCH configuration.";
 
     /**
      * Reference to the DynamoDB mapper for marshalling DynamoDB attributes back
@@ -80,6 +85,40 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     private boolean iterationStarted = false;
 
+    /** The maximum number of pages fetched ahead in PREFETCH mode. */
+    private final int prefetchPageCount;
+
+    /** The number of items fetched ahead above which PREFETCH mode stops. */
+    private final int prefetchMaxItems;
+
+    /**
+     * Fetches the pages of all the lists in PREFETCH mode, one at a time per
+     * list. Its threads are daemons, so that a list whose iteration is
+     * abandoned doesn't keep the process alive, and idle ones go away.
+     */
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger(0);
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r);
+                    thread.setDaemon(true);
+                    thread.setName("DynamoDBPrefetchThread-" + threadCount.incrementAndGet());
+                    return thread;
+                }
+            });
+
+    /*
+     * State of the PREFETCH mode, guarded by prefetchedPages.
+     */
+    /** Non-empty pages fetched in the background and not iterated yet. */
+    private final LinkedList<List<T>> prefetchedPages = new LinkedList<List<T>>();
+    private int prefetchedItems;
+    private boolean prefetching;
+    private boolean prefetchEnded;
+    private RuntimeException prefetchFailure;
+
     /**
      * Constructs a PaginatedList instance using the default
      * PaginationLoadingStrategy
@@ -107,6 +146,24 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     public PaginatedList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
             PaginationLoadingStrategy paginationLoadingStrategy) {
+        this(mapper, clazz, dynamo, paginationLoadingStrategy, null);
+    }
+
+    /**
+     * Constructs a PaginatedList instance.
+     *
+     * @param mapper The mapper for marshalling DynamoDB attributes into
+     *            objects.
+     * @param clazz The class of the annotated model.
+     * @param dynamo The DynamoDB client for making low-level request calls.
+     * @param paginationLoadingStrategy The strategy used for loading paginated
+     *            results. If null value is provided, LAZY_LOADING will be set
+     *            by default.
+     * @param config The configuration providing the PREFETCH settings, or
+     *            null to use the ones of {@link DynamoDBMapperConfig#DEFAULT}.
+     */
+    protected PaginatedList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+            PaginationLoadingStrategy paginationLoadingStrategy, DynamoDBMapperConfig config) {
         this.mapper = mapper;
         this.clazz = clazz;
         this.dynamo = dynamo;
@@ -115,6 +172,11 @@ public abstract class PaginatedList<T> implements List<T> {
 
         this.allResults = new ArrayList<T>();
 
+        final DynamoDBMapperConfig prefetchConfig = new DynamoDBMapperConfig(
+                DynamoDBMapperConfig.DEFAULT, config);
+        this.prefetchPageCount = prefetchConfig.getPrefetchPageCount();
+        this.prefetchMaxItems = prefetchConfig.getPrefetchMaxItems();
+
         // Ideally, we should eagerly load all results here as soon as
         // EAGER_LOADING is configured.
         // But the implementation of loadAllResults() relies on a fully
@@ -151,9 +213,92 @@ public abstract class PaginatedList<T> implements List<T> {
      * value of true guarantees that nextResults is non-empty.
      */
     private boolean nextResultsAvailable() {
+        if (paginationLoadingStrategy == PaginationLoadingStrategy.PREFETCH) {
+            return !nextResults.isEmpty() || loadPrefetchedResults();
+        }
         return !nextResults.isEmpty() || loadNextResults();
     }
 
+    /**
+     * Moves the next page fetched in the background into the nextResults
+     * buffer, waiting for it if needed, and starts fetching the page after.
+     * Returns whether there were any results to load. This must not hold the
+     * lock on this list, which fetchNextPage() may need.
+     */
+    private boolean loadPrefetchedResults() {
+        synchronized (prefetchedPages) {
+            startPrefetch();
+            while (prefetchedPages.isEmpty() && prefetchFailure == null && prefetching) {
+                try {
+                    prefetchedPages.wait();
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException(
+                            "Interrupted while waiting for the next page of results.", ie);
+                }
+            }
+            if (prefetchFailure != null) {
+                throw prefetchFailure;
+            }
+            if (prefetchedPages.isEmpty()) {
+                return false;
+            }
+            final List<T> page = prefetchedPages.removeFirst();
+            prefetchedItems -= page.size();
+            nextResults.addAll(page);
+            startPrefetch();
+            return true;
+        }
+    }
+
+    /**
+     * Fetches the next page in the background, unless a page is being
+     * fetched, the end of the results is reached, or enough results are
+     * waiting to be iterated. The caller holds the lock on prefetchedPages.
+     */
+    private void startPrefetch() {
+        if (prefetching || prefetchEnded || prefetchFailure != null
+                || prefetchedPages.size() >= prefetchPageCount
+                || prefetchedItems >= prefetchMaxItems) {
+            return;
+        }
+        // No page is being fetched, so the end of the results can be read.
+        if (atEndOfResults()) {
+            prefetchEnded = true;
+            return;
+        }
+        prefetching = true;
+        PREFETCH_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                prefetchNextPage();
+            }
+        });
+    }
+
+    private void prefetchNextPage() {
+        List<T> page = null;
+        RuntimeException failure = null;
+        try {
+            page = fetchNextPage();
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+        synchronized (prefetchedPages) {
+            prefetching = false;
+            if (failure != null) {
+                prefetchFailure = failure;
+            } else {
+                if (!page.isEmpty()) {
+                    prefetchedPages.add(page);
+                    prefetchedItems += page.size();
+                }
+                startPrefetch();
+            }
+            prefetchedPages.notifyAll();
+        }
+    }
+
     /**
      * Attempts to load the next batch of results, if there are any, into the
      * nextResults buffer. Returns whether there were any results to load. A
@@ -203,13 +348,21 @@ public abstract class PaginatedList<T> implements List<T> {
      * <p>
      * If it configured with ITERARTION_ONLY mode, then the iterator could be
      * only retrieved once, and any previously loaded results will be cleared in
-     * the memory during the iteration.
+     * the memory during the iteration. The same applies to PREFETCH mode, where
+     * the next pages start being fetched as soon as the iterator is retrieved.
      * </p>
      */
     @Override
     public Iterator<T> iterator() {
-        return new PaginatedListIterator(
-                paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY);
+        final PaginatedListIterator iterator = new PaginatedListIterator(
+                paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY
+                        || paginationLoadingStrategy == PaginationLoadingStrategy.PREFETCH);
+        if (paginationLoadingStrategy == PaginationLoadingStrategy.PREFETCH) {
+            synchronized (prefetchedPages) {
+                startPrefetch();
+            }
+        }
+        return iterator;
     }
 
     private class PaginatedListIterator implements Iterator<T> {
@@ -237,7 +390,7 @@ public abstract class PaginatedList<T> implements List<T> {
                 synchronized (PaginatedList.this) {
                     if (iterationStarted) {
                         throw new UnsupportedOperationException(
-                                "The list could only be iterated once in ITERATION_ONLY mode.");
+                                "The list could only be iterated once in ITERATION_ONLY or PREFETCH mode.");
                     }
                     iterationStarted = true;
                 }
@@ -516,7 +669,8 @@ public abstract class PaginatedList<T> implements List<T> {
     }
 
     void checkUnsupportedOperationForIterationOnlyMode(String methodSignature) {
-        if (this.paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY) {
+        if (this.paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY
+                || this.paginationLoadingStrategy == PaginationLoadingStrategy.PREFETCH) {
             throw new UnsupportedOperationException(methodSignature
                     + ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE);
         }
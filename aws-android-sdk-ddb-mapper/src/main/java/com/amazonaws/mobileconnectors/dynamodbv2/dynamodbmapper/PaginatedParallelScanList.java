@@ -63,7 +63,7 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
             ParallelScanTask parallelScanTask,
             PaginationLoadingStrategy paginationLoadingStrategy,
             DynamoDBMapperConfig config) {
-        super(mapper, clazz, dynamo, paginationLoadingStrategy);
+        super(mapper, clazz, dynamo, paginationLoadingStrategy, config);
 
         this.parallelScanTask = parallelScanTask;
         this.config = config;
@@ -29,12 +29,19 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * A task thats runs DynamoDB scan operations in parallel.
  */
 public class ParallelScanTask {
 
+    /**
+     * Maximum number of pages of a segment scanned and not yet returned, when
+     * the pages are returned unordered.
+     */
+    static final int MAX_PAGES_AHEAD_PER_SEGMENT = 2;
+
     /**
      * The list of hard copies of ScanRequest with different segment number.
      */
@@ -61,6 +68,27 @@ public class ParallelScanTask {
 
     private final ExecutorService executorService;
 
+    /** Whether the executor was created for this task. */
+    private final boolean ownsExecutorService;
+
+    /**
+     * Whether each segment is scanned on its own and its pages returned as
+     * soon as they are scanned, rather than in batches of one page per
+     * segment.
+     */
+    private final boolean unordered;
+
+    /*
+     * State of the unordered scan, guarded by segmentScanStates.
+     */
+    /** Pages scanned and not returned yet, in the order they were scanned. */
+    private final LinkedList<SegmentPage> scannedPages = new LinkedList<SegmentPage>();
+    /** Number of pages of each segment scanned or being scanned, not returned yet. */
+    private final int[] pagesAhead;
+    private int scanningSegments;
+    private int failedSegment = -1;
+    private Exception failure;
+
     private final AmazonDynamoDB dynamo;
 
     @Deprecated
@@ -71,10 +99,26 @@ public class ParallelScanTask {
     }
 
     ParallelScanTask(AmazonDynamoDB dynamo, List<ScanRequest> parallelScanRequests) {
+        this(dynamo, parallelScanRequests, null, false);
+    }
+
+    /**
+     * @param executorService the executor running the scans, or null to use
+     *            a new thread pool that is shut down once the scan is
+     *            finished.
+     * @param unordered whether each segment is scanned on its own and its
+     *            pages returned as soon as they are scanned.
+     */
+    ParallelScanTask(AmazonDynamoDB dynamo, List<ScanRequest> parallelScanRequests,
+            ExecutorService executorService, boolean unordered) {
         this.dynamo = dynamo;
         this.parallelScanRequests = parallelScanRequests;
         this.totalSegments = parallelScanRequests.size();
-        executorService = Executors.newCachedThreadPool();
+        this.ownsExecutorService = executorService == null;
+        this.executorService = ownsExecutorService ? Executors.newCachedThreadPool()
+                : executorService;
+        this.unordered = unordered;
+        this.pagesAhead = new int[totalSegments];
 
         // Create synchronized views of the list to guarantee any changes are
         // visible across all threads.
@@ -103,8 +147,13 @@ public class ParallelScanTask {
                     return false;
                 }
             }
+            if (!scannedPages.isEmpty() || scanningSegments > 0) {
+                return false;
+            }
             // Shut down if all data have been scanned and loaded.
-            executorService.shutdown();
+            if (ownsExecutorService) {
+                executorService.shutdown();
+            }
             return true;
         }
     }
@@ -115,6 +164,9 @@ public class ParallelScanTask {
      * @return list of {@link ScanResult}
      */
     public List<ScanResult> getNextBatchOfScanResults() {
+        if (unordered) {
+            return getNextScannedPage();
+        }
         /**
          * Kick-off all the parallel scan tasks.
          */
@@ -202,6 +254,96 @@ public class ParallelScanTask {
         }
     }
 
+    /**
+     * Returns the first page scanned by any segment, waiting for one if
+     * needed, and lets its segment scan another page.
+     */
+    private List<ScanResult> getNextScannedPage() {
+        synchronized (segmentScanStates) {
+            for (int segment = 0; segment < totalSegments; segment++) {
+                startScanNextPageOfSegment(segment);
+            }
+            while (scannedPages.isEmpty() && failure == null && scanningSegments > 0) {
+                try {
+                    segmentScanStates.wait();
+                } catch (final InterruptedException ie) {
+                    throw new AmazonClientException("Parallel scan interrupted by other thread.",
+                            ie);
+                }
+            }
+            if (failure != null) {
+                if (failure instanceof AmazonClientException) {
+                    throw (AmazonClientException) failure;
+                }
+                throw new AmazonClientException(
+                        "Internal error during the scan on segment #" + failedSegment + ".",
+                        failure);
+            }
+            final List<ScanResult> scanResults = new LinkedList<ScanResult>();
+            if (!scannedPages.isEmpty()) {
+                final SegmentPage page = scannedPages.removeFirst();
+                pagesAhead[page.segment]--;
+                startScanNextPageOfSegment(page.segment);
+                scanResults.add(page.scanResult);
+            }
+            return scanResults;
+        }
+    }
+
+    /**
+     * Submits the scan of the next page of a segment, unless the segment is
+     * being scanned, is finished, or is too many pages ahead. The caller
+     * holds the lock on segmentScanStates.
+     */
+    private void startScanNextPageOfSegment(final int segment) {
+        final SegmentScanState state = segmentScanStates.get(segment);
+        if (failure != null
+                || (state != SegmentScanState.Waiting && state != SegmentScanState.HasNextPage)
+                || pagesAhead[segment] >= MAX_PAGES_AHEAD_PER_SEGMENT) {
+            return;
+        }
+        segmentScanStates.set(segment, SegmentScanState.Scanning);
+        pagesAhead[segment]++;
+        scanningSegments++;
+        final boolean checkLastEvaluatedKey = state == SegmentScanState.HasNextPage;
+        try {
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ScanResult scanResult = null;
+                    Exception error = null;
+                    try {
+                        scanResult = scanNextPageOfSegment(segment, checkLastEvaluatedKey);
+                    } catch (final Exception e) {
+                        error = e;
+                    }
+                    synchronized (segmentScanStates) {
+                        scanningSegments--;
+                        if (error == null) {
+                            scannedPages.add(new SegmentPage(segment, scanResult));
+                            startScanNextPageOfSegment(segment);
+                        } else {
+                            onSegmentScanFailed(segment, error);
+                        }
+                        segmentScanStates.notifyAll();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            scanningSegments--;
+            onSegmentScanFailed(segment, e);
+            segmentScanStates.notifyAll();
+        }
+    }
+
+    private void onSegmentScanFailed(int segment, Exception error) {
+        segmentScanStates.set(segment, SegmentScanState.Failed);
+        if (failure == null) {
+            failure = error;
+            failedSegment = segment;
+        }
+    }
+
     private List<ScanResult> marshalParallelScanResults() {
         final List<ScanResult> scanResults = new LinkedList<ScanResult>();
         for (int segment = 0; segment < totalSegments; segment++) {
@@ -281,6 +423,19 @@ public class ParallelScanTask {
         }
     }
 
+    /**
+     * A page scanned by a segment.
+     */
+    private static final class SegmentPage {
+        private final int segment;
+        private final ScanResult scanResult;
+
+        SegmentPage(int segment, ScanResult scanResult) {
+            this.segment = segment;
+            this.scanResult = scanResult;
+        }
+    }
+
     /**
      * Enumeration of the possible states of the scan on a segment.
      */
@@ -17,6 +17,7 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 import com.amazonaws.Request;
@@ -25,12 +26,16 @@ import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ConsistentReads;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ObjectTableNameResolver;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ParallelScanOrder;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.TableNameOverride;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.TableNameResolver;
 
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 public class DynamoDBMapperConfigTest {
 
     @Test
@@ -171,12 +176,20 @@ public class DynamoDBMapperConfigTest {
         b.setTableNameResolver(tnr);
         assertSame(b.getTableNameResolver(), tnr);
 
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        b.setParallelScanExecutor(executor);
+        assertSame(b.getParallelScanExecutor(), executor);
+
+        b.setParallelScanOrder(ParallelScanOrder.UNORDERED);
+        assertEquals(b.getParallelScanOrder(), ParallelScanOrder.UNORDERED);
+
         DynamoDBMapperConfig conf = b.build();
         DynamoDBMapperConfig nullConfig = new DynamoDBMapperConfig.Builder()
                 .withConsistentReads(null)
                 .withConversionSchema(null).withObjectTableNameResolver(null)
                 .withPaginationLoadingStrategy(null).withRequestMetricCollector(null)
                 .withSaveBehavior(null).withTableNameOverride(null).withTableNameResolver(null)
+                .withParallelScanExecutor(null).withParallelScanOrder(null)
                 .build();
 
         DynamoDBMapperConfig copy = new DynamoDBMapperConfig(nullConfig, conf);
@@ -188,6 +201,35 @@ public class DynamoDBMapperConfigTest {
         assertEquals(copy.getSaveBehavior(), conf.getSaveBehavior());
         assertEquals(copy.getTableNameOverride(), conf.getTableNameOverride());
         assertEquals(copy.getTableNameResolver(), conf.getTableNameResolver());
+        assertSame(copy.getParallelScanExecutor(), executor);
+        assertEquals(copy.getParallelScanOrder(), ParallelScanOrder.UNORDERED);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testParallelScanDefaults() {
+        assertNull(DynamoDBMapperConfig.DEFAULT.getParallelScanExecutor());
+        assertEquals(DynamoDBMapperConfig.DEFAULT.getParallelScanOrder(),
+                ParallelScanOrder.SEGMENT_ORDER);
+    }
+
+    @Test
+    public void testPrefetchSettings() {
+        assertEquals(DynamoDBMapperConfig.DEFAULT.getPrefetchPageCount(), Integer.valueOf(1));
+        assertEquals(DynamoDBMapperConfig.DEFAULT.getPrefetchMaxItems(),
+                Integer.valueOf(Integer.MAX_VALUE));
+
+        DynamoDBMapperConfig overrides = new DynamoDBMapperConfig.Builder()
+                .withPrefetchPageCount(3).withPrefetchMaxItems(null).build();
+        DynamoDBMapperConfig conf = new DynamoDBMapperConfig(DynamoDBMapperConfig.DEFAULT,
+                overrides);
+        assertEquals(conf.getPrefetchPageCount(), Integer.valueOf(3));
+        assertEquals(conf.getPrefetchMaxItems(), Integer.valueOf(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrefetchPageCountMustBePositive() {
+        new DynamoDBMapperConfig.Builder().withPrefetchPageCount(0);
     }
 
     private static class TestObjectTableNameResolver implements ObjectTableNameResolver {
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -40,19 +41,26 @@ import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
 import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import com.amazonaws.util.StringUtils;
 
 import org.easymock.Capture;
 import org.easymock.CaptureType;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DynamoDBMapperTest {
 
@@ -662,4 +670,220 @@ public class DynamoDBMapperTest {
         }
     }
 
+    @Test
+    public void testConcurrentBatchWrite() {
+        DynamoDBMapperConfig batchConfig = new DynamoDBMapperConfig.Builder()
+                .withBatchConcurrency(3).build();
+        List<StringAttributeClass> objectsToWrite = new ArrayList<StringAttributeClass>();
+        for (int i = 0; i < 2 * DynamoDBMapper.MAX_ITEMS_PER_BATCH + 1; i++) {
+            StringAttributeClass object = new StringAttributeClass();
+            object.setKey("key" + i);
+            objectsToWrite.add(object);
+        }
+
+        final Set<String> writtenKeys = Collections.synchronizedSet(new HashSet<String>());
+        EasyMock.expect(mockClient.batchWriteItem(anyObject(BatchWriteItemRequest.class)))
+                .andAnswer(new IAnswer<BatchWriteItemResult>() {
+                    @Override
+                    public BatchWriteItemResult answer() {
+                        BatchWriteItemRequest request = (BatchWriteItemRequest) EasyMock
+                                .getCurrentArguments()[0];
+                        for (WriteRequest writeRequest : request.getRequestItems()
+                                .get("aws-java-sdk-util")) {
+                            writtenKeys.add(writeRequest.getPutRequest().getItem().get("key")
+                                    .getS());
+                        }
+                        return new BatchWriteItemResult().withUnprocessedItems(
+                                new HashMap<String, List<WriteRequest>>());
+                    }
+                }).times(3);
+        EasyMock.replay(mockClient);
+
+        List<FailedBatch> failedBatches = mapper.batchWrite(objectsToWrite,
+                Collections.emptyList(), batchConfig);
+
+        EasyMock.verify(mockClient);
+        assertTrue(failedBatches.isEmpty());
+        assertEquals(objectsToWrite.size(), writtenKeys.size());
+    }
+
+    @Test
+    public void testBatchWriteWithLegacyConfig() {
+        mapper = new DynamoDBMapper(mockClient, new DynamoDBMapperConfig(
+                DynamoDBMapperConfig.SaveBehavior.CLOBBER));
+        List<StringAttributeClass> objectsToWrite = new ArrayList<StringAttributeClass>();
+        for (int i = 0; i < DynamoDBMapper.MAX_ITEMS_PER_BATCH + 1; i++) {
+            StringAttributeClass object = new StringAttributeClass();
+            object.setKey("key" + i);
+            objectsToWrite.add(object);
+        }
+
+        EasyMock.expect(mockClient.batchWriteItem(anyObject(BatchWriteItemRequest.class)))
+                .andReturn(new BatchWriteItemResult().withUnprocessedItems(
+                        new HashMap<String, List<WriteRequest>>()))
+                .times(2);
+        EasyMock.replay(mockClient);
+
+        List<FailedBatch> failedBatches = mapper.batchSave(objectsToWrite);
+
+        EasyMock.verify(mockClient);
+        assertTrue(failedBatches.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentBatchLoad() {
+        DynamoDBMapperConfig batchConfig = new DynamoDBMapperConfig.Builder()
+                .withBatchConcurrency(2).build();
+        List<Object> itemsToGet = new ArrayList<Object>();
+        for (int i = 0; i < 150; i++) {
+            StringAttributeClass key = new StringAttributeClass();
+            key.setKey("key" + i);
+            itemsToGet.add(key);
+        }
+
+        EasyMock.expect(mockClient.batchGetItem(anyObject(BatchGetItemRequest.class)))
+                .andAnswer(new IAnswer<BatchGetItemResult>() {
+                    @Override
+                    public BatchGetItemResult answer() {
+                        BatchGetItemRequest request = (BatchGetItemRequest) EasyMock
+                                .getCurrentArguments()[0];
+                        Map<String, List<Map<String, AttributeValue>>> responses =
+                                new HashMap<String, List<Map<String, AttributeValue>>>();
+                        responses.put("aws-java-sdk-util", request.getRequestItems()
+                                .get("aws-java-sdk-util").getKeys());
+                        return new BatchGetItemResult().withResponses(responses);
+                    }
+                }).times(2);
+        EasyMock.replay(mockClient);
+
+        Map<String, List<Object>> loadResults = mapper.batchLoad(itemsToGet, batchConfig);
+
+        EasyMock.verify(mockClient);
+        assertEquals(1, loadResults.size());
+        Set<String> loadedKeys = new HashSet<String>();
+        for (Object loaded : loadResults.get("aws-java-sdk-util")) {
+            loadedKeys.add(((StringAttributeClass) loaded).getKey());
+        }
+        assertEquals(150, loadedKeys.size());
+    }
+
+    @Test
+    public void testPrefetchScanList() {
+        DynamoDBMapperConfig prefetchConfig = new DynamoDBMapperConfig.Builder()
+                .withPaginationLoadingStrategy(PaginationLoadingStrategy.PREFETCH)
+                .withPrefetchPageCount(2)
+                .build();
+        ScanRequest scanRequest = new ScanRequest().withTableName("aws-java-sdk-util");
+
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class)))
+                .andReturn(scanPage("2", true))
+                .andReturn(new ScanResult().withItems(new ArrayList<Map<String, AttributeValue>>())
+                        .withLastEvaluatedKey(lastEvaluatedKey()))
+                .andReturn(scanPage("3", false));
+        EasyMock.replay(mockClient);
+
+        PaginatedScanList<StringAttributeClass> list = new PaginatedScanList<StringAttributeClass>(
+                mapper, StringAttributeClass.class, mockClient, scanRequest, scanPage("1", true),
+                PaginationLoadingStrategy.PREFETCH, prefetchConfig);
+
+        List<String> keys = new ArrayList<String>();
+        for (StringAttributeClass item : list) {
+            keys.add(item.getKey());
+        }
+
+        EasyMock.verify(mockClient);
+        assertEquals(3, keys.size());
+        assertEquals("1", keys.get(0));
+        assertEquals("2", keys.get(1));
+        assertEquals("3", keys.get(2));
+        try {
+            list.size();
+            fail("Expected size() to be unsupported in PREFETCH mode");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testPrefetchScanListRethrowsFailure() {
+        ScanRequest scanRequest = new ScanRequest().withTableName("aws-java-sdk-util");
+        AmazonServiceException failure = new AmazonServiceException("Throttled");
+
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class))).andThrow(failure);
+        EasyMock.replay(mockClient);
+
+        PaginatedScanList<StringAttributeClass> list = new PaginatedScanList<StringAttributeClass>(
+                mapper, StringAttributeClass.class, mockClient, scanRequest, scanPage("1", true),
+                PaginationLoadingStrategy.PREFETCH, DynamoDBMapperConfig.DEFAULT);
+
+        Iterator<StringAttributeClass> iterator = list.iterator();
+        assertEquals("1", iterator.next().getKey());
+        try {
+            iterator.hasNext();
+            fail("Expected the scan failure to be thrown");
+        } catch (AmazonServiceException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testAbandonedPrefetchScanListStopsFetching() throws InterruptedException {
+        DynamoDBMapperConfig prefetchConfig = new DynamoDBMapperConfig.Builder()
+                .withPaginationLoadingStrategy(PaginationLoadingStrategy.PREFETCH)
+                .withPrefetchPageCount(2)
+                .build();
+        ScanRequest scanRequest = new ScanRequest().withTableName("aws-java-sdk-util");
+        final AtomicInteger scans = new AtomicInteger();
+        final List<Thread> scanThreads = Collections.synchronizedList(new ArrayList<Thread>());
+
+        // the scan never ends
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class)))
+                .andAnswer(new IAnswer<ScanResult>() {
+                    @Override
+                    public ScanResult answer() {
+                        scanThreads.add(Thread.currentThread());
+                        return scanPage(String.valueOf(scans.incrementAndGet() + 1), true);
+                    }
+                }).anyTimes();
+        EasyMock.replay(mockClient);
+
+        PaginatedScanList<StringAttributeClass> list = new PaginatedScanList<StringAttributeClass>(
+                mapper, StringAttributeClass.class, mockClient, scanRequest, scanPage("1", true),
+                PaginationLoadingStrategy.PREFETCH, prefetchConfig);
+
+        List<String> keys = new ArrayList<String>();
+        for (StringAttributeClass item : list) {
+            keys.add(item.getKey());
+            if (keys.size() == 3) {
+                break;
+            }
+        }
+        assertEquals("3", keys.get(2));
+
+        // the fetches stop once the pages ahead of the iteration are fetched
+        Thread.sleep(200);
+        final int abandonedScans = scans.get();
+        assertTrue(abandonedScans <= 2 + 2);
+        Thread.sleep(200);
+        assertEquals(abandonedScans, scans.get());
+        for (Thread thread : scanThreads) {
+            assertTrue(thread.isDaemon());
+            assertTrue(thread.getName().startsWith("DynamoDBPrefetchThread-"));
+        }
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey() {
+        Map<String, AttributeValue> lastEvaluatedKey = new HashMap<String, AttributeValue>();
+        lastEvaluatedKey.put("key", new AttributeValue().withS("last"));
+        return lastEvaluatedKey;
+    }
+
+    private static ScanResult scanPage(String key, boolean hasNextPage) {
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("key", new AttributeValue().withS(key));
+        List<Map<String, AttributeValue>> items = new ArrayList<Map<String, AttributeValue>>();
+        items.add(item);
+        return new ScanResult().withItems(items)
+                .withLastEvaluatedKey(hasNextPage ? lastEvaluatedKey() : null);
+    }
 }
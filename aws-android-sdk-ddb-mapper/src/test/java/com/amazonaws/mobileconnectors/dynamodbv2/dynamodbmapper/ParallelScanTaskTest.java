@@ -16,9 +16,14 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
@@ -30,9 +35,14 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class ParallelScanTaskTest {
 
@@ -192,4 +202,139 @@ public class ParallelScanTaskTest {
 
         assertTrue(testTask.isAllSegmentScanFinished());
     }
+
+    @Test
+    public void testUnorderedReturnsPagesAsScanned() throws InterruptedException {
+        ScanRequest scan1 = new ScanRequest().withTableName(TABLE).withSegment(0);
+        ScanRequest scan2 = new ScanRequest().withTableName(TABLE).withSegment(1);
+        List<ScanRequest> list = new ArrayList<ScanRequest>();
+        list.add(scan1);
+        list.add(scan2);
+
+        Map<String, AttributeValue> lastEvaluatedKey = new HashMap<String, AttributeValue>();
+        lastEvaluatedKey.put("TestPrimaryKey", new AttributeValue().withS("Test1"));
+        // ScanResult.equals compares content, so each page gets its own item.
+        ScanResult firstPage = new ScanResult().withItems(item("first"))
+                .withLastEvaluatedKey(lastEvaluatedKey);
+        ScanResult lastPage = new ScanResult().withItems(item("last"))
+                .withLastEvaluatedKey(null);
+        ScanResult onlyPage = new ScanResult().withItems(item("only"))
+                .withLastEvaluatedKey(null);
+
+        EasyMock.expect(mockClient.scan(scan1)).andReturn(firstPage).andReturn(lastPage);
+        EasyMock.expect(mockClient.scan(scan2)).andReturn(onlyPage);
+        EasyMock.replay(mockClient);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ParallelScanTask testTask = new ParallelScanTask(mockClient, list, executor, true);
+
+        List<ScanResult> pages = new ArrayList<ScanResult>();
+        do {
+            List<ScanResult> batch = testTask.getNextBatchOfScanResults();
+            assertTrue(batch.size() <= 1);
+            pages.addAll(batch);
+        } while (!testTask.isAllSegmentScanFinished());
+
+        EasyMock.verify(mockClient);
+        assertEquals(3, pages.size());
+        assertTrue(pages.contains(firstPage));
+        assertTrue(pages.contains(lastPage));
+        assertTrue(pages.contains(onlyPage));
+        assertTrue(pages.indexOf(firstPage) < pages.indexOf(lastPage));
+        assertTrue(testTask.getNextBatchOfScanResults().isEmpty());
+
+        // The executor was supplied by the caller, so it is left running.
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUnorderedLimitsPagesAheadPerSegment() {
+        ScanRequest scan1 = new ScanRequest().withTableName(TABLE);
+        List<ScanRequest> list = Collections.singletonList(scan1);
+
+        Map<String, AttributeValue> lastEvaluatedKey = new HashMap<String, AttributeValue>();
+        lastEvaluatedKey.put("TestPrimaryKey", new AttributeValue().withS("Test1"));
+        ScanResult resultWithMoreData = new ScanResult().withLastEvaluatedKey(lastEvaluatedKey);
+
+        // Returning a page lets the segment scan one more page.
+        EasyMock.expect(mockClient.scan(scan1)).andReturn(resultWithMoreData)
+                .times(ParallelScanTask.MAX_PAGES_AHEAD_PER_SEGMENT + 1);
+        EasyMock.replay(mockClient);
+
+        ParallelScanTask testTask = new ParallelScanTask(mockClient, list,
+                new CallerRunsExecutorService(), true);
+        List<ScanResult> batch = testTask.getNextBatchOfScanResults();
+
+        EasyMock.verify(mockClient);
+        assertEquals(1, batch.size());
+        assertSame(resultWithMoreData, batch.get(0));
+        assertFalse(testTask.isAllSegmentScanFinished());
+    }
+
+    @Test
+    public void testUnorderedRethrowsScanFailure() {
+        ScanRequest scan1 = new ScanRequest().withTableName(TABLE);
+        List<ScanRequest> list = Collections.singletonList(scan1);
+
+        AmazonServiceException failure = new AmazonServiceException("Throttled");
+        EasyMock.expect(mockClient.scan(scan1)).andThrow(failure);
+        EasyMock.replay(mockClient);
+
+        ParallelScanTask testTask = new ParallelScanTask(mockClient, list,
+                new CallerRunsExecutorService(), true);
+        try {
+            testTask.getNextBatchOfScanResults();
+            fail("Expected the scan failure to be thrown");
+        } catch (AmazonClientException e) {
+            assertSame(failure, e);
+        }
+        assertFalse(testTask.isAllSegmentScanFinished());
+    }
+
+    /**
+     * Runs the tasks on the calling thread, so the scans happen in a
+     * predictable order.
+     */
+    private static class CallerRunsExecutorService extends AbstractExecutorService {
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    private static Map<String, AttributeValue> item(String id) {
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withS(id));
+        return item;
+    }
 }
@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -91,6 +92,16 @@ public class PojoReflectionTest {
         assertEquals("getAutogeneratedRangeKey", reflector.getPrimaryRangeKeyGetter(clazz)
                 .getName());
         assertEquals("autogeneratedRangeKey", reflector.getPrimaryRangeKeyName(clazz));
+
+        // The table model is built once and matches the getters
+        DynamoDBMapperTableModel tableModel = reflector.getTableModel(clazz);
+        assertSame(tableModel, reflector.getTableModel(clazz));
+        assertEquals(2, tableModel.getKeyGetters().size());
+        for (DynamoDBMapperTableModel.Property property : tableModel.getProperties()) {
+            assertEquals(
+                    expectedAttributeNames.get(property.getGetter().getName()),
+                    property.getAttributeName());
+        }
     }
 
     /**
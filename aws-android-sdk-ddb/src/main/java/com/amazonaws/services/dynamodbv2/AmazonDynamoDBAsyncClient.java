@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -375,11 +376,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<BatchGetItemResult> batchGetItemAsync(
             final BatchGetItemRequest batchGetItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                return batchGetItem(batchGetItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchGetItemRequest,
+                new Callable<BatchGetItemResult>() {
+                    public BatchGetItemResult call() throws Exception {
+                        return batchGetItem(batchGetItemRequest);
+                    }
+                });
     }
 
     /**
@@ -483,19 +485,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final BatchGetItemRequest batchGetItemRequest,
             final AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                BatchGetItemResult result = null;
-                try {
-                    result = batchGetItem(batchGetItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchGetItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchGetItemRequest, asyncHandler,
+                new Callable<BatchGetItemResult>() {
+                    public BatchGetItemResult call() throws Exception {
+                        return batchGetItem(batchGetItemRequest);
+                    }
+                });
     }
 
     /**
@@ -641,11 +636,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<BatchWriteItemResult> batchWriteItemAsync(
             final BatchWriteItemRequest batchWriteItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                return batchWriteItem(batchWriteItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchWriteItemRequest,
+                new Callable<BatchWriteItemResult>() {
+                    public BatchWriteItemResult call() throws Exception {
+                        return batchWriteItem(batchWriteItemRequest);
+                    }
+                });
     }
 
     /**
@@ -792,19 +788,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final BatchWriteItemRequest batchWriteItemRequest,
             final AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                BatchWriteItemResult result = null;
-                try {
-                    result = batchWriteItem(batchWriteItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchWriteItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, batchWriteItemRequest, asyncHandler,
+                new Callable<BatchWriteItemResult>() {
+                    public BatchWriteItemResult call() throws Exception {
+                        return batchWriteItem(batchWriteItemRequest);
+                    }
+                });
     }
 
     /**
@@ -884,11 +873,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<CreateBackupResult> createBackupAsync(
             final CreateBackupRequest createBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
-            public CreateBackupResult call() throws Exception {
-                return createBackup(createBackupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createBackupRequest,
+                new Callable<CreateBackupResult>() {
+                    public CreateBackupResult call() throws Exception {
+                        return createBackup(createBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -969,19 +959,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final CreateBackupRequest createBackupRequest,
             final AsyncHandler<CreateBackupRequest, CreateBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
-            public CreateBackupResult call() throws Exception {
-                CreateBackupResult result = null;
-                try {
-                    result = createBackup(createBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createBackupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createBackupRequest, asyncHandler,
+                new Callable<CreateBackupResult>() {
+                    public CreateBackupResult call() throws Exception {
+                        return createBackup(createBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -1067,11 +1050,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<CreateGlobalTableResult> createGlobalTableAsync(
             final CreateGlobalTableRequest createGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
-            public CreateGlobalTableResult call() throws Exception {
-                return createGlobalTable(createGlobalTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createGlobalTableRequest,
+                new Callable<CreateGlobalTableResult>() {
+                    public CreateGlobalTableResult call() throws Exception {
+                        return createGlobalTable(createGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1158,19 +1142,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final CreateGlobalTableRequest createGlobalTableRequest,
             final AsyncHandler<CreateGlobalTableRequest, CreateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
-            public CreateGlobalTableResult call() throws Exception {
-                CreateGlobalTableResult result = null;
-                try {
-                    result = createGlobalTable(createGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createGlobalTableRequest, asyncHandler,
+                new Callable<CreateGlobalTableResult>() {
+                    public CreateGlobalTableResult call() throws Exception {
+                        return createGlobalTable(createGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1218,11 +1195,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                return createTable(createTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTableRequest,
+                new Callable<CreateTableResult>() {
+                    public CreateTableResult call() throws Exception {
+                        return createTable(createTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1271,19 +1249,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest,
             final AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                CreateTableResult result = null;
-                try {
-                    result = createTable(createTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTableRequest, asyncHandler,
+                new Callable<CreateTableResult>() {
+                    public CreateTableResult call() throws Exception {
+                        return createTable(createTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1313,11 +1284,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DeleteBackupResult> deleteBackupAsync(
             final DeleteBackupRequest deleteBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
-            public DeleteBackupResult call() throws Exception {
-                return deleteBackup(deleteBackupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteBackupRequest,
+                new Callable<DeleteBackupResult>() {
+                    public DeleteBackupResult call() throws Exception {
+                        return deleteBackup(deleteBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -1348,19 +1320,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DeleteBackupRequest deleteBackupRequest,
             final AsyncHandler<DeleteBackupRequest, DeleteBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
-            public DeleteBackupResult call() throws Exception {
-                DeleteBackupResult result = null;
-                try {
-                    result = deleteBackup(deleteBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteBackupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteBackupRequest, asyncHandler,
+                new Callable<DeleteBackupResult>() {
+                    public DeleteBackupResult call() throws Exception {
+                        return deleteBackup(deleteBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -1405,11 +1370,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                return deleteItem(deleteItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteItemRequest,
+                new Callable<DeleteItemResult>() {
+                    public DeleteItemResult call() throws Exception {
+                        return deleteItem(deleteItemRequest);
+                    }
+                });
     }
 
     /**
@@ -1455,19 +1421,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest,
             final AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                DeleteItemResult result = null;
-                try {
-                    result = deleteItem(deleteItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteItemRequest, asyncHandler,
+                new Callable<DeleteItemResult>() {
+                    public DeleteItemResult call() throws Exception {
+                        return deleteItem(deleteItemRequest);
+                    }
+                });
     }
 
     /**
@@ -1521,11 +1480,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                return deleteTable(deleteTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTableRequest,
+                new Callable<DeleteTableResult>() {
+                    public DeleteTableResult call() throws Exception {
+                        return deleteTable(deleteTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1580,19 +1540,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest,
             final AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                DeleteTableResult result = null;
-                try {
-                    result = deleteTable(deleteTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTableRequest, asyncHandler,
+                new Callable<DeleteTableResult>() {
+                    public DeleteTableResult call() throws Exception {
+                        return deleteTable(deleteTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1620,11 +1573,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeBackupResult> describeBackupAsync(
             final DescribeBackupRequest describeBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
-            public DescribeBackupResult call() throws Exception {
-                return describeBackup(describeBackupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeBackupRequest,
+                new Callable<DescribeBackupResult>() {
+                    public DescribeBackupResult call() throws Exception {
+                        return describeBackup(describeBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -1653,19 +1607,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeBackupRequest describeBackupRequest,
             final AsyncHandler<DescribeBackupRequest, DescribeBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
-            public DescribeBackupResult call() throws Exception {
-                DescribeBackupResult result = null;
-                try {
-                    result = describeBackup(describeBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeBackupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeBackupRequest, asyncHandler,
+                new Callable<DescribeBackupResult>() {
+                    public DescribeBackupResult call() throws Exception {
+                        return describeBackup(describeBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -1708,11 +1655,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
-            public DescribeContinuousBackupsResult call() throws Exception {
-                return describeContinuousBackups(describeContinuousBackupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeContinuousBackupsRequest,
+                new Callable<DescribeContinuousBackupsResult>() {
+                    public DescribeContinuousBackupsResult call() throws Exception {
+                        return describeContinuousBackups(describeContinuousBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1756,19 +1704,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest,
             final AsyncHandler<DescribeContinuousBackupsRequest, DescribeContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
-            public DescribeContinuousBackupsResult call() throws Exception {
-                DescribeContinuousBackupsResult result = null;
-                try {
-                    result = describeContinuousBackups(describeContinuousBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContinuousBackupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeContinuousBackupsRequest, asyncHandler,
+                new Callable<DescribeContinuousBackupsResult>() {
+                    public DescribeContinuousBackupsResult call() throws Exception {
+                        return describeContinuousBackups(describeContinuousBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1786,11 +1727,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeEndpointsResult> describeEndpointsAsync(
             final DescribeEndpointsRequest describeEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
-            public DescribeEndpointsResult call() throws Exception {
-                return describeEndpoints(describeEndpointsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEndpointsRequest,
+                new Callable<DescribeEndpointsResult>() {
+                    public DescribeEndpointsResult call() throws Exception {
+                        return describeEndpoints(describeEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -1809,19 +1751,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeEndpointsRequest describeEndpointsRequest,
             final AsyncHandler<DescribeEndpointsRequest, DescribeEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
-            public DescribeEndpointsResult call() throws Exception {
-                DescribeEndpointsResult result = null;
-                try {
-                    result = describeEndpoints(describeEndpointsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEndpointsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeEndpointsRequest, asyncHandler,
+                new Callable<DescribeEndpointsResult>() {
+                    public DescribeEndpointsResult call() throws Exception {
+                        return describeEndpoints(describeEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -1846,11 +1781,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeGlobalTableResult> describeGlobalTableAsync(
             final DescribeGlobalTableRequest describeGlobalTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
-            public DescribeGlobalTableResult call() throws Exception {
-                return describeGlobalTable(describeGlobalTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeGlobalTableRequest,
+                new Callable<DescribeGlobalTableResult>() {
+                    public DescribeGlobalTableResult call() throws Exception {
+                        return describeGlobalTable(describeGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1876,19 +1812,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeGlobalTableRequest describeGlobalTableRequest,
             final AsyncHandler<DescribeGlobalTableRequest, DescribeGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
-            public DescribeGlobalTableResult call() throws Exception {
-                DescribeGlobalTableResult result = null;
-                try {
-                    result = describeGlobalTable(describeGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeGlobalTableRequest, asyncHandler,
+                new Callable<DescribeGlobalTableResult>() {
+                    public DescribeGlobalTableResult call() throws Exception {
+                        return describeGlobalTable(describeGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -1913,11 +1842,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
-            public DescribeGlobalTableSettingsResult call() throws Exception {
-                return describeGlobalTableSettings(describeGlobalTableSettingsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeGlobalTableSettingsRequest,
+                new Callable<DescribeGlobalTableSettingsResult>() {
+                    public DescribeGlobalTableSettingsResult call() throws Exception {
+                        return describeGlobalTableSettings(describeGlobalTableSettingsRequest);
+                    }
+                });
     }
 
     /**
@@ -1943,19 +1873,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest,
             final AsyncHandler<DescribeGlobalTableSettingsRequest, DescribeGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
-            public DescribeGlobalTableSettingsResult call() throws Exception {
-                DescribeGlobalTableSettingsResult result = null;
-                try {
-                    result = describeGlobalTableSettings(describeGlobalTableSettingsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeGlobalTableSettingsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeGlobalTableSettingsRequest, asyncHandler,
+                new Callable<DescribeGlobalTableSettingsResult>() {
+                    public DescribeGlobalTableSettingsResult call() throws Exception {
+                        return describeGlobalTableSettings(describeGlobalTableSettingsRequest);
+                    }
+                });
     }
 
     /**
@@ -2082,11 +2005,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeLimitsResult> describeLimitsAsync(
             final DescribeLimitsRequest describeLimitsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
-            public DescribeLimitsResult call() throws Exception {
-                return describeLimits(describeLimitsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLimitsRequest,
+                new Callable<DescribeLimitsResult>() {
+                    public DescribeLimitsResult call() throws Exception {
+                        return describeLimits(describeLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -2214,19 +2138,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeLimitsRequest describeLimitsRequest,
             final AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
-            public DescribeLimitsResult call() throws Exception {
-                DescribeLimitsResult result = null;
-                try {
-                    result = describeLimits(describeLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLimitsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLimitsRequest, asyncHandler,
+                new Callable<DescribeLimitsResult>() {
+                    public DescribeLimitsResult call() throws Exception {
+                        return describeLimits(describeLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -2265,11 +2182,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeTableResult> describeTableAsync(
             final DescribeTableRequest describeTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                return describeTable(describeTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTableRequest,
+                new Callable<DescribeTableResult>() {
+                    public DescribeTableResult call() throws Exception {
+                        return describeTable(describeTableRequest);
+                    }
+                });
     }
 
     /**
@@ -2309,19 +2227,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeTableRequest describeTableRequest,
             final AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                DescribeTableResult result = null;
-                try {
-                    result = describeTable(describeTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTableRequest, asyncHandler,
+                new Callable<DescribeTableResult>() {
+                    public DescribeTableResult call() throws Exception {
+                        return describeTable(describeTableRequest);
+                    }
+                });
     }
 
     /**
@@ -2347,11 +2258,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<DescribeTimeToLiveResult> describeTimeToLiveAsync(
             final DescribeTimeToLiveRequest describeTimeToLiveRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
-            public DescribeTimeToLiveResult call() throws Exception {
-                return describeTimeToLive(describeTimeToLiveRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTimeToLiveRequest,
+                new Callable<DescribeTimeToLiveResult>() {
+                    public DescribeTimeToLiveResult call() throws Exception {
+                        return describeTimeToLive(describeTimeToLiveRequest);
+                    }
+                });
     }
 
     /**
@@ -2378,19 +2290,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final DescribeTimeToLiveRequest describeTimeToLiveRequest,
             final AsyncHandler<DescribeTimeToLiveRequest, DescribeTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
-            public DescribeTimeToLiveResult call() throws Exception {
-                DescribeTimeToLiveResult result = null;
-                try {
-                    result = describeTimeToLive(describeTimeToLiveRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTimeToLiveRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTimeToLiveRequest, asyncHandler,
+                new Callable<DescribeTimeToLiveResult>() {
+                    public DescribeTimeToLiveResult call() throws Exception {
+                        return describeTimeToLive(describeTimeToLiveRequest);
+                    }
+                });
     }
 
     /**
@@ -2426,11 +2331,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                return getItem(getItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getItemRequest,
+                new Callable<GetItemResult>() {
+                    public GetItemResult call() throws Exception {
+                        return getItem(getItemRequest);
+                    }
+                });
     }
 
     /**
@@ -2467,19 +2373,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest,
             final AsyncHandler<GetItemRequest, GetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                GetItemResult result = null;
-                try {
-                    result = getItem(getItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getItemRequest, asyncHandler,
+                new Callable<GetItemResult>() {
+                    public GetItemResult call() throws Exception {
+                        return getItem(getItemRequest);
+                    }
+                });
     }
 
     /**
@@ -2513,11 +2412,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
-            public ListBackupsResult call() throws Exception {
-                return listBackups(listBackupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listBackupsRequest,
+                new Callable<ListBackupsResult>() {
+                    public ListBackupsResult call() throws Exception {
+                        return listBackups(listBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -2552,19 +2452,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest,
             final AsyncHandler<ListBackupsRequest, ListBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
-            public ListBackupsResult call() throws Exception {
-                ListBackupsResult result = null;
-                try {
-                    result = listBackups(listBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listBackupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listBackupsRequest, asyncHandler,
+                new Callable<ListBackupsResult>() {
+                    public ListBackupsResult call() throws Exception {
+                        return listBackups(listBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -2587,11 +2480,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<ListGlobalTablesResult> listGlobalTablesAsync(
             final ListGlobalTablesRequest listGlobalTablesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
-            public ListGlobalTablesResult call() throws Exception {
-                return listGlobalTables(listGlobalTablesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listGlobalTablesRequest,
+                new Callable<ListGlobalTablesResult>() {
+                    public ListGlobalTablesResult call() throws Exception {
+                        return listGlobalTables(listGlobalTablesRequest);
+                    }
+                });
     }
 
     /**
@@ -2615,19 +2509,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final ListGlobalTablesRequest listGlobalTablesRequest,
             final AsyncHandler<ListGlobalTablesRequest, ListGlobalTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
-            public ListGlobalTablesResult call() throws Exception {
-                ListGlobalTablesResult result = null;
-                try {
-                    result = listGlobalTables(listGlobalTablesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listGlobalTablesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listGlobalTablesRequest, asyncHandler,
+                new Callable<ListGlobalTablesResult>() {
+                    public ListGlobalTablesResult call() throws Exception {
+                        return listGlobalTables(listGlobalTablesRequest);
+                    }
+                });
     }
 
     /**
@@ -2653,11 +2540,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                return listTables(listTablesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTablesRequest,
+                new Callable<ListTablesResult>() {
+                    public ListTablesResult call() throws Exception {
+                        return listTables(listTablesRequest);
+                    }
+                });
     }
 
     /**
@@ -2684,19 +2572,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest,
             final AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                ListTablesResult result = null;
-                try {
-                    result = listTables(listTablesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTablesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTablesRequest, asyncHandler,
+                new Callable<ListTablesResult>() {
+                    public ListTablesResult call() throws Exception {
+                        return listTables(listTablesRequest);
+                    }
+                });
     }
 
     /**
@@ -2727,11 +2608,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<ListTagsOfResourceResult> listTagsOfResourceAsync(
             final ListTagsOfResourceRequest listTagsOfResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
-            public ListTagsOfResourceResult call() throws Exception {
-                return listTagsOfResource(listTagsOfResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsOfResourceRequest,
+                new Callable<ListTagsOfResourceResult>() {
+                    public ListTagsOfResourceResult call() throws Exception {
+                        return listTagsOfResource(listTagsOfResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2763,19 +2645,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final ListTagsOfResourceRequest listTagsOfResourceRequest,
             final AsyncHandler<ListTagsOfResourceRequest, ListTagsOfResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
-            public ListTagsOfResourceResult call() throws Exception {
-                ListTagsOfResourceResult result = null;
-                try {
-                    result = listTagsOfResource(listTagsOfResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsOfResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsOfResourceRequest, asyncHandler,
+                new Callable<ListTagsOfResourceResult>() {
+                    public ListTagsOfResourceResult call() throws Exception {
+                        return listTagsOfResource(listTagsOfResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2906,11 +2781,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                return putItem(putItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putItemRequest,
+                new Callable<PutItemResult>() {
+                    public PutItemResult call() throws Exception {
+                        return putItem(putItemRequest);
+                    }
+                });
     }
 
     /**
@@ -3042,19 +2918,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest,
             final AsyncHandler<PutItemRequest, PutItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                PutItemResult result = null;
-                try {
-                    result = putItem(putItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putItemRequest, asyncHandler,
+                new Callable<PutItemResult>() {
+                    public PutItemResult call() throws Exception {
+                        return putItem(putItemRequest);
+                    }
+                });
     }
 
     /**
@@ -3150,11 +3019,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<QueryResult> queryAsync(final QueryRequest queryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                return query(queryRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, queryRequest,
+                new Callable<QueryResult>() {
+                    public QueryResult call() throws Exception {
+                        return query(queryRequest);
+                    }
+                });
     }
 
     /**
@@ -3251,19 +3121,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<QueryResult> queryAsync(final QueryRequest queryRequest,
             final AsyncHandler<QueryRequest, QueryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                QueryResult result = null;
-                try {
-                    result = query(queryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(queryRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, queryRequest, asyncHandler,
+                new Callable<QueryResult>() {
+                    public QueryResult call() throws Exception {
+                        return query(queryRequest);
+                    }
+                });
     }
 
     /**
@@ -3333,11 +3196,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
-            public RestoreTableFromBackupResult call() throws Exception {
-                return restoreTableFromBackup(restoreTableFromBackupRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, restoreTableFromBackupRequest,
+                new Callable<RestoreTableFromBackupResult>() {
+                    public RestoreTableFromBackupResult call() throws Exception {
+                        return restoreTableFromBackup(restoreTableFromBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -3408,19 +3272,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest,
             final AsyncHandler<RestoreTableFromBackupRequest, RestoreTableFromBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
-            public RestoreTableFromBackupResult call() throws Exception {
-                RestoreTableFromBackupResult result = null;
-                try {
-                    result = restoreTableFromBackup(restoreTableFromBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(restoreTableFromBackupRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, restoreTableFromBackupRequest, asyncHandler,
+                new Callable<RestoreTableFromBackupResult>() {
+                    public RestoreTableFromBackupResult call() throws Exception {
+                        return restoreTableFromBackup(restoreTableFromBackupRequest);
+                    }
+                });
     }
 
     /**
@@ -3530,11 +3387,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
-            public RestoreTableToPointInTimeResult call() throws Exception {
-                return restoreTableToPointInTime(restoreTableToPointInTimeRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, restoreTableToPointInTimeRequest,
+                new Callable<RestoreTableToPointInTimeResult>() {
+                    public RestoreTableToPointInTimeResult call() throws Exception {
+                        return restoreTableToPointInTime(restoreTableToPointInTimeRequest);
+                    }
+                });
     }
 
     /**
@@ -3645,19 +3503,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest,
             final AsyncHandler<RestoreTableToPointInTimeRequest, RestoreTableToPointInTimeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
-            public RestoreTableToPointInTimeResult call() throws Exception {
-                RestoreTableToPointInTimeResult result = null;
-                try {
-                    result = restoreTableToPointInTime(restoreTableToPointInTimeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(restoreTableToPointInTimeRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, restoreTableToPointInTimeRequest, asyncHandler,
+                new Callable<RestoreTableToPointInTimeResult>() {
+                    public RestoreTableToPointInTimeResult call() throws Exception {
+                        return restoreTableToPointInTime(restoreTableToPointInTimeRequest);
+                    }
+                });
     }
 
     /**
@@ -3721,7 +3572,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<ScanResult> scanAsync(final ScanRequest scanRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
+        return AsyncRetryScheduler.submit(executorService, scanRequest, new Callable<ScanResult>() {
             public ScanResult call() throws Exception {
                 return scan(scanRequest);
             }
@@ -3790,19 +3641,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<ScanResult> scanAsync(final ScanRequest scanRequest,
             final AsyncHandler<ScanRequest, ScanResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
-            public ScanResult call() throws Exception {
-                ScanResult result = null;
-                try {
-                    result = scan(scanRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(scanRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, scanRequest, asyncHandler,
+                new Callable<ScanResult>() {
+                    public ScanResult call() throws Exception {
+                        return scan(scanRequest);
+                    }
+                });
     }
 
     /**
@@ -3835,12 +3679,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                tagResource(tagResourceRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        tagResource(tagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3874,19 +3719,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        tagResource(tagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3917,12 +3756,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                untagResource(untagResourceRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        untagResource(untagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3954,19 +3794,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        untagResource(untagResourceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4009,11 +3843,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
-            public UpdateContinuousBackupsResult call() throws Exception {
-                return updateContinuousBackups(updateContinuousBackupsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateContinuousBackupsRequest,
+                new Callable<UpdateContinuousBackupsResult>() {
+                    public UpdateContinuousBackupsResult call() throws Exception {
+                        return updateContinuousBackups(updateContinuousBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -4057,19 +3892,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest,
             final AsyncHandler<UpdateContinuousBackupsRequest, UpdateContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
-            public UpdateContinuousBackupsResult call() throws Exception {
-                UpdateContinuousBackupsResult result = null;
-                try {
-                    result = updateContinuousBackups(updateContinuousBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContinuousBackupsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateContinuousBackupsRequest, asyncHandler,
+                new Callable<UpdateContinuousBackupsResult>() {
+                    public UpdateContinuousBackupsResult call() throws Exception {
+                        return updateContinuousBackups(updateContinuousBackupsRequest);
+                    }
+                });
     }
 
     /**
@@ -4130,11 +3958,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateGlobalTableResult> updateGlobalTableAsync(
             final UpdateGlobalTableRequest updateGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
-            public UpdateGlobalTableResult call() throws Exception {
-                return updateGlobalTable(updateGlobalTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateGlobalTableRequest,
+                new Callable<UpdateGlobalTableResult>() {
+                    public UpdateGlobalTableResult call() throws Exception {
+                        return updateGlobalTable(updateGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -4196,19 +4025,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final UpdateGlobalTableRequest updateGlobalTableRequest,
             final AsyncHandler<UpdateGlobalTableRequest, UpdateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
-            public UpdateGlobalTableResult call() throws Exception {
-                UpdateGlobalTableResult result = null;
-                try {
-                    result = updateGlobalTable(updateGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateGlobalTableRequest, asyncHandler,
+                new Callable<UpdateGlobalTableResult>() {
+                    public UpdateGlobalTableResult call() throws Exception {
+                        return updateGlobalTable(updateGlobalTableRequest);
+                    }
+                });
     }
 
     /**
@@ -4237,11 +4059,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
-            public UpdateGlobalTableSettingsResult call() throws Exception {
-                return updateGlobalTableSettings(updateGlobalTableSettingsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateGlobalTableSettingsRequest,
+                new Callable<UpdateGlobalTableSettingsResult>() {
+                    public UpdateGlobalTableSettingsResult call() throws Exception {
+                        return updateGlobalTableSettings(updateGlobalTableSettingsRequest);
+                    }
+                });
     }
 
     /**
@@ -4271,19 +4094,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest,
             final AsyncHandler<UpdateGlobalTableSettingsRequest, UpdateGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
-            public UpdateGlobalTableSettingsResult call() throws Exception {
-                UpdateGlobalTableSettingsResult result = null;
-                try {
-                    result = updateGlobalTableSettings(updateGlobalTableSettingsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateGlobalTableSettingsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateGlobalTableSettingsRequest, asyncHandler,
+                new Callable<UpdateGlobalTableSettingsResult>() {
+                    public UpdateGlobalTableSettingsResult call() throws Exception {
+                        return updateGlobalTableSettings(updateGlobalTableSettingsRequest);
+                    }
+                });
     }
 
     /**
@@ -4320,11 +4136,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                return updateItem(updateItemRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateItemRequest,
+                new Callable<UpdateItemResult>() {
+                    public UpdateItemResult call() throws Exception {
+                        return updateItem(updateItemRequest);
+                    }
+                });
     }
 
     /**
@@ -4362,19 +4179,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest,
             final AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                UpdateItemResult result = null;
-                try {
-                    result = updateItem(updateItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateItemRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateItemRequest, asyncHandler,
+                new Callable<UpdateItemResult>() {
+                    public UpdateItemResult call() throws Exception {
+                        return updateItem(updateItemRequest);
+                    }
+                });
     }
 
     /**
@@ -4437,11 +4247,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                return updateTable(updateTableRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTableRequest,
+                new Callable<UpdateTableResult>() {
+                    public UpdateTableResult call() throws Exception {
+                        return updateTable(updateTableRequest);
+                    }
+                });
     }
 
     /**
@@ -4505,19 +4316,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest,
             final AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                UpdateTableResult result = null;
-                try {
-                    result = updateTable(updateTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTableRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTableRequest, asyncHandler,
+                new Callable<UpdateTableResult>() {
+                    public UpdateTableResult call() throws Exception {
+                        return updateTable(updateTableRequest);
+                    }
+                });
     }
 
     /**
@@ -4585,11 +4389,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public Future<UpdateTimeToLiveResult> updateTimeToLiveAsync(
             final UpdateTimeToLiveRequest updateTimeToLiveRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
-            public UpdateTimeToLiveResult call() throws Exception {
-                return updateTimeToLive(updateTimeToLiveRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTimeToLiveRequest,
+                new Callable<UpdateTimeToLiveResult>() {
+                    public UpdateTimeToLiveResult call() throws Exception {
+                        return updateTimeToLive(updateTimeToLiveRequest);
+                    }
+                });
     }
 
     /**
@@ -4658,19 +4463,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final UpdateTimeToLiveRequest updateTimeToLiveRequest,
             final AsyncHandler<UpdateTimeToLiveRequest, UpdateTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
-            public UpdateTimeToLiveResult call() throws Exception {
-                UpdateTimeToLiveResult result = null;
-                try {
-                    result = updateTimeToLive(updateTimeToLiveRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTimeToLiveRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTimeToLiveRequest, asyncHandler,
+                new Callable<UpdateTimeToLiveResult>() {
+                    public UpdateTimeToLiveResult call() throws Exception {
+                        return updateTimeToLive(updateTimeToLiveRequest);
+                    }
+                });
     }
 
 }
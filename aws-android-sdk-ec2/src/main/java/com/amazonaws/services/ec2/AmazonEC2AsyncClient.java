@@ -22,6 +22,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -302,12 +303,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deletePlacementGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePlacementGroup(deletePlacementGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -343,18 +345,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePlacementGroup(deletePlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deletePlacementGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePlacementGroup(deletePlacementGroupRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -438,11 +435,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createDhcpOptionsRequest,
+                new Callable<CreateDhcpOptionsResult>() {
+                    public CreateDhcpOptionsResult call() throws Exception {
+                        return createDhcpOptions(createDhcpOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -532,19 +530,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-              CreateDhcpOptionsResult result;
-                try {
-                result = createDhcpOptions(createDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createDhcpOptionsRequest, asyncHandler,
+                new Callable<CreateDhcpOptionsResult>() {
+                    public CreateDhcpOptionsResult call() throws Exception {
+                        return createDhcpOptions(createDhcpOptionsRequest);
+                    }
+                });
     }
     
     /**
@@ -594,11 +585,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnConnectionRequest,
+                new Callable<CreateVpnConnectionResult>() {
+                    public CreateVpnConnectionResult call() throws Exception {
+                        return createVpnConnection(createVpnConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -654,19 +646,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-              CreateVpnConnectionResult result;
-                try {
-                result = createVpnConnection(createVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnConnectionRequest, asyncHandler,
+                new Callable<CreateVpnConnectionResult>() {
+                    public CreateVpnConnectionResult call() throws Exception {
+                        return createVpnConnection(createVpnConnectionRequest);
+                    }
+                });
     }
     
     /**
@@ -699,12 +684,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disassociateRouteTableRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disassociateRouteTable(disassociateRouteTableRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -743,18 +729,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateRouteTable(disassociateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disassociateRouteTableRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disassociateRouteTable(disassociateRouteTableRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -788,11 +769,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-                return modifyReservedInstances(modifyReservedInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyReservedInstancesRequest,
+                new Callable<ModifyReservedInstancesResult>() {
+                    public ModifyReservedInstancesResult call() throws Exception {
+                        return modifyReservedInstances(modifyReservedInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -832,19 +814,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-              ModifyReservedInstancesResult result;
-                try {
-                result = modifyReservedInstances(modifyReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyReservedInstancesRequest, asyncHandler,
+                new Callable<ModifyReservedInstancesResult>() {
+                    public ModifyReservedInstancesResult call() throws Exception {
+                        return modifyReservedInstances(modifyReservedInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -869,11 +844,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-                return importSnapshot(importSnapshotRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importSnapshotRequest,
+                new Callable<ImportSnapshotResult>() {
+                    public ImportSnapshotResult call() throws Exception {
+                        return importSnapshot(importSnapshotRequest);
+                    }
+                });
     }
 
     /**
@@ -904,19 +880,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportSnapshotRequest importSnapshotRequest,
             final AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-              ImportSnapshotResult result;
-                try {
-                result = importSnapshot(importSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importSnapshotRequest, asyncHandler,
+                new Callable<ImportSnapshotResult>() {
+                    public ImportSnapshotResult call() throws Exception {
+                        return importSnapshot(importSnapshotRequest);
+                    }
+                });
     }
     
     /**
@@ -969,11 +938,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, terminateInstancesRequest,
+                new Callable<TerminateInstancesResult>() {
+                    public TerminateInstancesResult call() throws Exception {
+                        return terminateInstances(terminateInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -1032,19 +1002,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-              TerminateInstancesResult result;
-                try {
-                result = terminateInstances(terminateInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, terminateInstancesRequest, asyncHandler,
+                new Callable<TerminateInstancesResult>() {
+                    public TerminateInstancesResult call() throws Exception {
+                        return terminateInstances(terminateInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -1073,11 +1036,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, confirmProductInstanceRequest,
+                new Callable<ConfirmProductInstanceResult>() {
+                    public ConfirmProductInstanceResult call() throws Exception {
+                        return confirmProductInstance(confirmProductInstanceRequest);
+                    }
+                });
     }
 
     /**
@@ -1112,19 +1076,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-              ConfirmProductInstanceResult result;
-                try {
-                result = confirmProductInstance(confirmProductInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmProductInstanceRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, confirmProductInstanceRequest, asyncHandler,
+                new Callable<ConfirmProductInstanceResult>() {
+                    public ConfirmProductInstanceResult call() throws Exception {
+                        return confirmProductInstance(confirmProductInstanceRequest);
+                    }
+                });
     }
     
     /**
@@ -1168,12 +1125,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSnapshotRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSnapshot(deleteSnapshotRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1223,18 +1181,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSnapshotRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSnapshot(deleteSnapshotRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -1269,11 +1222,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesModificationsRequest,
+                new Callable<DescribeReservedInstancesModificationsResult>() {
+                    public DescribeReservedInstancesModificationsResult call() throws Exception {
+                        return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
+                    }
+                });
     }
 
     /**
@@ -1314,19 +1268,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-              DescribeReservedInstancesModificationsResult result;
-                try {
-                result = describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesModificationsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesModificationsRequest, asyncHandler,
+                new Callable<DescribeReservedInstancesModificationsResult>() {
+                    public DescribeReservedInstancesModificationsResult call() throws Exception {
+                        return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
+                    }
+                });
     }
     
     /**
@@ -1363,11 +1310,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importInstanceRequest,
+                new Callable<ImportInstanceResult>() {
+                    public ImportInstanceResult call() throws Exception {
+                        return importInstance(importInstanceRequest);
+                    }
+                });
     }
 
     /**
@@ -1410,19 +1358,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-              ImportInstanceResult result;
-                try {
-                result = importInstance(importInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importInstanceRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importInstanceRequest, asyncHandler,
+                new Callable<ImportInstanceResult>() {
+                    public ImportInstanceResult call() throws Exception {
+                        return importInstance(importInstanceRequest);
+                    }
+                });
     }
     
     /**
@@ -1457,11 +1398,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAvailabilityZonesRequest,
+                new Callable<DescribeAvailabilityZonesResult>() {
+                    public DescribeAvailabilityZonesResult call() throws Exception {
+                        return describeAvailabilityZones(describeAvailabilityZonesRequest);
+                    }
+                });
     }
 
     /**
@@ -1502,19 +1444,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-              DescribeAvailabilityZonesResult result;
-                try {
-                result = describeAvailabilityZones(describeAvailabilityZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAvailabilityZonesRequest, asyncHandler,
+                new Callable<DescribeAvailabilityZonesResult>() {
+                    public DescribeAvailabilityZonesResult call() throws Exception {
+                        return describeAvailabilityZones(describeAvailabilityZonesRequest);
+                    }
+                });
     }
     
     /**
@@ -1587,11 +1522,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachVolumeRequest,
+                new Callable<AttachVolumeResult>() {
+                    public AttachVolumeResult call() throws Exception {
+                        return attachVolume(attachVolumeRequest);
+                    }
+                });
     }
 
     /**
@@ -1670,19 +1606,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-              AttachVolumeResult result;
-                try {
-                result = attachVolume(attachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachVolumeRequest, asyncHandler,
+                new Callable<AttachVolumeResult>() {
+                    public AttachVolumeResult call() throws Exception {
+                        return attachVolume(attachVolumeRequest);
+                    }
+                });
     }
     
     /**
@@ -1714,11 +1643,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVpcClassicLinkDnsSupportRequest,
+                new Callable<DisableVpcClassicLinkDnsSupportResult>() {
+                    public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
 
     /**
@@ -1756,19 +1686,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-              DisableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVpcClassicLinkDnsSupportRequest, asyncHandler,
+                new Callable<DisableVpcClassicLinkDnsSupportResult>() {
+                    public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
     
     /**
@@ -1798,12 +1721,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachInternetGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        attachInternetGateway(attachInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1839,18 +1763,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachInternetGateway(attachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachInternetGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        attachInternetGateway(attachInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -1879,11 +1798,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-                return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeStaleSecurityGroupsRequest,
+                new Callable<DescribeStaleSecurityGroupsResult>() {
+                    public DescribeStaleSecurityGroupsResult call() throws Exception {
+                        return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -1918,19 +1838,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest,
             final AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-              DescribeStaleSecurityGroupsResult result;
-                try {
-                result = describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStaleSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeStaleSecurityGroupsRequest, asyncHandler,
+                new Callable<DescribeStaleSecurityGroupsResult>() {
+                    public DescribeStaleSecurityGroupsResult call() throws Exception {
+                        return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
+                    }
+                });
     }
     
     /**
@@ -1957,12 +1870,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVgwRoutePropagationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1995,18 +1909,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVgwRoutePropagationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -2033,11 +1942,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-                return allocateHosts(allocateHostsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, allocateHostsRequest,
+                new Callable<AllocateHostsResult>() {
+                    public AllocateHostsResult call() throws Exception {
+                        return allocateHosts(allocateHostsRequest);
+                    }
+                });
     }
 
     /**
@@ -2070,19 +1980,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateHostsRequest allocateHostsRequest,
             final AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-              AllocateHostsResult result;
-                try {
-                result = allocateHosts(allocateHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateHostsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, allocateHostsRequest, asyncHandler,
+                new Callable<AllocateHostsResult>() {
+                    public AllocateHostsResult call() throws Exception {
+                        return allocateHosts(allocateHostsRequest);
+                    }
+                });
     }
     
     /**
@@ -2108,11 +2011,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-                return describeVpcClassicLink(describeVpcClassicLinkRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcClassicLinkRequest,
+                new Callable<DescribeVpcClassicLinkResult>() {
+                    public DescribeVpcClassicLinkResult call() throws Exception {
+                        return describeVpcClassicLink(describeVpcClassicLinkRequest);
+                    }
+                });
     }
 
     /**
@@ -2144,19 +2048,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-              DescribeVpcClassicLinkResult result;
-                try {
-                result = describeVpcClassicLink(describeVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcClassicLinkRequest, asyncHandler,
+                new Callable<DescribeVpcClassicLinkResult>() {
+                    public DescribeVpcClassicLinkResult call() throws Exception {
+                        return describeVpcClassicLink(describeVpcClassicLinkRequest);
+                    }
+                });
     }
     
     /**
@@ -2184,11 +2081,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachVpnGatewayRequest,
+                new Callable<AttachVpnGatewayResult>() {
+                    public AttachVpnGatewayResult call() throws Exception {
+                        return attachVpnGateway(attachVpnGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -2222,19 +2120,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-              AttachVpnGatewayResult result;
-                try {
-                result = attachVpnGateway(attachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachVpnGatewayRequest, asyncHandler,
+                new Callable<AttachVpnGatewayResult>() {
+                    public AttachVpnGatewayResult call() throws Exception {
+                        return attachVpnGateway(attachVpnGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -2262,12 +2153,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelExportTask(cancelExportTaskRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelExportTaskRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        cancelExportTask(cancelExportTaskRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2301,18 +2193,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelExportTask(cancelExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelExportTaskRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelExportTaskRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        cancelExportTask(cancelExportTaskRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -2349,11 +2236,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstancesRequest,
+                new Callable<DescribeInstancesResult>() {
+                    public DescribeInstancesResult call() throws Exception {
+                        return describeInstances(describeInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -2396,19 +2284,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstancesRequest, asyncHandler,
+                new Callable<DescribeInstancesResult>() {
+                    public DescribeInstancesResult call() throws Exception {
+                        return describeInstances(describeInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -2447,11 +2328,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-                return runScheduledInstances(runScheduledInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, runScheduledInstancesRequest,
+                new Callable<RunScheduledInstancesResult>() {
+                    public RunScheduledInstancesResult call() throws Exception {
+                        return runScheduledInstances(runScheduledInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -2496,19 +2378,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunScheduledInstancesRequest runScheduledInstancesRequest,
             final AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-              RunScheduledInstancesResult result;
-                try {
-                result = runScheduledInstances(runScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, runScheduledInstancesRequest, asyncHandler,
+                new Callable<RunScheduledInstancesResult>() {
+                    public RunScheduledInstancesResult call() throws Exception {
+                        return runScheduledInstances(runScheduledInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -2534,11 +2409,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-                return importImage(importImageRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importImageRequest,
+                new Callable<ImportImageResult>() {
+                    public ImportImageResult call() throws Exception {
+                        return importImage(importImageRequest);
+                    }
+                });
     }
 
     /**
@@ -2570,19 +2446,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportImageRequest importImageRequest,
             final AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-              ImportImageResult result;
-                try {
-                result = importImage(importImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importImageRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importImageRequest, asyncHandler,
+                new Callable<ImportImageResult>() {
+                    public ImportImageResult call() throws Exception {
+                        return importImage(importImageRequest);
+                    }
+                });
     }
     
     /**
@@ -2620,11 +2489,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createImageRequest,
+                new Callable<CreateImageResult>() {
+                    public CreateImageResult call() throws Exception {
+                        return createImage(createImageRequest);
+                    }
+                });
     }
 
     /**
@@ -2668,19 +2538,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-              CreateImageResult result;
-                try {
-                result = createImage(createImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createImageRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createImageRequest, asyncHandler,
+                new Callable<CreateImageResult>() {
+                    public CreateImageResult call() throws Exception {
+                        return createImage(createImageRequest);
+                    }
+                });
     }
     
     /**
@@ -2715,12 +2578,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVolumeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVolume(deleteVolumeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2761,18 +2625,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVolumeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVolume(deleteVolumeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -2801,11 +2660,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-                return describeMovingAddresses(describeMovingAddressesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeMovingAddressesRequest,
+                new Callable<DescribeMovingAddressesResult>() {
+                    public DescribeMovingAddressesResult call() throws Exception {
+                        return describeMovingAddresses(describeMovingAddressesRequest);
+                    }
+                });
     }
 
     /**
@@ -2840,19 +2700,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeMovingAddressesRequest describeMovingAddressesRequest,
             final AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-              DescribeMovingAddressesResult result;
-                try {
-                result = describeMovingAddresses(describeMovingAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMovingAddressesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeMovingAddressesRequest, asyncHandler,
+                new Callable<DescribeMovingAddressesResult>() {
+                    public DescribeMovingAddressesResult call() throws Exception {
+                        return describeMovingAddresses(describeMovingAddressesRequest);
+                    }
+                });
     }
     
     /**
@@ -2877,11 +2730,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-                return describeVpcEndpoints(describeVpcEndpointsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcEndpointsRequest,
+                new Callable<DescribeVpcEndpointsResult>() {
+                    public DescribeVpcEndpointsResult call() throws Exception {
+                        return describeVpcEndpoints(describeVpcEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -2912,19 +2766,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
             final AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-              DescribeVpcEndpointsResult result;
-                try {
-                result = describeVpcEndpoints(describeVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcEndpointsRequest, asyncHandler,
+                new Callable<DescribeVpcEndpointsResult>() {
+                    public DescribeVpcEndpointsResult call() throws Exception {
+                        return describeVpcEndpoints(describeVpcEndpointsRequest);
+                    }
+                });
     }
     
     /**
@@ -2950,12 +2797,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSubnetRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSubnet(deleteSubnetRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2987,18 +2835,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSubnet(deleteSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSubnetRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSubnetRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSubnet(deleteSubnetRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -3027,11 +2870,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeClassicLinkInstancesRequest,
+                new Callable<DescribeClassicLinkInstancesResult>() {
+                    public DescribeClassicLinkInstancesResult call() throws Exception {
+                        return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -3066,19 +2910,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-              DescribeClassicLinkInstancesResult result;
-                try {
-                result = describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClassicLinkInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeClassicLinkInstancesRequest, asyncHandler,
+                new Callable<DescribeClassicLinkInstancesResult>() {
+                    public DescribeClassicLinkInstancesResult call() throws Exception {
+                        return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -3121,11 +2958,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesOfferingsRequest,
+                new Callable<DescribeReservedInstancesOfferingsResult>() {
+                    public DescribeReservedInstancesOfferingsResult call() throws Exception {
+                        return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
+                    }
+                });
     }
 
     /**
@@ -3174,19 +3012,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-              DescribeReservedInstancesOfferingsResult result;
-                try {
-                result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesOfferingsRequest, asyncHandler,
+                new Callable<DescribeReservedInstancesOfferingsResult>() {
+                    public DescribeReservedInstancesOfferingsResult call() throws Exception {
+                        return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
+                    }
+                });
     }
     
     /**
@@ -3216,11 +3047,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpcPeeringConnectionRequest,
+                new Callable<DeleteVpcPeeringConnectionResult>() {
+                    public DeleteVpcPeeringConnectionResult call() throws Exception {
+                        return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -3256,19 +3088,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-              DeleteVpcPeeringConnectionResult result;
-                try {
-                result = deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpcPeeringConnectionRequest, asyncHandler,
+                new Callable<DeleteVpcPeeringConnectionResult>() {
+                    public DeleteVpcPeeringConnectionResult call() throws Exception {
+                        return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
+                    }
+                });
     }
     
     /**
@@ -3356,11 +3181,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, runInstancesRequest,
+                new Callable<RunInstancesResult>() {
+                    public RunInstancesResult call() throws Exception {
+                        return runInstances(runInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -3454,19 +3280,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-              RunInstancesResult result;
-                try {
-                result = runInstances(runInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, runInstancesRequest, asyncHandler,
+                new Callable<RunInstancesResult>() {
+                    public RunInstancesResult call() throws Exception {
+                        return runInstances(runInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -3492,12 +3311,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVolumeIORequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableVolumeIO(enableVolumeIORequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3529,18 +3349,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVolumeIO(enableVolumeIORequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVolumeIORequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVolumeIORequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        enableVolumeIO(enableVolumeIORequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -3573,11 +3388,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-                return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetRequestHistoryRequest,
+                new Callable<DescribeSpotFleetRequestHistoryResult>() {
+                    public DescribeSpotFleetRequestHistoryResult call() throws Exception {
+                        return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
+                    }
+                });
     }
 
     /**
@@ -3616,19 +3432,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
             final AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-              DescribeSpotFleetRequestHistoryResult result;
-                try {
-                result = describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestHistoryRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetRequestHistoryRequest, asyncHandler,
+                new Callable<DescribeSpotFleetRequestHistoryResult>() {
+                    public DescribeSpotFleetRequestHistoryResult call() throws Exception {
+                        return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
+                    }
+                });
     }
     
     /**
@@ -3659,11 +3468,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSpotDatafeedSubscriptionRequest,
+                new Callable<CreateSpotDatafeedSubscriptionResult>() {
+                    public CreateSpotDatafeedSubscriptionResult call() throws Exception {
+                        return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
+                    }
+                });
     }
 
     /**
@@ -3700,19 +3510,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-              CreateSpotDatafeedSubscriptionResult result;
-                try {
-                result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSpotDatafeedSubscriptionRequest, asyncHandler,
+                new Callable<CreateSpotDatafeedSubscriptionResult>() {
+                    public CreateSpotDatafeedSubscriptionResult call() throws Exception {
+                        return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
+                    }
+                });
     }
     
     /**
@@ -3742,11 +3545,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-                return restoreAddressToClassic(restoreAddressToClassicRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, restoreAddressToClassicRequest,
+                new Callable<RestoreAddressToClassicResult>() {
+                    public RestoreAddressToClassicResult call() throws Exception {
+                        return restoreAddressToClassic(restoreAddressToClassicRequest);
+                    }
+                });
     }
 
     /**
@@ -3782,19 +3586,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RestoreAddressToClassicRequest restoreAddressToClassicRequest,
             final AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-              RestoreAddressToClassicResult result;
-                try {
-                result = restoreAddressToClassic(restoreAddressToClassicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreAddressToClassicRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, restoreAddressToClassicRequest, asyncHandler,
+                new Callable<RestoreAddressToClassicResult>() {
+                    public RestoreAddressToClassicResult call() throws Exception {
+                        return restoreAddressToClassic(restoreAddressToClassicRequest);
+                    }
+                });
     }
     
     /**
@@ -3826,11 +3623,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImagesRequest,
+                new Callable<DescribeImagesResult>() {
+                    public DescribeImagesResult call() throws Exception {
+                        return describeImages(describeImagesRequest);
+                    }
+                });
     }
 
     /**
@@ -3868,19 +3666,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-              DescribeImagesResult result;
-                try {
-                result = describeImages(describeImagesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImagesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImagesRequest, asyncHandler,
+                new Callable<DescribeImagesResult>() {
+                    public DescribeImagesResult call() throws Exception {
+                        return describeImages(describeImagesRequest);
+                    }
+                });
     }
     
     /**
@@ -3905,11 +3696,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcsRequest,
+                new Callable<DescribeVpcsResult>() {
+                    public DescribeVpcsResult call() throws Exception {
+                        return describeVpcs(describeVpcsRequest);
+                    }
+                });
     }
 
     /**
@@ -3940,19 +3732,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-              DescribeVpcsResult result;
-                try {
-                result = describeVpcs(describeVpcsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcsRequest, asyncHandler,
+                new Callable<DescribeVpcsResult>() {
+                    public DescribeVpcsResult call() throws Exception {
+                        return describeVpcs(describeVpcsRequest);
+                    }
+                });
     }
     
     /**
@@ -4000,12 +3785,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, authorizeSecurityGroupEgressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4059,18 +3845,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, authorizeSecurityGroupEgressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -4113,11 +3894,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, copySnapshotRequest,
+                new Callable<CopySnapshotResult>() {
+                    public CopySnapshotResult call() throws Exception {
+                        return copySnapshot(copySnapshotRequest);
+                    }
+                });
     }
 
     /**
@@ -4166,19 +3948,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-              CopySnapshotResult result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, copySnapshotRequest, asyncHandler,
+                new Callable<CopySnapshotResult>() {
+                    public CopySnapshotResult call() throws Exception {
+                        return copySnapshot(copySnapshotRequest);
+                    }
+                });
     }
     
     /**
@@ -4212,12 +3987,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachVpnGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachVpnGateway(detachVpnGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -4257,18 +4033,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachVpnGateway(detachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachVpnGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachVpnGateway(detachVpnGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -4302,11 +4073,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceAttributeRequest,
+                new Callable<DescribeInstanceAttributeResult>() {
+                    public DescribeInstanceAttributeResult call() throws Exception {
+                        return describeInstanceAttribute(describeInstanceAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -4346,19 +4118,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-              DescribeInstanceAttributeResult result;
-                try {
-                result = describeInstanceAttribute(describeInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceAttributeRequest, asyncHandler,
+                new Callable<DescribeInstanceAttributeResult>() {
+                    public DescribeInstanceAttributeResult call() throws Exception {
+                        return describeInstanceAttribute(describeInstanceAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -4384,11 +4149,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-                return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetInstancesRequest,
+                new Callable<DescribeSpotFleetInstancesResult>() {
+                    public DescribeSpotFleetInstancesResult call() throws Exception {
+                        return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -4420,19 +4186,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
             final AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-              DescribeSpotFleetInstancesResult result;
-                try {
-                result = describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetInstancesRequest, asyncHandler,
+                new Callable<DescribeSpotFleetInstancesResult>() {
+                    public DescribeSpotFleetInstancesResult call() throws Exception {
+                        return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -4464,11 +4223,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkAclRequest,
+                new Callable<CreateNetworkAclResult>() {
+                    public CreateNetworkAclResult call() throws Exception {
+                        return createNetworkAcl(createNetworkAclRequest);
+                    }
+                });
     }
 
     /**
@@ -4506,19 +4266,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-              CreateNetworkAclResult result;
-                try {
-                result = createNetworkAcl(createNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkAclRequest, asyncHandler,
+                new Callable<CreateNetworkAclResult>() {
+                    public CreateNetworkAclResult call() throws Exception {
+                        return createNetworkAcl(createNetworkAclRequest);
+                    }
+                });
     }
     
     /**
@@ -4555,11 +4308,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotPriceHistoryRequest,
+                new Callable<DescribeSpotPriceHistoryResult>() {
+                    public DescribeSpotPriceHistoryResult call() throws Exception {
+                        return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
+                    }
+                });
     }
 
     /**
@@ -4602,19 +4356,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-              DescribeSpotPriceHistoryResult result;
-                try {
-                result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotPriceHistoryRequest, asyncHandler,
+                new Callable<DescribeSpotPriceHistoryResult>() {
+                    public DescribeSpotPriceHistoryResult call() throws Exception {
+                        return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
+                    }
+                });
     }
     
     /**
@@ -4641,11 +4388,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-                return describeImportImageTasks(describeImportImageTasksRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImportImageTasksRequest,
+                new Callable<DescribeImportImageTasksResult>() {
+                    public DescribeImportImageTasksResult call() throws Exception {
+                        return describeImportImageTasks(describeImportImageTasksRequest);
+                    }
+                });
     }
 
     /**
@@ -4678,19 +4426,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportImageTasksRequest describeImportImageTasksRequest,
             final AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-              DescribeImportImageTasksResult result;
-                try {
-                result = describeImportImageTasks(describeImportImageTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportImageTasksRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImportImageTasksRequest, asyncHandler,
+                new Callable<DescribeImportImageTasksResult>() {
+                    public DescribeImportImageTasksResult call() throws Exception {
+                        return describeImportImageTasks(describeImportImageTasksRequest);
+                    }
+                });
     }
     
     /**
@@ -4716,11 +4457,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInternetGatewaysRequest,
+                new Callable<DescribeInternetGatewaysResult>() {
+                    public DescribeInternetGatewaysResult call() throws Exception {
+                        return describeInternetGateways(describeInternetGatewaysRequest);
+                    }
+                });
     }
 
     /**
@@ -4752,19 +4494,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-              DescribeInternetGatewaysResult result;
-                try {
-                result = describeInternetGateways(describeInternetGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInternetGatewaysRequest, asyncHandler,
+                new Callable<DescribeInternetGatewaysResult>() {
+                    public DescribeInternetGatewaysResult call() throws Exception {
+                        return describeInternetGateways(describeInternetGatewaysRequest);
+                    }
+                });
     }
     
     /**
@@ -4795,11 +4530,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-                return describeHosts(describeHostsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeHostsRequest,
+                new Callable<DescribeHostsResult>() {
+                    public DescribeHostsResult call() throws Exception {
+                        return describeHosts(describeHostsRequest);
+                    }
+                });
     }
 
     /**
@@ -4836,19 +4572,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeHostsRequest describeHostsRequest,
             final AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-              DescribeHostsResult result;
-                try {
-                result = describeHosts(describeHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHostsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeHostsRequest, asyncHandler,
+                new Callable<DescribeHostsResult>() {
+                    public DescribeHostsResult call() throws Exception {
+                        return describeHosts(describeHostsRequest);
+                    }
+                });
     }
     
     /**
@@ -4878,11 +4607,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSubnetsRequest,
+                new Callable<DescribeSubnetsResult>() {
+                    public DescribeSubnetsResult call() throws Exception {
+                        return describeSubnets(describeSubnetsRequest);
+                    }
+                });
     }
 
     /**
@@ -4918,19 +4648,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-              DescribeSubnetsResult result;
-                try {
-                result = describeSubnets(describeSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSubnetsRequest, asyncHandler,
+                new Callable<DescribeSubnetsResult>() {
+                    public DescribeSubnetsResult call() throws Exception {
+                        return describeSubnets(describeSubnetsRequest);
+                    }
+                });
     }
     
     /**
@@ -4974,11 +4697,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getPasswordDataRequest,
+                new Callable<GetPasswordDataResult>() {
+                    public GetPasswordDataResult call() throws Exception {
+                        return getPasswordData(getPasswordDataRequest);
+                    }
+                });
     }
 
     /**
@@ -5028,19 +4752,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-              GetPasswordDataResult result;
-                try {
-                result = getPasswordData(getPasswordDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPasswordDataRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getPasswordDataRequest, asyncHandler,
+                new Callable<GetPasswordDataResult>() {
+                    public GetPasswordDataResult call() throws Exception {
+                        return getPasswordData(getPasswordDataRequest);
+                    }
+                });
     }
     
     /**
@@ -5074,12 +4791,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelConversionTaskRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        cancelConversionTask(cancelConversionTaskRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -5119,18 +4837,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelConversionTask(cancelConversionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelConversionTaskRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelConversionTaskRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        cancelConversionTask(cancelConversionTaskRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -5157,12 +4870,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteCustomerGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteCustomerGateway(deleteCustomerGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -5195,18 +4909,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteCustomerGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteCustomerGateway(deleteCustomerGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -5256,12 +4965,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, authorizeSecurityGroupIngressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -5317,18 +5027,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, authorizeSecurityGroupIngressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -5361,12 +5066,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceRouteRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        replaceRoute(replaceRouteRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -5405,18 +5111,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceRoute(replaceRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceRouteRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        replaceRoute(replaceRouteRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -5455,11 +5156,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-                return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, purchaseScheduledInstancesRequest,
+                new Callable<PurchaseScheduledInstancesResult>() {
+                    public PurchaseScheduledInstancesResult call() throws Exception {
+                        return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -5504,19 +5206,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
             final AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-              PurchaseScheduledInstancesResult result;
-                try {
-                result = purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, purchaseScheduledInstancesRequest, asyncHandler,
+                new Callable<PurchaseScheduledInstancesResult>() {
+                    public PurchaseScheduledInstancesResult call() throws Exception {
+                        return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -5552,11 +5247,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeRouteTablesRequest,
+                new Callable<DescribeRouteTablesResult>() {
+                    public DescribeRouteTablesResult call() throws Exception {
+                        return describeRouteTables(describeRouteTablesRequest);
+                    }
+                });
     }
 
     /**
@@ -5598,19 +5294,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-              DescribeRouteTablesResult result;
-                try {
-                result = describeRouteTables(describeRouteTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRouteTablesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeRouteTablesRequest, asyncHandler,
+                new Callable<DescribeRouteTablesResult>() {
+                    public DescribeRouteTablesResult call() throws Exception {
+                        return describeRouteTables(describeRouteTablesRequest);
+                    }
+                });
     }
     
     /**
@@ -5648,12 +5337,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVolumeAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyVolumeAttribute(modifyVolumeAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -5697,18 +5387,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVolumeAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVolumeAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyVolumeAttribute(modifyVolumeAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -5739,11 +5424,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkInterfaceRequest,
+                new Callable<CreateNetworkInterfaceResult>() {
+                    public CreateNetworkInterfaceResult call() throws Exception {
+                        return createNetworkInterface(createNetworkInterfaceRequest);
+                    }
+                });
     }
 
     /**
@@ -5780,19 +5466,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-              CreateNetworkInterfaceResult result;
-                try {
-                result = createNetworkInterface(createNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkInterfaceRequest, asyncHandler,
+                new Callable<CreateNetworkInterfaceResult>() {
+                    public CreateNetworkInterfaceResult call() throws Exception {
+                        return createNetworkInterface(createNetworkInterfaceRequest);
+                    }
+                });
     }
     
     /**
@@ -5841,11 +5520,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateAddressRequest,
+                new Callable<AssociateAddressResult>() {
+                    public AssociateAddressResult call() throws Exception {
+                        return associateAddress(associateAddressRequest);
+                    }
+                });
     }
 
     /**
@@ -5900,19 +5580,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-              AssociateAddressResult result;
-                try {
-                result = associateAddress(associateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateAddressRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateAddressRequest, asyncHandler,
+                new Callable<AssociateAddressResult>() {
+                    public AssociateAddressResult call() throws Exception {
+                        return associateAddress(associateAddressRequest);
+                    }
+                });
     }
     
     /**
@@ -5970,11 +5643,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceStatusRequest,
+                new Callable<DescribeInstanceStatusResult>() {
+                    public DescribeInstanceStatusResult call() throws Exception {
+                        return describeInstanceStatus(describeInstanceStatusRequest);
+                    }
+                });
     }
 
     /**
@@ -6038,19 +5712,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-              DescribeInstanceStatusResult result;
-                try {
-                result = describeInstanceStatus(describeInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceStatusRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceStatusRequest, asyncHandler,
+                new Callable<DescribeInstanceStatusResult>() {
+                    public DescribeInstanceStatusResult call() throws Exception {
+                        return describeInstanceStatus(describeInstanceStatusRequest);
+                    }
+                });
     }
     
     /**
@@ -6083,11 +5750,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-                return createVpcEndpoint(createVpcEndpointRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcEndpointRequest,
+                new Callable<CreateVpcEndpointResult>() {
+                    public CreateVpcEndpointResult call() throws Exception {
+                        return createVpcEndpoint(createVpcEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -6126,19 +5794,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcEndpointRequest createVpcEndpointRequest,
             final AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-              CreateVpcEndpointResult result;
-                try {
-                result = createVpcEndpoint(createVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcEndpointRequest, asyncHandler,
+                new Callable<CreateVpcEndpointResult>() {
+                    public CreateVpcEndpointResult call() throws Exception {
+                        return createVpcEndpoint(createVpcEndpointRequest);
+                    }
+                });
     }
     
     /**
@@ -6163,11 +5824,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-                return describeExportTasks(describeExportTasksRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeExportTasksRequest,
+                new Callable<DescribeExportTasksResult>() {
+                    public DescribeExportTasksResult call() throws Exception {
+                        return describeExportTasks(describeExportTasksRequest);
+                    }
+                });
     }
 
     /**
@@ -6198,19 +5860,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-              DescribeExportTasksResult result;
-                try {
-                result = describeExportTasks(describeExportTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExportTasksRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeExportTasksRequest, asyncHandler,
+                new Callable<DescribeExportTasksResult>() {
+                    public DescribeExportTasksResult call() throws Exception {
+                        return describeExportTasks(describeExportTasksRequest);
+                    }
+                });
     }
     
     /**
@@ -6260,11 +5915,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, startInstancesRequest,
+                new Callable<StartInstancesResult>() {
+                    public StartInstancesResult call() throws Exception {
+                        return startInstances(startInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -6320,19 +5976,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-              StartInstancesResult result;
-                try {
-                result = startInstances(startInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, startInstancesRequest, asyncHandler,
+                new Callable<StartInstancesResult>() {
+                    public StartInstancesResult call() throws Exception {
+                        return startInstances(startInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -6362,11 +6011,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -6402,19 +6052,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest, asyncHandler,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
     
     /**
@@ -6444,11 +6087,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceNetworkAclAssociationRequest,
+                new Callable<ReplaceNetworkAclAssociationResult>() {
+                    public ReplaceNetworkAclAssociationResult call() throws Exception {
+                        return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
+                    }
+                });
     }
 
     /**
@@ -6484,19 +6128,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-              ReplaceNetworkAclAssociationResult result;
-                try {
-                result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceNetworkAclAssociationRequest, asyncHandler,
+                new Callable<ReplaceNetworkAclAssociationResult>() {
+                    public ReplaceNetworkAclAssociationResult call() throws Exception {
+                        return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
+                    }
+                });
     }
     
     /**
@@ -6555,11 +6192,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSnapshotRequest,
+                new Callable<CreateSnapshotResult>() {
+                    public CreateSnapshotResult call() throws Exception {
+                        return createSnapshot(createSnapshotRequest);
+                    }
+                });
     }
 
     /**
@@ -6624,19 +6262,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSnapshotRequest, asyncHandler,
+                new Callable<CreateSnapshotResult>() {
+                    public CreateSnapshotResult call() throws Exception {
+                        return createSnapshot(createSnapshotRequest);
+                    }
+                });
     }
     
     /**
@@ -6662,11 +6293,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachNetworkInterfaceRequest,
+                new Callable<AttachNetworkInterfaceResult>() {
+                    public AttachNetworkInterfaceResult call() throws Exception {
+                        return attachNetworkInterface(attachNetworkInterfaceRequest);
+                    }
+                });
     }
 
     /**
@@ -6698,19 +6330,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-              AttachNetworkInterfaceResult result;
-                try {
-                result = attachNetworkInterface(attachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachNetworkInterfaceRequest, asyncHandler,
+                new Callable<AttachNetworkInterfaceResult>() {
+                    public AttachNetworkInterfaceResult call() throws Exception {
+                        return attachNetworkInterface(attachNetworkInterfaceRequest);
+                    }
+                });
     }
     
     /**
@@ -6764,11 +6389,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesListingsRequest,
+                new Callable<DescribeReservedInstancesListingsResult>() {
+                    public DescribeReservedInstancesListingsResult call() throws Exception {
+                        return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
+                    }
+                });
     }
 
     /**
@@ -6828,19 +6454,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-              DescribeReservedInstancesListingsResult result;
-                try {
-                result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesListingsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesListingsRequest, asyncHandler,
+                new Callable<DescribeReservedInstancesListingsResult>() {
+                    public DescribeReservedInstancesListingsResult call() throws Exception {
+                        return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
+                    }
+                });
     }
     
     /**
@@ -6872,12 +6491,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, deleteTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTags(deleteTagsRequest);
                 return null;
-        }
-    });
+            }
+        });
     }
 
     /**
@@ -6915,18 +6534,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteTagsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTags(deleteTagsRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -6954,11 +6568,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkInterfaceAttributeRequest,
+                new Callable<DescribeNetworkInterfaceAttributeResult>() {
+                    public DescribeNetworkInterfaceAttributeResult call() throws Exception {
+                        return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -6992,19 +6607,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-              DescribeNetworkInterfaceAttributeResult result;
-                try {
-                result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfaceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkInterfaceAttributeRequest, asyncHandler,
+                new Callable<DescribeNetworkInterfaceAttributeResult>() {
+                    public DescribeNetworkInterfaceAttributeResult call() throws Exception {
+                        return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -7032,12 +6640,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetImageAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetImageAttribute(resetImageAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7071,18 +6680,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetImageAttribute(resetImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetImageAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetImageAttribute(resetImageAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -7109,11 +6713,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImageAttributeRequest,
+                new Callable<DescribeImageAttributeResult>() {
+                    public DescribeImageAttributeResult call() throws Exception {
+                        return describeImageAttribute(describeImageAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -7146,19 +6751,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-              DescribeImageAttributeResult result;
-                try {
-                result = describeImageAttribute(describeImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImageAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImageAttributeRequest, asyncHandler,
+                new Callable<DescribeImageAttributeResult>() {
+                    public DescribeImageAttributeResult call() throws Exception {
+                        return describeImageAttribute(describeImageAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -7187,11 +6785,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describePlacementGroupsRequest,
+                new Callable<DescribePlacementGroupsResult>() {
+                    public DescribePlacementGroupsResult call() throws Exception {
+                        return describePlacementGroups(describePlacementGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -7226,19 +6825,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-              DescribePlacementGroupsResult result;
-                try {
-                result = describePlacementGroups(describePlacementGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePlacementGroupsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describePlacementGroupsRequest, asyncHandler,
+                new Callable<DescribePlacementGroupsResult>() {
+                    public DescribePlacementGroupsResult call() throws Exception {
+                        return describePlacementGroups(describePlacementGroupsRequest);
+                    }
+                });
     }
     
     /**
@@ -7277,12 +6869,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySnapshotAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifySnapshotAttribute(modifySnapshotAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7327,18 +6920,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySnapshotAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifySnapshotAttribute(modifySnapshotAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -7393,11 +6981,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSecurityGroupRequest,
+                new Callable<CreateSecurityGroupResult>() {
+                    public CreateSecurityGroupResult call() throws Exception {
+                        return createSecurityGroup(createSecurityGroupRequest);
+                    }
+                });
     }
 
     /**
@@ -7458,19 +7047,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-              CreateSecurityGroupResult result;
-                try {
-                result = createSecurityGroup(createSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSecurityGroupRequest, asyncHandler,
+                new Callable<CreateSecurityGroupResult>() {
+                    public CreateSecurityGroupResult call() throws Exception {
+                        return createSecurityGroup(createSecurityGroupRequest);
+                    }
+                });
     }
     
     /**
@@ -7522,11 +7104,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-                return createReservedInstancesListing(createReservedInstancesListingRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createReservedInstancesListingRequest,
+                new Callable<CreateReservedInstancesListingResult>() {
+                    public CreateReservedInstancesListingResult call() throws Exception {
+                        return createReservedInstancesListing(createReservedInstancesListingRequest);
+                    }
+                });
     }
 
     /**
@@ -7584,19 +7167,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-              CreateReservedInstancesListingResult result;
-                try {
-                result = createReservedInstancesListing(createReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createReservedInstancesListingRequest, asyncHandler,
+                new Callable<CreateReservedInstancesListingResult>() {
+                    public CreateReservedInstancesListingResult call() throws Exception {
+                        return createReservedInstancesListing(createReservedInstancesListingRequest);
+                    }
+                });
     }
     
     /**
@@ -7623,12 +7199,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkInterfaceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkInterface(deleteNetworkInterfaceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7661,18 +7238,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkInterfaceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkInterface(deleteNetworkInterfaceRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -7709,11 +7281,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceRouteTableAssociationRequest,
+                new Callable<ReplaceRouteTableAssociationResult>() {
+                    public ReplaceRouteTableAssociationResult call() throws Exception {
+                        return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
+                    }
+                });
     }
 
     /**
@@ -7756,19 +7329,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-              ReplaceRouteTableAssociationResult result;
-                try {
-                result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceRouteTableAssociationRequest, asyncHandler,
+                new Callable<ReplaceRouteTableAssociationResult>() {
+                    public ReplaceRouteTableAssociationResult call() throws Exception {
+                        return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
+                    }
+                });
     }
     
     /**
@@ -7813,12 +7379,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyIdFormat(modifyIdFormatRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyIdFormatRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyIdFormat(modifyIdFormatRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7869,18 +7436,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyIdFormatRequest modifyIdFormatRequest,
             final AsyncHandler<ModifyIdFormatRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyIdFormat(modifyIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyIdFormatRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyIdFormatRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyIdFormat(modifyIdFormatRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -7908,12 +7470,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachInternetGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachInternetGateway(detachInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7947,18 +7510,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachInternetGateway(detachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachInternetGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachInternetGateway(detachInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -7990,11 +7548,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumeAttributeRequest,
+                new Callable<DescribeVolumeAttributeResult>() {
+                    public DescribeVolumeAttributeResult call() throws Exception {
+                        return describeVolumeAttribute(describeVolumeAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -8032,19 +7591,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-              DescribeVolumeAttributeResult result;
-                try {
-                result = describeVolumeAttribute(describeVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumeAttributeRequest, asyncHandler,
+                new Callable<DescribeVolumeAttributeResult>() {
+                    public DescribeVolumeAttributeResult call() throws Exception {
+                        return describeVolumeAttribute(describeVolumeAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -8070,11 +7622,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-                return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetRequestsRequest,
+                new Callable<DescribeSpotFleetRequestsResult>() {
+                    public DescribeSpotFleetRequestsResult call() throws Exception {
+                        return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
+                    }
+                });
     }
 
     /**
@@ -8106,19 +7659,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
             final AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-              DescribeSpotFleetRequestsResult result;
-                try {
-                result = describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotFleetRequestsRequest, asyncHandler,
+                new Callable<DescribeSpotFleetRequestsResult>() {
+                    public DescribeSpotFleetRequestsResult call() throws Exception {
+                        return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
+                    }
+                });
     }
     
     /**
@@ -8146,12 +7692,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyNetworkInterfaceAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8185,18 +7732,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyNetworkInterfaceAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8223,12 +7765,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, unassignPrivateIpAddressesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8261,18 +7804,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, unassignPrivateIpAddressesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8301,12 +7839,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deregisterImageRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deregisterImage(deregisterImageRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8341,18 +7880,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deregisterImage(deregisterImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterImageRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deregisterImageRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deregisterImage(deregisterImageRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8385,12 +7919,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyInstanceAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyInstanceAttribute(modifyInstanceAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8429,18 +7964,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyInstanceAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyInstanceAttribute(modifyInstanceAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8473,12 +8003,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createPlacementGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createPlacementGroup(createPlacementGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8517,18 +8048,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createPlacementGroup(createPlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createPlacementGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createPlacementGroup(createPlacementGroupRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8558,11 +8084,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkAclsRequest,
+                new Callable<DescribeNetworkAclsResult>() {
+                    public DescribeNetworkAclsResult call() throws Exception {
+                        return describeNetworkAcls(describeNetworkAclsRequest);
+                    }
+                });
     }
 
     /**
@@ -8598,19 +8125,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-              DescribeNetworkAclsResult result;
-                try {
-                result = describeNetworkAcls(describeNetworkAclsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkAclsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkAclsRequest, asyncHandler,
+                new Callable<DescribeNetworkAclsResult>() {
+                    public DescribeNetworkAclsResult call() throws Exception {
+                        return describeNetworkAcls(describeNetworkAclsRequest);
+                    }
+                });
     }
     
     /**
@@ -8658,11 +8178,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getConsoleOutputRequest,
+                new Callable<GetConsoleOutputResult>() {
+                    public GetConsoleOutputResult call() throws Exception {
+                        return getConsoleOutput(getConsoleOutputRequest);
+                    }
+                });
     }
 
     /**
@@ -8716,19 +8237,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-              GetConsoleOutputResult result;
-                try {
-                result = getConsoleOutput(getConsoleOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleOutputRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getConsoleOutputRequest, asyncHandler,
+                new Callable<GetConsoleOutputResult>() {
+                    public GetConsoleOutputResult call() throws Exception {
+                        return getConsoleOutput(getConsoleOutputRequest);
+                    }
+                });
     }
     
     /**
@@ -8754,12 +8268,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachNetworkInterfaceRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachNetworkInterface(detachNetworkInterfaceRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -8791,18 +8306,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachNetworkInterfaceRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        detachNetworkInterface(detachNetworkInterfaceRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -8842,11 +8352,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotInstanceRequestsRequest,
+                new Callable<DescribeSpotInstanceRequestsResult>() {
+                    public DescribeSpotInstanceRequestsResult call() throws Exception {
+                        return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
+                    }
+                });
     }
 
     /**
@@ -8892,19 +8403,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-              DescribeSpotInstanceRequestsResult result;
-                try {
-                result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotInstanceRequestsRequest, asyncHandler,
+                new Callable<DescribeSpotInstanceRequestsResult>() {
+                    public DescribeSpotInstanceRequestsResult call() throws Exception {
+                        return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
+                    }
+                });
     }
     
     /**
@@ -8930,11 +8434,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-                return describeVpcAttribute(describeVpcAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcAttributeRequest,
+                new Callable<DescribeVpcAttributeResult>() {
+                    public DescribeVpcAttributeResult call() throws Exception {
+                        return describeVpcAttribute(describeVpcAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -8966,19 +8471,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-              DescribeVpcAttributeResult result;
-                try {
-                result = describeVpcAttribute(describeVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcAttributeRequest, asyncHandler,
+                new Callable<DescribeVpcAttributeResult>() {
+                    public DescribeVpcAttributeResult call() throws Exception {
+                        return describeVpcAttribute(describeVpcAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -9013,11 +8511,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importKeyPairRequest,
+                new Callable<ImportKeyPairResult>() {
+                    public ImportKeyPairResult call() throws Exception {
+                        return importKeyPair(importKeyPairRequest);
+                    }
+                });
     }
 
     /**
@@ -9058,19 +8557,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-              ImportKeyPairResult result;
-                try {
-                result = importKeyPair(importKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importKeyPairRequest, asyncHandler,
+                new Callable<ImportKeyPairResult>() {
+                    public ImportKeyPairResult call() throws Exception {
+                        return importKeyPair(importKeyPairRequest);
+                    }
+                });
     }
     
     /**
@@ -9101,11 +8593,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-                return createNatGateway(createNatGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNatGatewayRequest,
+                new Callable<CreateNatGatewayResult>() {
+                    public CreateNatGatewayResult call() throws Exception {
+                        return createNatGateway(createNatGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -9142,19 +8635,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNatGatewayRequest createNatGatewayRequest,
             final AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-              CreateNatGatewayResult result;
-                try {
-                result = createNatGateway(createNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNatGatewayRequest, asyncHandler,
+                new Callable<CreateNatGatewayResult>() {
+                    public CreateNatGatewayResult call() throws Exception {
+                        return createNatGateway(createNatGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -9213,11 +8699,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-                return createRoute(createRouteRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createRouteRequest,
+                new Callable<CreateRouteResult>() {
+                    public CreateRouteResult call() throws Exception {
+                        return createRoute(createRouteRequest);
+                    }
+                });
     }
 
     /**
@@ -9282,19 +8769,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-              CreateRouteResult result;
-                try {
-                result = createRoute(createRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createRouteRequest, asyncHandler,
+                new Callable<CreateRouteResult>() {
+                    public CreateRouteResult call() throws Exception {
+                        return createRoute(createRouteRequest);
+                    }
+                });
     }
     
     /**
@@ -9325,11 +8805,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, allocateAddressRequest,
+                new Callable<AllocateAddressResult>() {
+                    public AllocateAddressResult call() throws Exception {
+                        return allocateAddress(allocateAddressRequest);
+                    }
+                });
     }
 
     /**
@@ -9366,19 +8847,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-              AllocateAddressResult result;
-                try {
-                result = allocateAddress(allocateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateAddressRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, allocateAddressRequest, asyncHandler,
+                new Callable<AllocateAddressResult>() {
+                    public AllocateAddressResult call() throws Exception {
+                        return allocateAddress(allocateAddressRequest);
+                    }
+                });
     }
     
     /**
@@ -9404,11 +8878,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-                return describeScheduledInstances(describeScheduledInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledInstancesRequest,
+                new Callable<DescribeScheduledInstancesResult>() {
+                    public DescribeScheduledInstancesResult call() throws Exception {
+                        return describeScheduledInstances(describeScheduledInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -9440,19 +8915,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
             final AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-              DescribeScheduledInstancesResult result;
-                try {
-                result = describeScheduledInstances(describeScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledInstancesRequest, asyncHandler,
+                new Callable<DescribeScheduledInstancesResult>() {
+                    public DescribeScheduledInstancesResult call() throws Exception {
+                        return describeScheduledInstances(describeScheduledInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -9480,11 +8948,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-                return deleteNatGateway(deleteNatGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNatGatewayRequest,
+                new Callable<DeleteNatGatewayResult>() {
+                    public DeleteNatGatewayResult call() throws Exception {
+                        return deleteNatGateway(deleteNatGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -9518,19 +8987,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNatGatewayRequest deleteNatGatewayRequest,
             final AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-              DeleteNatGatewayResult result;
-                try {
-                result = deleteNatGateway(deleteNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNatGatewayRequest, asyncHandler,
+                new Callable<DeleteNatGatewayResult>() {
+                    public DeleteNatGatewayResult call() throws Exception {
+                        return deleteNatGateway(deleteNatGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -9577,12 +9039,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkAclEntryRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createNetworkAclEntry(createNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -9635,18 +9098,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createNetworkAclEntryRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createNetworkAclEntry(createNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -9684,11 +9142,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, bundleInstanceRequest,
+                new Callable<BundleInstanceResult>() {
+                    public BundleInstanceResult call() throws Exception {
+                        return bundleInstance(bundleInstanceRequest);
+                    }
+                });
     }
 
     /**
@@ -9732,19 +9191,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-              BundleInstanceResult result;
-                try {
-                result = bundleInstance(bundleInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(bundleInstanceRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, bundleInstanceRequest, asyncHandler,
+                new Callable<BundleInstanceResult>() {
+                    public BundleInstanceResult call() throws Exception {
+                        return bundleInstance(bundleInstanceRequest);
+                    }
+                });
     }
     
     /**
@@ -9776,11 +9228,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSecurityGroupsRequest,
+                new Callable<DescribeSecurityGroupsResult>() {
+                    public DescribeSecurityGroupsResult call() throws Exception {
+                        return describeSecurityGroups(describeSecurityGroupsRequest);
+                    }
+                });
     }
 
     /**
@@ -9818,19 +9271,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-              DescribeSecurityGroupsResult result;
-                try {
-                result = describeSecurityGroups(describeSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSecurityGroupsRequest, asyncHandler,
+                new Callable<DescribeSecurityGroupsResult>() {
+                    public DescribeSecurityGroupsResult call() throws Exception {
+                        return describeSecurityGroups(describeSecurityGroupsRequest);
+                    }
+                });
     }
     
     /**
@@ -9892,11 +9338,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, stopInstancesRequest,
+                new Callable<StopInstancesResult>() {
+                    public StopInstancesResult call() throws Exception {
+                        return stopInstances(stopInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -9964,19 +9411,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-              StopInstancesResult result;
-                try {
-                result = stopInstances(stopInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, stopInstancesRequest, asyncHandler,
+                new Callable<StopInstancesResult>() {
+                    public StopInstancesResult call() throws Exception {
+                        return stopInstances(stopInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -10019,11 +9459,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-                return describeIdFormat(describeIdFormatRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeIdFormatRequest,
+                new Callable<DescribeIdFormatResult>() {
+                    public DescribeIdFormatResult call() throws Exception {
+                        return describeIdFormat(describeIdFormatRequest);
+                    }
+                });
     }
 
     /**
@@ -10072,19 +9513,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeIdFormatRequest describeIdFormatRequest,
             final AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-              DescribeIdFormatResult result;
-                try {
-                result = describeIdFormat(describeIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdFormatRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeIdFormatRequest, asyncHandler,
+                new Callable<DescribeIdFormatResult>() {
+                    public DescribeIdFormatResult call() throws Exception {
+                        return describeIdFormat(describeIdFormatRequest);
+                    }
+                });
     }
     
     /**
@@ -10116,11 +9550,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnGatewayRequest,
+                new Callable<CreateVpnGatewayResult>() {
+                    public CreateVpnGatewayResult call() throws Exception {
+                        return createVpnGateway(createVpnGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -10158,19 +9593,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-              CreateVpnGatewayResult result;
-                try {
-                result = createVpnGateway(createVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnGatewayRequest, asyncHandler,
+                new Callable<CreateVpnGatewayResult>() {
+                    public CreateVpnGatewayResult call() throws Exception {
+                        return createVpnGateway(createVpnGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -10213,11 +9641,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachVolumeRequest,
+                new Callable<DetachVolumeResult>() {
+                    public DetachVolumeResult call() throws Exception {
+                        return detachVolume(detachVolumeRequest);
+                    }
+                });
     }
 
     /**
@@ -10266,19 +9695,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-              DetachVolumeResult result;
-                try {
-                result = detachVolume(detachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachVolumeRequest, asyncHandler,
+                new Callable<DetachVolumeResult>() {
+                    public DetachVolumeResult call() throws Exception {
+                        return detachVolume(detachVolumeRequest);
+                    }
+                });
     }
     
     /**
@@ -10310,11 +9732,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-                return modifyHosts(modifyHostsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyHostsRequest,
+                new Callable<ModifyHostsResult>() {
+                    public ModifyHostsResult call() throws Exception {
+                        return modifyHosts(modifyHostsRequest);
+                    }
+                });
     }
 
     /**
@@ -10352,19 +9775,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyHostsRequest modifyHostsRequest,
             final AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-              ModifyHostsResult result;
-                try {
-                result = modifyHosts(modifyHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHostsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyHostsRequest, asyncHandler,
+                new Callable<ModifyHostsResult>() {
+                    public ModifyHostsResult call() throws Exception {
+                        return modifyHosts(modifyHostsRequest);
+                    }
+                });
     }
     
     /**
@@ -10428,11 +9844,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, registerImageRequest,
+                new Callable<RegisterImageResult>() {
+                    public RegisterImageResult call() throws Exception {
+                        return registerImage(registerImageRequest);
+                    }
+                });
     }
 
     /**
@@ -10502,19 +9919,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-              RegisterImageResult result;
-                try {
-                result = registerImage(registerImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerImageRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, registerImageRequest, asyncHandler,
+                new Callable<RegisterImageResult>() {
+                    public RegisterImageResult call() throws Exception {
+                        return registerImage(registerImageRequest);
+                    }
+                });
     }
     
     /**
@@ -10552,12 +9962,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetInstanceAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetInstanceAttribute(resetInstanceAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -10601,18 +10012,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetInstanceAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetInstanceAttribute(resetInstanceAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -10654,11 +10060,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createKeyPairRequest,
+                new Callable<CreateKeyPairResult>() {
+                    public CreateKeyPairResult call() throws Exception {
+                        return createKeyPair(createKeyPairRequest);
+                    }
+                });
     }
 
     /**
@@ -10706,19 +10113,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-              CreateKeyPairResult result;
-                try {
-                result = createKeyPair(createKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createKeyPairRequest, asyncHandler,
+                new Callable<CreateKeyPairResult>() {
+                    public CreateKeyPairResult call() throws Exception {
+                        return createKeyPair(createKeyPairRequest);
+                    }
+                });
     }
     
     /**
@@ -10757,11 +10157,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachClassicLinkVpcRequest,
+                new Callable<AttachClassicLinkVpcResult>() {
+                    public AttachClassicLinkVpcResult call() throws Exception {
+                        return attachClassicLinkVpc(attachClassicLinkVpcRequest);
+                    }
+                });
     }
 
     /**
@@ -10806,19 +10207,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-              AttachClassicLinkVpcResult result;
-                try {
-                result = attachClassicLinkVpc(attachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, attachClassicLinkVpcRequest, asyncHandler,
+                new Callable<AttachClassicLinkVpcResult>() {
+                    public AttachClassicLinkVpcResult call() throws Exception {
+                        return attachClassicLinkVpc(attachClassicLinkVpcRequest);
+                    }
+                });
     }
     
     /**
@@ -10848,12 +10242,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyImageAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyImageAttribute(modifyImageAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -10889,18 +10284,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyImageAttribute(modifyImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyImageAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyImageAttribute(modifyImageAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -10927,11 +10317,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-                return disableVpcClassicLink(disableVpcClassicLinkRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVpcClassicLinkRequest,
+                new Callable<DisableVpcClassicLinkResult>() {
+                    public DisableVpcClassicLinkResult call() throws Exception {
+                        return disableVpcClassicLink(disableVpcClassicLinkRequest);
+                    }
+                });
     }
 
     /**
@@ -10964,19 +10355,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-              DisableVpcClassicLinkResult result;
-                try {
-                result = disableVpcClassicLink(disableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVpcClassicLinkRequest, asyncHandler,
+                new Callable<DisableVpcClassicLinkResult>() {
+                    public DisableVpcClassicLinkResult call() throws Exception {
+                        return disableVpcClassicLink(disableVpcClassicLinkRequest);
+                    }
+                });
     }
     
     /**
@@ -11003,12 +10387,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVgwRoutePropagationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -11041,18 +10426,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disableVgwRoutePropagationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -11083,12 +10463,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetSnapshotAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetSnapshotAttribute(resetSnapshotAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -11125,18 +10506,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetSnapshotAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetSnapshotAttribute(resetSnapshotAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -11172,12 +10548,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, assignPrivateIpAddressesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -11219,18 +10596,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, assignPrivateIpAddressesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -11264,11 +10636,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVpcClassicLinkDnsSupportRequest,
+                new Callable<EnableVpcClassicLinkDnsSupportResult>() {
+                    public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
 
     /**
@@ -11308,19 +10681,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-              EnableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVpcClassicLinkDnsSupportRequest, asyncHandler,
+                new Callable<EnableVpcClassicLinkDnsSupportResult>() {
+                    public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
     
     /**
@@ -11347,11 +10713,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-                return modifyVpcEndpoint(modifyVpcEndpointRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcEndpointRequest,
+                new Callable<ModifyVpcEndpointResult>() {
+                    public ModifyVpcEndpointResult call() throws Exception {
+                        return modifyVpcEndpoint(modifyVpcEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -11384,19 +10751,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcEndpointRequest modifyVpcEndpointRequest,
             final AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-              ModifyVpcEndpointResult result;
-                try {
-                result = modifyVpcEndpoint(modifyVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcEndpointRequest, asyncHandler,
+                new Callable<ModifyVpcEndpointResult>() {
+                    public ModifyVpcEndpointResult call() throws Exception {
+                        return modifyVpcEndpoint(modifyVpcEndpointRequest);
+                    }
+                });
     }
     
     /**
@@ -11422,11 +10782,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkInterfacesRequest,
+                new Callable<DescribeNetworkInterfacesResult>() {
+                    public DescribeNetworkInterfacesResult call() throws Exception {
+                        return describeNetworkInterfaces(describeNetworkInterfacesRequest);
+                    }
+                });
     }
 
     /**
@@ -11458,19 +10819,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-              DescribeNetworkInterfacesResult result;
-                try {
-                result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfacesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNetworkInterfacesRequest, asyncHandler,
+                new Callable<DescribeNetworkInterfacesResult>() {
+                    public DescribeNetworkInterfacesResult call() throws Exception {
+                        return describeNetworkInterfaces(describeNetworkInterfacesRequest);
+                    }
+                });
     }
     
     /**
@@ -11506,11 +10860,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelSpotInstanceRequestsRequest,
+                new Callable<CancelSpotInstanceRequestsResult>() {
+                    public CancelSpotInstanceRequestsResult call() throws Exception {
+                        return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
+                    }
+                });
     }
 
     /**
@@ -11552,19 +10907,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-              CancelSpotInstanceRequestsResult result;
-                try {
-                result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelSpotInstanceRequestsRequest, asyncHandler,
+                new Callable<CancelSpotInstanceRequestsResult>() {
+                    public CancelSpotInstanceRequestsResult call() throws Exception {
+                        return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
+                    }
+                });
     }
     
     /**
@@ -11592,11 +10940,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, monitorInstancesRequest,
+                new Callable<MonitorInstancesResult>() {
+                    public MonitorInstancesResult call() throws Exception {
+                        return monitorInstances(monitorInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -11630,19 +10979,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-              MonitorInstancesResult result;
-                try {
-                result = monitorInstances(monitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(monitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, monitorInstancesRequest, asyncHandler,
+                new Callable<MonitorInstancesResult>() {
+                    public MonitorInstancesResult call() throws Exception {
+                        return monitorInstances(monitorInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -11675,11 +11017,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelReservedInstancesListingRequest,
+                new Callable<CancelReservedInstancesListingResult>() {
+                    public CancelReservedInstancesListingResult call() throws Exception {
+                        return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
+                    }
+                });
     }
 
     /**
@@ -11718,19 +11061,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-              CancelReservedInstancesListingResult result;
-                try {
-                result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelReservedInstancesListingRequest, asyncHandler,
+                new Callable<CancelReservedInstancesListingResult>() {
+                    public CancelReservedInstancesListingResult call() throws Exception {
+                        return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
+                    }
+                });
     }
     
     /**
@@ -11760,11 +11096,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeKeyPairsRequest,
+                new Callable<DescribeKeyPairsResult>() {
+                    public DescribeKeyPairsResult call() throws Exception {
+                        return describeKeyPairs(describeKeyPairsRequest);
+                    }
+                });
     }
 
     /**
@@ -11800,19 +11137,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-              DescribeKeyPairsResult result;
-                try {
-                result = describeKeyPairs(describeKeyPairsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyPairsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeKeyPairsRequest, asyncHandler,
+                new Callable<DescribeKeyPairsResult>() {
+                    public DescribeKeyPairsResult call() throws Exception {
+                        return describeKeyPairs(describeKeyPairsRequest);
+                    }
+                });
     }
     
     /**
@@ -11873,11 +11203,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-                return describeAccountAttributes(describeAccountAttributesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAccountAttributesRequest,
+                new Callable<DescribeAccountAttributesResult>() {
+                    public DescribeAccountAttributesResult call() throws Exception {
+                        return describeAccountAttributes(describeAccountAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -11944,19 +11275,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-              DescribeAccountAttributesResult result;
-                try {
-                result = describeAccountAttributes(describeAccountAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountAttributesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAccountAttributesRequest, asyncHandler,
+                new Callable<DescribeAccountAttributesResult>() {
+                    public DescribeAccountAttributesResult call() throws Exception {
+                        return describeAccountAttributes(describeAccountAttributesRequest);
+                    }
+                });
     }
     
     /**
@@ -11987,11 +11311,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpnConnectionsRequest,
+                new Callable<DescribeVpnConnectionsResult>() {
+                    public DescribeVpnConnectionsResult call() throws Exception {
+                        return describeVpnConnections(describeVpnConnectionsRequest);
+                    }
+                });
     }
 
     /**
@@ -12028,19 +11353,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-              DescribeVpnConnectionsResult result;
-                try {
-                result = describeVpnConnections(describeVpnConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpnConnectionsRequest, asyncHandler,
+                new Callable<DescribeVpnConnectionsResult>() {
+                    public DescribeVpnConnectionsResult call() throws Exception {
+                        return describeVpnConnections(describeVpnConnectionsRequest);
+                    }
+                });
     }
     
     /**
@@ -12071,11 +11389,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, requestSpotInstancesRequest,
+                new Callable<RequestSpotInstancesResult>() {
+                    public RequestSpotInstancesResult call() throws Exception {
+                        return requestSpotInstances(requestSpotInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -12112,19 +11431,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-              RequestSpotInstancesResult result;
-                try {
-                result = requestSpotInstances(requestSpotInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, requestSpotInstancesRequest, asyncHandler,
+                new Callable<RequestSpotInstancesResult>() {
+                    public RequestSpotInstancesResult call() throws Exception {
+                        return requestSpotInstances(requestSpotInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -12149,11 +11461,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-                return cancelImportTask(cancelImportTaskRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelImportTaskRequest,
+                new Callable<CancelImportTaskResult>() {
+                    public CancelImportTaskResult call() throws Exception {
+                        return cancelImportTask(cancelImportTaskRequest);
+                    }
+                });
     }
 
     /**
@@ -12184,19 +11497,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelImportTaskRequest cancelImportTaskRequest,
             final AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-              CancelImportTaskResult result;
-                try {
-                result = cancelImportTask(cancelImportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelImportTaskRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelImportTaskRequest, asyncHandler,
+                new Callable<CancelImportTaskResult>() {
+                    public CancelImportTaskResult call() throws Exception {
+                        return cancelImportTask(cancelImportTaskRequest);
+                    }
+                });
     }
     
     /**
@@ -12226,11 +11532,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpnGatewaysRequest,
+                new Callable<DescribeVpnGatewaysResult>() {
+                    public DescribeVpnGatewaysResult call() throws Exception {
+                        return describeVpnGateways(describeVpnGatewaysRequest);
+                    }
+                });
     }
 
     /**
@@ -12266,19 +11573,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-              DescribeVpnGatewaysResult result;
-                try {
-                result = describeVpnGateways(describeVpnGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpnGatewaysRequest, asyncHandler,
+                new Callable<DescribeVpnGatewaysResult>() {
+                    public DescribeVpnGatewaysResult call() throws Exception {
+                        return describeVpnGateways(describeVpnGatewaysRequest);
+                    }
+                });
     }
     
     /**
@@ -12307,11 +11607,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-                return getConsoleScreenshot(getConsoleScreenshotRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getConsoleScreenshotRequest,
+                new Callable<GetConsoleScreenshotResult>() {
+                    public GetConsoleScreenshotResult call() throws Exception {
+                        return getConsoleScreenshot(getConsoleScreenshotRequest);
+                    }
+                });
     }
 
     /**
@@ -12346,19 +11647,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleScreenshotRequest getConsoleScreenshotRequest,
             final AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-              GetConsoleScreenshotResult result;
-                try {
-                result = getConsoleScreenshot(getConsoleScreenshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleScreenshotRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getConsoleScreenshotRequest, asyncHandler,
+                new Callable<GetConsoleScreenshotResult>() {
+                    public GetConsoleScreenshotResult call() throws Exception {
+                        return getConsoleScreenshot(getConsoleScreenshotRequest);
+                    }
+                });
     }
     
     /**
@@ -12389,11 +11683,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createRouteTableRequest,
+                new Callable<CreateRouteTableResult>() {
+                    public CreateRouteTableResult call() throws Exception {
+                        return createRouteTable(createRouteTableRequest);
+                    }
+                });
     }
 
     /**
@@ -12430,19 +11725,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-              CreateRouteTableResult result;
-                try {
-                result = createRouteTable(createRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createRouteTableRequest, asyncHandler,
+                new Callable<CreateRouteTableResult>() {
+                    public CreateRouteTableResult call() throws Exception {
+                        return createRouteTable(createRouteTableRequest);
+                    }
+                });
     }
     
     /**
@@ -12481,11 +11769,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-                return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledInstanceAvailabilityRequest,
+                new Callable<DescribeScheduledInstanceAvailabilityResult>() {
+                    public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
+                        return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
+                    }
+                });
     }
 
     /**
@@ -12530,19 +11819,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
             final AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-              DescribeScheduledInstanceAvailabilityResult result;
-                try {
-                result = describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstanceAvailabilityRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeScheduledInstanceAvailabilityRequest, asyncHandler,
+                new Callable<DescribeScheduledInstanceAvailabilityResult>() {
+                    public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
+                        return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
+                    }
+                });
     }
     
     /**
@@ -12576,11 +11858,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-                return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcClassicLinkDnsSupportRequest,
+                new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
+                    public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
 
     /**
@@ -12620,19 +11903,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-              DescribeVpcClassicLinkDnsSupportResult result;
-                try {
-                result = describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcClassicLinkDnsSupportRequest, asyncHandler,
+                new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
+                    public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
+                        return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
+                    }
+                });
     }
     
     /**
@@ -12660,11 +11936,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, unmonitorInstancesRequest,
+                new Callable<UnmonitorInstancesResult>() {
+                    public UnmonitorInstancesResult call() throws Exception {
+                        return unmonitorInstances(unmonitorInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -12698,19 +11975,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-              UnmonitorInstancesResult result;
-                try {
-                result = unmonitorInstances(unmonitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unmonitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, unmonitorInstancesRequest, asyncHandler,
+                new Callable<UnmonitorInstancesResult>() {
+                    public UnmonitorInstancesResult call() throws Exception {
+                        return unmonitorInstances(unmonitorInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -12737,12 +12007,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteRouteTableRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteRouteTable(deleteRouteTableRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -12775,18 +12046,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRouteTable(deleteRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteRouteTableRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteRouteTable(deleteRouteTableRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -12838,11 +12104,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-                return modifySpotFleetRequest(modifySpotFleetRequestRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySpotFleetRequestRequest,
+                new Callable<ModifySpotFleetRequestResult>() {
+                    public ModifySpotFleetRequestResult call() throws Exception {
+                        return modifySpotFleetRequest(modifySpotFleetRequestRequest);
+                    }
+                });
     }
 
     /**
@@ -12900,19 +12167,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
             final AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-              ModifySpotFleetRequestResult result;
-                try {
-                result = modifySpotFleetRequest(modifySpotFleetRequestRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySpotFleetRequestRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySpotFleetRequestRequest, asyncHandler,
+                new Callable<ModifySpotFleetRequestResult>() {
+                    public ModifySpotFleetRequestResult call() throws Exception {
+                        return modifySpotFleetRequest(modifySpotFleetRequestRequest);
+                    }
+                });
     }
     
     /**
@@ -12951,11 +12211,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcPeeringConnectionRequest,
+                new Callable<CreateVpcPeeringConnectionResult>() {
+                    public CreateVpcPeeringConnectionResult call() throws Exception {
+                        return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -13000,19 +12261,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-              CreateVpcPeeringConnectionResult result;
-                try {
-                result = createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcPeeringConnectionRequest, asyncHandler,
+                new Callable<CreateVpcPeeringConnectionResult>() {
+                    public CreateVpcPeeringConnectionResult call() throws Exception {
+                        return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
+                    }
+                });
     }
     
     /**
@@ -13042,11 +12296,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeDhcpOptionsRequest,
+                new Callable<DescribeDhcpOptionsResult>() {
+                    public DescribeDhcpOptionsResult call() throws Exception {
+                        return describeDhcpOptions(describeDhcpOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -13082,19 +12337,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-              DescribeDhcpOptionsResult result;
-                try {
-                result = describeDhcpOptions(describeDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeDhcpOptionsRequest, asyncHandler,
+                new Callable<DescribeDhcpOptionsResult>() {
+                    public DescribeDhcpOptionsResult call() throws Exception {
+                        return describeDhcpOptions(describeDhcpOptionsRequest);
+                    }
+                });
     }
     
     /**
@@ -13119,12 +12367,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyVpcAttribute(modifyVpcAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -13155,18 +12404,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifyVpcAttribute(modifyVpcAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -13192,12 +12436,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySubnetAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifySubnetAttribute(modifySubnetAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -13229,18 +12474,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySubnetAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifySubnetAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        modifySubnetAttribute(modifySubnetAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -13270,11 +12510,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, acceptVpcPeeringConnectionRequest,
+                new Callable<AcceptVpcPeeringConnectionResult>() {
+                    public AcceptVpcPeeringConnectionResult call() throws Exception {
+                        return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -13310,19 +12551,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-              AcceptVpcPeeringConnectionResult result;
-                try {
-                result = acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(acceptVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, acceptVpcPeeringConnectionRequest, asyncHandler,
+                new Callable<AcceptVpcPeeringConnectionResult>() {
+                    public AcceptVpcPeeringConnectionResult call() throws Exception {
+                        return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
+                    }
+                });
     }
     
     /**
@@ -13354,11 +12588,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-                return copyImage(copyImageRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, copyImageRequest,
+                new Callable<CopyImageResult>() {
+                    public CopyImageResult call() throws Exception {
+                        return copyImage(copyImageRequest);
+                    }
+                });
     }
 
     /**
@@ -13396,19 +12631,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-              CopyImageResult result;
-                try {
-                result = copyImage(copyImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyImageRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, copyImageRequest, asyncHandler,
+                new Callable<CopyImageResult>() {
+                    public CopyImageResult call() throws Exception {
+                        return copyImage(copyImageRequest);
+                    }
+                });
     }
     
     /**
@@ -13436,12 +12664,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteDhcpOptionsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteDhcpOptions(deleteDhcpOptionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -13475,18 +12704,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteDhcpOptionsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteDhcpOptions(deleteDhcpOptionsRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -13526,11 +12750,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumesRequest,
+                new Callable<DescribeVolumesResult>() {
+                    public DescribeVolumesResult call() throws Exception {
+                        return describeVolumes(describeVolumesRequest);
+                    }
+                });
     }
 
     /**
@@ -13576,19 +12801,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumesRequest, asyncHandler,
+                new Callable<DescribeVolumesResult>() {
+                    public DescribeVolumesResult call() throws Exception {
+                        return describeVolumes(describeVolumesRequest);
+                    }
+                });
     }
     
     /**
@@ -13614,12 +12832,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkAclRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkAcl(deleteNetworkAclRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -13651,18 +12870,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkAclRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkAcl(deleteNetworkAclRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -13698,12 +12912,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnConnectionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnConnection(deleteVpnConnectionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -13745,18 +12960,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnConnectionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnConnection(deleteVpnConnectionRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -13791,11 +13001,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-                return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelSpotFleetRequestsRequest,
+                new Callable<CancelSpotFleetRequestsResult>() {
+                    public CancelSpotFleetRequestsResult call() throws Exception {
+                        return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
+                    }
+                });
     }
 
     /**
@@ -13836,19 +13047,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
             final AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-              CancelSpotFleetRequestsResult result;
-                try {
-                result = cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelSpotFleetRequestsRequest, asyncHandler,
+                new Callable<CancelSpotFleetRequestsResult>() {
+                    public CancelSpotFleetRequestsResult call() throws Exception {
+                        return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
+                    }
+                });
     }
     
     /**
@@ -13901,11 +13105,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-                return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcPeeringConnectionOptionsRequest,
+                new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
+                    public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
+                        return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -13964,19 +13169,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest,
             final AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-              ModifyVpcPeeringConnectionOptionsResult result;
-                try {
-                result = modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcPeeringConnectionOptionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyVpcPeeringConnectionOptionsRequest, asyncHandler,
+                new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
+                    public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
+                        return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
+                    }
+                });
     }
     
     /**
@@ -14069,11 +13267,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSnapshotsRequest,
+                new Callable<DescribeSnapshotsResult>() {
+                    public DescribeSnapshotsResult call() throws Exception {
+                        return describeSnapshots(describeSnapshotsRequest);
+                    }
+                });
     }
 
     /**
@@ -14172,19 +13371,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSnapshotsRequest, asyncHandler,
+                new Callable<DescribeSnapshotsResult>() {
+                    public DescribeSnapshotsResult call() throws Exception {
+                        return describeSnapshots(describeSnapshotsRequest);
+                    }
+                });
     }
     
     /**
@@ -14213,11 +13405,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-                return describePrefixLists(describePrefixListsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describePrefixListsRequest,
+                new Callable<DescribePrefixListsResult>() {
+                    public DescribePrefixListsResult call() throws Exception {
+                        return describePrefixLists(describePrefixListsRequest);
+                    }
+                });
     }
 
     /**
@@ -14252,19 +13445,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePrefixListsRequest describePrefixListsRequest,
             final AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-              DescribePrefixListsResult result;
-                try {
-                result = describePrefixLists(describePrefixListsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePrefixListsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describePrefixListsRequest, asyncHandler,
+                new Callable<DescribePrefixListsResult>() {
+                    public DescribePrefixListsResult call() throws Exception {
+                        return describePrefixLists(describePrefixListsRequest);
+                    }
+                });
     }
     
     /**
@@ -14293,12 +13479,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceNetworkAclEntryRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -14333,18 +13520,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, replaceNetworkAclEntryRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -14380,11 +13562,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-                return createFlowLogs(createFlowLogsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createFlowLogsRequest,
+                new Callable<CreateFlowLogsResult>() {
+                    public CreateFlowLogsResult call() throws Exception {
+                        return createFlowLogs(createFlowLogsRequest);
+                    }
+                });
     }
 
     /**
@@ -14426,19 +13609,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateFlowLogsRequest createFlowLogsRequest,
             final AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-              CreateFlowLogsResult result;
-                try {
-                result = createFlowLogs(createFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createFlowLogsRequest, asyncHandler,
+                new Callable<CreateFlowLogsResult>() {
+                    public CreateFlowLogsResult call() throws Exception {
+                        return createFlowLogs(createFlowLogsRequest);
+                    }
+                });
     }
     
     /**
@@ -14465,12 +13641,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteInternetGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteInternetGateway(deleteInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -14503,18 +13680,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteInternetGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteInternetGateway(deleteInternetGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -14586,11 +13758,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumeStatusRequest,
+                new Callable<DescribeVolumeStatusResult>() {
+                    public DescribeVolumeStatusResult call() throws Exception {
+                        return describeVolumeStatus(describeVolumeStatusRequest);
+                    }
+                });
     }
 
     /**
@@ -14668,19 +13841,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-              DescribeVolumeStatusResult result;
-                try {
-                result = describeVolumeStatus(describeVolumeStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeStatusRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVolumeStatusRequest, asyncHandler,
+                new Callable<DescribeVolumeStatusResult>() {
+                    public DescribeVolumeStatusResult call() throws Exception {
+                        return describeVolumeStatus(describeVolumeStatusRequest);
+                    }
+                });
     }
     
     /**
@@ -14707,12 +13873,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSpotDatafeedSubscriptionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -14745,18 +13912,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSpotDatafeedSubscriptionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -14805,11 +13967,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-                return modifyInstancePlacement(modifyInstancePlacementRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyInstancePlacementRequest,
+                new Callable<ModifyInstancePlacementResult>() {
+                    public ModifyInstancePlacementResult call() throws Exception {
+                        return modifyInstancePlacement(modifyInstancePlacementRequest);
+                    }
+                });
     }
 
     /**
@@ -14864,19 +14027,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstancePlacementRequest modifyInstancePlacementRequest,
             final AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-              ModifyInstancePlacementResult result;
-                try {
-                result = modifyInstancePlacement(modifyInstancePlacementRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstancePlacementRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, modifyInstancePlacementRequest, asyncHandler,
+                new Callable<ModifyInstancePlacementResult>() {
+                    public ModifyInstancePlacementResult call() throws Exception {
+                        return modifyInstancePlacement(modifyInstancePlacementRequest);
+                    }
+                });
     }
     
     /**
@@ -14902,11 +14058,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelBundleTaskRequest,
+                new Callable<CancelBundleTaskResult>() {
+                    public CancelBundleTaskResult call() throws Exception {
+                        return cancelBundleTask(cancelBundleTaskRequest);
+                    }
+                });
     }
 
     /**
@@ -14938,19 +14095,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-              CancelBundleTaskResult result;
-                try {
-                result = cancelBundleTask(cancelBundleTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelBundleTaskRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, cancelBundleTaskRequest, asyncHandler,
+                new Callable<CancelBundleTaskResult>() {
+                    public CancelBundleTaskResult call() throws Exception {
+                        return cancelBundleTask(cancelBundleTaskRequest);
+                    }
+                });
     }
     
     /**
@@ -14982,11 +14132,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createInternetGatewayRequest,
+                new Callable<CreateInternetGatewayResult>() {
+                    public CreateInternetGatewayResult call() throws Exception {
+                        return createInternetGateway(createInternetGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -15024,19 +14175,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-              CreateInternetGatewayResult result;
-                try {
-                result = createInternetGateway(createInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInternetGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createInternetGatewayRequest, asyncHandler,
+                new Callable<CreateInternetGatewayResult>() {
+                    public CreateInternetGatewayResult call() throws Exception {
+                        return createInternetGateway(createInternetGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -15084,11 +14228,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-                return requestSpotFleet(requestSpotFleetRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, requestSpotFleetRequest,
+                new Callable<RequestSpotFleetResult>() {
+                    public RequestSpotFleetResult call() throws Exception {
+                        return requestSpotFleet(requestSpotFleetRequest);
+                    }
+                });
     }
 
     /**
@@ -15142,19 +14287,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotFleetRequest requestSpotFleetRequest,
             final AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-              RequestSpotFleetResult result;
-                try {
-                result = requestSpotFleet(requestSpotFleetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotFleetRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, requestSpotFleetRequest, asyncHandler,
+                new Callable<RequestSpotFleetResult>() {
+                    public RequestSpotFleetResult call() throws Exception {
+                        return requestSpotFleet(requestSpotFleetRequest);
+                    }
+                });
     }
     
     /**
@@ -15185,11 +14323,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesRequest,
+                new Callable<DescribeReservedInstancesResult>() {
+                    public DescribeReservedInstancesResult call() throws Exception {
+                        return describeReservedInstances(describeReservedInstancesRequest);
+                    }
+                });
     }
 
     /**
@@ -15226,19 +14365,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-              DescribeReservedInstancesResult result;
-                try {
-                result = describeReservedInstances(describeReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeReservedInstancesRequest, asyncHandler,
+                new Callable<DescribeReservedInstancesResult>() {
+                    public DescribeReservedInstancesResult call() throws Exception {
+                        return describeReservedInstances(describeReservedInstancesRequest);
+                    }
+                });
     }
     
     /**
@@ -15267,11 +14399,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-                return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSecurityGroupReferencesRequest,
+                new Callable<DescribeSecurityGroupReferencesResult>() {
+                    public DescribeSecurityGroupReferencesResult call() throws Exception {
+                        return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
+                    }
+                });
     }
 
     /**
@@ -15306,19 +14439,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest,
             final AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-              DescribeSecurityGroupReferencesResult result;
-                try {
-                result = describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupReferencesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSecurityGroupReferencesRequest, asyncHandler,
+                new Callable<DescribeSecurityGroupReferencesResult>() {
+                    public DescribeSecurityGroupReferencesResult call() throws Exception {
+                        return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
+                    }
+                });
     }
     
     /**
@@ -15344,11 +14470,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-                return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImportSnapshotTasksRequest,
+                new Callable<DescribeImportSnapshotTasksResult>() {
+                    public DescribeImportSnapshotTasksResult call() throws Exception {
+                        return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
+                    }
+                });
     }
 
     /**
@@ -15380,19 +14507,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
             final AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-              DescribeImportSnapshotTasksResult result;
-                try {
-                result = describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportSnapshotTasksRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeImportSnapshotTasksRequest, asyncHandler,
+                new Callable<DescribeImportSnapshotTasksResult>() {
+                    public DescribeImportSnapshotTasksResult call() throws Exception {
+                        return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
+                    }
+                });
     }
     
     /**
@@ -15425,11 +14545,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-                return enableVpcClassicLink(enableVpcClassicLinkRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVpcClassicLinkRequest,
+                new Callable<EnableVpcClassicLinkResult>() {
+                    public EnableVpcClassicLinkResult call() throws Exception {
+                        return enableVpcClassicLink(enableVpcClassicLinkRequest);
+                    }
+                });
     }
 
     /**
@@ -15468,19 +14589,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-              EnableVpcClassicLinkResult result;
-                try {
-                result = enableVpcClassicLink(enableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, enableVpcClassicLinkRequest, asyncHandler,
+                new Callable<EnableVpcClassicLinkResult>() {
+                    public EnableVpcClassicLinkResult call() throws Exception {
+                        return enableVpcClassicLink(enableVpcClassicLinkRequest);
+                    }
+                });
     }
     
     /**
@@ -15510,12 +14624,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, deleteVpcRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpc(deleteVpcRequest);
                 return null;
-        }
-    });
+            }
+        });
     }
 
     /**
@@ -15551,18 +14665,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpc(deleteVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpcRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpc(deleteVpcRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -15589,11 +14698,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-                return describeFlowLogs(describeFlowLogsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeFlowLogsRequest,
+                new Callable<DescribeFlowLogsResult>() {
+                    public DescribeFlowLogsResult call() throws Exception {
+                        return describeFlowLogs(describeFlowLogsRequest);
+                    }
+                });
     }
 
     /**
@@ -15626,19 +14736,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeFlowLogsRequest describeFlowLogsRequest,
             final AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-              DescribeFlowLogsResult result;
-                try {
-                result = describeFlowLogs(describeFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeFlowLogsRequest, asyncHandler,
+                new Callable<DescribeFlowLogsResult>() {
+                    public DescribeFlowLogsResult call() throws Exception {
+                        return describeFlowLogs(describeFlowLogsRequest);
+                    }
+                });
     }
     
     /**
@@ -15694,11 +14797,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSubnetRequest,
+                new Callable<CreateSubnetResult>() {
+                    public CreateSubnetResult call() throws Exception {
+                        return createSubnet(createSubnetRequest);
+                    }
+                });
     }
 
     /**
@@ -15760,19 +14864,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-              CreateSubnetResult result;
-                try {
-                result = createSubnet(createSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSubnetRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createSubnetRequest, asyncHandler,
+                new Callable<CreateSubnetResult>() {
+                    public CreateSubnetResult call() throws Exception {
+                        return createSubnet(createSubnetRequest);
+                    }
+                });
     }
     
     /**
@@ -15800,12 +14897,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetNetworkInterfaceAttributeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -15839,18 +14937,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, resetNetworkInterfaceAttributeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -15889,11 +14982,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-                return releaseHosts(releaseHostsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, releaseHostsRequest,
+                new Callable<ReleaseHostsResult>() {
+                    public ReleaseHostsResult call() throws Exception {
+                        return releaseHosts(releaseHostsRequest);
+                    }
+                });
     }
 
     /**
@@ -15938,19 +15032,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseHostsRequest releaseHostsRequest,
             final AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-              ReleaseHostsResult result;
-                try {
-                result = releaseHosts(releaseHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseHostsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, releaseHostsRequest, asyncHandler,
+                new Callable<ReleaseHostsResult>() {
+                    public ReleaseHostsResult call() throws Exception {
+                        return releaseHosts(releaseHostsRequest);
+                    }
+                });
     }
     
     /**
@@ -15984,12 +15071,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, reportInstanceStatusRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        reportInstanceStatus(reportInstanceStatusRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -16029,18 +15117,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                reportInstanceStatus(reportInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportInstanceStatusRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, reportInstanceStatusRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        reportInstanceStatus(reportInstanceStatusRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -16065,11 +15148,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-                return describeNatGateways(describeNatGatewaysRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNatGatewaysRequest,
+                new Callable<DescribeNatGatewaysResult>() {
+                    public DescribeNatGatewaysResult call() throws Exception {
+                        return describeNatGateways(describeNatGatewaysRequest);
+                    }
+                });
     }
 
     /**
@@ -16100,19 +15184,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNatGatewaysRequest describeNatGatewaysRequest,
             final AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-              DescribeNatGatewaysResult result;
-                try {
-                result = describeNatGateways(describeNatGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNatGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeNatGatewaysRequest, asyncHandler,
+                new Callable<DescribeNatGatewaysResult>() {
+                    public DescribeNatGatewaysResult call() throws Exception {
+                        return describeNatGateways(describeNatGatewaysRequest);
+                    }
+                });
     }
     
     /**
@@ -16139,11 +15216,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcPeeringConnectionsRequest,
+                new Callable<DescribeVpcPeeringConnectionsResult>() {
+                    public DescribeVpcPeeringConnectionsResult call() throws Exception {
+                        return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
+                    }
+                });
     }
 
     /**
@@ -16176,19 +15254,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-              DescribeVpcPeeringConnectionsResult result;
-                try {
-                result = describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcPeeringConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcPeeringConnectionsRequest, asyncHandler,
+                new Callable<DescribeVpcPeeringConnectionsResult>() {
+                    public DescribeVpcPeeringConnectionsResult call() throws Exception {
+                        return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
+                    }
+                });
     }
     
     /**
@@ -16235,11 +15306,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVolumeRequest,
+                new Callable<CreateVolumeResult>() {
+                    public CreateVolumeResult call() throws Exception {
+                        return createVolume(createVolumeRequest);
+                    }
+                });
     }
 
     /**
@@ -16292,19 +15364,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-              CreateVolumeResult result;
-                try {
-                result = createVolume(createVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVolumeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVolumeRequest, asyncHandler,
+                new Callable<CreateVolumeResult>() {
+                    public CreateVolumeResult call() throws Exception {
+                        return createVolume(createVolumeRequest);
+                    }
+                });
     }
     
     /**
@@ -16340,11 +15405,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importVolumeRequest,
+                new Callable<ImportVolumeResult>() {
+                    public ImportVolumeResult call() throws Exception {
+                        return importVolume(importVolumeRequest);
+                    }
+                });
     }
 
     /**
@@ -16386,19 +15452,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-              ImportVolumeResult result;
-                try {
-                result = importVolume(importVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importVolumeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, importVolumeRequest, asyncHandler,
+                new Callable<ImportVolumeResult>() {
+                    public ImportVolumeResult call() throws Exception {
+                        return importVolume(importVolumeRequest);
+                    }
+                });
     }
     
     /**
@@ -16430,11 +15489,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-                return createInstanceExportTask(createInstanceExportTaskRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createInstanceExportTaskRequest,
+                new Callable<CreateInstanceExportTaskResult>() {
+                    public CreateInstanceExportTaskResult call() throws Exception {
+                        return createInstanceExportTask(createInstanceExportTaskRequest);
+                    }
+                });
     }
 
     /**
@@ -16472,19 +15532,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-              CreateInstanceExportTaskResult result;
-                try {
-                result = createInstanceExportTask(createInstanceExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceExportTaskRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createInstanceExportTaskRequest, asyncHandler,
+                new Callable<CreateInstanceExportTaskResult>() {
+                    public CreateInstanceExportTaskResult call() throws Exception {
+                        return createInstanceExportTask(createInstanceExportTaskRequest);
+                    }
+                });
     }
     
     /**
@@ -16510,12 +15563,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteKeyPairRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteKeyPair(deleteKeyPairRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -16547,18 +15601,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteKeyPair(deleteKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteKeyPairRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteKeyPairRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteKeyPair(deleteKeyPairRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -16589,11 +15638,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAddressesRequest,
+                new Callable<DescribeAddressesResult>() {
+                    public DescribeAddressesResult call() throws Exception {
+                        return describeAddresses(describeAddressesRequest);
+                    }
+                });
     }
 
     /**
@@ -16630,19 +15680,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-              DescribeAddressesResult result;
-                try {
-                result = describeAddresses(describeAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAddressesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeAddressesRequest, asyncHandler,
+                new Callable<DescribeAddressesResult>() {
+                    public DescribeAddressesResult call() throws Exception {
+                        return describeAddresses(describeAddressesRequest);
+                    }
+                });
     }
     
     /**
@@ -16667,12 +15710,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteRouteRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteRoute(deleteRouteRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -16703,18 +15747,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRoute(deleteRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteRouteRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteRoute(deleteRouteRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -16752,12 +15791,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, revokeSecurityGroupIngressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -16801,18 +15841,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, revokeSecurityGroupIngressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -16839,11 +15874,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-                return deleteVpcEndpoints(deleteVpcEndpointsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpcEndpointsRequest,
+                new Callable<DeleteVpcEndpointsResult>() {
+                    public DeleteVpcEndpointsResult call() throws Exception {
+                        return deleteVpcEndpoints(deleteVpcEndpointsRequest);
+                    }
+                });
     }
 
     /**
@@ -16876,19 +15912,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
             final AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-              DeleteVpcEndpointsResult result;
-                try {
-                result = deleteVpcEndpoints(deleteVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpcEndpointsRequest, asyncHandler,
+                new Callable<DeleteVpcEndpointsResult>() {
+                    public DeleteVpcEndpointsResult call() throws Exception {
+                        return deleteVpcEndpoints(deleteVpcEndpointsRequest);
+                    }
+                });
     }
     
     /**
@@ -16932,12 +15961,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, releaseAddressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        releaseAddress(releaseAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -16987,18 +16017,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                releaseAddress(releaseAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseAddressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, releaseAddressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        releaseAddress(releaseAddressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -17027,11 +16052,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotDatafeedSubscriptionRequest,
+                new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+                    public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
+                        return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
+                    }
+                });
     }
 
     /**
@@ -17066,19 +16092,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-              DescribeSpotDatafeedSubscriptionResult result;
-                try {
-                result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSpotDatafeedSubscriptionRequest, asyncHandler,
+                new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+                    public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
+                        return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
+                    }
+                });
     }
     
     /**
@@ -17103,11 +16122,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-                return deleteFlowLogs(deleteFlowLogsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteFlowLogsRequest,
+                new Callable<DeleteFlowLogsResult>() {
+                    public DeleteFlowLogsResult call() throws Exception {
+                        return deleteFlowLogs(deleteFlowLogsRequest);
+                    }
+                });
     }
 
     /**
@@ -17138,19 +16158,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteFlowLogsRequest deleteFlowLogsRequest,
             final AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-              DeleteFlowLogsResult result;
-                try {
-                result = deleteFlowLogs(deleteFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteFlowLogsRequest, asyncHandler,
+                new Callable<DeleteFlowLogsResult>() {
+                    public DeleteFlowLogsResult call() throws Exception {
+                        return deleteFlowLogs(deleteFlowLogsRequest);
+                    }
+                });
     }
     
     /**
@@ -17180,11 +16193,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeRegionsRequest,
+                new Callable<DescribeRegionsResult>() {
+                    public DescribeRegionsResult call() throws Exception {
+                        return describeRegions(describeRegionsRequest);
+                    }
+                });
     }
 
     /**
@@ -17220,19 +16234,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-              DescribeRegionsResult result;
-                try {
-                result = describeRegions(describeRegionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRegionsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeRegionsRequest, asyncHandler,
+                new Callable<DescribeRegionsResult>() {
+                    public DescribeRegionsResult call() throws Exception {
+                        return describeRegions(describeRegionsRequest);
+                    }
+                });
     }
     
     /**
@@ -17259,12 +16266,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkAclEntryRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -17297,18 +16305,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteNetworkAclEntryRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -17343,11 +16346,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeConversionTasksRequest,
+                new Callable<DescribeConversionTasksResult>() {
+                    public DescribeConversionTasksResult call() throws Exception {
+                        return describeConversionTasks(describeConversionTasksRequest);
+                    }
+                });
     }
 
     /**
@@ -17388,19 +16392,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-              DescribeConversionTasksResult result;
-                try {
-                result = describeConversionTasks(describeConversionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConversionTasksRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeConversionTasksRequest, asyncHandler,
+                new Callable<DescribeConversionTasksResult>() {
+                    public DescribeConversionTasksResult call() throws Exception {
+                        return describeConversionTasks(describeConversionTasksRequest);
+                    }
+                });
     }
     
     /**
@@ -17441,11 +16438,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, purchaseReservedInstancesOfferingRequest,
+                new Callable<PurchaseReservedInstancesOfferingResult>() {
+                    public PurchaseReservedInstancesOfferingResult call() throws Exception {
+                        return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
+                    }
+                });
     }
 
     /**
@@ -17492,19 +16490,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-              PurchaseReservedInstancesOfferingResult result;
-                try {
-                result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, purchaseReservedInstancesOfferingRequest, asyncHandler,
+                new Callable<PurchaseReservedInstancesOfferingResult>() {
+                    public PurchaseReservedInstancesOfferingResult call() throws Exception {
+                        return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
+                    }
+                });
     }
     
     /**
@@ -17540,12 +16531,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disassociateAddressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disassociateAddress(disassociateAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -17587,18 +16579,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateAddress(disassociateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateAddressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, disassociateAddressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        disassociateAddress(disassociateAddressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -17629,12 +16616,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSecurityGroupRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSecurityGroup(deleteSecurityGroupRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -17671,18 +16659,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteSecurityGroupRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteSecurityGroup(deleteSecurityGroupRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -17719,12 +16702,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, rebootInstancesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        rebootInstances(rebootInstancesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -17767,18 +16751,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                rebootInstances(rebootInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstancesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, rebootInstancesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        rebootInstances(rebootInstancesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -17809,11 +16788,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, rejectVpcPeeringConnectionRequest,
+                new Callable<RejectVpcPeeringConnectionResult>() {
+                    public RejectVpcPeeringConnectionResult call() throws Exception {
+                        return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
+                    }
+                });
     }
 
     /**
@@ -17850,19 +16830,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-              RejectVpcPeeringConnectionResult result;
-                try {
-                result = rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rejectVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, rejectVpcPeeringConnectionRequest, asyncHandler,
+                new Callable<RejectVpcPeeringConnectionResult>() {
+                    public RejectVpcPeeringConnectionResult call() throws Exception {
+                        return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
+                    }
+                });
     }
     
     /**
@@ -17889,11 +16862,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-                return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcEndpointServicesRequest,
+                new Callable<DescribeVpcEndpointServicesResult>() {
+                    public DescribeVpcEndpointServicesResult call() throws Exception {
+                        return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
+                    }
+                });
     }
 
     /**
@@ -17926,19 +16900,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
             final AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-              DescribeVpcEndpointServicesResult result;
-                try {
-                result = describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointServicesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeVpcEndpointServicesRequest, asyncHandler,
+                new Callable<DescribeVpcEndpointServicesResult>() {
+                    public DescribeVpcEndpointServicesResult call() throws Exception {
+                        return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
+                    }
+                });
     }
     
     /**
@@ -17971,12 +16938,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, createTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createTags(createTagsRequest);
                 return null;
-        }
-    });
+            }
+        });
     }
 
     /**
@@ -18015,18 +16982,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createTagsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createTags(createTagsRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18065,12 +17027,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateDhcpOptionsRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        associateDhcpOptions(associateDhcpOptionsRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -18115,18 +17078,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateDhcpOptionsRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        associateDhcpOptions(associateDhcpOptionsRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18160,12 +17118,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnConnectionRouteRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createVpnConnectionRoute(createVpnConnectionRouteRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -18205,18 +17164,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpnConnectionRouteRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createVpnConnectionRoute(createVpnConnectionRouteRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18244,11 +17198,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachClassicLinkVpcRequest,
+                new Callable<DetachClassicLinkVpcResult>() {
+                    public DetachClassicLinkVpcResult call() throws Exception {
+                        return detachClassicLinkVpc(detachClassicLinkVpcRequest);
+                    }
+                });
     }
 
     /**
@@ -18282,19 +17237,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-              DetachClassicLinkVpcResult result;
-                try {
-                result = detachClassicLinkVpc(detachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, detachClassicLinkVpcRequest, asyncHandler,
+                new Callable<DetachClassicLinkVpcResult>() {
+                    public DetachClassicLinkVpcResult call() throws Exception {
+                        return detachClassicLinkVpc(detachClassicLinkVpcRequest);
+                    }
+                });
     }
     
     /**
@@ -18350,11 +17298,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createCustomerGatewayRequest,
+                new Callable<CreateCustomerGatewayResult>() {
+                    public CreateCustomerGatewayResult call() throws Exception {
+                        return createCustomerGateway(createCustomerGatewayRequest);
+                    }
+                });
     }
 
     /**
@@ -18416,19 +17365,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-              CreateCustomerGatewayResult result;
-                try {
-                result = createCustomerGateway(createCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCustomerGatewayRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createCustomerGatewayRequest, asyncHandler,
+                new Callable<CreateCustomerGatewayResult>() {
+                    public CreateCustomerGatewayResult call() throws Exception {
+                        return createCustomerGateway(createCustomerGatewayRequest);
+                    }
+                });
     }
     
     /**
@@ -18460,11 +17402,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSnapshotAttributeRequest,
+                new Callable<DescribeSnapshotAttributeResult>() {
+                    public DescribeSnapshotAttributeResult call() throws Exception {
+                        return describeSnapshotAttribute(describeSnapshotAttributeRequest);
+                    }
+                });
     }
 
     /**
@@ -18502,19 +17445,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-              DescribeSnapshotAttributeResult result;
-                try {
-                result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeSnapshotAttributeRequest, asyncHandler,
+                new Callable<DescribeSnapshotAttributeResult>() {
+                    public DescribeSnapshotAttributeResult call() throws Exception {
+                        return describeSnapshotAttribute(describeSnapshotAttributeRequest);
+                    }
+                });
     }
     
     /**
@@ -18545,11 +17481,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeCustomerGatewaysRequest,
+                new Callable<DescribeCustomerGatewaysResult>() {
+                    public DescribeCustomerGatewaysResult call() throws Exception {
+                        return describeCustomerGateways(describeCustomerGatewaysRequest);
+                    }
+                });
     }
 
     /**
@@ -18586,19 +17523,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-              DescribeCustomerGatewaysResult result;
-                try {
-                result = describeCustomerGateways(describeCustomerGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeCustomerGatewaysRequest, asyncHandler,
+                new Callable<DescribeCustomerGatewaysResult>() {
+                    public DescribeCustomerGatewaysResult call() throws Exception {
+                        return describeCustomerGateways(describeCustomerGatewaysRequest);
+                    }
+                });
     }
     
     /**
@@ -18630,11 +17560,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-                return moveAddressToVpc(moveAddressToVpcRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, moveAddressToVpcRequest,
+                new Callable<MoveAddressToVpcResult>() {
+                    public MoveAddressToVpcResult call() throws Exception {
+                        return moveAddressToVpc(moveAddressToVpcRequest);
+                    }
+                });
     }
 
     /**
@@ -18672,19 +17603,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MoveAddressToVpcRequest moveAddressToVpcRequest,
             final AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-              MoveAddressToVpcResult result;
-                try {
-                result = moveAddressToVpc(moveAddressToVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(moveAddressToVpcRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, moveAddressToVpcRequest, asyncHandler,
+                new Callable<MoveAddressToVpcResult>() {
+                    public MoveAddressToVpcResult call() throws Exception {
+                        return moveAddressToVpc(moveAddressToVpcRequest);
+                    }
+                });
     }
     
     /**
@@ -18713,12 +17637,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnConnectionRouteRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -18753,18 +17678,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnConnectionRouteRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18793,12 +17713,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnGatewayRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnGateway(deleteVpnGatewayRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -18833,18 +17754,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteVpnGatewayRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVpnGateway(deleteVpnGatewayRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18884,12 +17800,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, revokeSecurityGroupEgressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -18935,18 +17852,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, revokeSecurityGroupEgressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -18977,11 +17889,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeBundleTasksRequest,
+                new Callable<DescribeBundleTasksResult>() {
+                    public DescribeBundleTasksResult call() throws Exception {
+                        return describeBundleTasks(describeBundleTasksRequest);
+                    }
+                });
     }
 
     /**
@@ -19018,19 +17931,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-              DescribeBundleTasksResult result;
-                try {
-                result = describeBundleTasks(describeBundleTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBundleTasksRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, describeBundleTasksRequest, asyncHandler,
+                new Callable<DescribeBundleTasksResult>() {
+                    public DescribeBundleTasksResult call() throws Exception {
+                        return describeBundleTasks(describeBundleTasksRequest);
+                    }
+                });
     }
     
     /**
@@ -19076,11 +17982,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcRequest,
+                new Callable<CreateVpcResult>() {
+                    public CreateVpcResult call() throws Exception {
+                        return createVpc(createVpcRequest);
+                    }
+                });
     }
 
     /**
@@ -19132,19 +18039,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-              CreateVpcResult result;
-                try {
-                result = createVpc(createVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createVpcRequest, asyncHandler,
+                new Callable<CreateVpcResult>() {
+                    public CreateVpcResult call() throws Exception {
+                        return createVpc(createVpcRequest);
+                    }
+                });
     }
     
     /**
@@ -19179,11 +18079,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateRouteTableRequest,
+                new Callable<AssociateRouteTableResult>() {
+                    public AssociateRouteTableResult call() throws Exception {
+                        return associateRouteTable(associateRouteTableRequest);
+                    }
+                });
     }
 
     /**
@@ -19224,19 +18125,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-              AssociateRouteTableResult result;
-                try {
-                result = associateRouteTable(associateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, associateRouteTableRequest, asyncHandler,
+                new Callable<AssociateRouteTableResult>() {
+                    public AssociateRouteTableResult call() throws Exception {
+                        return associateRouteTable(associateRouteTableRequest);
+                    }
+                });
     }
     
 }
@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -323,11 +324,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                return addTags(addTagsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addTagsRequest,
+                new Callable<AddTagsResult>() {
+                    public AddTagsResult call() throws Exception {
+                        return addTags(addTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -366,19 +368,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest,
             final AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                AddTagsResult result = null;
-                try {
-                    result = addTags(addTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addTagsRequest, asyncHandler,
+                new Callable<AddTagsResult>() {
+                    public AddTagsResult call() throws Exception {
+                        return addTags(addTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -414,11 +409,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, applySecurityGroupsToLoadBalancerRequest,
+                new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
+                    public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
+                        return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -455,19 +451,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest,
             final AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                ApplySecurityGroupsToLoadBalancerResult result = null;
-                try {
-                    result = applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(applySecurityGroupsToLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, applySecurityGroupsToLoadBalancerRequest, asyncHandler,
+                new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
+                    public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
+                        return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -504,11 +493,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancerToSubnetsRequest,
+                new Callable<AttachLoadBalancerToSubnetsResult>() {
+                    public AttachLoadBalancerToSubnetsResult call() throws Exception {
+                        return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
+                    }
+                });
     }
 
     /**
@@ -546,19 +536,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest,
             final AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                AttachLoadBalancerToSubnetsResult result = null;
-                try {
-                    result = attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancerToSubnetsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, attachLoadBalancerToSubnetsRequest, asyncHandler,
+                new Callable<AttachLoadBalancerToSubnetsResult>() {
+                    public AttachLoadBalancerToSubnetsResult call() throws Exception {
+                        return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
+                    }
+                });
     }
 
     /**
@@ -591,11 +574,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(
             final ConfigureHealthCheckRequest configureHealthCheckRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                return configureHealthCheck(configureHealthCheckRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, configureHealthCheckRequest,
+                new Callable<ConfigureHealthCheckResult>() {
+                    public ConfigureHealthCheckResult call() throws Exception {
+                        return configureHealthCheck(configureHealthCheckRequest);
+                    }
+                });
     }
 
     /**
@@ -629,19 +613,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ConfigureHealthCheckRequest configureHealthCheckRequest,
             final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                ConfigureHealthCheckResult result = null;
-                try {
-                    result = configureHealthCheck(configureHealthCheckRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(configureHealthCheckRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, configureHealthCheckRequest, asyncHandler,
+                new Callable<ConfigureHealthCheckResult>() {
+                    public ConfigureHealthCheckResult call() throws Exception {
+                        return configureHealthCheck(configureHealthCheckRequest);
+                    }
+                });
     }
 
     /**
@@ -690,11 +667,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createAppCookieStickinessPolicyRequest,
+                new Callable<CreateAppCookieStickinessPolicyResult>() {
+                    public CreateAppCookieStickinessPolicyResult call() throws Exception {
+                        return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -744,19 +722,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
             final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                CreateAppCookieStickinessPolicyResult result = null;
-                try {
-                    result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createAppCookieStickinessPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createAppCookieStickinessPolicyRequest, asyncHandler,
+                new Callable<CreateAppCookieStickinessPolicyResult>() {
+                    public CreateAppCookieStickinessPolicyResult call() throws Exception {
+                        return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -808,11 +779,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLBCookieStickinessPolicyRequest,
+                new Callable<CreateLBCookieStickinessPolicyResult>() {
+                    public CreateLBCookieStickinessPolicyResult call() throws Exception {
+                        return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -865,19 +837,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
             final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                CreateLBCookieStickinessPolicyResult result = null;
-                try {
-                    result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLBCookieStickinessPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLBCookieStickinessPolicyRequest, asyncHandler,
+                new Callable<CreateLBCookieStickinessPolicyResult>() {
+                    public CreateLBCookieStickinessPolicyResult call() throws Exception {
+                        return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -934,11 +899,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(
             final CreateLoadBalancerRequest createLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerRequest,
+                new Callable<CreateLoadBalancerResult>() {
+                    public CreateLoadBalancerResult call() throws Exception {
+                        return createLoadBalancer(createLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -996,19 +962,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerRequest createLoadBalancerRequest,
             final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                CreateLoadBalancerResult result = null;
-                try {
-                    result = createLoadBalancer(createLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerRequest, asyncHandler,
+                new Callable<CreateLoadBalancerResult>() {
+                    public CreateLoadBalancerResult call() throws Exception {
+                        return createLoadBalancer(createLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -1047,11 +1006,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<CreateLoadBalancerListenersResult> createLoadBalancerListenersAsync(
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerListenersResult>() {
-            public CreateLoadBalancerListenersResult call() throws Exception {
-                return createLoadBalancerListeners(createLoadBalancerListenersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerListenersRequest,
+                new Callable<CreateLoadBalancerListenersResult>() {
+                    public CreateLoadBalancerListenersResult call() throws Exception {
+                        return createLoadBalancerListeners(createLoadBalancerListenersRequest);
+                    }
+                });
     }
 
     /**
@@ -1091,19 +1051,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
             final AsyncHandler<CreateLoadBalancerListenersRequest, CreateLoadBalancerListenersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerListenersResult>() {
-            public CreateLoadBalancerListenersResult call() throws Exception {
-                CreateLoadBalancerListenersResult result = null;
-                try {
-                    result = createLoadBalancerListeners(createLoadBalancerListenersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerListenersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerListenersRequest, asyncHandler,
+                new Callable<CreateLoadBalancerListenersResult>() {
+                    public CreateLoadBalancerListenersResult call() throws Exception {
+                        return createLoadBalancerListeners(createLoadBalancerListenersRequest);
+                    }
+                });
     }
 
     /**
@@ -1139,11 +1092,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerPolicyRequest,
+                new Callable<CreateLoadBalancerPolicyResult>() {
+                    public CreateLoadBalancerPolicyResult call() throws Exception {
+                        return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1180,19 +1134,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest,
             final AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                CreateLoadBalancerPolicyResult result = null;
-                try {
-                    result = createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createLoadBalancerPolicyRequest, asyncHandler,
+                new Callable<CreateLoadBalancerPolicyResult>() {
+                    public CreateLoadBalancerPolicyResult call() throws Exception {
+                        return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1228,11 +1175,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DeleteLoadBalancerResult> deleteLoadBalancerAsync(
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerResult>() {
-            public DeleteLoadBalancerResult call() throws Exception {
-                return deleteLoadBalancer(deleteLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerRequest,
+                new Callable<DeleteLoadBalancerResult>() {
+                    public DeleteLoadBalancerResult call() throws Exception {
+                        return deleteLoadBalancer(deleteLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -1269,19 +1217,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
             final AsyncHandler<DeleteLoadBalancerRequest, DeleteLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerResult>() {
-            public DeleteLoadBalancerResult call() throws Exception {
-                DeleteLoadBalancerResult result = null;
-                try {
-                    result = deleteLoadBalancer(deleteLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerRequest, asyncHandler,
+                new Callable<DeleteLoadBalancerResult>() {
+                    public DeleteLoadBalancerResult call() throws Exception {
+                        return deleteLoadBalancer(deleteLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -1307,11 +1248,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DeleteLoadBalancerListenersResult> deleteLoadBalancerListenersAsync(
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerListenersResult>() {
-            public DeleteLoadBalancerListenersResult call() throws Exception {
-                return deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerListenersRequest,
+                new Callable<DeleteLoadBalancerListenersResult>() {
+                    public DeleteLoadBalancerListenersResult call() throws Exception {
+                        return deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
+                    }
+                });
     }
 
     /**
@@ -1338,19 +1280,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
             final AsyncHandler<DeleteLoadBalancerListenersRequest, DeleteLoadBalancerListenersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerListenersResult>() {
-            public DeleteLoadBalancerListenersResult call() throws Exception {
-                DeleteLoadBalancerListenersResult result = null;
-                try {
-                    result = deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerListenersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerListenersRequest, asyncHandler,
+                new Callable<DeleteLoadBalancerListenersResult>() {
+                    public DeleteLoadBalancerListenersResult call() throws Exception {
+                        return deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
+                    }
+                });
     }
 
     /**
@@ -1378,11 +1313,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerPolicyRequest,
+                new Callable<DeleteLoadBalancerPolicyResult>() {
+                    public DeleteLoadBalancerPolicyResult call() throws Exception {
+                        return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1411,19 +1347,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
             final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                DeleteLoadBalancerPolicyResult result = null;
-                try {
-                    result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteLoadBalancerPolicyRequest, asyncHandler,
+                new Callable<DeleteLoadBalancerPolicyResult>() {
+                    public DeleteLoadBalancerPolicyResult call() throws Exception {
+                        return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1463,11 +1392,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deregisterInstancesFromLoadBalancerRequest,
+                new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+                    public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
+                        return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -1508,19 +1438,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
             final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                DeregisterInstancesFromLoadBalancerResult result = null;
-                try {
-                    result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deregisterInstancesFromLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deregisterInstancesFromLoadBalancerRequest, asyncHandler,
+                new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+                    public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
+                        return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -1550,11 +1473,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAccountLimitsRequest,
+                new Callable<DescribeAccountLimitsResult>() {
+                    public DescribeAccountLimitsResult call() throws Exception {
+                        return describeAccountLimits(describeAccountLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -1585,19 +1509,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                DescribeAccountLimitsResult result = null;
-                try {
-                    result = describeAccountLimits(describeAccountLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeAccountLimitsRequest, asyncHandler,
+                new Callable<DescribeAccountLimitsResult>() {
+                    public DescribeAccountLimitsResult call() throws Exception {
+                        return describeAccountLimits(describeAccountLimitsRequest);
+                    }
+                });
     }
 
     /**
@@ -1629,11 +1546,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(
             final DescribeInstanceHealthRequest describeInstanceHealthRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                return describeInstanceHealth(describeInstanceHealthRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceHealthRequest,
+                new Callable<DescribeInstanceHealthResult>() {
+                    public DescribeInstanceHealthResult call() throws Exception {
+                        return describeInstanceHealth(describeInstanceHealthRequest);
+                    }
+                });
     }
 
     /**
@@ -1666,19 +1584,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeInstanceHealthRequest describeInstanceHealthRequest,
             final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                DescribeInstanceHealthResult result = null;
-                try {
-                    result = describeInstanceHealth(describeInstanceHealthRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeInstanceHealthRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeInstanceHealthRequest, asyncHandler,
+                new Callable<DescribeInstanceHealthResult>() {
+                    public DescribeInstanceHealthResult call() throws Exception {
+                        return describeInstanceHealth(describeInstanceHealthRequest);
+                    }
+                });
     }
 
     /**
@@ -1705,11 +1616,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerAttributesRequest,
+                new Callable<DescribeLoadBalancerAttributesResult>() {
+                    public DescribeLoadBalancerAttributesResult call() throws Exception {
+                        return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1737,19 +1649,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest,
             final AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                DescribeLoadBalancerAttributesResult result = null;
-                try {
-                    result = describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerAttributesRequest, asyncHandler,
+                new Callable<DescribeLoadBalancerAttributesResult>() {
+                    public DescribeLoadBalancerAttributesResult call() throws Exception {
+                        return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1785,11 +1690,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerPoliciesRequest,
+                new Callable<DescribeLoadBalancerPoliciesResult>() {
+                    public DescribeLoadBalancerPoliciesResult call() throws Exception {
+                        return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -1826,19 +1732,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest,
             final AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                DescribeLoadBalancerPoliciesResult result = null;
-                try {
-                    result = describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerPoliciesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerPoliciesRequest, asyncHandler,
+                new Callable<DescribeLoadBalancerPoliciesResult>() {
+                    public DescribeLoadBalancerPoliciesResult call() throws Exception {
+                        return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -1877,11 +1776,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerPolicyTypesRequest,
+                new Callable<DescribeLoadBalancerPolicyTypesResult>() {
+                    public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
+                        return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -1921,19 +1821,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest,
             final AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                DescribeLoadBalancerPolicyTypesResult result = null;
-                try {
-                    result = describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerPolicyTypesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancerPolicyTypesRequest, asyncHandler,
+                new Callable<DescribeLoadBalancerPolicyTypesResult>() {
+                    public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
+                        return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
+                    }
+                });
     }
 
     /**
@@ -1961,11 +1854,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancersRequest,
+                new Callable<DescribeLoadBalancersResult>() {
+                    public DescribeLoadBalancersResult call() throws Exception {
+                        return describeLoadBalancers(describeLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -1994,19 +1888,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                DescribeLoadBalancersResult result = null;
-                try {
-                    result = describeLoadBalancers(describeLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeLoadBalancersRequest, asyncHandler,
+                new Callable<DescribeLoadBalancersResult>() {
+                    public DescribeLoadBalancersResult call() throws Exception {
+                        return describeLoadBalancers(describeLoadBalancersRequest);
+                    }
+                });
     }
 
     /**
@@ -2032,11 +1919,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2063,19 +1951,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                DescribeTagsResult result = null;
-                try {
-                    result = describeTags(describeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeTagsRequest, asyncHandler,
+                new Callable<DescribeTagsResult>() {
+                    public DescribeTagsResult call() throws Exception {
+                        return describeTags(describeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2109,11 +1990,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancerFromSubnetsRequest,
+                new Callable<DetachLoadBalancerFromSubnetsResult>() {
+                    public DetachLoadBalancerFromSubnetsResult call() throws Exception {
+                        return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
+                    }
+                });
     }
 
     /**
@@ -2148,19 +2030,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest,
             final AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                DetachLoadBalancerFromSubnetsResult result = null;
-                try {
-                    result = detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancerFromSubnetsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detachLoadBalancerFromSubnetsRequest, asyncHandler,
+                new Callable<DetachLoadBalancerFromSubnetsResult>() {
+                    public DetachLoadBalancerFromSubnetsResult call() throws Exception {
+                        return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
+                    }
+                });
     }
 
     /**
@@ -2314,11 +2189,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableAvailabilityZonesForLoadBalancerRequest,
+                new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+                    public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
+                        return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -2359,19 +2235,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                EnableAvailabilityZonesForLoadBalancerResult result = null;
-                try {
-                    result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableAvailabilityZonesForLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, enableAvailabilityZonesForLoadBalancerRequest, asyncHandler,
+                new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+                    public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
+                        return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -2441,11 +2310,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, modifyLoadBalancerAttributesRequest,
+                new Callable<ModifyLoadBalancerAttributesResult>() {
+                    public ModifyLoadBalancerAttributesResult call() throws Exception {
+                        return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2516,19 +2386,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest,
             final AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                ModifyLoadBalancerAttributesResult result = null;
-                try {
-                    result = modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(modifyLoadBalancerAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, modifyLoadBalancerAttributesRequest, asyncHandler,
+                new Callable<ModifyLoadBalancerAttributesResult>() {
+                    public ModifyLoadBalancerAttributesResult call() throws Exception {
+                        return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2586,11 +2449,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, registerInstancesWithLoadBalancerRequest,
+                new Callable<RegisterInstancesWithLoadBalancerResult>() {
+                    public RegisterInstancesWithLoadBalancerResult call() throws Exception {
+                        return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -2649,19 +2513,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
             final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                RegisterInstancesWithLoadBalancerResult result = null;
-                try {
-                    result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(registerInstancesWithLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, registerInstancesWithLoadBalancerRequest, asyncHandler,
+                new Callable<RegisterInstancesWithLoadBalancerResult>() {
+                    public RegisterInstancesWithLoadBalancerResult call() throws Exception {
+                        return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
+                    }
+                });
     }
 
     /**
@@ -2685,11 +2542,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                return removeTags(removeTagsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removeTagsRequest,
+                new Callable<RemoveTagsResult>() {
+                    public RemoveTagsResult call() throws Exception {
+                        return removeTags(removeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2714,19 +2572,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest,
             final AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                RemoveTagsResult result = null;
-                try {
-                    result = removeTags(removeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removeTagsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removeTagsRequest, asyncHandler,
+                new Callable<RemoveTagsResult>() {
+                    public RemoveTagsResult call() throws Exception {
+                        return removeTags(removeTagsRequest);
+                    }
+                });
     }
 
     /**
@@ -2765,11 +2616,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<SetLoadBalancerListenerSSLCertificateResult> setLoadBalancerListenerSSLCertificateAsync(
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
-            public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
-                return setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setLoadBalancerListenerSSLCertificateRequest,
+                new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
+                    public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
+                        return setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
+                    }
+                });
     }
 
     /**
@@ -2809,19 +2661,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
             final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, SetLoadBalancerListenerSSLCertificateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
-            public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
-                SetLoadBalancerListenerSSLCertificateResult result = null;
-                try {
-                    result = setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setLoadBalancerListenerSSLCertificateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setLoadBalancerListenerSSLCertificateRequest, asyncHandler,
+                new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
+                    public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
+                        return setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
+                    }
+                });
     }
 
     /**
@@ -2993,11 +2838,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setLoadBalancerPoliciesOfListenerRequest,
+                new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+                    public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
+                        return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+                    }
+                });
     }
 
     /**
@@ -3042,19 +2888,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                SetLoadBalancerPoliciesOfListenerResult result = null;
-                try {
-                    result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setLoadBalancerPoliciesOfListenerRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setLoadBalancerPoliciesOfListenerRequest, asyncHandler,
+                new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+                    public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
+                        return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+                    }
+                });
     }
 
 }
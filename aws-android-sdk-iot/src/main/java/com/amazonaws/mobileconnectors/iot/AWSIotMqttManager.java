@@ -118,6 +118,9 @@ public class AWSIotMqttManager {
      * to proved per-topic message arrived callbacks.
      */
     private final Map<String, AWSIotMqttTopic> topicListeners;
+    /** Subscriptions indexed by topic filter levels, to dispatch messages. */
+    private final AWSIotMqttSubscriptionTrie topicSubscriptions =
+            new AWSIotMqttSubscriptionTrie();
     /**
      * Queue for messages attempted to publish while MQTT client was offline.
      * Republished upon reconnect.
@@ -961,6 +964,7 @@ public class AWSIotMqttManager {
             ", username: " + options.getUserName());
 
         topicListeners.clear();
+        topicSubscriptions.clear();
         mqttMessageQueue.clear();
 
         resetReconnect();
@@ -1037,6 +1041,7 @@ public class AWSIotMqttManager {
         userDisconnect = true;
         reset();
         topicListeners.clear();
+        topicSubscriptions.clear();
         connectionState = MqttManagerConnectionState.Disconnected;
         userConnectionCallback();
         return true;
@@ -1268,6 +1273,7 @@ public class AWSIotMqttManager {
             }
             final AWSIotMqttTopic topicModel = new AWSIotMqttTopic(topic, qos, callback);
             topicListeners.put(topic, topicModel);
+            topicSubscriptions.put(topicModel);
         }
     }
 
@@ -1289,6 +1295,7 @@ public class AWSIotMqttManager {
                 throw new AmazonClientException("Client error while unsubscribing.", e);
             }
             topicListeners.remove(topic);
+            topicSubscriptions.remove(topic);
         }
     }
 
@@ -1540,16 +1547,7 @@ public class AWSIotMqttManager {
                 LOGGER.info("message arrived on topic: " + topic);
                 final byte[] data = mqttMessage.getPayload();
 
-                for (final String topicKey : topicListeners.keySet()) {
-                    if (isTopicMatch(topicKey, topic)) {
-                        final AWSIotMqttTopic topicModel = topicListeners.get(topicKey);
-                        if (topicModel != null) {
-                            if (topicModel.getCallback() != null) {
-                                topicModel.getCallback().onMessageArrived(topic, data);
-                            }
-                        }
-                    }
-                }
+                topicSubscriptions.dispatch(topic, data);
             }
 
             @Override
@@ -0,0 +1,346 @@
+/**
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.iot;
+
+import java.util.List;
+
+/**
+ * Subscriptions indexed by the levels of their topic filters, so that the
+ * subscriptions matching a topic are found by walking the levels of the
+ * topic, instead of matching the topic against every topic filter. Topics and
+ * filters are split in levels the way
+ * {@link AWSIotMqttManager#isTopicMatch(String, String)} does, and the
+ * subscriptions it finds are the same.
+ * <p>
+ * Lookups are lock free and don't allocate: nodes are updated copy on write
+ * under the trie lock and published through volatile fields, and the levels
+ * of a topic are compared in place. Callbacks may therefore subscribe and
+ * unsubscribe while messages are being dispatched.
+ */
+class AWSIotMqttSubscriptionTrie {
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+    private static final char LEVEL_SEPARATOR = '/';
+
+    private volatile Node root = new Node(null);
+
+    /**
+     * Adds a subscription, replacing the one of the same topic filter.
+     *
+     * @param subscription subscription to add.
+     */
+    synchronized void put(AWSIotMqttTopic subscription) {
+        final String[] levels = subscription.getTopic().split("/");
+        Node node = root;
+        for (final String level : levels) {
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                // the wildcard can only be the last level
+                node.multiLevel = with(node.multiLevel, subscription);
+                return;
+            }
+            node = node.getOrAddChild(level);
+        }
+        node.subscriptions = with(node.subscriptions, subscription);
+    }
+
+    /**
+     * Removes the subscription of a topic filter.
+     *
+     * @param topicFilter topic filter of the subscription to remove.
+     */
+    synchronized void remove(String topicFilter) {
+        remove(root, topicFilter, topicFilter.split("/"), 0);
+    }
+
+    /**
+     * Removes all subscriptions.
+     */
+    synchronized void clear() {
+        root = new Node(null);
+    }
+
+    /**
+     * Delivers a message to the callbacks of the subscriptions matching its
+     * topic.
+     *
+     * @param topic topic the message was published on.
+     * @param data payload of the message.
+     */
+    void dispatch(String topic, byte[] data) {
+        match(root, topic, 0, levelsEnd(topic), data, null);
+    }
+
+    /**
+     * Collects the subscriptions matching a topic.
+     *
+     * @param topic topic to match.
+     * @param matches list the matching subscriptions are added to.
+     */
+    void match(String topic, List<AWSIotMqttTopic> matches) {
+        match(root, topic, 0, levelsEnd(topic), null, matches);
+    }
+
+    /**
+     * Returns the end of the levels of a topic, ignoring trailing empty
+     * levels like String#split does.
+     *
+     * @return the index past the last level, or -1 if the topic has no level.
+     */
+    private static int levelsEnd(String topic) {
+        int end = topic.length();
+        while (end > 0 && topic.charAt(end - 1) == LEVEL_SEPARATOR) {
+            end--;
+        }
+        return end == 0 && topic.length() > 0 ? -1 : end;
+    }
+
+    /**
+     * Matches the levels of the topic from start against the filters below
+     * a node.
+     */
+    private static void match(Node node, String topic, int start, int end, byte[] data,
+            List<AWSIotMqttTopic> matches) {
+        if (start > end) {
+            // every level of the topic matched
+            deliver(node.subscriptions, topic, data, matches);
+            return;
+        }
+        // the multi-level wildcard matches the levels left
+        deliver(node.multiLevel, topic, data, matches);
+
+        int levelEnd = topic.indexOf(LEVEL_SEPARATOR, start);
+        if (levelEnd < 0 || levelEnd > end) {
+            levelEnd = end;
+        }
+        final Node child = node.getChild(topic, start, levelEnd);
+        if (child != null) {
+            match(child, topic, levelEnd + 1, end, data, matches);
+        }
+        final Node singleLevel = node.singleLevel;
+        if (singleLevel != null) {
+            match(singleLevel, topic, levelEnd + 1, end, data, matches);
+        }
+    }
+
+    private static void deliver(AWSIotMqttTopic[] subscriptions, String topic, byte[] data,
+            List<AWSIotMqttTopic> matches) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (final AWSIotMqttTopic subscription : subscriptions) {
+            if (matches != null) {
+                matches.add(subscription);
+            } else if (subscription.getCallback() != null) {
+                subscription.getCallback().onMessageArrived(topic, data);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the subscriptions with the given one, replacing the
+     * one of the same topic filter.
+     */
+    private static AWSIotMqttTopic[] with(AWSIotMqttTopic[] subscriptions,
+            AWSIotMqttTopic subscription) {
+        if (subscriptions == null) {
+            return new AWSIotMqttTopic[] {
+                    subscription
+            };
+        }
+        final AWSIotMqttTopic[] copy = without(subscriptions, subscription.getTopic());
+        final int length = copy == null ? 0 : copy.length;
+        final AWSIotMqttTopic[] result = new AWSIotMqttTopic[length + 1];
+        if (copy != null) {
+            System.arraycopy(copy, 0, result, 0, length);
+        }
+        result[length] = subscription;
+        return result;
+    }
+
+    /**
+     * Returns a copy of the subscriptions without the one of the given topic
+     * filter, or null if none is left.
+     */
+    private static AWSIotMqttTopic[] without(AWSIotMqttTopic[] subscriptions,
+            String topicFilter) {
+        if (subscriptions == null) {
+            return null;
+        }
+        final AWSIotMqttTopic[] result = new AWSIotMqttTopic[subscriptions.length];
+        int length = 0;
+        for (final AWSIotMqttTopic subscription : subscriptions) {
+            if (!subscription.getTopic().equals(topicFilter)) {
+                result[length++] = subscription;
+            }
+        }
+        if (length == 0) {
+            return null;
+        }
+        final AWSIotMqttTopic[] trimmed = new AWSIotMqttTopic[length];
+        System.arraycopy(result, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    /**
+     * Removes the subscription of a topic filter, of levels from index, below
+     * a node.
+     *
+     * @return whether the node is left empty.
+     */
+    private static boolean remove(Node node, String topicFilter, String[] levels, int index) {
+        if (index == levels.length) {
+            node.subscriptions = without(node.subscriptions, topicFilter);
+        } else if (MULTI_LEVEL_WILDCARD.equals(levels[index])) {
+            node.multiLevel = without(node.multiLevel, topicFilter);
+        } else {
+            final String level = levels[index];
+            final Node child = SINGLE_LEVEL_WILDCARD.equals(level) ? node.singleLevel
+                    : node.getChild(level, 0, level.length());
+            if (child != null && remove(child, topicFilter, levels, index + 1)) {
+                node.removeChild(level);
+            }
+        }
+        return node.isEmpty();
+    }
+
+    /**
+     * A level of the topic filters. Children are kept in an open addressing
+     * hash table, replaced on every change.
+     */
+    private static final class Node {
+        /** Level of the node, null for the root. */
+        private final String level;
+        /**
+         * Subscriptions of the filters ending at this node, which only differ
+         * by trailing empty levels.
+         */
+        private volatile AWSIotMqttTopic[] subscriptions;
+        /** Subscriptions of the filters ending with a '#' below this node. */
+        private volatile AWSIotMqttTopic[] multiLevel;
+        /** Child of the '+' level. */
+        private volatile Node singleLevel;
+        /** Children of the other levels, null when there are none. */
+        private volatile Node[] children;
+        private int childCount;
+
+        Node(String level) {
+            this.level = level;
+        }
+
+        boolean isEmpty() {
+            return subscriptions == null && multiLevel == null && singleLevel == null
+                    && childCount == 0;
+        }
+
+        /**
+         * Finds the child of the level between start and end of the string.
+         */
+        Node getChild(String s, int start, int end) {
+            final Node[] table = children;
+            if (table == null) {
+                return null;
+            }
+            final int length = end - start;
+            final int mask = table.length - 1;
+            int i = hash(s, start, end) & mask;
+            Node child;
+            while ((child = table[i]) != null) {
+                if (child.level.length() == length
+                        && s.regionMatches(start, child.level, 0, length)) {
+                    return child;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        Node getOrAddChild(String level) {
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (singleLevel == null) {
+                    singleLevel = new Node(level);
+                }
+                return singleLevel;
+            }
+            Node child = getChild(level, 0, level.length());
+            if (child == null) {
+                child = new Node(level);
+                final Node[] table = children;
+                int capacity = table == null ? 2 : table.length;
+                // keep the table at most half full
+                while ((childCount + 1) * 2 > capacity) {
+                    capacity *= 2;
+                }
+                final Node[] newTable = new Node[capacity];
+                if (table != null) {
+                    for (final Node node : table) {
+                        if (node != null) {
+                            insert(newTable, node);
+                        }
+                    }
+                }
+                insert(newTable, child);
+                childCount++;
+                children = newTable;
+            }
+            return child;
+        }
+
+        void removeChild(String level) {
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                singleLevel = null;
+                return;
+            }
+            final Node[] table = children;
+            if (table == null) {
+                return;
+            }
+            if (childCount == 1) {
+                childCount = 0;
+                children = null;
+                return;
+            }
+            final Node[] newTable = new Node[table.length];
+            for (final Node node : table) {
+                if (node != null && !node.level.equals(level)) {
+                    insert(newTable, node);
+                }
+            }
+            childCount--;
+            children = newTable;
+        }
+
+        private static void insert(Node[] table, Node node) {
+            final int mask = table.length - 1;
+            int i = hash(node.level, 0, node.level.length()) & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = node;
+        }
+
+        /**
+         * Hashes the characters between start and end of the string like
+         * String#hashCode does, spreading the higher bits.
+         */
+        private static int hash(String s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+}
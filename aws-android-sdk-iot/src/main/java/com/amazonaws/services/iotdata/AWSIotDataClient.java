@@ -249,7 +249,7 @@ public class AWSIotDataClient extends AmazonWebServiceClient implements AWSIotDa
      */
     public AWSIotDataClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -0,0 +1,155 @@
+/**
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.iot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class AWSIotMqttSubscriptionTrieTest {
+
+    private static final String[] LEVELS = {
+            "a", "b", "c", "", "+", "#"
+    };
+
+    @Test
+    public void testMatchesLikeTopicScan() {
+        final Random random = new Random(42);
+        final AWSIotMqttSubscriptionTrie trie = new AWSIotMqttSubscriptionTrie();
+        final Map<String, AWSIotMqttTopic> subscriptions =
+                new LinkedHashMap<String, AWSIotMqttTopic>();
+        for (int i = 0; i < 300; i++) {
+            final String filter = randomTopic(random, true);
+            final AWSIotMqttTopic subscription = new AWSIotMqttTopic(filter, AWSIotMqttQos.QOS0,
+                    null);
+            subscriptions.put(filter, subscription);
+            trie.put(subscription);
+        }
+        assertSameMatches(random, trie, subscriptions);
+
+        // unsubscribe from half of the filters
+        final List<String> filters = new ArrayList<String>(subscriptions.keySet());
+        for (int i = 0; i < filters.size(); i += 2) {
+            subscriptions.remove(filters.get(i));
+            trie.remove(filters.get(i));
+        }
+        assertSameMatches(random, trie, subscriptions);
+
+        trie.clear();
+        subscriptions.clear();
+        assertSameMatches(random, trie, subscriptions);
+    }
+
+    @Test
+    public void testTopicMatchCases() {
+        final String[][] cases = {
+                {"test", "test"}, {"test/1", "test/1"}, {"#", "test/1/2"}, {"test/+", "test/1"},
+                {"test/+/1", "test/1/1"}, {"test/+/+/+/+", "test/1/2/3/4"}, {"+", "test"},
+                {"+/1", "nottest/1"}, {"+/1/+", "A/1/B"}, {"test/#", "test/1/2/3/4/5"},
+                {"test/1", "test/1/"}, {"/test", "/test"}, {"/", "//"}
+        };
+        for (final String[] c : cases) {
+            final AWSIotMqttSubscriptionTrie trie = new AWSIotMqttSubscriptionTrie();
+            trie.put(new AWSIotMqttTopic(c[0], AWSIotMqttQos.QOS0, null));
+            final List<AWSIotMqttTopic> matches = new ArrayList<AWSIotMqttTopic>();
+            trie.match(c[1], matches);
+            assertEquals(c[0] + " matches " + c[1], 1, matches.size());
+        }
+
+        final String[][] mismatches = {
+                {"test/1", "test/1/2"}, {"test/+/1", "test/1/2"}, {"test/+/+/+/+", "test/1/2/3"},
+                {"+", "test/1"}, {"+/1", "test/12"}, {"test/#", "test"}, {"test/#", "not/1"}
+        };
+        for (final String[] c : mismatches) {
+            final AWSIotMqttSubscriptionTrie trie = new AWSIotMqttSubscriptionTrie();
+            trie.put(new AWSIotMqttTopic(c[0], AWSIotMqttQos.QOS0, null));
+            final List<AWSIotMqttTopic> matches = new ArrayList<AWSIotMqttTopic>();
+            trie.match(c[1], matches);
+            assertTrue(c[0] + " doesn't match " + c[1], matches.isEmpty());
+        }
+    }
+
+    @Test
+    public void testCallbackCanUnsubscribeWhileDispatching() {
+        final AWSIotMqttSubscriptionTrie trie = new AWSIotMqttSubscriptionTrie();
+        final List<String> received = new ArrayList<String>();
+        trie.put(new AWSIotMqttTopic("sensors/+/temperature", AWSIotMqttQos.QOS0,
+                new AWSIotMqttNewMessageCallback() {
+                    @Override
+                    public void onMessageArrived(String topic, byte[] data) {
+                        received.add(topic);
+                        trie.remove("sensors/+/temperature");
+                        trie.remove("sensors/#");
+                    }
+                }));
+        trie.put(new AWSIotMqttTopic("sensors/#", AWSIotMqttQos.QOS0,
+                new AWSIotMqttNewMessageCallback() {
+                    @Override
+                    public void onMessageArrived(String topic, byte[] data) {
+                        received.add(topic);
+                    }
+                }));
+
+        trie.dispatch("sensors/1/temperature", new byte[0]);
+        trie.dispatch("sensors/2/temperature", new byte[0]);
+
+        // the '#' subscription is matched first, then both are removed
+        assertEquals(2, received.size());
+        assertEquals("sensors/1/temperature", received.get(1));
+    }
+
+    private static void assertSameMatches(Random random, AWSIotMqttSubscriptionTrie trie,
+            Map<String, AWSIotMqttTopic> subscriptions) {
+        for (int i = 0; i < 1000; i++) {
+            final String topic = randomTopic(random, false);
+            final Set<AWSIotMqttTopic> expected = new HashSet<AWSIotMqttTopic>();
+            for (final AWSIotMqttTopic subscription : subscriptions.values()) {
+                if (AWSIotMqttManager.isTopicMatch(subscription.getTopic(), topic)) {
+                    expected.add(subscription);
+                }
+            }
+            final List<AWSIotMqttTopic> matches = new ArrayList<AWSIotMqttTopic>();
+            trie.match(topic, matches);
+            assertEquals(topic, expected.size(), matches.size());
+            assertEquals(topic, expected, new HashSet<AWSIotMqttTopic>(matches));
+        }
+    }
+
+    private static String randomTopic(Random random, boolean wildcards) {
+        final int depth = 1 + random.nextInt(4);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            String level = LEVELS[random.nextInt(wildcards ? LEVELS.length : LEVELS.length - 2)];
+            if ("#".equals(level) && i < depth - 1) {
+                level = "+";
+            }
+            sb.append(level);
+        }
+        return sb.toString();
+    }
+}
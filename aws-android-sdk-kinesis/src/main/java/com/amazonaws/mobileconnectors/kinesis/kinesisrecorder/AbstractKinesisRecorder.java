@@ -17,7 +17,7 @@ package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 
 import com.amazonaws.AmazonClientException;
-import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.RecordStore.RecordReader;
 import com.amazonaws.util.StringUtils;
 
 import com.amazonaws.logging.Log;
@@ -25,7 +25,18 @@ import com.amazonaws.logging.LogFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An abstract class for Amazon Kinesis recorders. It manages local file store
@@ -45,13 +56,25 @@ public abstract class AbstractKinesisRecorder {
      * Maximum size in bytes of records in PutRecordBatch.
      */
     private static final int MAX_BATCH_RECORDS_SIZE_BYTES = 512 * 1024;
+    /**
+     * Seconds an idle thread of the executor sending concurrent requests is
+     * kept alive.
+     */
+    private static final long SEND_THREAD_KEEP_ALIVE_SECONDS = 60L;
 
     /**
      * The configurable options for Kinesis Recorder, includes the
      * ClientConfiguration of the low level client.
      */
     protected KinesisRecorderConfig config;
-    protected FileRecordStore recordStore;
+    protected RecordStore recordStore;
+
+    /**
+     * Executor sending concurrent requests, created on first use and reused
+     * by later submissions. Its threads are daemons and go away once idle.
+     * Guarded by this.
+     */
+    private ThreadPoolExecutor sendExecutor;
 
     /**
      * Gets the sender to send saved records.
@@ -66,7 +89,7 @@ public abstract class AbstractKinesisRecorder {
      * @param recordStore local file store that keeps Kinesis records
      * @param config configuration
      */
-    protected AbstractKinesisRecorder(FileRecordStore recordStore, KinesisRecorderConfig config) {
+    protected AbstractKinesisRecorder(RecordStore recordStore, KinesisRecorderConfig config) {
         if (recordStore == null) {
             throw new IllegalArgumentException("Record store can't be null");
         }
@@ -97,7 +120,7 @@ public abstract class AbstractKinesisRecorder {
      */
     public void saveRecord(byte[] data, String streamName) {
         try {
-            recordStore.put(FileRecordParser.asString(streamName, data));
+            recordStore.put(streamName, data);
         } catch (final IOException e) {
             throw new AmazonClientException("Error saving record", e);
         }
@@ -116,10 +139,16 @@ public abstract class AbstractKinesisRecorder {
      *             during submission. Note: If the request appears to be
      *             invalid, the record will be deleted. If the request appears
      *             to be valid, it will be kept.
+     * @see KinesisRecorderConfig#withMaxConcurrentRequests(int)
      */
     public synchronized void submitAllRecords() {
+        if (config.getMaxConcurrentRequests() > 1) {
+            submitAllRecordsConcurrently(config.getMaxConcurrentRequests());
+            return;
+        }
+
         final RecordSender sender = getRecordSender();
-        final RecordIterator iterator = recordStore.iterator();
+        final RecordReader iterator = recordStore.reader();
         final List<byte[]> data = new ArrayList<byte[]>(MAX_RECORDS_PER_BATCH);
         int retry = 0;
         int count = 0;
@@ -217,53 +246,251 @@ public abstract class AbstractKinesisRecorder {
     }
 
     /**
-     * Reads a batch of records belong to the same stream into a list. If data
-     * is read successfully, the stream name is returned.
+     * Submits all requests saved with up to the given number of requests in
+     * flight. Records are read ahead in windows of at most one batch, which
+     * are grouped per stream and sent concurrently. The windows are
+     * acknowledged in order, so records are only removed once every record
+     * saved before them has been sent. Failures are handled like
+     * {@link #submitAllRecords()} does; records read ahead of a failure are
+     * kept and sent again later.
      *
-     * @param iterator record iterator
-     * @param data a list to hold data.
-     * @param maxCount maximum number of records in a batch
-     * @param maxSize a threshold that concludes a batch. It allows one extra
-     *            record that brings the total size over this threshold.
-     * @return the stream name that the batch belongs to
+     * @param maxConcurrentRequests maximum number of requests in flight
      */
-    protected String nextBatch(RecordIterator iterator, List<byte[]> data, int maxCount,
-            int maxSize) {
-        data.clear();
-
-        String lastStreamName = null;
-        int size = 0;
+    private void submitAllRecordsConcurrently(int maxConcurrentRequests) {
+        final RecordSender sender = getRecordSender();
+        final RecordReader iterator = recordStore.reader();
+        final ExecutorService executor = getSendExecutor(maxConcurrentRequests);
+        final LinkedList<RecordWindow> windows = new LinkedList<RecordWindow>();
+        int requestsInFlight = 0;
+        int retry = 0;
         int count = 0;
-        final FileRecordParser frp = new FileRecordParser();
-        while (iterator.hasNext() && count < maxCount && size < maxSize) {
-            final String line = iterator.peek();
-            if (line == null || line.isEmpty()) {
-                iterator.next();
-                continue;
+        boolean unknownErrorRetried = false;
+        try {
+            while (true) {
+                while (retry < MAX_RETRY_COUNT && requestsInFlight < maxConcurrentRequests
+                        && iterator.hasNext()) {
+                    final RecordWindow window = nextWindow(iterator);
+                    if (window.batches.isEmpty()) {
+                        break;
+                    }
+                    window.submit(executor, sender);
+                    windows.add(window);
+                    requestsInFlight += window.batches.size();
+                }
+                if (windows.isEmpty()) {
+                    break;
+                }
+
+                final RecordWindow window = windows.removeFirst();
+                requestsInFlight -= window.batches.size();
+                final Map<String, List<byte[]>> failures = new LinkedHashMap<String, List<byte[]>>();
+                final Map<String, AmazonClientException> errors =
+                        new LinkedHashMap<String, AmazonClientException>();
+                boolean recoverable = false;
+                for (final Map.Entry<String, List<byte[]>> batch : window.batches.entrySet()) {
+                    final String streamName = batch.getKey();
+                    try {
+                        failures.put(streamName, getFailures(window.futures.get(streamName)));
+                    } catch (final AmazonClientException ace) {
+                        if (!unknownErrorRetried
+                                && ace.getMessage() != null
+                                && ace.getMessage().contains("Unable to unmarshall error response")) {
+                            // Retry once for unforeseen error, possible kinesis error without shape
+                            unknownErrorRetried = true;
+                            failures.put(streamName, batch.getValue());
+                        } else {
+                            errors.put(streamName, ace);
+                            recoverable |= sender.isRecoverable(ace);
+                        }
+                    }
+                }
+
+                if (!errors.isEmpty() && recoverable) {
+                    LOGGER.error(
+                            "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
+                            errors.values().iterator().next());
+                    throw errors.values().iterator().next();
+                }
+                for (final Map.Entry<String, AmazonClientException> error : errors.entrySet()) {
+                    // Data is dead and should be added to dead letter queue
+                    try {
+                        this.config.getDeadLetterListener().onRecordsDropped(error.getKey(),
+                                window.batches.get(error.getKey()));
+                    } catch (Exception e) {
+                        LOGGER.error("DeadLetterListener onRecordsDropped has thrown an exception (user code)", e);
+                    }
+                    // We have reason to believe the values in the request
+                    // is invalid and cannot be sent or recovered.
+                    LOGGER.error(
+                            "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
+                            error.getValue());
+                }
+
+                int successCount = 0;
+                for (final Map.Entry<String, List<byte[]>> batch : failures.entrySet()) {
+                    successCount += window.batches.get(batch.getKey()).size()
+                            - batch.getValue().size();
+                }
+                count += successCount;
+
+                // Only the contiguous prefix of the store that was sent is
+                // removed, the windows read ahead are still in flight.
+                try {
+                    iterator.removeRecordsBefore(window.position);
+                } catch (final IOException e) {
+                    throw new AmazonClientException("Failed to remove read records", e);
+                }
+                for (final Map.Entry<String, List<byte[]>> batch : failures.entrySet()) {
+                    for (final byte[] bytes : batch.getValue()) {
+                        saveRecord(bytes, batch.getKey());
+                    }
+                }
+                if (!errors.isEmpty()) {
+                    throw errors.values().iterator().next();
+                }
+                if (successCount == 0) {
+                    // no record went through, increase retry count.
+                    retry++;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while submitting records", e);
+        } finally {
+            // stop the requests of the windows left after a failure, the
+            // executor is kept for the next submission
+            for (final RecordWindow window : windows) {
+                for (final Future<List<byte[]>> future : window.futures.values()) {
+                    future.cancel(true);
+                }
             }
-            // parse a line. Skip in case of corrupted data
+            LOGGER.debug(String.format("submitAllRecords sent %d records", count));
             try {
-                frp.parse(line);
-            } catch (final Exception e) {
-                LOGGER.warn("Failed to read line. Skip.", e);
-                iterator.next();
-                continue;
+                iterator.close();
+            } catch (final IOException e) {
+                throw new AmazonClientException("Failed to close record file", e);
             }
+        }
+    }
 
-            // check whether it belongs to previous batch
-            if (lastStreamName == null || lastStreamName.equals(frp.streamName)) {
-                data.add(frp.bytes);
-                // update counter
-                count++;
-                size += frp.bytes.length;
-                lastStreamName = frp.streamName;
-                iterator.next();
+    /**
+     * Returns the executor sending concurrent requests, creating it on first
+     * use.
+     *
+     * @param maxConcurrentRequests maximum number of requests in flight
+     * @return the executor of this recorder
+     */
+    private synchronized ExecutorService getSendExecutor(int maxConcurrentRequests) {
+        if (sendExecutor == null) {
+            sendExecutor = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests,
+                    SEND_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            final Thread thread = new Thread(r, "KinesisRecorderSender");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            sendExecutor.allowCoreThreadTimeOut(true);
+        } else if (sendExecutor.getMaximumPoolSize() != maxConcurrentRequests) {
+            // the recorder config is mutable, follow its latest value
+            if (maxConcurrentRequests > sendExecutor.getMaximumPoolSize()) {
+                sendExecutor.setMaximumPoolSize(maxConcurrentRequests);
+                sendExecutor.setCorePoolSize(maxConcurrentRequests);
             } else {
+                sendExecutor.setCorePoolSize(maxConcurrentRequests);
+                sendExecutor.setMaximumPoolSize(maxConcurrentRequests);
+            }
+        }
+        return sendExecutor;
+    }
+
+    /**
+     * Reads the next window of records, at most one batch worth of records,
+     * grouped per stream.
+     */
+    private RecordWindow nextWindow(RecordReader iterator) {
+        final RecordWindow window = new RecordWindow();
+        final List<byte[]> data = new ArrayList<byte[]>(MAX_RECORDS_PER_BATCH);
+        int count = 0;
+        int size = 0;
+        while (count < MAX_RECORDS_PER_BATCH && size < MAX_BATCH_RECORDS_SIZE_BYTES
+                && iterator.hasNext()) {
+            final String streamName = nextBatch(iterator, data, MAX_RECORDS_PER_BATCH - count,
+                    MAX_BATCH_RECORDS_SIZE_BYTES - size);
+            if (streamName == null || data.isEmpty()) {
                 break;
             }
+            List<byte[]> batch = window.batches.get(streamName);
+            if (batch == null) {
+                batch = new ArrayList<byte[]>();
+                window.batches.put(streamName, batch);
+            }
+            batch.addAll(data);
+            count += data.size();
+            for (final byte[] bytes : data) {
+                size += bytes.length;
+            }
         }
+        window.position = iterator.readPosition();
+        return window;
+    }
 
-        return lastStreamName;
+    private static List<byte[]> getFailures(Future<List<byte[]>> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException("Failed to submit records", cause);
+        }
+    }
+
+    /**
+     * Records read ahead by {@link #submitAllRecordsConcurrently(int)}, with
+     * the read position past them and the requests sending them.
+     */
+    private static final class RecordWindow {
+        private final Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        private final Map<String, Future<List<byte[]>>> futures =
+                new LinkedHashMap<String, Future<List<byte[]>>>();
+        private long position;
+
+        private void submit(ExecutorService executor, final RecordSender sender) {
+            for (final Map.Entry<String, List<byte[]>> batch : batches.entrySet()) {
+                final String streamName = batch.getKey();
+                final List<byte[]> data = batch.getValue();
+                futures.put(streamName, executor.submit(new Callable<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> call() {
+                        return sender.sendBatch(streamName, data);
+                    }
+                }));
+            }
+        }
+    }
+
+    /**
+     * Reads a batch of records belong to the same stream into a list. If data
+     * is read successfully, the stream name is returned.
+     *
+     * @param iterator record reader
+     * @param data a list to hold data.
+     * @param maxCount maximum number of records in a batch
+     * @param maxSize a threshold that concludes a batch. It allows one extra
+     *            record that brings the total size over this threshold.
+     * @return the stream name that the batch belongs to
+     */
+    protected String nextBatch(RecordReader iterator, List<byte[]> data, int maxCount,
+            int maxSize) {
+        return iterator.nextBatch(data, maxCount, maxSize);
     }
 
     /**
@@ -305,7 +532,7 @@ public abstract class AbstractKinesisRecorder {
      */
     public synchronized void deleteAllRecords() {
         try {
-            recordStore.iterator().removeAllRecords();
+            recordStore.removeAllRecords();
         } catch (final IOException e) {
             throw new AmazonClientException("Error deleting events", e);
         }
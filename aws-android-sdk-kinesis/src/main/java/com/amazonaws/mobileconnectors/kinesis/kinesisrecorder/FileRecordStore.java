@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -40,7 +41,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * the Android disk. Currently it stores each request as a JSON object
  * representing it's properties. One request per line.
  */
-class FileRecordStore {
+class FileRecordStore extends RecordStore {
     private static final Log LOGGER = LogFactory.getLog(FileRecordStore.class);
     private final ReentrantLock accessLock = new ReentrantLock(true);
 
@@ -94,6 +95,12 @@ class FileRecordStore {
         return success;
     }
 
+    @Override
+    public boolean put(String streamName, byte[] data) throws IOException {
+        return put(FileRecordParser.asString(streamName, data));
+    }
+
+    @Override
     public long getFileSize() {
         return recordFile == null ? 0 : recordFile.length();
     }
@@ -200,13 +207,25 @@ class FileRecordStore {
 
     }
 
-    public class RecordIterator implements java.util.Iterator<String> {
+    @Override
+    public RecordIterator reader() {
+        return iterator();
+    }
+
+    @Override
+    public void removeAllRecords() throws IOException {
+        iterator().removeAllRecords();
+    }
+
+    public class RecordIterator implements java.util.Iterator<String>, RecordReader {
         int linesRead = 0;
+        /** Number of lines this iterator removed from the file. */
+        long linesRemoved = 0;
         String nextBuffer = null;
         BufferedReader reader = null;
         boolean isEndOfFile = false;
 
-        private boolean tryOpenReader() throws FileNotFoundException {
+        private boolean tryOpenReader() throws IOException {
             if (reader != null) {
                 return true;
             }
@@ -218,6 +237,12 @@ class FileRecordStore {
 
                 if (streamReader != null) {
                     reader = new BufferedReader(streamReader);
+                    // skip the lines read before some were removed
+                    for (int i = 0; i < linesRead; i++) {
+                        if (reader.readLine() == null) {
+                            break;
+                        }
+                    }
                     return true;
                 }
             }
@@ -327,22 +352,88 @@ class FileRecordStore {
             }
         }
 
+        @Override
+        public String nextBatch(List<byte[]> data, int maxCount, int maxSize) {
+            data.clear();
+
+            String lastStreamName = null;
+            int size = 0;
+            int count = 0;
+            final FileRecordParser frp = new FileRecordParser();
+            while (hasNext() && count < maxCount && size < maxSize) {
+                final String line = peek();
+                if (line == null || line.isEmpty()) {
+                    next();
+                    continue;
+                }
+                // parse a line. Skip in case of corrupted data
+                try {
+                    frp.parse(line);
+                } catch (final Exception e) {
+                    LOGGER.warn("Failed to read line. Skip.", e);
+                    next();
+                    continue;
+                }
+
+                // check whether it belongs to previous batch
+                if (lastStreamName == null || lastStreamName.equals(frp.streamName)) {
+                    data.add(frp.bytes);
+                    // update counter
+                    count++;
+                    size += frp.bytes.length;
+                    lastStreamName = frp.streamName;
+                    next();
+                } else {
+                    break;
+                }
+            }
+
+            return lastStreamName;
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException(
                     "The remove() operation is not supported for this iterator");
         }
 
+        @Override
+        public long readPosition() {
+            return linesRemoved + linesRead;
+        }
+
+        @Override
         public void removeReadRecords() throws IOException {
             accessLock.lock();
             try {
                 deleteReadRecords(linesRead);
+                linesRemoved += linesRead;
                 resetReader();
             } finally {
                 accessLock.unlock();
             }
         }
 
+        @Override
+        public void removeRecordsBefore(long position) throws IOException {
+            accessLock.lock();
+            try {
+                final int lines = (int) (position - linesRemoved);
+                if (lines <= 0) {
+                    return;
+                }
+                deleteReadRecords(lines);
+                linesRemoved += lines;
+                // reopen the file past the lines read and kept
+                tryCloseReader();
+                linesRead -= lines;
+                nextBuffer = null;
+                isEndOfFile = false;
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
         public void removeAllRecords() throws IOException {
             accessLock.lock();
             try {
@@ -360,6 +451,7 @@ class FileRecordStore {
             isEndOfFile = false;
         }
 
+        @Override
         public void close() throws IOException {
             tryCloseReader();
         }
@@ -143,8 +143,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      */
     public KinesisRecorder(File directory, Regions region,
             AWSCredentialsProvider credentialsProvider, KinesisRecorderConfig config) {
-        super(new FileRecordStore(directory, RECORD_FILE_NAME,
-                config.getMaxStorageSize()), config);
+        super(RecordStore.newRecordStore(directory, RECORD_FILE_NAME, config), config);
 
         if (directory == null || credentialsProvider == null || region == null || config == null) {
             throw new IllegalArgumentException(
@@ -167,7 +166,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      * @param recordStore record store
      * @param config configuration
      */
-    KinesisRecorder(KinesisStreamRecordSender sender, FileRecordStore recordStore,
+    KinesisRecorder(KinesisStreamRecordSender sender, RecordStore recordStore,
             KinesisRecorderConfig config) {
         super(recordStore, config);
         this.sender = sender;
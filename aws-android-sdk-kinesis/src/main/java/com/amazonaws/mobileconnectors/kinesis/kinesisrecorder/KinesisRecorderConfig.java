@@ -28,6 +28,9 @@ public class KinesisRecorderConfig {
     private final ClientConfiguration clientConfiguration;
     private String partitionKey;
     private DeadLetterListener mDeadLetterListener;
+    private boolean segmentedStorageEnabled;
+    private long storageSegmentSize = SegmentedRecordStore.DEFAULT_SEGMENT_SIZE;
+    private int maxConcurrentRequests = 1;
 
     /**
      * Construct an instance of KinesisRecorderConfig which has default values
@@ -61,6 +64,9 @@ public class KinesisRecorderConfig {
         this.maxStorageSize = other.getMaxStorageSize();
         this.clientConfiguration = new ClientConfiguration(other.getClientConfiguration());
         this.partitionKey = other.partitionKey;
+        this.segmentedStorageEnabled = other.segmentedStorageEnabled;
+        this.storageSegmentSize = other.storageSegmentSize;
+        this.maxConcurrentRequests = other.maxConcurrentRequests;
     }
 
     /**
@@ -94,6 +100,79 @@ public class KinesisRecorderConfig {
         return this.maxStorageSize;
     }
 
+    /**
+     * Sets whether KinesisRecorder stores the records in binary segment files
+     * instead of a text file with one Base64 encoded record per line. Records
+     * in segment files are smaller, and removing sent records deletes whole
+     * segment files instead of rewriting the record file. Records left in the
+     * text file are moved to the segment files when the recorder is created.
+     * Disabled by default.
+     *
+     * @param enabled whether to store the records in segment files.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withSegmentedStorage(boolean enabled) {
+        this.segmentedStorageEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * @return whether KinesisRecorder stores the records in segment files.
+     */
+    public boolean isSegmentedStorageEnabled() {
+        return segmentedStorageEnabled;
+    }
+
+    /**
+     * Sets the size in bytes at which KinesisRecorder starts a new segment
+     * file when the segmented storage is enabled. Defaults to 256KiB.
+     *
+     * @param segmentSize the size of a segment file.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withStorageSegmentSize(long segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.storageSegmentSize = segmentSize;
+        return this;
+    }
+
+    /**
+     * @return The size in bytes at which KinesisRecorder starts a new segment
+     *         file.
+     */
+    public long getStorageSegmentSize() {
+        return storageSegmentSize;
+    }
+
+    /**
+     * Sets the maximum number of requests KinesisRecorder keeps in flight
+     * while submitting the saved records. With more than one, the records are
+     * read ahead and grouped per stream, and the requests are sent
+     * concurrently. Records are still removed in the order they were saved,
+     * once the requests of every record saved before them have completed.
+     * Defaults to 1, which sends one request at a time.
+     *
+     * @param maxConcurrentRequests the maximum number of requests in flight.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("Max concurrent requests must be at least 1");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of requests KinesisRecorder keeps in flight
+     *         while submitting the saved records.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
     /**
      * Returns the {@link DeadLetterListener} that will respond to records being dropped.
      * @return the {@link DeadLetterListener} that will respond to records being dropped.
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A local store that keeps Kinesis records until they are sent. Records are
+ * read back in the order they were saved, and removed once they are sent.
+ */
+abstract class RecordStore {
+    private static final Log LOGGER = LogFactory.getLog(RecordStore.class);
+
+    /**
+     * Saves a record.
+     *
+     * @param streamName the stream the record is sent to
+     * @param data the record data
+     * @return true if the record is saved, false if it would exceed the
+     *         maximum storage size
+     * @throws IOException if the record can't be written
+     */
+    public abstract boolean put(String streamName, byte[] data) throws IOException;
+
+    /**
+     * @return the number of bytes the store uses on disk
+     */
+    public abstract long getFileSize();
+
+    /**
+     * Opens a reader that reads the records from the oldest one.
+     *
+     * @return a {@link RecordReader}
+     */
+    public abstract RecordReader reader();
+
+    /**
+     * Removes all the records of the store.
+     *
+     * @throws IOException if the records can't be removed
+     */
+    public abstract void removeAllRecords() throws IOException;
+
+    /**
+     * Reads the records of a {@link RecordStore} in batches.
+     */
+    interface RecordReader {
+
+        /**
+         * @return whether there is a record left to read
+         */
+        boolean hasNext();
+
+        /**
+         * Reads a batch of records belong to the same stream into a list. If
+         * data is read successfully, the stream name is returned.
+         *
+         * @param data a list to hold data.
+         * @param maxCount maximum number of records in a batch
+         * @param maxSize a threshold that concludes a batch. It allows one
+         *            extra record that brings the total size over this
+         *            threshold.
+         * @return the stream name that the batch belongs to
+         */
+        String nextBatch(List<byte[]> data, int maxCount, int maxSize);
+
+        /**
+         * Returns the position of the reader, past the records read so far.
+         * Positions only make sense to the reader that returned them.
+         *
+         * @return the read position
+         */
+        long readPosition();
+
+        /**
+         * Removes the records read so far from the store.
+         *
+         * @throws IOException if the records can't be removed
+         */
+        void removeReadRecords() throws IOException;
+
+        /**
+         * Removes the records before a position previously returned by
+         * {@link #readPosition()}. The records read after that position are
+         * kept, and the reader carries on past them.
+         *
+         * @param position a read position of this reader
+         * @throws IOException if the records can't be removed
+         */
+        void removeRecordsBefore(long position) throws IOException;
+
+        /**
+         * Releases the resources of the reader.
+         *
+         * @throws IOException if the reader can't be closed
+         */
+        void close() throws IOException;
+    }
+
+    /**
+     * Creates the record store configured by the given
+     * {@link KinesisRecorderConfig}. When the segmented storage is enabled,
+     * the records left in the line based record file are moved to the
+     * segmented store.
+     *
+     * @param directory working directory
+     * @param recordFileName name of the record file
+     * @param config configuration
+     * @return a {@link RecordStore}
+     */
+    static RecordStore newRecordStore(File directory, String recordFileName,
+            KinesisRecorderConfig config) {
+        if (!config.isSegmentedStorageEnabled()) {
+            return new FileRecordStore(directory, recordFileName, config.getMaxStorageSize());
+        }
+
+        final SegmentedRecordStore store = new SegmentedRecordStore(directory, recordFileName,
+                config.getMaxStorageSize(), config.getStorageSegmentSize());
+        final File recordFile = new File(new File(directory, Constants.RECORDS_DIRECTORY),
+                recordFileName);
+        if (recordFile.isFile()) {
+            final FileRecordStore fileRecordStore = new FileRecordStore(directory,
+                    recordFileName, Long.MAX_VALUE);
+            final RecordIterator iterator = fileRecordStore.iterator();
+            final FileRecordParser frp = new FileRecordParser();
+            // position past the lines moved so far
+            long moved = 0;
+            boolean full = false;
+            try {
+                while (iterator.hasNext()) {
+                    final String line = iterator.next();
+                    if (line != null && !line.isEmpty()) {
+                        try {
+                            frp.parse(line);
+                        } catch (final Exception e) {
+                            LOGGER.warn("Failed to read line. Skip.", e);
+                            moved = iterator.readPosition();
+                            continue;
+                        }
+                        if (!store.put(frp.streamName, frp.bytes)) {
+                            // the segmented store is full, keep the lines left
+                            // in the record file until the next time
+                            LOGGER.warn("Segmented store is full, records are left in the record file");
+                            full = true;
+                            break;
+                        }
+                    }
+                    moved = iterator.readPosition();
+                }
+                if (full) {
+                    iterator.removeRecordsBefore(moved);
+                    iterator.close();
+                } else {
+                    iterator.close();
+                    if (!recordFile.delete()) {
+                        LOGGER.error("Failed to delete record file");
+                    }
+                }
+            } catch (final IOException e) {
+                LOGGER.error("Failed to move records to the segmented store", e);
+                try {
+                    // don't move the same records again
+                    iterator.removeRecordsBefore(moved);
+                    iterator.close();
+                } catch (final IOException ioe) {
+                    LOGGER.error("Failed to remove the moved records from the record file", ioe);
+                }
+            }
+        }
+        return store;
+    }
+}
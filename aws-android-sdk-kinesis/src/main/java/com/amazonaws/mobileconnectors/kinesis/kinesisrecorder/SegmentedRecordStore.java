@@ -0,0 +1,650 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.util.StringUtils;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link RecordStore} that appends the records to binary segment files. A
+ * record is stored as its length, a CRC32 checksum and the raw bytes of its
+ * stream name and data. A new segment file is started once the current one
+ * reaches the segment size. The position of the oldest unsent record is
+ * persisted in an offset file, so removing sent records updates the offset
+ * and deletes the segment files that were entirely sent, instead of rewriting
+ * the unsent records.
+ */
+class SegmentedRecordStore extends RecordStore {
+    private static final Log LOGGER = LogFactory.getLog(SegmentedRecordStore.class);
+
+    /** Default size of a segment file. */
+    static final long DEFAULT_SEGMENT_SIZE = 256 * 1024L;
+
+    /** Suffix of the directory that holds the segment files. */
+    static final String SEGMENTS_DIRECTORY_SUFFIX = ".segments";
+    /** Suffix of a segment file, named after its index. */
+    static final String SEGMENT_FILE_SUFFIX = ".seg";
+    /** Name of the file that holds the position of the oldest unsent record. */
+    static final String OFFSET_FILE_NAME = "offset";
+
+    /** Length of the record length and checksum that precede a record. */
+    private static final int HEADER_SIZE = 8;
+    /** Upper bound of a record length, beyond which it is deemed corrupted. */
+    private static final int MAX_RECORD_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_STREAM_NAME_SIZE = 0xFFFF;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ReentrantLock accessLock = new ReentrantLock(true);
+
+    private final File segmentsDirectory;
+    private final long maxStorageSize;
+    private final long segmentSize;
+
+    /** Index of the oldest segment file. */
+    private long firstSegment;
+    /** Index of the segment file records are appended to. */
+    private long lastSegment;
+    private long lastSegmentLength;
+    /** Total length of the segment files. */
+    private long totalSize;
+
+    /** Position of the oldest unsent record. */
+    private long offsetSegment;
+    private long offsetPosition;
+
+    /**
+     * Creates the SegmentedRecordStore.
+     *
+     * @param workDirectory The directory (which the SegmentedRecordStore is
+     *            only used for the KinesisRecorder) to use to store requests in
+     * @param recordFileName Name of the record file, the segment files are
+     *            kept in a directory named after it
+     * @param maxStorageSize Maximum storage size in bytes
+     * @param segmentSize Size in bytes at which a new segment file is started
+     */
+    SegmentedRecordStore(File workDirectory, String recordFileName, long maxStorageSize,
+            long segmentSize) {
+        final FileManager fileManager = new FileManager(workDirectory);
+        this.segmentsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY
+                + File.separator + recordFileName + SEGMENTS_DIRECTORY_SUFFIX);
+        if (segmentsDirectory == null) {
+            throw new AmazonClientException("Failed to create file store");
+        }
+        this.maxStorageSize = maxStorageSize;
+        this.segmentSize = segmentSize;
+        try {
+            open();
+        } catch (final IOException ioe) {
+            throw new AmazonClientException("Failed to open file store", ioe);
+        }
+    }
+
+    /**
+     * Loads the segment files and the offset, deletes the segment files that
+     * were sent and truncates a record partially written to the last segment.
+     */
+    private void open() throws IOException {
+        final TreeSet<Long> segments = new TreeSet<Long>();
+        final File[] files = segmentsDirectory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                final String name = file.getName();
+                if (!name.endsWith(SEGMENT_FILE_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    segments.add(Long.parseLong(name.substring(0,
+                            name.length() - SEGMENT_FILE_SUFFIX.length())));
+                } catch (final NumberFormatException e) {
+                    LOGGER.warn("Unexpected file in the record store: " + name);
+                }
+            }
+        }
+
+        readOffset();
+        if (segments.isEmpty()) {
+            firstSegment = offsetSegment;
+            lastSegment = offsetSegment;
+            offsetPosition = 0;
+        } else {
+            firstSegment = segments.first();
+            lastSegment = segments.last();
+            if (offsetSegment < firstSegment) {
+                // resend everything rather than lose records
+                offsetSegment = firstSegment;
+                offsetPosition = 0;
+            } else if (offsetSegment > lastSegment) {
+                // every record had been sent
+                lastSegment = offsetSegment;
+                offsetPosition = 0;
+            }
+        }
+
+        // the offset may have been persisted without deleting the segments
+        deleteSegmentsBefore(offsetSegment);
+        totalSize = 0;
+        for (long segment = firstSegment; segment < lastSegment; segment++) {
+            totalSize += segmentFile(segment).length();
+        }
+        lastSegmentLength = recoverLastSegment();
+        totalSize += lastSegmentLength;
+        if (offsetPosition > segmentFile(offsetSegment).length()) {
+            offsetPosition = 0;
+        }
+    }
+
+    /**
+     * Truncates the last segment file after its last complete record.
+     *
+     * @return the length of the last segment file
+     */
+    private long recoverLastSegment() throws IOException {
+        final File file = segmentFile(lastSegment);
+        if (!file.exists()) {
+            return 0;
+        }
+        long validLength = 0;
+        final DataInputStream in = openSegment(lastSegment, 0);
+        try {
+            Record record;
+            while ((record = readRecord(in)) != null) {
+                validLength += record.length;
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Truncating a partially written record", e);
+        } finally {
+            in.close();
+        }
+        if (validLength < file.length()) {
+            final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(validLength);
+            } finally {
+                raf.close();
+            }
+        }
+        return validLength;
+    }
+
+    @Override
+    public boolean put(String streamName, byte[] data) throws IOException {
+        final byte[] record = encode(streamName, data);
+        accessLock.lock();
+        try {
+            if (totalSize + record.length > maxStorageSize) {
+                return false;
+            }
+            if (lastSegmentLength > 0 && lastSegmentLength + record.length > segmentSize) {
+                lastSegment++;
+                lastSegmentLength = 0;
+            }
+            final OutputStream out = new FileOutputStream(segmentFile(lastSegment), true);
+            try {
+                out.write(record);
+            } catch (final IOException e) {
+                out.close();
+                truncateLastSegment();
+                throw e;
+            }
+            out.close();
+            lastSegmentLength += record.length;
+            totalSize += record.length;
+            return true;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    @Override
+    public long getFileSize() {
+        accessLock.lock();
+        try {
+            return totalSize;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    @Override
+    public SegmentReader reader() {
+        return new SegmentReader();
+    }
+
+    @Override
+    public void removeAllRecords() throws IOException {
+        accessLock.lock();
+        try {
+            writeOffset(lastSegment + 1, 0);
+            deleteSegmentsBefore(offsetSegment);
+            lastSegment = offsetSegment;
+            lastSegmentLength = 0;
+            totalSize = 0;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the records before the given position. Segment files that
+     * contain only removed records are deleted.
+     */
+    private void removeRecordsBefore(long segment, long position) throws IOException {
+        if (segment == lastSegment && position > 0 && position >= lastSegmentLength) {
+            // every record has been read, start over in a new segment
+            segment = lastSegment + 1;
+            position = 0;
+        }
+        if (segment == offsetSegment && position == offsetPosition) {
+            return;
+        }
+        writeOffset(segment, position);
+        if (segment > lastSegment) {
+            lastSegment = segment;
+            lastSegmentLength = 0;
+        }
+        deleteSegmentsBefore(segment);
+    }
+
+    private void deleteSegmentsBefore(long segment) {
+        while (firstSegment < segment) {
+            final File file = segmentFile(firstSegment);
+            final long length = file.length();
+            if (file.exists() && !file.delete()) {
+                LOGGER.error("Failed to delete segment file " + file.getName());
+                return;
+            }
+            totalSize -= length;
+            firstSegment++;
+        }
+    }
+
+    /**
+     * Starts a new segment for the records to come, so that records are not
+     * appended after a corrupted one.
+     */
+    private void rollSegment() {
+        if (lastSegmentLength > 0) {
+            lastSegment++;
+            lastSegmentLength = 0;
+        }
+    }
+
+    private void truncateLastSegment() {
+        try {
+            final RandomAccessFile raf = new RandomAccessFile(segmentFile(lastSegment), "rw");
+            try {
+                raf.setLength(lastSegmentLength);
+            } finally {
+                raf.close();
+            }
+        } catch (final IOException e) {
+            LOGGER.error("Failed to truncate segment file", e);
+            rollSegment();
+        }
+    }
+
+    private void readOffset() {
+        offsetSegment = 0;
+        offsetPosition = 0;
+        final File file = new File(segmentsDirectory, OFFSET_FILE_NAME);
+        if (!file.isFile()) {
+            return;
+        }
+        try {
+            final DataInputStream in = new DataInputStream(new FileInputStream(file));
+            try {
+                offsetSegment = in.readLong();
+                offsetPosition = in.readLong();
+            } finally {
+                in.close();
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to read the offset file, resending all records", e);
+            offsetSegment = 0;
+            offsetPosition = 0;
+        }
+    }
+
+    /**
+     * Persists the offset in a temporary file renamed to the offset file, so
+     * that the offset file is never partially written.
+     */
+    private void writeOffset(long segment, long position) throws IOException {
+        final File file = new File(segmentsDirectory, OFFSET_FILE_NAME);
+        final File tempFile = new File(segmentsDirectory, OFFSET_FILE_NAME + ".tmp");
+        final DataOutputStream out = new DataOutputStream(
+                new FileOutputStream(tempFile, false));
+        try {
+            out.writeLong(segment);
+            out.writeLong(position);
+        } finally {
+            out.close();
+        }
+        if (!tempFile.renameTo(file) && !(file.delete() && tempFile.renameTo(file))) {
+            throw new IOException("Failed to persist the offset of the record store");
+        }
+        offsetSegment = segment;
+        offsetPosition = position;
+    }
+
+    private File segmentFile(long segment) {
+        return new File(segmentsDirectory, segment + SEGMENT_FILE_SUFFIX);
+    }
+
+    private DataInputStream openSegment(long segment, long position) throws IOException {
+        final InputStream in = new FileInputStream(segmentFile(segment));
+        long skipped = 0;
+        while (skipped < position) {
+            final long n = in.skip(position - skipped);
+            if (n <= 0) {
+                in.close();
+                throw new EOFException("Segment file is shorter than the offset");
+            }
+            skipped += n;
+        }
+        return new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+    }
+
+    /**
+     * Encodes a record: its length and CRC32 checksum, the length and UTF-8
+     * bytes of the stream name and the data.
+     */
+    static byte[] encode(String streamName, byte[] data) {
+        final byte[] name = streamName.getBytes(StringUtils.UTF8);
+        if (name.length > MAX_STREAM_NAME_SIZE) {
+            throw new IllegalArgumentException("Invalid stream name: " + streamName);
+        }
+        final int length = 2 + name.length + data.length;
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + length);
+        buffer.putInt(length);
+        buffer.putInt(0);
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+        buffer.put(data);
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, length);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Reads a record.
+     *
+     * @return the record, or null at the end of the segment
+     * @throws CorruptedRecordException if the record is incomplete or its
+     *             checksum doesn't match
+     * @throws IOException if the segment can't be read
+     */
+    static Record readRecord(DataInputStream in) throws IOException {
+        final int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        try {
+            final int length = (first << 24) | (in.readUnsignedByte() << 16)
+                    | (in.readUnsignedShort());
+            final int checksum = in.readInt();
+            if (length < 2 || length > MAX_RECORD_SIZE) {
+                throw new CorruptedRecordException("Invalid record length " + length);
+            }
+            final byte[] payload = new byte[length];
+            in.readFully(payload);
+            final CRC32 crc = new CRC32();
+            crc.update(payload, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                throw new CorruptedRecordException("Record checksum mismatch");
+            }
+            final int nameLength = ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
+            if (2 + nameLength > length) {
+                throw new CorruptedRecordException("Invalid stream name length " + nameLength);
+            }
+            final Record record = new Record();
+            record.streamName = new String(payload, 2, nameLength, StringUtils.UTF8);
+            record.data = new byte[length - 2 - nameLength];
+            System.arraycopy(payload, 2 + nameLength, record.data, 0, record.data.length);
+            record.length = HEADER_SIZE + length;
+            return record;
+        } catch (final EOFException e) {
+            throw new CorruptedRecordException("Incomplete record");
+        }
+    }
+
+    /**
+     * A record read from a segment file.
+     */
+    static final class Record {
+        String streamName;
+        byte[] data;
+        /** Length of the record in the segment file. */
+        int length;
+    }
+
+    /**
+     * Signals an incomplete or corrupted record.
+     */
+    static final class CorruptedRecordException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        CorruptedRecordException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Reads the records from the persisted offset. Records read are removed
+     * by moving the offset to the position of the next record to read. The
+     * read positions of the reader count the bytes it read, and are mapped
+     * back to segment files with the read positions they start at.
+     */
+    class SegmentReader implements RecordReader {
+        /** Position of the next record to read. */
+        private long segment;
+        private long position;
+        /** Number of bytes of the records read. */
+        private long bytesRead;
+        /** Segment indexes by the read position they start at. */
+        private final TreeMap<Long, Long> segmentStarts = new TreeMap<Long, Long>();
+        private DataInputStream in;
+        /** Next record, read but not returned yet. */
+        private Record next;
+
+        SegmentReader() {
+            accessLock.lock();
+            try {
+                moveTo(offsetSegment, offsetPosition);
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        private void moveTo(long segment, long position) {
+            this.segment = segment;
+            this.position = position;
+            segmentStarts.put(bytesRead - position, segment);
+        }
+
+        private Record peek() {
+            accessLock.lock();
+            try {
+                while (next == null) {
+                    if (segment < firstSegment) {
+                        // the records have been removed meanwhile
+                        closeSegment();
+                        moveTo(offsetSegment, offsetPosition);
+                    }
+                    if (in == null) {
+                        if (!segmentFile(segment).exists()) {
+                            if (segment >= lastSegment) {
+                                return null;
+                            }
+                            moveTo(segment + 1, 0);
+                            continue;
+                        }
+                        in = openSegment(segment, position);
+                    }
+                    try {
+                        next = readRecord(in);
+                    } catch (final CorruptedRecordException e) {
+                        LOGGER.warn("Skipping the rest of a corrupted segment file", e);
+                        if (segment == lastSegment) {
+                            rollSegment();
+                        }
+                        next = null;
+                        if (!nextSegment()) {
+                            return null;
+                        }
+                        continue;
+                    }
+                    if (next == null && !nextSegment()) {
+                        return null;
+                    }
+                }
+                return next;
+            } catch (final IOException e) {
+                throw new AmazonClientException("IO Error", e);
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        /**
+         * Moves to the next segment file if the current one is complete.
+         * Otherwise closes the current one so that records appended later
+         * are read on the next attempt.
+         */
+        private boolean nextSegment() throws IOException {
+            closeSegment();
+            if (segment >= lastSegment) {
+                return false;
+            }
+            moveTo(segment + 1, 0);
+            return true;
+        }
+
+        private void closeSegment() throws IOException {
+            if (in != null) {
+                in.close();
+                in = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() != null;
+        }
+
+        @Override
+        public String nextBatch(List<byte[]> data, int maxCount, int maxSize) {
+            data.clear();
+
+            String lastStreamName = null;
+            int size = 0;
+            int count = 0;
+            accessLock.lock();
+            try {
+                Record record;
+                while (count < maxCount && size < maxSize && (record = peek()) != null) {
+                    // check whether it belongs to previous batch
+                    if (lastStreamName != null && !lastStreamName.equals(record.streamName)) {
+                        break;
+                    }
+                    data.add(record.data);
+                    count++;
+                    size += record.data.length;
+                    lastStreamName = record.streamName;
+                    position += record.length;
+                    bytesRead += record.length;
+                    next = null;
+                }
+            } finally {
+                accessLock.unlock();
+            }
+
+            return lastStreamName;
+        }
+
+        @Override
+        public long readPosition() {
+            accessLock.lock();
+            try {
+                return bytesRead;
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        @Override
+        public void removeReadRecords() throws IOException {
+            removeRecordsBefore(readPosition());
+        }
+
+        @Override
+        public void removeRecordsBefore(long readPosition) throws IOException {
+            accessLock.lock();
+            try {
+                final Map.Entry<Long, Long> start = segmentStarts.floorEntry(readPosition);
+                if (start == null || start.getValue() < firstSegment) {
+                    // the records have been removed meanwhile
+                    return;
+                }
+                SegmentedRecordStore.this.removeRecordsBefore(start.getValue(),
+                        readPosition - start.getKey());
+                segmentStarts.headMap(start.getKey()).clear();
+                if (segment < offsetSegment) {
+                    // every record was removed, carry on in the new segment
+                    closeSegment();
+                    next = null;
+                    moveTo(offsetSegment, offsetPosition);
+                }
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            accessLock.lock();
+            try {
+                closeSegment();
+                next = null;
+            } finally {
+                accessLock.unlock();
+            }
+        }
+    }
+}
@@ -248,7 +248,7 @@ public class AmazonKinesisClient extends AmazonWebServiceClient implements Amazo
      */
     public AmazonKinesisClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -24,7 +24,7 @@ import static org.junit.Assert.fail;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
-import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.RecordStore.RecordReader;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -33,15 +33,21 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest = Config.NONE)
@@ -59,7 +65,7 @@ public class AbstractKinesisRecorderTest {
     static class MockAbstractKinesisRecorder extends AbstractKinesisRecorder {
         private RecordSender sender;
 
-        protected MockAbstractKinesisRecorder(FileRecordStore recordStore,
+        protected MockAbstractKinesisRecorder(RecordStore recordStore,
                 KinesisRecorderConfig config) {
             super(recordStore, config);
         }
@@ -113,20 +119,20 @@ public class AbstractKinesisRecorderTest {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
         }
         List<byte[]> data = new ArrayList<byte[]>();
-        RecordIterator iterator;
+        RecordReader iterator;
 
-        iterator = recorder.recordStore.iterator();
+        iterator = recorder.recordStore.reader();
         String streamName = recorder.nextBatch(iterator, data, 1, 5 * 1024);
         assertEquals("read 1 records", 1, data.size());
         assertEquals("stream name", STREAM_NAME, streamName);
         iterator.close();
 
-        iterator = recorder.recordStore.iterator();
+        iterator = recorder.recordStore.reader();
         recorder.nextBatch(iterator, data, 10, 5 * 1024);
         assertEquals("read 5 records", 5, data.size());
         iterator.close();
 
-        iterator = recorder.recordStore.iterator();
+        iterator = recorder.recordStore.reader();
         recorder.nextBatch(iterator, data, 10, 5 * 1024 - 10);
         // allows 1 record to bring the total size over the limit
         assertEquals("read 5 records", 5, data.size());
@@ -148,8 +154,8 @@ public class AbstractKinesisRecorderTest {
         List<byte[]> data = new ArrayList<byte[]>();
 
         // read all data
-        RecordIterator iterator = recorder.recordStore.iterator();
-        iterator = recorder.recordStore.iterator();
+        RecordReader iterator = recorder.recordStore.reader();
+        iterator = recorder.recordStore.reader();
         String streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
         assertEquals("read 6 records", 6, data.size());
         assertEquals("stream name", STREAM_NAME, streamName);
@@ -187,8 +193,8 @@ public class AbstractKinesisRecorderTest {
         List<byte[]> data = new ArrayList<byte[]>();
 
         // read all data
-        RecordIterator iterator = recorder.recordStore.iterator();
-        iterator = recorder.recordStore.iterator();
+        RecordReader iterator = recorder.recordStore.reader();
+        iterator = recorder.recordStore.reader();
         String streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
         assertEquals("read 10 records", 10, data.size());
         assertEquals("stream name", STREAM_NAME, streamName);
@@ -317,6 +323,139 @@ public class AbstractKinesisRecorderTest {
         assertTrue("records not removed", recorder.getDiskBytesUsed() > 0);
     }
 
+    @Test
+    public void testSubmitAllRecordsConcurrently() throws IOException {
+        MockAbstractKinesisRecorder concurrentRecorder = newConcurrentRecorder(4);
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 500; i++) {
+            concurrentRecorder.saveRecord(randomBytes(100), i % 2 == 0 ? STREAM_NAME
+                    : anotherStream);
+        }
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger sent = new AtomicInteger();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) throws Exception {
+                        int current = inFlight.incrementAndGet();
+                        maxInFlight.set(Math.max(maxInFlight.get(), current));
+                        Thread.sleep(20);
+                        sent.addAndGet(((List<?>) invocation.getArguments()[1]).size());
+                        inFlight.decrementAndGet();
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        concurrentRecorder.submitAllRecords();
+
+        assertEquals("all records sent", 500, sent.get());
+        assertEquals("no records after submitAllRecords", 0,
+                concurrentRecorder.getDiskBytesUsed());
+        assertTrue("requests sent concurrently", maxInFlight.get() > 1);
+        // interleaved records are grouped per stream, 128 records per window
+        Mockito.verify(sender, Mockito.times(8))
+                .sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class));
+    }
+
+    @Test
+    public void testSubmitAllRecordsConcurrentlyKeepsRecordsAfterFailure() throws IOException {
+        MockAbstractKinesisRecorder concurrentRecorder = newConcurrentRecorder(4);
+        final List<byte[]> records = new ArrayList<byte[]>();
+        for (int i = 0; i < 1000; i++) {
+            byte[] bytes = randomBytes(100);
+            records.add(bytes);
+            concurrentRecorder.saveRecord(bytes, STREAM_NAME);
+        }
+        final byte[] failing = records.get(300);
+        final AmazonServiceException ase = new AmazonServiceException("offline");
+        final List<byte[]> sent = Collections.synchronizedList(new ArrayList<byte[]>());
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        List<byte[]> data = (List<byte[]>) invocation.getArguments()[1];
+                        if (containsRecord(data, failing)) {
+                            throw ase;
+                        }
+                        sent.addAll(data);
+                        return new ArrayList<byte[]>();
+                    }
+                });
+        Mockito.when(sender.isRecoverable(ase)).thenReturn(true);
+
+        try {
+            concurrentRecorder.submitAllRecords();
+            fail("Should throw exception");
+        } catch (AmazonClientException ace) {
+            assertSame("same exception", ase, ace);
+        }
+
+        // the windows before the failing one are removed, the rest is kept
+        List<byte[]> data = new ArrayList<byte[]>();
+        RecordReader iterator = concurrentRecorder.recordStore.reader();
+        int kept = 0;
+        while (iterator.hasNext()) {
+            concurrentRecorder.nextBatch(iterator, data, 1000, 1024 * 1024);
+            kept += data.size();
+        }
+        iterator.close();
+        assertEquals("records from the failing window are kept", 1000 - 256, kept);
+        for (int i = 0; i < 256; i++) {
+            assertTrue("records before the failure were sent",
+                    containsRecord(sent, records.get(i)));
+        }
+    }
+
+    @Test
+    public void testSubmitAllRecordsConcurrentlyReusesThreads() throws IOException {
+        MockAbstractKinesisRecorder concurrentRecorder = newConcurrentRecorder(4);
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) throws Exception {
+                        threads.add(Thread.currentThread());
+                        Thread.sleep(20);
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 500; i++) {
+                concurrentRecorder.saveRecord(randomBytes(100), STREAM_NAME);
+            }
+            concurrentRecorder.submitAllRecords();
+            assertEquals("no records after submitAllRecords", 0,
+                    concurrentRecorder.getDiskBytesUsed());
+        }
+        assertTrue("threads are reused across submissions", threads.size() <= 4);
+    }
+
+    private MockAbstractKinesisRecorder newConcurrentRecorder(int maxConcurrentRequests)
+            throws IOException {
+        KinesisRecorderConfig config = new KinesisRecorderConfig()
+                .withDeadLetterListener(deadLetterListener)
+                .withMaxConcurrentRequests(maxConcurrentRequests);
+        RecordStore recordStore = new SegmentedRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                config.getMaxStorageSize(), config.getStorageSegmentSize());
+        MockAbstractKinesisRecorder concurrentRecorder = new MockAbstractKinesisRecorder(
+                recordStore, config);
+        concurrentRecorder.setRecordSender(sender);
+        return concurrentRecorder;
+    }
+
+    private static boolean containsRecord(List<byte[]> data, byte[] record) {
+        synchronized (data) {
+            for (byte[] bytes : data) {
+                if (Arrays.equals(bytes, record)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private byte[] randomBytes(int length) {
         byte[] data = new byte[length];
         new Random().nextBytes(data);
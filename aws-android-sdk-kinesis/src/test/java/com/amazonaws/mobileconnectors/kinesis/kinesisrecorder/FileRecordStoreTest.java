@@ -183,6 +183,35 @@ public class FileRecordStoreTest {
 
     }
 
+    @Test
+    public void testRemoveRecordsBeforeKeepsReadingPastThem() throws IOException {
+        FileManager fileManager = new FileManager(TEST_DIRECTORY);
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        for (int i = 1; i <= 10; i++) {
+            recordStore.put(String.valueOf(i));
+        }
+
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 1; i <= 3; i++) {
+            iter.next();
+        }
+        long position = iter.readPosition();
+        for (int i = 4; i <= 6; i++) {
+            iter.next();
+        }
+        assertEquals("7", iter.peek());
+
+        // remove the first three records, the reader carries on at 7
+        iter.removeRecordsBefore(position);
+        assertSame(getNumberOfLinesInFile(fileManager), 7);
+        assertEquals("7", iter.next());
+        iter.removeRecordsBefore(iter.readPosition());
+        assertSame(getNumberOfLinesInFile(fileManager), 3);
+        assertEquals("8", iter.next());
+        iter.close();
+    }
+
     @Test
     public void testWhenWritingExceedsMaxStorageSize_noMoreRecordsWritten() throws IOException {
         File recordsDirectory = null;
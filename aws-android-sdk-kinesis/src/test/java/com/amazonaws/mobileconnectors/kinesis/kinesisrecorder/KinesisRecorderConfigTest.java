@@ -58,11 +58,19 @@ public class KinesisRecorderConfigTest {
     public void copyConstructor() {
         KinesisRecorderConfig kConfig = new KinesisRecorderConfig();
         kConfig.withMaxStorageSize(5);
+        kConfig.withSegmentedStorage(true).withStorageSegmentSize(1024);
+        kConfig.withMaxConcurrentRequests(4);
 
         KinesisRecorderConfig copiedConfig = new KinesisRecorderConfig(kConfig);
 
         assertEquals(kConfig.getMaxStorageSize(),
                 copiedConfig.getMaxStorageSize());
+        assertEquals(kConfig.isSegmentedStorageEnabled(),
+                copiedConfig.isSegmentedStorageEnabled());
+        assertEquals(kConfig.getStorageSegmentSize(),
+                copiedConfig.getStorageSegmentSize());
+        assertEquals(kConfig.getMaxConcurrentRequests(),
+                copiedConfig.getMaxConcurrentRequests());
 
     }
 
@@ -99,7 +99,7 @@ public class KinesisRecorderTest {
 
         recorder = new KinesisRecorder(directory, Regions.US_EAST_1, provider);
         Thread.sleep(1000);
-        RecordIterator iterator = recorder.recordStore.iterator();
+        RecordIterator iterator = ((FileRecordStore) recorder.recordStore).iterator();
         FileRecordParser frp = new FileRecordParser();
         int count = 0;
         while (iterator.hasNext()) {
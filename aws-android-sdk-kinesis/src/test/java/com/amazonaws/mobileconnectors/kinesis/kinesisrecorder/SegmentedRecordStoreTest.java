@@ -0,0 +1,287 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.RecordStore.RecordReader;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SegmentedRecordStoreTest {
+    private static final String STREAM_NAME = "stream";
+    private static final String RECORD_FILE_NAME = "records";
+    private static final long MAX_STORAGE_SIZE = 1024 * 1024L;
+    private static final long SEGMENT_SIZE = 4 * 1024L;
+    private static final int RECORD_SIZE = 1000;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File directory;
+    private File segmentsDirectory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = temp.newFolder();
+        segmentsDirectory = new File(new File(directory, Constants.RECORDS_DIRECTORY),
+                RECORD_FILE_NAME + SegmentedRecordStore.SEGMENTS_DIRECTORY_SUFFIX);
+    }
+
+    @Test
+    public void testPutAndReadAcrossSegments() throws IOException {
+        final SegmentedRecordStore store = newStore();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(store.put(STREAM_NAME, record(i)));
+        }
+        // four records fit in a segment
+        assertEquals(5, segmentFiles().length);
+        assertEquals(20 * (RECORD_SIZE + 8 + 2 + STREAM_NAME.length()), store.getFileSize());
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        assertEquals(STREAM_NAME, reader.nextBatch(data, 100, 100 * 1024));
+        assertEquals(20, data.size());
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(record(i), data.get(i));
+        }
+        assertNull(reader.nextBatch(data, 100, 100 * 1024));
+        reader.close();
+    }
+
+    @Test
+    public void testRemoveReadRecordsDeletesSentSegments() throws IOException {
+        final SegmentedRecordStore store = newStore();
+        for (int i = 0; i < 20; i++) {
+            store.put(STREAM_NAME, record(i));
+        }
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        reader.nextBatch(data, 10, 100 * 1024);
+        reader.removeReadRecords();
+        // the first two segments were sent, the third one half sent
+        assertEquals(3, segmentFiles().length);
+
+        reader.nextBatch(data, 10, 100 * 1024);
+        assertArrayEquals(record(10), data.get(0));
+        reader.removeReadRecords();
+        reader.close();
+        assertEquals(0, store.getFileSize());
+        assertEquals(0, segmentFiles().length);
+
+        // the store keeps working once emptied
+        store.put(STREAM_NAME, record(20));
+        final RecordReader next = store.reader();
+        next.nextBatch(data, 10, 100 * 1024);
+        assertEquals(1, data.size());
+        assertArrayEquals(record(20), data.get(0));
+        next.close();
+    }
+
+    @Test
+    public void testOffsetIsPersisted() throws IOException {
+        SegmentedRecordStore store = newStore();
+        for (int i = 0; i < 10; i++) {
+            store.put(STREAM_NAME, record(i));
+        }
+        final List<byte[]> data = new ArrayList<byte[]>();
+        RecordReader reader = store.reader();
+        reader.nextBatch(data, 3, 100 * 1024);
+        reader.removeReadRecords();
+        // read but not removed
+        reader.nextBatch(data, 3, 100 * 1024);
+        reader.close();
+
+        store = newStore();
+        reader = store.reader();
+        reader.nextBatch(data, 100, 100 * 1024);
+        assertEquals(7, data.size());
+        assertArrayEquals(record(3), data.get(0));
+        reader.close();
+    }
+
+    @Test
+    public void testRemoveRecordsBeforeKeepsRecordsReadAfter() throws IOException {
+        final SegmentedRecordStore store = newStore();
+        for (int i = 0; i < 20; i++) {
+            store.put(STREAM_NAME, record(i));
+        }
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        reader.nextBatch(data, 9, 100 * 1024);
+        final long position = reader.readPosition();
+        reader.nextBatch(data, 9, 100 * 1024);
+
+        // only the first batch is removed, the reader carries on
+        reader.removeRecordsBefore(position);
+        assertEquals(3, segmentFiles().length);
+        reader.nextBatch(data, 100, 100 * 1024);
+        assertEquals(2, data.size());
+        assertArrayEquals(record(18), data.get(0));
+        reader.close();
+
+        final RecordReader next = store.reader();
+        next.nextBatch(data, 100, 100 * 1024);
+        assertEquals(11, data.size());
+        assertArrayEquals(record(9), data.get(0));
+        next.close();
+    }
+
+    @Test
+    public void testBatchesEndAtStreamChange() throws IOException {
+        final SegmentedRecordStore store = newStore();
+        store.put(STREAM_NAME, record(0));
+        store.put(STREAM_NAME, record(1));
+        store.put("another_stream", record(2));
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        assertEquals(STREAM_NAME, reader.nextBatch(data, 100, 100 * 1024));
+        assertEquals(2, data.size());
+        assertEquals("another_stream", reader.nextBatch(data, 100, 100 * 1024));
+        assertEquals(1, data.size());
+        assertFalse(reader.hasNext());
+        reader.close();
+    }
+
+    @Test
+    public void testPartiallyWrittenRecordIsTruncated() throws IOException {
+        SegmentedRecordStore store = newStore();
+        store.put(STREAM_NAME, record(0));
+        final long size = store.getFileSize();
+        final FileOutputStream out = new FileOutputStream(new File(segmentsDirectory,
+                "0" + SegmentedRecordStore.SEGMENT_FILE_SUFFIX), true);
+        out.write(SegmentedRecordStore.encode(STREAM_NAME, record(1)), 0, 100);
+        out.close();
+
+        store = newStore();
+        assertEquals(size, store.getFileSize());
+        store.put(STREAM_NAME, record(2));
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        reader.nextBatch(data, 100, 100 * 1024);
+        assertEquals(2, data.size());
+        assertArrayEquals(record(0), data.get(0));
+        assertArrayEquals(record(2), data.get(1));
+        reader.close();
+    }
+
+    @Test
+    public void testMaxStorageSize() throws IOException {
+        final SegmentedRecordStore store = new SegmentedRecordStore(directory, RECORD_FILE_NAME,
+                3 * RECORD_SIZE, SEGMENT_SIZE);
+        assertTrue(store.put(STREAM_NAME, record(0)));
+        assertTrue(store.put(STREAM_NAME, record(1)));
+        assertFalse(store.put(STREAM_NAME, record(2)));
+
+        store.removeAllRecords();
+        assertEquals(0, store.getFileSize());
+        assertFalse(store.reader().hasNext());
+        assertTrue(store.put(STREAM_NAME, record(3)));
+    }
+
+    @Test
+    public void testRecordsAreMovedFromRecordFile() throws IOException {
+        final FileRecordStore fileRecordStore = new FileRecordStore(directory, RECORD_FILE_NAME,
+                MAX_STORAGE_SIZE);
+        fileRecordStore.put(STREAM_NAME, record(0));
+        fileRecordStore.put(STREAM_NAME, record(1));
+
+        final RecordStore store = RecordStore.newRecordStore(directory, RECORD_FILE_NAME,
+                new KinesisRecorderConfig().withSegmentedStorage(true)
+                        .withStorageSegmentSize(SEGMENT_SIZE));
+        assertTrue(store instanceof SegmentedRecordStore);
+        assertFalse(new File(new File(directory, Constants.RECORDS_DIRECTORY),
+                RECORD_FILE_NAME).exists());
+
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        reader.nextBatch(data, 100, 100 * 1024);
+        assertEquals(2, data.size());
+        assertArrayEquals(record(1), data.get(1));
+        reader.close();
+    }
+
+    @Test
+    public void testRecordsAreKeptInRecordFileWhenStoreIsFull() throws IOException {
+        final FileRecordStore fileRecordStore = new FileRecordStore(directory, RECORD_FILE_NAME,
+                MAX_STORAGE_SIZE);
+        fileRecordStore.put(STREAM_NAME, record(0));
+        fileRecordStore.put(STREAM_NAME, record(1));
+        fileRecordStore.put(STREAM_NAME, record(2));
+
+        final RecordStore store = RecordStore.newRecordStore(directory, RECORD_FILE_NAME,
+                new KinesisRecorderConfig().withSegmentedStorage(true)
+                        .withMaxStorageSize(3 * RECORD_SIZE)
+                        .withStorageSegmentSize(SEGMENT_SIZE));
+        final List<byte[]> data = new ArrayList<byte[]>();
+        final RecordReader reader = store.reader();
+        reader.nextBatch(data, 100, 100 * 1024);
+        assertEquals(2, data.size());
+        assertArrayEquals(record(1), data.get(1));
+        reader.close();
+
+        // the record that didn't fit is left in the record file
+        assertTrue(new File(new File(directory, Constants.RECORDS_DIRECTORY),
+                RECORD_FILE_NAME).exists());
+        final List<byte[]> left = new ArrayList<byte[]>();
+        final RecordReader fileReader = new FileRecordStore(directory, RECORD_FILE_NAME,
+                MAX_STORAGE_SIZE).reader();
+        fileReader.nextBatch(left, 100, 100 * 1024);
+        assertEquals(1, left.size());
+        assertArrayEquals(record(2), left.get(0));
+        fileReader.close();
+    }
+
+    private SegmentedRecordStore newStore() {
+        return new SegmentedRecordStore(directory, RECORD_FILE_NAME, MAX_STORAGE_SIZE,
+                SEGMENT_SIZE);
+    }
+
+    private File[] segmentFiles() {
+        final List<File> files = new ArrayList<File>();
+        for (final File file : segmentsDirectory.listFiles()) {
+            if (file.getName().endsWith(SegmentedRecordStore.SEGMENT_FILE_SUFFIX)) {
+                files.add(file);
+            }
+        }
+        return files.toArray(new File[files.size()]);
+    }
+
+    private static byte[] record(int i) {
+        final byte[] data = new byte[RECORD_SIZE];
+        final byte[] prefix = String.valueOf(i).getBytes(StringUtils.UTF8);
+        System.arraycopy(prefix, 0, data, 0, prefix.length);
+        return data;
+    }
+}
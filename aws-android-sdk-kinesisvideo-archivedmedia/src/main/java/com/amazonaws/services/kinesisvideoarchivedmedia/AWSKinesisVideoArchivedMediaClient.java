@@ -247,7 +247,7 @@ public class AWSKinesisVideoArchivedMediaClient extends AmazonWebServiceClient i
      */
     public AWSKinesisVideoArchivedMediaClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -256,7 +256,7 @@ public class AWSKinesisVideoSignalingClient extends AmazonWebServiceClient imple
      */
     public AWSKinesisVideoSignalingClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
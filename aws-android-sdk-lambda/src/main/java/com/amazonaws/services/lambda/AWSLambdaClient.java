@@ -252,7 +252,7 @@ public class AWSLambdaClient extends AmazonWebServiceClient implements AWSLambda
      */
     public AWSLambdaClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
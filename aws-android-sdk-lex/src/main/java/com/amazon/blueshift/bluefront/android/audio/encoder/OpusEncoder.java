@@ -140,6 +140,21 @@ public class OpusEncoder implements AudioEncoder {
         return encodeOpus(mOpusEncoder, samples, mPacketSize);
     }
 
+    @Override
+    public synchronized int encode(final short[] samples, final int numSamples, final ByteBuffer output)
+            throws AudioEncoderException {
+        // The native encoder returns a new array for each packet.
+        final byte[] packet = encode(samples, numSamples);
+        output.put(packet);
+        return packet.length;
+    }
+
+    @Override
+    public int getMaxEncodedSize(final int numSamples) {
+        // One CBR packet is produced per call.
+        return mPacketSize;
+    }
+
     @Override
     public MediaType getMediaType() {
         return mMediaType;
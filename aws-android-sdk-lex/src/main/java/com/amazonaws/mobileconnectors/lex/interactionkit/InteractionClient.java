@@ -18,6 +18,7 @@ package com.amazonaws.mobileconnectors.lex.interactionkit;
 import android.content.Context;
 import android.media.AudioManager;
 import android.media.MediaPlayer;
+import android.os.Build;
 import android.os.Handler;
 import android.util.Log;
 
@@ -40,11 +41,13 @@ import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.AudioRec
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.AudioTimeouts;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.LexAudioRecorder;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.LexAudioRecorderBuilder;
+import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.StreamingAudioDataSource;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder.AudioEncoder;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder.BufferedAudioEncoder;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder.L16PcmEncoder;
 import com.amazonaws.mobileconnectors.lex.interactionkit.internal.vad.config.DnnVADConfig;
 import com.amazonaws.mobileconnectors.lex.interactionkit.listeners.AudioPlaybackListener;
+import com.amazonaws.mobileconnectors.lex.interactionkit.listeners.AudioPlaybackMetricsListener;
 import com.amazonaws.mobileconnectors.lex.interactionkit.listeners.DefaultInteractionListener;
 import com.amazonaws.mobileconnectors.lex.interactionkit.listeners.InteractionListener;
 import com.amazonaws.mobileconnectors.lex.interactionkit.listeners.MicrophoneListener;
@@ -120,6 +123,16 @@ public class InteractionClient {
      * Local media player for audio playback.
      */
     private MediaPlayer lMediaPlayer;
+    /**
+     * Time the first byte of the audio response being played back was
+     * received, as a {@link System#nanoTime()}.
+     */
+    private volatile long audioFirstByteTime;
+    /**
+     * Interval at which the playback position is checked until the first
+     * audio is played, in milliseconds.
+     */
+    private static final long PLAYBACK_POLL_INTERVAL_MILLIS = 10;
     /**
      * Audio encoding used for audio streamed to the Amazon Lex service.
      */
@@ -471,7 +484,9 @@ public class InteractionClient {
      * Invokes the Android {@link MediaPlayer} to playback audio if audio
      * playback was requested, and continues to analyze the response. If the
      * response does not contain audio stream or if audio playback was not
-     * requested, continues to analyze the response.
+     * requested, continues to analyze the response. If streaming audio
+     * playback is enabled and supported, the playback starts while the audio
+     * is received, otherwise once it is saved to a file.
      *
      * @param handler      {@link Handler}, to interact with app components in the
      *                     main thread.
@@ -487,8 +502,17 @@ public class InteractionClient {
                                               final ResponseType requestType) {
         // Check if response is audio and audio playback is requested.
         if (ResponseType.AUDIO_MPEG.equals(responseMode) && interactionConfig.isEnableAudioPlayback()) {
+            final long responseTime = System.nanoTime();
             this.lMediaPlayer = new MediaPlayer();
             this.lMediaPlayer.setAudioStreamType(AudioManager.STREAM_MUSIC);
+            audioFirstByteTime = 0;
+            // Play the audio back while it is received if possible.
+            final StreamingAudioDataSource audioDataSource =
+                    interactionConfig.isEnableStreamingAudioPlayback()
+                            && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M
+                            ? new StreamingAudioDataSource(result.getAudioStream(),
+                                    StreamingAudioDataSource.DEFAULT_BUFFER_SIZE)
+                            : null;
             try {
                 setAudioPlaybackState(BUSY);
                 File tempAudioFile = File.createTempFile("lex_temp_response", "mp3",
@@ -529,6 +553,11 @@ public class InteractionClient {
                             handler.post(appCallback);
                         }
                         mp.start();
+                        if (audioPlaybackListener instanceof AudioPlaybackMetricsListener) {
+                            final long firstByteTime = audioDataSource != null
+                                    ? audioDataSource.getFirstByteTime() : audioFirstByteTime;
+                            reportAudioPlaybackMetrics(handler, mp, responseTime, firstByteTime);
+                        }
                     }
                 });
 
@@ -558,20 +587,34 @@ public class InteractionClient {
                     }
                 });
 
-                final InputStream audioStream = result.getAudioStream();
-                tempAudioFile = File.createTempFile("lex_temp_response", "dat",
-                        context.getFilesDir());
-                tempAudioFile.deleteOnExit();
-                final FileOutputStream audioOut = new FileOutputStream(tempAudioFile);
-                final byte buffer[] = new byte[16384];
-                int length;
-                while ((length = audioStream.read(buffer)) != -1) {
-                    audioOut.write(buffer, 0, length);
+                if (audioDataSource != null) {
+                    new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            audioDataSource.feed();
+                        }
+                    }).start();
+                    lMediaPlayer.setDataSource(audioDataSource);
+                    lMediaPlayer.prepare();
+                } else {
+                    final InputStream audioStream = result.getAudioStream();
+                    tempAudioFile = File.createTempFile("lex_temp_response", "dat",
+                            context.getFilesDir());
+                    tempAudioFile.deleteOnExit();
+                    final FileOutputStream audioOut = new FileOutputStream(tempAudioFile);
+                    final byte buffer[] = new byte[16384];
+                    int length;
+                    while ((length = audioStream.read(buffer)) != -1) {
+                        if (audioFirstByteTime == 0) {
+                            audioFirstByteTime = System.nanoTime();
+                        }
+                        audioOut.write(buffer, 0, length);
+                    }
+                    audioOut.close();
+                    final FileInputStream audioIn = new FileInputStream(tempAudioFile);
+                    lMediaPlayer.setDataSource(audioIn.getFD());
+                    lMediaPlayer.prepare();
                 }
-                audioOut.close();
-                final FileInputStream audioIn = new FileInputStream(tempAudioFile);
-                lMediaPlayer.setDataSource(audioIn.getFD());
-                lMediaPlayer.prepare();
                 processResponse(handler, result, client, responseMode, requestType);
             } catch (final Exception e) {
                 // Playback failed.
@@ -594,6 +637,9 @@ public class InteractionClient {
                 } catch (final Exception exp) {
                     Log.e(TAG, "InteractionClient: Error while releasing MediaPlayer", exp);
                 }
+                if (audioDataSource != null) {
+                    audioDataSource.close();
+                }
                 processResponse(handler, result, client, responseMode, requestType);
             } finally {
                 setAudioPlaybackState(NOT_BUSY);
@@ -604,6 +650,49 @@ public class InteractionClient {
         }
     }
 
+    /**
+     * Notifies the {@link AudioPlaybackMetricsListener} of the latency of the
+     * audio response once the media player has actually played audio, which
+     * may be later than it was started while its buffer fills.
+     *
+     * @param handler       {@link Handler}, to interact with app components in
+     *                      the main thread.
+     * @param mediaPlayer   the started media player.
+     * @param responseTime  time the response was received, as a
+     *                      {@link System#nanoTime()}.
+     * @param firstByteTime time the first byte of the audio was received, as
+     *                      a {@link System#nanoTime()}.
+     */
+    private void reportAudioPlaybackMetrics(final Handler handler, final MediaPlayer mediaPlayer,
+            final long responseTime, final long firstByteTime) {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                final int position;
+                try {
+                    if (mediaPlayer != lMediaPlayer
+                            || !(audioPlaybackListener instanceof AudioPlaybackMetricsListener)) {
+                        // Released before any audio was played.
+                        return;
+                    }
+                    position = mediaPlayer.getCurrentPosition();
+                } catch (final IllegalStateException e) {
+                    return;
+                }
+                if (position <= 0) {
+                    handler.postDelayed(this, PLAYBACK_POLL_INTERVAL_MILLIS);
+                    return;
+                }
+                // The playback started as long before as the audio it played.
+                final long firstAudioTime = System.nanoTime()
+                        - TimeUnit.MILLISECONDS.toNanos(position);
+                ((AudioPlaybackMetricsListener) audioPlaybackListener).onAudioPlaybackMetrics(
+                        TimeUnit.NANOSECONDS.toMillis(firstByteTime - responseTime),
+                        TimeUnit.NANOSECONDS.toMillis(firstAudioTime - responseTime));
+            }
+        });
+    }
+
     /**
      * Analyzes response from Amazon Lex service. Returns a {@link Runnable}
      * with the next step, which is usually a callback method in the
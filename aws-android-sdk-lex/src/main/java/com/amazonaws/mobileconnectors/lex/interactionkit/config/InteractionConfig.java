@@ -59,6 +59,13 @@ public class InteractionConfig {
      */
     private boolean enableAudioPlayback;
 
+    /**
+     * Indicates if the SDK should start playing back the audio response as
+     * soon as it starts to arrive, instead of once it is fully received.
+     * Default is "false".
+     */
+    private boolean enableStreamingAudioPlayback;
+
     /**
      * Current audio encoding codec.
      */
@@ -238,6 +245,41 @@ public class InteractionConfig {
         return this;
     }
 
+    /**
+     * Returns current streaming audio playback setting.
+     *
+     * @return true if the audio response is played back while it is received.
+     */
+    public boolean isEnableStreamingAudioPlayback() {
+        return enableStreamingAudioPlayback;
+    }
+
+    /**
+     * Set this to true to start playing back the audio response from Amazon
+     * Lex service as soon as it starts to arrive, instead of once it has been
+     * saved to a file. This requires Android 6.0 (API level 23) or later, the
+     * audio response is saved to a file first on older versions.
+     *
+     * @param enableStreamingAudioPlayback {@link boolean}
+     */
+    public void setEnableStreamingAudioPlayback(boolean enableStreamingAudioPlayback) {
+        this.enableStreamingAudioPlayback = enableStreamingAudioPlayback;
+    }
+
+    /**
+     * Set this to true to start playing back the audio response from Amazon
+     * Lex service as soon as it starts to arrive.
+     *
+     * @param enableStreamingAudioPlayback {@link boolean}
+     * @return {@link InteractionConfig}
+     * @see #setEnableStreamingAudioPlayback(boolean)
+     */
+    public InteractionConfig withEnableStreamingAudioPlayback(
+            boolean enableStreamingAudioPlayback) {
+        this.enableStreamingAudioPlayback = enableStreamingAudioPlayback;
+        return this;
+    }
+
     /**
      * Set no speech time out interval.
      *
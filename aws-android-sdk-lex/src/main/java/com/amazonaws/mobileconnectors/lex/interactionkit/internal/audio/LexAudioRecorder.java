@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -69,6 +70,12 @@ public class LexAudioRecorder extends AudioRecorder implements ChunkedAudioSourc
      */
     private PipedOutputStream mProducerStream;
 
+    /**
+     * Buffer the audio samples are encoded to, reused for every read. It is
+     * a heap buffer as its bytes are written to the producer stream.
+     */
+    private ByteBuffer mEncodedBuffer;
+
     /**
      * The state of the audio recorder before recording the next sample.
      */
@@ -258,10 +265,15 @@ public class LexAudioRecorder extends AudioRecorder implements ChunkedAudioSourc
             currentState = mVAD.processSamples(buffer, numSamplesRead);
 
             // Encode audio for sending to service.
-            final byte[] compressedBuffer = mAudioEncoder.encode(buffer, numSamplesRead);
+            final int maxEncodedSize = mAudioEncoder.getMaxEncodedSize(numSamplesRead);
+            if (mEncodedBuffer == null || mEncodedBuffer.capacity() < maxEncodedSize) {
+                mEncodedBuffer = ByteBuffer.allocate(maxEncodedSize);
+            }
+            mEncodedBuffer.clear();
+            final int encodedSize = mAudioEncoder.encode(buffer, numSamplesRead, mEncodedBuffer);
 
             try {
-                mProducerStream.write(compressedBuffer, 0, compressedBuffer.length);
+                mProducerStream.write(mEncodedBuffer.array(), 0, encodedSize);
                 mProducerStream.flush();
             } catch (final IOException e) {
                 throw new AudioSourceException(
@@ -330,6 +342,15 @@ public class LexAudioRecorder extends AudioRecorder implements ChunkedAudioSourc
         return mProducerStream;
     }
 
+    /**
+     * Return the buffer the audio is encoded to.
+     *
+     * @return the encoded buffer, null before any audio is encoded.
+     */
+    ByteBuffer getEncodedBuffer() {
+        return mEncodedBuffer;
+    }
+
     /**
      * Get the state of the VAD.
      *
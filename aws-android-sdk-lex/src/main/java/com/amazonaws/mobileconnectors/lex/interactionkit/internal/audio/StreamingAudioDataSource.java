@@ -0,0 +1,204 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio;
+
+import android.annotation.TargetApi;
+import android.media.MediaDataSource;
+import android.os.Build;
+import android.util.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link MediaDataSource} that lets the media player read an audio stream
+ * while it is being received. The stream is copied by {@link #feed()} into a
+ * ring buffer of fixed size. Half of the buffer keeps the bytes past the
+ * furthest position read by the player, and the other half the bytes before
+ * it, which the player may read again. Reads of bytes not received yet wait
+ * for them. A read beyond the bytes the buffer can hold ahead, such as after a
+ * seek, moves the buffer forward to it, skipping the bytes in between.
+ */
+@TargetApi(Build.VERSION_CODES.M)
+public class StreamingAudioDataSource extends MediaDataSource {
+
+    private static final String TAG = "Lex";
+
+    /**
+     * Default size of the ring buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private final InputStream source;
+    private final byte[] ring;
+
+    /**
+     * Number of bytes received so far.
+     */
+    private long received;
+    /**
+     * Number of bytes received once the read in progress completes. The
+     * bytes of the buffer before this position minus the buffer size are
+     * being overwritten.
+     */
+    private long receiveLimit;
+    /**
+     * End of the furthest read of the player, or start of a read waiting
+     * beyond it.
+     */
+    private long readPosition;
+    private boolean ended;
+    private boolean closed;
+    private IOException failure;
+    private volatile long firstByteTime;
+
+    /**
+     * @param source the audio stream.
+     * @param bufferSize size of the ring buffer, in bytes.
+     */
+    public StreamingAudioDataSource(InputStream source, int bufferSize) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("Buffer size must be at least 2 bytes");
+        }
+        this.source = source;
+        this.ring = new byte[bufferSize];
+    }
+
+    /**
+     * Copies the audio stream into the buffer until its end, or until this
+     * data source is closed. Blocks while the buffer is full, so it is meant
+     * to run on its own thread.
+     */
+    public void feed() {
+        final long ahead = ring.length / 2;
+        try {
+            while (true) {
+                final int offset;
+                final int length;
+                synchronized (this) {
+                    while (!closed && received - readPosition >= ahead) {
+                        wait();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    offset = (int) (received % ring.length);
+                    length = (int) Math.min(ring.length - offset,
+                            readPosition + ahead - received);
+                    receiveLimit = received + length;
+                }
+                final int read = source.read(ring, offset, length);
+                synchronized (this) {
+                    receiveLimit = received;
+                    if (read == -1) {
+                        ended = true;
+                        notifyAll();
+                        return;
+                    }
+                    if (firstByteTime == 0 && read > 0) {
+                        firstByteTime = System.nanoTime();
+                    }
+                    received += read;
+                    notifyAll();
+                }
+            }
+        } catch (final IOException e) {
+            synchronized (this) {
+                failure = e;
+                notifyAll();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (this) {
+                failure = new IOException("Interrupted while streaming audio");
+                notifyAll();
+            }
+        } finally {
+            try {
+                source.close();
+            } catch (final IOException e) {
+                Log.e(TAG, "StreamingAudioDataSource: Error while closing audio stream", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the time the first byte of the audio stream was received.
+     *
+     * @return the {@link System#nanoTime()} of the first byte, or 0 if none
+     *         was received yet.
+     */
+    public long getFirstByteTime() {
+        return firstByteTime;
+    }
+
+    @Override
+    public synchronized int readAt(long position, byte[] buffer, int offset, int size)
+            throws IOException {
+        if (size == 0) {
+            return 0;
+        }
+        if (position > readPosition) {
+            // let the feeder receive up to the read even if it skips ahead
+            readPosition = position;
+            notifyAll();
+        }
+        while (position >= received && !ended && failure == null && !closed) {
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for audio");
+            }
+        }
+        if (closed) {
+            throw new IOException("Data source is closed");
+        }
+        if (position >= received) {
+            if (failure != null) {
+                throw failure;
+            }
+            // end of stream
+            return -1;
+        }
+        if (position < Math.max(received, receiveLimit) - ring.length) {
+            throw new IOException("Audio at position " + position + " is no longer buffered");
+        }
+
+        final int count = (int) Math.min(size, received - position);
+        final int start = (int) (position % ring.length);
+        final int firstPart = Math.min(count, ring.length - start);
+        System.arraycopy(ring, start, buffer, offset, firstPart);
+        System.arraycopy(ring, 0, buffer, offset + firstPart, count - firstPart);
+        if (position + count > readPosition) {
+            readPosition = position + count;
+            notifyAll();
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long getSize() {
+        // unknown until the whole stream is received
+        return ended ? received : -1;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+}
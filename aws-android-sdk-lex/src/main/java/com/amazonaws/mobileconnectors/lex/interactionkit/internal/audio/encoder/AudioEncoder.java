@@ -18,6 +18,7 @@ package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder
 import com.google.common.net.MediaType;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for AudioEncoders.
@@ -34,6 +35,30 @@ public interface AudioEncoder extends Closeable {
      */
     byte[] encode(short[] samples, int numSamples) throws AudioEncoderException;
 
+    /**
+     * Encode PCM samples to compressed audio bytes written to the given buffer,
+     * starting at its position, which is advanced past them. Callers can reuse
+     * the same buffer for every call to avoid allocating the compressed audio.
+     *
+     * @param samples the samples to compress.
+     * @param numSamples the number of samples in the buffer to compress.
+     * @param output the buffer receiving the compressed audio bytes, with at
+     *            least {@link #getMaxEncodedSize(int)} bytes remaining.
+     * @return the number of compressed audio bytes written.
+     * @throws AudioEncoderException when there's an error encoding the audio.
+     */
+    int encode(short[] samples, int numSamples, ByteBuffer output)
+            throws AudioEncoderException;
+
+    /**
+     * Get the maximum number of compressed audio bytes produced by encoding the
+     * given number of PCM samples.
+     *
+     * @param numSamples the number of samples to compress.
+     * @return the maximum number of compressed audio bytes.
+     */
+    int getMaxEncodedSize(int numSamples);
+
     /**
      * The MediaType of the compressed audio.
      *
@@ -18,9 +18,10 @@ package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder
 import com.google.common.base.Preconditions;
 import com.google.common.net.MediaType;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.ShortBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * A buffering audio encoder that buffers audio and only encodes full frames of
@@ -30,6 +31,10 @@ public class BufferedAudioEncoder implements AudioEncoder {
 
     private final AudioEncoder mEncoder;
     private final ShortBuffer mSamplesBuffer;
+    /**
+     * Reused to encode the samples given to {@link #encode(short[], int)}.
+     */
+    private ByteBuffer mEncodedBuffer;
 
     /**
      * Create a BufferedAudioEncoder that wraps an underlying AudioEncoder.
@@ -48,51 +53,53 @@ public class BufferedAudioEncoder implements AudioEncoder {
         Preconditions.checkArgument(samples.length >= numSamples,
                 "Number of samples cannot exceed buffer size");
 
+        final int maxEncodedSize = getMaxEncodedSize(numSamples);
+        if (mEncodedBuffer == null || mEncodedBuffer.capacity() < maxEncodedSize) {
+            mEncodedBuffer = ByteBuffer.allocate(maxEncodedSize);
+        }
+        mEncodedBuffer.clear();
+        final int encodedSize = encode(samples, numSamples, mEncodedBuffer);
+        return Arrays.copyOf(mEncodedBuffer.array(), encodedSize);
+    }
+
+    @Override
+    public int encode(final short[] samples, final int numSamples, final ByteBuffer output)
+            throws AudioEncoderException {
+        Preconditions.checkArgument(samples.length >= numSamples,
+                "Number of samples cannot exceed buffer size");
+
+        // Check up front so that no samples are consumed on overflow.
+        final int numFrames = (mSamplesBuffer.position() + numSamples) / mSamplesBuffer.capacity();
+        if (output.remaining() < numFrames * mEncoder.getMaxEncodedSize(getFrameSize())) {
+            throw new BufferOverflowException();
+        }
+
+        final int start = output.position();
         int samplesProcessed = 0;
         int toWrite = 0;
 
-        final List<byte[]> encodedBytesList = new ArrayList<byte[]>();
-        final short[] buffer = new short[mSamplesBuffer.capacity()];
-
         // Loop while there are enough samples to fill the buffer.
         while (mSamplesBuffer.remaining() <= numSamples - samplesProcessed) {
             // Copy samples into buffer.
             toWrite = mSamplesBuffer.remaining();
-            System.arraycopy(samples, samplesProcessed, buffer, 0, toWrite);
-
-            mSamplesBuffer.put(buffer, 0, toWrite);
+            mSamplesBuffer.put(samples, samplesProcessed, toWrite);
             samplesProcessed += toWrite;
 
             // Process samples.
-            encodedBytesList
-                    .add(mEncoder.encode(mSamplesBuffer.array(), mSamplesBuffer.capacity()));
+            mEncoder.encode(mSamplesBuffer.array(), mSamplesBuffer.capacity(), output);
             mSamplesBuffer.clear();
         }
 
         // If any samples remain, copy into buffer.
         mSamplesBuffer.put(samples, samplesProcessed, numSamples - samplesProcessed);
-        return concatenateBytes(encodedBytesList);
+        return output.position() - start;
     }
 
-    /**
-     * Concatenate a list of byte arrays into one array.
-     *
-     * @param byteList the list of byte arrays.
-     * @return the concatenated byte array.
-     */
-    private byte[] concatenateBytes(final List<byte[]> byteList) {
-        int size = 0;
-        for (final byte[] byteArray : byteList) {
-            size += byteArray.length;
-        }
-
-        final byte[] concatenatedByteArray = new byte[size];
-        int offset = 0;
-        for (final byte[] byteArray : byteList) {
-            System.arraycopy(byteArray, 0, concatenatedByteArray, offset, byteArray.length);
-            offset += byteArray.length;
-        }
-        return concatenatedByteArray;
+    @Override
+    public int getMaxEncodedSize(final int numSamples) {
+        // Up to a frame minus one sample may already be buffered.
+        final int frameSize = getFrameSize();
+        return (frameSize - 1 + numSamples) / frameSize * mEncoder.getMaxEncodedSize(frameSize);
     }
 
     @Override
@@ -18,6 +18,8 @@ package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder
 import com.google.common.base.Preconditions;
 import com.google.common.net.MediaType;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 /**
@@ -36,23 +38,70 @@ public class L16PcmEncoder implements AudioEncoder {
      */
     private static final MediaType MEDIA_TYPE = MediaType.parse("audio/x-l16");
 
+    /**
+     * Whether samples are written with their least significant byte first.
+     */
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
     @Override
     public byte[] encode(final short[] samples, final int numSamples)
             throws AudioEncoderException {
         Preconditions.checkArgument(samples.length >= numSamples,
                 "Sample buffer length must be at least as long as numSamples");
         final byte[] buffer = new byte[numSamples * 2];
+        writeSamples(samples, numSamples, buffer, 0);
+        return buffer;
+    }
+
+    @Override
+    public int encode(final short[] samples, final int numSamples, final ByteBuffer output)
+            throws AudioEncoderException {
+        Preconditions.checkArgument(samples.length >= numSamples,
+                "Sample buffer length must be at least as long as numSamples");
+        final int size = numSamples * 2;
+        if (output.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        if (output.hasArray()) {
+            writeSamples(samples, numSamples, output.array(),
+                    output.arrayOffset() + output.position());
+            output.position(output.position() + size);
+        } else {
+            // Direct buffer, write the bytes one by one.
+            for (int i = 0; i < numSamples; i++) {
+                if (LITTLE_ENDIAN) {
+                    output.put((byte) (samples[i] & 0xff));
+                    output.put((byte) ((samples[i] >> Byte.SIZE) & 0xff));
+                } else {
+                    output.put((byte) ((samples[i] >> Byte.SIZE) & 0xff));
+                    output.put((byte) (samples[i] & 0xff));
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Write samples to a byte array in native byte order.
+     *
+     * @param samples the samples to write.
+     * @param numSamples the number of samples to write.
+     * @param buffer the byte array.
+     * @param offset the offset in the byte array of the first sample.
+     */
+    private static void writeSamples(final short[] samples, final int numSamples,
+            final byte[] buffer, final int offset) {
         for (int i = 0; i < numSamples; i++) {
             // One sample is two bytes.
-            if (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
-                buffer[i * 2] = (byte) (samples[i] & 0xff);
-                buffer[i * 2 + 1] = (byte) ((samples[i] >> Byte.SIZE) & 0xff);
+            final int index = offset + i * 2;
+            if (LITTLE_ENDIAN) {
+                buffer[index] = (byte) (samples[i] & 0xff);
+                buffer[index + 1] = (byte) ((samples[i] >> Byte.SIZE) & 0xff);
             } else {
-                buffer[i * 2] = (byte) ((samples[i] >> Byte.SIZE) & 0xff);
-                buffer[i * 2 + 1] = (byte) (samples[i] & 0xff);
+                buffer[index] = (byte) ((samples[i] >> Byte.SIZE) & 0xff);
+                buffer[index + 1] = (byte) (samples[i] & 0xff);
             }
         }
-        return buffer;
     }
 
     @Override
@@ -65,6 +114,11 @@ public class L16PcmEncoder implements AudioEncoder {
         return FRAME_SIZE;
     }
 
+    @Override
+    public int getMaxEncodedSize(final int numSamples) {
+        return numSamples * 2;
+    }
+
     @Override
     public int getPacketSize() {
         // Since there is no encoding, packet size is frame size.
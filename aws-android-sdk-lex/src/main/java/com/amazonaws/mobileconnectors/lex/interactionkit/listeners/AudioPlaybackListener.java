@@ -16,7 +16,8 @@
 package com.amazonaws.mobileconnectors.lex.interactionkit.listeners;
 
 /**
- * Callback for audio playback.
+ * Callback for audio playback. Implement {@link AudioPlaybackMetricsListener}
+ * as well to be notified of the latency of the playback.
  */
 public interface AudioPlaybackListener {
 
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.listeners;
+
+/**
+ * Callback for the latency of audio playback. An {@link AudioPlaybackListener}
+ * that also implements this interface is notified of the latency of each
+ * audio response.
+ */
+public interface AudioPlaybackMetricsListener {
+
+    /**
+     * Called once the first audio of the response has been played, with the
+     * time taken since the response was received from the Amazon Lex service.
+     *
+     * @param timeToFirstByte time until the first byte of the audio response
+     *            was received, in milliseconds.
+     * @param timeToFirstAudio time until the first audio was played, in
+     *            milliseconds.
+     */
+    public void onAudioPlaybackMetrics(final long timeToFirstByte, final long timeToFirstAudio);
+}
@@ -264,7 +264,7 @@ public class AmazonLexRuntimeClient extends AmazonWebServiceClient implements Am
      */
     public AmazonLexRuntimeClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import android.Manifest;
+import android.media.AudioRecord;
+
+import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder.BufferedAudioEncoder;
+import com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder.L16PcmEncoder;
+import com.amazonaws.mobileconnectors.lex.interactionkit.internal.vad.VoiceActivityDetector;
+import com.amazonaws.mobileconnectors.lex.interactionkit.internal.vad.VoiceActivityDetector.VADState;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowApplication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class LexAudioRecorderTest {
+
+    private static final int SAMPLES_PER_READ = 400;
+
+    private LexAudioRecorder recorder;
+
+    @Before
+    public void setup() throws Exception {
+        ShadowApplication.getInstance().grantPermissions(Manifest.permission.RECORD_AUDIO);
+        final VoiceActivityDetector vad = EasyMock.createNiceMock(VoiceActivityDetector.class);
+        EasyMock.expect(vad.processSamples(EasyMock.<short[]> anyObject(), EasyMock.anyInt()))
+                .andReturn(VADState.STARTPOINTED).anyTimes();
+        final AudioRecord audioRecord = EasyMock.createNiceMock(AudioRecord.class);
+        EasyMock.replay(vad, audioRecord);
+
+        recorder = new LexAudioRecorder(RuntimeEnvironment.application,
+                new BufferedAudioEncoder(new L16PcmEncoder()), vad, new AudioTimeouts(),
+                SAMPLES_PER_READ, 100, audioRecord);
+        recorder.setState(VADState.STARTPOINTED);
+    }
+
+    @Test
+    public void testReusesEncodedBuffer() throws Exception {
+        final short[] samples = new short[3 * SAMPLES_PER_READ];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) (i * 31 - 500);
+        }
+        final AudioSourceListener listener = new AudioSourceListener.NullListener();
+
+        ByteBuffer encodedBuffer = null;
+        for (int read = 0; read < 3; read++) {
+            final short[] buffer = Arrays.copyOfRange(samples, read * SAMPLES_PER_READ,
+                    (read + 1) * SAMPLES_PER_READ);
+            recorder.postAudioRecordingProcessing(SAMPLES_PER_READ, buffer, listener);
+            if (encodedBuffer == null) {
+                encodedBuffer = recorder.getEncodedBuffer();
+            }
+            assertSame(encodedBuffer, recorder.getEncodedBuffer());
+        }
+        recorder.getProducerStream().close();
+
+        // three full frames of 320 samples were encoded
+        final int encodedSamples = 3 * 320;
+        assertArrayEquals(
+                new L16PcmEncoder().encode(Arrays.copyOf(samples, encodedSamples), encodedSamples),
+                readFully(recorder.getConsumerStream()));
+        assertEquals(VADState.STARTPOINTED, recorder.getState());
+    }
+
+    private static byte[] readFully(InputStream in) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class StreamingAudioDataSourceTest {
+
+    private static final int BUFFER_SIZE = 64;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private StreamingAudioDataSource dataSource;
+    private Thread feeder;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (dataSource != null) {
+            dataSource.close();
+            feeder.join(TIMEOUT_MILLIS);
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testSequentialReads() throws IOException {
+        final byte[] data = audio(10 * BUFFER_SIZE + 5);
+        startFeeding(new ByteArrayInputStream(data));
+
+        final ByteArrayOutputStream played = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[BUFFER_SIZE / 4];
+        int read;
+        while ((read = dataSource.readAt(played.size(), chunk, 0, chunk.length)) != -1) {
+            played.write(chunk, 0, read);
+        }
+
+        assertArrayEquals(data, played.toByteArray());
+        assertEquals(data.length, dataSource.getSize());
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testBackwardReads() throws IOException {
+        final byte[] data = audio(10 * BUFFER_SIZE);
+        startFeeding(new ByteArrayInputStream(data));
+
+        readFully(0, 3 * BUFFER_SIZE);
+        // half of the buffer keeps the bytes already read
+        assertArrayEquals(Arrays.copyOfRange(data, 3 * BUFFER_SIZE - BUFFER_SIZE / 2,
+                3 * BUFFER_SIZE), readFully(3 * BUFFER_SIZE - BUFFER_SIZE / 2, BUFFER_SIZE / 2));
+
+        try {
+            dataSource.readAt(0, new byte[1], 0, 1);
+            fail("expected the start of the stream to be overwritten");
+        } catch (final IOException e) {
+            assertEquals("Audio at position 0 is no longer buffered", e.getMessage());
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testFarForwardRead() throws IOException {
+        final byte[] data = audio(10 * BUFFER_SIZE);
+        startFeeding(new ByteArrayInputStream(data));
+
+        // further than the buffer holds ahead of the previous reads
+        final int position = 7 * BUFFER_SIZE + 3;
+        assertArrayEquals(Arrays.copyOfRange(data, position, position + 16),
+                readFully(position, 16));
+        assertArrayEquals(Arrays.copyOfRange(data, position + 16, data.length),
+                readFully(position + 16, data.length - position - 16));
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testEndOfStream() throws IOException {
+        final byte[] data = audio(BUFFER_SIZE / 4);
+        startFeeding(new ByteArrayInputStream(data));
+
+        assertEquals(-1, dataSource.readAt(data.length, new byte[1], 0, 1));
+        assertEquals(data.length, dataSource.getSize());
+        assertArrayEquals(data, readFully(0, data.length));
+        assertEquals(0, dataSource.readAt(data.length, new byte[1], 0, 0));
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testFailure() throws IOException {
+        final byte[] data = audio(BUFFER_SIZE / 4);
+        final IOException failure = new IOException("connection reset");
+        startFeeding(new FailingInputStream(data, failure));
+
+        try {
+            dataSource.readAt(data.length, new byte[1], 0, 1);
+            fail("expected the stream failure");
+        } catch (final IOException e) {
+            assertSame(failure, e);
+        }
+        // the bytes received before the failure are still readable
+        assertArrayEquals(data, readFully(0, data.length));
+        assertEquals(-1, dataSource.getSize());
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testCloseStopsWaitingReads() throws Exception {
+        dataSource = new StreamingAudioDataSource(new BlockingInputStream(), BUFFER_SIZE);
+        feeder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dataSource.feed();
+            }
+        });
+        feeder.setDaemon(true);
+        feeder.start();
+
+        final Thread closer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dataSource.close();
+            }
+        });
+        closer.start();
+        try {
+            dataSource.readAt(0, new byte[1], 0, 1);
+            fail("expected the data source to be closed");
+        } catch (final IOException e) {
+            assertEquals("Data source is closed", e.getMessage());
+        }
+        closer.join();
+        dataSource = null;
+    }
+
+    private void startFeeding(InputStream source) {
+        dataSource = new StreamingAudioDataSource(source, BUFFER_SIZE);
+        feeder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dataSource.feed();
+            }
+        });
+        feeder.start();
+    }
+
+    private byte[] readFully(long position, int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            final int read = dataSource.readAt(position + offset, bytes, offset,
+                    length - offset);
+            if (read < 0) {
+                fail("unexpected end of stream at " + (position + offset));
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    private static byte[] audio(int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + 7);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the given bytes, then fails.
+     */
+    private static final class FailingInputStream extends InputStream {
+        private final ByteArrayInputStream data;
+        private final IOException failure;
+
+        FailingInputStream(byte[] data, IOException failure) {
+            this.data = new ByteArrayInputStream(data);
+            this.failure = failure;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = data.read(b, off, len);
+            if (read == -1) {
+                throw failure;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Never returns any byte.
+     */
+    private static final class BlockingInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("interrupted");
+        }
+    }
+}
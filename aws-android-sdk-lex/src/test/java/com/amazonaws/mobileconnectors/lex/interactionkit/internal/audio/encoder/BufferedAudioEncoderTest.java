@@ -0,0 +1,129 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class BufferedAudioEncoderTest {
+
+    private static final int FRAME_SIZE = 320;
+    private static final int FRAME_BYTES = FRAME_SIZE * 2;
+
+    private final BufferedAudioEncoder encoder = new BufferedAudioEncoder(new L16PcmEncoder());
+    private final short[] samples = samples(4 * FRAME_SIZE);
+
+    @Test
+    public void testCarriesPartialFramesOver() throws AudioEncoderException {
+        final ByteBuffer output = ByteBuffer.allocate(4 * FRAME_BYTES);
+
+        assertEquals(0, encode(0, 100, output));
+        assertEquals(FRAME_BYTES, encode(100, 300, output));
+        assertEquals(FRAME_BYTES, encode(400, 240, output));
+        assertEquals(0, encode(640, 0, output));
+        assertEquals(FRAME_BYTES, encode(640, 330, output));
+
+        assertEquals(3 * FRAME_BYTES, output.position());
+        assertArrayEquals(pcm(0, 3 * FRAME_SIZE),
+                Arrays.copyOf(output.array(), output.position()));
+    }
+
+    @Test
+    public void testByteArrayMatchesByteBuffer() throws AudioEncoderException {
+        final BufferedAudioEncoder other = new BufferedAudioEncoder(new L16PcmEncoder());
+        final ByteBuffer output = ByteBuffer.allocate(4 * FRAME_BYTES);
+        final int[] counts = {
+                100, 500, 20, 300, 0, 360
+        };
+        int offset = 0;
+        for (final int count : counts) {
+            final short[] chunk = Arrays.copyOfRange(samples, offset, offset + count);
+            final int start = output.position();
+            final int written = other.encode(chunk, count, output);
+            assertArrayEquals(Arrays.copyOfRange(output.array(), start, start + written),
+                    encoder.encode(chunk, count));
+            offset += count;
+        }
+    }
+
+    @Test
+    public void testOverflowConsumesNoSamples() throws AudioEncoderException {
+        assertEquals(0, encode(0, 100, ByteBuffer.allocate(0)));
+
+        final ByteBuffer small = ByteBuffer.allocate(FRAME_BYTES - 1);
+        try {
+            encode(100, 300, small);
+            fail("expected the output to be too small");
+        } catch (final BufferOverflowException e) {
+            assertEquals(0, small.position());
+        }
+
+        // the same samples again produce the first frame
+        final ByteBuffer output = ByteBuffer.allocate(FRAME_BYTES);
+        assertEquals(FRAME_BYTES, encode(100, 300, output));
+        assertArrayEquals(pcm(0, FRAME_SIZE), output.array());
+    }
+
+    @Test
+    public void testMaxEncodedSize() throws AudioEncoderException {
+        assertEquals(0, encoder.getMaxEncodedSize(0));
+        assertEquals(FRAME_BYTES, encoder.getMaxEncodedSize(1));
+        assertEquals(FRAME_BYTES, encoder.getMaxEncodedSize(FRAME_SIZE));
+        assertEquals(2 * FRAME_BYTES, encoder.getMaxEncodedSize(FRAME_SIZE + 1));
+
+        // the bound holds whatever part of a frame is buffered
+        final int[] buffered = {
+                0, 1, FRAME_SIZE - 1
+        };
+        final int[] counts = {
+                0, 1, FRAME_SIZE - 1, FRAME_SIZE, FRAME_SIZE + 1, 2 * FRAME_SIZE
+        };
+        for (final int before : buffered) {
+            for (final int count : counts) {
+                final BufferedAudioEncoder fresh = new BufferedAudioEncoder(new L16PcmEncoder());
+                fresh.encode(samples, before, ByteBuffer.allocate(FRAME_BYTES));
+                final ByteBuffer output = ByteBuffer.allocate(fresh.getMaxEncodedSize(count));
+                final int written = fresh.encode(samples, count, output);
+                assertTrue(written <= fresh.getMaxEncodedSize(count));
+            }
+        }
+    }
+
+    private int encode(int offset, int count, ByteBuffer output) throws AudioEncoderException {
+        return encoder.encode(Arrays.copyOfRange(samples, offset, offset + count), count, output);
+    }
+
+    private byte[] pcm(int offset, int count) throws AudioEncoderException {
+        return new L16PcmEncoder().encode(Arrays.copyOfRange(samples, offset, offset + count),
+                count);
+    }
+
+    private static short[] samples(int count) {
+        final short[] samples = new short[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = (short) (i * 257 - 1000);
+        }
+        return samples;
+    }
+}
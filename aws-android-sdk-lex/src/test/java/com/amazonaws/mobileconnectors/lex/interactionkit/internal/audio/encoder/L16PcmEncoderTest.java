@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.lex.interactionkit.internal.audio.encoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class L16PcmEncoderTest {
+
+    private static final short[] SAMPLES = {
+            0, 1, -1, 0x1234, (short) 0xABCD, Short.MAX_VALUE, Short.MIN_VALUE, 255, -256
+    };
+
+    private final L16PcmEncoder encoder = new L16PcmEncoder();
+
+    @Test
+    public void testHeapBufferMatchesByteArray() throws AudioEncoderException {
+        final byte[] expected = encoder.encode(SAMPLES, SAMPLES.length);
+        assertEquals(SAMPLES.length * 2, expected.length);
+
+        // a slice has an array offset, and the output starts at a position
+        final ByteBuffer output = ByteBuffer.allocate(expected.length + 8);
+        output.position(3);
+        final ByteBuffer slice = output.slice();
+        slice.position(2);
+        assertEquals(expected.length, encoder.encode(SAMPLES, SAMPLES.length, slice));
+        assertEquals(2 + expected.length, slice.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(output.array(), 5, 5 + expected.length));
+    }
+
+    @Test
+    public void testDirectBufferMatchesByteArray() throws AudioEncoderException {
+        final byte[] expected = encoder.encode(SAMPLES, SAMPLES.length);
+
+        final ByteBuffer output = ByteBuffer.allocateDirect(expected.length + 1);
+        output.put((byte) 7);
+        assertEquals(expected.length, encoder.encode(SAMPLES, SAMPLES.length, output));
+        output.flip();
+        assertEquals(7, output.get());
+        final byte[] actual = new byte[expected.length];
+        output.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testEncodesOnlyNumSamples() throws AudioEncoderException {
+        final ByteBuffer output = ByteBuffer.allocate(4);
+        assertEquals(4, encoder.encode(SAMPLES, 2, output));
+        assertArrayEquals(encoder.encode(Arrays.copyOf(SAMPLES, 2), 2), output.array());
+        assertEquals(4, encoder.getMaxEncodedSize(2));
+    }
+
+    @Test
+    public void testOverflowWritesNothing() throws AudioEncoderException {
+        final ByteBuffer output = ByteBuffer.allocate(SAMPLES.length * 2 - 1);
+        try {
+            encoder.encode(SAMPLES, SAMPLES.length, output);
+            fail("expected the output to be too small");
+        } catch (final BufferOverflowException e) {
+            assertEquals(0, output.position());
+        }
+    }
+}
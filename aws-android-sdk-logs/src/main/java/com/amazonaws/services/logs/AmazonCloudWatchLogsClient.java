@@ -289,7 +289,7 @@ public class AmazonCloudWatchLogsClient extends AmazonWebServiceClient implement
      */
     public AmazonCloudWatchLogsClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
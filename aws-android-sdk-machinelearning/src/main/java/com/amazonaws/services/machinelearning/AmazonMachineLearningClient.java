@@ -251,7 +251,7 @@ public class AmazonMachineLearningClient extends AmazonWebServiceClient implemen
      */
     public AmazonMachineLearningClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
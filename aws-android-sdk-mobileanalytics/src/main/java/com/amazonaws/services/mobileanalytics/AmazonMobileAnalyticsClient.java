@@ -208,7 +208,7 @@ public class AmazonMobileAnalyticsClient extends AmazonWebServiceClient implemen
      */
     public AmazonMobileAnalyticsClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -242,7 +242,7 @@ public class AmazonPinpointClient extends AmazonWebServiceClient implements Amaz
      */
     public AmazonPinpointClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
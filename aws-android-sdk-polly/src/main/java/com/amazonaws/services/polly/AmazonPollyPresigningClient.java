@@ -23,8 +23,8 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.Presigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
+import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.HttpClient;
-import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.services.polly.internal.AmazonPollyCustomPresigner;
 import com.amazonaws.services.polly.internal.PresigningRequest;
 import com.amazonaws.services.polly.internal.ServiceUtils;
@@ -135,7 +135,7 @@ public class AmazonPollyPresigningClient extends AmazonPollyClient implements Am
      */
     public AmazonPollyPresigningClient(AWSCredentialsProvider awsCredentialsProvider,
                               ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -0,0 +1,206 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+/**
+ * Downloads the byte range of a part of a multi-part download and writes it
+ * at its offset in the file.
+ */
+class DownloadPartTask implements Callable<Boolean> {
+    private static final Log LOGGER = LogFactory.getLog(DownloadPartTask.class);
+    private static final int SIXTEEN_KB = 1024 * 16;
+
+    private final DownloadTask.DownloadPartTaskMetadata downloadPartTaskMetadata;
+    private final DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener;
+    private final TransferRecord download;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+
+    public DownloadPartTask(DownloadTask.DownloadPartTaskMetadata downloadPartTaskMetadata,
+                            DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener,
+                            TransferRecord download,
+                            AmazonS3 s3,
+                            TransferDBUtil dbUtil) {
+        this.downloadPartTaskMetadata = downloadPartTaskMetadata;
+        this.downloadTaskProgressListener = downloadTaskProgressListener;
+        this.download = download;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+    }
+
+    /*
+     * Runs part download task and returns whether successfully downloaded.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        final TransferRecord part = downloadPartTaskMetadata.part;
+        try {
+            downloadPartTaskMetadata.state = TransferState.IN_PROGRESS;
+            final GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName,
+                    download.key);
+            getObjectRequest.setRange(part.rangeStart, part.rangeLast);
+            if (download.eTag != null) {
+                // Don't mix the parts of two versions of the object in the file.
+                getObjectRequest.setMatchingETagConstraints(Collections.singletonList(download.eTag));
+            }
+            TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectRequest);
+            getObjectRequest.setGeneralProgressListener(
+                    new DownloadPartTaskProgressListener(downloadTaskProgressListener));
+
+            final S3Object object = s3.getObject(getObjectRequest);
+            if (object == null) {
+                throw new AmazonClientException("The object " + download.key
+                        + " was modified during the download, its ETag no longer matches "
+                        + download.eTag);
+            }
+            writeToFile(object.getObjectContent(), new File(part.file), part.rangeStart,
+                    part.bytesTotal);
+            downloadPartTaskMetadata.state = TransferState.PART_COMPLETED;
+            dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.error("Download part interrupted: " + e);
+            // Discard what's been transferred for this part.
+            downloadTaskProgressListener.onProgressChanged(part.partNumber, 0);
+
+            // Check if network is not connected, set the state to WAITING_FOR_NETWORK.
+            try {
+                if (TransferNetworkLossHandler.getInstance() != null &&
+                    !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                    LOGGER.info("Thread: [" + Thread.currentThread().getId() + "]: Network wasn't available.");
+                    /*
+                     * Network connection is being interrupted. Moving the TransferState
+                     * to WAITING_FOR_NETWORK till the network availability resumes.
+                     */
+                    downloadPartTaskMetadata.state = TransferState.WAITING_FOR_NETWORK;
+                    dbUtil.updateState(part.id, TransferState.WAITING_FOR_NETWORK);
+                    LOGGER.info("Network Connection Interrupted: " +
+                            "Moving the TransferState to WAITING_FOR_NETWORK");
+                    return false;
+                }
+            } catch (TransferUtilityException transferUtilityException) {
+                LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+            }
+
+            // In other cases, set the transfer state to FAILED.
+            downloadPartTaskMetadata.state = TransferState.FAILED;
+            dbUtil.updateState(part.id, TransferState.FAILED);
+            LOGGER.error("Encountered error downloading part ", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes stream data into a file at the given position. Each part opens
+     * its own channel, so the parts are written concurrently.
+     *
+     * @param is       input stream
+     * @param file     file to be written
+     * @param position offset of the part in the file
+     * @param length   expected length of the part
+     */
+    private void writeToFile(InputStream is, File file, long position, long length) {
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            final FileChannel channel = randomAccessFile.getChannel();
+            final byte[] buffer = new byte[SIXTEEN_KB];
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            long bytesWritten = 0;
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                byteBuffer.clear();
+                byteBuffer.limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    bytesWritten += channel.write(byteBuffer, position + bytesWritten);
+                }
+            }
+            if (bytesWritten != length) {
+                throw new AmazonClientException("Unable to retrieve contents over network: received "
+                        + bytesWritten + " of the " + length + " bytes of the part");
+            }
+        } catch (final SocketTimeoutException socketTimeoutException) {
+            String errorString = "SocketTimeoutException: Unable to retrieve contents over network: "
+                    + socketTimeoutException.getMessage();
+            LOGGER.error(errorString);
+            throw new AmazonClientException(errorString, socketTimeoutException);
+        } catch (final IOException e) {
+            throw new AmazonClientException("Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            try {
+                if (randomAccessFile != null) {
+                    randomAccessFile.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+        }
+    }
+
+    /**
+     * Progress Listener for a part
+     */
+    private class DownloadPartTaskProgressListener implements ProgressListener {
+
+        private DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener;
+
+        private long bytesTransferredSoFar;
+
+        public DownloadPartTaskProgressListener(DownloadTask.DownloadTaskProgressListener progressListener) {
+            this.downloadTaskProgressListener = progressListener;
+        }
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            if (ProgressEvent.RESET_EVENT_CODE == progressEvent.getEventCode()) {
+                // Reset will discard what's been transferred
+                bytesTransferredSoFar = 0;
+            } else {
+                bytesTransferredSoFar += progressEvent.getBytesTransferred();
+            }
+            this.downloadTaskProgressListener
+                    .onProgressChanged(DownloadPartTask.this.downloadPartTaskMetadata.part.partNumber,
+                        bytesTransferredSoFar);
+        }
+    }
+}
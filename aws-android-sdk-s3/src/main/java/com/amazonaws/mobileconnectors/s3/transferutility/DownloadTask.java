@@ -15,12 +15,16 @@
 
 package com.amazonaws.mobileconnectors.s3.transferutility;
 
+import android.content.ContentValues;
+
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 
 import com.amazonaws.logging.Log;
@@ -32,12 +36,25 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Performs download operation and returns a Boolean value indicating whether
  * the file has been downloaded successfully.
+ *
+ * When a download part size is set in the {@link TransferUtilityOptions}, an
+ * object larger than a part is split into byte ranges that are recorded in
+ * the database like the parts of a multi-part upload. A thread is created per
+ * part and submitted to the thread pool, and each part is written at its
+ * offset in the file. A resumed download only fetches the parts that are not
+ * completed.
  */
 class DownloadTask implements Callable<Boolean> {
 
@@ -46,20 +63,29 @@ class DownloadTask implements Callable<Boolean> {
 
     private final AmazonS3 s3;
     private final TransferRecord download;
+    private final TransferDBUtil dbUtil;
     private final TransferStatusUpdater updater;
 
+    Map<Integer, DownloadPartTaskMetadata> downloadPartTasks;
+
     /**
      * Constructs a DownloadTask with the given download info and S3 client.
      *
      * @param download A TransferRecord object storing all the information of the
      *                 download
      * @param s3       Low-level S3 client
+     * @param dbUtil   database util
      * @param updater  status updater
      */
-    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferStatusUpdater updater) {
+    public DownloadTask(TransferRecord download,
+                        AmazonS3 s3,
+                        TransferDBUtil dbUtil,
+                        TransferStatusUpdater updater) {
         this.download = download;
         this.s3 = s3;
+        this.dbUtil = dbUtil;
         this.updater = updater;
+        this.downloadPartTasks = new HashMap<Integer, DownloadPartTaskMetadata>();
     }
 
     /**
@@ -80,6 +106,20 @@ class DownloadTask implements Callable<Boolean> {
 
         updater.updateState(download.id, TransferState.IN_PROGRESS);
 
+        final List<TransferRecord> parts = dbUtil.queryPartRecords(download.id);
+        if (!parts.isEmpty()) {
+            /*
+             * The object has already been split into parts, resume the
+             * download of the missing ones.
+             */
+            return downloadMultipartAndWaitForCompletion(parts);
+        } else if (getDownloadPartSize() > 0 && new File(download.file).length() == 0) {
+            return downloadMultipartAndWaitForCompletion(parts);
+        }
+        return downloadSinglePartAndWaitForCompletion();
+    }
+
+    private Boolean downloadSinglePartAndWaitForCompletion() {
         GetObjectRequest getObjectRequest;
         ProgressListener progressListener = updater.newProgressListener(download.id);
 
@@ -167,6 +207,216 @@ class DownloadTask implements Callable<Boolean> {
         }
     }
 
+    private Boolean downloadMultipartAndWaitForCompletion(List<TransferRecord> partRecords) {
+        final File file = new File(download.file);
+        List<TransferRecord> parts = partRecords;
+        long bytesTotal = 0;
+        long bytesAlreadyTransferred = 0;
+
+        try {
+            if (parts.isEmpty()) {
+                parts = createPartRecords(file);
+                if (parts.isEmpty()) {
+                    // The object fits in a single part.
+                    return downloadSinglePartAndWaitForCompletion();
+                }
+            }
+
+            for (final TransferRecord part : parts) {
+                bytesTotal += part.bytesTotal;
+            }
+            /*
+             * The completed parts are kept only if the file still has the
+             * size of the object, otherwise the whole object is fetched again.
+             */
+            final boolean isFileIntact = prepareFile(file, bytesTotal);
+            final List<TransferRecord> missingParts = new ArrayList<TransferRecord>();
+            for (final TransferRecord part : parts) {
+                if (isFileIntact && TransferState.PART_COMPLETED.equals(part.state)) {
+                    bytesAlreadyTransferred += part.bytesTotal;
+                } else {
+                    missingParts.add(part);
+                }
+            }
+            if (bytesAlreadyTransferred > 0) {
+                LOGGER.info(String.format("Resume transfer %d from %d bytes",
+                        download.id, bytesAlreadyTransferred));
+            }
+            updater.updateProgress(download.id, bytesAlreadyTransferred, bytesTotal, false);
+
+            final DownloadTaskProgressListener downloadTaskProgressListener =
+                    new DownloadTaskProgressListener(bytesAlreadyTransferred, bytesTotal);
+            LOGGER.info("Multipart download " + download.id + " in " + missingParts.size() + " parts.");
+            for (final TransferRecord part : missingParts) {
+                final DownloadPartTaskMetadata downloadPartTaskMetadata = new DownloadPartTaskMetadata();
+                downloadPartTaskMetadata.part = part;
+                downloadPartTaskMetadata.bytesTransferredSoFar = 0;
+                downloadPartTaskMetadata.state = TransferState.WAITING;
+                downloadPartTasks.put(part.partNumber, downloadPartTaskMetadata);
+            }
+            // The parts report their progress through downloadPartTasks, fill it first.
+            for (final DownloadPartTaskMetadata downloadPartTaskMetadata : downloadPartTasks.values()) {
+                downloadPartTaskMetadata.downloadPartTask = TransferThreadPool.submitTask(
+                        new DownloadPartTask(downloadPartTaskMetadata, downloadTaskProgressListener,
+                                download, s3, dbUtil));
+            }
+
+            boolean isSuccess = true;
+            /*
+             * Future.get() will block the current thread until the method
+             * returns.
+             */
+            for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+                // DownloadPartTask returns false when the network is lost
+                final boolean b = task.downloadPartTask.get();
+                isSuccess &= b;
+            }
+            if (!isSuccess) {
+                LOGGER.info("Network not connected. Setting the state to WAITING_FOR_NETWORK.");
+                updater.updateState(download.id, TransferState.WAITING_FOR_NETWORK);
+                return false;
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Download resulted in an exception. " + e);
+
+            /*
+             * Future.get() will catch InterruptedException, but it's not a
+             * failure, it may be caused by a pause operation from applications.
+             * Cancel all the on-going part tasks.
+             */
+            for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+                if (task.downloadPartTask != null) {
+                    task.downloadPartTask.cancel(true);
+                }
+            }
+
+            // If the thread that is executing the transfer is interrupted
+            // because of a user initiated pause or cancel operation,
+            // do not throw exception or set the state to FAILED.
+            if (TransferState.CANCELED.equals(download.state) ||
+                TransferState.PAUSED.equals(download.state)) {
+                LOGGER.info("Transfer is " + download.state);
+                return false;
+            }
+
+            // interrupted due to network. Set the TransferState to
+            // WAITING_FOR_NETWORK if the individual parts were waiting for network
+            for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+                if (TransferState.WAITING_FOR_NETWORK.equals(task.state)) {
+                    LOGGER.info("Individual part is WAITING_FOR_NETWORK.");
+                    updater.updateState(download.id, TransferState.WAITING_FOR_NETWORK);
+                    return false;
+                }
+            }
+
+            try {
+                if (TransferNetworkLossHandler.getInstance() != null &&
+                    !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                    LOGGER.info("Network not connected. Setting the state to WAITING_FOR_NETWORK.");
+                    updater.updateState(download.id, TransferState.WAITING_FOR_NETWORK);
+                    return false;
+                }
+            } catch (TransferUtilityException transferUtilityException) {
+                LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+            }
+
+            // interrupted due to reasons other than network.
+            if (RetryUtils.isInterrupted(e)) {
+                LOGGER.info("Transfer is interrupted. " + e);
+                updater.updateState(download.id, TransferState.FAILED);
+                return false;
+            }
+
+            // in other cases, set the transfer to failed.
+            LOGGER.error("Error encountered during multi-part download: " + download.id
+                    + " due to " + e.getMessage(), e);
+            updater.throwError(download.id, e);
+            updater.updateState(download.id, TransferState.FAILED);
+            return false;
+        }
+
+        updater.updateProgress(download.id, bytesTotal, bytesTotal, true);
+        updater.updateState(download.id, TransferState.COMPLETED);
+        return true;
+    }
+
+    /**
+     * Looks up the size of the object and, if it's larger than a part, inserts
+     * a record for each of its parts into the database.
+     *
+     * @param file file to be written
+     * @return the part records, empty if the object fits in a single part
+     */
+    private List<TransferRecord> createPartRecords(File file) {
+        final long partSize = getDownloadPartSize();
+        final GetObjectMetadataRequest getObjectMetadataRequest =
+                new GetObjectMetadataRequest(download.bucketName, download.key);
+        TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectMetadataRequest);
+        final ObjectMetadata metadata = s3.getObjectMetadata(getObjectMetadataRequest);
+        final long bytesTotal = metadata.getContentLength();
+        if (bytesTotal <= partSize) {
+            return new ArrayList<TransferRecord>();
+        }
+
+        // The parts are only fetched from this version of the object.
+        download.eTag = metadata.getETag();
+        dbUtil.updateETag(download.id, download.eTag);
+        download.bytesTotal = bytesTotal;
+        dbUtil.updateBytesTotalForDownload(download.id, bytesTotal);
+
+        final int partCount = (int) ((bytesTotal + partSize - 1) / partSize);
+        final ContentValues[] valuesArray = new ContentValues[partCount];
+        for (int i = 0; i < partCount; i++) {
+            final long rangeStart = i * partSize;
+            final long rangeLast = Math.min(rangeStart + partSize, bytesTotal) - 1;
+            valuesArray[i] = dbUtil.generateContentValuesForMultiPartDownload(download.bucketName,
+                    download.key, file, rangeStart, rangeLast, i + 1, i == partCount - 1 ? 1 : 0);
+        }
+        dbUtil.bulkInsertDownloadPartRecords(download.id, valuesArray);
+        return dbUtil.queryPartRecords(download.id);
+    }
+
+    /**
+     * Creates the file to download the parts into, and sets its length to the
+     * size of the object.
+     *
+     * @param file       file to be written
+     * @param bytesTotal the size of the object
+     * @return whether the file already had the size of the object
+     */
+    private static boolean prepareFile(File file, long bytesTotal) {
+        // attempt to create the parent if it doesn't exist
+        final File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            if (randomAccessFile.length() == bytesTotal) {
+                return true;
+            }
+            randomAccessFile.setLength(bytesTotal);
+            return false;
+        } catch (final IOException e) {
+            throw new AmazonClientException("Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            try {
+                if (randomAccessFile != null) {
+                    randomAccessFile.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+        }
+    }
+
+    private long getDownloadPartSize() {
+        return download.transferUtilityOptions == null
+                ? 0 : download.transferUtilityOptions.getDownloadPartSize();
+    }
+
     /**
      * Writes stream data into a file.
      *
@@ -213,4 +463,68 @@ class DownloadTask implements Callable<Boolean> {
             }
         }
     }
+
+    /**
+     * Progress Listener for the Main DownloadTask.
+     */
+    class DownloadTaskProgressListener implements ProgressListener {
+
+        // The bytes of the parts completed before the download was resumed.
+        private final long bytesAlreadyTransferred;
+        private final long bytesTotal;
+
+        // This variable tracks the previously reported total bytes transferred.
+        private long prevTotalBytesTransferredOfAllParts;
+
+        DownloadTaskProgressListener(long bytesAlreadyTransferred, long bytesTotal) {
+            this.bytesAlreadyTransferred = bytesAlreadyTransferred;
+            this.bytesTotal = bytesTotal;
+            this.prevTotalBytesTransferredOfAllParts = bytesAlreadyTransferred;
+        }
+
+        @Override
+        public void progressChanged(final ProgressEvent progressEvent) {
+            // No-op
+        }
+
+        public synchronized void onProgressChanged(final int partNum,
+            final long bytesTransferredSoFarForPartNum) {
+            final DownloadPartTaskMetadata partNumTask = downloadPartTasks.get(partNum);
+            if (partNumTask == null) {
+                LOGGER.info("Update received for unknown part. Ignoring.");
+                return;
+            }
+
+            partNumTask.bytesTransferredSoFar = bytesTransferredSoFarForPartNum;
+
+            // Compute the sum of bytesTransferredSoFar for all parts
+            long totalBytesTransferredOfAllParts = bytesAlreadyTransferred;
+            for (final DownloadPartTaskMetadata part : downloadPartTasks.values()) {
+                totalBytesTransferredOfAllParts += part.bytesTransferredSoFar;
+            }
+
+            if (totalBytesTransferredOfAllParts > prevTotalBytesTransferredOfAllParts) {
+                updater.updateProgress(DownloadTask.this.download.id,
+                    totalBytesTransferredOfAllParts,
+                    bytesTotal,
+                    true);
+                prevTotalBytesTransferredOfAllParts = totalBytesTransferredOfAllParts;
+            }
+        }
+    }
+
+    // This class represents the state being tracked per part
+    class DownloadPartTaskMetadata {
+        // The record of the part in the database
+        TransferRecord part;
+
+        // The future task that runs DownloadPartTask to download a part
+        Future<Boolean> downloadPartTask;
+
+        // number of bytes transferred so far for this part
+        long bytesTransferredSoFar;
+
+        // state of the transfer
+        TransferState state;
+    }
 }
@@ -0,0 +1,345 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Uploads an {@link InputStream} of unknown length. The stream is read into
+ * part sized buffers, and each buffer is uploaded as a part of a multi-part
+ * upload as soon as it's full, while the next one is read. At most
+ * maxConcurrentParts buffers exist at a time, so the memory used is bounded
+ * by maxConcurrentParts * partSize whatever the length of the stream. A stream
+ * that fits in one part is uploaded with a single PutObject request.
+ *
+ * The ETag of each part is saved in its part record, and the upload is
+ * completed with them once the stream ends. The stream can't be read again,
+ * so the upload can't be resumed: a paused or failed upload is aborted, and
+ * resuming it fails.
+ */
+class InputStreamUploadTask implements Callable<Boolean> {
+
+    private static final Log LOGGER = LogFactory.getLog(InputStreamUploadTask.class);
+
+    /**
+     * File offset of the summary record of an upload from an InputStream,
+     * which tells it apart from the upload of a file.
+     */
+    static final long STREAM_FILE_OFFSET = -1;
+
+    private final TransferRecord upload;
+    private final InputStream in;
+    private final ObjectMetadata metadata;
+    private final CannedAccessControlList cannedAcl;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+    private final TransferStatusUpdater updater;
+    private final int partSize;
+    private final int maxConcurrentParts;
+
+    private final BlockingQueue<byte[]> freeBuffers;
+    private final List<Future<Boolean>> partTasks = new ArrayList<Future<Boolean>>();
+    private final AtomicReference<Exception> partFailure = new AtomicReference<Exception>();
+    private int allocatedBuffers;
+    private long bytesRead;
+    private long bytesUploaded;
+
+    InputStreamUploadTask(TransferRecord upload,
+                          InputStream in,
+                          ObjectMetadata metadata,
+                          CannedAccessControlList cannedAcl,
+                          AmazonS3 s3,
+                          TransferDBUtil dbUtil,
+                          TransferStatusUpdater updater,
+                          int partSize,
+                          int maxConcurrentParts) {
+        this.upload = upload;
+        this.in = in;
+        this.metadata = metadata;
+        this.cannedAcl = cannedAcl;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+        this.updater = updater;
+        this.partSize = partSize;
+        this.maxConcurrentParts = Math.max(maxConcurrentParts, 1);
+        this.freeBuffers = new ArrayBlockingQueue<byte[]>(this.maxConcurrentParts);
+    }
+
+    /*
+     * Runs upload task and returns whether successfully uploaded.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        updater.updateState(upload.id, TransferState.IN_PROGRESS);
+        try {
+            byte[] buffer = acquireBuffer();
+            int length = readPart(buffer);
+            if (length < partSize) {
+                return uploadSinglePart(buffer, length);
+            }
+
+            upload.multipartId = initiateMultipartUpload();
+            dbUtil.updateMultipartId(upload.id, upload.multipartId);
+
+            int partNumber = 1;
+            while (length > 0) {
+                if (partNumber > MAXIMUM_UPLOAD_PARTS) {
+                    throw new AmazonClientException("The stream is larger than "
+                            + MAXIMUM_UPLOAD_PARTS + " parts of " + partSize + " bytes");
+                }
+                submitPart(partNumber++, buffer, length);
+                // blocks while all the buffers are being uploaded
+                buffer = acquireBuffer();
+                throwIfPartFailed();
+                length = readPart(buffer);
+            }
+            freeBuffers.offer(buffer);
+
+            for (final Future<Boolean> partTask : partTasks) {
+                partTask.get();
+            }
+            completeMultipartUpload();
+            updater.updateProgress(upload.id, bytesRead, bytesRead, true);
+            updater.updateState(upload.id, TransferState.COMPLETED);
+            return true;
+        } catch (final Exception e) {
+            for (final Future<Boolean> partTask : partTasks) {
+                partTask.cancel(true);
+            }
+            // a canceled upload is aborted by TransferRecord.cancel()
+            if (upload.multipartId != null && !upload.multipartId.isEmpty()
+                    && !TransferState.CANCELED.equals(upload.state)) {
+                abortMultipartUpload();
+            }
+            if (TransferState.CANCELED.equals(upload.state)
+                    || TransferState.PAUSED.equals(upload.state)) {
+                LOGGER.info("Transfer is " + upload.state);
+                return false;
+            }
+            final Exception cause = e instanceof ExecutionException
+                    && e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            LOGGER.error("Failed to upload stream: " + upload.id
+                    + " due to " + cause.getMessage(), cause);
+            updater.throwError(upload.id, cause);
+            updater.updateState(upload.id, TransferState.FAILED);
+            return false;
+        } finally {
+            try {
+                in.close();
+            } catch (final IOException e) {
+                LOGGER.debug("Failed to close the stream of upload: " + upload.id, e);
+            }
+        }
+    }
+
+    private Boolean uploadSinglePart(byte[] buffer, int length) {
+        final ObjectMetadata om = metadata.clone();
+        om.setContentLength(length);
+        final PutObjectRequest putObjectRequest = new PutObjectRequest(upload.bucketName,
+                upload.key, new ByteArrayInputStream(buffer, 0, length), om)
+                .withCannedAcl(cannedAcl);
+        TransferUtility.appendTransferServiceUserAgentString(putObjectRequest);
+        s3.putObject(putObjectRequest);
+        updater.updateProgress(upload.id, length, length, true);
+        updater.updateState(upload.id, TransferState.COMPLETED);
+        return true;
+    }
+
+    private String initiateMultipartUpload() {
+        final InitiateMultipartUploadRequest initiateMultipartUploadRequest =
+                new InitiateMultipartUploadRequest(upload.bucketName, upload.key, metadata)
+                        .withCannedACL(cannedAcl);
+        TransferUtility
+                .appendMultipartTransferServiceUserAgentString(initiateMultipartUploadRequest);
+        return s3.initiateMultipartUpload(initiateMultipartUploadRequest).getUploadId();
+    }
+
+    private void completeMultipartUpload() {
+        final CompleteMultipartUploadRequest completeRequest = new CompleteMultipartUploadRequest(
+                upload.bucketName, upload.key, upload.multipartId,
+                dbUtil.queryPartETagsOfUpload(upload.id));
+        TransferUtility.appendMultipartTransferServiceUserAgentString(completeRequest);
+        s3.completeMultipartUpload(completeRequest);
+    }
+
+    private void abortMultipartUpload() {
+        try {
+            s3.abortMultipartUpload(new AbortMultipartUploadRequest(upload.bucketName,
+                    upload.key, upload.multipartId));
+            LOGGER.debug("Successfully aborted multipart upload: " + upload.id);
+        } catch (final AmazonClientException e) {
+            LOGGER.debug("Failed to abort the multipart upload: " + upload.id, e);
+        }
+    }
+
+    /**
+     * Saves the record of a part and submits its upload to the part thread
+     * pool. The buffer is given back once the part is uploaded.
+     */
+    private void submitPart(int partNumber, byte[] buffer, int length) {
+        final long offset = (long) (partNumber - 1) * partSize;
+        final int partId = dbUtil.insertStreamUploadPartRecord(upload.id, upload.bucketName,
+                upload.key, offset, partNumber, upload.multipartId, length);
+        final UploadPartRequest request = new UploadPartRequest()
+                .withId(partId)
+                .withMainUploadId(upload.id)
+                .withBucketName(upload.bucketName)
+                .withKey(upload.key)
+                .withUploadId(upload.multipartId)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartNumber(partNumber)
+                .withPartSize(length);
+        TransferUtility.appendMultipartTransferServiceUserAgentString(request);
+        partTasks.add(TransferThreadPool.submitTask(new StreamPartTask(request, buffer)));
+    }
+
+    /**
+     * Takes a free buffer, allocating it if less than maxConcurrentParts
+     * buffers exist, or else waiting for a part upload to give one back.
+     */
+    private byte[] acquireBuffer() throws InterruptedException {
+        final byte[] buffer = freeBuffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (allocatedBuffers < maxConcurrentParts) {
+            allocatedBuffers++;
+            return new byte[partSize];
+        }
+        return freeBuffers.take();
+    }
+
+    /**
+     * Fills the buffer from the stream.
+     *
+     * @return the number of bytes read, less than the size of the buffer only
+     *         if the stream has ended.
+     */
+    private int readPart(byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            final int read = in.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        synchronized (this) {
+            bytesRead += length;
+        }
+        return length;
+    }
+
+    private void throwIfPartFailed() throws Exception {
+        final Exception e = partFailure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Reports the bytes uploaded so far. The length of the stream isn't
+     * known until it ends, so the total is the number of bytes read so far.
+     */
+    private synchronized void onBytesUploaded(long bytes) {
+        bytesUploaded += bytes;
+        updater.updateProgress(upload.id, bytesUploaded, bytesRead, true);
+    }
+
+    /**
+     * Uploads a part of the stream and saves its ETag.
+     */
+    class StreamPartTask implements Callable<Boolean> {
+        private final UploadPartRequest request;
+        private final byte[] buffer;
+
+        StreamPartTask(UploadPartRequest request, byte[] buffer) {
+            this.request = request;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Boolean call() throws Exception {
+            final PartProgressListener progressListener = new PartProgressListener();
+            try {
+                request.setGeneralProgressListener(progressListener);
+                final UploadPartResult result = s3.uploadPart(request);
+                dbUtil.updateState(request.getId(), TransferState.PART_COMPLETED);
+                dbUtil.updateETag(request.getId(), result.getETag());
+                return true;
+            } catch (final Exception e) {
+                LOGGER.error("Encountered error uploading part " + request.getPartNumber(), e);
+                onBytesUploaded(-progressListener.bytesTransferred);
+                dbUtil.updateState(request.getId(), TransferState.FAILED);
+                partFailure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                freeBuffers.offer(buffer);
+            }
+        }
+    }
+
+    /**
+     * Progress listener of a part, forwarding the bytes uploaded to the
+     * progress of the whole upload.
+     */
+    private class PartProgressListener implements ProgressListener {
+        private long bytesTransferred;
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            final long bytes;
+            if (ProgressEvent.RESET_EVENT_CODE == progressEvent.getEventCode()) {
+                // the part is sent again, discard what's been transferred
+                bytes = -bytesTransferred;
+            } else {
+                bytes = progressEvent.getBytesTransferred();
+            }
+            if (bytes != 0) {
+                bytesTransferred += bytes;
+                onBytesUploaded(bytes);
+            }
+        }
+    }
+}
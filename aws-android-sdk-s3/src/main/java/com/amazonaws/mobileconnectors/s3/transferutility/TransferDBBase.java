@@ -263,6 +263,25 @@ class TransferDBBase {
                     database.endTransaction();
                 }
                 break;
+            case TRANSFER_PART:
+                /*
+                 * The main record already exists, the part records are
+                 * attached to the id given by the Uri.
+                 */
+                mainUploadId = Integer.parseInt(uri.getLastPathSegment());
+                try {
+                    database.beginTransaction();
+                    for (final ContentValues values : valuesArray) {
+                        values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, mainUploadId);
+                        database.insertOrThrow(TransferTable.TABLE_TRANSFER, null, values);
+                    }
+                    database.setTransactionSuccessful();
+                } catch (final Exception e) {
+                    LOGGER.error("bulkInsert error : ", e);
+                } finally {
+                    database.endTransaction();
+                }
+                break;
             default:
                 throw new IllegalArgumentException("Unknown URI: " + uri);
         }
@@ -104,6 +104,53 @@ class TransferDBUtil {
         return transferDBBase.insert(transferDBBase.getContentUri(), values);
     }
 
+    /**
+     * Inserts the summary record of an upload from an InputStream. It has no
+     * file, its file offset is {@link InputStreamUploadTask#STREAM_FILE_OFFSET}
+     * and its total bytes are unknown until the stream ends.
+     *
+     * @param bucket The name of the bucket to upload to.
+     * @param key The key in the specified bucket by which to store the new
+     *            object.
+     * @param metadata The S3 ObjectMetadata to send along with the object
+     * @param cannedAcl The canned ACL associated with the object
+     * @param tuOptions Configuration for TransferUtility
+     * @return An Uri of the record inserted.
+     */
+    public Uri insertStreamUploadRecord(String bucket, String key, ObjectMetadata metadata,
+            CannedAccessControlList cannedAcl, TransferUtilityOptions tuOptions) {
+        final ContentValues values = generateContentValuesForMultiPartUpload(bucket, key,
+                new File(""), InputStreamUploadTask.STREAM_FILE_OFFSET, 0, "", 0, 0, metadata,
+                cannedAcl, tuOptions);
+        values.put(TransferTable.COLUMN_FILE, "");
+        return transferDBBase.insert(transferDBBase.getContentUri(), values);
+    }
+
+    /**
+     * Inserts the record of a part of an upload from an InputStream, once the
+     * part has been read from the stream.
+     *
+     * @param mainUploadId The id of the summary record of the upload.
+     * @param bucket The name of the bucket to upload to.
+     * @param key The key in the specified bucket by which to store the new
+     *            object.
+     * @param offset The byte offset of the part in the stream.
+     * @param partNumber The part number of this part.
+     * @param uploadId The multipart upload id of the upload.
+     * @param bytesTotal The size of the part in bytes.
+     * @return The id of the record inserted.
+     */
+    public int insertStreamUploadPartRecord(int mainUploadId, String bucket, String key,
+            long offset, int partNumber, String uploadId, long bytesTotal) {
+        final ContentValues values = generateContentValuesForMultiPartUpload(bucket, key,
+                new File(""), offset, partNumber, uploadId, bytesTotal, 0, new ObjectMetadata(),
+                null, null);
+        values.put(TransferTable.COLUMN_FILE, "");
+        values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, mainUploadId);
+        final Uri uri = transferDBBase.insert(transferDBBase.getContentUri(), values);
+        return Integer.parseInt(uri.getLastPathSegment());
+    }
+
     /**
      * Inserts a transfer record into database with the given values.
      *
@@ -168,6 +215,17 @@ class TransferDBUtil {
         return transferDBBase.bulkInsert(transferDBBase.getContentUri(), valuesArray);
     }
 
+    /**
+     * Inserts the part records of a multi-part download at a time.
+     *
+     * @param mainDownloadId The id of the download the parts belong to.
+     * @param valuesArray An array of values to insert.
+     * @return The mainDownloadId of the part records
+     */
+    public int bulkInsertDownloadPartRecords(int mainDownloadId, ContentValues[] valuesArray) {
+        return transferDBBase.bulkInsert(getPartUri(mainDownloadId), valuesArray);
+    }
+
     /**
      * Writes transfer status including transfer state, current transferred
      * bytes and total bytes into database.
@@ -638,6 +696,32 @@ class TransferDBUtil {
         return list;
     }
 
+    /**
+     * Queries all the part records of a multi-part transfer, completed or not.
+     * It's used when resuming a multi-part download.
+     *
+     * @param mainUploadId The id of the main record of a multi-part transfer
+     * @return A list of the part records, empty if the transfer has no parts
+     */
+    public List<TransferRecord> queryPartRecords(int mainUploadId) {
+        final List<TransferRecord> list = new ArrayList<TransferRecord>();
+        Cursor c = null;
+        try {
+            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null, null);
+            while (c.moveToNext()) {
+                final TransferRecord part = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                part.updateFromDB(c);
+                list.add(part);
+            }
+        } finally {
+            if (c != null) {
+                c.close();
+            }
+        }
+        return list;
+    }
+
     /**
      * Queries waiting for network partUpload tasks of a multipart upload and returns
      * true if one such partUpload tasks
@@ -735,6 +819,40 @@ class TransferDBUtil {
         return values;
     }
 
+    /**
+     * Generates a ContentValues object to insert into the database with the
+     * given values for a part record of a multi-part download.
+     *
+     * @param bucket The name of the bucket to download from.
+     * @param key The key of the object to download.
+     * @param file The file to download the object to.
+     * @param rangeStart The first byte of the part in the object.
+     * @param rangeLast The last byte of the part in the object, inclusive.
+     * @param partNumber The part number of this part.
+     * @param isLastPart Whether this part is the last part of the download.
+     * @return The ContentValues object generated.
+     */
+    public ContentValues generateContentValuesForMultiPartDownload(String bucket,
+            String key, File file, long rangeStart, long rangeLast, int partNumber,
+            int isLastPart) {
+        final ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString());
+        values.put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString());
+        values.put(TransferTable.COLUMN_BUCKET_NAME, bucket);
+        values.put(TransferTable.COLUMN_KEY, key);
+        values.put(TransferTable.COLUMN_FILE, file.getAbsolutePath());
+        values.put(TransferTable.COLUMN_BYTES_CURRENT, 0L);
+        values.put(TransferTable.COLUMN_BYTES_TOTAL, rangeLast - rangeStart + 1);
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        values.put(TransferTable.COLUMN_PART_NUM, partNumber);
+        values.put(TransferTable.COLUMN_FILE_OFFSET, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_START, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_LAST, rangeLast);
+        values.put(TransferTable.COLUMN_IS_LAST_PART, isLastPart);
+        values.put(TransferTable.COLUMN_IS_ENCRYPTED, 0);
+        return values;
+    }
+
     /**
      * Adds mappings to a ContentValues object for the data in the passed in
      * ObjectMetadata
@@ -98,6 +98,27 @@ public class TransferObserver {
         this.setTransferListener(listener);
     }
 
+    /**
+     * Constructs a TransferObserver of a transfer that has no file, such as an
+     * upload from an InputStream.
+     *
+     * @param id The transfer id of the transfer to be observed.
+     * @param dbUtil an instance of database utility
+     * @param bucket bucket of the S3 object
+     * @param key key of the S3 object
+     * @param listener the listener for the transfer
+     */
+    TransferObserver(int id, TransferDBUtil dbUtil, String bucket, String key,
+            TransferListener listener) {
+        this.id = id;
+        this.dbUtil = dbUtil;
+        this.bucket = bucket;
+        this.key = key;
+        filePath = "";
+        transferState = TransferState.WAITING;
+        this.setTransferListener(listener);
+    }
+
     /**
      * Constructs a TransferObserver and initializes fields with the given
      * arguments.
@@ -30,6 +30,7 @@ import com.google.gson.Gson;
 
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -181,7 +182,7 @@ class TransferRecord {
             checkPreferredNetworkAvailability(updater, connManager)) {
             if (type.equals(TransferType.DOWNLOAD)) {
                 submittedTask = TransferThreadPool
-                        .submitTask(new DownloadTask(this, s3, updater));
+                        .submitTask(new DownloadTask(this, s3, dbUtil, updater));
             } else {
                 submittedTask = TransferThreadPool
                         .submitTask(new UploadTask(this, s3, dbUtil, updater));
@@ -191,6 +192,21 @@ class TransferRecord {
         return false;
     }
 
+    /**
+     * Starts the given task for this transfer, for transfers whose task can't
+     * be built from the record, such as an upload from an InputStream.
+     *
+     * @param task the task of the transfer
+     * @return Whether the task is running.
+     */
+    boolean start(final Callable<Boolean> task) {
+        if (!isRunning() && checkIsReadyToRun()) {
+            submittedTask = TransferThreadPool.submitTask(task);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Pauses a running transfer.
      *
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A class that tracks active transfers. It has a static map that holds weak
@@ -48,6 +49,17 @@ class TransferStatusUpdater {
                     TransferState.PENDING_PAUSE,
                     TransferState.PENDING_NETWORK_DISCONNECT));
 
+    /**
+     * States that stop a transfer, before which the progress held back by the
+     * throttles is written and reported.
+     */
+    private static final HashSet<TransferState> STATES_TO_FLUSH_PROGRESS = new HashSet<TransferState>(
+            Arrays.asList(TransferState.COMPLETED,
+                    TransferState.FAILED,
+                    TransferState.CANCELED,
+                    TransferState.PAUSED,
+                    TransferState.WAITING_FOR_NETWORK));
+
     /**
      * A map of listeners.
      */
@@ -59,6 +71,14 @@ class TransferStatusUpdater {
      */
     private final Map<Integer, TransferRecord> transfers;
 
+    /**
+     * The progress of the active transfers. It's updated without locking by
+     * the transfer threads, and only written to the database and reported to
+     * the LISTENERS at the pace set in the {@link TransferUtilityOptions} of
+     * each transfer.
+     */
+    private final ConcurrentHashMap<Integer, TransferProgress> progresses;
+
     /**
      * Database util to update transfer status.
      */
@@ -83,6 +103,7 @@ class TransferStatusUpdater {
         dbUtil = dbUtilInstance;
         mainHandler = new Handler(Looper.getMainLooper());
         transfers = new ConcurrentHashMap<Integer, TransferRecord>();
+        progresses = new ConcurrentHashMap<Integer, TransferProgress>();
     }
 
     /**
@@ -168,6 +189,9 @@ class TransferStatusUpdater {
     synchronized void updateState(final int id, final TransferState newState) {
         boolean shouldNotNotify = STATES_NOT_TO_NOTIFY.contains(newState);
         final TransferRecord transfer = transfers.get(id);
+        if (STATES_TO_FLUSH_PROGRESS.contains(newState)) {
+            flushProgress(id, transfer);
+        }
         if (transfer == null) {
             // still wants to save state
             if (dbUtil.updateState(id, newState) == 0) {
@@ -186,6 +210,12 @@ class TransferStatusUpdater {
             return;
         }
 
+        if (TransferState.COMPLETED.equals(newState) ||
+            TransferState.FAILED.equals(newState) ||
+            TransferState.CANCELED.equals(newState)) {
+            progresses.remove(id);
+        }
+
         // remove the transfer record from the database
         // when the transfer completed successfully.
         if (TransferState.COMPLETED.equals(newState)) {
@@ -222,12 +252,19 @@ class TransferStatusUpdater {
      * Updates the transfer progress of a transfer. It will trigger
      * {@link TransferListener#onProgressChanged(int, long, long)} of associated
      * LISTENERS if the update exceeds either time threshold.
+     * <p>
+     * The progress is written to the database and reported to the LISTENERS
+     * at most once per progress update interval of the transfer, unless the
+     * progress moved by more than the progress update threshold. The progress
+     * is always written when the LISTENERS aren't notified, and always written
+     * and reported when the transfer has transferred all its bytes.
      *
      * @param id id of the transfer
      * @param bytesCurrent current transferred bytes
      * @param bytesTotal total bytes
+     * @param notifyListener whether to notify the LISTENERS
      */
-    synchronized void updateProgress(final int id, 
+    void updateProgress(final int id, 
         final long bytesCurrent, 
         final long bytesTotal, 
         final boolean notifyListener) {
@@ -238,15 +275,56 @@ class TransferStatusUpdater {
             transfer.bytesTotal = bytesTotal;
         }
 
+        final TransferProgress progress = getProgress(id, transfer);
+        progress.bytesCurrent.set(bytesCurrent);
+        progress.bytesTotal = bytesTotal;
+        final long now = System.currentTimeMillis();
+        final boolean isDone = bytesCurrent == bytesTotal;
+
         // update bytes transferred so that the transfer observer may pick it
         // up.
-        dbUtil.updateBytesTransferred(id, bytesCurrent);
+        if (progress.persistThrottle.tryAcquire(bytesCurrent, now, isDone || !notifyListener)) {
+            dbUtil.updateBytesTransferred(id, progress.bytesCurrent.get());
+        }
 
-        if (!notifyListener) {
+        if (!notifyListener || !progress.notifyThrottle.tryAcquire(bytesCurrent, now, isDone)) {
             return;
         }
 
-        // invoke LISTENERS
+        notifyProgress(id, isDone ? bytesCurrent : progress.bytesCurrent.get(), bytesTotal);
+    }
+
+    /**
+     * Writes and reports the latest progress of a transfer, if the throttles
+     * held it back, so that it isn't lost when the transfer stops.
+     *
+     * @param id id of the transfer
+     * @param transfer the transfer, or null if it isn't tracked
+     */
+    private void flushProgress(int id, TransferRecord transfer) {
+        final TransferProgress progress = progresses.get(id);
+        if (progress == null) {
+            return;
+        }
+        final long bytesCurrent = progress.bytesCurrent.get();
+        final long now = System.currentTimeMillis();
+        // the progress of a tracked transfer is saved with its state
+        if (progress.persistThrottle.isBehind(bytesCurrent)
+                && progress.persistThrottle.tryAcquire(bytesCurrent, now, true)
+                && transfer == null) {
+            dbUtil.updateBytesTransferred(id, bytesCurrent);
+        }
+        if (progress.notifyThrottle.isBehind(bytesCurrent)
+                && progress.notifyThrottle.tryAcquire(bytesCurrent, now, true)) {
+            notifyProgress(id, bytesCurrent, progress.bytesTotal);
+        }
+    }
+
+    /**
+     * Invokes {@link TransferListener#onProgressChanged(int, long, long)} of
+     * the LISTENERS of a transfer on the main thread.
+     */
+    private void notifyProgress(final int id, final long bytesToReport, final long bytesTotal) {
         synchronized (LISTENERS) {
             final List<TransferListener> list = LISTENERS.get(id);
             if (list == null || list.isEmpty()) {
@@ -258,13 +336,33 @@ class TransferStatusUpdater {
                 mainHandler.post(new Runnable() {
                     @Override
                     public void run() {
-                        l.onProgressChanged(id, bytesCurrent, bytesTotal);
+                        l.onProgressChanged(id, bytesToReport, bytesTotal);
                     }
                 });
             }
         }
     }
 
+    private TransferProgress getProgress(int id, TransferRecord transfer) {
+        TransferProgress progress = progresses.get(id);
+        if (progress == null) {
+            final TransferUtilityOptions options = transfer == null
+                    ? null : transfer.transferUtilityOptions;
+            progress = options == null
+                    ? new TransferProgress(
+                            TransferUtilityOptions.getDefaultTransferProgressUpdateInterval(),
+                            TransferUtilityOptions.getDefaultTransferProgressUpdateThreshold())
+                    : new TransferProgress(options.getTransferProgressUpdateInterval(),
+                            options.getTransferProgressUpdateThreshold());
+            // keep the progress of the thread that got there first
+            final TransferProgress previous = progresses.putIfAbsent(id, progress);
+            if (previous != null) {
+                progress = previous;
+            }
+        }
+        return progress;
+    }
+
     /**
      * Throws an error to transfer. It triggers
      * {@link TransferListener#onError(int, Exception)} of associated LISTENERS.
@@ -300,6 +398,7 @@ class TransferStatusUpdater {
             LISTENERS.clear();
         }
         transfers.clear();
+        progresses.clear();
     }
 
     /**
@@ -346,6 +445,61 @@ class TransferStatusUpdater {
         }
     }
 
+    /**
+     * The latest progress of a transfer, and when it was last written to the
+     * database and reported to the LISTENERS.
+     */
+    private static final class TransferProgress {
+        private final AtomicLong bytesCurrent = new AtomicLong();
+        private volatile long bytesTotal;
+        private final ProgressThrottle persistThrottle;
+        private final ProgressThrottle notifyThrottle;
+
+        TransferProgress(long intervalMillis, long thresholdBytes) {
+            persistThrottle = new ProgressThrottle(intervalMillis, thresholdBytes);
+            notifyThrottle = new ProgressThrottle(intervalMillis, thresholdBytes);
+        }
+    }
+
+    /**
+     * Lets an update through once per interval, or once the progress moved by
+     * the threshold since the last update let through. When several threads
+     * race for the same update, only one of them gets it.
+     */
+    static final class ProgressThrottle {
+        private final long intervalMillis;
+        private final long thresholdBytes;
+        private final AtomicLong lastUpdateTime = new AtomicLong(Long.MIN_VALUE);
+        private volatile long lastUpdateBytes;
+
+        ProgressThrottle(long intervalMillis, long thresholdBytes) {
+            this.intervalMillis = intervalMillis;
+            this.thresholdBytes = thresholdBytes;
+        }
+
+        boolean tryAcquire(long bytes, long now, boolean force) {
+            final long lastTime = lastUpdateTime.get();
+            if (!force && lastTime != Long.MIN_VALUE
+                    && now - lastTime < intervalMillis
+                    && Math.abs(bytes - lastUpdateBytes) < thresholdBytes) {
+                return false;
+            }
+            if (!lastUpdateTime.compareAndSet(lastTime, now) && !force) {
+                return false;
+            }
+            lastUpdateBytes = bytes;
+            return true;
+        }
+
+        /**
+         * @return whether the given progress differs from the last update let
+         *         through
+         */
+        boolean isBehind(long bytes) {
+            return bytes != lastUpdateBytes;
+        }
+    }
+
     /**
      * A helper class that updates transfer progress.
      */
@@ -35,7 +35,7 @@ class TransferThreadPool {
     static synchronized void init(final int transferThreadPoolSize) {
         LOGGER.debug("Initializing the thread pool of size: " + transferThreadPoolSize);
         
-        final int poolSize = Math.max((int) (Math.ceil((double) transferThreadPoolSize / 2)), 1);
+        final int poolSize = getPoolSize(transferThreadPoolSize);
         
         if (executorMainTask == null) {
             executorMainTask = buildExecutor(poolSize);
@@ -45,9 +45,18 @@ class TransferThreadPool {
         }
     }
 
+    /**
+     * Returns the size of each of the two pools, for the main tasks and the
+     * part tasks, given the total number of threads for the transfers.
+     */
+    static int getPoolSize(final int transferThreadPoolSize) {
+        return Math.max((int) (Math.ceil((double) transferThreadPoolSize / 2)), 1);
+    }
+
     public static <T> Future<T> submitTask(Callable<T> c) {
         init(TransferUtilityOptions.getDefaultThreadPoolSize());
-        if (c instanceof UploadPartTask) {
+        if (c instanceof UploadPartTask || c instanceof DownloadPartTask
+                || c instanceof InputStreamUploadTask.StreamPartTask) {
             return executorPartTask.submit(c);
         } else {
             return executorMainTask.submit(c);
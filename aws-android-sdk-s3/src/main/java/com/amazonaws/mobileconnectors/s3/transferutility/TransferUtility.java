@@ -39,6 +39,7 @@ import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
 import java.io.File;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -597,6 +598,98 @@ public class TransferUtility {
         return upload(getDefaultBucketOrThrow(), key, file, metadata, cannedAcl, listener);
     }
 
+    /**
+     * Starts uploading the content of the stream to the given bucket, using the
+     * given key. The length of the stream doesn't need to be known: it's read
+     * into part sized buffers that are uploaded concurrently as they fill, and
+     * the upload completes when the stream ends. At most one buffer per thread
+     * of the part upload pool is held in memory at a time. The stream is
+     * closed once the upload finishes.
+     *
+     * A stream can't be read again, so unlike the upload of a file, this
+     * upload can't be paused and resumed: pausing it aborts it, and resuming
+     * it fails.
+     *
+     * @param bucket      The name of the bucket to upload the new object to.
+     * @param key         The key in the specified bucket by which to store the
+     *                    new object.
+     * @param inputStream The stream to upload.
+     * @return A TransferObserver used to track upload progress and state
+     */
+    public TransferObserver upload(String bucket, String key, InputStream inputStream) {
+        return upload(bucket, key, inputStream, new ObjectMetadata(), null, null);
+    }
+
+    /**
+     * Starts uploading the content of the stream to the <b>default</b> bucket,
+     * using the given key. See
+     * {@link #upload(String, String, InputStream, ObjectMetadata, CannedAccessControlList, TransferListener)}.
+     *
+     * @param key         The key in the specified bucket by which to store the
+     *                    new object.
+     * @param inputStream The stream to upload.
+     * @return A TransferObserver used to track upload progress and state
+     */
+    public TransferObserver upload(String key, InputStream inputStream) {
+        return upload(getDefaultBucketOrThrow(), key, inputStream, new ObjectMetadata(), null, null);
+    }
+
+    /**
+     * Starts uploading the content of the stream to the given bucket, using the
+     * given key. The length of the stream doesn't need to be known: it's read
+     * into part sized buffers that are uploaded concurrently as they fill, and
+     * the upload completes when the stream ends. At most one buffer per thread
+     * of the part upload pool is held in memory at a time. The stream is
+     * closed once the upload finishes.
+     *
+     * A stream can't be read again, so unlike the upload of a file, this
+     * upload can't be paused and resumed: pausing it aborts it, and resuming
+     * it fails.
+     *
+     * @param bucket      The name of the bucket to upload the new object to.
+     * @param key         The key in the specified bucket by which to store the
+     *                    new object.
+     * @param inputStream The stream to upload.
+     * @param metadata    The S3 metadata to associate with this object
+     * @param cannedAcl   The canned ACL to associate with this object
+     * @param listener    a listener to attach to transfer observer.
+     * @return A TransferObserver used to track upload progress and state
+     */
+    public TransferObserver upload(String bucket, String key, InputStream inputStream,
+            ObjectMetadata metadata, CannedAccessControlList cannedAcl, TransferListener listener) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("Invalid input stream: null");
+        }
+        final ObjectMetadata objectMetadata = metadata == null ? new ObjectMetadata() : metadata;
+        final Uri uri = dbUtil.insertStreamUploadRecord(bucket, key, objectMetadata, cannedAcl,
+                transferUtilityOptions);
+        final int recordId = Integer.parseInt(uri.getLastPathSegment());
+
+        // Creating the observer before the job is submitted because the listener needs to be registered
+        // with TransferStatusUpdater when the job is being submitted.
+        TransferObserver transferObserver = new TransferObserver(recordId, dbUtil, bucket, key, listener);
+        submitStreamUploadJob(recordId, inputStream, objectMetadata, cannedAcl);
+        return transferObserver;
+    }
+
+    /**
+     * Starts uploading the content of the stream to the <b>default</b> bucket,
+     * using the given key. See
+     * {@link #upload(String, String, InputStream, ObjectMetadata, CannedAccessControlList, TransferListener)}.
+     *
+     * @param key         The key in the specified bucket by which to store the
+     *                    new object.
+     * @param inputStream The stream to upload.
+     * @param metadata    The S3 metadata to associate with this object
+     * @param cannedAcl   The canned ACL to associate with this object
+     * @param listener    a listener to attach to transfer observer.
+     * @return A TransferObserver used to track upload progress and state
+     */
+    public TransferObserver upload(String key, InputStream inputStream, ObjectMetadata metadata,
+            CannedAccessControlList cannedAcl, TransferListener listener) {
+        return upload(getDefaultBucketOrThrow(), key, inputStream, metadata, cannedAcl, listener);
+    }
+
     /**
      * Gets a TransferObserver instance to track the record with the given id.
      *
@@ -924,6 +1017,30 @@ public class TransferUtility {
         }
     }
 
+    /**
+     * Starts the upload of a stream. Unlike other transfers, its task can't be
+     * built from the transfer record, since the stream only lives in memory.
+     *
+     * @param id        id of the transfer
+     * @param in        the stream to upload
+     * @param metadata  the S3 metadata of the object
+     * @param cannedAcl the canned ACL of the object
+     */
+    private synchronized void submitStreamUploadJob(int id, InputStream in,
+            ObjectMetadata metadata, CannedAccessControlList cannedAcl) {
+        S3ClientReference.put(id, s3);
+
+        final TransferRecord transfer = dbUtil.getTransferById(id);
+        if (transfer == null) {
+            LOGGER.error("Cannot find transfer with id: " + id);
+            return;
+        }
+        updater.addTransfer(transfer);
+        transfer.start(new InputStreamUploadTask(transfer, in, metadata, cannedAcl, s3, dbUtil,
+                updater, MINIMUM_UPLOAD_PART_SIZE,
+                TransferThreadPool.getPoolSize(transferUtilityOptions.getTransferThreadPoolSize())));
+    }
+
     private boolean shouldUploadInMultipart(File file) {
         return (file != null && file.length() > MINIMUM_UPLOAD_PART_SIZE);
     }
@@ -49,6 +49,11 @@ public class TransferUtilityOptions implements Serializable {
      */
     private static final int MILLIS_IN_MINUTE = 60 * 1000;
 
+    /**
+     * Default minimum time between two progress updates of a transfer.
+     */
+    private static final long DEFAULT_PROGRESS_UPDATE_INTERVAL_MILLIS = 100;
+
     /**
      * TransferService checks for the transfers that are waiting or in progress
      * and restarts the transfer for every time interval in milliseconds.
@@ -68,6 +73,24 @@ public class TransferUtilityOptions implements Serializable {
      * Type of connection to use for transfers.
      */
     private TransferNetworkConnectionType transferNetworkConnectionType;
+
+    /**
+     * Size in bytes of the byte ranges that downloads are split into and
+     * fetched concurrently. 0 downloads objects over a single connection.
+     */
+    private long downloadPartSize;
+
+    /**
+     * Minimum time in milliseconds between two writes of the progress of a
+     * transfer to the database, and between two progress callbacks.
+     */
+    private long transferProgressUpdateInterval;
+
+    /**
+     * Number of bytes transferred after which the progress of a transfer is
+     * written and reported even if the update interval hasn't elapsed.
+     */
+    private long transferProgressUpdateThreshold;
     
     /**
      * Constructor that sets the options to the
@@ -78,6 +101,8 @@ public class TransferUtilityOptions implements Serializable {
         this.transferServiceCheckTimeInterval = getDefaultCheckTimeInterval();
         this.transferThreadPoolSize = getDefaultThreadPoolSize();
         this.transferNetworkConnectionType = getDefaultTransferNetworkConnectionType();
+        this.transferProgressUpdateInterval = getDefaultTransferProgressUpdateInterval();
+        this.transferProgressUpdateThreshold = getDefaultTransferProgressUpdateThreshold();
     }
 
     /**
@@ -93,6 +118,8 @@ public class TransferUtilityOptions implements Serializable {
         this.transferServiceCheckTimeInterval = getDefaultCheckTimeInterval();
         this.transferThreadPoolSize = transferThreadPoolSize;
         this.transferNetworkConnectionType = transferNetworkConnectionType;
+        this.transferProgressUpdateInterval = getDefaultTransferProgressUpdateInterval();
+        this.transferProgressUpdateThreshold = getDefaultTransferProgressUpdateThreshold();
     }
 
     /**
@@ -153,6 +180,85 @@ public class TransferUtilityOptions implements Serializable {
         return transferNetworkConnectionType;
     }
 
+    /**
+     * Retrieve the size of the byte ranges of a multi-part download.
+     *
+     * @return the download part size in bytes, 0 if objects are downloaded
+     *         over a single connection.
+     */
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * Set the size of the byte ranges of a multi-part download. Objects larger
+     * than a part are downloaded in parts fetched concurrently, and a resumed
+     * download only fetches the parts that are missing. If it's 0 or negative,
+     * objects are downloaded over a single connection; positive values below
+     * 5 MB are raised to 5 MB.
+     *
+     * @param downloadPartSize the downloadPartSize to set
+     */
+    public void setDownloadPartSize(final long downloadPartSize) {
+        if (downloadPartSize <= 0) {
+            this.downloadPartSize = 0;
+        } else {
+            this.downloadPartSize = Math.max(downloadPartSize,
+                    TransferUtility.MINIMUM_UPLOAD_PART_SIZE);
+        }
+    }
+
+    /**
+     * Retrieve the minimum time between two progress updates of a transfer.
+     *
+     * @return the progress update interval in milliseconds.
+     */
+    public long getTransferProgressUpdateInterval() {
+        return transferProgressUpdateInterval;
+    }
+
+    /**
+     * Set the minimum time between two writes of the progress of a transfer to
+     * the database, and between two calls to
+     * {@link TransferListener#onProgressChanged(int, long, long)}. The last
+     * progress of a transfer is always written and reported. If it's negative,
+     * then set the default value.
+     *
+     * @param transferProgressUpdateInterval the interval in milliseconds
+     */
+    public void setTransferProgressUpdateInterval(final long transferProgressUpdateInterval) {
+        if (transferProgressUpdateInterval < 0) {
+            this.transferProgressUpdateInterval = getDefaultTransferProgressUpdateInterval();
+        } else {
+            this.transferProgressUpdateInterval = transferProgressUpdateInterval;
+        }
+    }
+
+    /**
+     * Retrieve the number of bytes after which the progress of a transfer is
+     * updated even if the update interval hasn't elapsed.
+     *
+     * @return the progress update threshold in bytes.
+     */
+    public long getTransferProgressUpdateThreshold() {
+        return transferProgressUpdateThreshold;
+    }
+
+    /**
+     * Set the number of bytes transferred after which the progress of a
+     * transfer is written and reported even if the update interval hasn't
+     * elapsed. If it's 0 or negative, then set the default value.
+     *
+     * @param transferProgressUpdateThreshold the threshold in bytes
+     */
+    public void setTransferProgressUpdateThreshold(final long transferProgressUpdateThreshold) {
+        if (transferProgressUpdateThreshold <= 0) {
+            this.transferProgressUpdateThreshold = getDefaultTransferProgressUpdateThreshold();
+        } else {
+            this.transferProgressUpdateThreshold = transferProgressUpdateThreshold;
+        }
+    }
+
     /**
      * Return the default thread pool size.
      * 
@@ -183,4 +289,22 @@ public class TransferUtilityOptions implements Serializable {
     static TransferNetworkConnectionType getDefaultTransferNetworkConnectionType() {
         return TransferNetworkConnectionType.ANY;
     }
+
+    /**
+     * Return the default progress update interval.
+     *
+     * @return The default progress update interval in milliseconds.
+     */
+    static long getDefaultTransferProgressUpdateInterval() {
+        return DEFAULT_PROGRESS_UPDATE_INTERVAL_MILLIS;
+    }
+
+    /**
+     * Return the default progress update threshold.
+     *
+     * @return The default progress update threshold in bytes.
+     */
+    static long getDefaultTransferProgressUpdateThreshold() {
+        return TransferUtility.MINIMUM_UPLOAD_PART_SIZE;
+    }
 }
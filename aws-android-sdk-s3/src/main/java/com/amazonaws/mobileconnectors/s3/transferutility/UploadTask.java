@@ -99,6 +99,17 @@ class UploadTask implements Callable<Boolean> {
             LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");	
         }
         
+        if (upload.fileOffset == InputStreamUploadTask.STREAM_FILE_OFFSET) {
+            /*
+             * An upload from an InputStream can't be read again, resuming it
+             * would complete the object with the parts uploaded so far.
+             */
+            updater.throwError(upload.id, new TransferUtilityException(
+                    "An upload from an InputStream can't be resumed: " + upload.id));
+            updater.updateState(upload.id, TransferState.FAILED);
+            return false;
+        }
+
         updater.updateState(upload.id, TransferState.IN_PROGRESS);
         if (upload.isMultipart == 1 && upload.partNumber == 0) {
             /*
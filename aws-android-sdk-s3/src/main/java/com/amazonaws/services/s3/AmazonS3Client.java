@@ -45,11 +45,11 @@ import com.amazonaws.event.ProgressListenerCallbackExecutor;
 import com.amazonaws.event.ProgressReportingInputStream;
 import com.amazonaws.handlers.HandlerChainFactory;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpClient;
 import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.http.HttpResponseHandler;
-import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
@@ -358,7 +358,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     @Deprecated
     public AmazonS3Client(AWSCredentialsProvider credentialsProvider,
                           ClientConfiguration clientConfiguration) {
-        this(credentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(credentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -377,7 +377,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public AmazonS3Client(AWSCredentialsProvider credentialsProvider,
                           ClientConfiguration clientConfiguration,
                           RequestMetricCollector requestMetricCollector) {
-        super(clientConfiguration, new UrlHttpClient(clientConfiguration),
+        super(clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration),
                 requestMetricCollector);
         this.awsCredentialsProvider = credentialsProvider;
         init();
@@ -482,7 +482,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public AmazonS3Client(AWSCredentials awsCredentials,
                           com.amazonaws.regions.Region region,
                           ClientConfiguration clientConfiguration) {
-        this(awsCredentials, region, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentials, region, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -527,7 +527,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public AmazonS3Client(AWSCredentialsProvider awsCredentialsProvider,
                           com.amazonaws.regions.Region region,
                           ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, region, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, region, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2012-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.iterable;
+
+import com.amazonaws.AmazonClientException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Iterates the summaries of the listings of a list of prefixes, prefix by
+ * prefix, while the next pages are fetched in the background. The listings
+ * of up to maxConcurrency prefixes, starting with the one being iterated,
+ * are fetched at once, each keeping at most {@link #MAX_READY_PAGES} pages
+ * ahead of the iteration.
+ *
+ * @param <P> the type of the pages of the listings.
+ * @param <S> the type of the summaries of the pages.
+ */
+final class PrefetchingListingIterator<P, S> implements Iterator<S> {
+
+    /** Pages fetched ahead of the iteration for each prefix. */
+    static final int MAX_READY_PAGES = 2;
+
+    /**
+     * There is no need for the listing threads if there is no more running
+     * threads in current process, so they are daemons. Idle ones go away.
+     */
+    private static final ExecutorService EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                final AtomicInteger threadCount = new AtomicInteger(0);
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    final int threadNumber = threadCount.incrementAndGet();
+                    final Thread thread = new Thread(r);
+                    thread.setDaemon(true);
+                    thread.setName("S3ListingThread-" + threadNumber);
+                    return thread;
+                }
+            });
+
+    /**
+     * Fetches the pages of a listing.
+     *
+     * @param <P> the type of the pages of the listing.
+     * @param <S> the type of the summaries of the pages.
+     */
+    abstract static class Lister<P, S> {
+        /**
+         * @param prefix the prefix to list.
+         * @return the first page of the listing of the prefix.
+         */
+        abstract P firstPage(String prefix);
+
+        /**
+         * @param page a truncated page.
+         * @return the page following the given one.
+         */
+        abstract P nextPage(P page);
+
+        abstract boolean isTruncated(P page);
+
+        abstract List<S> summaries(P page);
+    }
+
+    private final Lister<P, S> lister;
+    private final List<Listing> listings;
+    private final int maxConcurrency;
+    private int current = 0;
+    private Iterator<S> currentIterator = null;
+
+    /**
+     * @param lister fetches the pages.
+     * @param prefixes the prefixes to list, in the order their summaries are
+     *            returned.
+     * @param maxConcurrency the maximum number of prefixes listed at once.
+     */
+    PrefetchingListingIterator(Lister<P, S> lister, List<String> prefixes, int maxConcurrency) {
+        this.lister = lister;
+        this.maxConcurrency = maxConcurrency;
+        this.listings = new ArrayList<Listing>(prefixes.size());
+        for (final String prefix : prefixes) {
+            listings.add(new Listing(prefix));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (currentIterator == null || !currentIterator.hasNext()) {
+            if (current == listings.size()) {
+                return false;
+            }
+            final int end = Math.min(listings.size(), current + maxConcurrency);
+            for (int i = current + 1; i < end; i++) {
+                listings.get(i).fetchIfNeeded();
+            }
+            final P page = listings.get(current).take();
+            if (page == null) {
+                current++;
+                currentIterator = null;
+            } else {
+                currentIterator = lister.summaries(page).iterator();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public S next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentIterator.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The pages of the listing of a prefix, fetched one at a time.
+     */
+    private final class Listing {
+        private final String prefix;
+        private final LinkedList<P> readyPages = new LinkedList<P>();
+        /** The last page fetched, null until the first one is. */
+        private P lastPage;
+        private boolean fetching;
+        private boolean done;
+        private RuntimeException failure;
+
+        Listing(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Starts fetching the next page, unless one is being fetched, the
+         * listing is over or enough pages are ready.
+         */
+        synchronized void fetchIfNeeded() {
+            if (fetching || done || failure != null || readyPages.size() >= MAX_READY_PAGES) {
+                return;
+            }
+            fetching = true;
+            final P previousPage = lastPage;
+            EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    P page = null;
+                    RuntimeException error = null;
+                    try {
+                        page = previousPage == null ? lister.firstPage(prefix)
+                                : lister.nextPage(previousPage);
+                    } catch (final RuntimeException e) {
+                        error = e;
+                    }
+                    synchronized (Listing.this) {
+                        fetching = false;
+                        if (error != null) {
+                            failure = error;
+                        } else {
+                            lastPage = page;
+                            readyPages.add(page);
+                            done = !lister.isTruncated(page);
+                            fetchIfNeeded();
+                        }
+                        Listing.this.notifyAll();
+                    }
+                }
+            });
+        }
+
+        /**
+         * Waits for the next page of the listing.
+         *
+         * @return the next page, or null if the listing is over.
+         */
+        synchronized P take() {
+            fetchIfNeeded();
+            while (readyPages.isEmpty()) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (done) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException(
+                            "Interrupted while waiting for the listing of " + prefix, e);
+                }
+            }
+            final P page = readyPages.removeFirst();
+            fetchIfNeeded();
+            return page;
+        }
+    }
+}
@@ -20,7 +20,10 @@ import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Provides an easy way to iterate Amazon S3 objects in a "foreach" statement.
@@ -34,14 +37,24 @@ import java.util.Iterator;
  * <p>
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Objects#withBatchSize(int)} method.
+ * {@link S3Objects#withBatchSize(int)} method. With
+ * {@link S3Objects#withPrefetching(boolean)}, the next page is fetched in the
+ * background while the current one is iterated. The objects of several
+ * prefixes can be listed in parallel with
+ * {@link S3Objects#withPrefixes(AmazonS3, String, List)}.
  */
 public final class S3Objects implements Iterable<S3ObjectSummary> {
 
+    /** Default maximum number of prefixes listed at once. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
     private AmazonS3 s3;
     private String prefix = null;
+    private List<String> prefixes = null;
     private String bucketName;
     private Integer batchSize = null;
+    private boolean prefetching = false;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -75,6 +88,25 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
         return objects;
     }
 
+    /**
+     * Constructs an iterable that covers the objects in an Amazon S3 bucket
+     * where the key begins with one of the given prefixes. The prefixes are
+     * listed in parallel, up to {@link #getMaxConcurrency()} at once, and
+     * their objects are returned prefix by prefix, in the order of the
+     * prefixes.
+     *
+     * @param s3 The Amazon S3 client.
+     * @param bucketName The bucket name.
+     * @param prefixes The prefixes.
+     * @return An iterator for object summaries.
+     */
+    public static S3Objects withPrefixes(AmazonS3 s3, String bucketName, List<String> prefixes) {
+        S3Objects objects = new S3Objects(s3, bucketName);
+        objects.prefixes = Collections.unmodifiableList(new ArrayList<String>(prefixes));
+        objects.prefetching = true;
+        return objects;
+    }
+
     /**
      * Sets the batch size, i.e., how many {@link S3ObjectSummary}s will be
      * fetched at once.
@@ -88,6 +120,35 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
         return this;
     }
 
+    /**
+     * Sets whether the next page of {@link S3ObjectSummary}s is fetched in
+     * the background while the current one is iterated.
+     *
+     * @param prefetching Whether to fetch the next page ahead.
+     * @return the S3Objects.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Objects withPrefetching(boolean prefetching) {
+        this.prefetching = prefetching;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of prefixes listed at once by the iterables of
+     * {@link #withPrefixes(AmazonS3, String, List)}.
+     *
+     * @param maxConcurrency The maximum number of prefixes listed at once.
+     * @return the S3Objects.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Objects withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -96,6 +157,22 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
         return prefix;
     }
 
+    /**
+     * @return the prefixes listed in parallel, or null if a single prefix is
+     *         listed.
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    public boolean isPrefetching() {
+        return prefetching;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
     public String getBucketName() {
         return bucketName;
     }
@@ -147,8 +224,44 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
 
     }
 
+    private class ObjectLister
+            extends PrefetchingListingIterator.Lister<ObjectListing, S3ObjectSummary> {
+
+        @Override
+        ObjectListing firstPage(String prefix) {
+            ListObjectsRequest req = new ListObjectsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(prefix);
+            req.setMaxKeys(getBatchSize());
+            return getS3().listObjects(req);
+        }
+
+        @Override
+        ObjectListing nextPage(ObjectListing page) {
+            return getS3().listNextBatchOfObjects(page);
+        }
+
+        @Override
+        boolean isTruncated(ObjectListing page) {
+            return page.isTruncated();
+        }
+
+        @Override
+        List<S3ObjectSummary> summaries(ObjectListing page) {
+            return page.getObjectSummaries();
+        }
+    }
+
     @Override
     public Iterator<S3ObjectSummary> iterator() {
+        if (prefixes != null) {
+            return new PrefetchingListingIterator<ObjectListing, S3ObjectSummary>(
+                    new ObjectLister(), prefixes, maxConcurrency);
+        }
+        if (prefetching) {
+            return new PrefetchingListingIterator<ObjectListing, S3ObjectSummary>(
+                    new ObjectLister(), Collections.singletonList(prefix), 1);
+        }
         return new S3ObjectIterator();
     }
 
@@ -20,7 +20,11 @@ import com.amazonaws.services.s3.model.ListVersionsRequest;
 import com.amazonaws.services.s3.model.S3VersionSummary;
 import com.amazonaws.services.s3.model.VersionListing;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Provides an easy way to iterate Amazon S3 object versions in a "foreach"
@@ -34,15 +38,25 @@ import java.util.Iterator;
  * <p>
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Versions#withBatchSize(int)} method.
+ * {@link S3Versions#withBatchSize(int)} method. With
+ * {@link S3Versions#withPrefetching(boolean)}, the next page is fetched in the
+ * background while the current one is iterated. The versions of several
+ * prefixes can be listed in parallel with
+ * {@link S3Versions#withPrefixes(AmazonS3, String, List)}.
  */
 public final class S3Versions implements Iterable<S3VersionSummary> {
 
+    /** Default maximum number of prefixes listed at once. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
     private AmazonS3 s3;
     private String bucketName;
     private String prefix;
+    private List<String> prefixes;
     private String key;
     private Integer batchSize;
+    private boolean prefetching;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
 
     private S3Versions(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -77,6 +91,26 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
         return versions;
     }
 
+    /**
+     * Constructs an iterable that covers the versions in an Amazon S3 bucket
+     * where the object key begins with one of the given prefixes. The
+     * prefixes are listed in parallel, up to {@link #getMaxConcurrency()} at
+     * once, and their versions are returned prefix by prefix, in the order of
+     * the prefixes.
+     *
+     * @param s3 The Amazon S3 client.
+     * @param bucketName The bucket name.
+     * @param prefixes The prefixes.
+     * @return An iterator for object version summaries.
+     */
+    public static S3Versions withPrefixes(AmazonS3 s3, String bucketName,
+            List<String> prefixes) {
+        S3Versions versions = new S3Versions(s3, bucketName);
+        versions.prefixes = Collections.unmodifiableList(new ArrayList<String>(prefixes));
+        versions.prefetching = true;
+        return versions;
+    }
+
     /**
      * Constructs an iterable that covers the versions of a single Amazon S3
      * object.
@@ -105,6 +139,35 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
         return this;
     }
 
+    /**
+     * Sets whether the next page of {@link S3VersionSummary}s is fetched in
+     * the background while the current one is iterated.
+     *
+     * @param prefetching Whether to fetch the next page ahead.
+     * @return S3Versions.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Versions withPrefetching(boolean prefetching) {
+        this.prefetching = prefetching;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of prefixes listed at once by the iterables of
+     * {@link #withPrefixes(AmazonS3, String, List)}.
+     *
+     * @param maxConcurrency The maximum number of prefixes listed at once.
+     * @return S3Versions.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Versions withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -113,6 +176,22 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
         return prefix;
     }
 
+    /**
+     * @return the prefixes listed in parallel, or null if a single prefix is
+     *         listed.
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    public boolean isPrefetching() {
+        return prefetching;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
     public String getKey() {
         return key;
     }
@@ -191,8 +270,91 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
 
     }
 
+    private class VersionLister
+            extends PrefetchingListingIterator.Lister<VersionListing, S3VersionSummary> {
+
+        @Override
+        VersionListing firstPage(String prefix) {
+            ListVersionsRequest req = new ListVersionsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(prefix);
+            req.setMaxResults(getBatchSize());
+            return getS3().listVersions(req);
+        }
+
+        @Override
+        VersionListing nextPage(VersionListing page) {
+            return getS3().listNextBatchOfVersions(page);
+        }
+
+        @Override
+        boolean isTruncated(VersionListing page) {
+            return page.isTruncated();
+        }
+
+        @Override
+        List<S3VersionSummary> summaries(VersionListing page) {
+            return page.getVersionSummaries();
+        }
+    }
+
+    /**
+     * Stops at the first version of another key than {@link #getKey()}.
+     */
+    private class KeyVersionIterator implements Iterator<S3VersionSummary> {
+
+        private final Iterator<S3VersionSummary> versions;
+        private S3VersionSummary nextSummary = null;
+        private boolean done = false;
+
+        KeyVersionIterator(Iterator<S3VersionSummary> versions) {
+            this.versions = versions;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextSummary == null && !done) {
+                if (versions.hasNext()) {
+                    nextSummary = versions.next();
+                }
+                if (nextSummary == null || !nextSummary.getKey().equals(getKey())) {
+                    nextSummary = null;
+                    done = true;
+                }
+            }
+            return nextSummary != null;
+        }
+
+        @Override
+        public S3VersionSummary next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            S3VersionSummary returnValue = nextSummary;
+            nextSummary = null;
+            return returnValue;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     @Override
     public Iterator<S3VersionSummary> iterator() {
+        if (prefixes != null) {
+            return new PrefetchingListingIterator<VersionListing, S3VersionSummary>(
+                    new VersionLister(), prefixes, maxConcurrency);
+        }
+        if (prefetching) {
+            Iterator<S3VersionSummary> versions =
+                    new PrefetchingListingIterator<VersionListing, S3VersionSummary>(
+                            new VersionLister(),
+                            Collections.singletonList(getKey() != null ? getKey() : getPrefix()),
+                            1);
+            return getKey() != null ? new KeyVersionIterator(versions) : versions;
+        }
         return new VersionIterator();
     }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.model.transform;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Filtered input stream that replaces the carriage return (\r) characters of
+ * a UTF-8 XML document with explicit XML character entities as the document
+ * is read, to prevent the SAX parser from misinterpreting 0x0D characters as
+ * 0x0A. Since 0x0D is never part of a multi-byte UTF-8 sequence, the bytes
+ * are escaped without being decoded, using a fixed size buffer.
+ */
+final class CarriageReturnEscapingInputStream extends SdkFilterInputStream {
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = "&#013;".getBytes(UTF8);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    /** Position in the escape being written, its length when none is. */
+    private int escapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    /**
+     * @param in the XML document to escape.
+     */
+    CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        final int bytesRead = read(b, 0, 1);
+        return bytesRead == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        int bytesRead = 0;
+        while (bytesRead < len) {
+            if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                final int count = Math.min(len - bytesRead,
+                        ESCAPED_CARRIAGE_RETURN.length - escapePosition);
+                System.arraycopy(ESCAPED_CARRIAGE_RETURN, escapePosition, b, off + bytesRead,
+                        count);
+                escapePosition += count;
+                bytesRead += count;
+                continue;
+            }
+            if (position == limit) {
+                // only block for more input when nothing was read yet
+                if (bytesRead > 0) {
+                    break;
+                }
+                final int count = in.read(buffer, 0, buffer.length);
+                if (count == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = count;
+            }
+            final int end = Math.min(limit, position + len - bytesRead);
+            int i = position;
+            while (i < end && buffer[i] != CARRIAGE_RETURN) {
+                i++;
+            }
+            System.arraycopy(buffer, position, b, off + bytesRead, i - position);
+            bytesRead += i - position;
+            position = i;
+            if (i < end) {
+                position++;
+                escapePosition = 0;
+            }
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final byte[] b = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            final int bytesRead = read(b, 0, (int) Math.min(n - skipped, b.length));
+            if (bytesRead == -1) {
+                break;
+            }
+            skipped += bytesRead;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return ESCAPED_CARRIAGE_RETURN.length - escapePosition + limit - position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // mark isn't supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
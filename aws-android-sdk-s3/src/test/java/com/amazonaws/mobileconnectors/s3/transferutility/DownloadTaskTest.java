@@ -0,0 +1,201 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Random;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class DownloadTaskTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String ETAG = "etag";
+    private static final int PART_SIZE = TransferUtility.MINIMUM_UPLOAD_PART_SIZE;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private File file;
+
+    @Before
+    public void setup() {
+        dbUtil = new TransferDBUtil(RuntimeEnvironment.application);
+        // the database is shared with the other tests, reopen it in this one
+        dbUtil.closeDB();
+        updater = new TransferStatusUpdater(dbUtil);
+        file = new File(folder.getRoot(), "download");
+    }
+
+    @After
+    public void tearDown() {
+        dbUtil.closeDB();
+    }
+
+    @Test
+    public void testDownloadInParts() throws Exception {
+        final byte[] data = randomBytes(2 * PART_SIZE + 3);
+        final AmazonS3 s3 = mockS3(data, -1);
+        final TransferRecord download = newDownload(PART_SIZE);
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+
+        verify(s3, times(1)).getObjectMetadata(any(GetObjectMetadataRequest.class));
+        verify(s3, times(3)).getObject(any(GetObjectRequest.class));
+        assertArrayEquals(data, IOUtils.toByteArray(new FileInputStream(file)));
+        assertEquals(3, dbUtil.queryPartRecords(download.id).size());
+        for (final TransferRecord part : dbUtil.queryPartRecords(download.id)) {
+            assertEquals(TransferState.PART_COMPLETED, part.state);
+        }
+    }
+
+    @Test
+    public void testResumeOnlyDownloadsMissingParts() throws Exception {
+        final byte[] data = randomBytes(2 * PART_SIZE + 3);
+        final TransferRecord download = newDownload(PART_SIZE);
+
+        // the last part fails
+        assertFalse(new DownloadTask(download, mockS3(data, 2 * PART_SIZE), dbUtil, updater)
+                .call());
+        assertEquals(TransferState.FAILED, dbUtil.getTransferById(download.id).state);
+
+        final AmazonS3 s3 = mockS3(data, -1);
+        assertTrue(new DownloadTask(dbUtil.getTransferById(download.id), s3, dbUtil, updater)
+                .call());
+
+        verify(s3, never()).getObjectMetadata(any(GetObjectMetadataRequest.class));
+        verify(s3, times(1)).getObject(any(GetObjectRequest.class));
+        assertArrayEquals(data, IOUtils.toByteArray(new FileInputStream(file)));
+    }
+
+    @Test
+    public void testSmallObjectIsDownloadedInOneRequest() throws Exception {
+        final byte[] data = randomBytes(PART_SIZE);
+        final AmazonS3 s3 = mockS3(data, -1);
+        final TransferRecord download = newDownload(PART_SIZE);
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+
+        verify(s3, times(1)).getObject(any(GetObjectRequest.class));
+        assertTrue(dbUtil.queryPartRecords(download.id).isEmpty());
+        assertArrayEquals(data, IOUtils.toByteArray(new FileInputStream(file)));
+    }
+
+    @Test
+    public void testDownloadPartSizeOption() {
+        final TransferUtilityOptions options = new TransferUtilityOptions();
+        assertEquals(0, options.getDownloadPartSize());
+        options.setDownloadPartSize(1024);
+        assertEquals(TransferUtility.MINIMUM_UPLOAD_PART_SIZE, options.getDownloadPartSize());
+        options.setDownloadPartSize(-1);
+        assertEquals(0, options.getDownloadPartSize());
+    }
+
+    private TransferRecord newDownload(long partSize) {
+        final TransferUtilityOptions options = new TransferUtilityOptions();
+        options.setDownloadPartSize(partSize);
+        final Uri uri = dbUtil.insertSingleTransferRecord(TransferType.DOWNLOAD, BUCKET, KEY,
+                file, options);
+        final TransferRecord download = dbUtil.getTransferById(
+                Integer.parseInt(uri.getLastPathSegment()));
+        assertNull(download.eTag);
+        updater.addTransfer(download);
+        return download;
+    }
+
+    /**
+     * Mocks a client serving the given object, failing the ranged GET that
+     * starts at failingRangeStart.
+     */
+    private static AmazonS3 mockS3(final byte[] data, final long failingRangeStart) {
+        final AmazonS3 s3 = mock(AmazonS3.class);
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(data.length);
+        metadata.setHeader("ETag", ETAG);
+        when(s3.getObjectMetadata(any(GetObjectMetadataRequest.class))).thenReturn(metadata);
+        when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(new Answer<S3Object>() {
+            @Override
+            public S3Object answer(InvocationOnMock invocation) {
+                final GetObjectRequest request = (GetObjectRequest) invocation.getArguments()[0];
+                final long[] range = request.getRange();
+                int start = 0;
+                int end = data.length;
+                if (range != null) {
+                    assertEquals(ETAG, request.getMatchingETagConstraints().get(0));
+                    start = (int) range[0];
+                    end = (int) range[1] + 1;
+                }
+                if (start == failingRangeStart) {
+                    throw new AmazonClientException("Unable to execute HTTP request");
+                }
+                final ObjectMetadata objectMetadata = new ObjectMetadata();
+                objectMetadata.setContentLength(end - start);
+                objectMetadata.setHeader("Content-Range",
+                        "bytes " + start + "-" + (end - 1) + "/" + data.length);
+                final S3Object object = new S3Object();
+                object.setObjectMetadata(objectMetadata);
+                object.setObjectContent(new ByteArrayInputStream(data, start, end - start));
+                return object;
+            }
+        });
+        return s3;
+    }
+
+    private static byte[] randomBytes(int length) {
+        final byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class InputStreamUploadTaskTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final int PART_SIZE = TransferUtility.MINIMUM_UPLOAD_PART_SIZE;
+
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private Map<Integer, byte[]> uploadedParts;
+
+    @Before
+    public void setup() {
+        dbUtil = new TransferDBUtil(RuntimeEnvironment.application);
+        // the database is shared with the other tests, reopen it in this one
+        dbUtil.closeDB();
+        updater = new TransferStatusUpdater(dbUtil);
+        uploadedParts = new ConcurrentHashMap<Integer, byte[]>();
+    }
+
+    @After
+    public void tearDown() {
+        dbUtil.closeDB();
+    }
+
+    @Test
+    public void testUploadInParts() throws Exception {
+        final byte[] data = randomBytes(3 * PART_SIZE + 3);
+        final AmazonS3 s3 = mockS3(-1);
+        final TransferRecord upload = newUpload();
+
+        assertTrue(newTask(upload, data, s3, 2).call());
+
+        verify(s3, times(4)).uploadPart(any(UploadPartRequest.class));
+        final ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor
+                .forClass(CompleteMultipartUploadRequest.class);
+        verify(s3).completeMultipartUpload(complete.capture());
+        final List<PartETag> partETags = complete.getValue().getPartETags();
+        assertEquals(4, partETags.size());
+        final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        for (int i = 1; i <= partETags.size(); i++) {
+            assertEquals("etag" + i, partETags.get(i - 1).getETag());
+            uploaded.write(uploadedParts.get(i));
+        }
+        assertArrayEquals(data, uploaded.toByteArray());
+
+        // the records of a completed upload are deleted
+        assertEquals(TransferState.COMPLETED, upload.state);
+        assertEquals(data.length, upload.bytesTotal);
+        assertEquals(UPLOAD_ID, upload.multipartId);
+    }
+
+    @Test
+    public void testStreamEndingOnPartBoundary() throws Exception {
+        final byte[] data = randomBytes(2 * PART_SIZE);
+        final AmazonS3 s3 = mockS3(-1);
+        final TransferRecord upload = newUpload();
+
+        assertTrue(newTask(upload, data, s3, 1).call());
+
+        verify(s3, times(2)).uploadPart(any(UploadPartRequest.class));
+        final ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor
+                .forClass(CompleteMultipartUploadRequest.class);
+        verify(s3).completeMultipartUpload(complete.capture());
+        assertEquals(2, complete.getValue().getPartETags().size());
+    }
+
+    @Test
+    public void testSmallStreamIsUploadedInOneRequest() throws Exception {
+        final byte[] data = randomBytes(PART_SIZE - 1);
+        final AmazonS3 s3 = mockS3(-1);
+        final TransferRecord upload = newUpload();
+
+        assertTrue(newTask(upload, data, s3, 2).call());
+
+        final ArgumentCaptor<PutObjectRequest> put = ArgumentCaptor
+                .forClass(PutObjectRequest.class);
+        verify(s3).putObject(put.capture());
+        verify(s3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+        assertEquals(data.length, put.getValue().getMetadata().getContentLength());
+        assertArrayEquals(data, IOUtils.toByteArray(put.getValue().getInputStream()));
+        assertEquals(TransferState.COMPLETED, upload.state);
+    }
+
+    @Test
+    public void testFailedPartAbortsUpload() throws Exception {
+        final byte[] data = randomBytes(3 * PART_SIZE);
+        final AmazonS3 s3 = mockS3(2);
+        final TransferRecord upload = newUpload();
+
+        assertFalse(newTask(upload, data, s3, 2).call());
+
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertEquals(TransferState.FAILED, dbUtil.getTransferById(upload.id).state);
+    }
+
+    @Test
+    public void testResumeFails() throws Exception {
+        final AmazonS3 s3 = mockS3(-1);
+        final TransferRecord upload = newUpload();
+
+        assertFalse(new UploadTask(upload, s3, dbUtil, updater).call());
+
+        verify(s3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertEquals(TransferState.FAILED, dbUtil.getTransferById(upload.id).state);
+    }
+
+    private InputStreamUploadTask newTask(TransferRecord upload, byte[] data, AmazonS3 s3,
+            int maxConcurrentParts) {
+        return new InputStreamUploadTask(upload, new ByteArrayInputStream(data),
+                new ObjectMetadata(), null, s3, dbUtil, updater, PART_SIZE, maxConcurrentParts);
+    }
+
+    private TransferRecord newUpload() {
+        final Uri uri = dbUtil.insertStreamUploadRecord(BUCKET, KEY, new ObjectMetadata(), null,
+                new TransferUtilityOptions());
+        final TransferRecord upload = dbUtil.getTransferById(
+                Integer.parseInt(uri.getLastPathSegment()));
+        assertEquals(InputStreamUploadTask.STREAM_FILE_OFFSET, upload.fileOffset);
+        updater.addTransfer(upload);
+        return upload;
+    }
+
+    /**
+     * Mocks a client that keeps the uploaded parts, failing the upload of the
+     * given part.
+     */
+    private AmazonS3 mockS3(final int failingPartNumber) {
+        final AmazonS3 s3 = mock(AmazonS3.class);
+        final InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId(UPLOAD_ID);
+        when(s3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiateResult);
+        when(s3.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+        when(s3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(new CompleteMultipartUploadResult());
+        when(s3.uploadPart(any(UploadPartRequest.class))).thenAnswer(new Answer<UploadPartResult>() {
+            @Override
+            public UploadPartResult answer(InvocationOnMock invocation) throws Throwable {
+                final UploadPartRequest request = (UploadPartRequest) invocation.getArguments()[0];
+                assertEquals(UPLOAD_ID, request.getUploadId());
+                if (request.getPartNumber() == failingPartNumber) {
+                    throw new AmazonClientException("Unable to execute HTTP request");
+                }
+                final byte[] part = IOUtils.toByteArray(request.getInputStream());
+                assertEquals(request.getPartSize(), part.length);
+                uploadedParts.put(request.getPartNumber(), part);
+                final UploadPartResult result = new UploadPartResult();
+                result.setPartNumber(request.getPartNumber());
+                result.setETag("etag" + request.getPartNumber());
+                return result;
+            }
+        });
+        return s3;
+    }
+
+    private static byte[] randomBytes(int length) {
+        final byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+}
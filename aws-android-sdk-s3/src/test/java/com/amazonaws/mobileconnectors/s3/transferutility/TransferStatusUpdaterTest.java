@@ -0,0 +1,204 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.net.Uri;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class TransferStatusUpdaterTest {
+
+    private static final int PARTS = 100;
+    private static final long PART_SIZE = TransferUtility.MINIMUM_UPLOAD_PART_SIZE;
+    private static final int EVENTS_PER_PART = 64;
+
+    private CountingTransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+
+    @Before
+    public void setup() {
+        dbUtil = new CountingTransferDBUtil(RuntimeEnvironment.application);
+        // the database is shared with the other tests, reopen it in this one
+        dbUtil.closeDB();
+        updater = new TransferStatusUpdater(dbUtil);
+    }
+
+    @After
+    public void tearDown() {
+        dbUtil.closeDB();
+    }
+
+    @Test
+    public void testProgressOfMultipartUploadIsCoalesced() throws Exception {
+        final TransferUtilityOptions options = new TransferUtilityOptions();
+        // only the byte threshold paces the updates
+        options.setTransferProgressUpdateInterval(Long.MAX_VALUE);
+        options.setTransferProgressUpdateThreshold(PART_SIZE);
+        final TransferRecord upload = newUpload(options);
+        final RecordingListener listener = new RecordingListener();
+        TransferStatusUpdater.registerListener(upload.id, listener);
+
+        final UploadTask task = new UploadTask(upload, null, dbUtil, updater);
+        for (int i = 1; i <= PARTS; i++) {
+            task.uploadPartTasks.put(i, task.new UploadPartTaskMetadata());
+        }
+        final UploadTask.UploadTaskProgressListener progressListener =
+                task.new UploadTaskProgressListener(upload);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 1; i <= PARTS; i++) {
+            final int partNumber = i;
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int e = 1; e <= EVENTS_PER_PART; e++) {
+                        progressListener.onProgressChanged(partNumber,
+                                e * PART_SIZE / EVENTS_PER_PART);
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (final Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        updater.updateProgress(upload.id, upload.bytesTotal, upload.bytesTotal, true);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+
+        // one write per part worth of progress instead of one per event
+        final int events = PARTS * EVENTS_PER_PART;
+        assertTrue("writes: " + dbUtil.progressWrites.get(),
+                dbUtil.progressWrites.get() <= PARTS + 2);
+        assertTrue(listener.calls <= PARTS + 2);
+        assertTrue(dbUtil.progressWrites.get() * 10 < events);
+
+        // the last progress is always written and reported
+        assertEquals(upload.bytesTotal, dbUtil.getTransferById(upload.id).bytesCurrent);
+        assertEquals(upload.bytesTotal, listener.lastBytesCurrent);
+        TransferStatusUpdater.unregisterListener(upload.id, listener);
+    }
+
+    @Test
+    public void testThrottledProgressIsFlushedWhenTransferStops() {
+        final TransferUtilityOptions options = new TransferUtilityOptions();
+        options.setTransferProgressUpdateInterval(Long.MAX_VALUE);
+        options.setTransferProgressUpdateThreshold(PART_SIZE);
+        final TransferRecord upload = newUpload(options);
+        final RecordingListener listener = new RecordingListener();
+        TransferStatusUpdater.registerListener(upload.id, listener);
+
+        updater.updateProgress(upload.id, 10, upload.bytesTotal, true);
+        updater.updateProgress(upload.id, 20, upload.bytesTotal, true);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertEquals(10, listener.lastBytesCurrent);
+
+        updater.updateState(upload.id, TransferState.PAUSED);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+
+        // the progress held back is reported before the state change
+        assertEquals(20, listener.bytesCurrentOnStateChange);
+        assertEquals(TransferState.PAUSED, listener.lastState);
+        assertEquals(20, dbUtil.getTransferById(upload.id).bytesCurrent);
+        TransferStatusUpdater.unregisterListener(upload.id, listener);
+    }
+
+    @Test
+    public void testProgressThrottle() {
+        final TransferStatusUpdater.ProgressThrottle throttle =
+                new TransferStatusUpdater.ProgressThrottle(1000, 100);
+
+        assertTrue(throttle.tryAcquire(0, 5000, false));
+        assertFalse(throttle.tryAcquire(50, 5500, false));
+        // the threshold lets the update through before the interval
+        assertTrue(throttle.tryAcquire(150, 5600, false));
+        // the interval lets the update through below the threshold
+        assertFalse(throttle.tryAcquire(160, 6000, false));
+        assertTrue(throttle.tryAcquire(160, 6600, false));
+        assertTrue(throttle.tryAcquire(170, 6601, true));
+    }
+
+    private TransferRecord newUpload(TransferUtilityOptions options) {
+        final File file = new File(RuntimeEnvironment.application.getCacheDir(), "upload");
+        final Uri uri = dbUtil.insertSingleTransferRecord(TransferType.UPLOAD, "bucket", "key",
+                file, options);
+        final TransferRecord upload = dbUtil.getTransferById(
+                Integer.parseInt(uri.getLastPathSegment()));
+        upload.bytesTotal = PARTS * PART_SIZE;
+        updater.addTransfer(upload);
+        return upload;
+    }
+
+    private static final class CountingTransferDBUtil extends TransferDBUtil {
+        private final AtomicInteger progressWrites = new AtomicInteger();
+
+        CountingTransferDBUtil(Context context) {
+            super(context);
+        }
+
+        @Override
+        public int updateBytesTransferred(int id, long bytes) {
+            progressWrites.incrementAndGet();
+            return super.updateBytesTransferred(id, bytes);
+        }
+    }
+
+    private static final class RecordingListener implements TransferListener {
+        private int calls;
+        private long lastBytesCurrent;
+        private TransferState lastState;
+        private long bytesCurrentOnStateChange;
+
+        @Override
+        public void onStateChanged(int id, TransferState state) {
+            lastState = state;
+            bytesCurrentOnStateChange = lastBytesCurrent;
+        }
+
+        @Override
+        public void onProgressChanged(int id, long bytesCurrent, long bytesTotal) {
+            calls++;
+            lastBytesCurrent = bytesCurrent;
+        }
+
+        @Override
+        public void onError(int id, Exception ex) {
+        }
+    }
+}
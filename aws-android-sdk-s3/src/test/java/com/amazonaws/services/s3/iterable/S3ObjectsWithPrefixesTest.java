@@ -0,0 +1,168 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class S3ObjectsWithPrefixesTest {
+
+    private static final List<String> PREFIXES = Arrays.asList("a/", "b/", "c/", "d/", "e/");
+    private static final int PAGES = 3;
+    private static final int PAGE_SIZE = 10;
+
+    private AmazonS3 s3;
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+    private volatile String failingPrefix;
+
+    @Before
+    public void setUp() throws Exception {
+        s3 = mock(AmazonS3.class);
+        when(s3.listObjects(any(ListObjectsRequest.class))).thenAnswer(
+                new Answer<ObjectListing>() {
+                    @Override
+                    public ObjectListing answer(InvocationOnMock invocation) throws Throwable {
+                        ListObjectsRequest request = (ListObjectsRequest) invocation
+                                .getArguments()[0];
+                        return page(request.getPrefix(), 0);
+                    }
+                });
+        when(s3.listNextBatchOfObjects(any(ObjectListing.class))).thenAnswer(
+                new Answer<ObjectListing>() {
+                    @Override
+                    public ObjectListing answer(InvocationOnMock invocation) throws Throwable {
+                        ObjectListing previous = (ObjectListing) invocation.getArguments()[0];
+                        return page(previous.getPrefix(),
+                                Integer.parseInt(previous.getNextMarker()));
+                    }
+                });
+    }
+
+    @Test
+    public void testSetsPrefixes() throws Exception {
+        S3Objects objects = S3Objects.withPrefixes(s3, "my-bucket", PREFIXES);
+        assertEquals(PREFIXES, objects.getPrefixes());
+        assertNull(objects.getPrefix());
+        assertEquals(S3Objects.DEFAULT_MAX_CONCURRENCY, objects.getMaxConcurrency());
+    }
+
+    @Test
+    public void testReturnsObjectsInPrefixOrder() throws Exception {
+        List<String> keys = new ArrayList<String>();
+        for (S3ObjectSummary summary : S3Objects.withPrefixes(s3, "my-bucket", PREFIXES)
+                .withMaxConcurrency(3)) {
+            keys.add(summary.getKey());
+        }
+
+        List<String> expected = new ArrayList<String>();
+        for (String prefix : PREFIXES) {
+            for (int i = 0; i < PAGES * PAGE_SIZE; i++) {
+                expected.add(prefix + i);
+            }
+        }
+        assertEquals(expected, keys);
+        assertTrue(maxRequestsInFlight.get() <= 3);
+    }
+
+    @Test
+    public void testListsOnePrefixAtOnce() throws Exception {
+        Iterator<S3ObjectSummary> iter = S3Objects.withPrefixes(s3, "my-bucket", PREFIXES)
+                .withMaxConcurrency(1).iterator();
+        int count = 0;
+        while (iter.hasNext()) {
+            iter.next();
+            count++;
+        }
+        assertEquals(PREFIXES.size() * PAGES * PAGE_SIZE, count);
+        assertEquals(1, maxRequestsInFlight.get());
+    }
+
+    @Test
+    public void testThrowsListingFailure() throws Exception {
+        failingPrefix = "b/";
+        Iterator<S3ObjectSummary> iter = S3Objects.withPrefixes(s3, "my-bucket", PREFIXES)
+                .iterator();
+        for (int i = 0; i < PAGES * PAGE_SIZE; i++) {
+            assertEquals("a/" + i, iter.next().getKey());
+        }
+        try {
+            iter.hasNext();
+            fail("the listing failure isn't thrown");
+        } catch (AmazonServiceException e) {
+            assertEquals("b/", e.getErrorMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroConcurrency() throws Exception {
+        S3Objects.withPrefixes(s3, "my-bucket", PREFIXES).withMaxConcurrency(0);
+    }
+
+    @Test
+    public void testEmptyPrefixes() throws Exception {
+        assertFalse(S3Objects.withPrefixes(s3, "my-bucket", new ArrayList<String>())
+                .iterator().hasNext());
+    }
+
+    private ObjectListing page(String prefix, int index) throws InterruptedException {
+        int inFlight = requestsInFlight.incrementAndGet();
+        try {
+            synchronized (maxRequestsInFlight) {
+                maxRequestsInFlight.set(Math.max(maxRequestsInFlight.get(), inFlight));
+            }
+            Thread.sleep(5);
+            if (prefix.equals(failingPrefix)) {
+                throw new AmazonServiceException(prefix);
+            }
+            ObjectListing listing = new ObjectListing();
+            listing.setPrefix(prefix);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                S3ObjectSummary summary = new S3ObjectSummary();
+                summary.setKey(prefix + (index * PAGE_SIZE + i));
+                listing.getObjectSummaries().add(summary);
+            }
+            listing.setTruncated(index < PAGES - 1);
+            listing.setNextMarker(String.valueOf(index + 1));
+            return listing;
+        } finally {
+            requestsInFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.model.transform;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertEquals;
+
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    @Test
+    public void testEscapesCarriageReturns() throws IOException {
+        final String[] documents = {
+                "", "\r", "\r\r", "a\rb", "\ra\r", "<Key>é\r\n中</Key>", listing(300)
+        };
+        for (final String document : documents) {
+            final String expected = document.replaceAll("\r", "&#013;");
+            for (final int readSize : new int[] {
+                    1, 2, 5, 7, 8192, 100000
+            }) {
+                assertEquals(expected, read(document, readSize));
+            }
+            assertEquals(expected, readBytes(document));
+        }
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        final InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream("a\rb".getBytes(UTF8)));
+        assertEquals(3, in.skip(3));
+        assertEquals('0', in.read());
+        assertEquals(4, in.skip(10));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void testParsesListingWithCarriageReturns() throws IOException {
+        final int keys = 1000;
+        final List<S3ObjectSummary> summaries = new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(
+                        new ByteArrayInputStream(listing(keys).getBytes(UTF8)), false)
+                .getObjectListing().getObjectSummaries();
+        assertEquals(keys, summaries.size());
+        for (int i = 0; i < keys; i++) {
+            assertEquals("folder/key\r" + i, summaries.get(i).getKey());
+        }
+    }
+
+    private static String read(String document, int readSize) throws IOException {
+        final InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream(document.getBytes(UTF8)));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] b = new byte[readSize];
+        int read;
+        while ((read = in.read(b, 0, b.length)) != -1) {
+            out.write(b, 0, read);
+        }
+        in.close();
+        return new String(out.toByteArray(), UTF8);
+    }
+
+    private static String readBytes(String document) throws IOException {
+        final InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream(document.getBytes(UTF8)));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return new String(out.toByteArray(), UTF8);
+    }
+
+    private static String listing(int keys) {
+        final StringBuilder sb = new StringBuilder(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                        + "<Name>bucket</Name><Prefix></Prefix><Marker></Marker>"
+                        + "<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>\r\n");
+        for (int i = 0; i < keys; i++) {
+            sb.append("<Contents><Key>folder/key\r").append(i).append("</Key>")
+                    .append("<LastModified>2019-01-01T00:00:00.000Z</LastModified>")
+                    .append("<ETag>&quot;d41d8cd98f00b204e9800998ecf8427e&quot;</ETag>")
+                    .append("<Size>").append(i).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>\r\n");
+        }
+        return sb.append("</ListBucketResult>").toString();
+    }
+}
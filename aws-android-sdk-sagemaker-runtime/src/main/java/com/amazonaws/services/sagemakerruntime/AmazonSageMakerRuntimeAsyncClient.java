@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -308,11 +309,12 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
     public Future<InvokeEndpointResult> invokeEndpointAsync(
             final InvokeEndpointRequest invokeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
-            public InvokeEndpointResult call() throws Exception {
-                return invokeEndpoint(invokeEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, invokeEndpointRequest,
+                new Callable<InvokeEndpointResult>() {
+                    public InvokeEndpointResult call() throws Exception {
+                        return invokeEndpoint(invokeEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -367,19 +369,12 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
             final InvokeEndpointRequest invokeEndpointRequest,
             final AsyncHandler<InvokeEndpointRequest, InvokeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
-            public InvokeEndpointResult call() throws Exception {
-                InvokeEndpointResult result = null;
-                try {
-                    result = invokeEndpoint(invokeEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(invokeEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, invokeEndpointRequest, asyncHandler,
+                new Callable<InvokeEndpointResult>() {
+                    public InvokeEndpointResult call() throws Exception {
+                        return invokeEndpoint(invokeEndpointRequest);
+                    }
+                });
     }
 
 }
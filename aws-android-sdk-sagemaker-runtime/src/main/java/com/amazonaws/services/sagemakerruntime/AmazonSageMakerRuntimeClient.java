@@ -257,7 +257,7 @@ public class AmazonSageMakerRuntimeClient extends AmazonWebServiceClient impleme
      */
     public AmazonSageMakerRuntimeClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
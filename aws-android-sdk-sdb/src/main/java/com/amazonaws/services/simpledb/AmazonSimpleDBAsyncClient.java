@@ -22,6 +22,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -341,12 +342,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, batchDeleteAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        batchDeleteAttributes(batchDeleteAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -404,18 +406,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchDeleteAttributesRequest batchDeleteAttributesRequest,
             final AsyncHandler<BatchDeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchDeleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, batchDeleteAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        batchDeleteAttributes(batchDeleteAttributesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -458,12 +455,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAttributes(deleteAttributesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAttributes(deleteAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -512,18 +510,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteAttributesRequest deleteAttributesRequest,
             final AsyncHandler<DeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteAttributes(deleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteAttributes(deleteAttributesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -598,12 +591,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putAttributes(putAttributesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, putAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putAttributes(putAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -684,18 +678,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final PutAttributesRequest putAttributesRequest,
             final AsyncHandler<PutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putAttributes(putAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putAttributesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, putAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        putAttributes(putAttributesRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -722,11 +711,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-                return domainMetadata(domainMetadataRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, domainMetadataRequest,
+                new Callable<DomainMetadataResult>() {
+                    public DomainMetadataResult call() throws Exception {
+                        return domainMetadata(domainMetadataRequest);
+                    }
+                });
     }
 
     /**
@@ -759,19 +749,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DomainMetadataRequest domainMetadataRequest,
             final AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-              DomainMetadataResult result;
-                try {
-                result = domainMetadata(domainMetadataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(domainMetadataRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, domainMetadataRequest, asyncHandler,
+                new Callable<DomainMetadataResult>() {
+                    public DomainMetadataResult call() throws Exception {
+                        return domainMetadata(domainMetadataRequest);
+                    }
+                });
     }
     
     /**
@@ -808,11 +791,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-                return getAttributes(getAttributesRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getAttributesRequest,
+                new Callable<GetAttributesResult>() {
+                    public GetAttributesResult call() throws Exception {
+                        return getAttributes(getAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -855,19 +839,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final GetAttributesRequest getAttributesRequest,
             final AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-              GetAttributesResult result;
-                try {
-                result = getAttributes(getAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAttributesRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, getAttributesRequest, asyncHandler,
+                new Callable<GetAttributesResult>() {
+                    public GetAttributesResult call() throws Exception {
+                        return getAttributes(getAttributesRequest);
+                    }
+                });
     }
     
     /**
@@ -899,11 +876,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, listDomainsRequest,
+                new Callable<ListDomainsResult>() {
+                    public ListDomainsResult call() throws Exception {
+                        return listDomains(listDomainsRequest);
+                    }
+                });
     }
 
     /**
@@ -941,19 +919,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-              ListDomainsResult result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, listDomainsRequest, asyncHandler,
+                new Callable<ListDomainsResult>() {
+                    public ListDomainsResult call() throws Exception {
+                        return listDomains(listDomainsRequest);
+                    }
+                });
     }
     
     /**
@@ -992,11 +963,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<SelectResult> selectAsync(final SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-                return select(selectRequest);
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, selectRequest,
+                new Callable<SelectResult>() {
+                    public SelectResult call() throws Exception {
+                        return select(selectRequest);
+                    }
+                });
     }
 
     /**
@@ -1041,19 +1013,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final SelectRequest selectRequest,
             final AsyncHandler<SelectRequest, SelectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-              SelectResult result;
-                try {
-                result = select(selectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(selectRequest, result);
-                 return result;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, selectRequest, asyncHandler,
+                new Callable<SelectResult>() {
+                    public SelectResult call() throws Exception {
+                        return select(selectRequest);
+                    }
+                });
     }
     
     /**
@@ -1086,12 +1051,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDomain(deleteDomainRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteDomainRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteDomain(deleteDomainRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1130,18 +1096,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, deleteDomainRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteDomain(deleteDomainRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -1182,12 +1143,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createDomain(createDomainRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createDomainRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createDomain(createDomainRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1234,18 +1196,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, createDomainRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createDomain(createDomainRequest);
+                        return null;
+                    }
+                });
     }
     
     /**
@@ -1338,12 +1295,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchPutAttributes(batchPutAttributesRequest);
-                return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, batchPutAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        batchPutAttributes(batchPutAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1442,18 +1400,13 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchPutAttributesRequest batchPutAttributesRequest,
             final AsyncHandler<BatchPutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchPutAttributes(batchPutAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchPutAttributesRequest, null);
-                 return null;
-        }
-    });
+        return AsyncRetryScheduler.submit(executorService, batchPutAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        batchPutAttributes(batchPutAttributesRequest);
+                        return null;
+                    }
+                });
     }
     
 }
@@ -186,7 +186,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public AmazonSimpleDBClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
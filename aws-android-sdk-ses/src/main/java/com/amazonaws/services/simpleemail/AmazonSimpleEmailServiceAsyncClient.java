@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -311,11 +312,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, cloneReceiptRuleSetRequest,
+                new Callable<CloneReceiptRuleSetResult>() {
+                    public CloneReceiptRuleSetResult call() throws Exception {
+                        return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -358,19 +360,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest,
             final AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                CloneReceiptRuleSetResult result = null;
-                try {
-                    result = cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(cloneReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, cloneReceiptRuleSetRequest, asyncHandler,
+                new Callable<CloneReceiptRuleSetResult>() {
+                    public CloneReceiptRuleSetResult call() throws Exception {
+                        return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -412,11 +407,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                return createConfigurationSet(createConfigurationSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetRequest,
+                new Callable<CreateConfigurationSetResult>() {
+                    public CreateConfigurationSetResult call() throws Exception {
+                        return createConfigurationSet(createConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -459,19 +455,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetRequest createConfigurationSetRequest,
             final AsyncHandler<CreateConfigurationSetRequest, CreateConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                CreateConfigurationSetResult result = null;
-                try {
-                    result = createConfigurationSet(createConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetRequest, asyncHandler,
+                new Callable<CreateConfigurationSetResult>() {
+                    public CreateConfigurationSetResult call() throws Exception {
+                        return createConfigurationSet(createConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -526,11 +515,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetEventDestinationRequest,
+                new Callable<CreateConfigurationSetEventDestinationResult>() {
+                    public CreateConfigurationSetEventDestinationResult call() throws Exception {
+                        return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -586,19 +576,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest,
             final AsyncHandler<CreateConfigurationSetEventDestinationRequest, CreateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                CreateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetEventDestinationRequest, asyncHandler,
+                new Callable<CreateConfigurationSetEventDestinationResult>() {
+                    public CreateConfigurationSetEventDestinationResult call() throws Exception {
+                        return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -636,11 +619,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetTrackingOptionsRequest,
+                new Callable<CreateConfigurationSetTrackingOptionsResult>() {
+                    public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -679,19 +663,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<CreateConfigurationSetTrackingOptionsRequest, CreateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                CreateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createConfigurationSetTrackingOptionsRequest, asyncHandler,
+                new Callable<CreateConfigurationSetTrackingOptionsResult>() {
+                    public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -731,12 +708,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createCustomVerificationEmailTemplateRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -777,19 +755,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest,
             final AsyncHandler<CreateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createCustomVerificationEmailTemplateRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -828,11 +800,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                return createReceiptFilter(createReceiptFilterRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptFilterRequest,
+                new Callable<CreateReceiptFilterResult>() {
+                    public CreateReceiptFilterResult call() throws Exception {
+                        return createReceiptFilter(createReceiptFilterRequest);
+                    }
+                });
     }
 
     /**
@@ -872,19 +845,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptFilterRequest createReceiptFilterRequest,
             final AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                CreateReceiptFilterResult result = null;
-                try {
-                    result = createReceiptFilter(createReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptFilterRequest, asyncHandler,
+                new Callable<CreateReceiptFilterResult>() {
+                    public CreateReceiptFilterResult call() throws Exception {
+                        return createReceiptFilter(createReceiptFilterRequest);
+                    }
+                });
     }
 
     /**
@@ -928,11 +894,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                return createReceiptRule(createReceiptRuleRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptRuleRequest,
+                new Callable<CreateReceiptRuleResult>() {
+                    public CreateReceiptRuleResult call() throws Exception {
+                        return createReceiptRule(createReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -977,19 +944,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleRequest createReceiptRuleRequest,
             final AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                CreateReceiptRuleResult result = null;
-                try {
-                    result = createReceiptRule(createReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptRuleRequest, asyncHandler,
+                new Callable<CreateReceiptRuleResult>() {
+                    public CreateReceiptRuleResult call() throws Exception {
+                        return createReceiptRule(createReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -1028,11 +988,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                return createReceiptRuleSet(createReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptRuleSetRequest,
+                new Callable<CreateReceiptRuleSetResult>() {
+                    public CreateReceiptRuleSetResult call() throws Exception {
+                        return createReceiptRuleSet(createReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -1072,19 +1033,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest,
             final AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                CreateReceiptRuleSetResult result = null;
-                try {
-                    result = createReceiptRuleSet(createReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createReceiptRuleSetRequest, asyncHandler,
+                new Callable<CreateReceiptRuleSetResult>() {
+                    public CreateReceiptRuleSetResult call() throws Exception {
+                        return createReceiptRuleSet(createReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -1122,11 +1076,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                return createTemplate(createTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTemplateRequest,
+                new Callable<CreateTemplateResult>() {
+                    public CreateTemplateResult call() throws Exception {
+                        return createTemplate(createTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -1165,19 +1120,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateTemplateRequest createTemplateRequest,
             final AsyncHandler<CreateTemplateRequest, CreateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                CreateTemplateResult result = null;
-                try {
-                    result = createTemplate(createTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTemplateRequest, asyncHandler,
+                new Callable<CreateTemplateResult>() {
+                    public CreateTemplateResult call() throws Exception {
+                        return createTemplate(createTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -1215,11 +1163,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                return deleteConfigurationSet(deleteConfigurationSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetRequest,
+                new Callable<DeleteConfigurationSetResult>() {
+                    public DeleteConfigurationSetResult call() throws Exception {
+                        return deleteConfigurationSet(deleteConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -1258,19 +1207,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest,
             final AsyncHandler<DeleteConfigurationSetRequest, DeleteConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                DeleteConfigurationSetResult result = null;
-                try {
-                    result = deleteConfigurationSet(deleteConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetRequest, asyncHandler,
+                new Callable<DeleteConfigurationSetResult>() {
+                    public DeleteConfigurationSetResult call() throws Exception {
+                        return deleteConfigurationSet(deleteConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -1311,11 +1253,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetEventDestinationRequest,
+                new Callable<DeleteConfigurationSetEventDestinationResult>() {
+                    public DeleteConfigurationSetEventDestinationResult call() throws Exception {
+                        return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -1357,19 +1300,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest,
             final AsyncHandler<DeleteConfigurationSetEventDestinationRequest, DeleteConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                DeleteConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetEventDestinationRequest, asyncHandler,
+                new Callable<DeleteConfigurationSetEventDestinationResult>() {
+                    public DeleteConfigurationSetEventDestinationResult call() throws Exception {
+                        return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -1413,11 +1349,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetTrackingOptionsRequest,
+                new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
+                    public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -1462,19 +1399,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<DeleteConfigurationSetTrackingOptionsRequest, DeleteConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                DeleteConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteConfigurationSetTrackingOptionsRequest, asyncHandler,
+                new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
+                    public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -1510,12 +1440,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteCustomVerificationEmailTemplateRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1552,19 +1483,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest,
             final AsyncHandler<DeleteCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteCustomVerificationEmailTemplateRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1594,11 +1519,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteIdentityRequest,
+                new Callable<DeleteIdentityResult>() {
+                    public DeleteIdentityResult call() throws Exception {
+                        return deleteIdentity(deleteIdentityRequest);
+                    }
+                });
     }
 
     /**
@@ -1629,19 +1555,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                DeleteIdentityResult result = null;
-                try {
-                    result = deleteIdentity(deleteIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteIdentityRequest, asyncHandler,
+                new Callable<DeleteIdentityResult>() {
+                    public DeleteIdentityResult call() throws Exception {
+                        return deleteIdentity(deleteIdentityRequest);
+                    }
+                });
     }
 
     /**
@@ -1689,11 +1608,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                return deleteIdentityPolicy(deleteIdentityPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteIdentityPolicyRequest,
+                new Callable<DeleteIdentityPolicyResult>() {
+                    public DeleteIdentityPolicyResult call() throws Exception {
+                        return deleteIdentityPolicy(deleteIdentityPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1742,19 +1662,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest,
             final AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                DeleteIdentityPolicyResult result = null;
-                try {
-                    result = deleteIdentityPolicy(deleteIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteIdentityPolicyRequest, asyncHandler,
+                new Callable<DeleteIdentityPolicyResult>() {
+                    public DeleteIdentityPolicyResult call() throws Exception {
+                        return deleteIdentityPolicy(deleteIdentityPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -1791,11 +1704,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                return deleteReceiptFilter(deleteReceiptFilterRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptFilterRequest,
+                new Callable<DeleteReceiptFilterResult>() {
+                    public DeleteReceiptFilterResult call() throws Exception {
+                        return deleteReceiptFilter(deleteReceiptFilterRequest);
+                    }
+                });
     }
 
     /**
@@ -1833,19 +1747,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest,
             final AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                DeleteReceiptFilterResult result = null;
-                try {
-                    result = deleteReceiptFilter(deleteReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptFilterRequest, asyncHandler,
+                new Callable<DeleteReceiptFilterResult>() {
+                    public DeleteReceiptFilterResult call() throws Exception {
+                        return deleteReceiptFilter(deleteReceiptFilterRequest);
+                    }
+                });
     }
 
     /**
@@ -1883,11 +1790,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                return deleteReceiptRule(deleteReceiptRuleRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptRuleRequest,
+                new Callable<DeleteReceiptRuleResult>() {
+                    public DeleteReceiptRuleResult call() throws Exception {
+                        return deleteReceiptRule(deleteReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -1926,19 +1834,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest,
             final AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                DeleteReceiptRuleResult result = null;
-                try {
-                    result = deleteReceiptRule(deleteReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptRuleRequest, asyncHandler,
+                new Callable<DeleteReceiptRuleResult>() {
+                    public DeleteReceiptRuleResult call() throws Exception {
+                        return deleteReceiptRule(deleteReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -1983,11 +1884,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptRuleSetRequest,
+                new Callable<DeleteReceiptRuleSetResult>() {
+                    public DeleteReceiptRuleSetResult call() throws Exception {
+                        return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2033,19 +1935,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest,
             final AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                DeleteReceiptRuleSetResult result = null;
-                try {
-                    result = deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteReceiptRuleSetRequest, asyncHandler,
+                new Callable<DeleteReceiptRuleSetResult>() {
+                    public DeleteReceiptRuleSetResult call() throws Exception {
+                        return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2076,11 +1971,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                return deleteTemplate(deleteTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTemplateRequest,
+                new Callable<DeleteTemplateResult>() {
+                    public DeleteTemplateResult call() throws Exception {
+                        return deleteTemplate(deleteTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -2112,19 +2008,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteTemplateRequest deleteTemplateRequest,
             final AsyncHandler<DeleteTemplateRequest, DeleteTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                DeleteTemplateResult result = null;
-                try {
-                    result = deleteTemplate(deleteTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTemplateRequest, asyncHandler,
+                new Callable<DeleteTemplateResult>() {
+                    public DeleteTemplateResult call() throws Exception {
+                        return deleteTemplate(deleteTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -2152,12 +2041,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteVerifiedEmailAddressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2186,19 +2076,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteVerifiedEmailAddressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2237,11 +2121,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeActiveReceiptRuleSetRequest,
+                new Callable<DescribeActiveReceiptRuleSetResult>() {
+                    public DescribeActiveReceiptRuleSetResult call() throws Exception {
+                        return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2281,19 +2166,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest,
             final AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                DescribeActiveReceiptRuleSetResult result = null;
-                try {
-                    result = describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeActiveReceiptRuleSetRequest, asyncHandler,
+                new Callable<DescribeActiveReceiptRuleSetResult>() {
+                    public DescribeActiveReceiptRuleSetResult call() throws Exception {
+                        return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2330,11 +2208,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                return describeConfigurationSet(describeConfigurationSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeConfigurationSetRequest,
+                new Callable<DescribeConfigurationSetResult>() {
+                    public DescribeConfigurationSetResult call() throws Exception {
+                        return describeConfigurationSet(describeConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2372,19 +2251,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeConfigurationSetRequest describeConfigurationSetRequest,
             final AsyncHandler<DescribeConfigurationSetRequest, DescribeConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                DescribeConfigurationSetResult result = null;
-                try {
-                    result = describeConfigurationSet(describeConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeConfigurationSetRequest, asyncHandler,
+                new Callable<DescribeConfigurationSetResult>() {
+                    public DescribeConfigurationSetResult call() throws Exception {
+                        return describeConfigurationSet(describeConfigurationSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2423,11 +2295,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                return describeReceiptRule(describeReceiptRuleRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeReceiptRuleRequest,
+                new Callable<DescribeReceiptRuleResult>() {
+                    public DescribeReceiptRuleResult call() throws Exception {
+                        return describeReceiptRule(describeReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -2467,19 +2340,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleRequest describeReceiptRuleRequest,
             final AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                DescribeReceiptRuleResult result = null;
-                try {
-                    result = describeReceiptRule(describeReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeReceiptRuleRequest, asyncHandler,
+                new Callable<DescribeReceiptRuleResult>() {
+                    public DescribeReceiptRuleResult call() throws Exception {
+                        return describeReceiptRule(describeReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -2517,11 +2383,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                return describeReceiptRuleSet(describeReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeReceiptRuleSetRequest,
+                new Callable<DescribeReceiptRuleSetResult>() {
+                    public DescribeReceiptRuleSetResult call() throws Exception {
+                        return describeReceiptRuleSet(describeReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2560,19 +2427,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest,
             final AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                DescribeReceiptRuleSetResult result = null;
-                try {
-                    result = describeReceiptRuleSet(describeReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, describeReceiptRuleSetRequest, asyncHandler,
+                new Callable<DescribeReceiptRuleSetResult>() {
+                    public DescribeReceiptRuleSetResult call() throws Exception {
+                        return describeReceiptRuleSet(describeReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -2599,11 +2459,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                return getAccountSendingEnabled(getAccountSendingEnabledRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getAccountSendingEnabledRequest,
+                new Callable<GetAccountSendingEnabledResult>() {
+                    public GetAccountSendingEnabledResult call() throws Exception {
+                        return getAccountSendingEnabled(getAccountSendingEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -2631,19 +2492,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest,
             final AsyncHandler<GetAccountSendingEnabledRequest, GetAccountSendingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                GetAccountSendingEnabledResult result = null;
-                try {
-                    result = getAccountSendingEnabled(getAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getAccountSendingEnabledRequest, asyncHandler,
+                new Callable<GetAccountSendingEnabledResult>() {
+                    public GetAccountSendingEnabledResult call() throws Exception {
+                        return getAccountSendingEnabled(getAccountSendingEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -2681,11 +2535,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getCustomVerificationEmailTemplateRequest,
+                new Callable<GetCustomVerificationEmailTemplateResult>() {
+                    public GetCustomVerificationEmailTemplateResult call() throws Exception {
+                        return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -2724,19 +2579,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest,
             final AsyncHandler<GetCustomVerificationEmailTemplateRequest, GetCustomVerificationEmailTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                GetCustomVerificationEmailTemplateResult result = null;
-                try {
-                    result = getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getCustomVerificationEmailTemplateRequest, asyncHandler,
+                new Callable<GetCustomVerificationEmailTemplateResult>() {
+                    public GetCustomVerificationEmailTemplateResult call() throws Exception {
+                        return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -2805,11 +2653,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityDkimAttributesRequest,
+                new Callable<GetIdentityDkimAttributesResult>() {
+                    public GetIdentityDkimAttributesResult call() throws Exception {
+                        return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2879,19 +2728,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                GetIdentityDkimAttributesResult result = null;
-                try {
-                    result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityDkimAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityDkimAttributesRequest, asyncHandler,
+                new Callable<GetIdentityDkimAttributesResult>() {
+                    public GetIdentityDkimAttributesResult call() throws Exception {
+                        return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2925,11 +2767,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityMailFromDomainAttributesRequest,
+                new Callable<GetIdentityMailFromDomainAttributesResult>() {
+                    public GetIdentityMailFromDomainAttributesResult call() throws Exception {
+                        return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2964,19 +2807,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest,
             final AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                GetIdentityMailFromDomainAttributesResult result = null;
-                try {
-                    result = getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityMailFromDomainAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityMailFromDomainAttributesRequest, asyncHandler,
+                new Callable<GetIdentityMailFromDomainAttributesResult>() {
+                    public GetIdentityMailFromDomainAttributesResult call() throws Exception {
+                        return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -3016,11 +2852,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityNotificationAttributesRequest,
+                new Callable<GetIdentityNotificationAttributesResult>() {
+                    public GetIdentityNotificationAttributesResult call() throws Exception {
+                        return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -3061,19 +2898,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                GetIdentityNotificationAttributesResult result = null;
-                try {
-                    result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityNotificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityNotificationAttributesRequest, asyncHandler,
+                new Callable<GetIdentityNotificationAttributesResult>() {
+                    public GetIdentityNotificationAttributesResult call() throws Exception {
+                        return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -3123,11 +2953,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                return getIdentityPolicies(getIdentityPoliciesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityPoliciesRequest,
+                new Callable<GetIdentityPoliciesResult>() {
+                    public GetIdentityPoliciesResult call() throws Exception {
+                        return getIdentityPolicies(getIdentityPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -3178,19 +3009,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest,
             final AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                GetIdentityPoliciesResult result = null;
-                try {
-                    result = getIdentityPolicies(getIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityPoliciesRequest, asyncHandler,
+                new Callable<GetIdentityPoliciesResult>() {
+                    public GetIdentityPoliciesResult call() throws Exception {
+                        return getIdentityPolicies(getIdentityPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -3245,11 +3069,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityVerificationAttributesRequest,
+                new Callable<GetIdentityVerificationAttributesResult>() {
+                    public GetIdentityVerificationAttributesResult call() throws Exception {
+                        return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -3305,19 +3130,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                GetIdentityVerificationAttributesResult result = null;
-                try {
-                    result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityVerificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getIdentityVerificationAttributesRequest, asyncHandler,
+                new Callable<GetIdentityVerificationAttributesResult>() {
+                    public GetIdentityVerificationAttributesResult call() throws Exception {
+                        return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -3343,11 +3161,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSendQuotaRequest,
+                new Callable<GetSendQuotaResult>() {
+                    public GetSendQuotaResult call() throws Exception {
+                        return getSendQuota(getSendQuotaRequest);
+                    }
+                });
     }
 
     /**
@@ -3374,19 +3193,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                GetSendQuotaResult result = null;
-                try {
-                    result = getSendQuota(getSendQuotaRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendQuotaRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSendQuotaRequest, asyncHandler,
+                new Callable<GetSendQuotaResult>() {
+                    public GetSendQuotaResult call() throws Exception {
+                        return getSendQuota(getSendQuotaRequest);
+                    }
+                });
     }
 
     /**
@@ -3415,11 +3227,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSendStatisticsRequest,
+                new Callable<GetSendStatisticsResult>() {
+                    public GetSendStatisticsResult call() throws Exception {
+                        return getSendStatistics(getSendStatisticsRequest);
+                    }
+                });
     }
 
     /**
@@ -3449,19 +3262,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                GetSendStatisticsResult result = null;
-                try {
-                    result = getSendStatistics(getSendStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendStatisticsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSendStatisticsRequest, asyncHandler,
+                new Callable<GetSendStatisticsResult>() {
+                    public GetSendStatisticsResult call() throws Exception {
+                        return getSendStatistics(getSendStatisticsRequest);
+                    }
+                });
     }
 
     /**
@@ -3487,11 +3293,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                return getTemplate(getTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTemplateRequest,
+                new Callable<GetTemplateResult>() {
+                    public GetTemplateResult call() throws Exception {
+                        return getTemplate(getTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -3518,19 +3325,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                GetTemplateResult result = null;
-                try {
-                    result = getTemplate(getTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTemplateRequest, asyncHandler,
+                new Callable<GetTemplateResult>() {
+                    public GetTemplateResult call() throws Exception {
+                        return getTemplate(getTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -3574,11 +3374,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                return listConfigurationSets(listConfigurationSetsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listConfigurationSetsRequest,
+                new Callable<ListConfigurationSetsResult>() {
+                    public ListConfigurationSetsResult call() throws Exception {
+                        return listConfigurationSets(listConfigurationSetsRequest);
+                    }
+                });
     }
 
     /**
@@ -3623,19 +3424,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListConfigurationSetsRequest listConfigurationSetsRequest,
             final AsyncHandler<ListConfigurationSetsRequest, ListConfigurationSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                ListConfigurationSetsResult result = null;
-                try {
-                    result = listConfigurationSets(listConfigurationSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listConfigurationSetsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listConfigurationSetsRequest, asyncHandler,
+                new Callable<ListConfigurationSetsResult>() {
+                    public ListConfigurationSetsResult call() throws Exception {
+                        return listConfigurationSets(listConfigurationSetsRequest);
+                    }
+                });
     }
 
     /**
@@ -3679,11 +3473,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listCustomVerificationEmailTemplatesRequest,
+                new Callable<ListCustomVerificationEmailTemplatesResult>() {
+                    public ListCustomVerificationEmailTemplatesResult call() throws Exception {
+                        return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
+                    }
+                });
     }
 
     /**
@@ -3728,19 +3523,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest,
             final AsyncHandler<ListCustomVerificationEmailTemplatesRequest, ListCustomVerificationEmailTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                ListCustomVerificationEmailTemplatesResult result = null;
-                try {
-                    result = listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listCustomVerificationEmailTemplatesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listCustomVerificationEmailTemplatesRequest, asyncHandler,
+                new Callable<ListCustomVerificationEmailTemplatesResult>() {
+                    public ListCustomVerificationEmailTemplatesResult call() throws Exception {
+                        return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
+                    }
+                });
     }
 
     /**
@@ -3772,11 +3560,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listIdentitiesRequest,
+                new Callable<ListIdentitiesResult>() {
+                    public ListIdentitiesResult call() throws Exception {
+                        return listIdentities(listIdentitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -3809,19 +3598,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                ListIdentitiesResult result = null;
-                try {
-                    result = listIdentities(listIdentitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentitiesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listIdentitiesRequest, asyncHandler,
+                new Callable<ListIdentitiesResult>() {
+                    public ListIdentitiesResult call() throws Exception {
+                        return listIdentities(listIdentitiesRequest);
+                    }
+                });
     }
 
     /**
@@ -3871,11 +3653,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                return listIdentityPolicies(listIdentityPoliciesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listIdentityPoliciesRequest,
+                new Callable<ListIdentityPoliciesResult>() {
+                    public ListIdentityPoliciesResult call() throws Exception {
+                        return listIdentityPolicies(listIdentityPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -3926,19 +3709,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest,
             final AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                ListIdentityPoliciesResult result = null;
-                try {
-                    result = listIdentityPolicies(listIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listIdentityPoliciesRequest, asyncHandler,
+                new Callable<ListIdentityPoliciesResult>() {
+                    public ListIdentityPoliciesResult call() throws Exception {
+                        return listIdentityPolicies(listIdentityPoliciesRequest);
+                    }
+                });
     }
 
     /**
@@ -3977,11 +3753,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                return listReceiptFilters(listReceiptFiltersRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listReceiptFiltersRequest,
+                new Callable<ListReceiptFiltersResult>() {
+                    public ListReceiptFiltersResult call() throws Exception {
+                        return listReceiptFilters(listReceiptFiltersRequest);
+                    }
+                });
     }
 
     /**
@@ -4021,19 +3798,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptFiltersRequest listReceiptFiltersRequest,
             final AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                ListReceiptFiltersResult result = null;
-                try {
-                    result = listReceiptFilters(listReceiptFiltersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptFiltersRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listReceiptFiltersRequest, asyncHandler,
+                new Callable<ListReceiptFiltersResult>() {
+                    public ListReceiptFiltersResult call() throws Exception {
+                        return listReceiptFilters(listReceiptFiltersRequest);
+                    }
+                });
     }
 
     /**
@@ -4074,11 +3844,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                return listReceiptRuleSets(listReceiptRuleSetsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listReceiptRuleSetsRequest,
+                new Callable<ListReceiptRuleSetsResult>() {
+                    public ListReceiptRuleSetsResult call() throws Exception {
+                        return listReceiptRuleSets(listReceiptRuleSetsRequest);
+                    }
+                });
     }
 
     /**
@@ -4120,19 +3891,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest,
             final AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                ListReceiptRuleSetsResult result = null;
-                try {
-                    result = listReceiptRuleSets(listReceiptRuleSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptRuleSetsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listReceiptRuleSetsRequest, asyncHandler,
+                new Callable<ListReceiptRuleSetsResult>() {
+                    public ListReceiptRuleSetsResult call() throws Exception {
+                        return listReceiptRuleSets(listReceiptRuleSetsRequest);
+                    }
+                });
     }
 
     /**
@@ -4159,11 +3923,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                return listTemplates(listTemplatesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTemplatesRequest,
+                new Callable<ListTemplatesResult>() {
+                    public ListTemplatesResult call() throws Exception {
+                        return listTemplates(listTemplatesRequest);
+                    }
+                });
     }
 
     /**
@@ -4191,19 +3956,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListTemplatesRequest listTemplatesRequest,
             final AsyncHandler<ListTemplatesRequest, ListTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                ListTemplatesResult result = null;
-                try {
-                    result = listTemplates(listTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTemplatesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTemplatesRequest, asyncHandler,
+                new Callable<ListTemplatesResult>() {
+                    public ListTemplatesResult call() throws Exception {
+                        return listTemplates(listTemplatesRequest);
+                    }
+                });
     }
 
     /**
@@ -4227,11 +3985,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listVerifiedEmailAddressesRequest,
+                new Callable<ListVerifiedEmailAddressesResult>() {
+                    public ListVerifiedEmailAddressesResult call() throws Exception {
+                        return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
+                    }
+                });
     }
 
     /**
@@ -4256,19 +4015,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                ListVerifiedEmailAddressesResult result = null;
-                try {
-                    result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listVerifiedEmailAddressesRequest, asyncHandler,
+                new Callable<ListVerifiedEmailAddressesResult>() {
+                    public ListVerifiedEmailAddressesResult call() throws Exception {
+                        return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
+                    }
+                });
     }
 
     /**
@@ -4296,11 +4048,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putConfigurationSetDeliveryOptionsRequest,
+                new Callable<PutConfigurationSetDeliveryOptionsResult>() {
+                    public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
+                        return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -4329,19 +4082,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest,
             final AsyncHandler<PutConfigurationSetDeliveryOptionsRequest, PutConfigurationSetDeliveryOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                PutConfigurationSetDeliveryOptionsResult result = null;
-                try {
-                    result = putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putConfigurationSetDeliveryOptionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putConfigurationSetDeliveryOptionsRequest, asyncHandler,
+                new Callable<PutConfigurationSetDeliveryOptionsResult>() {
+                    public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
+                        return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -4389,11 +4135,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                return putIdentityPolicy(putIdentityPolicyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putIdentityPolicyRequest,
+                new Callable<PutIdentityPolicyResult>() {
+                    public PutIdentityPolicyResult call() throws Exception {
+                        return putIdentityPolicy(putIdentityPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -4442,19 +4189,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final PutIdentityPolicyRequest putIdentityPolicyRequest,
             final AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                PutIdentityPolicyResult result = null;
-                try {
-                    result = putIdentityPolicy(putIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, putIdentityPolicyRequest, asyncHandler,
+                new Callable<PutIdentityPolicyResult>() {
+                    public PutIdentityPolicyResult call() throws Exception {
+                        return putIdentityPolicy(putIdentityPolicyRequest);
+                    }
+                });
     }
 
     /**
@@ -4500,11 +4240,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, reorderReceiptRuleSetRequest,
+                new Callable<ReorderReceiptRuleSetResult>() {
+                    public ReorderReceiptRuleSetResult call() throws Exception {
+                        return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -4551,19 +4292,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest,
             final AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                ReorderReceiptRuleSetResult result = null;
-                try {
-                    result = reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(reorderReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, reorderReceiptRuleSetRequest, asyncHandler,
+                new Callable<ReorderReceiptRuleSetResult>() {
+                    public ReorderReceiptRuleSetResult call() throws Exception {
+                        return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -4605,11 +4339,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                return sendBounce(sendBounceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendBounceRequest,
+                new Callable<SendBounceResult>() {
+                    public SendBounceResult call() throws Exception {
+                        return sendBounce(sendBounceRequest);
+                    }
+                });
     }
 
     /**
@@ -4652,19 +4387,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
             final AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                SendBounceResult result = null;
-                try {
-                    result = sendBounce(sendBounceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBounceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendBounceRequest, asyncHandler,
+                new Callable<SendBounceResult>() {
+                    public SendBounceResult call() throws Exception {
+                        return sendBounce(sendBounceRequest);
+                    }
+                });
     }
 
     /**
@@ -4758,11 +4486,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendBulkTemplatedEmailRequest,
+                new Callable<SendBulkTemplatedEmailResult>() {
+                    public SendBulkTemplatedEmailResult call() throws Exception {
+                        return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -4857,19 +4586,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest,
             final AsyncHandler<SendBulkTemplatedEmailRequest, SendBulkTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                SendBulkTemplatedEmailResult result = null;
-                try {
-                    result = sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBulkTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendBulkTemplatedEmailRequest, asyncHandler,
+                new Callable<SendBulkTemplatedEmailResult>() {
+                    public SendBulkTemplatedEmailResult call() throws Exception {
+                        return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -4914,11 +4636,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendCustomVerificationEmailRequest,
+                new Callable<SendCustomVerificationEmailResult>() {
+                    public SendCustomVerificationEmailResult call() throws Exception {
+                        return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -4964,19 +4687,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest,
             final AsyncHandler<SendCustomVerificationEmailRequest, SendCustomVerificationEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                SendCustomVerificationEmailResult result = null;
-                try {
-                    result = sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendCustomVerificationEmailRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendCustomVerificationEmailRequest, asyncHandler,
+                new Callable<SendCustomVerificationEmailResult>() {
+                    public SendCustomVerificationEmailResult call() throws Exception {
+                        return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5064,11 +4780,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendEmailRequest,
+                new Callable<SendEmailResult>() {
+                    public SendEmailResult call() throws Exception {
+                        return sendEmail(sendEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5157,19 +4874,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                SendEmailResult result = null;
-                try {
-                    result = sendEmail(sendEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEmailRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendEmailRequest, asyncHandler,
+                new Callable<SendEmailResult>() {
+                    public SendEmailResult call() throws Exception {
+                        return sendEmail(sendEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5345,11 +5055,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendRawEmailRequest,
+                new Callable<SendRawEmailResult>() {
+                    public SendRawEmailResult call() throws Exception {
+                        return sendRawEmail(sendRawEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5526,19 +5237,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                SendRawEmailResult result = null;
-                try {
-                    result = sendRawEmail(sendRawEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendRawEmailRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendRawEmailRequest, asyncHandler,
+                new Callable<SendRawEmailResult>() {
+                    public SendRawEmailResult call() throws Exception {
+                        return sendRawEmail(sendRawEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5643,11 +5347,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                return sendTemplatedEmail(sendTemplatedEmailRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendTemplatedEmailRequest,
+                new Callable<SendTemplatedEmailResult>() {
+                    public SendTemplatedEmailResult call() throws Exception {
+                        return sendTemplatedEmail(sendTemplatedEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5753,19 +5458,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendTemplatedEmailRequest sendTemplatedEmailRequest,
             final AsyncHandler<SendTemplatedEmailRequest, SendTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                SendTemplatedEmailResult result = null;
-                try {
-                    result = sendTemplatedEmail(sendTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendTemplatedEmailRequest, asyncHandler,
+                new Callable<SendTemplatedEmailResult>() {
+                    public SendTemplatedEmailResult call() throws Exception {
+                        return sendTemplatedEmail(sendTemplatedEmailRequest);
+                    }
+                });
     }
 
     /**
@@ -5809,11 +5507,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setActiveReceiptRuleSetRequest,
+                new Callable<SetActiveReceiptRuleSetResult>() {
+                    public SetActiveReceiptRuleSetResult call() throws Exception {
+                        return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -5858,19 +5557,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest,
             final AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                SetActiveReceiptRuleSetResult result = null;
-                try {
-                    result = setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setActiveReceiptRuleSetRequest, asyncHandler,
+                new Callable<SetActiveReceiptRuleSetResult>() {
+                    public SetActiveReceiptRuleSetResult call() throws Exception {
+                        return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
+                    }
+                });
     }
 
     /**
@@ -5923,11 +5615,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityDkimEnabledRequest,
+                new Callable<SetIdentityDkimEnabledResult>() {
+                    public SetIdentityDkimEnabledResult call() throws Exception {
+                        return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -5981,19 +5674,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                SetIdentityDkimEnabledResult result = null;
-                try {
-                    result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityDkimEnabledRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityDkimEnabledRequest, asyncHandler,
+                new Callable<SetIdentityDkimEnabledResult>() {
+                    public SetIdentityDkimEnabledResult call() throws Exception {
+                        return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -6042,11 +5728,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityFeedbackForwardingEnabledRequest,
+                new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+                    public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
+                        return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -6096,19 +5783,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                SetIdentityFeedbackForwardingEnabledResult result = null;
-                try {
-                    result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityFeedbackForwardingEnabledRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityFeedbackForwardingEnabledRequest, asyncHandler,
+                new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+                    public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
+                        return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
+                    }
+                });
     }
 
     /**
@@ -6254,11 +5934,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityMailFromDomainRequest,
+                new Callable<SetIdentityMailFromDomainResult>() {
+                    public SetIdentityMailFromDomainResult call() throws Exception {
+                        return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
+                    }
+                });
     }
 
     /**
@@ -6303,19 +5984,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest,
             final AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                SetIdentityMailFromDomainResult result = null;
-                try {
-                    result = setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityMailFromDomainRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityMailFromDomainRequest, asyncHandler,
+                new Callable<SetIdentityMailFromDomainResult>() {
+                    public SetIdentityMailFromDomainResult call() throws Exception {
+                        return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
+                    }
+                });
     }
 
     /**
@@ -6360,11 +6034,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityNotificationTopicRequest,
+                new Callable<SetIdentityNotificationTopicResult>() {
+                    public SetIdentityNotificationTopicResult call() throws Exception {
+                        return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -6410,19 +6085,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                SetIdentityNotificationTopicResult result = null;
-                try {
-                    result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityNotificationTopicRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setIdentityNotificationTopicRequest, asyncHandler,
+                new Callable<SetIdentityNotificationTopicResult>() {
+                    public SetIdentityNotificationTopicResult call() throws Exception {
+                        return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -6461,11 +6129,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                return setReceiptRulePosition(setReceiptRulePositionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setReceiptRulePositionRequest,
+                new Callable<SetReceiptRulePositionResult>() {
+                    public SetReceiptRulePositionResult call() throws Exception {
+                        return setReceiptRulePosition(setReceiptRulePositionRequest);
+                    }
+                });
     }
 
     /**
@@ -6505,19 +6174,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest,
             final AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                SetReceiptRulePositionResult result = null;
-                try {
-                    result = setReceiptRulePosition(setReceiptRulePositionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setReceiptRulePositionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setReceiptRulePositionRequest, asyncHandler,
+                new Callable<SetReceiptRulePositionResult>() {
+                    public SetReceiptRulePositionResult call() throws Exception {
+                        return setReceiptRulePosition(setReceiptRulePositionRequest);
+                    }
+                });
     }
 
     /**
@@ -6547,11 +6209,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                return testRenderTemplate(testRenderTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, testRenderTemplateRequest,
+                new Callable<TestRenderTemplateResult>() {
+                    public TestRenderTemplateResult call() throws Exception {
+                        return testRenderTemplate(testRenderTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -6582,19 +6245,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final TestRenderTemplateRequest testRenderTemplateRequest,
             final AsyncHandler<TestRenderTemplateRequest, TestRenderTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                TestRenderTemplateResult result = null;
-                try {
-                    result = testRenderTemplate(testRenderTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(testRenderTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, testRenderTemplateRequest, asyncHandler,
+                new Callable<TestRenderTemplateResult>() {
+                    public TestRenderTemplateResult call() throws Exception {
+                        return testRenderTemplate(testRenderTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -6627,12 +6283,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateAccountSendingEnabledRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -6666,19 +6323,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest,
             final AsyncHandler<UpdateAccountSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateAccountSendingEnabledRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -6730,11 +6381,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetEventDestinationRequest,
+                new Callable<UpdateConfigurationSetEventDestinationResult>() {
+                    public UpdateConfigurationSetEventDestinationResult call() throws Exception {
+                        return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -6787,19 +6439,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest,
             final AsyncHandler<UpdateConfigurationSetEventDestinationRequest, UpdateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                UpdateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetEventDestinationRequest, asyncHandler,
+                new Callable<UpdateConfigurationSetEventDestinationResult>() {
+                    public UpdateConfigurationSetEventDestinationResult call() throws Exception {
+                        return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
+                    }
+                });
     }
 
     /**
@@ -6833,12 +6478,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetReputationMetricsEnabledRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -6873,20 +6519,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetReputationMetricsEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetReputationMetricsEnabledRequest,
-                        result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetReputationMetricsEnabledRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -6921,12 +6560,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetSendingEnabledRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -6962,19 +6602,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetSendingEnabledRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7012,11 +6646,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetTrackingOptionsRequest,
+                new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
+                    public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -7055,19 +6690,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<UpdateConfigurationSetTrackingOptionsRequest, UpdateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                UpdateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateConfigurationSetTrackingOptionsRequest, asyncHandler,
+                new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
+                    public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
+                        return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -7106,12 +6734,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateCustomVerificationEmailTemplateRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7151,19 +6780,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest,
             final AsyncHandler<UpdateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateCustomVerificationEmailTemplateRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7206,11 +6829,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                return updateReceiptRule(updateReceiptRuleRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateReceiptRuleRequest,
+                new Callable<UpdateReceiptRuleResult>() {
+                    public UpdateReceiptRuleResult call() throws Exception {
+                        return updateReceiptRule(updateReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -7254,19 +6878,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateReceiptRuleRequest updateReceiptRuleRequest,
             final AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                UpdateReceiptRuleResult result = null;
-                try {
-                    result = updateReceiptRule(updateReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateReceiptRuleRequest, asyncHandler,
+                new Callable<UpdateReceiptRuleResult>() {
+                    public UpdateReceiptRuleResult call() throws Exception {
+                        return updateReceiptRule(updateReceiptRuleRequest);
+                    }
+                });
     }
 
     /**
@@ -7298,11 +6915,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                return updateTemplate(updateTemplateRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTemplateRequest,
+                new Callable<UpdateTemplateResult>() {
+                    public UpdateTemplateResult call() throws Exception {
+                        return updateTemplate(updateTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -7335,19 +6953,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateTemplateRequest updateTemplateRequest,
             final AsyncHandler<UpdateTemplateRequest, UpdateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                UpdateTemplateResult result = null;
-                try {
-                    result = updateTemplate(updateTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTemplateRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateTemplateRequest, asyncHandler,
+                new Callable<UpdateTemplateResult>() {
+                    public UpdateTemplateResult call() throws Exception {
+                        return updateTemplate(updateTemplateRequest);
+                    }
+                });
     }
 
     /**
@@ -7429,11 +7040,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                return verifyDomainDkim(verifyDomainDkimRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyDomainDkimRequest,
+                new Callable<VerifyDomainDkimResult>() {
+                    public VerifyDomainDkimResult call() throws Exception {
+                        return verifyDomainDkim(verifyDomainDkimRequest);
+                    }
+                });
     }
 
     /**
@@ -7516,19 +7128,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                VerifyDomainDkimResult result = null;
-                try {
-                    result = verifyDomainDkim(verifyDomainDkimRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainDkimRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyDomainDkimRequest, asyncHandler,
+                new Callable<VerifyDomainDkimResult>() {
+                    public VerifyDomainDkimResult call() throws Exception {
+                        return verifyDomainDkim(verifyDomainDkimRequest);
+                    }
+                });
     }
 
     /**
@@ -7566,11 +7171,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyDomainIdentityRequest,
+                new Callable<VerifyDomainIdentityResult>() {
+                    public VerifyDomainIdentityResult call() throws Exception {
+                        return verifyDomainIdentity(verifyDomainIdentityRequest);
+                    }
+                });
     }
 
     /**
@@ -7609,19 +7215,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                VerifyDomainIdentityResult result = null;
-                try {
-                    result = verifyDomainIdentity(verifyDomainIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainIdentityRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyDomainIdentityRequest, asyncHandler,
+                new Callable<VerifyDomainIdentityResult>() {
+                    public VerifyDomainIdentityResult call() throws Exception {
+                        return verifyDomainIdentity(verifyDomainIdentityRequest);
+                    }
+                });
     }
 
     /**
@@ -7651,12 +7250,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyEmailAddressRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        verifyEmailAddress(verifyEmailAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7687,19 +7287,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    verifyEmailAddress(verifyEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyEmailAddressRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        verifyEmailAddress(verifyEmailAddressRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -7734,11 +7328,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyEmailIdentityRequest,
+                new Callable<VerifyEmailIdentityResult>() {
+                    public VerifyEmailIdentityResult call() throws Exception {
+                        return verifyEmailIdentity(verifyEmailIdentityRequest);
+                    }
+                });
     }
 
     /**
@@ -7774,19 +7369,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                VerifyEmailIdentityResult result = null;
-                try {
-                    result = verifyEmailIdentity(verifyEmailIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailIdentityRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, verifyEmailIdentityRequest, asyncHandler,
+                new Callable<VerifyEmailIdentityResult>() {
+                    public VerifyEmailIdentityResult call() throws Exception {
+                        return verifyEmailIdentity(verifyEmailIdentityRequest);
+                    }
+                });
     }
 
 }
@@ -270,7 +270,7 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public AmazonSimpleEmailServiceClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -296,12 +297,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addPermissionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        addPermission(addPermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -329,19 +331,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addPermissionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        addPermission(addPermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -377,11 +373,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, checkIfPhoneNumberIsOptedOutRequest,
+                new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
+                    public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
+                        return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
+                    }
+                });
     }
 
     /**
@@ -418,19 +415,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest,
             final AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                CheckIfPhoneNumberIsOptedOutResult result = null;
-                try {
-                    result = checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(checkIfPhoneNumberIsOptedOutRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, checkIfPhoneNumberIsOptedOutRequest, asyncHandler,
+                new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
+                    public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
+                        return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
+                    }
+                });
     }
 
     /**
@@ -465,11 +455,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                return confirmSubscription(confirmSubscriptionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, confirmSubscriptionRequest,
+                new Callable<ConfirmSubscriptionResult>() {
+                    public ConfirmSubscriptionResult call() throws Exception {
+                        return confirmSubscription(confirmSubscriptionRequest);
+                    }
+                });
     }
 
     /**
@@ -505,19 +496,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                ConfirmSubscriptionResult result = null;
-                try {
-                    result = confirmSubscription(confirmSubscriptionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(confirmSubscriptionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, confirmSubscriptionRequest, asyncHandler,
+                new Callable<ConfirmSubscriptionResult>() {
+                    public ConfirmSubscriptionResult call() throws Exception {
+                        return confirmSubscription(confirmSubscriptionRequest);
+                    }
+                });
     }
 
     /**
@@ -565,11 +549,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                return createPlatformApplication(createPlatformApplicationRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createPlatformApplicationRequest,
+                new Callable<CreatePlatformApplicationResult>() {
+                    public CreatePlatformApplicationResult call() throws Exception {
+                        return createPlatformApplication(createPlatformApplicationRequest);
+                    }
+                });
     }
 
     /**
@@ -618,19 +603,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                CreatePlatformApplicationResult result = null;
-                try {
-                    result = createPlatformApplication(createPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createPlatformApplicationRequest, asyncHandler,
+                new Callable<CreatePlatformApplicationResult>() {
+                    public CreatePlatformApplicationResult call() throws Exception {
+                        return createPlatformApplication(createPlatformApplicationRequest);
+                    }
+                });
     }
 
     /**
@@ -679,11 +657,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                return createPlatformEndpoint(createPlatformEndpointRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createPlatformEndpointRequest,
+                new Callable<CreatePlatformEndpointResult>() {
+                    public CreatePlatformEndpointResult call() throws Exception {
+                        return createPlatformEndpoint(createPlatformEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -733,19 +712,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                CreatePlatformEndpointResult result = null;
-                try {
-                    result = createPlatformEndpoint(createPlatformEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createPlatformEndpointRequest, asyncHandler,
+                new Callable<CreatePlatformEndpointResult>() {
+                    public CreatePlatformEndpointResult call() throws Exception {
+                        return createPlatformEndpoint(createPlatformEndpointRequest);
+                    }
+                });
     }
 
     /**
@@ -783,11 +755,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                return createTopic(createTopicRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTopicRequest,
+                new Callable<CreateTopicResult>() {
+                    public CreateTopicResult call() throws Exception {
+                        return createTopic(createTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -826,19 +799,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                CreateTopicResult result = null;
-                try {
-                    result = createTopic(createTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTopicRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createTopicRequest, asyncHandler,
+                new Callable<CreateTopicResult>() {
+                    public CreateTopicResult call() throws Exception {
+                        return createTopic(createTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -872,12 +838,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEndpoint(deleteEndpointRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEndpointRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteEndpoint(deleteEndpointRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -912,19 +879,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteEndpointRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteEndpoint(deleteEndpointRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -955,12 +916,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deletePlatformApplicationRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePlatformApplication(deletePlatformApplicationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -992,19 +954,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePlatformApplication(deletePlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deletePlatformApplicationRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deletePlatformApplication(deletePlatformApplicationRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1036,12 +992,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTopic(deleteTopicRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTopicRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTopic(deleteTopicRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1074,19 +1031,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTopic(deleteTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTopicRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTopicRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTopic(deleteTopicRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1119,11 +1070,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                return getEndpointAttributes(getEndpointAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getEndpointAttributesRequest,
+                new Callable<GetEndpointAttributesResult>() {
+                    public GetEndpointAttributesResult call() throws Exception {
+                        return getEndpointAttributes(getEndpointAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1157,19 +1109,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                GetEndpointAttributesResult result = null;
-                try {
-                    result = getEndpointAttributes(getEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getEndpointAttributesRequest, asyncHandler,
+                new Callable<GetEndpointAttributesResult>() {
+                    public GetEndpointAttributesResult call() throws Exception {
+                        return getEndpointAttributes(getEndpointAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1202,11 +1147,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getPlatformApplicationAttributesRequest,
+                new Callable<GetPlatformApplicationAttributesResult>() {
+                    public GetPlatformApplicationAttributesResult call() throws Exception {
+                        return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1240,19 +1186,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                GetPlatformApplicationAttributesResult result = null;
-                try {
-                    result = getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getPlatformApplicationAttributesRequest, asyncHandler,
+                new Callable<GetPlatformApplicationAttributesResult>() {
+                    public GetPlatformApplicationAttributesResult call() throws Exception {
+                        return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1284,11 +1223,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                return getSMSAttributes(getSMSAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSMSAttributesRequest,
+                new Callable<GetSMSAttributesResult>() {
+                    public GetSMSAttributesResult call() throws Exception {
+                        return getSMSAttributes(getSMSAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1321,19 +1261,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetSMSAttributesRequest getSMSAttributesRequest,
             final AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                GetSMSAttributesResult result = null;
-                try {
-                    result = getSMSAttributes(getSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSMSAttributesRequest, asyncHandler,
+                new Callable<GetSMSAttributesResult>() {
+                    public GetSMSAttributesResult call() throws Exception {
+                        return getSMSAttributes(getSMSAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1362,11 +1295,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSubscriptionAttributesRequest,
+                new Callable<GetSubscriptionAttributesResult>() {
+                    public GetSubscriptionAttributesResult call() throws Exception {
+                        return getSubscriptionAttributes(getSubscriptionAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1396,19 +1330,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                GetSubscriptionAttributesResult result = null;
-                try {
-                    result = getSubscriptionAttributes(getSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getSubscriptionAttributesRequest, asyncHandler,
+                new Callable<GetSubscriptionAttributesResult>() {
+                    public GetSubscriptionAttributesResult call() throws Exception {
+                        return getSubscriptionAttributes(getSubscriptionAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1439,11 +1366,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                return getTopicAttributes(getTopicAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTopicAttributesRequest,
+                new Callable<GetTopicAttributesResult>() {
+                    public GetTopicAttributesResult call() throws Exception {
+                        return getTopicAttributes(getTopicAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1475,19 +1403,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                GetTopicAttributesResult result = null;
-                try {
-                    result = getTopicAttributes(getTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTopicAttributesRequest, asyncHandler,
+                new Callable<GetTopicAttributesResult>() {
+                    public GetTopicAttributesResult call() throws Exception {
+                        return getTopicAttributes(getTopicAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1529,11 +1450,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEndpointsByPlatformApplicationRequest,
+                new Callable<ListEndpointsByPlatformApplicationResult>() {
+                    public ListEndpointsByPlatformApplicationResult call() throws Exception {
+                        return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
+                    }
+                });
     }
 
     /**
@@ -1576,19 +1498,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                ListEndpointsByPlatformApplicationResult result = null;
-                try {
-                    result = listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsByPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listEndpointsByPlatformApplicationRequest, asyncHandler,
+                new Callable<ListEndpointsByPlatformApplicationResult>() {
+                    public ListEndpointsByPlatformApplicationResult call() throws Exception {
+                        return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
+                    }
+                });
     }
 
     /**
@@ -1628,11 +1543,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPhoneNumbersOptedOutRequest,
+                new Callable<ListPhoneNumbersOptedOutResult>() {
+                    public ListPhoneNumbersOptedOutResult call() throws Exception {
+                        return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
+                    }
+                });
     }
 
     /**
@@ -1673,19 +1589,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest,
             final AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                ListPhoneNumbersOptedOutResult result = null;
-                try {
-                    result = listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersOptedOutRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPhoneNumbersOptedOutRequest, asyncHandler,
+                new Callable<ListPhoneNumbersOptedOutResult>() {
+                    public ListPhoneNumbersOptedOutResult call() throws Exception {
+                        return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
+                    }
+                });
     }
 
     /**
@@ -1726,11 +1635,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                return listPlatformApplications(listPlatformApplicationsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPlatformApplicationsRequest,
+                new Callable<ListPlatformApplicationsResult>() {
+                    public ListPlatformApplicationsResult call() throws Exception {
+                        return listPlatformApplications(listPlatformApplicationsRequest);
+                    }
+                });
     }
 
     /**
@@ -1772,19 +1682,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                ListPlatformApplicationsResult result = null;
-                try {
-                    result = listPlatformApplications(listPlatformApplicationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPlatformApplicationsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listPlatformApplicationsRequest, asyncHandler,
+                new Callable<ListPlatformApplicationsResult>() {
+                    public ListPlatformApplicationsResult call() throws Exception {
+                        return listPlatformApplications(listPlatformApplicationsRequest);
+                    }
+                });
     }
 
     /**
@@ -1819,11 +1722,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                return listSubscriptions(listSubscriptionsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSubscriptionsRequest,
+                new Callable<ListSubscriptionsResult>() {
+                    public ListSubscriptionsResult call() throws Exception {
+                        return listSubscriptions(listSubscriptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -1859,19 +1763,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                ListSubscriptionsResult result = null;
-                try {
-                    result = listSubscriptions(listSubscriptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSubscriptionsRequest, asyncHandler,
+                new Callable<ListSubscriptionsResult>() {
+                    public ListSubscriptionsResult call() throws Exception {
+                        return listSubscriptions(listSubscriptionsRequest);
+                    }
+                });
     }
 
     /**
@@ -1907,11 +1804,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSubscriptionsByTopicRequest,
+                new Callable<ListSubscriptionsByTopicResult>() {
+                    public ListSubscriptionsByTopicResult call() throws Exception {
+                        return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -1948,19 +1846,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                ListSubscriptionsByTopicResult result = null;
-                try {
-                    result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listSubscriptionsByTopicRequest, asyncHandler,
+                new Callable<ListSubscriptionsByTopicResult>() {
+                    public ListSubscriptionsByTopicResult call() throws Exception {
+                        return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
+                    }
+                });
     }
 
     /**
@@ -1992,11 +1883,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2029,19 +1921,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTagsForResourceRequest, asyncHandler,
+                new Callable<ListTagsForResourceResult>() {
+                    public ListTagsForResourceResult call() throws Exception {
+                        return listTagsForResource(listTagsForResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -2072,11 +1957,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                return listTopics(listTopicsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTopicsRequest,
+                new Callable<ListTopicsResult>() {
+                    public ListTopicsResult call() throws Exception {
+                        return listTopics(listTopicsRequest);
+                    }
+                });
     }
 
     /**
@@ -2108,19 +1994,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                ListTopicsResult result = null;
-                try {
-                    result = listTopics(listTopicsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTopicsRequest, asyncHandler,
+                new Callable<ListTopicsResult>() {
+                    public ListTopicsResult call() throws Exception {
+                        return listTopics(listTopicsRequest);
+                    }
+                });
     }
 
     /**
@@ -2153,11 +2032,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                return optInPhoneNumber(optInPhoneNumberRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, optInPhoneNumberRequest,
+                new Callable<OptInPhoneNumberResult>() {
+                    public OptInPhoneNumberResult call() throws Exception {
+                        return optInPhoneNumber(optInPhoneNumberRequest);
+                    }
+                });
     }
 
     /**
@@ -2191,19 +2071,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final OptInPhoneNumberRequest optInPhoneNumberRequest,
             final AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                OptInPhoneNumberResult result = null;
-                try {
-                    result = optInPhoneNumber(optInPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(optInPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, optInPhoneNumberRequest, asyncHandler,
+                new Callable<OptInPhoneNumberResult>() {
+                    public OptInPhoneNumberResult call() throws Exception {
+                        return optInPhoneNumber(optInPhoneNumberRequest);
+                    }
+                });
     }
 
     /**
@@ -2264,11 +2137,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                return publish(publishRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, publishRequest,
+                new Callable<PublishResult>() {
+                    public PublishResult call() throws Exception {
+                        return publish(publishRequest);
+                    }
+                });
     }
 
     /**
@@ -2330,19 +2204,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                PublishResult result = null;
-                try {
-                    result = publish(publishRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(publishRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, publishRequest, asyncHandler,
+                new Callable<PublishResult>() {
+                    public PublishResult call() throws Exception {
+                        return publish(publishRequest);
+                    }
+                });
     }
 
     /**
@@ -2370,12 +2237,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removePermissionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        removePermission(removePermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2405,19 +2273,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removePermissionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        removePermission(removePermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2450,12 +2312,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setEndpointAttributes(setEndpointAttributesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setEndpointAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setEndpointAttributes(setEndpointAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2489,19 +2352,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setEndpointAttributes(setEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setEndpointAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setEndpointAttributes(setEndpointAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2537,12 +2394,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setPlatformApplicationAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2579,19 +2437,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setPlatformApplicationAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2629,11 +2481,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                return setSMSAttributes(setSMSAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setSMSAttributesRequest,
+                new Callable<SetSMSAttributesResult>() {
+                    public SetSMSAttributesResult call() throws Exception {
+                        return setSMSAttributes(setSMSAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2672,19 +2525,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetSMSAttributesRequest setSMSAttributesRequest,
             final AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                SetSMSAttributesResult result = null;
-                try {
-                    result = setSMSAttributes(setSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setSMSAttributesRequest, asyncHandler,
+                new Callable<SetSMSAttributesResult>() {
+                    public SetSMSAttributesResult call() throws Exception {
+                        return setSMSAttributes(setSMSAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -2715,12 +2561,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setSubscriptionAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setSubscriptionAttributes(setSubscriptionAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2752,19 +2599,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setSubscriptionAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setSubscriptionAttributes(setSubscriptionAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2794,12 +2635,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTopicAttributes(setTopicAttributesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setTopicAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setTopicAttributes(setTopicAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2830,19 +2672,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setTopicAttributes(setTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setTopicAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setTopicAttributes(setTopicAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2879,11 +2715,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                return subscribe(subscribeRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, subscribeRequest,
+                new Callable<SubscribeResult>() {
+                    public SubscribeResult call() throws Exception {
+                        return subscribe(subscribeRequest);
+                    }
+                });
     }
 
     /**
@@ -2921,19 +2758,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                SubscribeResult result = null;
-                try {
-                    result = subscribe(subscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(subscribeRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, subscribeRequest, asyncHandler,
+                new Callable<SubscribeResult>() {
+                    public SubscribeResult call() throws Exception {
+                        return subscribe(subscribeRequest);
+                    }
+                });
     }
 
     /**
@@ -2999,11 +2829,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest,
+                new Callable<TagResourceResult>() {
+                    public TagResourceResult call() throws Exception {
+                        return tagResource(tagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -3070,19 +2901,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, tagResourceRequest, asyncHandler,
+                new Callable<TagResourceResult>() {
+                    public TagResourceResult call() throws Exception {
+                        return tagResource(tagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -3121,12 +2945,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unsubscribe(unsubscribeRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, unsubscribeRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        unsubscribe(unsubscribeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3166,19 +2991,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    unsubscribe(unsubscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(unsubscribeRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, unsubscribeRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        unsubscribe(unsubscribeRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -3210,11 +3029,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest,
+                new Callable<UntagResourceResult>() {
+                    public UntagResourceResult call() throws Exception {
+                        return untagResource(untagResourceRequest);
+                    }
+                });
     }
 
     /**
@@ -3247,19 +3067,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, untagResourceRequest, asyncHandler,
+                new Callable<UntagResourceResult>() {
+                    public UntagResourceResult call() throws Exception {
+                        return untagResource(untagResourceRequest);
+                    }
+                });
     }
 
 }
@@ -264,7 +264,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public AmazonSNSClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
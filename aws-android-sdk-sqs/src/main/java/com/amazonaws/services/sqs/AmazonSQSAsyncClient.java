@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -399,12 +400,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addPermissionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        addPermission(addPermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -460,19 +462,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, addPermissionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        addPermission(addPermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -541,12 +537,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changeMessageVisibility(changeMessageVisibilityRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, changeMessageVisibilityRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        changeMessageVisibility(changeMessageVisibilityRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -616,19 +613,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
             final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    changeMessageVisibility(changeMessageVisibilityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, changeMessageVisibilityRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        changeMessageVisibility(changeMessageVisibilityRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -679,11 +670,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, changeMessageVisibilityBatchRequest,
+                new Callable<ChangeMessageVisibilityBatchResult>() {
+                    public ChangeMessageVisibilityBatchResult call() throws Exception {
+                        return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -735,19 +727,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
             final AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                ChangeMessageVisibilityBatchResult result = null;
-                try {
-                    result = changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityBatchRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, changeMessageVisibilityBatchRequest, asyncHandler,
+                new Callable<ChangeMessageVisibilityBatchResult>() {
+                    public ChangeMessageVisibilityBatchResult call() throws Exception {
+                        return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -839,11 +824,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                return createQueue(createQueueRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createQueueRequest,
+                new Callable<CreateQueueResult>() {
+                    public CreateQueueResult call() throws Exception {
+                        return createQueue(createQueueRequest);
+                    }
+                });
     }
 
     /**
@@ -936,19 +922,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                CreateQueueResult result = null;
-                try {
-                    result = createQueue(createQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createQueueRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createQueueRequest, asyncHandler,
+                new Callable<CreateQueueResult>() {
+                    public CreateQueueResult call() throws Exception {
+                        return createQueue(createQueueRequest);
+                    }
+                });
     }
 
     /**
@@ -997,12 +976,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMessage(deleteMessageRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteMessageRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteMessage(deleteMessageRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1052,19 +1032,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
             final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMessage(deleteMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteMessageRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteMessage(deleteMessageRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1112,11 +1086,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                return deleteMessageBatch(deleteMessageBatchRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteMessageBatchRequest,
+                new Callable<DeleteMessageBatchResult>() {
+                    public DeleteMessageBatchResult call() throws Exception {
+                        return deleteMessageBatch(deleteMessageBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -1165,19 +1140,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final DeleteMessageBatchRequest deleteMessageBatchRequest,
             final AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                DeleteMessageBatchResult result = null;
-                try {
-                    result = deleteMessageBatch(deleteMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteMessageBatchRequest, asyncHandler,
+                new Callable<DeleteMessageBatchResult>() {
+                    public DeleteMessageBatchResult call() throws Exception {
+                        return deleteMessageBatch(deleteMessageBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -1220,12 +1188,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQueue(deleteQueueRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteQueueRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteQueue(deleteQueueRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1269,19 +1238,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteQueue(deleteQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteQueueRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteQueueRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteQueue(deleteQueueRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1318,11 +1281,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                return getQueueAttributes(getQueueAttributesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getQueueAttributesRequest,
+                new Callable<GetQueueAttributesResult>() {
+                    public GetQueueAttributesResult call() throws Exception {
+                        return getQueueAttributes(getQueueAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1360,19 +1324,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final GetQueueAttributesRequest getQueueAttributesRequest,
             final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                GetQueueAttributesResult result = null;
-                try {
-                    result = getQueueAttributes(getQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getQueueAttributesRequest, asyncHandler,
+                new Callable<GetQueueAttributesResult>() {
+                    public GetQueueAttributesResult call() throws Exception {
+                        return getQueueAttributes(getQueueAttributesRequest);
+                    }
+                });
     }
 
     /**
@@ -1404,11 +1361,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                return getQueueUrl(getQueueUrlRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getQueueUrlRequest,
+                new Callable<GetQueueUrlResult>() {
+                    public GetQueueUrlResult call() throws Exception {
+                        return getQueueUrl(getQueueUrlRequest);
+                    }
+                });
     }
 
     /**
@@ -1441,19 +1399,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
             final AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                GetQueueUrlResult result = null;
-                try {
-                    result = getQueueUrl(getQueueUrlRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueUrlRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getQueueUrlRequest, asyncHandler,
+                new Callable<GetQueueUrlResult>() {
+                    public GetQueueUrlResult call() throws Exception {
+                        return getQueueUrl(getQueueUrlRequest);
+                    }
+                });
     }
 
     /**
@@ -1484,11 +1435,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDeadLetterSourceQueuesRequest,
+                new Callable<ListDeadLetterSourceQueuesResult>() {
+                    public ListDeadLetterSourceQueuesResult call() throws Exception {
+                        return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1520,19 +1472,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
             final AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                ListDeadLetterSourceQueuesResult result = null;
-                try {
-                    result = listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDeadLetterSourceQueuesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listDeadLetterSourceQueuesRequest, asyncHandler,
+                new Callable<ListDeadLetterSourceQueuesResult>() {
+                    public ListDeadLetterSourceQueuesResult call() throws Exception {
+                        return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1556,11 +1501,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listQueuesRequest,
+                new Callable<ListQueuesResult>() {
+                    public ListQueuesResult call() throws Exception {
+                        return listQueues(listQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1585,19 +1531,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listQueuesRequest, asyncHandler,
+                new Callable<ListQueuesResult>() {
+                    public ListQueuesResult call() throws Exception {
+                        return listQueues(listQueuesRequest);
+                    }
+                });
     }
 
     /**
@@ -1634,7 +1573,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRetryScheduler.submit(executorService, purgeQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 purgeQueue(purgeQueueRequest);
                 return null;
@@ -1677,19 +1616,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
             final AsyncHandler<PurgeQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    purgeQueue(purgeQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(purgeQueueRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, purgeQueueRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        purgeQueue(purgeQueueRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1793,11 +1726,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                return receiveMessage(receiveMessageRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, receiveMessageRequest,
+                new Callable<ReceiveMessageResult>() {
+                    public ReceiveMessageResult call() throws Exception {
+                        return receiveMessage(receiveMessageRequest);
+                    }
+                });
     }
 
     /**
@@ -1902,19 +1836,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ReceiveMessageRequest receiveMessageRequest,
             final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                ReceiveMessageResult result = null;
-                try {
-                    result = receiveMessage(receiveMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(receiveMessageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, receiveMessageRequest, asyncHandler,
+                new Callable<ReceiveMessageResult>() {
+                    public ReceiveMessageResult call() throws Exception {
+                        return receiveMessage(receiveMessageRequest);
+                    }
+                });
     }
 
     /**
@@ -1937,12 +1864,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removePermissionRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        removePermission(removePermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -1967,19 +1895,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, removePermissionRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        removePermission(removePermissionRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2019,11 +1941,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageRequest,
+                new Callable<SendMessageResult>() {
+                    public SendMessageResult call() throws Exception {
+                        return sendMessage(sendMessageRequest);
+                    }
+                });
     }
 
     /**
@@ -2064,19 +1987,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageRequest, asyncHandler,
+                new Callable<SendMessageResult>() {
+                    public SendMessageResult call() throws Exception {
+                        return sendMessage(sendMessageRequest);
+                    }
+                });
     }
 
     /**
@@ -2152,11 +2068,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                return sendMessageBatch(sendMessageBatchRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageBatchRequest,
+                new Callable<SendMessageBatchResult>() {
+                    public SendMessageBatchResult call() throws Exception {
+                        return sendMessageBatch(sendMessageBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -2233,19 +2150,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final SendMessageBatchRequest sendMessageBatchRequest,
             final AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                SendMessageBatchResult result = null;
-                try {
-                    result = sendMessageBatch(sendMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, sendMessageBatchRequest, asyncHandler,
+                new Callable<SendMessageBatchResult>() {
+                    public SendMessageBatchResult call() throws Exception {
+                        return sendMessageBatch(sendMessageBatchRequest);
+                    }
+                });
     }
 
     /**
@@ -2278,12 +2188,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setQueueAttributes(setQueueAttributesRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setQueueAttributesRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setQueueAttributes(setQueueAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -2317,19 +2228,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final SetQueueAttributesRequest setQueueAttributesRequest,
             final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setQueueAttributes(setQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, setQueueAttributesRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        setQueueAttributes(setQueueAttributesRequest);
+                        return null;
+                    }
+                });
     }
 
 }
@@ -337,7 +337,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public AmazonSQSClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
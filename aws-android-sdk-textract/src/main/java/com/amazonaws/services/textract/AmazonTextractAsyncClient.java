@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -337,11 +338,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                return analyzeDocument(analyzeDocumentRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, analyzeDocumentRequest,
+                new Callable<AnalyzeDocumentResult>() {
+                    public AnalyzeDocumentResult call() throws Exception {
+                        return analyzeDocument(analyzeDocumentRequest);
+                    }
+                });
     }
 
     /**
@@ -425,19 +427,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final AnalyzeDocumentRequest analyzeDocumentRequest,
             final AsyncHandler<AnalyzeDocumentRequest, AnalyzeDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                AnalyzeDocumentResult result = null;
-                try {
-                    result = analyzeDocument(analyzeDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(analyzeDocumentRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, analyzeDocumentRequest, asyncHandler,
+                new Callable<AnalyzeDocumentResult>() {
+                    public AnalyzeDocumentResult call() throws Exception {
+                        return analyzeDocument(analyzeDocumentRequest);
+                    }
+                });
     }
 
     /**
@@ -489,11 +484,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                return detectDocumentText(detectDocumentTextRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectDocumentTextRequest,
+                new Callable<DetectDocumentTextResult>() {
+                    public DetectDocumentTextResult call() throws Exception {
+                        return detectDocumentText(detectDocumentTextRequest);
+                    }
+                });
     }
 
     /**
@@ -546,19 +542,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final DetectDocumentTextRequest detectDocumentTextRequest,
             final AsyncHandler<DetectDocumentTextRequest, DetectDocumentTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                DetectDocumentTextResult result = null;
-                try {
-                    result = detectDocumentText(detectDocumentTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDocumentTextRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, detectDocumentTextRequest, asyncHandler,
+                new Callable<DetectDocumentTextResult>() {
+                    public DetectDocumentTextResult call() throws Exception {
+                        return detectDocumentText(detectDocumentTextRequest);
+                    }
+                });
     }
 
     /**
@@ -653,11 +642,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                return getDocumentAnalysis(getDocumentAnalysisRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getDocumentAnalysisRequest,
+                new Callable<GetDocumentAnalysisResult>() {
+                    public GetDocumentAnalysisResult call() throws Exception {
+                        return getDocumentAnalysis(getDocumentAnalysisRequest);
+                    }
+                });
     }
 
     /**
@@ -753,19 +743,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest,
             final AsyncHandler<GetDocumentAnalysisRequest, GetDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                GetDocumentAnalysisResult result = null;
-                try {
-                    result = getDocumentAnalysis(getDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getDocumentAnalysisRequest, asyncHandler,
+                new Callable<GetDocumentAnalysisResult>() {
+                    public GetDocumentAnalysisResult call() throws Exception {
+                        return getDocumentAnalysis(getDocumentAnalysisRequest);
+                    }
+                });
     }
 
     /**
@@ -836,11 +819,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                return getDocumentTextDetection(getDocumentTextDetectionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getDocumentTextDetectionRequest,
+                new Callable<GetDocumentTextDetectionResult>() {
+                    public GetDocumentTextDetectionResult call() throws Exception {
+                        return getDocumentTextDetection(getDocumentTextDetectionRequest);
+                    }
+                });
     }
 
     /**
@@ -912,19 +896,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest,
             final AsyncHandler<GetDocumentTextDetectionRequest, GetDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                GetDocumentTextDetectionResult result = null;
-                try {
-                    result = getDocumentTextDetection(getDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getDocumentTextDetectionRequest, asyncHandler,
+                new Callable<GetDocumentTextDetectionResult>() {
+                    public GetDocumentTextDetectionResult call() throws Exception {
+                        return getDocumentTextDetection(getDocumentTextDetectionRequest);
+                    }
+                });
     }
 
     /**
@@ -983,11 +960,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                return startDocumentAnalysis(startDocumentAnalysisRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentAnalysisRequest,
+                new Callable<StartDocumentAnalysisResult>() {
+                    public StartDocumentAnalysisResult call() throws Exception {
+                        return startDocumentAnalysis(startDocumentAnalysisRequest);
+                    }
+                });
     }
 
     /**
@@ -1047,19 +1025,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest,
             final AsyncHandler<StartDocumentAnalysisRequest, StartDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                StartDocumentAnalysisResult result = null;
-                try {
-                    result = startDocumentAnalysis(startDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentAnalysisRequest, asyncHandler,
+                new Callable<StartDocumentAnalysisResult>() {
+                    public StartDocumentAnalysisResult call() throws Exception {
+                        return startDocumentAnalysis(startDocumentAnalysisRequest);
+                    }
+                });
     }
 
     /**
@@ -1117,11 +1088,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                return startDocumentTextDetection(startDocumentTextDetectionRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentTextDetectionRequest,
+                new Callable<StartDocumentTextDetectionResult>() {
+                    public StartDocumentTextDetectionResult call() throws Exception {
+                        return startDocumentTextDetection(startDocumentTextDetectionRequest);
+                    }
+                });
     }
 
     /**
@@ -1180,19 +1152,12 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest,
             final AsyncHandler<StartDocumentTextDetectionRequest, StartDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                StartDocumentTextDetectionResult result = null;
-                try {
-                    result = startDocumentTextDetection(startDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startDocumentTextDetectionRequest, asyncHandler,
+                new Callable<StartDocumentTextDetectionResult>() {
+                    public StartDocumentTextDetectionResult call() throws Exception {
+                        return startDocumentTextDetection(startDocumentTextDetectionRequest);
+                    }
+                });
     }
 
 }
@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -282,11 +283,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                return createVocabulary(createVocabularyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createVocabularyRequest,
+                new Callable<CreateVocabularyResult>() {
+                    public CreateVocabularyResult call() throws Exception {
+                        return createVocabulary(createVocabularyRequest);
+                    }
+                });
     }
 
     /**
@@ -315,19 +317,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                CreateVocabularyResult result = null;
-                try {
-                    result = createVocabulary(createVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, createVocabularyRequest, asyncHandler,
+                new Callable<CreateVocabularyResult>() {
+                    public CreateVocabularyResult call() throws Exception {
+                        return createVocabulary(createVocabularyRequest);
+                    }
+                });
     }
 
     /**
@@ -354,12 +349,13 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTranscriptionJobRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTranscriptionJob(deleteTranscriptionJobRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -387,19 +383,13 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest,
             final AsyncHandler<DeleteTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTranscriptionJobRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTranscriptionJob(deleteTranscriptionJobRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -425,12 +415,13 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     public Future<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVocabulary(deleteVocabularyRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteVocabularyRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVocabulary(deleteVocabularyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -458,19 +449,13 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVocabulary(deleteVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteVocabularyRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteVocabulary(deleteVocabularyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -501,11 +486,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                return getTranscriptionJob(getTranscriptionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTranscriptionJobRequest,
+                new Callable<GetTranscriptionJobResult>() {
+                    public GetTranscriptionJobResult call() throws Exception {
+                        return getTranscriptionJob(getTranscriptionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -537,19 +523,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetTranscriptionJobRequest getTranscriptionJobRequest,
             final AsyncHandler<GetTranscriptionJobRequest, GetTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                GetTranscriptionJobResult result = null;
-                try {
-                    result = getTranscriptionJob(getTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTranscriptionJobRequest, asyncHandler,
+                new Callable<GetTranscriptionJobResult>() {
+                    public GetTranscriptionJobResult call() throws Exception {
+                        return getTranscriptionJob(getTranscriptionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -575,11 +554,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                return getVocabulary(getVocabularyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getVocabularyRequest,
+                new Callable<GetVocabularyResult>() {
+                    public GetVocabularyResult call() throws Exception {
+                        return getVocabulary(getVocabularyRequest);
+                    }
+                });
     }
 
     /**
@@ -606,19 +586,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetVocabularyRequest getVocabularyRequest,
             final AsyncHandler<GetVocabularyRequest, GetVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                GetVocabularyResult result = null;
-                try {
-                    result = getVocabulary(getVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getVocabularyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getVocabularyRequest, asyncHandler,
+                new Callable<GetVocabularyResult>() {
+                    public GetVocabularyResult call() throws Exception {
+                        return getVocabulary(getVocabularyRequest);
+                    }
+                });
     }
 
     /**
@@ -644,11 +617,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                return listTranscriptionJobs(listTranscriptionJobsRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTranscriptionJobsRequest,
+                new Callable<ListTranscriptionJobsResult>() {
+                    public ListTranscriptionJobsResult call() throws Exception {
+                        return listTranscriptionJobs(listTranscriptionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -675,19 +649,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest,
             final AsyncHandler<ListTranscriptionJobsRequest, ListTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                ListTranscriptionJobsResult result = null;
-                try {
-                    result = listTranscriptionJobs(listTranscriptionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTranscriptionJobsRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTranscriptionJobsRequest, asyncHandler,
+                new Callable<ListTranscriptionJobsResult>() {
+                    public ListTranscriptionJobsResult call() throws Exception {
+                        return listTranscriptionJobs(listTranscriptionJobsRequest);
+                    }
+                });
     }
 
     /**
@@ -714,11 +681,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                return listVocabularies(listVocabulariesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listVocabulariesRequest,
+                new Callable<ListVocabulariesResult>() {
+                    public ListVocabulariesResult call() throws Exception {
+                        return listVocabularies(listVocabulariesRequest);
+                    }
+                });
     }
 
     /**
@@ -746,19 +714,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListVocabulariesRequest listVocabulariesRequest,
             final AsyncHandler<ListVocabulariesRequest, ListVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                ListVocabulariesResult result = null;
-                try {
-                    result = listVocabularies(listVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listVocabulariesRequest, asyncHandler,
+                new Callable<ListVocabulariesResult>() {
+                    public ListVocabulariesResult call() throws Exception {
+                        return listVocabularies(listVocabulariesRequest);
+                    }
+                });
     }
 
     /**
@@ -785,11 +746,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                return startTranscriptionJob(startTranscriptionJobRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startTranscriptionJobRequest,
+                new Callable<StartTranscriptionJobResult>() {
+                    public StartTranscriptionJobResult call() throws Exception {
+                        return startTranscriptionJob(startTranscriptionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -817,19 +779,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final StartTranscriptionJobRequest startTranscriptionJobRequest,
             final AsyncHandler<StartTranscriptionJobRequest, StartTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                StartTranscriptionJobResult result = null;
-                try {
-                    result = startTranscriptionJob(startTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, startTranscriptionJobRequest, asyncHandler,
+                new Callable<StartTranscriptionJobResult>() {
+                    public StartTranscriptionJobResult call() throws Exception {
+                        return startTranscriptionJob(startTranscriptionJobRequest);
+                    }
+                });
     }
 
     /**
@@ -859,11 +814,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                return updateVocabulary(updateVocabularyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateVocabularyRequest,
+                new Callable<UpdateVocabularyResult>() {
+                    public UpdateVocabularyResult call() throws Exception {
+                        return updateVocabulary(updateVocabularyRequest);
+                    }
+                });
     }
 
     /**
@@ -894,19 +850,12 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UpdateVocabularyRequest updateVocabularyRequest,
             final AsyncHandler<UpdateVocabularyRequest, UpdateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                UpdateVocabularyResult result = null;
-                try {
-                    result = updateVocabulary(updateVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateVocabularyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, updateVocabularyRequest, asyncHandler,
+                new Callable<UpdateVocabularyResult>() {
+                    public UpdateVocabularyResult call() throws Exception {
+                        return updateVocabulary(updateVocabularyRequest);
+                    }
+                });
     }
 
 }
@@ -245,7 +245,7 @@ public class AmazonTranscribeClient extends AmazonWebServiceClient implements Am
      */
     public AmazonTranscribeClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, new UrlHttpClient(clientConfiguration));
+        this(awsCredentialsProvider, clientConfiguration, AmazonHttpClient.createHttpClient(clientConfiguration));
     }
 
     /**
@@ -23,6 +23,7 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AsyncRetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -280,12 +281,13 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTerminology(deleteTerminologyRequest);
-                return null;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTerminologyRequest,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTerminology(deleteTerminologyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -312,19 +314,13 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final DeleteTerminologyRequest deleteTerminologyRequest,
             final AsyncHandler<DeleteTerminologyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTerminology(deleteTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTerminologyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, deleteTerminologyRequest, asyncHandler,
+                new Callable<Void>() {
+                    public Void call() throws Exception {
+                        deleteTerminology(deleteTerminologyRequest);
+                        return null;
+                    }
+                });
     }
 
     /**
@@ -350,11 +346,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                return getTerminology(getTerminologyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTerminologyRequest,
+                new Callable<GetTerminologyResult>() {
+                    public GetTerminologyResult call() throws Exception {
+                        return getTerminology(getTerminologyRequest);
+                    }
+                });
     }
 
     /**
@@ -381,19 +378,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final GetTerminologyRequest getTerminologyRequest,
             final AsyncHandler<GetTerminologyRequest, GetTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                GetTerminologyResult result = null;
-                try {
-                    result = getTerminology(getTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTerminologyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, getTerminologyRequest, asyncHandler,
+                new Callable<GetTerminologyResult>() {
+                    public GetTerminologyResult call() throws Exception {
+                        return getTerminology(getTerminologyRequest);
+                    }
+                });
     }
 
     /**
@@ -431,11 +421,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                return importTerminology(importTerminologyRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, importTerminologyRequest,
+                new Callable<ImportTerminologyResult>() {
+                    public ImportTerminologyResult call() throws Exception {
+                        return importTerminology(importTerminologyRequest);
+                    }
+                });
     }
 
     /**
@@ -474,19 +465,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ImportTerminologyRequest importTerminologyRequest,
             final AsyncHandler<ImportTerminologyRequest, ImportTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                ImportTerminologyResult result = null;
-                try {
-                    result = importTerminology(importTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(importTerminologyRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, importTerminologyRequest, asyncHandler,
+                new Callable<ImportTerminologyResult>() {
+                    public ImportTerminologyResult call() throws Exception {
+                        return importTerminology(importTerminologyRequest);
+                    }
+                });
     }
 
     /**
@@ -512,11 +496,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                return listTerminologies(listTerminologiesRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTerminologiesRequest,
+                new Callable<ListTerminologiesResult>() {
+                    public ListTerminologiesResult call() throws Exception {
+                        return listTerminologies(listTerminologiesRequest);
+                    }
+                });
     }
 
     /**
@@ -543,19 +528,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListTerminologiesRequest listTerminologiesRequest,
             final AsyncHandler<ListTerminologiesRequest, ListTerminologiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                ListTerminologiesResult result = null;
-                try {
-                    result = listTerminologies(listTerminologiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTerminologiesRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, listTerminologiesRequest, asyncHandler,
+                new Callable<ListTerminologiesResult>() {
+                    public ListTerminologiesResult call() throws Exception {
+                        return listTerminologies(listTerminologiesRequest);
+                    }
+                });
     }
 
     /**
@@ -703,11 +681,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                return translateText(translateTextRequest);
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, translateTextRequest,
+                new Callable<TranslateTextResult>() {
+                    public TranslateTextResult call() throws Exception {
+                        return translateText(translateTextRequest);
+                    }
+                });
     }
 
     /**
@@ -856,19 +835,12 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final TranslateTextRequest translateTextRequest,
             final AsyncHandler<TranslateTextRequest, TranslateTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                TranslateTextResult result = null;
-                try {
-                    result = translateText(translateTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(translateTextRequest, result);
-                return result;
-            }
-        });
+        return AsyncRetryScheduler.submit(executorService, translateTextRequest, asyncHandler,
+                new Callable<TranslateTextResult>() {
+                    public TranslateTextResult call() throws Exception {
+                        return translateText(translateTextRequest);
+                    }
+                });
     }
 
 }